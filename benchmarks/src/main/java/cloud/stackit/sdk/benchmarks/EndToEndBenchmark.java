@@ -0,0 +1,88 @@
+package cloud.stackit.sdk.benchmarks;
+
+import cloud.stackit.sdk.core.config.CoreConfiguration;
+import cloud.stackit.sdk.core.exception.ApiException;
+import cloud.stackit.sdk.iaas.v2api.api.IaasApi;
+import cloud.stackit.sdk.iaas.v2api.model.ServerListResponse;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of complete API calls against a local server, including the request
+ * building, the HTTP round trip and the deserialization of the response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EndToEndBenchmark {
+	private static final String REGION = "eu01";
+
+	@Param({"1", "1000"})
+	private int size;
+
+	private MockWebServer server;
+	private IaasApi api;
+	private UUID projectId;
+
+	@Setup
+	public void setup() throws IOException {
+		MockResponse response =
+				new MockResponse()
+						.setResponseCode(200)
+						.setHeader("Content-Type", "application/json")
+						.setBody(ListPayload.IAAS_SERVERS.json(size));
+		server = new MockWebServer();
+		server.setDispatcher(
+				new Dispatcher() {
+					@Override
+					public MockResponse dispatch(RecordedRequest request) {
+						return response;
+					}
+				});
+		server.start();
+
+		String endpoint = server.url("/").toString();
+		api = new IaasApi(new OkHttpClient(), new CoreConfiguration().customEndpoint(endpoint));
+		projectId = UUID.randomUUID();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		server.shutdown();
+	}
+
+	/** Blocking calls of a single thread. */
+	@Benchmark
+	public ServerListResponse listServers() throws ApiException {
+		return api.listServers(projectId, REGION, true, null);
+	}
+
+	/** Blocking calls of several threads sharing the same client. */
+	@Benchmark
+	@Threads(8)
+	public ServerListResponse listServersConcurrent() throws ApiException {
+		return api.listServers(projectId, REGION, true, null);
+	}
+}
@@ -0,0 +1,83 @@
+package cloud.stackit.sdk.benchmarks;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the (de)serialization of list responses with the JSON classes of the services, for a
+ * single item, a typical page and a very large list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class JsonBenchmark {
+	@Param({"IAAS_SERVERS", "LOADBALANCERS", "OBJECTSTORAGE_BUCKETS"})
+	private ListPayload payload;
+
+	@Param({"1", "1000", "100000"})
+	private int size;
+
+	@Param({"false", "true"})
+	private boolean streaming;
+
+	@Param({"false", "true"})
+	private boolean compiled;
+
+	private String json;
+	private JsonElement jsonTree;
+	private Object response;
+
+	@Setup
+	public void setup() {
+		payload.setStreamingDeserialization(streaming);
+		payload.setCompiledTypeAdapters(compiled);
+		json = payload.json(size);
+		jsonTree = JsonParser.parseString(json);
+		response = payload.deserialize(json);
+	}
+
+	@TearDown
+	public void tearDown() {
+		payload.setStreamingDeserialization(false);
+		payload.setCompiledTypeAdapters(false);
+	}
+
+	/** Deserialization of a response body into the response model. */
+	@Benchmark
+	public Object deserialize() {
+		return payload.deserialize(json);
+	}
+
+	/** Serialization of a response model, like it is done for request bodies. */
+	@Benchmark
+	public String serialize() {
+		return payload.serialize(response);
+	}
+
+	/**
+	 * Validation of the parsed JSON tree against the model, which is part of the deserialization
+	 * unless the streaming deserialization or the compiled type adapters are enabled.
+	 */
+	@Benchmark
+	public JsonElement validateJsonElement() throws IOException {
+		payload.validate(jsonTree);
+		return jsonTree;
+	}
+}
@@ -0,0 +1,77 @@
+package cloud.stackit.sdk.benchmarks;
+
+import cloud.stackit.sdk.core.KeyFlowAuthenticator;
+import cloud.stackit.sdk.core.config.CoreConfiguration;
+import cloud.stackit.sdk.core.model.ServiceAccountCredentials;
+import cloud.stackit.sdk.core.model.ServiceAccountKey;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.spec.InvalidKeySpecException;
+import java.util.concurrent.TimeUnit;
+import okhttp3.OkHttpClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the creation of the self-signed assertion of the key flow, which is sent to the token
+ * endpoint for every new access token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyFlowAssertionBenchmark {
+	private String privateKey;
+	private ServiceAccountCredentials credentials;
+	private AssertionAuthenticator authenticator;
+
+	@Setup
+	public void setup() throws NoSuchAlgorithmException {
+		privateKey = ServiceAccountKeys.generatePrivateKey();
+		credentials = new ServiceAccountCredentials("aud", "iss", "kid", privateKey, "sub");
+		authenticator = new AssertionAuthenticator(ServiceAccountKeys.create(credentials));
+	}
+
+	/** Assertion for an authenticator, which has already created an assertion before. */
+	@Benchmark
+	public String generateAssertion() throws InvalidKeySpecException, NoSuchAlgorithmException {
+		return authenticator.generateAssertion();
+	}
+
+	/** Parsing of the private key, which is only done once per credentials object. */
+	@Benchmark
+	public RSAPrivateKey parsePrivateKey()
+			throws InvalidKeySpecException, NoSuchAlgorithmException {
+		return new ServiceAccountCredentials("aud", "iss", "kid", privateKey, "sub")
+				.getPrivateKeyParsed();
+	}
+
+	/** Cached private key of the credentials. */
+	@Benchmark
+	public RSAPrivateKey cachedPrivateKey()
+			throws InvalidKeySpecException, NoSuchAlgorithmException {
+		return credentials.getPrivateKeyParsed();
+	}
+
+	/** Exposes the assertion generation of the authenticator. */
+	private static final class AssertionAuthenticator extends KeyFlowAuthenticator {
+		private AssertionAuthenticator(ServiceAccountKey saKey) {
+			super(new OkHttpClient(), new CoreConfiguration(), saKey);
+		}
+
+		private String generateAssertion()
+				throws InvalidKeySpecException, NoSuchAlgorithmException {
+			return generateSelfSignedJWT();
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package cloud.stackit.sdk.benchmarks;
+
+import cloud.stackit.sdk.core.KeyFlowAuthenticator;
+import cloud.stackit.sdk.core.config.CoreConfiguration;
+import cloud.stackit.sdk.core.exception.ApiException;
+import cloud.stackit.sdk.core.model.ServiceAccountCredentials;
+import cloud.stackit.sdk.core.model.ServiceAccountKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.security.spec.InvalidKeySpecException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the token handling of the key flow against a local token endpoint, which always
+ * returns a token valid for one hour.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyFlowTokenBenchmark {
+	private MockWebServer tokenEndpoint;
+	private TokenAuthenticator authenticator;
+
+	@Setup
+	public void setup()
+			throws IOException, NoSuchAlgorithmException, ApiException, InvalidKeySpecException {
+		String token = unsignedToken(Instant.now().plusSeconds(3600));
+		String tokenResponse =
+				"{\"access_token\":\""
+						+ token
+						+ "\",\"refresh_token\":\""
+						+ token
+						+ "\",\"expires_in\":3600,\"scope\":\"scope\",\"token_type\":\"Bearer\"}";
+		tokenEndpoint = new MockWebServer();
+		tokenEndpoint.setDispatcher(
+				new Dispatcher() {
+					@Override
+					public MockResponse dispatch(RecordedRequest request) {
+						return new MockResponse().setResponseCode(200).setBody(tokenResponse);
+					}
+				});
+		tokenEndpoint.start();
+
+		ServiceAccountCredentials credentials =
+				new ServiceAccountCredentials(
+						"aud", "iss", "kid", ServiceAccountKeys.generatePrivateKey(), "sub");
+		CoreConfiguration cfg =
+				new CoreConfiguration().tokenCustomUrl(tokenEndpoint.url("/token").toString());
+		authenticator = new TokenAuthenticator(cfg, ServiceAccountKeys.create(credentials));
+		authenticator.getAccessToken();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		tokenEndpoint.shutdown();
+	}
+
+	/** Valid token, which is returned without locking. */
+	@Benchmark
+	public String cachedAccessToken() throws IOException, ApiException, InvalidKeySpecException {
+		return authenticator.getAccessToken();
+	}
+
+	/** Valid token, which is read by several threads at the same time. */
+	@Benchmark
+	@Threads(4)
+	public String cachedAccessTokenContended()
+			throws IOException, ApiException, InvalidKeySpecException {
+		return authenticator.getAccessToken();
+	}
+
+	/**
+	 * New token, including the signing of the assertion, the request to the token endpoint and the
+	 * parsing of the response.
+	 */
+	@Benchmark
+	public String createAccessToken() throws IOException, ApiException, InvalidKeySpecException {
+		authenticator.createToken();
+		return authenticator.getAccessToken();
+	}
+
+	/**
+	 * The key flow only decodes the access token to read its expiration, so the token doesn't need
+	 * a valid signature.
+	 */
+	private static String unsignedToken(Instant expiresAt) {
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		String header = "{\"alg\":\"RS512\",\"typ\":\"JWT\"}";
+		String payload = "{\"exp\":" + expiresAt.getEpochSecond() + "}";
+		return encoder.encodeToString(header.getBytes(StandardCharsets.UTF_8))
+				+ "."
+				+ encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+				+ "."
+				+ encoder.encodeToString("signature".getBytes(StandardCharsets.UTF_8));
+	}
+
+	/** Exposes the token creation of the authenticator. */
+	private static final class TokenAuthenticator extends KeyFlowAuthenticator {
+		private TokenAuthenticator(CoreConfiguration cfg, ServiceAccountKey saKey) {
+			super(new OkHttpClient(), cfg, saKey);
+		}
+
+		private void createToken() throws InvalidKeySpecException, IOException, ApiException {
+			createAccessToken();
+		}
+	}
+}
@@ -0,0 +1,326 @@
+package cloud.stackit.sdk.benchmarks;
+
+import cloud.stackit.sdk.core.json.StringPool;
+import cloud.stackit.sdk.iaas.v2api.model.ServerListResponse;
+import cloud.stackit.sdk.loadbalancer.v2api.model.ListLoadBalancersResponse;
+import cloud.stackit.sdk.objectstorage.v2api.model.ListBucketsResponse;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Realistic list responses of the services, which are used as input of the benchmarks. The
+ * payloads are generated deterministically, so the results of different runs are comparable.
+ */
+public enum ListPayload {
+	/** Response of the iaas list servers operation. */
+	IAAS_SERVERS {
+		@Override
+		public String json(int size) {
+			JsonArray items = new JsonArray();
+			for (int i = 0; i < size; i++) {
+				items.add(server(i));
+			}
+			JsonObject response = new JsonObject();
+			response.add("items", items);
+			return response.toString();
+		}
+
+		@Override
+		public Object deserialize(String json) {
+			return cloud.stackit.sdk.iaas.v2api.JSON.deserialize(json, ServerListResponse.class);
+		}
+
+		@Override
+		public String serialize(Object response) {
+			return cloud.stackit.sdk.iaas.v2api.JSON.serialize(response);
+		}
+
+		@Override
+		public void validate(JsonElement json) throws IOException {
+			ServerListResponse.validateJsonElement(json);
+		}
+
+		@Override
+		public void setStreamingDeserialization(boolean streamingDeserialization) {
+			cloud.stackit.sdk.iaas.v2api.JSON.setStreamingDeserialization(
+					streamingDeserialization);
+		}
+
+		@Override
+		public void setCompiledTypeAdapters(boolean compiledTypeAdapters) {
+			cloud.stackit.sdk.iaas.v2api.JSON.setCompiledTypeAdapters(compiledTypeAdapters);
+		}
+
+		@Override
+		public void setStringPool(StringPool stringPool) {
+			cloud.stackit.sdk.iaas.v2api.JSON.setStringPool(stringPool);
+		}
+	},
+
+	/** Response of the load balancer list operation. */
+	LOADBALANCERS {
+		@Override
+		public String json(int size) {
+			JsonArray loadBalancers = new JsonArray();
+			for (int i = 0; i < size; i++) {
+				loadBalancers.add(loadBalancer(i));
+			}
+			JsonObject response = new JsonObject();
+			response.add("loadBalancers", loadBalancers);
+			response.addProperty("nextPageId", uuid(size, 0));
+			return response.toString();
+		}
+
+		@Override
+		public Object deserialize(String json) {
+			return cloud.stackit.sdk.loadbalancer.v2api.JSON.deserialize(
+					json, ListLoadBalancersResponse.class);
+		}
+
+		@Override
+		public String serialize(Object response) {
+			return cloud.stackit.sdk.loadbalancer.v2api.JSON.serialize(response);
+		}
+
+		@Override
+		public void validate(JsonElement json) throws IOException {
+			ListLoadBalancersResponse.validateJsonElement(json);
+		}
+
+		@Override
+		public void setStreamingDeserialization(boolean streamingDeserialization) {
+			cloud.stackit.sdk.loadbalancer.v2api.JSON.setStreamingDeserialization(
+					streamingDeserialization);
+		}
+
+		@Override
+		public void setCompiledTypeAdapters(boolean compiledTypeAdapters) {
+			cloud.stackit.sdk.loadbalancer.v2api.JSON.setCompiledTypeAdapters(compiledTypeAdapters);
+		}
+
+		@Override
+		public void setStringPool(StringPool stringPool) {
+			cloud.stackit.sdk.loadbalancer.v2api.JSON.setStringPool(stringPool);
+		}
+	},
+
+	/** Response of the object storage list buckets operation. */
+	OBJECTSTORAGE_BUCKETS {
+		@Override
+		public String json(int size) {
+			JsonArray buckets = new JsonArray();
+			for (int i = 0; i < size; i++) {
+				buckets.add(bucket(i));
+			}
+			JsonObject response = new JsonObject();
+			response.addProperty("project", uuid(0, 0));
+			response.add("buckets", buckets);
+			return response.toString();
+		}
+
+		@Override
+		public Object deserialize(String json) {
+			return cloud.stackit.sdk.objectstorage.v2api.JSON.deserialize(
+					json, ListBucketsResponse.class);
+		}
+
+		@Override
+		public String serialize(Object response) {
+			return cloud.stackit.sdk.objectstorage.v2api.JSON.serialize(response);
+		}
+
+		@Override
+		public void validate(JsonElement json) throws IOException {
+			ListBucketsResponse.validateJsonElement(json);
+		}
+
+		@Override
+		public void setStreamingDeserialization(boolean streamingDeserialization) {
+			cloud.stackit.sdk.objectstorage.v2api.JSON.setStreamingDeserialization(
+					streamingDeserialization);
+		}
+
+		@Override
+		public void setCompiledTypeAdapters(boolean compiledTypeAdapters) {
+			cloud.stackit.sdk.objectstorage.v2api.JSON.setCompiledTypeAdapters(
+					compiledTypeAdapters);
+		}
+
+		@Override
+		public void setStringPool(StringPool stringPool) {
+			cloud.stackit.sdk.objectstorage.v2api.JSON.setStringPool(stringPool);
+		}
+	};
+
+	/**
+	 * Generates the JSON of a list response.
+	 *
+	 * @param size number of items in the list
+	 * @return JSON of the response
+	 */
+	public abstract String json(int size);
+
+	/**
+	 * Deserializes the JSON with the JSON class of the service.
+	 *
+	 * @param json JSON of the response
+	 * @return the response model
+	 */
+	public abstract Object deserialize(String json);
+
+	/**
+	 * Serializes the response model with the JSON class of the service.
+	 *
+	 * @param response the response model
+	 * @return JSON of the response
+	 */
+	public abstract String serialize(Object response);
+
+	/**
+	 * Validates the JSON against the response model.
+	 *
+	 * @param json parsed JSON of the response
+	 * @throws IOException if the JSON is not valid
+	 */
+	public abstract void validate(JsonElement json) throws IOException;
+
+	/**
+	 * Enables or disables the streaming deserialization of the JSON class of the service.
+	 *
+	 * @param streamingDeserialization true to deserialize the models in a single pass
+	 */
+	public abstract void setStreamingDeserialization(boolean streamingDeserialization);
+
+	/**
+	 * Enables or disables the compiled type adapters of the JSON class of the service.
+	 *
+	 * @param compiledTypeAdapters true to (de)serialize the models without reflection
+	 */
+	public abstract void setCompiledTypeAdapters(boolean compiledTypeAdapters);
+
+	/**
+	 * Sets the pool of the deserialized strings of the JSON class of the service.
+	 *
+	 * @param stringPool the pool, or null to disable the pooling
+	 */
+	public abstract void setStringPool(StringPool stringPool);
+
+	private static String uuid(long index, long kind) {
+		return new UUID(kind, index).toString();
+	}
+
+	private static String ipv4(int index) {
+		return "10." + (index >> 16 & 0xff) + "." + (index >> 8 & 0xff) + "." + (index & 0xff);
+	}
+
+	private static String mac(int index) {
+		return String.format(
+				"fa:16:3e:%02x:%02x:%02x", index >> 16 & 0xff, index >> 8 & 0xff, index & 0xff);
+	}
+
+	private static JsonObject labels(int index) {
+		JsonObject labels = new JsonObject();
+		labels.addProperty("environment", index % 2 == 0 ? "production" : "staging");
+		labels.addProperty("team", "team-" + index % 10);
+		return labels;
+	}
+
+	private static JsonObject server(int index) {
+		JsonObject nic = new JsonObject();
+		nic.addProperty("ipv4", ipv4(index));
+		nic.addProperty("mac", mac(index));
+		nic.addProperty("networkId", uuid(index % 10, 1));
+		nic.addProperty("networkName", "network-" + index % 10);
+		nic.addProperty("nicId", uuid(index, 2));
+		nic.addProperty("nicSecurity", true);
+		JsonArray nicSecurityGroups = new JsonArray();
+		nicSecurityGroups.add(uuid(0, 3));
+		nic.add("securityGroups", nicSecurityGroups);
+		JsonArray nics = new JsonArray();
+		nics.add(nic);
+
+		JsonArray securityGroups = new JsonArray();
+		securityGroups.add("default");
+		JsonArray volumes = new JsonArray();
+		volumes.add(uuid(index, 4));
+
+		JsonObject server = new JsonObject();
+		server.addProperty("availabilityZone", "eu01-" + (index % 3 + 1));
+		server.addProperty("createdAt", "2025-01-01T12:00:00Z");
+		server.addProperty("id", uuid(index, 0));
+		server.addProperty("imageId", uuid(index % 5, 5));
+		server.addProperty("keypairName", "keypair");
+		server.add("labels", labels(index));
+		server.addProperty("launchedAt", "2025-01-01T12:01:30Z");
+		server.addProperty("machineType", "c1.2");
+		server.addProperty("name", "server-" + index);
+		server.add("nics", nics);
+		server.addProperty("powerStatus", "RUNNING");
+		server.add("securityGroups", securityGroups);
+		server.addProperty("status", "ACTIVE");
+		server.addProperty("updatedAt", "2025-01-02T08:30:00Z");
+		server.add("volumes", volumes);
+		return server;
+	}
+
+	private static JsonObject loadBalancer(int index) {
+		JsonObject listener = new JsonObject();
+		listener.addProperty("displayName", "https");
+		listener.addProperty("name", "https-" + index);
+		listener.addProperty("port", 443);
+		listener.addProperty("protocol", "PROTOCOL_TCP");
+		listener.addProperty("targetPool", "pool");
+		JsonArray listeners = new JsonArray();
+		listeners.add(listener);
+
+		JsonObject network = new JsonObject();
+		network.addProperty("networkId", uuid(index % 10, 1));
+		network.addProperty("role", "ROLE_LISTENERS_AND_TARGETS");
+		JsonArray networks = new JsonArray();
+		networks.add(network);
+
+		JsonArray targets = new JsonArray();
+		for (int i = 0; i < 3; i++) {
+			JsonObject target = new JsonObject();
+			target.addProperty("displayName", "server-" + i);
+			target.addProperty("ip", ipv4(index * 3 + i));
+			targets.add(target);
+		}
+		JsonObject targetPool = new JsonObject();
+		targetPool.addProperty("name", "pool");
+		targetPool.addProperty("targetPort", 8443);
+		targetPool.add("targets", targets);
+		JsonArray targetPools = new JsonArray();
+		targetPools.add(targetPool);
+
+		JsonObject loadBalancer = new JsonObject();
+		loadBalancer.addProperty("externalAddress", "192.0.2." + index % 256);
+		loadBalancer.add("labels", labels(index));
+		loadBalancer.add("listeners", listeners);
+		loadBalancer.addProperty("name", "load-balancer-" + index);
+		loadBalancer.add("networks", networks);
+		loadBalancer.addProperty("planId", "p10");
+		loadBalancer.addProperty("privateAddress", ipv4(index));
+		loadBalancer.addProperty("region", "eu01");
+		loadBalancer.addProperty("status", "STATUS_READY");
+		loadBalancer.add("targetPools", targetPools);
+		loadBalancer.addProperty("version", String.valueOf(index % 7 + 1));
+		return loadBalancer;
+	}
+
+	private static JsonObject bucket(int index) {
+		String name = "bucket-" + index;
+		JsonObject bucket = new JsonObject();
+		bucket.addProperty("name", name);
+		bucket.addProperty("objectLockEnabled", index % 4 == 0);
+		bucket.addProperty("region", "eu01");
+		bucket.addProperty("urlPathStyle", "https://object.storage.eu01.onstackit.cloud/" + name);
+		bucket.addProperty(
+				"urlVirtualHostedStyle",
+				"https://" + name + ".object.storage.eu01.onstackit.cloud");
+		return bucket;
+	}
+}
@@ -0,0 +1,109 @@
+package cloud.stackit.sdk.benchmarks;
+
+import cloud.stackit.sdk.core.config.CoreConfiguration;
+import cloud.stackit.sdk.core.exception.ApiException;
+import cloud.stackit.sdk.iaas.v2api.ApiClient;
+import cloud.stackit.sdk.iaas.v2api.Pair;
+import cloud.stackit.sdk.iaas.v2api.api.IaasApi;
+import cloud.stackit.sdk.iaas.v2api.model.CreateNetworkPayload;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the creation of requests by the generated API classes, without sending them. The
+ * client is created with a custom OkHttpClient, so no authentication is involved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestBuildingBenchmark {
+	private static final String BASE_URL = "https://iaas.api.stackit.cloud";
+	private static final String REGION = "eu01";
+
+	private IaasApi api;
+	private ApiClient apiClient;
+	private UUID projectId;
+	private CreateNetworkPayload createNetworkPayload;
+	private String listServersPath;
+	private List<Pair> listServersQueryParams;
+	private Map<String, String> headerParams;
+
+	@Setup
+	public void setup() throws IOException {
+		api = new IaasApi(new OkHttpClient(), new CoreConfiguration().customEndpoint(BASE_URL));
+		apiClient = api.getApiClient();
+		projectId = UUID.randomUUID();
+
+		Map<String, String> labels = new HashMap<>();
+		labels.put("environment", "production");
+		labels.put("team", "platform");
+		createNetworkPayload =
+				new CreateNetworkPayload().name("network").dhcp(true).routed(true).labels(labels);
+
+		listServersPath = "/v2/projects/" + projectId + "/regions/" + REGION + "/servers";
+		listServersQueryParams = new ArrayList<>();
+		listServersQueryParams.addAll(apiClient.parameterToPair("details", true));
+		listServersQueryParams.addAll(
+				apiClient.parameterToPair("label_selector", "environment=production,team=a b"));
+		headerParams = new HashMap<>();
+		headerParams.put("Accept", "application/json");
+	}
+
+	/** URL of a list operation with query parameters, which need to be escaped. */
+	@Benchmark
+	public String buildUrl() {
+		return apiClient.buildUrl(
+				BASE_URL, listServersPath, listServersQueryParams, Collections.emptyList());
+	}
+
+	/** Request of a list operation without body. */
+	@Benchmark
+	public Request buildRequest() throws ApiException {
+		return apiClient.buildRequest(
+				BASE_URL,
+				listServersPath,
+				"GET",
+				listServersQueryParams,
+				Collections.emptyList(),
+				null,
+				headerParams,
+				Collections.emptyMap(),
+				Collections.emptyMap(),
+				new String[] {},
+				null);
+	}
+
+	/** Call of a list operation, including the escaping of the path parameters. */
+	@Benchmark
+	public Call listServersCall() throws ApiException {
+		return api.listServersCall(projectId, REGION, true, "environment=production", null);
+	}
+
+	/** Call of a create operation, including the serialization of the request body. */
+	@Benchmark
+	public Call createNetworkCall() throws ApiException {
+		return api.createNetworkCall(projectId, REGION, createNetworkPayload, null);
+	}
+}
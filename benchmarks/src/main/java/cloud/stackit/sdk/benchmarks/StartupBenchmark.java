@@ -0,0 +1,81 @@
+package cloud.stackit.sdk.benchmarks;
+
+import cloud.stackit.sdk.core.config.CoreConfiguration;
+import cloud.stackit.sdk.core.exception.ApiException;
+import cloud.stackit.sdk.iaas.v2api.JSON;
+import cloud.stackit.sdk.iaas.v2api.api.IaasApi;
+import cloud.stackit.sdk.iaas.v2api.model.ServerListResponse;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the first use of a service in a fresh JVM, which includes the class loading and the
+ * initialization of its JSON class. Every fork measures a single call, so the results show the
+ * time-to-first-request of short-lived applications.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+	private MockWebServer server;
+	private String json;
+
+	@Setup
+	public void setup() throws IOException {
+		json = ListPayload.IAAS_SERVERS.json(10);
+		MockResponse response =
+				new MockResponse()
+						.setResponseCode(200)
+						.setHeader("Content-Type", "application/json")
+						.setBody(json);
+		server = new MockWebServer();
+		server.setDispatcher(
+				new Dispatcher() {
+					@Override
+					public MockResponse dispatch(RecordedRequest request) {
+						return response;
+					}
+				});
+		server.start();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		server.shutdown();
+	}
+
+	/** First deserialization of a response. */
+	@Benchmark
+	public ServerListResponse firstDeserialization() {
+		return JSON.deserialize(json, ServerListResponse.class);
+	}
+
+	/** Creation of the client and its first request against a local server. */
+	@Benchmark
+	public ServerListResponse firstRequest() throws IOException, ApiException {
+		String endpoint = server.url("/").toString();
+		IaasApi api =
+				new IaasApi(new OkHttpClient(), new CoreConfiguration().customEndpoint(endpoint));
+		return api.listServers(UUID.randomUUID(), "eu01", true, null);
+	}
+}
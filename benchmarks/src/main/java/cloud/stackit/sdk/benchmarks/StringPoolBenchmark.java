@@ -0,0 +1,100 @@
+package cloud.stackit.sdk.benchmarks;
+
+import cloud.stackit.sdk.core.json.StringPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the effect of the string pool on large list responses: the deserialization time, and
+ * the heap retained by the deserialized response, which is reported as the {@code retainedBytes}
+ * counter of the {@code retainedHeap} benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class StringPoolBenchmark {
+	@Param({"IAAS_SERVERS", "LOADBALANCERS", "OBJECTSTORAGE_BUCKETS"})
+	private ListPayload payload;
+
+	@Param({"20000"})
+	private int size;
+
+	@Param({"false", "true"})
+	private boolean pooled;
+
+	@Param({"false", "true"})
+	private boolean compiled;
+
+	private String json;
+
+	/** Heap retained by the response of an invocation. */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class HeapCounter {
+		private long retainedBytes;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			retainedBytes = 0;
+		}
+
+		public long retainedBytes() {
+			return retainedBytes;
+		}
+	}
+
+	@Setup
+	public void setup() {
+		payload.setCompiledTypeAdapters(compiled);
+		payload.setStringPool(pooled ? new StringPool(4096) : null);
+		json = payload.json(size);
+	}
+
+	@TearDown
+	public void tearDown() {
+		payload.setCompiledTypeAdapters(false);
+		payload.setStringPool(null);
+	}
+
+	/** Deserialization of a response body into the response model. */
+	@Benchmark
+	public Object deserialize() {
+		return payload.deserialize(json);
+	}
+
+	/** Deserialization of a response which is kept, measuring the heap it retains. */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 2)
+	@Measurement(iterations = 5)
+	public Object retainedHeap(HeapCounter counter) {
+		long before = usedHeap();
+		Object response = payload.deserialize(json);
+		counter.retainedBytes += usedHeap() - before;
+		return response;
+	}
+
+	@SuppressWarnings("PMD.DoNotCallGarbageCollectionExplicitly")
+	private static long usedHeap() {
+		// collect the garbage of the deserialization, so only reachable objects are counted
+		System.gc();
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -0,0 +1,124 @@
+package cloud.stackit.sdk.benchmarks;
+
+import cloud.stackit.sdk.core.json.DateTimeParser;
+import cloud.stackit.sdk.core.json.EnumLookup;
+import cloud.stackit.sdk.core.json.UuidTypeAdapter;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the parsers of the JSON classes for timestamps, UUIDs and enums with the previous
+ * implementations: the {@link DateTimeFormatter}, {@link UUID#fromString(String)} and the search
+ * through all constants of the generated {@code fromValue} methods.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueParserBenchmark {
+	private static final EnumLookup<Status> STATUS_LOOKUP =
+			new EnumLookup<>(Status.values(), Status.UNKNOWN_DEFAULT_OPEN_API);
+
+	private String timestamp;
+	private String uuid;
+	private String status;
+
+	@Setup
+	public void setup() {
+		timestamp = "2024-01-31T12:30:45.123456Z";
+		uuid = "123e4567-e89b-12d3-a456-426614174000";
+		// a new String like the values read from a response, not the one of the constant
+		status = "rescuing".toUpperCase(Locale.ROOT);
+	}
+
+	/** Timestamp parsed with the formatter, as done before. */
+	@Benchmark
+	public OffsetDateTime offsetDateTimeFormatter() {
+		return OffsetDateTime.parse(timestamp, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+	}
+
+	/** Timestamp parsed by the JSON classes. */
+	@Benchmark
+	public OffsetDateTime offsetDateTimeParser() {
+		return DateTimeParser.parseOffsetDateTime(timestamp);
+	}
+
+	/** UUID parsed by the default Gson adapter. */
+	@Benchmark
+	public UUID uuidFromString() {
+		return UUID.fromString(uuid);
+	}
+
+	/** UUID parsed by the JSON classes. */
+	@Benchmark
+	public UUID uuidParser() {
+		return UuidTypeAdapter.parse(uuid);
+	}
+
+	/** Enum constant searched in all constants, as done before. */
+	@Benchmark
+	public Status enumSearch() {
+		for (Status constant : Status.values()) {
+			if (constant.getValue().equals(status)) {
+				return constant;
+			}
+		}
+		return Status.UNKNOWN_DEFAULT_OPEN_API;
+	}
+
+	/** Enum constant looked up by the generated enums. */
+	@Benchmark
+	public Status enumLookup() {
+		return STATUS_LOOKUP.fromValue(status);
+	}
+
+	/** Enum like the generated ones, with about as many constants as a server status. */
+	public enum Status {
+		ACTIVE("ACTIVE"),
+		CREATING("CREATING"),
+		DEALLOCATED("DEALLOCATED"),
+		DEALLOCATING("DEALLOCATING"),
+		DELETED("DELETED"),
+		DELETING("DELETING"),
+		ERROR("ERROR"),
+		INACTIVE("INACTIVE"),
+		MIGRATING("MIGRATING"),
+		REBOOT("REBOOT"),
+		REBOOTING("REBOOTING"),
+		REBUILD("REBUILD"),
+		REBUILDING("REBUILDING"),
+		RESCUE("RESCUE"),
+		RESCUING("RESCUING"),
+		UNKNOWN_DEFAULT_OPEN_API("unknown_default_open_api");
+
+		private final String value;
+
+		Status(String value) {
+			this.value = value;
+		}
+
+		public String getValue() {
+			return value;
+		}
+
+		@Override
+		public String toString() {
+			return value;
+		}
+	}
+}
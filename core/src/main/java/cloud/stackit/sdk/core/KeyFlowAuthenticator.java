@@ -5,6 +5,8 @@ import cloud.stackit.sdk.core.config.CoreConfiguration;
 import cloud.stackit.sdk.core.config.EnvironmentVariables;
 import cloud.stackit.sdk.core.exception.ApiException;
 import cloud.stackit.sdk.core.exception.AuthenticationException;
+import cloud.stackit.sdk.core.metrics.MetricsRecorder;
+import cloud.stackit.sdk.core.model.ServiceAccountCredentials;
 import cloud.stackit.sdk.core.model.ServiceAccountKey;
 import cloud.stackit.sdk.core.utils.Utils;
 import com.auth0.jwt.JWT;
@@ -14,15 +16,19 @@ import com.google.gson.JsonSyntaxException;
 import com.google.gson.annotations.SerializedName;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.lang.ref.WeakReference;
 import java.net.HttpURLConnection;
 import java.nio.charset.StandardCharsets;
 import java.security.NoSuchAlgorithmException;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.spec.InvalidKeySpecException;
 import java.time.Instant;
+import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import okhttp3.*;
 import org.jetbrains.annotations.NotNull;
@@ -36,16 +42,25 @@ public class KeyFlowAuthenticator implements Authenticator {
 	private static final String DEFAULT_TOKEN_ENDPOINT =
 			"https://service-account.api.stackit.cloud/token";
 	private static final long DEFAULT_TOKEN_LEEWAY = 60;
+	private static final double DEFAULT_BACKGROUND_REFRESH_FRACTION = 0.8;
 	private static final int CONNECT_TIMEOUT = 10;
 	private static final int WRITE_TIMEOUT = 10;
 	private static final int READ_TIMEOUT = 10;
 
 	private final OkHttpClient httpClient;
 	private final ServiceAccountKey saKey;
-	private KeyFlowTokenResponse token;
+	@SuppressWarnings("PMD.AvoidUsingVolatile")
+	private volatile KeyFlowTokenResponse token;
 	private final Gson gson;
 	private final String tokenUrl;
 	private long tokenLeewayInSeconds = DEFAULT_TOKEN_LEEWAY;
+	private final boolean backgroundTokenRefresh;
+	private double backgroundTokenRefreshFraction = DEFAULT_BACKGROUND_REFRESH_FRACTION;
+	private ScheduledFuture<?> scheduledTokenRefresh;
+	private RSAPrivateKey signingKey;
+	private Algorithm signingAlgorithm;
+	private Map<String, Object> jwtHeader;
+	private final MetricsRecorder metricsRecorder;
 
 	private final Object tokenRefreshMonitor = new Object();
 
@@ -57,6 +72,8 @@ public class KeyFlowAuthenticator implements Authenticator {
 	 * Unauthorized(=401), OkHttp reattempt the request with the authenticator. See <a
 	 * href="https://square.github.io/okhttp/recipes/#handling-authentication-kt-java">OkHttp
 	 * Docs</a>
+	 * To attach the token to the first request already, add a {@link
+	 * KeyFlowPreemptiveAuthInterceptor} to the OkHttpClient.
 	 *
 	 * @deprecated use constructor with OkHttpClient instead to prevent resource leaks. Will be
 	 *     removed in April 2026.
@@ -76,6 +93,8 @@ public class KeyFlowAuthenticator implements Authenticator {
 	 * Unauthorized(=401), OkHttp reattempt the request with the authenticator. See <a
 	 * href="https://square.github.io/okhttp/recipes/#handling-authentication-kt-java">OkHttp
 	 * Docs</a>
+	 * To attach the token to the first request already, add a {@link
+	 * KeyFlowPreemptiveAuthInterceptor} to the OkHttpClient.
 	 *
 	 * @deprecated use constructor with OkHttpClient instead to prevent resource leaks. Will be
 	 *     removed in April 2026.
@@ -98,6 +117,8 @@ public class KeyFlowAuthenticator implements Authenticator {
 	 * Unauthorized(=401), OkHttp reattempt the request with the authenticator. See <a
 	 * href="https://square.github.io/okhttp/recipes/#handling-authentication-kt-java">OkHttp
 	 * Docs</a>
+	 * To attach the token to the first request already, add a {@link
+	 * KeyFlowPreemptiveAuthInterceptor} to the OkHttpClient.
 	 *
 	 * @param httpClient OkHttpClient object
 	 * @param cfg Configuration to set a custom token endpoint and the token expiration leeway.
@@ -114,6 +135,8 @@ public class KeyFlowAuthenticator implements Authenticator {
 	 * Unauthorized(=401), OkHttp reattempt the request with the authenticator. See <a
 	 * href="https://square.github.io/okhttp/recipes/#handling-authentication-kt-java">OkHttp
 	 * Docs</a>
+	 * To attach the token to the first request already, add a {@link
+	 * KeyFlowPreemptiveAuthInterceptor} to the OkHttpClient.
 	 *
 	 * @param httpClient OkHttpClient object
 	 * @param cfg Configuration to set a custom token endpoint and the token expiration leeway.
@@ -139,22 +162,48 @@ public class KeyFlowAuthenticator implements Authenticator {
 						.readTimeout(READ_TIMEOUT, TimeUnit.SECONDS)
 						.build();
 
-		if (Utils.isStringSet(cfg.getTokenCustomUrl())) {
-			this.tokenUrl = cfg.getTokenCustomUrl();
-		} else if (Utils.isStringSet(environmentVariables.getStackitTokenBaseurl())) {
-			this.tokenUrl = environmentVariables.getStackitTokenBaseurl();
-		} else {
-			this.tokenUrl = DEFAULT_TOKEN_ENDPOINT;
-		}
+		this.tokenUrl = resolveTokenUrl(cfg, environmentVariables);
 		if (cfg.getTokenExpirationLeeway() != null && cfg.getTokenExpirationLeeway() > 0) {
 			this.tokenLeewayInSeconds = cfg.getTokenExpirationLeeway();
 		}
+		this.metricsRecorder = cfg.getMetricsRecorder();
+		this.backgroundTokenRefresh = Boolean.TRUE.equals(cfg.getBackgroundTokenRefresh());
+		if (cfg.getBackgroundTokenRefreshFraction() != null
+				&& cfg.getBackgroundTokenRefreshFraction() > 0
+				&& cfg.getBackgroundTokenRefreshFraction() < 1) {
+			this.backgroundTokenRefreshFraction = cfg.getBackgroundTokenRefreshFraction();
+		}
+	}
+
+	/**
+	 * Returns the token endpoint, either from the configuration, the environment variables or the
+	 * default one.
+	 *
+	 * @param cfg Configuration
+	 * @param environmentVariables Environment variables
+	 * @return URL of the token endpoint
+	 */
+	/* default */ static String resolveTokenUrl(
+			CoreConfiguration cfg, EnvironmentVariables environmentVariables) {
+		if (Utils.isStringSet(cfg.getTokenCustomUrl())) {
+			return cfg.getTokenCustomUrl();
+		} else if (Utils.isStringSet(environmentVariables.getStackitTokenBaseurl())) {
+			return environmentVariables.getStackitTokenBaseurl();
+		}
+		return DEFAULT_TOKEN_ENDPOINT;
 	}
 
 	@Override
 	public Request authenticate(Route route, @NotNull Response response) throws IOException {
-		if (response.request().header("Authorization") != null) {
-			return null; // Give up, we've already attempted to authenticate.
+		String authorization = response.request().header("Authorization");
+		if (authorization != null) {
+			if (response.request().tag(KeyFlowPreemptiveAuthInterceptor.class) == null
+					|| response.priorResponse() != null) {
+				return null; // Give up, we've already attempted to authenticate.
+			}
+			// the token attached by the KeyFlowPreemptiveAuthInterceptor was rejected, e.g.
+			// because it was revoked, so a new one is created for the retry
+			invalidateAccessToken(authorization);
 		}
 		String accessToken;
 		try {
@@ -211,6 +260,10 @@ public class KeyFlowAuthenticator implements Authenticator {
 	/**
 	 * Returns access token. If the token is expired it creates a new token.
 	 *
+	 * <p>A valid token is returned without locking. With background token refresh enabled the
+	 * token is renewed before it expires, so the synchronous refresh is only a fallback in case the
+	 * background refresh failed.
+	 *
 	 * @throws InvalidKeySpecException thrown when the private key in the service account can not be
 	 *     parsed
 	 * @throws IOException request for new access token failed
@@ -218,6 +271,10 @@ public class KeyFlowAuthenticator implements Authenticator {
 	 */
 	@SuppressWarnings("PMD.AvoidSynchronizedStatement")
 	public String getAccessToken() throws IOException, ApiException, InvalidKeySpecException {
+		KeyFlowTokenResponse currentToken = token;
+		if (currentToken != null && !currentToken.isExpired()) {
+			return currentToken.getAccessToken();
+		}
 		synchronized (tokenRefreshMonitor) {
 			if (token == null) {
 				createAccessToken();
@@ -228,6 +285,36 @@ public class KeyFlowAuthenticator implements Authenticator {
 		}
 	}
 
+	/**
+	 * Returns the identity of the service account, i.e. the key id and subject of its credentials,
+	 * e.g. to keep the cached responses of different service accounts apart.
+	 *
+	 * @return identity of the service account
+	 */
+	public String getServiceAccountIdentity() {
+		ServiceAccountCredentials credentials = saKey.getCredentials();
+		return credentials.getKid() + "/" + credentials.getSub();
+	}
+
+	/**
+	 * Discards the current token, if it is the one of the given Authorization header. The next
+	 * call of {@link #getAccessToken()} creates a new token.
+	 *
+	 * @param authorization value of the rejected Authorization header
+	 */
+	@SuppressWarnings("PMD.AvoidSynchronizedStatement")
+	protected void invalidateAccessToken(String authorization) {
+		synchronized (tokenRefreshMonitor) {
+			if (token != null && authorization.equals("Bearer " + token.getAccessToken())) {
+				token = null;
+				if (scheduledTokenRefresh != null) {
+					scheduledTokenRefresh.cancel(false);
+					scheduledTokenRefresh = null;
+				}
+			}
+		}
+	}
+
 	/**
 	 * Creates the initial accessToken and stores it in `this.token`
 	 *
@@ -249,9 +336,7 @@ public class KeyFlowAuthenticator implements Authenticator {
 			}
 
 			String grant = "urn:ietf:params:oauth:grant-type:jwt-bearer";
-			try (Response response = requestToken(grant, assertion).execute()) {
-				parseTokenResponse(response);
-			}
+			fetchToken(grant, assertion);
 		}
 	}
 
@@ -266,8 +351,27 @@ public class KeyFlowAuthenticator implements Authenticator {
 	protected void createAccessTokenWithRefreshToken() throws IOException, ApiException {
 		synchronized (tokenRefreshMonitor) {
 			String refreshToken = token.refreshToken;
-			try (Response response = requestToken(REFRESH_TOKEN, refreshToken).execute()) {
-				parseTokenResponse(response);
+			fetchToken(REFRESH_TOKEN, refreshToken);
+		}
+	}
+
+	/**
+	 * Requests a token and stores it, recording the request if a {@link MetricsRecorder} is
+	 * configured.
+	 *
+	 * @throws IOException request for the token failed
+	 * @throws ApiException response for the token with bad status code
+	 * @throws JsonSyntaxException can not parse the token
+	 */
+	private void fetchToken(String grant, String assertionValue) throws IOException, ApiException {
+		long start = System.nanoTime();
+		boolean success = false;
+		try (Response response = requestToken(grant, assertionValue).execute()) {
+			parseTokenResponse(response);
+			success = true;
+		} finally {
+			if (metricsRecorder != null) {
+				metricsRecorder.recordTokenRefresh(success, System.nanoTime() - start);
 			}
 		}
 	}
@@ -318,33 +422,130 @@ public class KeyFlowAuthenticator implements Authenticator {
 	}
 
 	protected void setToken(KeyFlowTokenResponse response) {
+		Instant expiresAt = JWT.decode(response.accessToken).getExpiresAt().toInstant();
+		// calculate the expiration before publishing the token to the lock-free readers
+		response.expiresIn = expiresAt.minusSeconds(tokenLeewayInSeconds).getEpochSecond();
 		token = response;
-		token.expiresIn =
-				JWT.decode(response.accessToken)
-						.getExpiresAt()
-						.toInstant()
-						.minusSeconds(tokenLeewayInSeconds)
-						.getEpochSecond();
+		if (backgroundTokenRefresh) {
+			scheduleBackgroundRefresh(expiresAt);
+		}
 	}
 
-	private String generateSelfSignedJWT()
-			throws InvalidKeySpecException, NoSuchAlgorithmException {
-		RSAPrivateKey prvKey;
+	/**
+	 * Schedules the renewal of the current token after the configured fraction of its lifetime,
+	 * but before it is considered expired.
+	 *
+	 * @param expiresAt expiration of the current token
+	 */
+	@SuppressWarnings("PMD.AvoidSynchronizedStatement")
+	private void scheduleBackgroundRefresh(Instant expiresAt) {
+		long lifetimeMillis = expiresAt.toEpochMilli() - System.currentTimeMillis();
+		long latestRefreshMillis = lifetimeMillis - TimeUnit.SECONDS.toMillis(tokenLeewayInSeconds);
+		synchronized (tokenRefreshMonitor) {
+			if (scheduledTokenRefresh != null) {
+				scheduledTokenRefresh.cancel(false);
+				scheduledTokenRefresh = null;
+			}
+			if (latestRefreshMillis <= 0) {
+				// token is already within the leeway, the next request refreshes it synchronously
+				return;
+			}
+			long delayMillis =
+					Math.min(
+							(long) (lifetimeMillis * backgroundTokenRefreshFraction),
+							latestRefreshMillis);
+			scheduledTokenRefresh =
+					BackgroundRefreshScheduler.SCHEDULER.schedule(
+							new BackgroundRefreshTask(this), delayMillis, TimeUnit.MILLISECONDS);
+		}
+	}
 
-		prvKey = saKey.getCredentials().getPrivateKeyParsed();
-		Algorithm algorithm = Algorithm.RSA512(prvKey);
+	/**
+	 * Renews the token with the refresh token. If this fails, the token is left untouched and the
+	 * next request after its expiration falls back to the synchronous refresh.
+	 */
+	@SuppressWarnings("PMD.AvoidSynchronizedStatement")
+	protected void refreshTokenInBackground() {
+		synchronized (tokenRefreshMonitor) {
+			if (token == null) {
+				// token was invalidated in the meantime, the next request creates a new one
+				return;
+			}
+			try {
+				createAccessTokenWithRefreshToken();
+			} catch (IOException | ApiException | JsonSyntaxException e) {
+				scheduledTokenRefresh = null;
+			}
+		}
+	}
 
-		Map<String, Object> jwtHeader = new ConcurrentHashMap<>();
-		jwtHeader.put("kid", saKey.getCredentials().getKid());
+	/**
+	 * Scheduled task for the background refresh. Only holds a weak reference, so authenticators
+	 * which are no longer used can be garbage collected and stop refreshing.
+	 */
+	private static final class BackgroundRefreshTask implements Runnable {
+		private final WeakReference<KeyFlowAuthenticator> authenticator;
+
+		private BackgroundRefreshTask(KeyFlowAuthenticator authenticator) {
+			this.authenticator = new WeakReference<>(authenticator);
+		}
+
+		@Override
+		public void run() {
+			KeyFlowAuthenticator keyFlowAuthenticator = authenticator.get();
+			if (keyFlowAuthenticator != null) {
+				keyFlowAuthenticator.refreshTokenInBackground();
+			}
+		}
+	}
+
+	/** Lazily created scheduler shared by all authenticators with background refresh enabled. */
+	@SuppressWarnings("PMD.DoNotUseThreads")
+	private static final class BackgroundRefreshScheduler {
+		private static final ScheduledExecutorService SCHEDULER =
+				Executors.newSingleThreadScheduledExecutor(
+						runnable -> {
+							// daemon thread, so the scheduler doesn't prevent the JVM from exiting
+							Thread thread = new Thread(runnable, "stackit-token-refresh");
+							thread.setDaemon(true);
+							return thread;
+						});
+	}
+
+	/**
+	 * Creates the self-signed assertion for the key flow. The signing algorithm and the JWT header
+	 * are created once and reused for all further assertions of the same private key.
+	 *
+	 * @return signed assertion
+	 * @throws InvalidKeySpecException can not parse private key
+	 * @throws NoSuchAlgorithmException RSA is not supported by the JVM
+	 */
+	@SuppressWarnings("PMD.AvoidSynchronizedStatement")
+	protected String generateSelfSignedJWT()
+			throws InvalidKeySpecException, NoSuchAlgorithmException {
+		ServiceAccountCredentials credentials = saKey.getCredentials();
+		Algorithm algorithm;
+		Map<String, Object> header;
+		synchronized (tokenRefreshMonitor) {
+			RSAPrivateKey prvKey = credentials.getPrivateKeyParsed();
+			if (signingAlgorithm == null || signingKey != prvKey) {
+				signingAlgorithm = Algorithm.RSA512(prvKey);
+				signingKey = prvKey;
+				jwtHeader = Collections.singletonMap("kid", credentials.getKid());
+			}
+			algorithm = signingAlgorithm;
+			header = jwtHeader;
+		}
 
+		Instant now = Instant.now();
 		return JWT.create()
-				.withIssuer(saKey.getCredentials().getIss())
-				.withSubject(saKey.getCredentials().getSub())
+				.withIssuer(credentials.getIss())
+				.withSubject(credentials.getSub())
 				.withJWTId(UUID.randomUUID().toString())
-				.withAudience(saKey.getCredentials().getAud())
-				.withIssuedAt(Instant.now())
-				.withExpiresAt(Instant.now().plusSeconds(10 * 60))
-				.withHeader(jwtHeader)
+				.withAudience(credentials.getAud())
+				.withIssuedAt(now)
+				.withExpiresAt(now.plusSeconds(10 * 60))
+				.withHeader(header)
 				.sign(algorithm);
 	}
 }
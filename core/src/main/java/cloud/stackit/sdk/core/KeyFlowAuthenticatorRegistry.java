@@ -0,0 +1,125 @@
+package cloud.stackit.sdk.core;
+
+import cloud.stackit.sdk.core.auth.SetupAuth;
+import cloud.stackit.sdk.core.config.CoreConfiguration;
+import cloud.stackit.sdk.core.config.EnvironmentVariables;
+import cloud.stackit.sdk.core.model.ServiceAccountCredentials;
+import cloud.stackit.sdk.core.model.ServiceAccountKey;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import okhttp3.OkHttpClient;
+
+/**
+ * Process-wide registry of {@link KeyFlowAuthenticator} objects. API clients which authenticate
+ * with the same service account against the same token endpoint share one authenticator, and
+ * therefore one access token and one refresh schedule.
+ *
+ * <p>Authenticators are identified by the key id and subject of the service account and the
+ * token endpoint. The configuration of the first API client creating the authenticator, e.g. the
+ * token expiration leeway, applies to all API clients sharing it. Authenticators are only
+ * referenced weakly, so they are released once no API client uses them anymore.
+ */
+public final class KeyFlowAuthenticatorRegistry {
+	private static final Map<AuthenticatorKey, WeakReference<KeyFlowAuthenticator>>
+			AUTHENTICATORS = new ConcurrentHashMap<>();
+
+	private KeyFlowAuthenticatorRegistry() {}
+
+	/**
+	 * Returns the shared authenticator for the service account found in the configuration. If
+	 * sharing is disabled via {@link CoreConfiguration#sharedTokenCache(Boolean)}, a new
+	 * authenticator is returned.
+	 *
+	 * @param httpClient OkHttpClient object, used for the token requests of a new authenticator
+	 * @param cfg Configuration
+	 * @return KeyFlowAuthenticator for the service account
+	 * @throws IOException thrown when a file can not be found
+	 */
+	public static KeyFlowAuthenticator getAuthenticator(
+			OkHttpClient httpClient, CoreConfiguration cfg) throws IOException {
+		return getAuthenticator(httpClient, cfg, SetupAuth.setupKeyFlow(cfg));
+	}
+
+	/**
+	 * Returns the shared authenticator for the given service account key. If sharing is disabled
+	 * via {@link CoreConfiguration#sharedTokenCache(Boolean)}, a new authenticator is returned.
+	 *
+	 * @param httpClient OkHttpClient object, used for the token requests of a new authenticator
+	 * @param cfg Configuration
+	 * @param saKey Service Account Key, which should be used for the authentication
+	 * @return KeyFlowAuthenticator for the service account
+	 */
+	public static KeyFlowAuthenticator getAuthenticator(
+			OkHttpClient httpClient, CoreConfiguration cfg, ServiceAccountKey saKey) {
+		return getAuthenticator(httpClient, cfg, saKey, new EnvironmentVariables());
+	}
+
+	/* default */ static KeyFlowAuthenticator getAuthenticator(
+			OkHttpClient httpClient,
+			CoreConfiguration cfg,
+			ServiceAccountKey saKey,
+			EnvironmentVariables environmentVariables) {
+		if (Boolean.FALSE.equals(cfg.getSharedTokenCache())) {
+			return new KeyFlowAuthenticator(httpClient, cfg, saKey, environmentVariables);
+		}
+
+		// drop the entries of authenticators which were garbage collected
+		AUTHENTICATORS.values().removeIf(reference -> reference.get() == null);
+
+		ServiceAccountCredentials credentials = saKey.getCredentials();
+		AuthenticatorKey key =
+				new AuthenticatorKey(
+						credentials.getKid(),
+						credentials.getSub(),
+						KeyFlowAuthenticator.resolveTokenUrl(cfg, environmentVariables));
+		KeyFlowAuthenticator[] authenticator = new KeyFlowAuthenticator[1];
+		AUTHENTICATORS.compute(
+				key,
+				(k, existing) -> {
+					authenticator[0] = existing == null ? null : existing.get();
+					if (authenticator[0] == null) {
+						authenticator[0] =
+								new KeyFlowAuthenticator(
+										httpClient, cfg, saKey, environmentVariables);
+						return new WeakReference<>(authenticator[0]);
+					}
+					return existing;
+				});
+		return authenticator[0];
+	}
+
+	/** Removes all authenticators from the registry. API clients keep their authenticator. */
+	public static void clear() {
+		AUTHENTICATORS.clear();
+	}
+
+	private static final class AuthenticatorKey {
+		private final String kid;
+		private final String sub;
+		private final String tokenUrl;
+
+		private AuthenticatorKey(String kid, String sub, String tokenUrl) {
+			this.kid = kid;
+			this.sub = sub;
+			this.tokenUrl = tokenUrl;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			AuthenticatorKey that = (AuthenticatorKey) o;
+			return Objects.equals(kid, that.kid)
+					&& Objects.equals(sub, that.sub)
+					&& Objects.equals(tokenUrl, that.tokenUrl);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(kid, sub, tokenUrl);
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package cloud.stackit.sdk.core;
+
+import cloud.stackit.sdk.core.exception.ApiException;
+import cloud.stackit.sdk.core.exception.AuthenticationException;
+import java.io.IOException;
+import java.security.spec.InvalidKeySpecException;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Application interceptor which attaches the access token of a {@link KeyFlowAuthenticator} to
+ * every request before it is sent, so requests don't need an unauthenticated round trip which is
+ * answered with 401.
+ *
+ * <p>The {@link KeyFlowAuthenticator} has to be configured as authenticator of the same {@link
+ * okhttp3.OkHttpClient}. It remains the fallback in case the attached token is rejected, e.g.
+ * because it was revoked, and retries the request once with a newly created token.
+ *
+ * <pre>{@code
+ * KeyFlowAuthenticator authenticator = new KeyFlowAuthenticator(httpClient, cfg);
+ * OkHttpClient client =
+ *         httpClient
+ *                 .newBuilder()
+ *                 .authenticator(authenticator)
+ *                 .addInterceptor(new KeyFlowPreemptiveAuthInterceptor(authenticator))
+ *                 .build();
+ * }</pre>
+ */
+public class KeyFlowPreemptiveAuthInterceptor implements Interceptor {
+	private final KeyFlowAuthenticator authenticator;
+
+	/**
+	 * Creates the interceptor for the given authenticator.
+	 *
+	 * @param authenticator KeyFlowAuthenticator which provides and renews the access token
+	 */
+	public KeyFlowPreemptiveAuthInterceptor(KeyFlowAuthenticator authenticator) {
+		this.authenticator = authenticator;
+	}
+
+	@NotNull @Override
+	public Response intercept(Chain chain) throws IOException {
+		Request originalRequest = chain.request();
+		if (originalRequest.header("Authorization") != null) {
+			// keep Authorization headers which were set explicitly
+			return chain.proceed(originalRequest);
+		}
+
+		String accessToken;
+		try {
+			accessToken = authenticator.getAccessToken();
+		} catch (InvalidKeySpecException | ApiException e) {
+			// try-catch required, because ApiException can not be thrown in the implementation
+			// of Interceptor.intercept(Chain chain)
+			throw new AuthenticationException(
+					"Failed to obtain access token for request authentication", e);
+		}
+
+		Request authenticatedRequest =
+				originalRequest
+						.newBuilder()
+						.header("Authorization", "Bearer " + accessToken)
+						// marks the request for the KeyFlowAuthenticator, so it retries it once
+						// with a new token in case the response is Unauthorized(=401)
+						.tag(KeyFlowPreemptiveAuthInterceptor.class, this)
+						.build();
+		return chain.proceed(authenticatedRequest);
+	}
+}
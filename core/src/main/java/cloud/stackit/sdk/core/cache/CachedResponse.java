@@ -0,0 +1,86 @@
+package cloud.stackit.sdk.core.cache;
+
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/** Response of a GET operation held by the {@link ResponseCache}, including its complete body. */
+public final class CachedResponse {
+	private final int code;
+	private final String message;
+	private final Protocol protocol;
+	private final Headers headers;
+	private final MediaType contentType;
+	private final byte[] body;
+
+	/**
+	 * Creates a cached response.
+	 *
+	 * @param code HTTP status code
+	 * @param message HTTP status message
+	 * @param protocol protocol of the response
+	 * @param headers headers of the response
+	 * @param contentType content type of the body
+	 * @param body complete body
+	 */
+	public CachedResponse(
+			int code,
+			String message,
+			Protocol protocol,
+			Headers headers,
+			MediaType contentType,
+			byte[] body) {
+		this.code = code;
+		this.message = message;
+		this.protocol = protocol;
+		this.headers = headers;
+		this.contentType = contentType;
+		this.body = body.clone();
+	}
+
+	/**
+	 * Creates a cached response from a response and its body.
+	 *
+	 * @param response response, whose body has been read
+	 * @param contentType content type of the body
+	 * @param body complete body
+	 * @return the cached response
+	 */
+	public static CachedResponse of(Response response, MediaType contentType, byte[] body) {
+		return new CachedResponse(
+				response.code(),
+				response.message(),
+				response.protocol(),
+				response.headers(),
+				contentType,
+				body);
+	}
+
+	public int getCode() {
+		return code;
+	}
+
+	public long getBodyLength() {
+		return body.length;
+	}
+
+	/**
+	 * Creates a new response for the given request from the cached response.
+	 *
+	 * @param request request answered by the cached response
+	 * @return the response, with a body which can be read once like a network response
+	 */
+	public Response toResponse(Request request) {
+		return new Response.Builder()
+				.request(request)
+				.protocol(protocol)
+				.code(code)
+				.message(message)
+				.headers(headers)
+				.body(ResponseBody.create(body, contentType))
+				.build();
+	}
+}
@@ -0,0 +1,353 @@
+package cloud.stackit.sdk.core.cache;
+
+import cloud.stackit.sdk.core.utils.PathTemplate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded in-memory cache for the responses of GET operations, filled and invalidated by the
+ * {@link ResponseCacheInterceptor}. API clients use it if it is set via {@link
+ * cloud.stackit.sdk.core.config.CoreConfiguration#responseCache(ResponseCache)}.
+ *
+ * <p>Cached responses expire after the TTL of their operation. Operations are identified by their
+ * path template, e.g. {@code /v2/projects/{projectId}/regions/{region}/servers/{serverId}} for
+ * {@code getServer}, and operations without a TTL of their own use the default TTL. The default
+ * TTL is 0, so only the operations with a TTL are cached unless a default TTL is set. Note that
+ * wait handlers poll the GET operation of a resource, so they notice changes up to one TTL later.
+ *
+ * <p>The cache holds at most the maximum number of entries and the maximum weight, i.e. the total
+ * size of the cached response bodies. If it is full, the least recently used entries are evicted.
+ *
+ * <p>Requests with other methods than GET and HEAD, e.g. {@code updateServer}, {@code
+ * deleteServer} or {@code addNetworkToServer}, invalidate the cached responses of the resource
+ * they target, of its sub-resources and of its parent resources, e.g. deleting a server
+ * invalidates the server, its attached networks and the server list. They invalidate them after
+ * they completed, whether they succeeded or not, as a failed request may still have changed the
+ * resource.
+ *
+ * <p>The responses are cached per service account of the API client, so a cache may be shared
+ * between API clients with different credentials. API clients with a custom {@link
+ * okhttp3.OkHttpClient} authenticate the requests on their own; their responses are only kept
+ * apart by the {@code Authorization} header set on the request.
+ */
+@SuppressWarnings("PMD.AvoidSynchronizedStatement")
+public class ResponseCache {
+	private final int maxEntries;
+	private final long maxWeight;
+	private final LongSupplier nanoClock;
+	private final List<TtlRule> ttlRules = new CopyOnWriteArrayList<>();
+	@SuppressWarnings("PMD.AvoidUsingVolatile")
+	private volatile long defaultTtlNanos;
+
+	// guarded by itself, ordered from the least to the most recently used entry
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	// guarded by entries
+	private long weight;
+	// guarded by entries, incremented by every invalidation
+	private long generation;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+	private final LongAdder invalidationCount = new LongAdder();
+
+	/** Creates a cache for at most 1000 responses with a total size of 10 MiB. */
+	public ResponseCache() {
+		this(1000, 10L * 1024 * 1024);
+	}
+
+	/**
+	 * Creates a cache with the given limits.
+	 *
+	 * @param maxEntries maximum number of cached responses, at least 1
+	 * @param maxWeight maximum total size of the cached response bodies in bytes, at least 1
+	 */
+	public ResponseCache(int maxEntries, long maxWeight) {
+		this(maxEntries, maxWeight, System::nanoTime);
+	}
+
+	/* default */ ResponseCache(int maxEntries, long maxWeight, LongSupplier nanoClock) {
+		if (maxEntries <= 0) {
+			throw new IllegalArgumentException("Max entries must be at least 1");
+		}
+		if (maxWeight <= 0) {
+			throw new IllegalArgumentException("Max weight must be at least 1");
+		}
+		this.maxEntries = maxEntries;
+		this.maxWeight = maxWeight;
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * SetDefaultTtl sets the TTL of the operations without a TTL of their own. A TTL of 0
+	 * disables the caching of these operations, which is the default.
+	 *
+	 * @param duration
+	 * @param unit
+	 */
+	public void setDefaultTtl(long duration, TimeUnit unit) {
+		this.defaultTtlNanos = unit.toNanos(duration);
+	}
+
+	/**
+	 * SetTtl sets the TTL of an operation. A TTL of 0 disables the caching of the operation.
+	 *
+	 * @param pathTemplate path of the operation, with a placeholder in braces for every path
+	 *     parameter, e.g. {@code /v2/projects/{projectId}/regions/{region}/servers/{serverId}}.
+	 *     If several templates match a path, the one with the most literal segments is used.
+	 * @param duration
+	 * @param unit
+	 */
+	public void setTtl(String pathTemplate, long duration, TimeUnit unit) {
+		ttlRules.add(new TtlRule(pathTemplate, unit.toNanos(duration)));
+	}
+
+	/**
+	 * Returns the TTL of the operation with the given path.
+	 *
+	 * @param path encoded path of the request
+	 * @return TTL in nanoseconds, 0 if the responses of the operation aren't cached
+	 */
+	public long getTtlNanos(String path) {
+		String[] segments = PathTemplate.split(path);
+		TtlRule match = null;
+		int matchLiterals = -1;
+		for (TtlRule rule : ttlRules) {
+			int literals = rule.pathTemplate.getLiteralSegments();
+			if (literals > matchLiterals && rule.pathTemplate.matches(segments)) {
+				match = rule;
+				matchLiterals = literals;
+			}
+		}
+		return match == null ? defaultTtlNanos : match.ttlNanos;
+	}
+
+	public long getMaxWeight() {
+		return maxWeight;
+	}
+
+	/**
+	 * Returns the cached response for the given key, if it hasn't expired yet.
+	 *
+	 * @param key key of the request, e.g. its URL
+	 * @return the cached response or null
+	 */
+	public CachedResponse get(String key) {
+		long now = nanoClock.getAsLong();
+		synchronized (entries) {
+			Entry entry = entries.get(key);
+			if (entry != null && now - entry.expiresAtNanos >= 0) {
+				remove(key);
+				entry = null;
+			}
+			if (entry == null) {
+				missCount.increment();
+				return null;
+			}
+			hitCount.increment();
+			return entry.response;
+		}
+	}
+
+	/**
+	 * Returns the current generation of the cache, which has to be passed to {@link #put} for
+	 * responses requested afterwards.
+	 *
+	 * @return generation, which changes whenever entries are invalidated
+	 */
+	public long getGeneration() {
+		synchronized (entries) {
+			return generation;
+		}
+	}
+
+	/**
+	 * Caches a response. The response isn't cached if entries were invalidated since it was
+	 * requested, as it may reflect the state before the invalidating request, or if it is larger
+	 * than the maximum weight.
+	 *
+	 * @param key key of the request, e.g. its URL
+	 * @param origin scheme, host and port of the request
+	 * @param path encoded path of the request
+	 * @param response response to cache
+	 * @param ttlNanos TTL of the response
+	 * @param requestGeneration generation of the cache before the response was requested
+	 * @return true if the response was cached
+	 */
+	public boolean put(
+			String key,
+			String origin,
+			String path,
+			CachedResponse response,
+			long ttlNanos,
+			long requestGeneration) {
+		long entryWeight = response.getBodyLength();
+		if (ttlNanos <= 0 || entryWeight > maxWeight) {
+			return false;
+		}
+		Entry entry = new Entry(origin, path, response, nanoClock.getAsLong() + ttlNanos);
+		synchronized (entries) {
+			if (requestGeneration != generation) {
+				return false;
+			}
+			remove(key);
+			entries.put(key, entry);
+			weight += entryWeight;
+			evict();
+			return true;
+		}
+	}
+
+	/**
+	 * Invalidates the cached responses of a resource, of its sub-resources and of its parent
+	 * resources.
+	 *
+	 * @param origin scheme, host and port of the resource
+	 * @param path encoded path of the resource
+	 */
+	public void invalidate(String origin, String path) {
+		synchronized (entries) {
+			generation++;
+			List<String> keys = new ArrayList<>();
+			for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+				Entry value = entry.getValue();
+				boolean related =
+						isSameOrSubPath(value.path, path) || isSameOrSubPath(path, value.path);
+				if (related && value.origin.equals(origin)) {
+					keys.add(entry.getKey());
+				}
+			}
+			for (String key : keys) {
+				remove(key);
+			}
+			invalidationCount.add(keys.size());
+		}
+	}
+
+	/** Removes all cached responses. */
+	public void invalidateAll() {
+		synchronized (entries) {
+			generation++;
+			invalidationCount.add(entries.size());
+			entries.clear();
+			weight = 0;
+		}
+	}
+
+	/**
+	 * Returns the number of cached responses, including the expired ones which weren't removed
+	 * yet.
+	 *
+	 * @return number of cached responses
+	 */
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * Returns the total size of the cached response bodies.
+	 *
+	 * @return weight in bytes
+	 */
+	public long weight() {
+		synchronized (entries) {
+			return weight;
+		}
+	}
+
+	/**
+	 * Returns the number of requests answered from the cache.
+	 *
+	 * @return hit count
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * Returns the number of cacheable requests which weren't found in the cache or had expired.
+	 *
+	 * @return miss count
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * Returns the number of responses which were evicted because the cache was full.
+	 *
+	 * @return eviction count
+	 */
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	/**
+	 * Returns the number of responses which were invalidated by mutating requests or {@link
+	 * #invalidateAll()}.
+	 *
+	 * @return invalidation count
+	 */
+	public long getInvalidationCount() {
+		return invalidationCount.sum();
+	}
+
+	private void remove(String key) {
+		Entry removed = entries.remove(key);
+		if (removed != null) {
+			weight -= removed.response.getBodyLength();
+		}
+	}
+
+	private void evict() {
+		Iterator<Entry> iterator = entries.values().iterator();
+		while ((entries.size() > maxEntries || weight > maxWeight) && iterator.hasNext()) {
+			Entry eldest = iterator.next();
+			iterator.remove();
+			weight -= eldest.response.getBodyLength();
+			evictionCount.increment();
+		}
+	}
+
+	private static boolean isSameOrSubPath(String path, String parent) {
+		if (!path.startsWith(parent)) {
+			return false;
+		}
+		return path.length() == parent.length()
+				|| parent.endsWith("/")
+				|| path.charAt(parent.length()) == '/';
+	}
+
+	private static final class Entry {
+		private final String origin;
+		private final String path;
+		private final CachedResponse response;
+		private final long expiresAtNanos;
+
+		private Entry(String origin, String path, CachedResponse response, long expiresAtNanos) {
+			this.origin = origin;
+			this.path = path;
+			this.response = response;
+			this.expiresAtNanos = expiresAtNanos;
+		}
+	}
+
+	private static final class TtlRule {
+		private final PathTemplate pathTemplate;
+		private final long ttlNanos;
+
+		private TtlRule(String pathTemplate, long ttlNanos) {
+			this.pathTemplate = new PathTemplate(pathTemplate);
+			this.ttlNanos = ttlNanos;
+		}
+	}
+}
@@ -0,0 +1,138 @@
+package cloud.stackit.sdk.core.cache;
+
+import cloud.stackit.sdk.core.KeyFlowAuthenticator;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Application interceptor which answers GET requests from a {@link ResponseCache} and invalidates
+ * the cached responses of the resources targeted by other requests.
+ *
+ * <p>Only successful responses ({@code 200 OK}) are cached. Requests with {@code Cache-Control:
+ * no-cache} bypass the cache but update it, requests and responses with {@code Cache-Control:
+ * no-store} aren't cached at all.
+ *
+ * <p>The interceptor should be the first interceptor of the {@link okhttp3.OkHttpClient}, so cache
+ * hits don't need an access token. As the requests aren't authenticated yet, the responses are
+ * cached for the URL, the credentials given to the interceptor and the {@code Authorization}
+ * header set on the request, if any:
+ *
+ * <pre>{@code
+ * OkHttpClient.Builder builder = httpClient.newBuilder();
+ * String credentials = authenticator.getServiceAccountIdentity();
+ * builder.interceptors().add(0, new ResponseCacheInterceptor(cache, credentials));
+ * OkHttpClient client = builder.build();
+ * }</pre>
+ */
+public class ResponseCacheInterceptor implements Interceptor {
+	private final ResponseCache cache;
+	private final String credentials;
+
+	/**
+	 * Creates the interceptor for the given cache, for requests which are authenticated with the
+	 * {@code Authorization} header set on the request or with the same credentials.
+	 *
+	 * @param cache ResponseCache, may be shared between several interceptors
+	 */
+	public ResponseCacheInterceptor(ResponseCache cache) {
+		this(cache, null);
+	}
+
+	/**
+	 * Creates the interceptor for the given cache and credentials.
+	 *
+	 * @param cache ResponseCache, may be shared between several interceptors
+	 * @param credentials identity of the credentials which the requests are authenticated with
+	 *     later on, e.g. {@link KeyFlowAuthenticator#getServiceAccountIdentity()}, or null
+	 */
+	public ResponseCacheInterceptor(ResponseCache cache, String credentials) {
+		this.cache = cache;
+		this.credentials = credentials;
+	}
+
+	@NotNull @Override
+	public Response intercept(Chain chain) throws IOException {
+		Request request = chain.request();
+		String method = request.method();
+		if ("GET".equals(method)) {
+			return cachedGet(chain, request);
+		}
+		if ("HEAD".equals(method)) {
+			return chain.proceed(request);
+		}
+		try {
+			return chain.proceed(request);
+		} finally {
+			HttpUrl url = request.url();
+			cache.invalidate(origin(url), url.encodedPath());
+		}
+	}
+
+	private Response cachedGet(Chain chain, Request request) throws IOException {
+		HttpUrl url = request.url();
+		long ttlNanos = cache.getTtlNanos(url.encodedPath());
+		if (ttlNanos <= 0 || request.cacheControl().noStore()) {
+			return chain.proceed(request);
+		}
+
+		String key = key(request);
+		if (!request.cacheControl().noCache()) {
+			CachedResponse cached = cache.get(key);
+			if (cached != null) {
+				return cached.toResponse(request);
+			}
+		}
+
+		long generation = cache.getGeneration();
+		Response response = chain.proceed(request);
+		ResponseBody body = response.body();
+		if (response.code() != HttpURLConnection.HTTP_OK
+				|| body == null
+				|| response.cacheControl().noStore()
+				|| isTooLarge(body)) {
+			return response;
+		}
+		MediaType contentType = body.contentType();
+		byte[] bytes = body.bytes();
+		cache.put(
+				key,
+				origin(url),
+				url.encodedPath(),
+				CachedResponse.of(response, contentType, bytes),
+				ttlNanos,
+				generation);
+		// the original body has been consumed
+		return response.newBuilder().body(ResponseBody.create(bytes, contentType)).build();
+	}
+
+	/**
+	 * Checks whether a body is larger than the maximum weight of the cache. Bodies of unknown
+	 * length, e.g. chunked list responses, are buffered up to the maximum weight only; the buffered
+	 * part of a larger body stays in its source, so the body is streamed to the caller unchanged.
+	 */
+	private boolean isTooLarge(ResponseBody body) throws IOException {
+		long maxWeight = cache.getMaxWeight();
+		long length = body.contentLength();
+		if (length >= 0) {
+			return length > maxWeight;
+		}
+		return maxWeight < Long.MAX_VALUE && body.source().request(maxWeight + 1);
+	}
+
+	private String key(Request request) {
+		// keeps the responses of different credentials apart, as a cache may be shared between
+		// API clients of several service accounts
+		return request.url() + "\n" + credentials + "\n" + request.header("Authorization");
+	}
+
+	private static String origin(HttpUrl url) {
+		return url.scheme() + "://" + url.host() + ":" + url.port();
+	}
+}
@@ -0,0 +1,60 @@
+package cloud.stackit.sdk.core.catalog;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * In-memory index of the items of a {@link ReferenceCatalog} by a key, e.g. the name. Lookups
+ * always use the current items of the catalog, the index is rebuilt on first use after every
+ * refresh.
+ *
+ * @param <K> Type of the keys
+ * @param <T> Type of the items
+ */
+public final class CatalogIndex<K, T> {
+	private final ReferenceCatalog<T> catalog;
+	private final Function<? super T, ? extends K> keyFunction;
+
+	/* default */ CatalogIndex(
+			ReferenceCatalog<T> catalog, Function<? super T, ? extends K> keyFunction) {
+		this.catalog = catalog;
+		this.keyFunction = keyFunction;
+	}
+
+	/**
+	 * Returns the first item with the given key.
+	 *
+	 * @param key key of the item
+	 * @return the item or null if no item has the key
+	 */
+	public T get(K key) {
+		List<T> items = getAll(key);
+		return items.isEmpty() ? null : items.get(0);
+	}
+
+	/**
+	 * Returns all items with the given key, in the order of the catalog.
+	 *
+	 * @param key key of the items
+	 * @return unmodifiable list of the items, empty if no item has the key
+	 */
+	public List<T> getAll(K key) {
+		List<T> items = catalog.snapshot().lookup(this, key);
+		return items == null ? Collections.<T>emptyList() : items;
+	}
+
+	/**
+	 * Returns the keys of all items.
+	 *
+	 * @return unmodifiable set of the keys
+	 */
+	public Set<K> keys() {
+		return catalog.snapshot().keys(this);
+	}
+
+	/* default */ K key(T item) {
+		return keyFunction.apply(item);
+	}
+}
@@ -0,0 +1,18 @@
+package cloud.stackit.sdk.core.catalog;
+
+import cloud.stackit.sdk.core.exception.ApiException;
+import java.util.List;
+
+/**
+ * Loads all items of a {@link ReferenceCatalog}, e.g. with a list call.
+ *
+ * @param <T> Type of the items
+ */
+@FunctionalInterface
+public interface CatalogLoader<T> {
+	/**
+	 * @return all items, may be null if there are none
+	 * @throws ApiException if the API call fails
+	 */
+	List<T> load() throws ApiException;
+}
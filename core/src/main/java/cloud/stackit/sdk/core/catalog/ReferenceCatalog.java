@@ -0,0 +1,328 @@
+package cloud.stackit.sdk.core.catalog;
+
+import cloud.stackit.sdk.core.exception.ApiException;
+import cloud.stackit.sdk.core.exception.UncheckedApiException;
+import cloud.stackit.sdk.core.wait.ScheduleExecutorSingleton;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * In-memory catalog of reference data which changes rarely, e.g. machine types, images or plans.
+ * After the items are loaded once, lookups are answered from memory without any API call.
+ *
+ * <p>The items are loaded on first access, which blocks until the {@link CatalogLoader} returns.
+ * Once they are older than the refresh interval, the next access refreshes them in the background
+ * and keeps returning the current items until the refresh is done (refresh-ahead). If the
+ * refresh fails, the current items are kept and the refresh is retried after at most a minute.
+ *
+ * <p>Items can be looked up by any key via a {@link CatalogIndex}, e.g. by name or by the number
+ * of vCPUs of a machine type. If a persistence file is set, the items are written to it after
+ * every load and read from it on first access, so a new process starts with the items of the
+ * previous one instead of waiting for the first load.
+ *
+ * @param <T> Type of the items
+ */
+@SuppressWarnings({"PMD.AvoidCatchingGenericException", "PMD.AvoidSynchronizedStatement"})
+public class ReferenceCatalog<T> {
+	private static final long MAX_RETRY_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+	private final CatalogLoader<T> loader;
+	private final LongSupplier clock;
+	private final Object initialLoadLock = new Object();
+	private final AtomicBoolean refreshing = new AtomicBoolean(false);
+	@SuppressWarnings("PMD.AvoidUsingVolatile")
+	private volatile Snapshot<T> snapshot;
+	@SuppressWarnings("PMD.AvoidUsingVolatile")
+	private volatile long nextRefreshMillis;
+
+	private long refreshIntervalMillis;
+	private Executor executor;
+	private Path persistenceFile;
+	private Gson gson;
+	private Type listType;
+
+	/**
+	 * Creates a catalog which loads its items with the given loader on first access.
+	 *
+	 * @param loader loads all items
+	 */
+	public ReferenceCatalog(CatalogLoader<T> loader) {
+		this(loader, System::currentTimeMillis);
+	}
+
+	/* default */ ReferenceCatalog(CatalogLoader<T> loader, LongSupplier clock) {
+		this.loader = loader;
+		this.clock = clock;
+		this.refreshIntervalMillis = TimeUnit.HOURS.toMillis(1);
+	}
+
+	/**
+	 * SetRefreshInterval sets the age of the items after which they are refreshed in the
+	 * background on the next access. Defaults to one hour.
+	 *
+	 * @param duration
+	 * @param unit
+	 */
+	public void setRefreshInterval(long duration, TimeUnit unit) {
+		this.refreshIntervalMillis = unit.toMillis(duration);
+		Snapshot<T> current = snapshot;
+		if (current != null) {
+			nextRefreshMillis = current.loadedAtMillis + refreshIntervalMillis;
+		}
+	}
+
+	/**
+	 * SetExecutor sets the executor which runs the background refreshes. By default, the check
+	 * executor of the {@link ScheduleExecutorSingleton} is used.
+	 *
+	 * @param executor
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * SetPersistenceFile sets the file the items are written to after every load and read from on
+	 * first access. If the file can't be read, the items are loaded with the loader instead.
+	 *
+	 * @param file file to persist the items in, its directory is created if needed
+	 * @param gson Gson instance which (de)serializes the items, e.g. {@code JSON.getGson()} of the
+	 *     service
+	 * @param itemType Type of the items, e.g. {@code MachineType.class}
+	 */
+	public void setPersistenceFile(Path file, Gson gson, Type itemType) {
+		this.persistenceFile = file;
+		this.gson = gson;
+		this.listType = TypeToken.getParameterized(List.class, itemType).getType();
+	}
+
+	/**
+	 * Creates an index of the items by the given key. Items with a null key aren't indexed.
+	 *
+	 * @param keyFunction returns the key of an item, e.g. {@code MachineType::getName}
+	 * @param <K> Type of the keys
+	 * @return the index
+	 */
+	public <K> CatalogIndex<K, T> index(Function<? super T, ? extends K> keyFunction) {
+		return new CatalogIndex<>(this, keyFunction);
+	}
+
+	/**
+	 * Returns all items.
+	 *
+	 * @return unmodifiable list of the items
+	 * @throws UncheckedApiException if the items have to be loaded and the API call fails
+	 */
+	public List<T> getAll() {
+		return snapshot().items;
+	}
+
+	/**
+	 * Returns all items matching the predicate, e.g. all machine types with at least 4 vCPUs.
+	 *
+	 * @param predicate predicate the items have to match
+	 * @return the matching items, in the order of the catalog
+	 * @throws UncheckedApiException if the items have to be loaded and the API call fails
+	 */
+	public List<T> find(Predicate<? super T> predicate) {
+		List<T> result = new ArrayList<>();
+		for (T item : snapshot().items) {
+			if (predicate.test(item)) {
+				result.add(item);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns when the current items were loaded, which may be before the process was started if
+	 * they were read from the persistence file.
+	 *
+	 * @return epoch milliseconds of the last load, 0 if the items weren't loaded yet
+	 */
+	public long getLoadedAtMillis() {
+		Snapshot<T> current = snapshot;
+		return current == null ? 0 : current.loadedAtMillis;
+	}
+
+	/**
+	 * Loads the items with the loader and replaces the current items.
+	 *
+	 * @throws ApiException if the API call fails, the current items are kept in this case
+	 */
+	public void refresh() throws ApiException {
+		List<T> items = loader.load();
+		Snapshot<T> loaded = new Snapshot<>(items, clock.getAsLong());
+		publish(loaded);
+		persist(loaded);
+	}
+
+	/* default */ Snapshot<T> snapshot() {
+		Snapshot<T> current = snapshot;
+		if (current == null) {
+			current = initialSnapshot();
+		}
+		if (clock.getAsLong() >= nextRefreshMillis) {
+			refreshInBackground();
+		}
+		return current;
+	}
+
+	private Snapshot<T> initialSnapshot() {
+		synchronized (initialLoadLock) {
+			if (snapshot == null) {
+				Snapshot<T> persisted = readPersisted();
+				if (persisted == null) {
+					try {
+						refresh();
+					} catch (ApiException e) {
+						throw new UncheckedApiException(e);
+					}
+				} else {
+					// refreshed in the background right away if the persisted items are too old
+					publish(persisted);
+				}
+			}
+			return snapshot;
+		}
+	}
+
+	private void publish(Snapshot<T> loaded) {
+		snapshot = loaded;
+		nextRefreshMillis = loaded.loadedAtMillis + refreshIntervalMillis;
+	}
+
+	private void refreshInBackground() {
+		if (!refreshing.compareAndSet(false, true)) {
+			return;
+		}
+		Executor refreshExecutor =
+				executor == null
+						? ScheduleExecutorSingleton.getInstance().getCheckExecutor()
+						: executor;
+		try {
+			refreshExecutor.execute(
+					() -> {
+						try {
+							refresh();
+						} catch (ApiException | RuntimeException e) {
+							// keep the current items and try again later
+							nextRefreshMillis = clock.getAsLong() + retryDelayMillis();
+						} finally {
+							refreshing.set(false);
+						}
+					});
+		} catch (RejectedExecutionException e) {
+			refreshing.set(false);
+		}
+	}
+
+	private long retryDelayMillis() {
+		return Math.min(refreshIntervalMillis, MAX_RETRY_DELAY_MILLIS);
+	}
+
+	private Snapshot<T> readPersisted() {
+		if (persistenceFile == null || !Files.isRegularFile(persistenceFile)) {
+			return null;
+		}
+		try (Reader reader = Files.newBufferedReader(persistenceFile, StandardCharsets.UTF_8)) {
+			JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
+			List<T> items = gson.fromJson(json.get("items"), listType);
+			return new Snapshot<>(items, json.get("loadedAt").getAsLong());
+		} catch (IOException | RuntimeException e) {
+			// the file is replaced by the next load
+			return null;
+		}
+	}
+
+	private void persist(Snapshot<T> loaded) {
+		if (persistenceFile == null) {
+			return;
+		}
+		JsonObject json = new JsonObject();
+		json.addProperty("loadedAt", loaded.loadedAtMillis);
+		json.add("items", gson.toJsonTree(loaded.items, listType));
+		Path tempFile = persistenceFile.resolveSibling(persistenceFile.getFileName() + ".tmp");
+		try {
+			Path directory = persistenceFile.toAbsolutePath().getParent();
+			if (directory != null) {
+				Files.createDirectories(directory);
+			}
+			Files.write(tempFile, gson.toJson(json).getBytes(StandardCharsets.UTF_8));
+			// readers never see a partially written file
+			Files.move(
+					tempFile,
+					persistenceFile,
+					StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException ignored) {
+			// the items are persisted again by the next load
+		}
+	}
+
+	/** Immutable state of the catalog after a load, with the indexes built on first use. */
+	/* default */ static final class Snapshot<T> {
+		private final List<T> items;
+		private final long loadedAtMillis;
+		private final Map<CatalogIndex<?, T>, Map<Object, List<T>>> indexes =
+				new ConcurrentHashMap<>();
+
+		/* default */ Snapshot(List<T> items, long loadedAtMillis) {
+			this.items =
+					items == null
+							? Collections.<T>emptyList()
+							: Collections.unmodifiableList(new ArrayList<>(items));
+			this.loadedAtMillis = loadedAtMillis;
+		}
+
+		/* default */ <K> List<T> lookup(CatalogIndex<K, T> index, K key) {
+			return index(index).get(key);
+		}
+
+		@SuppressWarnings("unchecked")
+		/* default */ <K> Set<K> keys(CatalogIndex<K, T> index) {
+			return (Set<K>) Collections.unmodifiableSet(index(index).keySet());
+		}
+
+		private Map<Object, List<T>> index(CatalogIndex<?, T> index) {
+			return indexes.computeIfAbsent(index, this::build);
+		}
+
+		private Map<Object, List<T>> build(CatalogIndex<?, T> index) {
+			LinkedHashMap<Object, List<T>> map = new LinkedHashMap<>();
+			for (T item : items) {
+				Object key = index.key(item);
+				if (key != null) {
+					map.computeIfAbsent(key, k -> new ArrayList<>(1)).add(item);
+				}
+			}
+			for (Map.Entry<Object, List<T>> entry : map.entrySet()) {
+				entry.setValue(Collections.unmodifiableList(entry.getValue()));
+			}
+			return map;
+		}
+	}
+}
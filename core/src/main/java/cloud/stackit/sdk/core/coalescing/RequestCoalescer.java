@@ -0,0 +1,94 @@
+package cloud.stackit.sdk.core.coalescing;
+
+import cloud.stackit.sdk.core.cache.CachedResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces identical concurrent GET requests, used by the {@link RequestCoalescingInterceptor}.
+ * API clients use it if it is set via {@link
+ * cloud.stackit.sdk.core.config.CoreConfiguration#requestCoalescer(RequestCoalescer)}.
+ *
+ * <p>While a GET request is in flight, identical requests, i.e. requests with the same URL and the
+ * same credentials, don't hit the network but wait for its response. Every waiting request gets its
+ * own copy of the response, so every caller deserializes its own model objects. If the request
+ * fails, the waiting requests fail as well.
+ *
+ * <p>Responses with a body larger than the maximum body size or of unknown length, e.g. chunked
+ * responses, aren't shared but streamed to the caller, the waiting requests are sent on their own
+ * in this case.
+ *
+ * <p>The requests are coalesced per service account of the API client, so a coalescer may be
+ * shared between API clients with different credentials. API clients with a custom {@link
+ * okhttp3.OkHttpClient} authenticate the requests on their own; their requests are only kept apart
+ * by the {@code Authorization} header set on the request.
+ */
+public class RequestCoalescer {
+	private final long maxBodySize;
+	private final ConcurrentMap<String, CompletableFuture<CachedResponse>> inFlight =
+			new ConcurrentHashMap<>();
+	private final LongAdder coalescedCount = new LongAdder();
+
+	/** Creates a coalescer which shares responses with a body of up to 10 MiB. */
+	public RequestCoalescer() {
+		this(10L * 1024 * 1024);
+	}
+
+	/**
+	 * Creates a coalescer with the given maximum body size.
+	 *
+	 * @param maxBodySize maximum size of the shared response bodies in bytes, at least 0
+	 */
+	public RequestCoalescer(long maxBodySize) {
+		if (maxBodySize < 0) {
+			throw new IllegalArgumentException("Max body size must not be negative");
+		}
+		this.maxBodySize = maxBodySize;
+	}
+
+	public long getMaxBodySize() {
+		return maxBodySize;
+	}
+
+	/**
+	 * Returns the number of requests which were answered with the response of an identical
+	 * request instead of hitting the network.
+	 *
+	 * @return coalesced count
+	 */
+	public long getCoalescedCount() {
+		return coalescedCount.sum();
+	}
+
+	/**
+	 * Returns the number of distinct requests which are currently in flight.
+	 *
+	 * @return in-flight count
+	 */
+	public int getInFlightCount() {
+		return inFlight.size();
+	}
+
+	/**
+	 * Registers a request as in flight, unless an identical request is in flight already.
+	 *
+	 * @param key key of the request
+	 * @param call completed with the response of the request
+	 * @return the call of the identical request which is in flight, or null if the request was
+	 *     registered
+	 */
+	/* default */ CompletableFuture<CachedResponse> join(
+			String key, CompletableFuture<CachedResponse> call) {
+		return inFlight.putIfAbsent(key, call);
+	}
+
+	/* default */ void leave(String key, CompletableFuture<CachedResponse> call) {
+		inFlight.remove(key, call);
+	}
+
+	/* default */ void coalesced() {
+		coalescedCount.increment();
+	}
+}
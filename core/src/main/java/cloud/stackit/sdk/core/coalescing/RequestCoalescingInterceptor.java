@@ -0,0 +1,144 @@
+package cloud.stackit.sdk.core.coalescing;
+
+import cloud.stackit.sdk.core.KeyFlowAuthenticator;
+import cloud.stackit.sdk.core.cache.CachedResponse;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Application interceptor which lets only one of several identical concurrent GET requests hit the
+ * network and answers the others with a copy of its response, see {@link RequestCoalescer}.
+ *
+ * <p>Requests are only coalesced if they have the same URL, the same credentials given to the
+ * interceptor and the same {@code Authorization} header. The header is only known if the
+ * interceptor is added after the interceptors which authenticate the requests; an {@link
+ * okhttp3.Authenticator} adds it below the application interceptors, so the credentials have to
+ * be given to the interceptor then:
+ *
+ * <pre>{@code
+ * OkHttpClient.Builder builder = httpClient.newBuilder();
+ * String credentials = authenticator.getServiceAccountIdentity();
+ * builder.addInterceptor(new RequestCoalescingInterceptor(coalescer, credentials));
+ * OkHttpClient client = builder.build();
+ * }</pre>
+ */
+public class RequestCoalescingInterceptor implements Interceptor {
+	private final RequestCoalescer coalescer;
+	private final String credentials;
+
+	/**
+	 * Creates the interceptor for the given coalescer, for requests which are authenticated with
+	 * the {@code Authorization} header set on the request or with the same credentials.
+	 *
+	 * @param coalescer RequestCoalescer, may be shared between several interceptors
+	 */
+	public RequestCoalescingInterceptor(RequestCoalescer coalescer) {
+		this(coalescer, null);
+	}
+
+	/**
+	 * Creates the interceptor for the given coalescer and credentials.
+	 *
+	 * @param coalescer RequestCoalescer, may be shared between several interceptors
+	 * @param credentials identity of the credentials which the requests are authenticated with,
+	 *     e.g. {@link KeyFlowAuthenticator#getServiceAccountIdentity()}, or null
+	 */
+	public RequestCoalescingInterceptor(RequestCoalescer coalescer, String credentials) {
+		this.coalescer = coalescer;
+		this.credentials = credentials;
+	}
+
+	@NotNull @Override
+	public Response intercept(Chain chain) throws IOException {
+		Request request = chain.request();
+		if (!"GET".equals(request.method())) {
+			return chain.proceed(request);
+		}
+
+		String key = key(request);
+		CompletableFuture<CachedResponse> call = new CompletableFuture<>();
+		CompletableFuture<CachedResponse> inFlight = coalescer.join(key, call);
+		if (inFlight != null) {
+			CachedResponse shared = await(inFlight);
+			if (shared == null) {
+				return chain.proceed(request);
+			}
+			coalescer.coalesced();
+			return shared.toResponse(request);
+		}
+
+		try {
+			return proceed(chain, request, call);
+		} finally {
+			coalescer.leave(key, call);
+			// no-op unless the request failed unexpectedly, the waiting requests are sent on their
+			// own then
+			call.complete(null);
+		}
+	}
+
+	private Response proceed(Chain chain, Request request, CompletableFuture<CachedResponse> call)
+			throws IOException {
+		Response response;
+		try {
+			response = chain.proceed(request);
+		} catch (IOException e) {
+			call.completeExceptionally(e);
+			throw e;
+		}
+		ResponseBody body = response.body();
+		if (body == null) {
+			return response;
+		}
+		// bodies of unknown length, e.g. chunked list responses, are streamed to the caller
+		// instead of buffering them, the waiting requests are sent on their own then
+		long length = body.contentLength();
+		boolean shared = length >= 0 && length <= coalescer.getMaxBodySize();
+		if (!shared) {
+			return response;
+		}
+		MediaType contentType = body.contentType();
+		byte[] bytes;
+		try {
+			bytes = body.bytes();
+		} catch (IOException e) {
+			call.completeExceptionally(e);
+			throw e;
+		}
+		call.complete(CachedResponse.of(response, contentType, bytes));
+		// the original body has been consumed
+		return response.newBuilder().body(ResponseBody.create(bytes, contentType)).build();
+	}
+
+	private static CachedResponse await(CompletableFuture<CachedResponse> inFlight)
+			throws IOException {
+		try {
+			return inFlight.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for an identical request");
+		} catch (ExecutionException e) {
+			throw new IOException("Identical request failed", e.getCause());
+		}
+	}
+
+	private String key(Request request) {
+		// keeps the requests of different credentials apart, as a coalescer may be shared between
+		// API clients of several service accounts
+		return request.method()
+				+ " "
+				+ request.url()
+				+ "\n"
+				+ credentials
+				+ "\n"
+				+ request.header("Authorization");
+	}
+}
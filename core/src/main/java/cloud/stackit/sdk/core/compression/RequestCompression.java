@@ -0,0 +1,103 @@
+package cloud.stackit.sdk.core.compression;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Settings and counters of the gzip compression of request bodies, used by the {@link
+ * RequestCompressionInterceptor}. API clients use it if it is set via {@link
+ * cloud.stackit.sdk.core.config.CoreConfiguration#requestCompression(RequestCompression)}.
+ *
+ * <p>Only bodies of at least the minimum size are compressed, as compressing small bodies costs
+ * more time than it saves. Bodies of unknown size, e.g. streamed JSON bodies, are always
+ * compressed. The compressed body is streamed with chunked transfer encoding while it is
+ * compressed, unless buffering is enabled for servers which require a {@code Content-Length}.
+ */
+public class RequestCompression {
+	private long minSize = 1024;
+	private boolean buffered;
+	private final LongAdder compressedCount = new LongAdder();
+	private final LongAdder uncompressedBytes = new LongAdder();
+	private final LongAdder compressedBytes = new LongAdder();
+
+	/**
+	 * SetMinSize sets the size from which request bodies are compressed. Defaults to 1024 bytes.
+	 *
+	 * @param minSize size in bytes
+	 */
+	public void setMinSize(long minSize) {
+		this.minSize = minSize;
+	}
+
+	public long getMinSize() {
+		return minSize;
+	}
+
+	/**
+	 * SetBuffered sets whether the compressed body is buffered, so it is sent with a {@code
+	 * Content-Length} header instead of chunked transfer encoding. Defaults to false.
+	 *
+	 * @param buffered
+	 */
+	public void setBuffered(boolean buffered) {
+		this.buffered = buffered;
+	}
+
+	public boolean isBuffered() {
+		return buffered;
+	}
+
+	/**
+	 * Checks whether a request body is compressed.
+	 *
+	 * @param contentLength size of the body in bytes, -1 if it is unknown
+	 * @return true if the size is unknown or at least the minimum size
+	 */
+	public boolean shouldCompress(long contentLength) {
+		return contentLength < 0 || contentLength >= minSize;
+	}
+
+	/**
+	 * Returns the number of compressed request bodies. Bodies which are sent again, e.g. when a
+	 * request is retried, count again unless they are buffered.
+	 *
+	 * @return compressed count
+	 */
+	public long getCompressedCount() {
+		return compressedCount.sum();
+	}
+
+	/**
+	 * Returns the total size of the request bodies before the compression.
+	 *
+	 * @return size in bytes
+	 */
+	public long getUncompressedBytes() {
+		return uncompressedBytes.sum();
+	}
+
+	/**
+	 * Returns the total size of the compressed request bodies.
+	 *
+	 * @return size in bytes
+	 */
+	public long getCompressedBytes() {
+		return compressedBytes.sum();
+	}
+
+	/**
+	 * Returns the ratio of the compressed to the uncompressed size of all compressed bodies, e.g.
+	 * 0.25 if the bodies were compressed to a quarter of their size.
+	 *
+	 * @return compression ratio, 1 if no body was compressed yet
+	 */
+	public double getCompressionRatio() {
+		long uncompressed = uncompressedBytes.sum();
+		return uncompressed == 0 ? 1 : (double) compressedBytes.sum() / uncompressed;
+	}
+
+	/* default */ void compressed(long uncompressed, long compressed) {
+		compressedCount.increment();
+		uncompressedBytes.add(uncompressed);
+		compressedBytes.add(compressed);
+	}
+}
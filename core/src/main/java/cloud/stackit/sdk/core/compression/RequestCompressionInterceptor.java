@@ -0,0 +1,115 @@
+package cloud.stackit.sdk.core.compression;
+
+import java.io.IOException;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ForwardingSink;
+import okio.GzipSink;
+import okio.Okio;
+import okio.Sink;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Application interceptor which compresses request bodies with gzip and sets the {@code
+ * Content-Encoding: gzip} header, using the settings of a {@link RequestCompression}.
+ *
+ * <p>The body is compressed while it is written into the connection, so neither the uncompressed
+ * nor the compressed body is held in memory. Only if {@link RequestCompression#setBuffered} is
+ * enabled, the compressed body is buffered once to send it with a {@code Content-Length}. Bodies
+ * smaller than {@link RequestCompression#setMinSize}, duplex bodies and requests which already have
+ * a {@code Content-Encoding} header are sent unchanged.
+ */
+public class RequestCompressionInterceptor implements Interceptor {
+	private final RequestCompression compression;
+
+	/**
+	 * Creates the interceptor for the given settings.
+	 *
+	 * @param compression RequestCompression, may be shared between several interceptors
+	 */
+	public RequestCompressionInterceptor(RequestCompression compression) {
+		this.compression = compression;
+	}
+
+	@NotNull @Override
+	public Response intercept(Chain chain) throws IOException {
+		Request request = chain.request();
+		RequestBody body = request.body();
+		if (body == null
+				|| body.isDuplex()
+				|| request.header("Content-Encoding") != null
+				|| !compression.shouldCompress(body.contentLength())) {
+			return chain.proceed(request);
+		}
+		RequestBody gzipBody = new GzipRequestBody(body, compression);
+		if (compression.isBuffered()) {
+			try (Buffer buffer = new Buffer()) {
+				gzipBody.writeTo(buffer);
+				gzipBody = RequestBody.create(buffer.readByteString(), body.contentType());
+			}
+		}
+		return chain.proceed(
+				request.newBuilder()
+						.header("Content-Encoding", "gzip")
+						.method(request.method(), gzipBody)
+						.build());
+	}
+
+	/* Body which writes the gzip compressed bytes of another body */
+	private static final class GzipRequestBody extends RequestBody {
+		private final RequestBody body;
+		private final RequestCompression compression;
+
+		private GzipRequestBody(RequestBody body, RequestCompression compression) {
+			super();
+			this.body = body;
+			this.compression = compression;
+		}
+
+		@Override
+		public MediaType contentType() {
+			return body.contentType();
+		}
+
+		@Override
+		public long contentLength() {
+			return -1;
+		}
+
+		@Override
+		public boolean isOneShot() {
+			return body.isOneShot();
+		}
+
+		@Override
+		public void writeTo(@NotNull BufferedSink sink) throws IOException {
+			CountingSink compressed = new CountingSink(sink);
+			CountingSink uncompressed = new CountingSink(new GzipSink(compressed));
+			// closing the gzip sink writes the trailer, OkHttp expects the sink to be closed anyway
+			try (BufferedSink gzipSink = Okio.buffer(uncompressed)) {
+				body.writeTo(gzipSink);
+			}
+			compression.compressed(uncompressed.count, compressed.count);
+		}
+	}
+
+	/* Sink which counts the bytes written into it */
+	private static final class CountingSink extends ForwardingSink {
+		private long count;
+
+		private CountingSink(Sink delegate) {
+			super(delegate);
+		}
+
+		@Override
+		public void write(@NotNull Buffer source, long byteCount) throws IOException {
+			super.write(source, byteCount);
+			count += byteCount;
+		}
+	}
+}
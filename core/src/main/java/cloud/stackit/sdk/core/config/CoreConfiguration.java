@@ -1,5 +1,12 @@
 package cloud.stackit.sdk.core.config;
 
+import cloud.stackit.sdk.core.cache.ResponseCache;
+import cloud.stackit.sdk.core.coalescing.RequestCoalescer;
+import cloud.stackit.sdk.core.compression.RequestCompression;
+import cloud.stackit.sdk.core.http.HttpClientFactory;
+import cloud.stackit.sdk.core.metrics.MetricsRecorder;
+import cloud.stackit.sdk.core.ratelimit.RateLimiter;
+import cloud.stackit.sdk.core.retry.RetryPolicy;
 import java.util.Map;
 
 public class CoreConfiguration {
@@ -12,6 +19,17 @@ public class CoreConfiguration {
 	private String credentialsFilePath;
 	private String tokenCustomUrl;
 	private Long tokenExpirationLeeway;
+	private Boolean backgroundTokenRefresh;
+	private Double backgroundTokenRefreshFraction;
+	private Boolean preemptiveAuthentication;
+	private Boolean sharedTokenCache;
+	private ResponseCache responseCache;
+	private RequestCoalescer requestCoalescer;
+	private RateLimiter rateLimiter;
+	private RetryPolicy retryPolicy;
+	private MetricsRecorder metricsRecorder;
+	private HttpClientFactory httpClientFactory;
+	private RequestCompression requestCompression;
 
 	public Map<String, String> getDefaultHeader() {
 		return defaultHeader;
@@ -49,6 +67,50 @@ public class CoreConfiguration {
 		return tokenExpirationLeeway;
 	}
 
+	public Boolean getBackgroundTokenRefresh() {
+		return backgroundTokenRefresh;
+	}
+
+	public Double getBackgroundTokenRefreshFraction() {
+		return backgroundTokenRefreshFraction;
+	}
+
+	public Boolean getPreemptiveAuthentication() {
+		return preemptiveAuthentication;
+	}
+
+	public Boolean getSharedTokenCache() {
+		return sharedTokenCache;
+	}
+
+	public ResponseCache getResponseCache() {
+		return responseCache;
+	}
+
+	public RequestCoalescer getRequestCoalescer() {
+		return requestCoalescer;
+	}
+
+	public RateLimiter getRateLimiter() {
+		return rateLimiter;
+	}
+
+	public RetryPolicy getRetryPolicy() {
+		return retryPolicy;
+	}
+
+	public MetricsRecorder getMetricsRecorder() {
+		return metricsRecorder;
+	}
+
+	public HttpClientFactory getHttpClientFactory() {
+		return httpClientFactory;
+	}
+
+	public RequestCompression getRequestCompression() {
+		return requestCompression;
+	}
+
 	public CoreConfiguration defaultHeader(Map<String, String> defaultHeader) {
 		this.defaultHeader = defaultHeader;
 		return this;
@@ -93,4 +155,59 @@ public class CoreConfiguration {
 		this.tokenExpirationLeeway = tokenExpirationLeeway;
 		return this;
 	}
+
+	public CoreConfiguration backgroundTokenRefresh(Boolean backgroundTokenRefresh) {
+		this.backgroundTokenRefresh = backgroundTokenRefresh;
+		return this;
+	}
+
+	public CoreConfiguration backgroundTokenRefreshFraction(Double backgroundTokenRefreshFraction) {
+		this.backgroundTokenRefreshFraction = backgroundTokenRefreshFraction;
+		return this;
+	}
+
+	public CoreConfiguration preemptiveAuthentication(Boolean preemptiveAuthentication) {
+		this.preemptiveAuthentication = preemptiveAuthentication;
+		return this;
+	}
+
+	public CoreConfiguration sharedTokenCache(Boolean sharedTokenCache) {
+		this.sharedTokenCache = sharedTokenCache;
+		return this;
+	}
+
+	public CoreConfiguration responseCache(ResponseCache responseCache) {
+		this.responseCache = responseCache;
+		return this;
+	}
+
+	public CoreConfiguration requestCoalescer(RequestCoalescer requestCoalescer) {
+		this.requestCoalescer = requestCoalescer;
+		return this;
+	}
+
+	public CoreConfiguration rateLimiter(RateLimiter rateLimiter) {
+		this.rateLimiter = rateLimiter;
+		return this;
+	}
+
+	public CoreConfiguration retryPolicy(RetryPolicy retryPolicy) {
+		this.retryPolicy = retryPolicy;
+		return this;
+	}
+
+	public CoreConfiguration metricsRecorder(MetricsRecorder metricsRecorder) {
+		this.metricsRecorder = metricsRecorder;
+		return this;
+	}
+
+	public CoreConfiguration httpClientFactory(HttpClientFactory httpClientFactory) {
+		this.httpClientFactory = httpClientFactory;
+		return this;
+	}
+
+	public CoreConfiguration requestCompression(RequestCompression requestCompression) {
+		this.requestCompression = requestCompression;
+		return this;
+	}
 }
@@ -0,0 +1,18 @@
+package cloud.stackit.sdk.core.exception;
+
+/**
+ * Unchecked wrapper of an {@link ApiException}, thrown where the API call is made behind an
+ * interface which does not allow checked exceptions, e.g. an {@link java.util.Iterator}.
+ */
+public class UncheckedApiException extends RuntimeException {
+	// Created with serialver
+	private static final long serialVersionUID = -6120356043717548293L;
+
+	public UncheckedApiException(ApiException cause) {
+		super(cause.getMessage(), cause);
+	}
+
+	public ApiException getApiException() {
+		return (ApiException) getCause();
+	}
+}
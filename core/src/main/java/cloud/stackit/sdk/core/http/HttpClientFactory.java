@@ -0,0 +1,208 @@
+package cloud.stackit.sdk.core.http;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * Factory of one shared, tunable {@link OkHttpClient}. API clients use it if it is set via {@link
+ * cloud.stackit.sdk.core.config.CoreConfiguration#httpClientFactory(HttpClientFactory)}.
+ *
+ * <p>Without a factory, every API client creates its own OkHttpClient with its own connection
+ * pool and dispatcher, and the dispatcher runs at most 5 asynchronous requests per host. API
+ * clients configured with the same factory derive their OkHttpClient from the shared one, so they
+ * share the connections, the TLS sessions and the threads of the dispatcher, and the access token
+ * requests of their authenticators do as well.
+ *
+ * <p>The shared client is created on the first call of {@link #getHttpClient()}, so the factory
+ * has to be configured before the first API client is created.
+ */
+public class HttpClientFactory {
+	private int maxIdleConnections = 20;
+	private long keepAliveNanos = TimeUnit.MINUTES.toNanos(5);
+	private int maxRequests = 64;
+	private int maxRequestsPerHost = 32;
+	private boolean http2Enabled = true;
+	private long connectTimeoutNanos = TimeUnit.SECONDS.toNanos(10);
+	private long readTimeoutNanos = TimeUnit.SECONDS.toNanos(10);
+	private long writeTimeoutNanos = TimeUnit.SECONDS.toNanos(10);
+	private long callTimeoutNanos;
+
+	@SuppressWarnings("PMD.AvoidUsingVolatile")
+	private volatile OkHttpClient httpClient;
+
+	/**
+	 * SetMaxIdleConnections sets how many idle connections are kept in the pool at most. Defaults
+	 * to 20.
+	 *
+	 * @param maxIdleConnections
+	 * @throws IllegalStateException if the shared client was created already
+	 */
+	public void setMaxIdleConnections(int maxIdleConnections) {
+		checkNotCreated();
+		this.maxIdleConnections = maxIdleConnections;
+	}
+
+	public int getMaxIdleConnections() {
+		return maxIdleConnections;
+	}
+
+	/**
+	 * SetKeepAlive sets how long idle connections are kept in the pool. Defaults to 5 minutes.
+	 *
+	 * @param keepAlive
+	 * @param unit
+	 * @throws IllegalStateException if the shared client was created already
+	 */
+	public void setKeepAlive(long keepAlive, TimeUnit unit) {
+		checkNotCreated();
+		this.keepAliveNanos = unit.toNanos(keepAlive);
+	}
+
+	public long getKeepAliveNanos() {
+		return keepAliveNanos;
+	}
+
+	/**
+	 * SetMaxRequests sets how many asynchronous requests are executed concurrently at most, further
+	 * requests are queued. Defaults to 64. Synchronous requests aren't limited.
+	 *
+	 * @param maxRequests
+	 * @throws IllegalStateException if the shared client was created already
+	 */
+	public void setMaxRequests(int maxRequests) {
+		checkNotCreated();
+		this.maxRequests = maxRequests;
+	}
+
+	public int getMaxRequests() {
+		return maxRequests;
+	}
+
+	/**
+	 * SetMaxRequestsPerHost sets how many asynchronous requests to the same host are executed
+	 * concurrently at most. Defaults to 32, OkHttp's default is 5.
+	 *
+	 * @param maxRequestsPerHost
+	 * @throws IllegalStateException if the shared client was created already
+	 */
+	public void setMaxRequestsPerHost(int maxRequestsPerHost) {
+		checkNotCreated();
+		this.maxRequestsPerHost = maxRequestsPerHost;
+	}
+
+	public int getMaxRequestsPerHost() {
+		return maxRequestsPerHost;
+	}
+
+	/**
+	 * SetHttp2Enabled sets whether HTTP/2 is preferred if the server supports it, so concurrent
+	 * requests are multiplexed over a single connection. Otherwise, only HTTP/1.1 is used. Defaults
+	 * to true.
+	 *
+	 * @param http2Enabled
+	 * @throws IllegalStateException if the shared client was created already
+	 */
+	public void setHttp2Enabled(boolean http2Enabled) {
+		checkNotCreated();
+		this.http2Enabled = http2Enabled;
+	}
+
+	public boolean isHttp2Enabled() {
+		return http2Enabled;
+	}
+
+	/**
+	 * SetTimeouts sets the connect, read and write timeouts. A timeout of 0 disables it. Defaults
+	 * to 10 seconds each.
+	 *
+	 * @param connectTimeout
+	 * @param readTimeout
+	 * @param writeTimeout
+	 * @param unit
+	 * @throws IllegalStateException if the shared client was created already
+	 */
+	public void setTimeouts(
+			long connectTimeout, long readTimeout, long writeTimeout, TimeUnit unit) {
+		checkNotCreated();
+		this.connectTimeoutNanos = unit.toNanos(connectTimeout);
+		this.readTimeoutNanos = unit.toNanos(readTimeout);
+		this.writeTimeoutNanos = unit.toNanos(writeTimeout);
+	}
+
+	public long getConnectTimeoutNanos() {
+		return connectTimeoutNanos;
+	}
+
+	public long getReadTimeoutNanos() {
+		return readTimeoutNanos;
+	}
+
+	public long getWriteTimeoutNanos() {
+		return writeTimeoutNanos;
+	}
+
+	/**
+	 * SetCallTimeout sets the timeout of a complete call, including the retries and redirects of
+	 * OkHttp and reading the response body. Defaults to 0, i.e. no timeout.
+	 *
+	 * @param callTimeout
+	 * @param unit
+	 * @throws IllegalStateException if the shared client was created already
+	 */
+	public void setCallTimeout(long callTimeout, TimeUnit unit) {
+		checkNotCreated();
+		this.callTimeoutNanos = unit.toNanos(callTimeout);
+	}
+
+	public long getCallTimeoutNanos() {
+		return callTimeoutNanos;
+	}
+
+	/**
+	 * Returns the shared client, and creates it on the first call. Derive the clients which need
+	 * additional interceptors or settings via {@link OkHttpClient#newBuilder()}, so they keep
+	 * sharing the connection pool and the dispatcher.
+	 *
+	 * @return the shared OkHttpClient
+	 */
+	@SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
+	public synchronized OkHttpClient getHttpClient() {
+		if (httpClient == null) {
+			httpClient = createHttpClient();
+		}
+		return httpClient;
+	}
+
+	private OkHttpClient createHttpClient() {
+		Dispatcher dispatcher = new Dispatcher();
+		dispatcher.setMaxRequests(maxRequests);
+		dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+		List<Protocol> protocols =
+				http2Enabled
+						? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+						: Collections.singletonList(Protocol.HTTP_1_1);
+		return new OkHttpClient.Builder()
+				.connectionPool(
+						new ConnectionPool(
+								maxIdleConnections, keepAliveNanos, TimeUnit.NANOSECONDS))
+				.dispatcher(dispatcher)
+				.protocols(protocols)
+				.connectTimeout(connectTimeoutNanos, TimeUnit.NANOSECONDS)
+				.readTimeout(readTimeoutNanos, TimeUnit.NANOSECONDS)
+				.writeTimeout(writeTimeoutNanos, TimeUnit.NANOSECONDS)
+				.callTimeout(callTimeoutNanos, TimeUnit.NANOSECONDS)
+				.build();
+	}
+
+	private void checkNotCreated() {
+		if (httpClient != null) {
+			throw new IllegalStateException("The shared http client was created already");
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package cloud.stackit.sdk.core.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+import okio.ByteString;
+
+/**
+ * Response of an API call whose body is not deserialized, e.g. to forward it unchanged. The body
+ * is streamed from the connection, so it can be read only once, and the response has to be closed
+ * unless the body is read with {@link #getByteString()}.
+ */
+public class RawResponse implements Closeable {
+	private final int statusCode;
+	private final Map<String, List<String>> headers;
+	private final ResponseBody body;
+
+	/**
+	 * Creates a response.
+	 *
+	 * @param statusCode HTTP status code
+	 * @param headers HTTP headers
+	 * @param body body of the response, or null if it has none
+	 */
+	public RawResponse(int statusCode, Map<String, List<String>> headers, ResponseBody body) {
+		this.statusCode = statusCode;
+		this.headers = headers;
+		this.body = body != null ? body : ResponseBody.create(new byte[0], null);
+	}
+
+	public int getStatusCode() {
+		return statusCode;
+	}
+
+	public Map<String, List<String>> getHeaders() {
+		return headers;
+	}
+
+	/**
+	 * Returns the length of the body.
+	 *
+	 * @return number of bytes, or -1 if it's unknown
+	 */
+	public long getContentLength() {
+		return body.contentLength();
+	}
+
+	/**
+	 * Returns the body as source, whose buffered segments can be moved to a sink without copying
+	 * them, e.g. with {@link BufferedSource#readAll}.
+	 *
+	 * @return source of the body
+	 */
+	public BufferedSource getSource() {
+		return body.source();
+	}
+
+	/**
+	 * Returns the body as stream.
+	 *
+	 * @return stream of the body
+	 */
+	public InputStream getInputStream() {
+		return body.byteStream();
+	}
+
+	/**
+	 * Reads the whole body and closes the response.
+	 *
+	 * @return bytes of the body
+	 * @throws IOException if the body can't be read
+	 */
+	public ByteString getByteString() throws IOException {
+		try (ResponseBody closed = body) {
+			return closed.source().readByteString();
+		}
+	}
+
+	@Override
+	public void close() {
+		body.close();
+	}
+}
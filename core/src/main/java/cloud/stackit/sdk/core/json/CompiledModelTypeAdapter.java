@@ -0,0 +1,412 @@
+package cloud.stackit.sdk.core.json;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Base class of the compiled type adapters which are generated into the model classes of the
+ * services. The generated subclasses create their model with its constructor and read and write
+ * its fields directly, so no reflection is involved in (de)serializing a model.
+ *
+ * <p>Models are read in a single pass and validated like the generated {@code
+ * CustomTypeAdapterFactory} adapters validate them: required fields have to be present, known
+ * fields have to be of the expected JSON type and unknown fields are stored as additional
+ * properties, or rejected if the model doesn't support them. Models are written like the generated
+ * adapters write them, and in a single pass as well unless an additional property replaces a known
+ * field.
+ *
+ * @param <T> model class
+ */
+public abstract class CompiledModelTypeAdapter<T> extends TypeAdapter<T> {
+	/** Result of {@link #readField} for fields which aren't known fields of the model. */
+	protected static final int UNKNOWN_FIELD = -1;
+
+	/** Result of {@link #readField} for optional fields and required fields which are null. */
+	protected static final int OPTIONAL_FIELD = 0;
+
+	// the present required fields are tracked as bits of an int
+	private static final int MAX_REQUIRED_FIELDS = Integer.SIZE - 1;
+
+	protected final Gson gson;
+	private final String modelName;
+	private final String[] requiredFields;
+	private final int allRequiredFields;
+	private final TypeAdapter<JsonElement> elementAdapter;
+	// whether the names of additional properties are names of known fields
+	private final Map<String, Boolean> knownFields = new ConcurrentHashMap<>();
+	// writes only the known fields, used to build a tree of them
+	private final TypeAdapter<T> fieldsAdapter =
+			new TypeAdapter<T>() {
+				@Override
+				public void write(JsonWriter out, T value) throws IOException {
+					out.beginObject();
+					writeFields(out, value);
+					out.endObject();
+				}
+
+				@Override
+				public T read(JsonReader in) {
+					throw new UnsupportedOperationException(
+							"Only used to write the fields of a model");
+				}
+			};
+
+	/**
+	 * Creates the adapter of a model.
+	 *
+	 * @param gson Gson instance used for the fields of the model
+	 * @param modelName simple name of the model class, used for error messages
+	 * @param requiredFields JSON names of the required fields, in the order of the indexes passed
+	 *     to {@link #requiredField}
+	 */
+	protected CompiledModelTypeAdapter(Gson gson, String modelName, String... requiredFields) {
+		super();
+		if (requiredFields.length > MAX_REQUIRED_FIELDS) {
+			throw new IllegalArgumentException(
+					"At most " + MAX_REQUIRED_FIELDS + " required fields are supported");
+		}
+		this.gson = gson;
+		this.modelName = modelName;
+		this.requiredFields = requiredFields.clone();
+		this.allRequiredFields = (1 << requiredFields.length) - 1;
+		this.elementAdapter = gson.getAdapter(JsonElement.class);
+	}
+
+	/**
+	 * Creates an empty instance of the model.
+	 *
+	 * @return new instance
+	 */
+	protected abstract T newInstance();
+
+	/**
+	 * Reads the value of a field into the instance. Unknown fields must not be consumed.
+	 *
+	 * @param in reader positioned at the value of the field
+	 * @param name JSON name of the field
+	 * @param instance instance to set the field of
+	 * @return {@link #UNKNOWN_FIELD}, {@link #OPTIONAL_FIELD} or the result of {@link
+	 *     #requiredField}
+	 * @throws IOException if the value can't be read
+	 */
+	protected abstract int readField(JsonReader in, String name, T instance)
+			throws IOException;
+
+	/**
+	 * Writes the known fields of the value which are not null.
+	 *
+	 * @param out writer positioned inside of the JSON object of the value
+	 * @param value value to write
+	 * @throws IOException if the fields can't be written
+	 */
+	protected abstract void writeFields(JsonWriter out, T value) throws IOException;
+
+	/**
+	 * Returns the additional properties of a value. Models without additional properties keep the
+	 * default implementation.
+	 *
+	 * @param value value to get the additional properties of
+	 * @return additional properties, may be null
+	 */
+	protected Map<String, Object> getAdditionalProperties(T value) {
+		return Collections.emptyMap();
+	}
+
+	/**
+	 * Stores an unknown field as additional property. Models without additional properties keep
+	 * the default implementation, which rejects unknown fields.
+	 *
+	 * @param instance instance to store the property in
+	 * @param name JSON name of the field
+	 * @param value JSON value of the field
+	 */
+	protected void putAdditionalProperty(T instance, String name, JsonElement value) {
+		throw new IllegalArgumentException(
+				String.format(
+						Locale.ROOT,
+						"The field `%s` in the JSON string is not defined in the `%s` properties. JSON: %s",
+						name,
+						modelName,
+						value));
+	}
+
+	@Override
+	public final T read(JsonReader in) throws IOException {
+		JsonToken token = in.peek();
+		if (token == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		if (token != JsonToken.BEGIN_OBJECT) {
+			throw new IllegalArgumentException(
+					String.format(
+							Locale.ROOT,
+							"Expected a JSON object for %s but got `%s`",
+							modelName,
+							elementAdapter.read(in)));
+		}
+
+		T instance = newInstance();
+		int presentRequiredFields = OPTIONAL_FIELD;
+		in.beginObject();
+		while (in.hasNext()) {
+			String name = in.nextName();
+			int field = readField(in, name, instance);
+			if (field == UNKNOWN_FIELD) {
+				putAdditionalProperty(instance, name, elementAdapter.read(in));
+			} else {
+				presentRequiredFields |= field;
+			}
+		}
+		in.endObject();
+
+		if (presentRequiredFields != allRequiredFields) {
+			throw new IllegalArgumentException(
+					String.format(
+							Locale.ROOT,
+							"The required field `%s` is not found in the JSON string of %s",
+							requiredFields[Integer.numberOfTrailingZeros(~presentRequiredFields)],
+							modelName));
+		}
+		return instance;
+	}
+
+	@Override
+	public final void write(JsonWriter out, T value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+			return;
+		}
+		Map<String, Object> additionalProperties = getAdditionalProperties(value);
+		if (additionalProperties == null || additionalProperties.isEmpty()) {
+			out.beginObject();
+			writeFields(out, value);
+			out.endObject();
+			return;
+		}
+
+		if (replacesKnownField(additionalProperties)) {
+			// additional properties replace known fields of the same name, so the fields are
+			// collected in a tree first
+			JsonObject obj = fieldsAdapter.toJsonTree(value).getAsJsonObject();
+			for (Map.Entry<String, Object> entry : additionalProperties.entrySet()) {
+				obj.add(entry.getKey(), additionalPropertyElement(entry.getValue()));
+			}
+			elementAdapter.write(out, obj);
+			return;
+		}
+
+		out.beginObject();
+		writeFields(out, value);
+		for (Map.Entry<String, Object> entry : additionalProperties.entrySet()) {
+			out.name(entry.getKey());
+			writeAdditionalProperty(out, entry.getValue());
+		}
+		out.endObject();
+	}
+
+	/**
+	 * Returns the result of {@link #readField} for a required field which is present even if its
+	 * value is null. Like for the generated adapters, this applies to numbers, booleans, dates,
+	 * maps and untyped fields.
+	 *
+	 * @param index index of the field in the required fields passed to the constructor
+	 * @return bit of the field in the present required fields
+	 */
+	protected static int requiredField(int index) {
+		return 1 << index;
+	}
+
+	/**
+	 * Returns the result of {@link #readField} for a required field which has to be present and
+	 * not null.
+	 *
+	 * @param index index of the field in the required fields passed to the constructor
+	 * @param value value which was read
+	 * @return {@link #OPTIONAL_FIELD} if the value is null, so the field counts as missing
+	 */
+	protected static int requiredField(int index, Object value) {
+		return value == null ? OPTIONAL_FIELD : requiredField(index);
+	}
+
+	/**
+	 * Reads a string, number, boolean or null value. Strings read by a {@link
+	 * StringPoolTypeAdapter} are pooled if the values of the field are pooled.
+	 *
+	 * @param in reader positioned at the value
+	 * @param name JSON name of the field, used for error messages and the string pool
+	 * @param adapter adapter of the field type
+	 * @param <V> field type
+	 * @return the value
+	 * @throws IOException if the value can't be read
+	 */
+	@SuppressWarnings("unchecked")
+	protected final <V> V readPrimitive(JsonReader in, String name, TypeAdapter<V> adapter)
+			throws IOException {
+		JsonToken token = in.peek();
+		if (token == JsonToken.BEGIN_ARRAY || token == JsonToken.BEGIN_OBJECT) {
+			throw fieldTypeError(in, name, "a primitive type");
+		}
+		if (adapter instanceof StringPoolTypeAdapter) {
+			return (V) ((StringPoolTypeAdapter) adapter).read(in, name);
+		}
+		return readValue(in, adapter);
+	}
+
+	/**
+	 * Reads an array or null value.
+	 *
+	 * @param in reader positioned at the value
+	 * @param name JSON name of the field, used for error messages
+	 * @param adapter adapter of the field type
+	 * @param <V> field type
+	 * @return the value
+	 * @throws IOException if the value can't be read
+	 */
+	protected final <V> V readArray(JsonReader in, String name, TypeAdapter<V> adapter)
+			throws IOException {
+		JsonToken token = in.peek();
+		if (token != JsonToken.BEGIN_ARRAY && token != JsonToken.NULL) {
+			throw fieldTypeError(in, name, "an array");
+		}
+		return readValue(in, adapter);
+	}
+
+	/**
+	 * Reads a value of any JSON type, used for nested models which check the JSON type
+	 * themselves, maps and untyped fields.
+	 *
+	 * @param in reader positioned at the value
+	 * @param adapter adapter of the field type
+	 * @param <V> field type
+	 * @return the value
+	 * @throws IOException if the value can't be read
+	 */
+	protected final <V> V readValue(JsonReader in, TypeAdapter<V> adapter)
+			throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		return adapter.read(in);
+	}
+
+	/**
+	 * Writes a field unless its value is null.
+	 *
+	 * @param out writer positioned inside of the JSON object
+	 * @param name JSON name of the field
+	 * @param value value of the field
+	 * @param adapter adapter of the field type
+	 * @param <V> field type
+	 * @throws IOException if the field can't be written
+	 */
+	protected final <V> void writeField(
+			JsonWriter out, String name, V value, TypeAdapter<V> adapter) throws IOException {
+		if (value != null) {
+			out.name(name);
+			adapter.write(out, value);
+		}
+	}
+
+	/**
+	 * Converts the JSON value of an unknown field the same way as the generated adapters do.
+	 *
+	 * @param name JSON name of the field, used for error messages
+	 * @param value JSON value of the field
+	 * @return String, Number or Boolean for primitives, a List for arrays and a HashMap otherwise
+	 */
+	protected final Object additionalPropertyValue(String name, JsonElement value) {
+		return StreamingModelTypeAdapterFactory.additionalPropertyValue(gson, name, value);
+	}
+
+	/**
+	 * Returns the adapter of a parameterized field type, e.g. {@code List<String>}.
+	 *
+	 * @param rawType raw type, e.g. {@code List.class}
+	 * @param typeArguments type arguments, e.g. {@code String.class}
+	 * @param <V> field type
+	 * @return adapter of the field type
+	 */
+	@SuppressWarnings("unchecked")
+	protected final <V> TypeAdapter<V> getAdapter(Class<?> rawType, Type... typeArguments) {
+		return (TypeAdapter<V>) gson.getAdapter(TypeToken.getParameterized(rawType, typeArguments));
+	}
+
+	private IllegalArgumentException fieldTypeError(JsonReader in, String name, String expected)
+			throws IOException {
+		return new IllegalArgumentException(
+				String.format(
+						Locale.ROOT,
+						"Expected the field `%s` to be %s in the JSON string but got `%s`",
+						name,
+						expected,
+						elementAdapter.read(in)));
+	}
+
+	private boolean replacesKnownField(Map<String, Object> additionalProperties)
+			throws IOException {
+		for (String name : additionalProperties.keySet()) {
+			Boolean known = knownFields.get(name);
+			if (known == null) {
+				known = isKnownField(name);
+				knownFields.put(name, known);
+			}
+			if (known) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isKnownField(String name) throws IOException {
+		// reading null into a scratch instance only consumes the value of known fields
+		JsonReader nullValue = new JsonReader(new StringReader("null"));
+		return readField(nullValue, name, newInstance()) != UNKNOWN_FIELD;
+	}
+
+	// writes the same JSON as the element of additionalPropertyElement, without building it for
+	// primitives
+	private void writeAdditionalProperty(JsonWriter out, Object value) throws IOException {
+		if (value instanceof String) {
+			out.value((String) value);
+		} else if (value instanceof Number) {
+			out.value((Number) value);
+		} else if (value instanceof Boolean) {
+			out.value((Boolean) value);
+		} else if (value instanceof Character) {
+			out.value(value.toString());
+		} else {
+			elementAdapter.write(out, additionalPropertyElement(value));
+		}
+	}
+
+	private JsonElement additionalPropertyElement(Object value) {
+		if (value instanceof String) {
+			return new JsonPrimitive((String) value);
+		} else if (value instanceof Number) {
+			return new JsonPrimitive((Number) value);
+		} else if (value instanceof Boolean) {
+			return new JsonPrimitive((Boolean) value);
+		} else if (value instanceof Character) {
+			return new JsonPrimitive((Character) value);
+		}
+		JsonElement element = gson.toJsonTree(value);
+		// like the generated adapters, only arrays and objects are supported for other types
+		return element.isJsonArray() ? element.getAsJsonArray() : element.getAsJsonObject();
+	}
+}
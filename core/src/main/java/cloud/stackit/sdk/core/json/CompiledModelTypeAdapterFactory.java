@@ -0,0 +1,160 @@
+package cloud.stackit.sdk.core.json;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+
+/**
+ * Gson {@link TypeAdapterFactory} which selects the compiled type adapters of the generated model
+ * classes of a service, see {@link CompiledModelTypeAdapter}.
+ *
+ * <p>The compiled adapters are looked up by the model name through a generated {@link
+ * AdapterProvider}, so neither the lookup nor the adapters use reflection. Models without a
+ * compiled adapter (e.g. oneOf/anyOf wrappers) and, while the compiled adapters are disabled, all
+ * models are handled by the adapters of the factories registered before this one.
+ *
+ * <p>The factory has to be registered <b>after</b> all other model factories, so Gson consults it
+ * first. The compiled and the other adapter of a model are only created when they are needed, so
+ * the adapters which aren't used don't slow down the first use of a model.
+ */
+public class CompiledModelTypeAdapterFactory implements TypeAdapterFactory {
+	private final String modelPackagePrefix;
+	private final AdapterProvider adapterProvider;
+	@SuppressWarnings("PMD.AvoidUsingVolatile")
+	private volatile boolean enabled;
+
+	/** Creates the compiled adapters of the models of a service, generated for every service. */
+	@FunctionalInterface
+	public interface AdapterProvider {
+		/**
+		 * Creates the compiled adapter of a model.
+		 *
+		 * @param gson Gson instance the adapter is created for
+		 * @param modelName simple name of the model class
+		 * @return the adapter or null if the model has no compiled adapter
+		 */
+		TypeAdapter<?> create(Gson gson, String modelName);
+	}
+
+	/**
+	 * Creates a new factory for the models of the given package. The compiled adapters are
+	 * disabled by default.
+	 *
+	 * @param modelPackage package of the generated model classes, e.g. {@code
+	 *     cloud.stackit.sdk.iaas.v2api.model}
+	 * @param adapterProvider creates the compiled adapters of the models
+	 */
+	public CompiledModelTypeAdapterFactory(String modelPackage, AdapterProvider adapterProvider) {
+		this(modelPackage, adapterProvider, false);
+	}
+
+	/**
+	 * Creates a new factory for the models of the given package.
+	 *
+	 * @param modelPackage package of the generated model classes, e.g. {@code
+	 *     cloud.stackit.sdk.iaas.v2api.model}
+	 * @param adapterProvider creates the compiled adapters of the models
+	 * @param enabled true to use the compiled adapters
+	 */
+	public CompiledModelTypeAdapterFactory(
+			String modelPackage, AdapterProvider adapterProvider, boolean enabled) {
+		this.modelPackagePrefix = modelPackage + ".";
+		this.adapterProvider = adapterProvider;
+		this.enabled = enabled;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	@Override
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		Class<? super T> rawType = type.getRawType();
+		String className = rawType.getName();
+		if (!className.startsWith(modelPackagePrefix)
+				|| rawType.isEnum()
+				|| rawType.isInterface()
+				|| Modifier.isAbstract(rawType.getModifiers())) {
+			return null;
+		}
+		String modelName = className.substring(modelPackagePrefix.length());
+		return new SelectingTypeAdapter<>(this, adapterProvider, gson, type, modelName);
+	}
+
+	/** Uses the compiled adapter of a model if enabled and the other adapter otherwise. */
+	/* default */ static final class SelectingTypeAdapter<T> extends TypeAdapter<T> {
+		private final CompiledModelTypeAdapterFactory factory;
+		private final AdapterProvider adapterProvider;
+		private final Gson gson;
+		private final TypeToken<T> type;
+		private final String modelName;
+		// both adapters may be created concurrently by several threads, which is harmless
+		@SuppressWarnings("PMD.AvoidUsingVolatile")
+		private volatile TypeAdapter<T> compiledAdapter;
+		@SuppressWarnings("PMD.AvoidUsingVolatile")
+		private volatile boolean compiledAdapterCreated;
+		@SuppressWarnings("PMD.AvoidUsingVolatile")
+		private volatile TypeAdapter<T> delegateAdapter;
+
+		/* default */ SelectingTypeAdapter(
+				CompiledModelTypeAdapterFactory factory,
+				AdapterProvider adapterProvider,
+				Gson gson,
+				TypeToken<T> type,
+				String modelName) {
+			super();
+			this.factory = factory;
+			this.adapterProvider = adapterProvider;
+			this.gson = gson;
+			this.type = type;
+			this.modelName = modelName;
+		}
+
+		@Override
+		public void write(JsonWriter out, T value) throws IOException {
+			adapter().write(out, value);
+		}
+
+		@Override
+		public T read(JsonReader in) throws IOException {
+			return adapter().read(in);
+		}
+
+		private TypeAdapter<T> adapter() {
+			if (factory.isEnabled()) {
+				TypeAdapter<T> compiled = compiledAdapter();
+				if (compiled != null) {
+					return compiled;
+				}
+			}
+			return delegateAdapter();
+		}
+
+		@SuppressWarnings("unchecked")
+		private TypeAdapter<T> compiledAdapter() {
+			if (!compiledAdapterCreated) {
+				compiledAdapter = (TypeAdapter<T>) adapterProvider.create(gson, modelName);
+				compiledAdapterCreated = true;
+			}
+			return compiledAdapter;
+		}
+
+		private TypeAdapter<T> delegateAdapter() {
+			TypeAdapter<T> adapter = delegateAdapter;
+			if (adapter == null) {
+				adapter = gson.getDelegateAdapter(factory, type);
+				delegateAdapter = adapter;
+			}
+			return adapter;
+		}
+	}
+}
@@ -0,0 +1,149 @@
+package cloud.stackit.sdk.core.json;
+
+import java.time.DateTimeException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Parser of the RFC 3339 timestamps of the API, which reads the common form {@code
+ * 2024-01-31T12:30:00.123Z} (with an optional fraction of up to nine digits and a {@code Z}, {@code
+ * +HH:MM} or {@code +0000} offset) directly from the characters, instead of running a {@link
+ * DateTimeFormatter}. Other timestamps are parsed with {@link
+ * DateTimeFormatter#ISO_OFFSET_DATE_TIME}, so the results and errors are the same.
+ */
+public final class DateTimeParser {
+	private static final int MIN_LENGTH = "2000-01-01T00:00:00Z".length();
+	private static final int FRACTION_START = MIN_LENGTH - 1;
+	private static final int MAX_FRACTION_DIGITS = 9;
+	private static final int[] FRACTION_SCALES = {
+		1_000_000_000, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+	};
+	private static final String UTC_WITHOUT_COLON = "+0000";
+	private static final int OFFSET_LENGTH = "+00:00".length();
+	private static final int MAX_MINUTE = 59;
+	private static final int SECONDS_PER_MINUTE = 60;
+	private static final int SECONDS_PER_HOUR = 3600;
+	private static final int MAX_OFFSET_SECONDS = 18 * SECONDS_PER_HOUR;
+
+	private DateTimeParser() {}
+
+	/**
+	 * Parses an RFC 3339 timestamp.
+	 *
+	 * @param value timestamp, e.g. {@code 2024-01-31T12:30:00Z}
+	 * @return the timestamp
+	 * @throws java.time.format.DateTimeParseException if the value is not a valid timestamp
+	 */
+	public static OffsetDateTime parseOffsetDateTime(String value) {
+		OffsetDateTime dateTime = parseCommonForm(value);
+		if (dateTime != null) {
+			return dateTime;
+		}
+		String text = value;
+		if (text.endsWith(UTC_WITHOUT_COLON)) {
+			text = text.substring(0, text.length() - UTC_WITHOUT_COLON.length()) + "Z";
+		}
+		return OffsetDateTime.parse(text, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+	}
+
+	/* Returns null if the value isn't in the common form or not a valid timestamp */
+	private static OffsetDateTime parseCommonForm(String value) {
+		int length = value.length();
+		if (length < MIN_LENGTH) {
+			return null;
+		}
+		char separator = value.charAt(10);
+		boolean layout =
+				value.charAt(4) == '-'
+						&& value.charAt(7) == '-'
+						&& (separator == 'T' || separator == 't')
+						&& value.charAt(13) == ':'
+						&& value.charAt(16) == ':';
+		int year = digits(value, 0, 4);
+		int month = digits(value, 5, 2);
+		int day = digits(value, 8, 2);
+		int hour = digits(value, 11, 2);
+		int minute = digits(value, 14, 2);
+		int second = digits(value, 17, 2);
+		if (!layout || (year | month | day | hour | minute | second) < 0) {
+			return null;
+		}
+
+		int position = FRACTION_START;
+		int nano = 0;
+		if (value.charAt(position) == '.') {
+			int start = ++position;
+			while (position < length && isDigit(value.charAt(position))) {
+				nano = nano * 10 + value.charAt(position) - '0';
+				position++;
+			}
+			int fractionDigits = position - start;
+			if (fractionDigits == 0 || fractionDigits > MAX_FRACTION_DIGITS) {
+				return null;
+			}
+			nano *= FRACTION_SCALES[fractionDigits];
+		}
+
+		ZoneOffset offset = parseOffset(value, position);
+		if (offset == null) {
+			return null;
+		}
+		try {
+			return OffsetDateTime.of(year, month, day, hour, minute, second, nano, offset);
+		} catch (DateTimeException ignored) {
+			// e.g. February 30th, the formatter reports the error
+			return null;
+		}
+	}
+
+	/* Returns null if the rest of the value isn't a supported offset */
+	private static ZoneOffset parseOffset(String value, int start) {
+		int length = value.length() - start;
+		if (length <= 0) {
+			return null;
+		}
+		char sign = value.charAt(start);
+		if (sign == 'Z' || sign == 'z') {
+			return length == 1 ? ZoneOffset.UTC : null;
+		}
+		if (length == UTC_WITHOUT_COLON.length()) {
+			return value.endsWith(UTC_WITHOUT_COLON) ? ZoneOffset.UTC : null;
+		}
+		boolean layout =
+				length == OFFSET_LENGTH
+						&& (sign == '+' || sign == '-')
+						&& value.charAt(start + 3) == ':';
+		int hours = digits(value, start + 1, 2);
+		int minutes = digits(value, start + 4, 2);
+		if (!layout || hours < 0 || minutes < 0 || minutes > MAX_MINUTE) {
+			return null;
+		}
+		int seconds = hours * SECONDS_PER_HOUR + minutes * SECONDS_PER_MINUTE;
+		if (seconds > MAX_OFFSET_SECONDS) {
+			return null;
+		}
+		return ZoneOffset.ofTotalSeconds(sign == '-' ? -seconds : seconds);
+	}
+
+	/* Returns the number of the given digits, or -1 if one isn't a digit or out of the value */
+	private static int digits(String value, int start, int count) {
+		int end = start + count;
+		if (end > value.length()) {
+			return -1;
+		}
+		int result = 0;
+		for (int i = start; i < end; i++) {
+			char c = value.charAt(i);
+			if (!isDigit(c)) {
+				return -1;
+			}
+			result = result * 10 + c - '0';
+		}
+		return result;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+}
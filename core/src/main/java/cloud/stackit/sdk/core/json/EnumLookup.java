@@ -0,0 +1,42 @@
+package cloud.stackit.sdk.core.json;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lookup table from the values of an enum of the generated model classes to its constants, used by
+ * their {@code fromValue} methods instead of searching all constants.
+ *
+ * @param <E> enum class
+ */
+public final class EnumLookup<E extends Enum<E>> {
+	private final Map<String, E> constants;
+	private final E unknownValue;
+
+	/**
+	 * Creates the lookup table of an enum.
+	 *
+	 * @param values all constants of the enum
+	 * @param unknownValue constant returned for unknown values, e.g. {@code
+	 *     UNKNOWN_DEFAULT_OPEN_API}
+	 */
+	public EnumLookup(E[] values, E unknownValue) {
+		HashMap<String, E> table = new HashMap<>();
+		for (E value : values) {
+			table.put(value.toString(), value);
+		}
+		this.constants = table;
+		this.unknownValue = unknownValue;
+	}
+
+	/**
+	 * Returns the constant of a value.
+	 *
+	 * @param value value of the constant
+	 * @return the constant or the constant for unknown values
+	 */
+	public E fromValue(String value) {
+		E constant = constants.get(value);
+		return constant == null ? unknownValue : constant;
+	}
+}
@@ -0,0 +1,58 @@
+package cloud.stackit.sdk.core.json;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * Gson {@link TypeAdapter} for the enums of the generated model classes. The constants are written
+ * as their value, i.e. their {@code toString()}, and read through an {@link EnumLookup} like the
+ * generated {@code fromValue} methods do.
+ *
+ * @param <E> enum class
+ */
+public class EnumValueTypeAdapter<E extends Enum<E>> extends TypeAdapter<E> {
+	private final EnumLookup<E> lookup;
+
+	/**
+	 * Creates the adapter of an enum.
+	 *
+	 * @param values all constants of the enum
+	 * @param unknownValue constant returned for unknown values, e.g. {@code
+	 *     UNKNOWN_DEFAULT_OPEN_API}
+	 */
+	public EnumValueTypeAdapter(E[] values, E unknownValue) {
+		super();
+		this.lookup = new EnumLookup<>(values, unknownValue);
+	}
+
+	/**
+	 * Returns the constant of a value.
+	 *
+	 * @param value value of the constant
+	 * @return the constant or the constant for unknown values
+	 */
+	public E fromValue(String value) {
+		return lookup.fromValue(value);
+	}
+
+	@Override
+	public void write(JsonWriter out, E value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+		} else {
+			out.value(value.toString());
+		}
+	}
+
+	@Override
+	public E read(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		return fromValue(in.nextString());
+	}
+}
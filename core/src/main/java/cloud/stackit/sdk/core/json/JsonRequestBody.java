@@ -0,0 +1,65 @@
+package cloud.stackit.sdk.core.json;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Request body which writes a value as JSON straight into the connection, instead of serializing
+ * it into a String first. The JSON is the same as {@link Gson#toJson(Object)} returns.
+ *
+ * <p>The size of the body isn't known up front, so it is sent with chunked transfer encoding. The
+ * value is serialized again whenever the body is written, e.g. when the request is retried, so it
+ * must not be modified while the request is in progress.
+ */
+public class JsonRequestBody extends RequestBody {
+	private final Gson gson;
+	private final Object value;
+	private final MediaType contentType;
+
+	/**
+	 * Creates the body of a value.
+	 *
+	 * @param gson Gson instance used to serialize the value
+	 * @param value value of the body
+	 * @param contentType media type of the body, e.g. {@code application/json}
+	 */
+	public JsonRequestBody(Gson gson, Object value, MediaType contentType) {
+		super();
+		this.gson = gson;
+		this.value = value;
+		this.contentType = contentType;
+	}
+
+	@Override
+	public MediaType contentType() {
+		return contentType;
+	}
+
+	@Override
+	public long contentLength() {
+		return -1;
+	}
+
+	@Override
+	@SuppressWarnings({"unchecked", "PMD.CloseResource"})
+	public void writeTo(@NotNull BufferedSink sink) throws IOException {
+		// the sink is closed by OkHttp, so the writers are only flushed
+		Writer writer = new OutputStreamWriter(sink.outputStream(), StandardCharsets.UTF_8);
+		JsonWriter jsonWriter = gson.newJsonWriter(writer);
+		if (value == null) {
+			jsonWriter.nullValue();
+		} else {
+			((TypeAdapter<Object>) gson.getAdapter(value.getClass())).write(jsonWriter, value);
+		}
+		jsonWriter.flush();
+	}
+}
@@ -0,0 +1,123 @@
+package cloud.stackit.sdk.core.json;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gson {@link TypeAdapterFactory} which creates the generated {@code CustomTypeAdapterFactory} of
+ * a model class only when the model is (de)serialized the first time.
+ *
+ * <p>Registering the generated factories of all models of a service up front loads one class per
+ * model when the JSON class of the service is initialized, although most applications only use a
+ * few models. This factory is registered instead and looks up the nested {@code
+ * CustomTypeAdapterFactory} of the requested model class by name.
+ *
+ * <p>The generated factories resolve the adapter they delegate to via {@link
+ * #getDelegateAdapter(Gson, TypeAdapterFactory, TypeToken)}, as Gson can only skip past factories
+ * which are registered.
+ */
+public class LazyModelTypeAdapterFactory implements TypeAdapterFactory {
+	private static final String FACTORY_CLASS_SUFFIX = "$CustomTypeAdapterFactory";
+	// cached for models without a generated factory, as the map can't hold null values
+	private static final TypeAdapterFactory NO_FACTORY =
+			new TypeAdapterFactory() {
+				@Override
+				public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+					return null;
+				}
+			};
+
+	private final String modelPackagePrefix;
+	private final Map<Class<?>, TypeAdapterFactory> modelFactories = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new factory for the models of the given package.
+	 *
+	 * @param modelPackage package of the generated model classes, e.g. {@code
+	 *     cloud.stackit.sdk.iaas.v2api.model}
+	 */
+	public LazyModelTypeAdapterFactory(String modelPackage) {
+		this.modelPackagePrefix = modelPackage + ".";
+	}
+
+	@Override
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		// the generated factories also handle subclasses of their model
+		for (Class<?> rawType = type.getRawType();
+				rawType != null && isGeneratedModel(rawType);
+				rawType = rawType.getSuperclass()) {
+			TypeAdapter<T> adapter = getModelFactory(rawType).create(gson, type);
+			if (adapter != null) {
+				return adapter;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the adapter a generated model adapter delegates to. For factories created by this
+	 * factory, the adapter of the factory's own model is resolved like Gson would resolve it if
+	 * the factory was registered, i.e. without any model adapter. Other types, e.g. the members of
+	 * oneOf models, get their complete adapter. For all other factories, this is the same as
+	 * {@link Gson#getDelegateAdapter(TypeAdapterFactory, TypeToken)}.
+	 *
+	 * @param gson Gson instance which created the adapter
+	 * @param skipPast factory of the generated model adapter
+	 * @param type type to get the adapter for
+	 * @param <T> type of the adapter
+	 * @return adapter for the type
+	 */
+	public <T> TypeAdapter<T> getDelegateAdapter(
+			Gson gson, TypeAdapterFactory skipPast, TypeToken<T> type) {
+		Class<?> modelClass = skipPast.getClass().getEnclosingClass();
+		if (modelClass == null || modelFactories.get(modelClass) != skipPast) {
+			return gson.getDelegateAdapter(skipPast, type);
+		}
+		if (modelClass.equals(type.getRawType())) {
+			return gson.getDelegateAdapter(this, type);
+		}
+		return gson.getAdapter(type);
+	}
+
+	private boolean isGeneratedModel(Class<?> rawType) {
+		return rawType.getName().startsWith(modelPackagePrefix)
+				&& !rawType.isEnum()
+				&& !rawType.isInterface()
+				&& !Modifier.isAbstract(rawType.getModifiers());
+	}
+
+	private TypeAdapterFactory getModelFactory(Class<?> modelClass) {
+		return modelFactories.computeIfAbsent(modelClass, this::loadModelFactory);
+	}
+
+	private TypeAdapterFactory loadModelFactory(Class<?> modelClass) {
+		Class<?> factoryClass;
+		try {
+			factoryClass =
+					Class.forName(
+							modelClass.getName() + FACTORY_CLASS_SUFFIX,
+							true,
+							modelClass.getClassLoader());
+		} catch (ClassNotFoundException e) {
+			return NO_FACTORY;
+		}
+		if (!TypeAdapterFactory.class.isAssignableFrom(factoryClass)) {
+			return NO_FACTORY;
+		}
+		try {
+			return (TypeAdapterFactory) factoryClass.getDeclaredConstructor().newInstance();
+		} catch (InstantiationException
+				| IllegalAccessException
+				| InvocationTargetException
+				| NoSuchMethodException e) {
+			throw new JsonIOException("Unable to create " + factoryClass.getName(), e);
+		}
+	}
+}
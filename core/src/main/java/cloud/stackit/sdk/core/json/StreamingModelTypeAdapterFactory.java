@@ -0,0 +1,439 @@
+package cloud.stackit.sdk.core.json;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Gson {@link TypeAdapterFactory} which deserializes the generated model classes of a service in a
+ * single pass over the {@link JsonReader}.
+ *
+ * <p>The generated {@code CustomTypeAdapterFactory} of every model first reads the whole payload
+ * into a {@link JsonElement} tree, validates the tree, binds it a second time via {@code
+ * fromJsonTree} and then walks it a third time to collect the additional properties. This factory
+ * validates required fields, checks the JSON types of the known fields and captures unknown fields
+ * while the payload is read.
+ *
+ * <p>The factory has to be registered <b>after</b> the generated model factories, so Gson consults
+ * it first. Serialization and, while streaming is disabled, deserialization are delegated to the
+ * generated adapters.
+ */
+public class StreamingModelTypeAdapterFactory implements TypeAdapterFactory {
+	private static final String OPENAPI_FIELDS = "openapiFields";
+	private static final String OPENAPI_REQUIRED_FIELDS = "openapiRequiredFields";
+	private static final String PUT_ADDITIONAL_PROPERTY = "putAdditionalProperty";
+	private static final String VALIDATE_JSON_ELEMENT = "validateJsonElement";
+
+	private final String modelPackagePrefix;
+	@SuppressWarnings("PMD.AvoidUsingVolatile")
+	private volatile boolean enabled;
+
+	/**
+	 * Creates a new factory for the models of the given package. Streaming is disabled by default.
+	 *
+	 * @param modelPackage package of the generated model classes, e.g. {@code
+	 *     cloud.stackit.sdk.iaas.v2api.model}
+	 */
+	public StreamingModelTypeAdapterFactory(String modelPackage) {
+		this(modelPackage, false);
+	}
+
+	/**
+	 * Creates a new factory for the models of the given package.
+	 *
+	 * @param modelPackage package of the generated model classes, e.g. {@code
+	 *     cloud.stackit.sdk.iaas.v2api.model}
+	 * @param enabled true to deserialize the models in a single streaming pass
+	 */
+	public StreamingModelTypeAdapterFactory(String modelPackage, boolean enabled) {
+		this.modelPackagePrefix = modelPackage + ".";
+		this.enabled = enabled;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	@Override
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		Class<? super T> rawType = type.getRawType();
+		if (!isGeneratedModel(rawType)) {
+			return null;
+		}
+		ModelBinding binding = ModelBinding.create(gson, rawType);
+		if (binding == null) {
+			return null;
+		}
+		TypeAdapter<T> generatedAdapter = gson.getDelegateAdapter(this, type);
+		return new StreamingModelTypeAdapter<>(this, gson, generatedAdapter, binding);
+	}
+
+	private boolean isGeneratedModel(Class<?> rawType) {
+		return rawType.getName().startsWith(modelPackagePrefix)
+				&& !rawType.isEnum()
+				&& !rawType.isInterface()
+				&& !Modifier.isAbstract(rawType.getModifiers());
+	}
+
+	/** Kind of JSON value which is accepted for a model field. */
+	/* default */ enum FieldKind {
+		/** Strings, numbers, booleans, enums, UUIDs and date types. */
+		PRIMITIVE,
+		/** Lists and sets. */
+		ARRAY,
+		/** Nested models, which validate themselves through their own adapter. */
+		MODEL,
+		/** Maps and untyped values, which accept any JSON value. */
+		ANY
+	}
+
+	/** A single known (openapi) field of a model class. */
+	/* default */ static final class BoundField {
+		/* default */ final String name;
+		/* default */ final Field field;
+		/* default */ final TypeAdapter<Object> adapter;
+		/* default */ final FieldKind kind;
+		/* default */ final boolean required;
+
+		/* default */ BoundField(
+				String name,
+				Field field,
+				TypeAdapter<Object> adapter,
+				FieldKind kind,
+				boolean required) {
+			this.name = name;
+			this.field = field;
+			this.adapter = adapter;
+			this.kind = kind;
+			this.required = required;
+		}
+	}
+
+	/** Reflection data of a generated model class which is collected once per Gson instance. */
+	/* default */ static final class ModelBinding {
+		/* default */ final Class<?> modelClass;
+		/* default */ final Constructor<?> constructor;
+		/* default */ final Method putAdditionalProperty;
+		/* default */ final Map<String, BoundField> fields;
+		/* default */ final List<String> requiredFields;
+
+		private ModelBinding(
+				Class<?> modelClass,
+				Constructor<?> constructor,
+				Method putAdditionalProperty,
+				Map<String, BoundField> fields,
+				List<String> requiredFields) {
+			this.modelClass = modelClass;
+			this.constructor = constructor;
+			this.putAdditionalProperty = putAdditionalProperty;
+			this.fields = fields;
+			this.requiredFields = requiredFields;
+		}
+
+		/**
+		 * Collects the binding for a generated model class.
+		 *
+		 * @return the binding or null if the class doesn't follow the layout of a generated model
+		 *     (e.g. oneOf/anyOf wrappers), in which case the generated adapter is used
+		 */
+		@SuppressWarnings("unchecked")
+		/* default */ static ModelBinding create(Gson gson, Class<?> modelClass) {
+			Set<String> openapiFields;
+			Set<String> openapiRequiredFields;
+			Constructor<?> constructor;
+			Method putAdditionalProperty;
+			try {
+				openapiFields = (Set<String>) modelClass.getField(OPENAPI_FIELDS).get(null);
+				openapiRequiredFields =
+						(Set<String>) modelClass.getField(OPENAPI_REQUIRED_FIELDS).get(null);
+				putAdditionalProperty =
+						modelClass.getMethod(PUT_ADDITIONAL_PROPERTY, String.class, Object.class);
+				constructor = modelClass.getDeclaredConstructor();
+				constructor.setAccessible(true);
+			} catch (NoSuchFieldException | NoSuchMethodException | IllegalAccessException e) {
+				return null;
+			}
+			if (openapiFields == null || openapiRequiredFields == null) {
+				return null;
+			}
+
+			HashMap<String, BoundField> fields = new HashMap<>();
+			for (Field field : modelClass.getDeclaredFields()) {
+				SerializedName serializedName = field.getAnnotation(SerializedName.class);
+				if (serializedName == null
+						|| Modifier.isStatic(field.getModifiers())
+						|| Modifier.isTransient(field.getModifiers())
+						|| !openapiFields.contains(serializedName.value())) {
+					continue;
+				}
+				field.setAccessible(true);
+				TypeAdapter<Object> adapter =
+						(TypeAdapter<Object>) gson.getAdapter(TypeToken.get(field.getGenericType()));
+				String name = serializedName.value();
+				fields.put(
+						name,
+						new BoundField(
+								name,
+								field,
+								adapter,
+								fieldKind(field.getType()),
+								openapiRequiredFields.contains(name)));
+			}
+			return new ModelBinding(
+					modelClass,
+					constructor,
+					putAdditionalProperty,
+					fields,
+					new ArrayList<>(openapiRequiredFields));
+		}
+
+		private static FieldKind fieldKind(Class<?> type) {
+			if (Collection.class.isAssignableFrom(type)) {
+				return FieldKind.ARRAY;
+			}
+			if (Map.class.isAssignableFrom(type) || Object.class.equals(type)) {
+				return FieldKind.ANY;
+			}
+			if (!type.isEnum() && hasValidateJsonElement(type)) {
+				return FieldKind.MODEL;
+			}
+			return FieldKind.PRIMITIVE;
+		}
+
+		private static boolean hasValidateJsonElement(Class<?> type) {
+			try {
+				Method method = type.getMethod(VALIDATE_JSON_ELEMENT, JsonElement.class);
+				return Modifier.isStatic(method.getModifiers());
+			} catch (NoSuchMethodException e) {
+				return false;
+			}
+		}
+	}
+
+	/** Adapter which reads a model in a single pass and delegates everything else. */
+	/* default */ static final class StreamingModelTypeAdapter<T> extends TypeAdapter<T> {
+		private final StreamingModelTypeAdapterFactory factory;
+		private final Gson gson;
+		private final TypeAdapter<T> generatedAdapter;
+		private final TypeAdapter<JsonElement> elementAdapter;
+		private final ModelBinding binding;
+
+		/* default */ StreamingModelTypeAdapter(
+				StreamingModelTypeAdapterFactory factory,
+				Gson gson,
+				TypeAdapter<T> generatedAdapter,
+				ModelBinding binding) {
+			this.factory = factory;
+			this.gson = gson;
+			this.generatedAdapter = generatedAdapter;
+			this.elementAdapter = gson.getAdapter(JsonElement.class);
+			this.binding = binding;
+		}
+
+		@Override
+		public void write(JsonWriter out, T value) throws IOException {
+			generatedAdapter.write(out, value);
+		}
+
+		@Override
+		public T read(JsonReader in) throws IOException {
+			if (!factory.isEnabled()) {
+				return generatedAdapter.read(in);
+			}
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+			if (in.peek() != JsonToken.BEGIN_OBJECT) {
+				throw new IllegalArgumentException(
+						String.format(
+								Locale.ROOT,
+								"Expected a JSON object for %s but got `%s`",
+								binding.modelClass.getSimpleName(),
+								elementAdapter.read(in)));
+			}
+
+			T instance = newInstance();
+			Set<String> presentRequiredFields =
+					binding.requiredFields.isEmpty()
+							? null
+							: new HashSet<String>(binding.requiredFields.size() * 2);
+			Map<String, JsonElement> additionalProperties = null;
+
+			in.beginObject();
+			while (in.hasNext()) {
+				String name = in.nextName();
+				BoundField field = binding.fields.get(name);
+				if (field == null) {
+					// unknown fields are stored as additional properties in their original order
+					if (additionalProperties == null) {
+						additionalProperties = new LinkedHashMap<>();
+					}
+					additionalProperties.put(name, elementAdapter.read(in));
+					continue;
+				}
+				JsonToken token = in.peek();
+				if (token == JsonToken.NULL) {
+					in.nextNull();
+					setField(field, instance, null);
+					continue;
+				}
+				checkFieldType(field, token, in);
+				setField(field, instance, readField(field, in));
+				if (field.required) {
+					presentRequiredFields.add(name);
+				}
+			}
+			in.endObject();
+
+			if (presentRequiredFields != null
+					&& presentRequiredFields.size() != binding.requiredFields.size()) {
+				for (String requiredField : binding.requiredFields) {
+					if (!presentRequiredFields.contains(requiredField)) {
+						throw new IllegalArgumentException(
+								String.format(
+										Locale.ROOT,
+										"The required field `%s` is not found in the JSON string of %s",
+										requiredField,
+										binding.modelClass.getSimpleName()));
+					}
+				}
+			}
+			if (additionalProperties != null) {
+				for (Map.Entry<String, JsonElement> entry : additionalProperties.entrySet()) {
+					putAdditionalProperty(instance, entry.getKey(), entry.getValue());
+				}
+			}
+			return instance;
+		}
+
+		private void checkFieldType(BoundField field, JsonToken token, JsonReader in)
+				throws IOException {
+			switch (field.kind) {
+				case ARRAY:
+					if (token != JsonToken.BEGIN_ARRAY) {
+						throw new IllegalArgumentException(
+								String.format(
+										Locale.ROOT,
+										"Expected the field `%s` to be an array in the JSON string but got `%s`",
+										field.name,
+										elementAdapter.read(in)));
+					}
+					break;
+				case PRIMITIVE:
+					if (token == JsonToken.BEGIN_ARRAY || token == JsonToken.BEGIN_OBJECT) {
+						throw new IllegalArgumentException(
+								String.format(
+										Locale.ROOT,
+										"Expected the field `%s` to be a primitive type in the JSON string but got `%s`",
+										field.name,
+										elementAdapter.read(in)));
+					}
+					break;
+				default:
+					// nested models validate themselves, untyped fields accept any value
+					break;
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private T newInstance() {
+			try {
+				return (T) binding.constructor.newInstance();
+			} catch (InstantiationException
+					| IllegalAccessException
+					| InvocationTargetException e) {
+				throw new JsonIOException(
+						"Unable to create instance of " + binding.modelClass.getName(), e);
+			}
+		}
+
+		/* Reads the value of a field, string fields with the name of the field for the pool */
+		private static Object readField(BoundField field, JsonReader in) throws IOException {
+			Object adapter = field.adapter;
+			if (adapter instanceof StringPoolTypeAdapter) {
+				return ((StringPoolTypeAdapter) adapter).read(in, field.name);
+			}
+			return field.adapter.read(in);
+		}
+
+		private void setField(BoundField field, Object instance, Object value) {
+			try {
+				field.field.set(instance, value);
+			} catch (IllegalAccessException e) {
+				throw new JsonIOException(
+						"Unable to set field " + field.name + " of " + binding.modelClass.getName(),
+						e);
+			}
+		}
+
+		private void putAdditionalProperty(Object instance, String name, JsonElement value) {
+			try {
+				binding.putAdditionalProperty.invoke(
+						instance, name, additionalPropertyValue(gson, name, value));
+			} catch (IllegalAccessException | InvocationTargetException e) {
+				throw new JsonIOException(
+						"Unable to store additional property "
+								+ name
+								+ " of "
+								+ binding.modelClass.getName(),
+						e);
+			}
+		}
+	}
+
+	/**
+	 * Converts the JSON value of an unknown field the same way as the generated adapters do.
+	 *
+	 * @param gson Gson instance used for arrays and objects
+	 * @param name name of the field, used for error messages
+	 * @param value JSON value of the field
+	 * @return String, Number or Boolean for primitives, a List for arrays and a HashMap otherwise
+	 */
+	public static Object additionalPropertyValue(Gson gson, String name, JsonElement value) {
+		if (value.isJsonPrimitive()) {
+			if (value.getAsJsonPrimitive().isString()) {
+				return value.getAsString();
+			} else if (value.getAsJsonPrimitive().isNumber()) {
+				return value.getAsNumber();
+			} else if (value.getAsJsonPrimitive().isBoolean()) {
+				return value.getAsBoolean();
+			}
+			throw new IllegalArgumentException(
+					String.format(
+							Locale.ROOT,
+							"The field `%s` has unknown primitive type. Value: %s",
+							name,
+							value.toString()));
+		} else if (value.isJsonArray()) {
+			return gson.fromJson(value, List.class);
+		}
+		return gson.fromJson(value, HashMap.class);
+	}
+}
@@ -0,0 +1,110 @@
+package cloud.stackit.sdk.core.json;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Bounded pool of strings, which lets equal string values of deserialized models share one
+ * instance. Large lists contain the same values, e.g. the status, availability zone or machine
+ * type, thousands of times; pooling them reduces the heap used by lists which are kept in memory.
+ *
+ * <p>The pool is a fixed-size hash table without locking. A value replaces the pooled value with
+ * the same slot, so the pool never holds more than its capacity, but a value may be pooled again
+ * after it was replaced. Strings longer than the maximum length, e.g. descriptions or user data,
+ * are never pooled.
+ *
+ * <p>The pool is used by the JSON classes of the services once it is set via their {@code
+ * setStringPool} method. By default it pools all string values, {@link #setFields} limits it to
+ * the values of the given fields.
+ */
+public class StringPool {
+	private final String[] entries;
+	private final int mask;
+	private int maxLength = 64;
+	private Set<String> fields;
+
+	/**
+	 * Creates a pool.
+	 *
+	 * @param capacity maximum number of pooled strings, rounded up to a power of two
+	 * @throws IllegalArgumentException if the capacity is not positive
+	 */
+	public StringPool(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive: " + capacity);
+		}
+		int size = Integer.highestOneBit(capacity);
+		if (size < capacity) {
+			size <<= 1;
+		}
+		this.entries = new String[size];
+		this.mask = size - 1;
+	}
+
+	/**
+	 * SetMaxLength sets the maximum length of pooled strings. Defaults to 64.
+	 *
+	 * @param maxLength maximum length in characters
+	 */
+	public void setMaxLength(int maxLength) {
+		this.maxLength = maxLength;
+	}
+
+	public int getMaxLength() {
+		return maxLength;
+	}
+
+	/**
+	 * SetFields sets the JSON names of the fields whose values are pooled, e.g. {@code status} or
+	 * {@code availabilityZone}. Defaults to all string values.
+	 *
+	 * <p>The field names are only known to the streaming deserialization and the compiled type
+	 * adapters, so with the default adapters no values are pooled once fields are set.
+	 *
+	 * @param fields JSON names of the fields
+	 */
+	public void setFields(String... fields) {
+		this.fields = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(fields)));
+	}
+
+	/**
+	 * Returns the JSON names of the fields whose values are pooled.
+	 *
+	 * @return field names, or null if all string values are pooled
+	 */
+	public Set<String> getFields() {
+		return fields;
+	}
+
+	/**
+	 * Checks whether the values of a field are pooled.
+	 *
+	 * @param field JSON name of the field, or null for values outside of a known field
+	 * @return true if the values are pooled
+	 */
+	public boolean isPooled(String field) {
+		return fields == null || field != null && fields.contains(field);
+	}
+
+	/**
+	 * Returns the pooled instance of a string.
+	 *
+	 * @param value string
+	 * @return the pooled string equal to the value, or the value itself
+	 */
+	public String intern(String value) {
+		if (value == null || value.length() > maxLength) {
+			return value;
+		}
+		int hash = value.hashCode();
+		int index = (hash ^ hash >>> 16) & mask;
+		String pooled = entries[index];
+		if (value.equals(pooled)) {
+			return pooled;
+		}
+		entries[index] = value;
+		return value;
+	}
+}
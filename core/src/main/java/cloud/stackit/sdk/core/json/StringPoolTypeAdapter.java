@@ -0,0 +1,64 @@
+package cloud.stackit.sdk.core.json;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * Gson {@link TypeAdapter} for strings, which reads them like the default adapter and replaces
+ * them by their pooled instance if a {@link StringPool} is set. Without a pool, the strings are
+ * returned as they are read.
+ *
+ * <p>The streaming deserialization and the compiled type adapters read the string fields of the
+ * models with {@link #read(JsonReader, String)}, so the pool can be limited to some fields.
+ */
+public class StringPoolTypeAdapter extends TypeAdapter<String> {
+	@SuppressWarnings("PMD.AvoidUsingVolatile")
+	private volatile StringPool stringPool;
+
+	/**
+	 * SetStringPool sets the pool of the read strings. Defaults to null, i.e. no pooling.
+	 *
+	 * @param stringPool StringPool, may be shared between several adapters, or null
+	 */
+	public void setStringPool(StringPool stringPool) {
+		this.stringPool = stringPool;
+	}
+
+	public StringPool getStringPool() {
+		return stringPool;
+	}
+
+	@Override
+	public void write(JsonWriter out, String value) throws IOException {
+		out.value(value);
+	}
+
+	@Override
+	public String read(JsonReader in) throws IOException {
+		return read(in, null);
+	}
+
+	/**
+	 * Reads the string value of a field.
+	 *
+	 * @param in reader positioned at the value
+	 * @param field JSON name of the field, or null if it's not known
+	 * @return the value, the pooled instance if the values of the field are pooled
+	 * @throws IOException if the value can't be read
+	 */
+	public String read(JsonReader in, String field) throws IOException {
+		JsonToken token = in.peek();
+		if (token == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		// booleans are read as strings like by the default adapter
+		String value =
+				token == JsonToken.BOOLEAN ? Boolean.toString(in.nextBoolean()) : in.nextString();
+		StringPool pool = stringPool;
+		return pool != null && pool.isPooled(field) ? pool.intern(value) : value;
+	}
+}
@@ -0,0 +1,107 @@
+package cloud.stackit.sdk.core.json;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Gson {@link TypeAdapter} for UUIDs, which parses the canonical form {@code
+ * 123e4567-e89b-12d3-a456-426614174000} directly from the characters instead of splitting it like
+ * {@link UUID#fromString(String)}. Other forms are parsed with {@link UUID#fromString(String)},
+ * and invalid values are reported with a {@link JsonSyntaxException} like the default adapter.
+ */
+public class UuidTypeAdapter extends TypeAdapter<UUID> {
+	private static final int LENGTH = 36;
+	private static final int[] DASHES = {8, 13, 18, 23};
+	private static final byte[] HEX_VALUES = hexValues();
+
+	/**
+	 * Parses a UUID.
+	 *
+	 * @param value UUID, e.g. {@code 123e4567-e89b-12d3-a456-426614174000}
+	 * @return the UUID
+	 * @throws IllegalArgumentException if the value is not a valid UUID
+	 */
+	public static UUID parse(String value) {
+		if (isCanonical(value)) {
+			long timeLow = hex(value, 0, 8);
+			long timeMid = hex(value, 9, 4);
+			long timeHigh = hex(value, 14, 4);
+			long clockSeq = hex(value, 19, 4);
+			long node = hex(value, 24, 12);
+			if ((timeLow | timeMid | timeHigh | clockSeq | node) >= 0) {
+				return new UUID(
+						timeLow << 32 | timeMid << 16 | timeHigh, clockSeq << 48 | node);
+			}
+		}
+		return UUID.fromString(value);
+	}
+
+	@Override
+	public void write(JsonWriter out, UUID value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+		} else {
+			out.value(value.toString());
+		}
+	}
+
+	@Override
+	public UUID read(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		String value = in.nextString();
+		try {
+			return parse(value);
+		} catch (IllegalArgumentException e) {
+			throw new JsonSyntaxException(
+					"Failed parsing '" + value + "' as UUID; at path " + in.getPreviousPath(), e);
+		}
+	}
+
+	private static boolean isCanonical(String value) {
+		if (value.length() != LENGTH) {
+			return false;
+		}
+		for (int dash : DASHES) {
+			if (value.charAt(dash) != '-') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/* Returns the value of the given hex digits, or -1 if one isn't a hex digit */
+	private static long hex(String value, int start, int count) {
+		long result = 0;
+		for (int i = start; i < start + count; i++) {
+			char c = value.charAt(i);
+			int digit = c < HEX_VALUES.length ? HEX_VALUES[c] : -1;
+			if (digit < 0) {
+				return -1;
+			}
+			result = result << 4 | digit;
+		}
+		return result;
+	}
+
+	private static byte[] hexValues() {
+		byte[] values = new byte[128];
+		Arrays.fill(values, (byte) -1);
+		for (char c = '0'; c <= '9'; c++) {
+			values[c] = (byte) (c - '0');
+		}
+		for (char c = 'a'; c <= 'f'; c++) {
+			values[c] = (byte) (c - 'a' + 10);
+			values[Character.toUpperCase(c)] = (byte) (c - 'a' + 10);
+		}
+		return values;
+	}
+}
@@ -0,0 +1,94 @@
+package cloud.stackit.sdk.core.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the metrics in memory, per operation. The counters of an operation are created with its
+ * first request, after that recording doesn't allocate.
+ *
+ * <p>Share one recorder between the API clients of the process to get the metrics of all
+ * services in one place, the operation names contain the API version but not the host.
+ */
+public class InMemoryMetricsRecorder implements MetricsRecorder {
+	private final ConcurrentMap<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+	private final LongAdder tokenRefreshCount = new LongAdder();
+	private final LongAdder failedTokenRefreshCount = new LongAdder();
+	private final LatencyHistogram tokenRefreshLatency = new LatencyHistogram();
+
+	@Override
+	public void recordRequest(
+			String operation,
+			int statusCode,
+			long latencyNanos,
+			long requestBytes,
+			long responseBytes) {
+		operation(operation).record(statusCode, latencyNanos, requestBytes, responseBytes);
+	}
+
+	@Override
+	public void recordRetry(String operation) {
+		operation(operation).retried();
+	}
+
+	@Override
+	public void recordTokenRefresh(boolean success, long latencyNanos) {
+		tokenRefreshCount.increment();
+		if (!success) {
+			failedTokenRefreshCount.increment();
+		}
+		tokenRefreshLatency.record(latencyNanos);
+	}
+
+	private OperationMetrics operation(String operation) {
+		OperationMetrics metrics = operations.get(operation);
+		if (metrics == null) {
+			metrics = operations.computeIfAbsent(operation, OperationMetrics::new);
+		}
+		return metrics;
+	}
+
+	/**
+	 * Returns the metrics of all operations which were called so far.
+	 *
+	 * @return unmodifiable live view of the metrics, by operation name
+	 */
+	public Map<String, OperationMetrics> getOperations() {
+		return Collections.unmodifiableMap(operations);
+	}
+
+	/**
+	 * Returns the metrics of an operation.
+	 *
+	 * @param operation name of the operation, e.g. {@code GET /v2/projects/{}/regions/{}/servers}
+	 * @return metrics of the operation, null if it wasn't called so far
+	 */
+	public OperationMetrics getOperation(String operation) {
+		return operations.get(operation);
+	}
+
+	/**
+	 * Returns the number of requests for an access token.
+	 *
+	 * @return token refresh count
+	 */
+	public long getTokenRefreshCount() {
+		return tokenRefreshCount.sum();
+	}
+
+	/**
+	 * Returns the number of failed requests for an access token.
+	 *
+	 * @return failed token refresh count
+	 */
+	public long getFailedTokenRefreshCount() {
+		return failedTokenRefreshCount.sum();
+	}
+
+	public LatencyHistogram getTokenRefreshLatency() {
+		return tokenRefreshLatency;
+	}
+}
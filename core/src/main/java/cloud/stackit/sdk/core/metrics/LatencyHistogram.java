@@ -0,0 +1,121 @@
+package cloud.stackit.sdk.core.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of latencies with exponential buckets, recording without allocation or locking.
+ *
+ * <p>Bucket 0 counts latencies below 1 microsecond, bucket {@code i} latencies below {@code 2^i}
+ * microseconds and the last bucket all latencies above, i.e. from about 67 seconds. Percentiles
+ * are estimated by the upper bound of their bucket, so they are at most twice the actual value.
+ */
+public final class LatencyHistogram {
+	private static final int BUCKETS = 28;
+	private static final int LAST_BUCKET = BUCKETS - 1;
+
+	private final LongAdder[] buckets = new LongAdder[BUCKETS];
+	private final LongAdder totalNanos = new LongAdder();
+
+	/** Creates an empty histogram. */
+	public LatencyHistogram() {
+		for (int i = 0; i < BUCKETS; i++) {
+			buckets[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Records a latency.
+	 *
+	 * @param nanos latency in nanoseconds
+	 */
+	public void record(long nanos) {
+		long micros = Math.max(0, nanos) / 1000;
+		int bucket = Math.min(LAST_BUCKET, 64 - Long.numberOfLeadingZeros(micros));
+		buckets[bucket].increment();
+		totalNanos.add(Math.max(0, nanos));
+	}
+
+	/**
+	 * Returns the number of buckets.
+	 *
+	 * @return bucket count
+	 */
+	public int getBucketCount() {
+		return BUCKETS;
+	}
+
+	/**
+	 * Returns the upper bound of a bucket.
+	 *
+	 * @param bucket index of the bucket
+	 * @return exclusive upper bound in nanoseconds, {@link Long#MAX_VALUE} for the last bucket
+	 */
+	public long getUpperBoundNanos(int bucket) {
+		if (bucket >= LAST_BUCKET) {
+			return Long.MAX_VALUE;
+		}
+		return TimeUnit.MICROSECONDS.toNanos(1L << bucket);
+	}
+
+	/**
+	 * Returns the number of latencies recorded in a bucket.
+	 *
+	 * @param bucket index of the bucket
+	 * @return count of the bucket
+	 */
+	public long getCount(int bucket) {
+		return buckets[bucket].sum();
+	}
+
+	/**
+	 * Returns the number of recorded latencies.
+	 *
+	 * @return count
+	 */
+	public long getCount() {
+		long count = 0;
+		for (LongAdder bucket : buckets) {
+			count += bucket.sum();
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the sum of the recorded latencies.
+	 *
+	 * @return total latency in nanoseconds
+	 */
+	public long getTotalNanos() {
+		return totalNanos.sum();
+	}
+
+	/**
+	 * Estimates a percentile of the recorded latencies.
+	 *
+	 * @param percentile percentile between 0 and 100, e.g. 99 for the 99th percentile
+	 * @return upper bound of the bucket containing the percentile in nanoseconds, 0 if no latency
+	 *     was recorded
+	 */
+	public long getPercentileNanos(double percentile) {
+		long[] counts = new long[BUCKETS];
+		long count = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] = buckets[i].sum();
+			count += counts[i];
+		}
+		if (count == 0) {
+			return 0;
+		}
+		double fraction = Math.min(100, Math.max(0, percentile)) / 100;
+		long rank = Math.max(1, (long) Math.ceil(count * fraction));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts[i];
+			if (seen >= rank) {
+				return getUpperBoundNanos(i);
+			}
+		}
+		return getUpperBoundNanos(LAST_BUCKET);
+	}
+}
@@ -0,0 +1,205 @@
+package cloud.stackit.sdk.core.metrics;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
+import okio.Source;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Application interceptor which records the requests with a {@link MetricsRecorder}.
+ *
+ * <p>The latency is measured until the response headers are received. If the size of the
+ * response body is known up front, the request is recorded right away, otherwise when the body is
+ * closed.
+ *
+ * <p>The operation names are cached per method and URL, so repeated requests, e.g. polling a
+ * resource, are recorded without allocating. Response bodies of unknown size are wrapped to count
+ * their bytes, which allocates a source and a body per response.
+ */
+public class MetricsInterceptor implements Interceptor {
+	private static final int IO_ERROR = 0;
+	// maximum number of URLs per method whose operation names are cached
+	private static final int MAX_CACHED_OPERATIONS = 1024;
+	private static final ConcurrentMap<String, ConcurrentMap<HttpUrl, String>> OPERATIONS =
+			new ConcurrentHashMap<>();
+
+	private final MetricsRecorder metricsRecorder;
+
+	/**
+	 * Creates the interceptor for the given recorder.
+	 *
+	 * @param metricsRecorder MetricsRecorder, may be shared between several interceptors
+	 */
+	public MetricsInterceptor(MetricsRecorder metricsRecorder) {
+		this.metricsRecorder = metricsRecorder;
+	}
+
+	@NotNull @Override
+	public Response intercept(Chain chain) throws IOException {
+		Request request = chain.request();
+		String operation = operation(request);
+		long requestBytes = requestBytes(request.body());
+		long start = System.nanoTime();
+		Response response;
+		try {
+			response = chain.proceed(request);
+		} catch (IOException e) {
+			metricsRecorder.recordRequest(
+					operation, IO_ERROR, System.nanoTime() - start, requestBytes, 0);
+			throw e;
+		}
+		long latencyNanos = System.nanoTime() - start;
+
+		ResponseBody body = response.body();
+		long contentLength = body == null ? 0 : body.contentLength();
+		if (contentLength >= 0) {
+			metricsRecorder.recordRequest(
+					operation, response.code(), latencyNanos, requestBytes, contentLength);
+			return response;
+		}
+		CountingSource source =
+				new CountingSource(
+						body.source(), operation, response.code(), latencyNanos, requestBytes);
+		return response.newBuilder()
+				.body(ResponseBody.create(Okio.buffer(source), body.contentType(), -1))
+				.build();
+	}
+
+	/**
+	 * Returns the name of the operation of a request, its method and path with the path parameters
+	 * replaced by {@code {}}, e.g. {@code GET /v2/projects/{}/regions/{}/servers}.
+	 *
+	 * <p>The paths of the STACKIT APIs start with the API version, followed by alternating
+	 * collections and IDs, so every second segment after the version is taken as a parameter.
+	 *
+	 * @param request the request
+	 * @return name of the operation
+	 */
+	public static String operation(Request request) {
+		String method = request.method();
+		ConcurrentMap<HttpUrl, String> operations = OPERATIONS.get(method);
+		if (operations == null) {
+			OPERATIONS.putIfAbsent(method, new ConcurrentHashMap<>());
+			operations = OPERATIONS.get(method);
+		}
+		HttpUrl url = request.url();
+		String operation = operations.get(url);
+		if (operation == null) {
+			operation = operation(method, url.encodedPath());
+			if (operations.size() >= MAX_CACHED_OPERATIONS) {
+				// the URLs contain the IDs of the resources, so the cache is reset instead of
+				// growing with every resource
+				operations.clear();
+			}
+			operations.put(url, operation);
+		}
+		return operation;
+	}
+
+	private static String operation(String method, String path) {
+		StringBuilder operation = new StringBuilder(method.length() + path.length() + 1);
+		operation.append(method).append(' ');
+
+		int version = versionSegment(path);
+		boolean parameter = false;
+		int segment = 0;
+		int start = 1;
+		while (start <= path.length()) {
+			int end = segmentEnd(path, start);
+			operation.append('/');
+			if (parameter && end > start) {
+				operation.append("{}");
+			} else {
+				operation.append(path, start, end);
+			}
+			if (segment > version) {
+				parameter = !parameter;
+			}
+			segment++;
+			start = end + 1;
+		}
+		return operation.toString();
+	}
+
+	/** Returns the index of the API version segment, e.g. {@code v2beta1}, or 0 if there's none. */
+	private static int versionSegment(String path) {
+		int segment = 0;
+		int start = 1;
+		while (start < path.length()) {
+			int end = segmentEnd(path, start);
+			if (isVersion(path, start, end)) {
+				return segment;
+			}
+			segment++;
+			start = end + 1;
+		}
+		return 0;
+	}
+
+	private static int segmentEnd(String path, int start) {
+		int end = path.indexOf('/', start);
+		return end < 0 ? path.length() : end;
+	}
+
+	private static boolean isVersion(String path, int start, int end) {
+		return end - start > 1
+				&& path.charAt(start) == 'v'
+				&& Character.isDigit(path.charAt(start + 1));
+	}
+
+	private static long requestBytes(RequestBody body) throws IOException {
+		return body == null ? 0 : Math.max(0, body.contentLength());
+	}
+
+	/** Counts the bytes of a response body of unknown size, and records the request on close. */
+	private final class CountingSource extends ForwardingSource {
+		private final String operation;
+		private final int statusCode;
+		private final long latencyNanos;
+		private final long requestBytes;
+		private long responseBytes;
+		private boolean recorded;
+
+		private CountingSource(
+				Source delegate,
+				String operation,
+				int statusCode,
+				long latencyNanos,
+				long requestBytes) {
+			super(delegate);
+			this.operation = operation;
+			this.statusCode = statusCode;
+			this.latencyNanos = latencyNanos;
+			this.requestBytes = requestBytes;
+		}
+
+		@Override
+		public long read(@NotNull Buffer sink, long byteCount) throws IOException {
+			long read = super.read(sink, byteCount);
+			if (read > 0) {
+				responseBytes += read;
+			}
+			return read;
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (!recorded) {
+				recorded = true;
+				metricsRecorder.recordRequest(
+						operation, statusCode, latencyNanos, requestBytes, responseBytes);
+			}
+			super.close();
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package cloud.stackit.sdk.core.metrics;
+
+/**
+ * Receives the metrics of the API clients. API clients use it if it is set via {@link
+ * cloud.stackit.sdk.core.config.CoreConfiguration#metricsRecorder(MetricsRecorder)}.
+ *
+ * <p>The methods are called on the request threads, with primitive values only, so an
+ * implementation can record without allocating, e.g. into counters created once per operation.
+ * They must not block and must not throw. {@link InMemoryMetricsRecorder} keeps the metrics in
+ * memory, an implementation for Micrometer or OpenTelemetry only needs to forward the values to
+ * the respective meters.
+ *
+ * <p>Operations are named by their HTTP method and path, with the path parameters replaced by
+ * {@code {}}, e.g. {@code GET /v2/projects/{}/regions/{}/servers}.
+ */
+public interface MetricsRecorder {
+
+	/**
+	 * Records a completed request. Retries within the request are recorded via {@link
+	 * #recordRetry(String)}, the latency includes them.
+	 *
+	 * @param operation name of the operation
+	 * @param statusCode HTTP status code of the response, 0 if the request failed with an I/O error
+	 * @param latencyNanos time until the response headers were received, in nanoseconds
+	 * @param requestBytes size of the request body in bytes, 0 if it is unknown
+	 * @param responseBytes size of the response body in bytes
+	 */
+	void recordRequest(
+			String operation,
+			int statusCode,
+			long latencyNanos,
+			long requestBytes,
+			long responseBytes);
+
+	/**
+	 * Records a retry of a request, after a transient error or a rate-limited response.
+	 *
+	 * @param operation name of the operation
+	 */
+	void recordRetry(String operation);
+
+	/**
+	 * Records a request for an access token, either a new token or a refresh.
+	 *
+	 * @param success true if a token was received
+	 * @param latencyNanos duration of the request in nanoseconds
+	 */
+	void recordTokenRefresh(boolean success, long latencyNanos);
+}
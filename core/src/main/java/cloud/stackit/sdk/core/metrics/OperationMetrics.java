@@ -0,0 +1,93 @@
+package cloud.stackit.sdk.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Metrics of a single operation, kept by the {@link InMemoryMetricsRecorder}. */
+public final class OperationMetrics {
+	private static final int STATUS_CODES = 600;
+
+	private final String operation;
+	private final LongAdder count = new LongAdder();
+	private final AtomicLongArray statusCodes = new AtomicLongArray(STATUS_CODES);
+	private final LatencyHistogram latency = new LatencyHistogram();
+	private final LongAdder requestBytes = new LongAdder();
+	private final LongAdder responseBytes = new LongAdder();
+	private final LongAdder retryCount = new LongAdder();
+
+	/* default */ OperationMetrics(String operation) {
+		this.operation = operation;
+	}
+
+	/* default */ void record(
+			int statusCode, long latencyNanos, long requestBytes, long responseBytes) {
+		count.increment();
+		if (statusCode >= 0 && statusCode < STATUS_CODES) {
+			statusCodes.incrementAndGet(statusCode);
+		}
+		latency.record(latencyNanos);
+		this.requestBytes.add(requestBytes);
+		this.responseBytes.add(responseBytes);
+	}
+
+	/* default */ void retried() {
+		retryCount.increment();
+	}
+
+	public String getOperation() {
+		return operation;
+	}
+
+	/**
+	 * Returns the number of completed requests.
+	 *
+	 * @return request count
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Returns the number of requests answered with a status code.
+	 *
+	 * @param statusCode HTTP status code, 0 for requests which failed with an I/O error
+	 * @return request count
+	 */
+	public long getCount(int statusCode) {
+		if (statusCode < 0 || statusCode >= STATUS_CODES) {
+			return 0;
+		}
+		return statusCodes.get(statusCode);
+	}
+
+	public LatencyHistogram getLatency() {
+		return latency;
+	}
+
+	/**
+	 * Returns the total size of the request bodies.
+	 *
+	 * @return size in bytes
+	 */
+	public long getRequestBytes() {
+		return requestBytes.sum();
+	}
+
+	/**
+	 * Returns the total size of the response bodies.
+	 *
+	 * @return size in bytes
+	 */
+	public long getResponseBytes() {
+		return responseBytes.sum();
+	}
+
+	/**
+	 * Returns the number of retries.
+	 *
+	 * @return retry count
+	 */
+	public long getRetryCount() {
+		return retryCount.sum();
+	}
+}
@@ -0,0 +1,137 @@
+package cloud.stackit.sdk.core.pagination;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterator over the items of a list response, which reads the items one by one from the response
+ * body instead of deserializing the whole response. So the memory used doesn't depend on the
+ * number of items.
+ *
+ * <p>The items are read from the array field of the response object with the given name, all
+ * other fields are skipped. The iterator is closed, and so the response body, once the last item
+ * was read. If the items aren't consumed completely, the iterator has to be closed explicitly,
+ * e.g. with try-with-resources.
+ *
+ * <p>If the response body can not be read, the iterator throws an {@link UncheckedIOException}.
+ *
+ * @param <T> Type of the items
+ */
+public final class ItemIterator<T> implements Iterator<T>, Closeable {
+	private final JsonReader reader;
+	private final String field;
+	private final TypeAdapter<T> itemAdapter;
+	private boolean started;
+	private boolean finished;
+
+	/**
+	 * Creates an iterator over the items of a JSON response.
+	 *
+	 * @param reader JsonReader of the response body, which is closed with the iterator
+	 * @param field Name of the array field of the response object which contains the items, or
+	 *     null if the response is the array itself
+	 * @param itemAdapter TypeAdapter which reads a single item
+	 */
+	public ItemIterator(JsonReader reader, String field, TypeAdapter<T> itemAdapter) {
+		this.reader = reader;
+		this.field = field;
+		this.itemAdapter = itemAdapter;
+	}
+
+	/**
+	 * Returns an iterator without items.
+	 *
+	 * @param <T> Type of the items
+	 * @return ItemIterator without items
+	 */
+	public static <T> ItemIterator<T> empty() {
+		return new ItemIterator<>(new JsonReader(new StringReader("[]")), null, null);
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (finished) {
+			return false;
+		}
+		try {
+			if (!started) {
+				started = true;
+				if (!beginItems()) {
+					close();
+					return false;
+				}
+			}
+			if (reader.hasNext()) {
+				return true;
+			}
+		} catch (IOException e) {
+			close();
+			throw new UncheckedIOException(e);
+		}
+		close();
+		return false;
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		try {
+			return itemAdapter.read(reader);
+		} catch (IOException e) {
+			close();
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Returns a sequential stream of the remaining items. Closing the stream closes the iterator.
+	 *
+	 * @return Stream of the items
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(
+						Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+				.onClose(this::close);
+	}
+
+	/** Closes the response body. Further calls of {@link #hasNext()} return false. */
+	@Override
+	public void close() {
+		finished = true;
+		try {
+			reader.close();
+		} catch (IOException ignored) {
+			// nothing left to release
+		}
+	}
+
+	/* Moves the reader into the array of the items, returns false if the field is missing */
+	private boolean beginItems() throws IOException {
+		if (field == null) {
+			reader.beginArray();
+			return true;
+		}
+		reader.beginObject();
+		while (reader.hasNext()) {
+			if (field.equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+				reader.beginArray();
+				return true;
+			}
+			reader.skipValue();
+		}
+		return false;
+	}
+}
@@ -0,0 +1,288 @@
+package cloud.stackit.sdk.core.pagination;
+
+import cloud.stackit.sdk.core.exception.ApiException;
+import cloud.stackit.sdk.core.exception.UncheckedApiException;
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy iteration over all items of a paginated list operation.
+ *
+ * <p>No request is sent before the first item is requested. While the items of a page are
+ * consumed, the following pages are already requested asynchronously, up to the configured
+ * prefetch depth. So at most {@code prefetchDepth + 1} pages are held in memory at the same time.
+ * Every call of {@link #iterator()} or {@link #stream()} starts a new iteration from the first
+ * page.
+ *
+ * <p>If a page can not be fetched, the iterator throws an {@link UncheckedApiException}.
+ *
+ * @param <T> Type of the items
+ */
+public final class Paginator<T> implements Iterable<T> {
+	public static final int DEFAULT_PREFETCH_DEPTH = 1;
+
+	private final PageChain<?, ?, T> chain;
+	private final int prefetchDepth;
+
+	private Paginator(PageChain<?, ?, T> chain, int prefetchDepth) {
+		this.chain = chain;
+		this.prefetchDepth = prefetchDepth;
+	}
+
+	/**
+	 * Creates a paginator for a list operation with a generic page cursor.
+	 *
+	 * @param firstCursor Cursor of the first page, may be null
+	 * @param fetchPage Requests the page of the given cursor
+	 * @param items Returns the items of a page
+	 * @param nextCursor Returns the cursor of the page following the given cursor and page, or null
+	 *     if it was the last page
+	 * @param <C> Type of the page cursor
+	 * @param <P> Type of the pages
+	 * @param <T> Type of the items
+	 * @return Paginator
+	 */
+	public static <C, P, T> Paginator<T> ofCursor(
+			C firstCursor,
+			Function<C, CompletableFuture<P>> fetchPage,
+			Function<P, List<T>> items,
+			BiFunction<C, P, C> nextCursor) {
+		return new Paginator<>(
+				new PageChain<>(firstCursor, fetchPage, items, nextCursor), DEFAULT_PREFETCH_DEPTH);
+	}
+
+	/**
+	 * Creates a paginator for a list operation which uses a page id of the previous response to
+	 * request the next page. The first page is requested with the page id null. The iteration ends
+	 * with the first response without a next page id.
+	 *
+	 * @param fetchPage Requests the page of the given page id
+	 * @param items Returns the items of a page
+	 * @param nextPageId Returns the page id of the following page
+	 * @param <P> Type of the pages
+	 * @param <T> Type of the items
+	 * @return Paginator
+	 */
+	public static <P, T> Paginator<T> ofPageId(
+			Function<String, CompletableFuture<P>> fetchPage,
+			Function<P, List<T>> items,
+			Function<P, String> nextPageId) {
+		return ofCursor(
+				null,
+				fetchPage,
+				items,
+				(pageId, page) -> {
+					String next = nextPageId.apply(page);
+					return next == null || next.isEmpty() ? null : next;
+				});
+	}
+
+	/**
+	 * Creates a paginator for a list operation which uses an offset and a limit. The first page is
+	 * requested with offset 0. The iteration ends with the first page which is empty or contains
+	 * less items than the limit of the response.
+	 *
+	 * @param fetchPage Requests the page of the given offset
+	 * @param items Returns the items of a page
+	 * @param limit Returns the limit of a page, may return null if the limit is unknown
+	 * @param <P> Type of the pages
+	 * @param <T> Type of the items
+	 * @return Paginator
+	 */
+	public static <P, T> Paginator<T> ofOffset(
+			Function<BigDecimal, CompletableFuture<P>> fetchPage,
+			Function<P, List<T>> items,
+			Function<P, BigDecimal> limit) {
+		return ofCursor(
+				BigDecimal.ZERO,
+				fetchPage,
+				items,
+				(offset, page) -> {
+					List<T> pageItems = items.apply(page);
+					if (pageItems == null || pageItems.isEmpty()) {
+						return null;
+					}
+					BigDecimal pageLimit = limit.apply(page);
+					if (pageLimit != null && pageItems.size() < pageLimit.intValue()) {
+						return null;
+					}
+					return offset.add(BigDecimal.valueOf(pageItems.size()));
+				});
+	}
+
+	/**
+	 * Returns a paginator with a different prefetch depth.
+	 *
+	 * @param prefetchDepth Number of pages which are requested ahead of the consumed page, 0
+	 *     disables the prefetching
+	 * @return Paginator with the given prefetch depth
+	 * @throws IllegalArgumentException if the prefetch depth is negative
+	 */
+	public Paginator<T> prefetchDepth(int prefetchDepth) {
+		if (prefetchDepth < 0) {
+			throw new IllegalArgumentException("prefetchDepth must not be negative");
+		}
+		return new Paginator<>(chain, prefetchDepth);
+	}
+
+	public int getPrefetchDepth() {
+		return prefetchDepth;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new PageIterator<>(chain, prefetchDepth);
+	}
+
+	/**
+	 * Returns a sequential stream of all items. Closing the stream stops the prefetching of
+	 * further pages.
+	 *
+	 * @return Stream of the items
+	 */
+	public Stream<T> stream() {
+		PageIterator<?, ?, T> iterator = new PageIterator<>(chain, prefetchDepth);
+		return StreamSupport.stream(
+						Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+				.onClose(iterator::close);
+	}
+
+	private static final class Page<C, P> {
+		private final C cursor;
+		private final P page;
+
+		private Page(C cursor, P page) {
+			this.cursor = cursor;
+			this.page = page;
+		}
+	}
+
+	private static final class PageChain<C, P, T> {
+		private final C firstCursor;
+		private final Function<C, CompletableFuture<P>> fetchPage;
+		private final Function<P, List<T>> items;
+		private final BiFunction<C, P, C> nextCursor;
+
+		private PageChain(
+				C firstCursor,
+				Function<C, CompletableFuture<P>> fetchPage,
+				Function<P, List<T>> items,
+				BiFunction<C, P, C> nextCursor) {
+			this.firstCursor = firstCursor;
+			this.fetchPage = fetchPage;
+			this.items = items;
+			this.nextCursor = nextCursor;
+		}
+
+		private CompletableFuture<Page<C, P>> first() {
+			return fetch(firstCursor);
+		}
+
+		/* Completes with null, if there is no page following the given one */
+		private CompletableFuture<Page<C, P>> next(CompletableFuture<Page<C, P>> previous) {
+			return previous.thenCompose(
+					previousPage -> {
+						if (previousPage == null) {
+							return CompletableFuture.completedFuture(null);
+						}
+						C cursor = nextCursor.apply(previousPage.cursor, previousPage.page);
+						if (cursor == null) {
+							return CompletableFuture.completedFuture(null);
+						}
+						return fetch(cursor);
+					});
+		}
+
+		private CompletableFuture<Page<C, P>> fetch(C cursor) {
+			return fetchPage.apply(cursor).thenApply(page -> new Page<>(cursor, page));
+		}
+
+		private List<T> items(Page<C, P> page) {
+			List<T> pageItems = items.apply(page.page);
+			return pageItems == null ? Collections.emptyList() : pageItems;
+		}
+	}
+
+	private static final class PageIterator<C, P, T> implements Iterator<T> {
+		private final PageChain<C, P, T> chain;
+		private final int prefetchDepth;
+		private final Deque<CompletableFuture<Page<C, P>>> pending = new ArrayDeque<>();
+		private CompletableFuture<Page<C, P>> lastRequested;
+		private Iterator<T> items = Collections.emptyIterator();
+		private boolean finished;
+
+		private PageIterator(PageChain<C, P, T> chain, int prefetchDepth) {
+			this.chain = chain;
+			this.prefetchDepth = prefetchDepth;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (!items.hasNext()) {
+				if (finished) {
+					return false;
+				}
+				CompletableFuture<Page<C, P>> current =
+						pending.isEmpty() ? request() : pending.poll();
+				while (pending.size() < prefetchDepth) {
+					pending.add(request());
+				}
+				Page<C, P> page = await(current);
+				if (page == null) {
+					close();
+					return false;
+				}
+				items = chain.items(page).iterator();
+			}
+			return true;
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return items.next();
+		}
+
+		private CompletableFuture<Page<C, P>> request() {
+			lastRequested = lastRequested == null ? chain.first() : chain.next(lastRequested);
+			return lastRequested;
+		}
+
+		private Page<C, P> await(CompletableFuture<Page<C, P>> page) {
+			try {
+				return page.join();
+			} catch (CompletionException e) {
+				close();
+				if (e.getCause() instanceof ApiException) {
+					throw new UncheckedApiException((ApiException) e.getCause());
+				}
+				throw e;
+			}
+		}
+
+		/* Pages which were not requested yet won't be requested anymore */
+		private void close() {
+			finished = true;
+			items = Collections.emptyIterator();
+			for (CompletableFuture<Page<C, P>> page : pending) {
+				page.cancel(false);
+			}
+			pending.clear();
+		}
+	}
+}
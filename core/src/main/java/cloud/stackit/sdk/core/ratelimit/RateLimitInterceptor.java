@@ -0,0 +1,167 @@
+package cloud.stackit.sdk.core.ratelimit;
+
+import cloud.stackit.sdk.core.metrics.MetricsInterceptor;
+import cloud.stackit.sdk.core.metrics.MetricsRecorder;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Application interceptor which limits the request rate with a {@link RateLimiter} and retries
+ * requests rejected with a {@code Retry-After} header.
+ *
+ * <p>Requests answered with {@code 429 Too Many Requests} are retried after the {@code
+ * Retry-After} delay, or after one second if the response has no such header, as the API didn't
+ * process them. Requests answered with {@code 503 Service Unavailable} are retried only if they
+ * have a {@code Retry-After} header and an idempotent method. Delays longer than {@link
+ * RateLimiter#setMaxRetryAfter} and responses after the last retry are returned to the caller.
+ */
+public class RateLimitInterceptor implements Interceptor {
+	private static final int TOO_MANY_REQUESTS = 429;
+	private static final int SERVICE_UNAVAILABLE = 503;
+	private static final long DEFAULT_RETRY_AFTER_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private final RateLimiter rateLimiter;
+	private final MetricsRecorder metricsRecorder;
+
+	/**
+	 * Creates the interceptor for the given rate limiter.
+	 *
+	 * @param rateLimiter RateLimiter, may be shared between several interceptors
+	 */
+	public RateLimitInterceptor(RateLimiter rateLimiter) {
+		this(rateLimiter, null);
+	}
+
+	/**
+	 * Creates the interceptor for the given rate limiter, recording the retries.
+	 *
+	 * @param rateLimiter RateLimiter, may be shared between several interceptors
+	 * @param metricsRecorder MetricsRecorder for the retries, may be null
+	 */
+	public RateLimitInterceptor(RateLimiter rateLimiter, MetricsRecorder metricsRecorder) {
+		this.rateLimiter = rateLimiter;
+		this.metricsRecorder = metricsRecorder;
+	}
+
+	@NotNull @Override
+	public Response intercept(Chain chain) throws IOException {
+		Request request = chain.request();
+		String key = key(request.url());
+		for (int retries = 0; ; retries++) {
+			acquire(key);
+			Response response = chain.proceed(request);
+			long retryAfterNanos = retryAfterNanos(request, response);
+			if (retryAfterNanos < 0
+					|| retryAfterNanos > rateLimiter.getMaxRetryAfterNanos()
+					|| retries >= rateLimiter.getMaxRetries()) {
+				return response;
+			}
+			response.close();
+			if (metricsRecorder != null) {
+				metricsRecorder.recordRetry(MetricsInterceptor.operation(request));
+			}
+			rateLimiter.pause(key, retryAfterNanos, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * Checks whether the interceptor retries a response on its own, i.e. a {@code 429} response or
+	 * a {@code 503} response with {@code Retry-After} header of an idempotent request. Other
+	 * interceptors must not retry these responses again, see {@link
+	 * cloud.stackit.sdk.core.retry.RetryInterceptor}.
+	 *
+	 * @param request request
+	 * @param response response of the request
+	 * @return true if the response is retried by this interceptor
+	 */
+	public static boolean isRetried(Request request, Response response) {
+		return retryAfterNanos(request, response) >= 0;
+	}
+
+	private void acquire(String key) throws InterruptedIOException {
+		try {
+			rateLimiter.acquire(key);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for the rate limit");
+		}
+	}
+
+	/**
+	 * Returns the key of the bucket for the given URL, the host followed by the project ID if the
+	 * path contains one, e.g. {@code iaas.api.stackit.cloud/<PROJECT_ID>}.
+	 *
+	 * @param url URL of the request
+	 * @return key of the bucket
+	 */
+	/* default */ static String key(HttpUrl url) {
+		List<String> segments = url.pathSegments();
+		for (int i = 0; i < segments.size() - 1; i++) {
+			if ("projects".equals(segments.get(i))) {
+				return url.host() + "/" + segments.get(i + 1);
+			}
+		}
+		return url.host();
+	}
+
+	/**
+	 * Returns how long to wait before the request is retried.
+	 *
+	 * @return delay in nanoseconds, -1 if the request must not be retried
+	 */
+	private static long retryAfterNanos(Request request, Response response) {
+		int code = response.code();
+		if (code != TOO_MANY_REQUESTS && code != SERVICE_UNAVAILABLE) {
+			return -1;
+		}
+		RequestBody body = request.body();
+		if (body != null && body.isOneShot()) {
+			return -1;
+		}
+		long retryAfterNanos = parseRetryAfter(response);
+		if (code == TOO_MANY_REQUESTS) {
+			return retryAfterNanos < 0 ? DEFAULT_RETRY_AFTER_NANOS : retryAfterNanos;
+		}
+		return isIdempotent(request.method()) ? retryAfterNanos : -1;
+	}
+
+	private static long parseRetryAfter(Response response) {
+		String value = response.header("Retry-After");
+		if (value == null) {
+			return -1;
+		}
+		try {
+			return TimeUnit.SECONDS.toNanos(Math.max(0, Long.parseLong(value.trim())));
+		} catch (NumberFormatException ignored) {
+			// not delay-seconds, so it must be an HTTP date
+		}
+		Date date = response.headers().getDate("Retry-After");
+		if (date == null) {
+			return -1;
+		}
+		long delayMillis = date.getTime() - System.currentTimeMillis();
+		return TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis));
+	}
+
+	private static boolean isIdempotent(String method) {
+		switch (method) {
+			case "GET":
+			case "HEAD":
+			case "OPTIONS":
+			case "PUT":
+			case "DELETE":
+				return true;
+			default:
+				return false;
+		}
+	}
+}
@@ -0,0 +1,168 @@
+package cloud.stackit.sdk.core.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side rate limiter with a token bucket per key, used by the {@link RateLimitInterceptor}.
+ * API clients use it if it is set via {@link
+ * cloud.stackit.sdk.core.config.CoreConfiguration#rateLimiter(RateLimiter)}.
+ *
+ * <p>The interceptor uses the host of the request and, if the path contains one, the project ID
+ * as key, so every project of every service gets a bucket of its own. A bucket allows a burst of
+ * requests and then the given number of requests per second, requests exceeding the rate wait
+ * until a token is available. Share one rate limiter between all API clients of the process, so
+ * they share the buckets and stay below the limits of the API together.
+ *
+ * <p>If the API answers with {@code 429 Too Many Requests} or {@code 503 Service Unavailable} and
+ * a {@code Retry-After} header, the bucket of the request is paused until then and the request is
+ * retried, so all requests to the bucket wait instead of being rejected as well.
+ */
+public class RateLimiter {
+	private final long intervalNanos;
+	private final long burstNanos;
+	private final LongSupplier nanoClock;
+	private final Sleeper sleeper;
+	private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+	@SuppressWarnings("PMD.AvoidUsingVolatile")
+	private volatile int maxRetries = 3;
+	@SuppressWarnings("PMD.AvoidUsingVolatile")
+	private volatile long maxRetryAfterNanos = TimeUnit.MINUTES.toNanos(1);
+
+	private final LongAdder throttledCount = new LongAdder();
+	private final LongAdder retryAfterCount = new LongAdder();
+
+	/**
+	 * Creates a rate limiter.
+	 *
+	 * @param requestsPerSecond sustained number of requests per second and key, greater than 0
+	 * @param burst number of requests per key which may be sent at once, at least 1
+	 */
+	public RateLimiter(double requestsPerSecond, int burst) {
+		this(requestsPerSecond, burst, System::nanoTime, TimeUnit.NANOSECONDS::sleep);
+	}
+
+	/* default */ RateLimiter(
+			double requestsPerSecond, int burst, LongSupplier nanoClock, Sleeper sleeper) {
+		if (Double.isNaN(requestsPerSecond) || requestsPerSecond <= 0) {
+			throw new IllegalArgumentException("Requests per second must be greater than 0");
+		}
+		if (burst <= 0) {
+			throw new IllegalArgumentException("Burst must be at least 1");
+		}
+		this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond));
+		this.burstNanos = (burst - 1) * intervalNanos;
+		this.nanoClock = nanoClock;
+		this.sleeper = sleeper;
+	}
+
+	/**
+	 * SetMaxRetries sets how often a request is retried after a {@code Retry-After} response.
+	 * Defaults to 3.
+	 *
+	 * @param maxRetries
+	 */
+	public void setMaxRetries(int maxRetries) {
+		this.maxRetries = maxRetries;
+	}
+
+	public int getMaxRetries() {
+		return maxRetries;
+	}
+
+	/**
+	 * SetMaxRetryAfter sets the longest {@code Retry-After} delay which is waited for. Responses
+	 * with a longer delay are returned to the caller. Defaults to one minute.
+	 *
+	 * @param duration
+	 * @param unit
+	 */
+	public void setMaxRetryAfter(long duration, TimeUnit unit) {
+		this.maxRetryAfterNanos = unit.toNanos(duration);
+	}
+
+	public long getMaxRetryAfterNanos() {
+		return maxRetryAfterNanos;
+	}
+
+	/**
+	 * Takes a token from the bucket of the given key, waiting until one is available.
+	 *
+	 * @param key key of the bucket
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	public void acquire(String key) throws InterruptedException {
+		long now = nanoClock.getAsLong();
+		long waitNanos = buckets.computeIfAbsent(key, k -> new Bucket(now)).reserve(now);
+		if (waitNanos > 0) {
+			throttledCount.increment();
+			sleeper.sleep(waitNanos);
+		}
+	}
+
+	/**
+	 * Pauses the bucket of the given key, e.g. because of a {@code Retry-After} response. The
+	 * next token of the bucket is available after the delay, the following ones at the normal
+	 * rate.
+	 *
+	 * @param key key of the bucket
+	 * @param delay
+	 * @param unit
+	 */
+	public void pause(String key, long delay, TimeUnit unit) {
+		long now = nanoClock.getAsLong();
+		retryAfterCount.increment();
+		buckets.computeIfAbsent(key, k -> new Bucket(now)).pauseUntil(now + unit.toNanos(delay));
+	}
+
+	/**
+	 * Returns the number of requests which had to wait for a token.
+	 *
+	 * @return throttled count
+	 */
+	public long getThrottledCount() {
+		return throttledCount.sum();
+	}
+
+	/**
+	 * Returns the number of times a bucket was paused because of a {@code Retry-After} response.
+	 *
+	 * @return retry-after count
+	 */
+	public long getRetryAfterCount() {
+		return retryAfterCount.sum();
+	}
+
+	/** Waits for the given time, replaceable in tests. */
+	@FunctionalInterface
+	/* default */ interface Sleeper {
+		void sleep(long nanos) throws InterruptedException;
+	}
+
+	/**
+	 * Token bucket implemented as generic cell rate algorithm: instead of counting tokens, it
+	 * tracks when the bucket would be empty again if no more requests came.
+	 */
+	@SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
+	private final class Bucket {
+		// guarded by this
+		private long theoreticalArrivalNanos;
+
+		private Bucket(long now) {
+			this.theoreticalArrivalNanos = now;
+		}
+
+		private synchronized long reserve(long now) {
+			long arrival = Math.max(theoreticalArrivalNanos, now);
+			theoreticalArrivalNanos = arrival + intervalNanos;
+			return arrival - burstNanos - now;
+		}
+
+		private synchronized void pauseUntil(long until) {
+			theoreticalArrivalNanos = Math.max(theoreticalArrivalNanos, until + burstNanos);
+		}
+	}
+}
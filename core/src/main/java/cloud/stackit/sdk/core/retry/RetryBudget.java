@@ -0,0 +1,90 @@
+package cloud.stackit.sdk.core.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the retries to a fraction of the requests, so retries can't multiply the load on an API
+ * which is failing already.
+ *
+ * <p>Every request deposits the retry ratio into the budget and every retry withdraws 1. The
+ * balance is capped at the given number of retries, which are available right away, e.g. for the
+ * first requests of the process. With the default ratio of 0.1, the retries add at most 10% to
+ * the requests in the long run.
+ */
+public class RetryBudget {
+	// balance in thousandths of a retry
+	private static final long SCALE = 1000;
+
+	private final long deposit;
+	private final long maxBalance;
+	private final AtomicLong balance;
+	private final LongAdder exhaustedCount = new LongAdder();
+
+	/** Creates a budget with a retry ratio of 0.1 and at most 10 saved retries. */
+	public RetryBudget() {
+		this(0.1, 10);
+	}
+
+	/**
+	 * Creates a budget.
+	 *
+	 * @param retryRatio retries allowed per request, e.g. 0.1 for 10% additional requests
+	 * @param maxRetries retries which can be saved in the budget, at least 1
+	 */
+	public RetryBudget(double retryRatio, int maxRetries) {
+		if (Double.isNaN(retryRatio) || retryRatio < 0) {
+			throw new IllegalArgumentException("Retry ratio must not be negative");
+		}
+		if (maxRetries <= 0) {
+			throw new IllegalArgumentException("Max retries must be at least 1");
+		}
+		this.deposit = Math.round(retryRatio * SCALE);
+		this.maxBalance = maxRetries * SCALE;
+		this.balance = new AtomicLong(maxBalance);
+	}
+
+	/** Deposits the retry ratio for a request. */
+	public void deposit() {
+		if (balance.get() < maxBalance) {
+			balance.accumulateAndGet(
+					deposit, (current, add) -> Math.min(maxBalance, current + add));
+		}
+	}
+
+	/**
+	 * Withdraws a retry from the budget.
+	 *
+	 * @return true if the budget allows the retry
+	 */
+	public boolean tryWithdraw() {
+		while (true) {
+			long current = balance.get();
+			if (current < SCALE) {
+				exhaustedCount.increment();
+				return false;
+			}
+			if (balance.compareAndSet(current, current - SCALE)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Returns the retries currently available.
+	 *
+	 * @return balance of the budget
+	 */
+	public double getBalance() {
+		return (double) balance.get() / SCALE;
+	}
+
+	/**
+	 * Returns the number of retries which were skipped because the budget was exhausted.
+	 *
+	 * @return exhausted count
+	 */
+	public long getExhaustedCount() {
+		return exhaustedCount.sum();
+	}
+}
@@ -0,0 +1,113 @@
+package cloud.stackit.sdk.core.retry;
+
+import cloud.stackit.sdk.core.metrics.MetricsInterceptor;
+import cloud.stackit.sdk.core.metrics.MetricsRecorder;
+import cloud.stackit.sdk.core.ratelimit.RateLimitInterceptor;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Application interceptor which retries requests failing with a transient error according to a
+ * {@link RetryPolicy}.
+ *
+ * <p>If a {@link RateLimitInterceptor} is used as well, it should be added after this
+ * interceptor, so every retry is rate limited. The responses which the rate limit interceptor
+ * retries on its own, e.g. {@code 503} responses with {@code Retry-After} header, have to be left
+ * to it then, so a request isn't retried by both interceptors.
+ */
+public class RetryInterceptor implements Interceptor {
+	private final RetryPolicy retryPolicy;
+	private final MetricsRecorder metricsRecorder;
+	private final boolean rateLimited;
+
+	/**
+	 * Creates the interceptor for the given policy.
+	 *
+	 * @param retryPolicy RetryPolicy, may be shared between several interceptors
+	 */
+	public RetryInterceptor(RetryPolicy retryPolicy) {
+		this(retryPolicy, null);
+	}
+
+	/**
+	 * Creates the interceptor for the given policy, recording the retries.
+	 *
+	 * @param retryPolicy RetryPolicy, may be shared between several interceptors
+	 * @param metricsRecorder MetricsRecorder for the retries, may be null
+	 */
+	public RetryInterceptor(RetryPolicy retryPolicy, MetricsRecorder metricsRecorder) {
+		this(retryPolicy, metricsRecorder, false);
+	}
+
+	/**
+	 * Creates the interceptor for the given policy, recording the retries.
+	 *
+	 * @param retryPolicy RetryPolicy, may be shared between several interceptors
+	 * @param metricsRecorder MetricsRecorder for the retries, may be null
+	 * @param rateLimited true if a {@link RateLimitInterceptor} is added after this interceptor,
+	 *     the responses it retries on its own aren't retried again then
+	 */
+	public RetryInterceptor(
+			RetryPolicy retryPolicy, MetricsRecorder metricsRecorder, boolean rateLimited) {
+		this.retryPolicy = retryPolicy;
+		this.metricsRecorder = metricsRecorder;
+		this.rateLimited = rateLimited;
+	}
+
+	@NotNull @Override
+	public Response intercept(Chain chain) throws IOException {
+		Request request = chain.request();
+		RetryBudget retryBudget = retryPolicy.getRetryBudget();
+		retryBudget.deposit();
+		if (!isRetryable(request)) {
+			return chain.proceed(request);
+		}
+
+		for (int retry = 0; ; retry++) {
+			boolean mayRetry = retry < retryPolicy.getMaxRetries() && !chain.call().isCanceled();
+			Response response;
+			try {
+				response = chain.proceed(request);
+			} catch (IOException e) {
+				if (!mayRetry || !retryBudget.tryWithdraw()) {
+					throw e;
+				}
+				backoff(request, retry);
+				continue;
+			}
+			if (!mayRetry
+					|| !retryPolicy.isRetryableStatusCode(response.code())
+					|| rateLimited && RateLimitInterceptor.isRetried(request, response)
+					|| !retryBudget.tryWithdraw()) {
+				return response;
+			}
+			response.close();
+			backoff(request, retry);
+		}
+	}
+
+	private boolean isRetryable(Request request) {
+		RequestBody body = request.body();
+		return (body == null || !body.isOneShot())
+				&& retryPolicy.isRetryable(request.method(), request.url().encodedPath());
+	}
+
+	private void backoff(Request request, int retry) throws InterruptedIOException {
+		retryPolicy.retried();
+		if (metricsRecorder != null) {
+			metricsRecorder.recordRetry(MetricsInterceptor.operation(request));
+		}
+		try {
+			TimeUnit.NANOSECONDS.sleep(retryPolicy.getBackoffNanos(retry));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for a retry");
+		}
+	}
+}
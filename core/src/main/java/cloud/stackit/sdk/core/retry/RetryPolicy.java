@@ -0,0 +1,182 @@
+package cloud.stackit.sdk.core.retry;
+
+import cloud.stackit.sdk.core.utils.PathTemplate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Policy for retrying requests which failed with a transient error, used by the {@link
+ * RetryInterceptor}. API clients use it if it is set via {@link
+ * cloud.stackit.sdk.core.config.CoreConfiguration#retryPolicy(RetryPolicy)}.
+ *
+ * <p>Requests are retried if they fail with an I/O error, e.g. a connection reset, or with a
+ * transient status code, by default {@code 502 Bad Gateway}, {@code 503 Service Unavailable} and
+ * {@code 504 Gateway Timeout}. Only operations which can be repeated safely are retried: all
+ * requests with an idempotent method (GET, HEAD, OPTIONS, PUT and DELETE) and the POST and PATCH
+ * operations flagged via {@link #setSafeToRetry(String, String)}. If a {@link
+ * cloud.stackit.sdk.core.ratelimit.RateLimiter} is set as well, the {@code 503} responses with
+ * {@code Retry-After} header are retried by the rate limiter only.
+ *
+ * <p>The retries wait with exponential backoff and full jitter, and are limited by a {@link
+ * RetryBudget}, so they can't multiply the load on an API which is failing already. Share one
+ * policy between the API clients of the process, so they share the budget.
+ */
+public class RetryPolicy {
+	private int maxRetries = 3;
+	private long initialBackoffNanos = TimeUnit.MILLISECONDS.toNanos(100);
+	private long maxBackoffNanos = TimeUnit.SECONDS.toNanos(5);
+	private Set<Integer> retryableStatusCodes = codes(502, 503, 504);
+	private RetryBudget retryBudget = new RetryBudget();
+	private final List<SafeOperation> safeOperations = new CopyOnWriteArrayList<>();
+	private final LongAdder retryCount = new LongAdder();
+
+	/**
+	 * SetMaxRetries sets how often a request is retried at most. Defaults to 3.
+	 *
+	 * @param maxRetries
+	 */
+	public void setMaxRetries(int maxRetries) {
+		this.maxRetries = maxRetries;
+	}
+
+	public int getMaxRetries() {
+		return maxRetries;
+	}
+
+	/**
+	 * SetBackoff sets the backoff before the first retry and the maximum backoff. The backoff
+	 * doubles with every retry, the actual delay is a random value between 0 and the backoff.
+	 * Defaults to 100 milliseconds and 5 seconds.
+	 *
+	 * @param initialBackoff
+	 * @param maxBackoff
+	 * @param unit
+	 */
+	public void setBackoff(long initialBackoff, long maxBackoff, TimeUnit unit) {
+		this.initialBackoffNanos = unit.toNanos(initialBackoff);
+		this.maxBackoffNanos = unit.toNanos(maxBackoff);
+	}
+
+	/**
+	 * SetRetryableStatusCodes sets the status codes of transient errors. Defaults to 502, 503 and
+	 * 504.
+	 *
+	 * @param statusCodes
+	 */
+	public void setRetryableStatusCodes(int... statusCodes) {
+		this.retryableStatusCodes = codes(statusCodes);
+	}
+
+	/**
+	 * SetRetryBudget sets the budget which limits the retries. Defaults to a budget allowing 10%
+	 * additional requests.
+	 *
+	 * @param retryBudget
+	 */
+	public void setRetryBudget(RetryBudget retryBudget) {
+		this.retryBudget = retryBudget;
+	}
+
+	public RetryBudget getRetryBudget() {
+		return retryBudget;
+	}
+
+	/**
+	 * SetSafeToRetry flags a POST or PATCH operation as safe to retry, e.g. because the API
+	 * rejects a second creation of the same resource.
+	 *
+	 * @param method HTTP method of the operation
+	 * @param pathTemplate path of the operation, with a placeholder in braces for every path
+	 *     parameter, e.g. {@code /v2/projects/{projectId}/servers/{serverId}/start}
+	 */
+	public void setSafeToRetry(String method, String pathTemplate) {
+		safeOperations.add(new SafeOperation(method, new PathTemplate(pathTemplate)));
+	}
+
+	/**
+	 * Checks whether an operation may be retried.
+	 *
+	 * @param method HTTP method of the request
+	 * @param path encoded path of the request
+	 * @return true if the method is idempotent or the operation was flagged as safe to retry
+	 */
+	public boolean isRetryable(String method, String path) {
+		switch (method) {
+			case "GET":
+			case "HEAD":
+			case "OPTIONS":
+			case "PUT":
+			case "DELETE":
+				return true;
+			default:
+				break;
+		}
+		String[] segments = PathTemplate.split(path);
+		for (SafeOperation operation : safeOperations) {
+			if (operation.method.equals(method) && operation.pathTemplate.matches(segments)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks whether a status code indicates a transient error.
+	 *
+	 * @param statusCode HTTP status code of the response
+	 * @return true if the request may succeed when retried
+	 */
+	public boolean isRetryableStatusCode(int statusCode) {
+		return retryableStatusCodes.contains(statusCode);
+	}
+
+	/**
+	 * Returns the delay before a retry, a random value between 0 and the exponential backoff.
+	 *
+	 * @param retry number of the retry, starting at 0
+	 * @return delay in nanoseconds
+	 */
+	public long getBackoffNanos(int retry) {
+		long backoff = initialBackoffNanos << Math.min(retry, 30);
+		if (backoff <= 0 || backoff > maxBackoffNanos) {
+			backoff = maxBackoffNanos;
+		}
+		return backoff <= 0 ? 0 : ThreadLocalRandom.current().nextLong(backoff + 1);
+	}
+
+	/**
+	 * Returns the number of retries.
+	 *
+	 * @return retry count
+	 */
+	public long getRetryCount() {
+		return retryCount.sum();
+	}
+
+	/* default */ void retried() {
+		retryCount.increment();
+	}
+
+	private static Set<Integer> codes(int... statusCodes) {
+		Set<Integer> codes = new HashSet<>();
+		for (int statusCode : statusCodes) {
+			codes.add(statusCode);
+		}
+		return codes;
+	}
+
+	private static final class SafeOperation {
+		private final String method;
+		private final PathTemplate pathTemplate;
+
+		private SafeOperation(String method, PathTemplate pathTemplate) {
+			this.method = method;
+			this.pathTemplate = pathTemplate;
+		}
+	}
+}
@@ -0,0 +1,78 @@
+package cloud.stackit.sdk.core.utils;
+
+/**
+ * Path of an operation with a placeholder in braces for every path parameter, e.g. {@code
+ * /v2/projects/{projectId}/regions/{region}/servers/{serverId}}, which identifies the operation of
+ * a request by its path.
+ */
+public final class PathTemplate {
+	private final String template;
+	private final String[] segments;
+	private final int literalSegments;
+
+	/**
+	 * Creates a path template.
+	 *
+	 * @param template path of the operation, with a placeholder in braces for every path parameter
+	 */
+	public PathTemplate(String template) {
+		this.template = template;
+		this.segments = split(template);
+		int literals = 0;
+		for (String segment : segments) {
+			if (!isPlaceholder(segment)) {
+				literals++;
+			}
+		}
+		this.literalSegments = literals;
+	}
+
+	/**
+	 * Splits a path into its segments, to match it against several templates.
+	 *
+	 * @param path encoded path, e.g. of a request
+	 * @return segments of the path
+	 */
+	public static String[] split(String path) {
+		String trimmed = path.startsWith("/") ? path.substring(1) : path;
+		return trimmed.isEmpty() ? new String[0] : trimmed.split("/", -1);
+	}
+
+	/**
+	 * Checks whether a path matches the template, i.e. it has the same literal segments and a
+	 * segment for every placeholder.
+	 *
+	 * @param pathSegments segments of the path, see {@link #split(String)}
+	 * @return true if the path matches
+	 */
+	public boolean matches(String[] pathSegments) {
+		if (pathSegments.length != segments.length) {
+			return false;
+		}
+		for (int i = 0; i < segments.length; i++) {
+			if (!isPlaceholder(segments[i]) && !segments[i].equals(pathSegments[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the number of segments which aren't placeholders. If several templates match a
+	 * path, the one with the most literal segments is the most specific one.
+	 *
+	 * @return number of literal segments
+	 */
+	public int getLiteralSegments() {
+		return literalSegments;
+	}
+
+	@Override
+	public String toString() {
+		return template;
+	}
+
+	private static boolean isPlaceholder(String segment) {
+		return segment.startsWith("{") && segment.endsWith("}");
+	}
+}
@@ -7,7 +7,10 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -24,12 +27,19 @@ public class AsyncActionHandler<T> {
 	public static final String TIMEOUT_ERROR_MESSAGE = "WaitWithContextAsync() has timed out.";
 	public static final String NON_GENERIC_API_ERROR_MESSAGE = "Found non-GenericOpenAPIError.";
 
+	private static final double MIN_BACKOFF_MULTIPLIER = 1;
+	private static final double MAX_JITTER = 1;
+
 	private final CheckFunction<AsyncActionResult<T>> checkFn;
 
 	private long sleepBeforeWaitMillis;
 	private long throttleMillis;
 	private long timeoutMillis;
 	private int tempErrRetryLimit;
+	private double backoffMultiplier;
+	private long maxThrottleMillis;
+	private double jitter;
+	private Executor checkExecutor;
 
 	public AsyncActionHandler(CheckFunction<AsyncActionResult<T>> checkFn) {
 		this.checkFn = checkFn;
@@ -37,6 +47,9 @@ public class AsyncActionHandler<T> {
 		this.throttleMillis = TimeUnit.SECONDS.toMillis(5);
 		this.timeoutMillis = TimeUnit.MINUTES.toMillis(30);
 		this.tempErrRetryLimit = 5;
+		this.backoffMultiplier = 1;
+		this.maxThrottleMillis = TimeUnit.MINUTES.toMillis(1);
+		this.jitter = 0;
 	}
 
 	/**
@@ -79,6 +92,61 @@ public class AsyncActionHandler<T> {
 		this.tempErrRetryLimit = limit;
 	}
 
+	/**
+	 * SetBackoffMultiplier sets the factor by which the interval between two checks grows after
+	 * each check. The first interval is the throttle, the interval never exceeds the max throttle.
+	 * The default multiplier 1 keeps the interval constant.
+	 *
+	 * @param multiplier at least 1
+	 */
+	public void setBackoffMultiplier(double multiplier) {
+		this.backoffMultiplier = multiplier;
+	}
+
+	/**
+	 * SetMaxThrottle sets the upper limit of the interval between two checks, when the interval
+	 * grows because of the backoff multiplier.
+	 *
+	 * @param duration
+	 * @param unit
+	 */
+	public void setMaxThrottle(long duration, TimeUnit unit) {
+		this.maxThrottleMillis = unit.toMillis(duration);
+	}
+
+	/**
+	 * SetJitter sets the fraction by which each interval between two checks is randomly shortened,
+	 * so wait handlers started at the same time don't send their checks at the same time.
+	 *
+	 * @param jitter between 0 (default, no jitter) and 1
+	 */
+	public void setJitter(double jitter) {
+		this.jitter = jitter;
+	}
+
+	/**
+	 * SetCheckExecutor sets the executor which runs the checks of this wait handler. By default,
+	 * the check executor of the {@link ScheduleExecutorSingleton} is used.
+	 *
+	 * @param executor
+	 */
+	public void setCheckExecutor(Executor executor) {
+		this.checkExecutor = executor;
+	}
+
+	/**
+	 * Returns the interval before the next check, after the given number of checks.
+	 *
+	 * @param checks number of checks which were already executed, at least 1
+	 * @return interval in milliseconds
+	 */
+	/* default */ long getIntervalMillis(int checks) {
+		double intervalMillis = throttleMillis * Math.pow(backoffMultiplier, checks - 1);
+		intervalMillis = Math.min(intervalMillis, Math.max(throttleMillis, maxThrottleMillis));
+		intervalMillis -= intervalMillis * jitter * ThreadLocalRandom.current().nextDouble();
+		return Math.max(1, (long) intervalMillis);
+	}
+
 	/**
 	 * Runnable task which is executed periodically.
 	 *
@@ -93,6 +161,7 @@ public class AsyncActionHandler<T> {
 		}
 		if (System.currentTimeMillis() - startTime >= timeoutMillis) {
 			future.completeExceptionally(new TimeoutException(TIMEOUT_ERROR_MESSAGE));
+			return;
 		}
 		try {
 			AsyncActionResult<T> result = checkFn.execute();
@@ -123,33 +192,95 @@ public class AsyncActionHandler<T> {
 		if (throttleMillis <= 0) {
 			throw new IllegalArgumentException("Throttle can't be 0 or less");
 		}
+		if (backoffMultiplier < MIN_BACKOFF_MULTIPLIER) {
+			throw new IllegalArgumentException("Backoff multiplier can't be less than 1");
+		}
+		if (jitter < 0 || jitter > MAX_JITTER) {
+			throw new IllegalArgumentException("Jitter must be between 0 and 1");
+		}
 
 		CompletableFuture<T> future = new CompletableFuture<>();
-		long startTime = System.currentTimeMillis();
-		AtomicInteger retryTempErrorCounter = new AtomicInteger(0);
-
-		// This runnable is called periodically.
-		Runnable checkTask = () -> executeCheckTask(future, startTime, retryTempErrorCounter);
-
-		// start the periodic execution
-		ScheduledFuture<?> scheduledFuture =
-				ScheduleExecutorSingleton.getInstance()
-						.getScheduler()
-						.scheduleWithFixedDelay(
-								checkTask,
-								sleepBeforeWaitMillis,
-								throttleMillis,
-								TimeUnit.MILLISECONDS);
+		Executor executor =
+				checkExecutor == null
+						? ScheduleExecutorSingleton.getInstance().getCheckExecutor()
+						: checkExecutor;
+		CheckTask checkTask = new CheckTask(future, executor);
+
+		// start the execution, each check schedules the next one
+		checkTask.schedule(sleepBeforeWaitMillis);
 
 		// stop task when future is completed
 		future.whenComplete(
 				(result, error) -> {
-					scheduledFuture.cancel(true);
+					checkTask.cancel();
 				});
 
 		return future;
 	}
 
+	/**
+	 * Schedules the checks of one wait. The scheduler only triggers the checks, which are then
+	 * executed by the check executor, so a slow check doesn't delay the checks of other wait
+	 * handlers.
+	 */
+	@SuppressWarnings({"PMD.DoNotUseThreads", "PMD.AvoidCatchingGenericException"})
+	private final class CheckTask {
+		private final CompletableFuture<T> future;
+		private final Executor executor;
+		private final long startTime = System.currentTimeMillis();
+		private final AtomicInteger retryTempErrorCounter = new AtomicInteger(0);
+		private final AtomicInteger checks = new AtomicInteger(0);
+		@SuppressWarnings("PMD.AvoidUsingVolatile")
+		private volatile ScheduledFuture<?> scheduledFuture;
+
+		private CheckTask(CompletableFuture<T> future, Executor executor) {
+			this.future = future;
+			this.executor = executor;
+		}
+
+		private void schedule(long delayMillis) {
+			if (future.isDone()) {
+				return;
+			}
+			// don't wait longer than the remaining time until the timeout
+			long remainingMillis = timeoutMillis - (System.currentTimeMillis() - startTime);
+			scheduledFuture =
+					ScheduleExecutorSingleton.getInstance()
+							.getScheduler()
+							.schedule(
+									this::submit,
+									Math.max(0, Math.min(delayMillis, remainingMillis)),
+									TimeUnit.MILLISECONDS);
+			if (future.isDone()) {
+				scheduledFuture.cancel(false);
+			}
+		}
+
+		private void submit() {
+			try {
+				executor.execute(this::check);
+			} catch (RejectedExecutionException e) {
+				future.completeExceptionally(e);
+			}
+		}
+
+		private void check() {
+			try {
+				executeCheckTask(future, startTime, retryTempErrorCounter);
+			} catch (RuntimeException e) {
+				future.completeExceptionally(e);
+			}
+			schedule(getIntervalMillis(checks.incrementAndGet()));
+		}
+
+		private void cancel() {
+			ScheduledFuture<?> scheduled = scheduledFuture;
+			if (scheduled != null) {
+				scheduled.cancel(false);
+			}
+		}
+	}
+
 	// Helper class to encapsulate the result of the checkFn
 	public static class AsyncActionResult<T> {
 		private final boolean finished;
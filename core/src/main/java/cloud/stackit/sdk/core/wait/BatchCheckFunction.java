@@ -0,0 +1,22 @@
+package cloud.stackit.sdk.core.wait;
+
+import cloud.stackit.sdk.core.exception.ApiException;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fetches the current state of several resources with one API call, e.g. a list call filtered by
+ * the resource ids. Used by the {@link BatchingPoller}.
+ *
+ * @param <K> Type of the resource ids
+ * @param <R> Type of the resources
+ */
+@FunctionalInterface
+public interface BatchCheckFunction<K, R> {
+	/**
+	 * @param keys ids of the resources to fetch
+	 * @return the found resources by their id, resources which were not found can be omitted
+	 * @throws ApiException if the API call fails
+	 */
+	Map<K, R> execute(Set<K> keys) throws ApiException;
+}
@@ -0,0 +1,308 @@
+package cloud.stackit.sdk.core.wait;
+
+import cloud.stackit.sdk.core.exception.ApiException;
+import cloud.stackit.sdk.core.exception.GenericOpenAPIException;
+import cloud.stackit.sdk.core.wait.AsyncActionHandler.AsyncActionResult;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Waits for many resources of the same type with one batch call per interval, instead of one
+ * call per resource and interval like the {@link AsyncActionHandler}.
+ *
+ * <p>All waits registered via {@link #waitFor} are polled together: per interval, the ids of all
+ * pending waits are passed to the {@link BatchCheckFunction}, e.g. a list call filtered by these
+ * ids, split into batches of at most {@link #setMaxBatchSize(int)} ids. Each returned resource is
+ * then passed to the {@link ResourceCheckFunction} of its waits. The poller only polls while
+ * there are pending waits.
+ *
+ * <p>Errors are handled like by the {@link AsyncActionHandler}: temporary errors are retried up to
+ * the retry limit, other API errors are ignored until the timeout is reached.
+ *
+ * @param <K> Type of the resource ids
+ * @param <R> Type of the resources
+ */
+@SuppressWarnings({"PMD.DoNotUseThreads", "PMD.AvoidCatchingGenericException"})
+public class BatchingPoller<K, R> {
+	private final BatchCheckFunction<K, R> batchCheckFn;
+	private final Queue<PendingWait<?>> waits = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean polling = new AtomicBoolean(false);
+
+	private long sleepBeforeWaitMillis;
+	private long throttleMillis;
+	private long timeoutMillis;
+	private int tempErrRetryLimit;
+	private int maxBatchSize;
+	private Executor checkExecutor;
+
+	public BatchingPoller(BatchCheckFunction<K, R> batchCheckFn) {
+		this.batchCheckFn = batchCheckFn;
+		this.sleepBeforeWaitMillis = 0;
+		this.throttleMillis = TimeUnit.SECONDS.toMillis(5);
+		this.timeoutMillis = TimeUnit.MINUTES.toMillis(30);
+		this.tempErrRetryLimit = 5;
+		this.maxBatchSize = 100;
+	}
+
+	/**
+	 * SetThrottle sets the time interval between two batch calls.
+	 *
+	 * @param duration
+	 * @param unit
+	 */
+	public void setThrottle(long duration, TimeUnit unit) {
+		this.throttleMillis = unit.toMillis(duration);
+	}
+
+	/**
+	 * SetTimeout sets the default duration for the wait timeout.
+	 *
+	 * @param duration
+	 * @param unit
+	 */
+	public void setTimeout(long duration, TimeUnit unit) {
+		this.timeoutMillis = unit.toMillis(duration);
+	}
+
+	/**
+	 * SetSleepBeforeWait sets the default duration after which a new wait is polled the first
+	 * time.
+	 *
+	 * @param duration
+	 * @param unit
+	 */
+	public void setSleepBeforeWait(long duration, TimeUnit unit) {
+		this.sleepBeforeWaitMillis = unit.toMillis(duration);
+	}
+
+	/**
+	 * SetTempErrRetryLimit sets the retry limit per wait if a temporary error is found. The list of
+	 * temporary errors is defined in {@link AsyncActionHandler#RETRY_HTTP_ERROR_STATUS_CODES}.
+	 *
+	 * @param limit
+	 */
+	public void setTempErrRetryLimit(int limit) {
+		this.tempErrRetryLimit = limit;
+	}
+
+	/**
+	 * SetMaxBatchSize sets the maximum number of ids passed to one batch call. If more resources
+	 * are pending, several batch calls are made per interval.
+	 *
+	 * @param maxBatchSize at least 1
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+		if (maxBatchSize <= 0) {
+			throw new IllegalArgumentException("Max batch size must be at least 1");
+		}
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * SetCheckExecutor sets the executor which runs the batch calls. By default, the check
+	 * executor of the {@link ScheduleExecutorSingleton} is used.
+	 *
+	 * @param executor
+	 */
+	public void setCheckExecutor(Executor executor) {
+		this.checkExecutor = executor;
+	}
+
+	/**
+	 * Waits for the resource with the given id, using the default sleep before wait and timeout.
+	 *
+	 * @param key id of the resource
+	 * @param checkFn checks the fetched resource
+	 * @param <T> Type of the result
+	 * @return future, which completes with the response of the finished check
+	 */
+	public <T> CompletableFuture<T> waitFor(
+			K key, ResourceCheckFunction<R, AsyncActionResult<T>> checkFn) {
+		return waitFor(
+				key, checkFn, sleepBeforeWaitMillis, timeoutMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Waits for the resource with the given id.
+	 *
+	 * @param key id of the resource
+	 * @param checkFn checks the fetched resource
+	 * @param sleepBeforeWait duration before the resource is polled the first time
+	 * @param timeout duration after which the wait fails with a {@link TimeoutException}
+	 * @param unit unit of the durations
+	 * @param <T> Type of the result
+	 * @return future, which completes with the response of the finished check
+	 */
+	public <T> CompletableFuture<T> waitFor(
+			K key,
+			ResourceCheckFunction<R, AsyncActionResult<T>> checkFn,
+			long sleepBeforeWait,
+			long timeout,
+			TimeUnit unit) {
+		if (throttleMillis <= 0) {
+			throw new IllegalArgumentException("Throttle can't be 0 or less");
+		}
+		long now = System.currentTimeMillis();
+		PendingWait<T> wait =
+				new PendingWait<>(
+						key,
+						checkFn,
+						now + unit.toMillis(sleepBeforeWait),
+						now + unit.toMillis(timeout));
+		waits.add(wait);
+		startPolling();
+		return wait.future;
+	}
+
+	private void startPolling() {
+		if (polling.compareAndSet(false, true)) {
+			schedulePoll();
+		}
+	}
+
+	private void schedulePoll() {
+		ScheduleExecutorSingleton.getInstance()
+				.getScheduler()
+				.schedule(this::submitPoll, throttleMillis, TimeUnit.MILLISECONDS);
+	}
+
+	private void submitPoll() {
+		Executor executor =
+				checkExecutor == null
+						? ScheduleExecutorSingleton.getInstance().getCheckExecutor()
+						: checkExecutor;
+		try {
+			executor.execute(this::poll);
+		} catch (RejectedExecutionException e) {
+			for (PendingWait<?> wait : waits) {
+				wait.future.completeExceptionally(e);
+			}
+			waits.clear();
+			polling.set(false);
+		}
+	}
+
+	private void poll() {
+		try {
+			pollOnce();
+		} finally {
+			waits.removeIf(wait -> wait.future.isDone());
+			if (waits.isEmpty()) {
+				polling.set(false);
+				// a wait may have been added after the last poll
+				if (!waits.isEmpty()) {
+					startPolling();
+				}
+			} else {
+				schedulePoll();
+			}
+		}
+	}
+
+	/** Executes the batch calls for all pending waits, which are due. */
+	private void pollOnce() {
+		long now = System.currentTimeMillis();
+		LinkedHashMap<K, List<PendingWait<?>>> dueWaits = new LinkedHashMap<>();
+		for (PendingWait<?> wait : waits) {
+			if (wait.future.isDone()) {
+				waits.remove(wait);
+			} else if (now >= wait.deadline) {
+				wait.future.completeExceptionally(
+						new TimeoutException(AsyncActionHandler.TIMEOUT_ERROR_MESSAGE));
+				waits.remove(wait);
+			} else if (now >= wait.notBefore) {
+				dueWaits.computeIfAbsent(wait.key, k -> new ArrayList<>()).add(wait);
+			}
+		}
+
+		List<K> keys = new ArrayList<>(dueWaits.keySet());
+		for (int from = 0; from < keys.size(); from += maxBatchSize) {
+			List<K> batch = keys.subList(from, Math.min(from + maxBatchSize, keys.size()));
+			Map<K, R> resources;
+			try {
+				resources = batchCheckFn.execute(new LinkedHashSet<>(batch));
+			} catch (ApiException e) {
+				for (K key : batch) {
+					for (PendingWait<?> wait : dueWaits.get(key)) {
+						wait.handleApiException(e);
+					}
+				}
+				continue;
+			} catch (RuntimeException e) {
+				for (K key : batch) {
+					for (PendingWait<?> wait : dueWaits.get(key)) {
+						wait.future.completeExceptionally(e);
+					}
+				}
+				continue;
+			}
+			if (resources == null) {
+				resources = Collections.emptyMap();
+			}
+			for (K key : batch) {
+				for (PendingWait<?> wait : dueWaits.get(key)) {
+					wait.check(resources.get(key));
+				}
+			}
+		}
+	}
+
+	private final class PendingWait<T> {
+		private final K key;
+		private final ResourceCheckFunction<R, AsyncActionResult<T>> checkFn;
+		private final long notBefore;
+		private final long deadline;
+		private final CompletableFuture<T> future = new CompletableFuture<>();
+		private int retryTempErrorCounter;
+
+		private PendingWait(
+				K key,
+				ResourceCheckFunction<R, AsyncActionResult<T>> checkFn,
+				long notBefore,
+				long deadline) {
+			this.key = key;
+			this.checkFn = checkFn;
+			this.notBefore = notBefore;
+			this.deadline = deadline;
+		}
+
+		private void check(R resource) {
+			try {
+				AsyncActionResult<T> result = checkFn.execute(resource);
+				if (result != null && result.isFinished()) {
+					future.complete(result.getResponse());
+				}
+			} catch (ApiException e) {
+				handleApiException(e);
+			} catch (RuntimeException e) {
+				future.completeExceptionally(e);
+			}
+		}
+
+		private void handleApiException(ApiException e) {
+			GenericOpenAPIException oapiErr = new GenericOpenAPIException(e);
+			// Some APIs may return temporary errors and the request should be retried
+			if (!AsyncActionHandler.RETRY_HTTP_ERROR_STATUS_CODES.contains(
+					oapiErr.getStatusCode())) {
+				return;
+			}
+			retryTempErrorCounter++;
+			if (retryTempErrorCounter == tempErrRetryLimit) {
+				future.completeExceptionally(
+						new Exception(AsyncActionHandler.TEMPORARY_ERROR_MESSAGE, oapiErr));
+			}
+		}
+	}
+}
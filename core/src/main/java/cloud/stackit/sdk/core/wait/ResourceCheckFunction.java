@@ -0,0 +1,19 @@
+package cloud.stackit.sdk.core.wait;
+
+import cloud.stackit.sdk.core.exception.ApiException;
+
+/**
+ * Checks the state of a single resource, which was fetched by a {@link BatchCheckFunction}.
+ *
+ * @param <R> Type of the resource
+ * @param <V> Result of the check
+ */
+@FunctionalInterface
+public interface ResourceCheckFunction<R, V> {
+	/**
+	 * @param resource the resource, null if it wasn't returned by the batch call
+	 * @return result of the check
+	 * @throws ApiException if the resource is in an error state
+	 */
+	V execute(R resource) throws ApiException;
+}
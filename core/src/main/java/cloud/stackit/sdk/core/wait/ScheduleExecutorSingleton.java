@@ -1,7 +1,9 @@
 package cloud.stackit.sdk.core.wait;
 
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -14,14 +16,12 @@ import java.util.concurrent.locks.ReentrantLock;
 public final class ScheduleExecutorSingleton {
 	// Default pool size for the thread pool
 	private static final int DEFAULT_POOL_SIZE = 1;
-	private static ScheduleExecutorSingleton instance;
+	@SuppressWarnings("PMD.AvoidUsingVolatile")
+	private static volatile ScheduleExecutorSingleton instance;
 	private static final Lock LOCK = new ReentrantLock();
-	private final ScheduledExecutorService scheduler;
-
-	/** Default constructor which takes the default pool size */
-	private ScheduleExecutorSingleton() {
-		this(DEFAULT_POOL_SIZE);
-	}
+	private final ScheduledThreadPoolExecutor scheduler;
+	@SuppressWarnings("PMD.AvoidUsingVolatile")
+	private volatile Executor checkExecutor;
 
 	/**
 	 * Constructor to set a different pool size
@@ -31,25 +31,28 @@ public final class ScheduleExecutorSingleton {
 	private ScheduleExecutorSingleton(int poolSize) {
 		// Use Daemon threads to prevent that the user need to call shutdown
 		// even if its program was already terminated
-		ThreadFactory daemonThreadFactory =
-				runnable -> {
-					Thread thread = new Thread(runnable);
-					thread.setDaemon(true);
-					return thread;
-				};
-		this.scheduler = Executors.newScheduledThreadPool(poolSize, daemonThreadFactory);
+		this.scheduler =
+				new ScheduledThreadPoolExecutor(poolSize, daemonThreadFactory("stackit-wait"));
+		// cancelled checks of completed wait handlers shouldn't pile up in the queue
+		this.scheduler.setRemoveOnCancelPolicy(true);
+		this.checkExecutor =
+				Executors.newCachedThreadPool(daemonThreadFactory("stackit-wait-check"));
 	}
 
-	public static ScheduleExecutorSingleton getInstance() {
-		return getInstance(DEFAULT_POOL_SIZE);
+	private static ThreadFactory daemonThreadFactory(String name) {
+		return runnable -> {
+			Thread thread = new Thread(runnable, name);
+			thread.setDaemon(true);
+			return thread;
+		};
 	}
 
-	public static ScheduleExecutorSingleton getInstance(int poolSize) {
+	public static ScheduleExecutorSingleton getInstance() {
 		if (instance == null) {
 			LOCK.lock();
 			try {
 				if (instance == null) {
-					instance = new ScheduleExecutorSingleton(poolSize);
+					instance = new ScheduleExecutorSingleton(DEFAULT_POOL_SIZE);
 				}
 			} finally {
 				LOCK.unlock();
@@ -58,7 +61,63 @@ public final class ScheduleExecutorSingleton {
 		return instance;
 	}
 
+	/**
+	 * Returns the instance and sets the pool size of its scheduler, see {@link
+	 * #setPoolSize(int)}.
+	 *
+	 * @param poolSize number of scheduler threads
+	 * @return the instance
+	 */
+	public static ScheduleExecutorSingleton getInstance(int poolSize) {
+		ScheduleExecutorSingleton singleton = getInstance();
+		singleton.setPoolSize(poolSize);
+		return singleton;
+	}
+
 	public ScheduledExecutorService getScheduler() {
 		return scheduler;
 	}
+
+	/**
+	 * Sets the number of scheduler threads. The pool size can be changed at any time, also while
+	 * wait handlers are running. The scheduler threads only schedule the checks, the checks are run
+	 * by the check executor.
+	 *
+	 * @param poolSize number of scheduler threads, at least 1
+	 * @throws IllegalArgumentException if the pool size is less than 1
+	 */
+	public void setPoolSize(int poolSize) {
+		if (poolSize <= 0) {
+			throw new IllegalArgumentException("Pool size must be at least 1");
+		}
+		scheduler.setCorePoolSize(poolSize);
+	}
+
+	public int getPoolSize() {
+		return scheduler.getCorePoolSize();
+	}
+
+	/**
+	 * Returns the executor which runs the checks of the wait handlers, unless a wait handler has
+	 * its own check executor. By default, a cached thread pool is used, so blocking checks of
+	 * different wait handlers don't delay each other.
+	 *
+	 * @return executor for the checks
+	 */
+	public Executor getCheckExecutor() {
+		return checkExecutor;
+	}
+
+	/**
+	 * Sets the executor which runs the checks of all wait handlers without their own check
+	 * executor, e.g. a bounded thread pool to limit the number of concurrent checks.
+	 *
+	 * @param checkExecutor executor for the checks
+	 */
+	public void setCheckExecutor(Executor checkExecutor) {
+		if (checkExecutor == null) {
+			throw new IllegalArgumentException("Check executor must not be null");
+		}
+		this.checkExecutor = checkExecutor;
+	}
 }
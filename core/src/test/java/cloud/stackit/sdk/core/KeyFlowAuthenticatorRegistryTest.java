@@ -0,0 +1,114 @@
+package cloud.stackit.sdk.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import cloud.stackit.sdk.core.config.CoreConfiguration;
+import cloud.stackit.sdk.core.model.ServiceAccountCredentials;
+import cloud.stackit.sdk.core.model.ServiceAccountKey;
+import java.util.Date;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class KeyFlowAuthenticatorRegistryTest {
+	private final OkHttpClient httpClient = new OkHttpClient();
+
+	private static ServiceAccountKey createServiceAccountKey(String kid, String sub) {
+		ServiceAccountCredentials credentials =
+				new ServiceAccountCredentials("aud", "iss", kid, "privateKey", sub);
+		return new ServiceAccountKey(
+				"id",
+				"publicKey",
+				new Date(),
+				"keyType",
+				"keyOrigin",
+				"keyAlgo",
+				true,
+				new Date(),
+				credentials);
+	}
+
+	@AfterEach
+	void tearDown() {
+		KeyFlowAuthenticatorRegistry.clear();
+	}
+
+	@Test
+	void getAuthenticator_sameServiceAccount_returnsSharedAuthenticator() {
+		CoreConfiguration cfg = new CoreConfiguration().tokenCustomUrl("https://token.example");
+
+		KeyFlowAuthenticator first =
+				KeyFlowAuthenticatorRegistry.getAuthenticator(
+						httpClient, cfg, createServiceAccountKey("kid", "sub"));
+		KeyFlowAuthenticator second =
+				KeyFlowAuthenticatorRegistry.getAuthenticator(
+						httpClient, cfg, createServiceAccountKey("kid", "sub"));
+
+		assertSame(first, second);
+	}
+
+	@Test
+	void getAuthenticator_differentServiceAccount_returnsDifferentAuthenticators() {
+		CoreConfiguration cfg = new CoreConfiguration().tokenCustomUrl("https://token.example");
+
+		KeyFlowAuthenticator first =
+				KeyFlowAuthenticatorRegistry.getAuthenticator(
+						httpClient, cfg, createServiceAccountKey("kid", "sub"));
+
+		assertNotSame(
+				first,
+				KeyFlowAuthenticatorRegistry.getAuthenticator(
+						httpClient, cfg, createServiceAccountKey("other-kid", "sub")));
+		assertNotSame(
+				first,
+				KeyFlowAuthenticatorRegistry.getAuthenticator(
+						httpClient, cfg, createServiceAccountKey("kid", "other-sub")));
+	}
+
+	@Test
+	void getAuthenticator_differentTokenEndpoint_returnsDifferentAuthenticators() {
+		ServiceAccountKey saKey = createServiceAccountKey("kid", "sub");
+
+		KeyFlowAuthenticator first =
+				KeyFlowAuthenticatorRegistry.getAuthenticator(
+						httpClient,
+						new CoreConfiguration().tokenCustomUrl("https://token.example"),
+						saKey);
+		KeyFlowAuthenticator second =
+				KeyFlowAuthenticatorRegistry.getAuthenticator(
+						httpClient,
+						new CoreConfiguration().tokenCustomUrl("https://other-token.example"),
+						saKey);
+
+		assertNotSame(first, second);
+	}
+
+	@Test
+	void getAuthenticator_sharingDisabled_returnsNewAuthenticator() {
+		CoreConfiguration cfg =
+				new CoreConfiguration()
+						.tokenCustomUrl("https://token.example")
+						.sharedTokenCache(false);
+		ServiceAccountKey saKey = createServiceAccountKey("kid", "sub");
+
+		KeyFlowAuthenticator first =
+				KeyFlowAuthenticatorRegistry.getAuthenticator(httpClient, cfg, saKey);
+		KeyFlowAuthenticator second =
+				KeyFlowAuthenticatorRegistry.getAuthenticator(httpClient, cfg, saKey);
+
+		assertNotSame(first, second);
+	}
+
+	@Test
+	void clear_removesSharedAuthenticators() {
+		CoreConfiguration cfg = new CoreConfiguration().tokenCustomUrl("https://token.example");
+		ServiceAccountKey saKey = createServiceAccountKey("kid", "sub");
+
+		KeyFlowAuthenticator first =
+				KeyFlowAuthenticatorRegistry.getAuthenticator(httpClient, cfg, saKey);
+		KeyFlowAuthenticatorRegistry.clear();
+
+		assertNotSame(
+				first, KeyFlowAuthenticatorRegistry.getAuthenticator(httpClient, cfg, saKey));
+	}
+}
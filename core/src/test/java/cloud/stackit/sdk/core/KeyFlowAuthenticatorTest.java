@@ -4,10 +4,12 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import cloud.stackit.sdk.core.config.CoreConfiguration;
 import cloud.stackit.sdk.core.exception.ApiException;
+import cloud.stackit.sdk.core.metrics.InMemoryMetricsRecorder;
 import cloud.stackit.sdk.core.model.ServiceAccountCredentials;
 import cloud.stackit.sdk.core.model.ServiceAccountKey;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import java.io.IOException;
@@ -16,9 +18,11 @@ import java.security.interfaces.RSAPrivateKey;
 import java.security.spec.InvalidKeySpecException;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import okhttp3.*;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -98,6 +102,19 @@ class KeyFlowAuthenticatorTest {
 				accessTokenResponse, accessTokenResponse, 0, "scope", "USER_GENERATED");
 	}
 
+	private KeyFlowAuthenticator.KeyFlowTokenResponse mockResponseBody(long expiresInSeconds)
+			throws NoSuchAlgorithmException, InvalidKeySpecException {
+		RSAPrivateKey signingKey = defaultSaKey.getCredentials().getPrivateKeyParsed();
+		String accessTokenResponse =
+				JWT.create()
+						.withIssuedAt(new Date())
+						.withExpiresAt(
+								Date.from(new Date().toInstant().plusSeconds(expiresInSeconds)))
+						.sign(Algorithm.RSA512(signingKey));
+		return new KeyFlowAuthenticator.KeyFlowTokenResponse(
+				accessTokenResponse, accessTokenResponse, 0, "scope", "USER_GENERATED");
+	}
+
 	@BeforeEach
 	void setUp() throws IOException {
 		mockWebServer = new MockWebServer();
@@ -162,6 +179,15 @@ class KeyFlowAuthenticatorTest {
 		assertEquals(newToken.getAccessToken(), keyFlowAuthenticator.getAccessToken());
 	}
 
+	@Test
+	@DisplayName("get service account identity - returns kid and sub")
+	void testGetServiceAccountIdentity() {
+		KeyFlowAuthenticator keyFlowAuthenticator =
+				new KeyFlowAuthenticator(httpClient, new CoreConfiguration(), defaultSaKey);
+
+		assertEquals("kid/sub", keyFlowAuthenticator.getServiceAccountIdentity());
+	}
+
 	@Test
 	@DisplayName("create access token - response 200 with empty body - throws exception")
 	void createAccessTokenResponse200WithEmptyBodyThrowsException() {
@@ -200,6 +226,33 @@ class KeyFlowAuthenticatorTest {
 		assertThrows(ApiException.class, keyFlowAuthenticator::createAccessToken);
 	}
 
+	@Test
+	@DisplayName("create access token - records token refreshes with the metrics recorder")
+	void createAccessTokenRecordsTokenRefreshes()
+			throws NoSuchAlgorithmException, InvalidKeySpecException {
+		// Setup mockServer
+		String responseBodyJson = new Gson().toJson(mockResponseBody(false));
+		mockWebServer.enqueue(new MockResponse().setBody(responseBodyJson).setResponseCode(200));
+		mockWebServer.enqueue(new MockResponse().setResponseCode(400));
+
+		// Config
+		HttpUrl url = mockWebServer.url(MOCK_WEBSERVER_PATH);
+		InMemoryMetricsRecorder metricsRecorder = new InMemoryMetricsRecorder();
+		CoreConfiguration cfg =
+				new CoreConfiguration()
+						.tokenCustomUrl(url.toString())
+						.metricsRecorder(metricsRecorder);
+
+		KeyFlowAuthenticator keyFlowAuthenticator =
+				new KeyFlowAuthenticator(httpClient, cfg, defaultSaKey);
+
+		assertDoesNotThrow(keyFlowAuthenticator::createAccessToken);
+		assertThrows(ApiException.class, keyFlowAuthenticator::createAccessTokenWithRefreshToken);
+		assertEquals(2, metricsRecorder.getTokenRefreshCount());
+		assertEquals(1, metricsRecorder.getFailedTokenRefreshCount());
+		assertEquals(2, metricsRecorder.getTokenRefreshLatency().getCount());
+	}
+
 	@Test
 	@DisplayName("create access token - response 200 with valid response - no exception")
 	void createAccessTokenResponse200WithValidResponseNoException()
@@ -360,4 +413,138 @@ class KeyFlowAuthenticatorTest {
 		// Authenticator returns no new request, because "Authorization" header was already set
 		assertNull(keyFlowAuthenticator.authenticate(null, unauthorizedRequest));
 	}
+
+	@Test
+	@DisplayName("Authenticator retries pre-emptively authenticated request with new token")
+	void authenticatorRetriesPreemptivelyAuthenticatedRequestWithNewToken() throws Exception {
+		// Setup mockServer, the second token replaces the rejected one
+		KeyFlowAuthenticator.KeyFlowTokenResponse rejectedToken = mockResponseBody(600);
+		KeyFlowAuthenticator.KeyFlowTokenResponse newToken = mockResponseBody(900);
+		mockWebServer.enqueue(
+				new MockResponse().setBody(new Gson().toJson(rejectedToken)).setResponseCode(200));
+		mockWebServer.enqueue(
+				new MockResponse().setBody(new Gson().toJson(newToken)).setResponseCode(200));
+
+		// Config
+		HttpUrl url = mockWebServer.url(MOCK_WEBSERVER_PATH);
+		CoreConfiguration cfg = new CoreConfiguration().tokenCustomUrl(url.toString());
+
+		KeyFlowAuthenticator keyFlowAuthenticator =
+				new KeyFlowAuthenticator(httpClient, cfg, defaultSaKey);
+		KeyFlowPreemptiveAuthInterceptor interceptor =
+				new KeyFlowPreemptiveAuthInterceptor(keyFlowAuthenticator);
+
+		// Request as sent by the KeyFlowPreemptiveAuthInterceptor
+		Response unauthorizedResponse =
+				new Response.Builder()
+						.request(
+								mockRequest
+										.newBuilder()
+										.header(
+												"Authorization",
+												"Bearer " + keyFlowAuthenticator.getAccessToken())
+										.tag(KeyFlowPreemptiveAuthInterceptor.class, interceptor)
+										.build())
+						.code(401)
+						.message("Unauthorized")
+						.protocol(Protocol.HTTP_2)
+						.build();
+
+		Request retry = keyFlowAuthenticator.authenticate(null, unauthorizedResponse);
+		assertNotNull(retry);
+		assertEquals("Bearer " + newToken.getAccessToken(), retry.header("Authorization"));
+
+		// Retry is rejected as well, authenticator gives up
+		Response unauthorizedRetry =
+				unauthorizedResponse
+						.newBuilder()
+						.request(retry)
+						.priorResponse(unauthorizedResponse)
+						.build();
+		assertNull(keyFlowAuthenticator.authenticate(null, unauthorizedRetry));
+		assertEquals(2, mockWebServer.getRequestCount());
+	}
+
+	@Test
+	@DisplayName("self-signed JWT - generates new assertion with the cached signing key")
+	void generateSelfSignedJWTReusesSigningKey() throws Exception {
+		KeyFlowAuthenticator keyFlowAuthenticator =
+				new KeyFlowAuthenticator(httpClient, new CoreConfiguration(), defaultSaKey);
+
+		DecodedJWT first = JWT.decode(keyFlowAuthenticator.generateSelfSignedJWT());
+		DecodedJWT second = JWT.decode(keyFlowAuthenticator.generateSelfSignedJWT());
+
+		assertEquals("kid", first.getKeyId());
+		assertEquals("kid", second.getKeyId());
+		assertEquals("sub", second.getSubject());
+		assertNotEquals(first.getId(), second.getId());
+	}
+
+	@Test
+	@DisplayName("background token refresh - renews token before it expires")
+	void backgroundTokenRefreshRenewsTokenBeforeExpiration() throws Exception {
+		// Setup mockServer with a short-lived initial token and a long-lived refreshed token
+		KeyFlowAuthenticator.KeyFlowTokenResponse initialToken = mockResponseBody(5);
+		KeyFlowAuthenticator.KeyFlowTokenResponse refreshedToken = mockResponseBody(600);
+		mockWebServer.enqueue(
+				new MockResponse().setBody(new Gson().toJson(initialToken)).setResponseCode(200));
+		mockWebServer.enqueue(
+				new MockResponse().setBody(new Gson().toJson(refreshedToken)).setResponseCode(200));
+
+		// Config
+		HttpUrl url = mockWebServer.url(MOCK_WEBSERVER_PATH);
+		CoreConfiguration cfg =
+				new CoreConfiguration()
+						.tokenCustomUrl(url.toString())
+						.tokenExpirationLeeway(1L)
+						.backgroundTokenRefresh(true)
+						.backgroundTokenRefreshFraction(0.1);
+
+		KeyFlowAuthenticator keyFlowAuthenticator =
+				new KeyFlowAuthenticator(httpClient, cfg, defaultSaKey);
+		assertEquals(initialToken.getAccessToken(), keyFlowAuthenticator.getAccessToken());
+		assertNotNull(mockWebServer.takeRequest(1, TimeUnit.SECONDS));
+
+		// the refresh is sent without any further call of getAccessToken()
+		RecordedRequest refreshRequest = mockWebServer.takeRequest(5, TimeUnit.SECONDS);
+		assertNotNull(refreshRequest);
+		assertTrue(refreshRequest.getBody().readUtf8().contains("grant_type=refresh_token"));
+
+		long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(2);
+		while (!refreshedToken.getAccessToken().equals(keyFlowAuthenticator.getAccessToken())
+				&& System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(refreshedToken.getAccessToken(), keyFlowAuthenticator.getAccessToken());
+		assertEquals(2, mockWebServer.getRequestCount());
+	}
+
+	@Test
+	@DisplayName("background token refresh - failed refresh keeps current token")
+	void backgroundTokenRefreshFailureKeepsCurrentToken() throws Exception {
+		// Setup mockServer, the background refresh fails
+		KeyFlowAuthenticator.KeyFlowTokenResponse initialToken = mockResponseBody(5);
+		mockWebServer.enqueue(
+				new MockResponse().setBody(new Gson().toJson(initialToken)).setResponseCode(200));
+		mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+
+		// Config
+		HttpUrl url = mockWebServer.url(MOCK_WEBSERVER_PATH);
+		CoreConfiguration cfg =
+				new CoreConfiguration()
+						.tokenCustomUrl(url.toString())
+						.tokenExpirationLeeway(1L)
+						.backgroundTokenRefresh(true)
+						.backgroundTokenRefreshFraction(0.1);
+
+		KeyFlowAuthenticator keyFlowAuthenticator =
+				new KeyFlowAuthenticator(httpClient, cfg, defaultSaKey);
+		assertEquals(initialToken.getAccessToken(), keyFlowAuthenticator.getAccessToken());
+		assertNotNull(mockWebServer.takeRequest(1, TimeUnit.SECONDS));
+		assertNotNull(mockWebServer.takeRequest(5, TimeUnit.SECONDS));
+
+		// token is still valid, so it is served without another request
+		assertEquals(initialToken.getAccessToken(), keyFlowAuthenticator.getAccessToken());
+		assertEquals(2, mockWebServer.getRequestCount());
+	}
 }
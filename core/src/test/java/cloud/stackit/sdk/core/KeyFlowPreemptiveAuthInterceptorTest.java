@@ -0,0 +1,97 @@
+package cloud.stackit.sdk.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import cloud.stackit.sdk.core.exception.ApiException;
+import cloud.stackit.sdk.core.exception.AuthenticationException;
+import java.io.IOException;
+import java.security.spec.InvalidKeySpecException;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class KeyFlowPreemptiveAuthInterceptorTest {
+
+	@Mock private KeyFlowAuthenticator authenticator;
+	private MockWebServer mockWebServer;
+	private OkHttpClient client;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		mockWebServer = new MockWebServer();
+		mockWebServer.start();
+
+		client =
+				new OkHttpClient.Builder()
+						.addInterceptor(new KeyFlowPreemptiveAuthInterceptor(authenticator))
+						.build();
+	}
+
+	@AfterEach
+	void teardown() throws IOException {
+		mockWebServer.shutdown();
+	}
+
+	@Test
+	@DisplayName("intercept adds auth header to the first request")
+	void interceptAddsAuthHeader()
+			throws IOException, InvalidKeySpecException, ApiException, InterruptedException {
+		final String accessToken = "my-access-token";
+		when(authenticator.getAccessToken()).thenReturn(accessToken);
+
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+
+		// Make request
+		Request request = new Request.Builder().url(mockWebServer.url("/test")).build();
+		client.newCall(request).execute().close();
+
+		RecordedRequest recordedRequest = mockWebServer.takeRequest();
+
+		assertEquals("Bearer " + accessToken, recordedRequest.getHeader("Authorization"));
+		assertEquals(1, mockWebServer.getRequestCount());
+	}
+
+	@Test
+	@DisplayName("intercept keeps explicitly set auth header")
+	void interceptKeepsExplicitAuthHeader()
+			throws IOException, InvalidKeySpecException, ApiException, InterruptedException {
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+
+		// Make request
+		Request request =
+				new Request.Builder()
+						.url(mockWebServer.url("/test"))
+						.header("Authorization", "Bearer custom-token")
+						.build();
+		client.newCall(request).execute().close();
+
+		RecordedRequest recordedRequest = mockWebServer.takeRequest();
+
+		assertEquals("Bearer custom-token", recordedRequest.getHeader("Authorization"));
+		verify(authenticator, never()).getAccessToken();
+	}
+
+	@Test
+	@DisplayName("intercept throws AuthenticationException when token can not be obtained")
+	void interceptThrowsAuthenticationException()
+			throws IOException, InvalidKeySpecException, ApiException {
+		when(authenticator.getAccessToken()).thenThrow(new ApiException(400, "bad request"));
+
+		// Make request
+		Request request = new Request.Builder().url(mockWebServer.url("/test")).build();
+
+		assertThrows(AuthenticationException.class, () -> client.newCall(request).execute());
+		assertEquals(0, mockWebServer.getRequestCount());
+	}
+}
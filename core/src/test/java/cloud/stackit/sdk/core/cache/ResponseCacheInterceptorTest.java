@@ -0,0 +1,206 @@
+package cloud.stackit.sdk.core.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ResponseCacheInterceptorTest {
+	private static final String SERVER = "/v2/projects/p/regions/eu01/servers/s1";
+
+	private MockWebServer mockWebServer;
+	private ResponseCache cache;
+	private OkHttpClient client;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		mockWebServer = new MockWebServer();
+		mockWebServer.start();
+
+		cache = new ResponseCache();
+		cache.setTtl(
+				"/v2/projects/{projectId}/regions/{region}/servers/{serverId}",
+				1,
+				TimeUnit.MINUTES);
+		client =
+				new OkHttpClient.Builder()
+						.addInterceptor(new ResponseCacheInterceptor(cache))
+						.build();
+	}
+
+	@AfterEach
+	void teardown() throws IOException {
+		mockWebServer.shutdown();
+	}
+
+	private String get(String path) throws IOException {
+		Request request = new Request.Builder().url(mockWebServer.url(path)).build();
+		try (Response response = client.newCall(request).execute()) {
+			return response.body().string();
+		}
+	}
+
+	private void delete(String path) throws IOException {
+		Request request = new Request.Builder().url(mockWebServer.url(path)).delete().build();
+		client.newCall(request).execute().close();
+	}
+
+	@Test
+	@DisplayName("intercept answers repeated GET requests from the cache")
+	void interceptCachesGet() throws IOException {
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("server"));
+
+		assertEquals("server", get(SERVER));
+		assertEquals("server", get(SERVER));
+
+		assertEquals(1, mockWebServer.getRequestCount());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+	}
+
+	@Test
+	@DisplayName("intercept doesn't cache operations without TTL and error responses")
+	void interceptSkipsUncachedResponses() throws IOException {
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("list"));
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("list"));
+		mockWebServer.enqueue(new MockResponse().setResponseCode(404).setBody("not found"));
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("server"));
+
+		get("/v2/projects/p/regions/eu01/servers");
+		get("/v2/projects/p/regions/eu01/servers");
+		get(SERVER);
+		assertEquals("server", get(SERVER));
+
+		assertEquals(4, mockWebServer.getRequestCount());
+	}
+
+	@Test
+	@DisplayName("intercept invalidates the cached resource on mutating requests")
+	void interceptInvalidatesOnMutation() throws IOException {
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("server"));
+		mockWebServer.enqueue(new MockResponse().setResponseCode(202));
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("deleting"));
+
+		get(SERVER);
+		delete(SERVER);
+
+		assertEquals("deleting", get(SERVER));
+		assertEquals(3, mockWebServer.getRequestCount());
+		assertEquals(1, cache.getInvalidationCount());
+	}
+
+	@Test
+	@DisplayName("intercept invalidates the parent resource on mutations of sub-resources")
+	void interceptInvalidatesParentOnMutation() throws IOException {
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("server"));
+		mockWebServer.enqueue(new MockResponse().setResponseCode(202));
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("server"));
+
+		get(SERVER);
+		Request addNetwork =
+				new Request.Builder()
+						.url(mockWebServer.url(SERVER + "/networks/n1"))
+						.put(RequestBody.create(new byte[0], null))
+						.build();
+		client.newCall(addNetwork).execute().close();
+		get(SERVER);
+
+		assertEquals(3, mockWebServer.getRequestCount());
+	}
+
+	@Test
+	@DisplayName("intercept bypasses the cache for requests with Cache-Control: no-cache")
+	void interceptBypassesCacheForNoCache() throws IOException {
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("old"));
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("new"));
+
+		get(SERVER);
+		Request request =
+				new Request.Builder()
+						.url(mockWebServer.url(SERVER))
+						.header("Cache-Control", "no-cache")
+						.build();
+		client.newCall(request).execute().close();
+
+		assertEquals("new", get(SERVER));
+		assertEquals(2, mockWebServer.getRequestCount());
+	}
+
+	@Test
+	@DisplayName("intercept caches chunked bodies only up to the maximum weight")
+	void interceptBoundsChunkedBodies() throws IOException {
+		cache = new ResponseCache(10, 8);
+		cache.setDefaultTtl(1, TimeUnit.MINUTES);
+		client =
+				new OkHttpClient.Builder()
+						.addInterceptor(new ResponseCacheInterceptor(cache))
+						.build();
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200).setChunkedBody("server", 2));
+		mockWebServer.enqueue(
+				new MockResponse().setResponseCode(200).setChunkedBody("server-list", 2));
+		mockWebServer.enqueue(
+				new MockResponse().setResponseCode(200).setChunkedBody("server-list", 2));
+
+		assertEquals("server", get(SERVER));
+		assertEquals("server", get(SERVER));
+		assertEquals("server-list", get("/v2/projects/p/regions/eu01/servers"));
+		assertEquals("server-list", get("/v2/projects/p/regions/eu01/servers"));
+
+		assertEquals(3, mockWebServer.getRequestCount());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	@DisplayName("intercept keeps the responses of different credentials apart")
+	void interceptSeparatesCredentials() throws IOException {
+		OkHttpClient other =
+				new OkHttpClient.Builder()
+						.addInterceptor(new ResponseCacheInterceptor(cache, "kid-b/sub-b"))
+						.build();
+		client =
+				new OkHttpClient.Builder()
+						.addInterceptor(new ResponseCacheInterceptor(cache, "kid-a/sub-a"))
+						.build();
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("server a"));
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("server b"));
+
+		assertEquals("server a", get(SERVER));
+		Request request = new Request.Builder().url(mockWebServer.url(SERVER)).build();
+		try (Response response = other.newCall(request).execute()) {
+			assertEquals("server b", response.body().string());
+		}
+		assertEquals("server a", get(SERVER));
+
+		assertEquals(2, mockWebServer.getRequestCount());
+	}
+
+	@Test
+	@DisplayName("intercept keeps the responses of different Authorization headers apart")
+	void interceptSeparatesAuthorizationHeaders() throws IOException {
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("server a"));
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("server b"));
+
+		for (String token : new String[] {"a", "b", "a"}) {
+			Request request =
+					new Request.Builder()
+							.url(mockWebServer.url(SERVER))
+							.header("Authorization", "Bearer " + token)
+							.build();
+			try (Response response = client.newCall(request).execute()) {
+				assertEquals("server " + token, response.body().string());
+			}
+		}
+
+		assertEquals(2, mockWebServer.getRequestCount());
+	}
+}
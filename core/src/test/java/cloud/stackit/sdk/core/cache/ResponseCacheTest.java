@@ -0,0 +1,160 @@
+package cloud.stackit.sdk.core.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ResponseCacheTest {
+	private static final String ORIGIN = "https://iaas.api.stackit.cloud:443";
+	private static final String SERVERS = "/v2/projects/p/regions/eu01/servers";
+	private static final String SERVER = SERVERS + "/s1";
+	private static final long TTL = TimeUnit.SECONDS.toNanos(10);
+
+	private AtomicLong now;
+	private ResponseCache cache;
+
+	@BeforeEach
+	void setUp() {
+		now = new AtomicLong();
+		cache = new ResponseCache(3, 100, now::get);
+	}
+
+	private static CachedResponse response(String body) {
+		return new CachedResponse(
+				200, "OK", null, null, null, body.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private boolean put(String path, String body) {
+		return cache.put(ORIGIN + path, ORIGIN, path, response(body), TTL, cache.getGeneration());
+	}
+
+	@Test
+	void testHitAndMiss() {
+		assertNull(cache.get(ORIGIN + SERVER));
+		assertTrue(put(SERVER, "server"));
+
+		assertNotNull(cache.get(ORIGIN + SERVER));
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+	}
+
+	@Test
+	void testExpiry() {
+		put(SERVER, "server");
+
+		now.addAndGet(TTL - 1);
+		assertNotNull(cache.get(ORIGIN + SERVER));
+		now.addAndGet(1);
+		assertNull(cache.get(ORIGIN + SERVER));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void testEvictsLeastRecentlyUsedEntries() {
+		put(SERVERS + "/a", "a");
+		put(SERVERS + "/b", "b");
+		put(SERVERS + "/c", "c");
+		cache.get(ORIGIN + SERVERS + "/a");
+
+		put(SERVERS + "/d", "d");
+
+		assertEquals(3, cache.size());
+		assertNull(cache.get(ORIGIN + SERVERS + "/b"));
+		assertNotNull(cache.get(ORIGIN + SERVERS + "/a"));
+		assertEquals(1, cache.getEvictionCount());
+	}
+
+	@Test
+	void testEvictsByWeight() {
+		char[] body = new char[60];
+		put(SERVERS + "/a", new String(body));
+		put(SERVERS + "/b", new String(body));
+
+		assertEquals(1, cache.size());
+		assertEquals(60, cache.weight());
+		assertEquals(1, cache.getEvictionCount());
+		// larger than the maximum weight
+		assertFalse(put(SERVERS + "/c", new String(new char[101])));
+	}
+
+	@Test
+	void testInvalidatesResourceSubResourcesAndParents() {
+		cache = new ResponseCache(10, 1000, now::get);
+		put(SERVERS, "list");
+		put(SERVER, "server");
+		put(SERVER + "/networks", "networks");
+		put(SERVERS + "/s2", "other server");
+
+		cache.invalidate(ORIGIN, SERVER);
+
+		assertNull(cache.get(ORIGIN + SERVER));
+		assertNull(cache.get(ORIGIN + SERVER + "/networks"));
+		assertNull(cache.get(ORIGIN + SERVERS));
+		assertNotNull(cache.get(ORIGIN + SERVERS + "/s2"));
+		assertEquals(3, cache.getInvalidationCount());
+	}
+
+	@Test
+	void testInvalidationKeepsOtherOriginsAndSiblings() {
+		ResponseCache largeCache = new ResponseCache(10, 1000, now::get);
+		largeCache.put(ORIGIN + SERVER, ORIGIN, SERVER, response("a"), TTL, 0);
+		largeCache.put("other" + SERVER, "other", SERVER, response("b"), TTL, 0);
+		largeCache.put(ORIGIN + SERVER + "0", ORIGIN, SERVER + "0", response("c"), TTL, 0);
+
+		largeCache.invalidate(ORIGIN, SERVER);
+
+		assertNull(largeCache.get(ORIGIN + SERVER));
+		assertNotNull(largeCache.get("other" + SERVER));
+		assertNotNull(largeCache.get(ORIGIN + SERVER + "0"));
+		assertEquals(1, largeCache.getInvalidationCount());
+	}
+
+	@Test
+	void testResponseRequestedBeforeInvalidationIsNotCached() {
+		long generation = cache.getGeneration();
+		cache.invalidate(ORIGIN, SERVER);
+
+		assertFalse(cache.put(ORIGIN + SERVER, ORIGIN, SERVER, response("s"), TTL, generation));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void testInvalidateAll() {
+		put(SERVERS, "list");
+		put(SERVER, "server");
+
+		cache.invalidateAll();
+
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.weight());
+		assertEquals(2, cache.getInvalidationCount());
+	}
+
+	@Test
+	void testTtlPerOperation() {
+		cache.setTtl(
+				"/v2/projects/{projectId}/regions/{region}/servers/{serverId}",
+				30,
+				TimeUnit.SECONDS);
+		cache.setTtl(
+				"/v2/projects/{projectId}/regions/{region}/servers/details", 5, TimeUnit.SECONDS);
+
+		assertEquals(TimeUnit.SECONDS.toNanos(30), cache.getTtlNanos(SERVER));
+		assertEquals(TimeUnit.SECONDS.toNanos(5), cache.getTtlNanos(SERVERS + "/details"));
+		assertEquals(0, cache.getTtlNanos(SERVERS));
+		assertEquals(0, cache.getTtlNanos(SERVER + "/networks"));
+
+		cache.setDefaultTtl(1, TimeUnit.SECONDS);
+		assertEquals(TimeUnit.SECONDS.toNanos(1), cache.getTtlNanos(SERVERS));
+	}
+
+	@Test
+	void testInvalidLimitsThrow() {
+		assertThrows(IllegalArgumentException.class, () -> new ResponseCache(0, 100));
+		assertThrows(IllegalArgumentException.class, () -> new ResponseCache(10, 0));
+	}
+}
@@ -0,0 +1,192 @@
+package cloud.stackit.sdk.core.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import cloud.stackit.sdk.core.exception.ApiException;
+import cloud.stackit.sdk.core.exception.UncheckedApiException;
+import com.google.gson.Gson;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReferenceCatalogTest {
+	private static final class Flavor {
+		private final String name;
+		private final int vcpus;
+
+		private Flavor(String name, int vcpus) {
+			this.name = name;
+			this.vcpus = vcpus;
+		}
+
+		private String getName() {
+			return name;
+		}
+
+		private int getVcpus() {
+			return vcpus;
+		}
+	}
+
+	private final AtomicLong now = new AtomicLong(1_000);
+	private final AtomicInteger loads = new AtomicInteger();
+	private List<Flavor> flavors =
+			Arrays.asList(new Flavor("c1.1", 1), new Flavor("c1.2", 2), new Flavor("g1.2", 2));
+
+	private ReferenceCatalog<Flavor> catalog() {
+		ReferenceCatalog<Flavor> catalog =
+				new ReferenceCatalog<>(
+						() -> {
+							loads.incrementAndGet();
+							return flavors;
+						},
+						now::get);
+		catalog.setExecutor(Runnable::run);
+		return catalog;
+	}
+
+	@Test
+	@DisplayName("index looks up the items by key with a single load")
+	void indexLooksUpItems() {
+		ReferenceCatalog<Flavor> catalog = catalog();
+		CatalogIndex<String, Flavor> byName = catalog.index(Flavor::getName);
+		CatalogIndex<Integer, Flavor> byVcpus = catalog.index(Flavor::getVcpus);
+
+		assertEquals(0, catalog.getLoadedAtMillis());
+		assertEquals(1, byName.get("c1.1").getVcpus());
+		assertNull(byName.get("unknown"));
+		assertEquals(2, byVcpus.getAll(2).size());
+		assertTrue(byVcpus.getAll(4).isEmpty());
+		assertEquals(new HashSet<>(Arrays.asList(1, 2)), byVcpus.keys());
+		assertEquals(3, catalog.getAll().size());
+		assertEquals(1, catalog.find(flavor -> flavor.getName().startsWith("g")).size());
+
+		assertEquals(1, loads.get());
+		assertEquals(1_000, catalog.getLoadedAtMillis());
+	}
+
+	@Test
+	@DisplayName("snapshot refreshes the items after the refresh interval")
+	void snapshotRefreshesAfterInterval() {
+		ReferenceCatalog<Flavor> catalog = catalog();
+		catalog.setRefreshInterval(10, TimeUnit.SECONDS);
+		CatalogIndex<String, Flavor> byName = catalog.index(Flavor::getName);
+		assertNotNull(byName.get("c1.1"));
+
+		now.addAndGet(9_999);
+		assertNotNull(byName.get("c1.1"));
+		assertEquals(1, loads.get());
+
+		flavors = Collections.singletonList(new Flavor("c2.1", 1));
+		now.addAndGet(1);
+		byName.get("c1.1");
+
+		assertEquals(2, loads.get());
+		assertNull(byName.get("c1.1"));
+		assertNotNull(byName.get("c2.1"));
+		assertEquals(11_000, catalog.getLoadedAtMillis());
+	}
+
+	@Test
+	@DisplayName("snapshot keeps the items if the refresh fails")
+	void snapshotKeepsItemsOnFailedRefresh() {
+		AtomicInteger calls = new AtomicInteger();
+		ReferenceCatalog<Flavor> catalog =
+				new ReferenceCatalog<>(
+						() -> {
+							if (calls.getAndIncrement() > 0) {
+								throw new ApiException(503, "unavailable");
+							}
+							return flavors;
+						},
+						now::get);
+		catalog.setExecutor(Runnable::run);
+		catalog.setRefreshInterval(1, TimeUnit.HOURS);
+		assertEquals(3, catalog.getAll().size());
+
+		now.addAndGet(TimeUnit.HOURS.toMillis(1));
+		assertEquals(3, catalog.getAll().size());
+		assertEquals(2, calls.get());
+
+		// retried after a minute, not on every access
+		now.addAndGet(59_999);
+		catalog.getAll();
+		assertEquals(2, calls.get());
+		now.addAndGet(1);
+		catalog.getAll();
+		assertEquals(3, calls.get());
+	}
+
+	@Test
+	@DisplayName("snapshot throws if the initial load fails")
+	void snapshotThrowsOnFailedInitialLoad() {
+		ReferenceCatalog<Flavor> catalog =
+				new ReferenceCatalog<>(
+						() -> {
+							throw new ApiException(500, "error");
+						});
+
+		assertThrows(UncheckedApiException.class, catalog::getAll);
+	}
+
+	@Test
+	@DisplayName("snapshot treats a null result of the loader as empty")
+	void snapshotHandlesNullItems() {
+		ReferenceCatalog<Flavor> catalog = new ReferenceCatalog<>(() -> null);
+
+		assertTrue(catalog.getAll().isEmpty());
+		assertTrue(catalog.index(Flavor::getName).keys().isEmpty());
+	}
+
+	@Test
+	@DisplayName("persistence file provides the items of a previous catalog")
+	void persistenceFileProvidesItems() throws IOException {
+		Path directory = Files.createTempDirectory("catalog");
+		Path file = directory.resolve("cache").resolve("flavors.json");
+		try {
+			Gson gson = new Gson();
+			ReferenceCatalog<Flavor> catalog = catalog();
+			catalog.setPersistenceFile(file, gson, Flavor.class);
+			catalog.getAll();
+			assertTrue(Files.isRegularFile(file));
+
+			now.addAndGet(1);
+			ReferenceCatalog<Flavor> restored = catalog();
+			restored.setPersistenceFile(file, gson, Flavor.class);
+
+			assertEquals(2, restored.index(Flavor::getVcpus).get(2).getVcpus());
+			assertEquals(1, loads.get());
+			assertEquals(1_000, restored.getLoadedAtMillis());
+		} finally {
+			Files.deleteIfExists(file);
+			Files.deleteIfExists(file.getParent());
+			Files.deleteIfExists(directory);
+		}
+	}
+
+	@Test
+	@DisplayName("persistence file is ignored if it can't be read")
+	void persistenceFileIgnoredIfUnreadable() throws IOException {
+		Path file = Files.createTempFile("flavors", ".json");
+		try {
+			Files.write(file, "not json".getBytes("UTF-8"));
+			ReferenceCatalog<Flavor> catalog = catalog();
+			catalog.setPersistenceFile(file, new Gson(), Flavor.class);
+
+			assertEquals(new ArrayList<>(flavors), catalog.getAll());
+			assertEquals(1, loads.get());
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+}
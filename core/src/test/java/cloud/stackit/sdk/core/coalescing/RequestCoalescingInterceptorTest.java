@@ -0,0 +1,227 @@
+package cloud.stackit.sdk.core.coalescing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RequestCoalescingInterceptorTest {
+	private static final String PROJECT = "/v2/projects/p1";
+	private static final int CALLERS = 5;
+
+	private MockWebServer mockWebServer;
+	private RequestCoalescer coalescer;
+	private OkHttpClient client;
+	private ExecutorService executor;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		mockWebServer = new MockWebServer();
+		mockWebServer.start();
+
+		coalescer = new RequestCoalescer();
+		client =
+				new OkHttpClient.Builder()
+						.addInterceptor(new RequestCoalescingInterceptor(coalescer))
+						.build();
+		executor = Executors.newFixedThreadPool(CALLERS);
+	}
+
+	@AfterEach
+	void teardown() throws IOException {
+		executor.shutdownNow();
+		mockWebServer.shutdown();
+	}
+
+	private String execute(Request request) throws IOException {
+		try (Response response = client.newCall(request).execute()) {
+			return response.body().string();
+		}
+	}
+
+	private List<String> executeConcurrently(List<Request> requests) throws Exception {
+		List<Future<String>> futures = new ArrayList<>();
+		for (Request request : requests) {
+			Callable<String> call = () -> execute(request);
+			futures.add(executor.submit(call));
+		}
+		List<String> bodies = new ArrayList<>();
+		for (Future<String> future : futures) {
+			bodies.add(future.get(10, TimeUnit.SECONDS));
+		}
+		return bodies;
+	}
+
+	private Request get(String authorization) {
+		return new Request.Builder()
+				.url(mockWebServer.url(PROJECT))
+				.header("Authorization", authorization)
+				.build();
+	}
+
+	private void enqueueSlow(String body) {
+		mockWebServer.enqueue(
+				new MockResponse()
+						.setResponseCode(200)
+						.setBody(body)
+						.setHeadersDelay(500, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	@DisplayName("intercept sends identical concurrent GET requests only once")
+	void interceptCoalescesIdenticalGets() throws Exception {
+		enqueueSlow("project");
+		List<Request> requests = new ArrayList<>();
+		for (int i = 0; i < CALLERS; i++) {
+			requests.add(get("Bearer token"));
+		}
+
+		List<String> bodies = executeConcurrently(requests);
+
+		for (String body : bodies) {
+			assertEquals("project", body);
+		}
+		assertEquals(1, mockWebServer.getRequestCount());
+		assertEquals(CALLERS - 1, coalescer.getCoalescedCount());
+		assertEquals(0, coalescer.getInFlightCount());
+	}
+
+	@Test
+	@DisplayName("intercept doesn't coalesce requests with different access tokens")
+	void interceptSeparatesAccessTokens() throws Exception {
+		enqueueSlow("project");
+		enqueueSlow("project");
+		List<Request> requests = new ArrayList<>();
+		requests.add(get("Bearer a"));
+		requests.add(get("Bearer b"));
+
+		executeConcurrently(requests);
+
+		assertEquals(2, mockWebServer.getRequestCount());
+		assertEquals(0, coalescer.getCoalescedCount());
+	}
+
+	@Test
+	@DisplayName("intercept doesn't coalesce requests of different credentials without access token")
+	void interceptSeparatesCredentials() throws Exception {
+		enqueueSlow("project");
+		enqueueSlow("project");
+		Request request = new Request.Builder().url(mockWebServer.url(PROJECT)).build();
+		List<Future<String>> futures = new ArrayList<>();
+		for (String credentials : new String[] {"a", "b"}) {
+			RequestCoalescingInterceptor interceptor =
+					new RequestCoalescingInterceptor(coalescer, credentials);
+			OkHttpClient credentialsClient =
+					new OkHttpClient.Builder().addInterceptor(interceptor).build();
+			Callable<String> call =
+					() -> {
+						try (Response response = credentialsClient.newCall(request).execute()) {
+							return response.body().string();
+						}
+					};
+			futures.add(executor.submit(call));
+		}
+
+		for (Future<String> future : futures) {
+			assertEquals("project", future.get(10, TimeUnit.SECONDS));
+		}
+		assertEquals(2, mockWebServer.getRequestCount());
+		assertEquals(0, coalescer.getCoalescedCount());
+	}
+
+	@Test
+	@DisplayName("intercept doesn't coalesce other requests than GET")
+	void interceptSkipsMutations() throws Exception {
+		enqueueSlow("created");
+		enqueueSlow("created");
+		List<Request> requests = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			requests.add(
+					new Request.Builder()
+							.url(mockWebServer.url(PROJECT))
+							.post(RequestBody.create(new byte[0], null))
+							.build());
+		}
+
+		executeConcurrently(requests);
+
+		assertEquals(2, mockWebServer.getRequestCount());
+	}
+
+	@Test
+	@DisplayName("intercept sends sequential requests on their own")
+	void interceptSendsSequentialRequests() throws IOException {
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("old"));
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("new"));
+
+		assertEquals("old", execute(get("Bearer token")));
+		assertEquals("new", execute(get("Bearer token")));
+		assertEquals(0, coalescer.getCoalescedCount());
+	}
+
+	@Test
+	@DisplayName("intercept sends waiting requests on their own if the body is too large")
+	void interceptSkipsLargeBodies() throws Exception {
+		coalescer = new RequestCoalescer(3);
+		client =
+				new OkHttpClient.Builder()
+						.addInterceptor(new RequestCoalescingInterceptor(coalescer))
+						.build();
+		enqueueSlow("project");
+		enqueueSlow("project");
+		List<Request> requests = new ArrayList<>();
+		requests.add(get("Bearer token"));
+		requests.add(get("Bearer token"));
+
+		List<String> bodies = executeConcurrently(requests);
+
+		assertEquals("project", bodies.get(0));
+		assertEquals("project", bodies.get(1));
+		assertEquals(2, mockWebServer.getRequestCount());
+		assertEquals(0, coalescer.getCoalescedCount());
+	}
+
+	@Test
+	@DisplayName("intercept streams chunked bodies and sends waiting requests on their own")
+	void interceptSkipsChunkedBodies() throws Exception {
+		coalescer = new RequestCoalescer(3);
+		client =
+				new OkHttpClient.Builder()
+						.addInterceptor(new RequestCoalescingInterceptor(coalescer))
+						.build();
+		for (int i = 0; i < 2; i++) {
+			mockWebServer.enqueue(
+					new MockResponse()
+							.setResponseCode(200)
+							.setChunkedBody("project", 2)
+							.setHeadersDelay(500, TimeUnit.MILLISECONDS));
+		}
+		List<Request> requests = new ArrayList<>();
+		requests.add(get("Bearer token"));
+		requests.add(get("Bearer token"));
+
+		List<String> bodies = executeConcurrently(requests);
+
+		assertEquals("project", bodies.get(0));
+		assertEquals("project", bodies.get(1));
+		assertEquals(2, mockWebServer.getRequestCount());
+		assertEquals(0, coalescer.getCoalescedCount());
+		assertEquals(0, coalescer.getInFlightCount());
+	}
+}
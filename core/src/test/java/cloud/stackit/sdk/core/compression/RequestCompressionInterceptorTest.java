@@ -0,0 +1,127 @@
+package cloud.stackit.sdk.core.compression;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RequestCompressionInterceptorTest {
+	private static final String LARGE_BODY = repeat("{\"name\":\"server\"},", 200);
+
+	private MockWebServer mockWebServer;
+	private RequestCompression compression;
+	private OkHttpClient client;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		mockWebServer = new MockWebServer();
+		mockWebServer.start();
+
+		compression = new RequestCompression();
+		client =
+				new OkHttpClient.Builder()
+						.addInterceptor(new RequestCompressionInterceptor(compression))
+						.build();
+	}
+
+	@AfterEach
+	void teardown() throws IOException {
+		mockWebServer.shutdown();
+	}
+
+	private static String repeat(String value, int count) {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			builder.append(value);
+		}
+		return builder.toString();
+	}
+
+	private RecordedRequest post(String body) throws Exception {
+		mockWebServer.enqueue(new MockResponse().setResponseCode(201));
+		Request request =
+				new Request.Builder()
+						.url(mockWebServer.url("/v1/projects/p1/servers"))
+						.post(RequestBody.create(body, null))
+						.build();
+		try (Response response = client.newCall(request).execute()) {
+			assertEquals(201, response.code());
+		}
+		return mockWebServer.takeRequest();
+	}
+
+	private static String gunzip(RecordedRequest request) throws IOException {
+		try (InputStream in = new GZIPInputStream(request.getBody().inputStream());
+				ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+			byte[] buffer = new byte[1024];
+			for (int n = in.read(buffer); n != -1; n = in.read(buffer)) {
+				out.write(buffer, 0, n);
+			}
+			return new String(out.toByteArray(), StandardCharsets.UTF_8);
+		}
+	}
+
+	@Test
+	@DisplayName("intercept compresses large bodies with chunked transfer encoding")
+	void interceptCompressesLargeBody() throws Exception {
+		RecordedRequest request = post(LARGE_BODY);
+
+		assertEquals("gzip", request.getHeader("Content-Encoding"));
+		assertEquals("chunked", request.getHeader("Transfer-Encoding"));
+		assertEquals(LARGE_BODY, gunzip(request));
+		assertEquals(1, compression.getCompressedCount());
+		assertEquals(LARGE_BODY.length(), compression.getUncompressedBytes());
+		assertEquals(request.getBodySize(), compression.getCompressedBytes());
+		assertTrue(compression.getCompressionRatio() < 1);
+	}
+
+	@Test
+	@DisplayName("intercept sends the compressed body with a Content-Length if buffered")
+	void interceptBuffersCompressedBody() throws Exception {
+		compression.setBuffered(true);
+
+		RecordedRequest request = post(LARGE_BODY);
+
+		assertEquals("gzip", request.getHeader("Content-Encoding"));
+		assertEquals(String.valueOf(request.getBodySize()), request.getHeader("Content-Length"));
+		assertEquals(LARGE_BODY, gunzip(request));
+		assertEquals(1, compression.getCompressedCount());
+	}
+
+	@Test
+	@DisplayName("intercept sends bodies below the minimum size unchanged")
+	void interceptSkipsSmallBody() throws Exception {
+		RecordedRequest request = post("{\"name\":\"server\"}");
+
+		assertNull(request.getHeader("Content-Encoding"));
+		assertEquals("{\"name\":\"server\"}", request.getBody().readUtf8());
+		assertEquals(0, compression.getCompressedCount());
+	}
+
+	@Test
+	@DisplayName("intercept sends requests without body unchanged")
+	void interceptSkipsRequestWithoutBody() throws Exception {
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+		Request request = new Request.Builder().url(mockWebServer.url("/v1/servers")).build();
+		try (Response response = client.newCall(request).execute()) {
+			assertEquals(200, response.code());
+		}
+
+		assertNull(mockWebServer.takeRequest().getHeader("Content-Encoding"));
+		assertEquals(0, compression.getCompressedCount());
+	}
+}
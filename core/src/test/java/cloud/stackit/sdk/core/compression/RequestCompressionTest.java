@@ -0,0 +1,44 @@
+package cloud.stackit.sdk.core.compression;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class RequestCompressionTest {
+	@Test
+	void testShouldCompressFromMinSize() {
+		RequestCompression compression = new RequestCompression();
+		compression.setMinSize(100);
+
+		assertFalse(compression.shouldCompress(99));
+		assertTrue(compression.shouldCompress(100));
+	}
+
+	@Test
+	void testShouldCompressUnknownSize() {
+		RequestCompression compression = new RequestCompression();
+
+		assertTrue(compression.shouldCompress(-1));
+	}
+
+	@Test
+	void testDefaults() {
+		RequestCompression compression = new RequestCompression();
+
+		assertEquals(1024, compression.getMinSize());
+		assertFalse(compression.isBuffered());
+		assertEquals(1, compression.getCompressionRatio());
+	}
+
+	@Test
+	void testCounters() {
+		RequestCompression compression = new RequestCompression();
+		compression.compressed(1000, 200);
+		compression.compressed(3000, 800);
+
+		assertEquals(2, compression.getCompressedCount());
+		assertEquals(4000, compression.getUncompressedBytes());
+		assertEquals(1000, compression.getCompressedBytes());
+		assertEquals(0.25, compression.getCompressionRatio());
+	}
+}
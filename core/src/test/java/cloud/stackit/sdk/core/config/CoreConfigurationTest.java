@@ -2,6 +2,13 @@ package cloud.stackit.sdk.core.config;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import cloud.stackit.sdk.core.cache.ResponseCache;
+import cloud.stackit.sdk.core.coalescing.RequestCoalescer;
+import cloud.stackit.sdk.core.compression.RequestCompression;
+import cloud.stackit.sdk.core.http.HttpClientFactory;
+import cloud.stackit.sdk.core.metrics.InMemoryMetricsRecorder;
+import cloud.stackit.sdk.core.ratelimit.RateLimiter;
+import cloud.stackit.sdk.core.retry.RetryPolicy;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import org.junit.jupiter.api.Test;
@@ -107,6 +114,87 @@ class CoreConfigurationTest {
 		assertEquals(tokenExpireLeeway, cfgTokenExpirationLeeway);
 	}
 
+	@Test
+	void testGetBackgroundTokenRefresh() {
+		CoreConfiguration cfg =
+				new CoreConfiguration()
+						.backgroundTokenRefresh(true)
+						.backgroundTokenRefreshFraction(0.5);
+
+		assertTrue(cfg.getBackgroundTokenRefresh());
+		assertEquals(0.5, cfg.getBackgroundTokenRefreshFraction());
+	}
+
+	@Test
+	void testGetPreemptiveAuthentication() {
+		CoreConfiguration cfg = new CoreConfiguration().preemptiveAuthentication(false);
+
+		assertFalse(cfg.getPreemptiveAuthentication());
+	}
+
+	@Test
+	void testGetSharedTokenCache() {
+		CoreConfiguration cfg = new CoreConfiguration().sharedTokenCache(false);
+
+		assertFalse(cfg.getSharedTokenCache());
+	}
+
+	@Test
+	void testGetResponseCache() {
+		ResponseCache responseCache = new ResponseCache();
+		CoreConfiguration cfg = new CoreConfiguration().responseCache(responseCache);
+
+		assertSame(responseCache, cfg.getResponseCache());
+	}
+
+	@Test
+	void testGetRequestCoalescer() {
+		RequestCoalescer requestCoalescer = new RequestCoalescer();
+		CoreConfiguration cfg = new CoreConfiguration().requestCoalescer(requestCoalescer);
+
+		assertSame(requestCoalescer, cfg.getRequestCoalescer());
+	}
+
+	@Test
+	void testGetRateLimiter() {
+		RateLimiter rateLimiter = new RateLimiter(10, 20);
+		CoreConfiguration cfg = new CoreConfiguration().rateLimiter(rateLimiter);
+
+		assertSame(rateLimiter, cfg.getRateLimiter());
+	}
+
+	@Test
+	void testGetRetryPolicy() {
+		RetryPolicy retryPolicy = new RetryPolicy();
+		CoreConfiguration cfg = new CoreConfiguration().retryPolicy(retryPolicy);
+
+		assertSame(retryPolicy, cfg.getRetryPolicy());
+	}
+
+	@Test
+	void testGetMetricsRecorder() {
+		InMemoryMetricsRecorder metricsRecorder = new InMemoryMetricsRecorder();
+		CoreConfiguration cfg = new CoreConfiguration().metricsRecorder(metricsRecorder);
+
+		assertSame(metricsRecorder, cfg.getMetricsRecorder());
+	}
+
+	@Test
+	void testGetHttpClientFactory() {
+		HttpClientFactory httpClientFactory = new HttpClientFactory();
+		CoreConfiguration cfg = new CoreConfiguration().httpClientFactory(httpClientFactory);
+
+		assertSame(httpClientFactory, cfg.getHttpClientFactory());
+	}
+
+	@Test
+	void testGetRequestCompression() {
+		RequestCompression requestCompression = new RequestCompression();
+		CoreConfiguration cfg = new CoreConfiguration().requestCompression(requestCompression);
+
+		assertSame(requestCompression, cfg.getRequestCompression());
+	}
+
 	@Test
 	void testGetDefaultHeaderNotSet() {
 		CoreConfiguration cfg = new CoreConfiguration();
@@ -0,0 +1,73 @@
+package cloud.stackit.sdk.core.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HttpClientFactoryTest {
+
+	@Test
+	@DisplayName("getHttpClient returns the same client on every call")
+	void getHttpClientReturnsSharedClient() {
+		HttpClientFactory factory = new HttpClientFactory();
+
+		assertSame(factory.getHttpClient(), factory.getHttpClient());
+	}
+
+	@Test
+	@DisplayName("getHttpClient applies the settings")
+	void getHttpClientAppliesSettings() {
+		HttpClientFactory factory = new HttpClientFactory();
+		factory.setMaxRequests(100);
+		factory.setMaxRequestsPerHost(50);
+		factory.setTimeouts(1, 2, 3, TimeUnit.SECONDS);
+		factory.setCallTimeout(30, TimeUnit.SECONDS);
+
+		OkHttpClient httpClient = factory.getHttpClient();
+
+		assertEquals(100, httpClient.dispatcher().getMaxRequests());
+		assertEquals(50, httpClient.dispatcher().getMaxRequestsPerHost());
+		assertEquals(1000, httpClient.connectTimeoutMillis());
+		assertEquals(2000, httpClient.readTimeoutMillis());
+		assertEquals(3000, httpClient.writeTimeoutMillis());
+		assertEquals(30_000, httpClient.callTimeoutMillis());
+		assertEquals(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1), httpClient.protocols());
+	}
+
+	@Test
+	@DisplayName("getHttpClient restricts the protocols to HTTP/1.1 if HTTP/2 is disabled")
+	void getHttpClientWithoutHttp2() {
+		HttpClientFactory factory = new HttpClientFactory();
+		factory.setHttp2Enabled(false);
+
+		assertEquals(
+				Collections.singletonList(Protocol.HTTP_1_1), factory.getHttpClient().protocols());
+	}
+
+	@Test
+	@DisplayName("derived clients share the connection pool and the dispatcher")
+	void derivedClientsShareResources() {
+		HttpClientFactory factory = new HttpClientFactory();
+		OkHttpClient first = factory.getHttpClient().newBuilder().build();
+		OkHttpClient second = factory.getHttpClient().newBuilder().build();
+
+		assertSame(first.connectionPool(), second.connectionPool());
+		assertSame(first.dispatcher(), second.dispatcher());
+	}
+
+	@Test
+	@DisplayName("settings can't be changed once the client was created")
+	void settingsAfterCreationThrow() {
+		HttpClientFactory factory = new HttpClientFactory();
+		factory.getHttpClient();
+
+		assertThrows(IllegalStateException.class, () -> factory.setMaxIdleConnections(1));
+		assertThrows(IllegalStateException.class, () -> factory.setHttp2Enabled(false));
+	}
+}
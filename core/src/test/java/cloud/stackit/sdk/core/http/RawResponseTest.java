@@ -0,0 +1,72 @@
+package cloud.stackit.sdk.core.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ByteString;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RawResponseTest {
+	private static final String BODY = "{\"items\":[{\"name\":\"server\"}]}";
+	private static final Map<String, List<String>> HEADERS =
+			Collections.singletonMap("Content-Type", Collections.singletonList("application/json"));
+
+	private static RawResponse response() {
+		return new RawResponse(
+				200, HEADERS, ResponseBody.create(BODY, MediaType.get("application/json")));
+	}
+
+	@Test
+	@DisplayName("status code, headers and content length are returned as received")
+	void testGetters() {
+		try (RawResponse response = response()) {
+			assertEquals(200, response.getStatusCode());
+			assertEquals(HEADERS, response.getHeaders());
+			assertEquals(BODY.length(), response.getContentLength());
+		}
+	}
+
+	@Test
+	@DisplayName("getByteString reads the whole body")
+	void testGetByteString() throws IOException {
+		assertEquals(ByteString.encodeUtf8(BODY), response().getByteString());
+	}
+
+	@Test
+	@DisplayName("getSource moves the body into a sink")
+	void testGetSource() throws IOException {
+		try (RawResponse response = response();
+				Buffer sink = new Buffer()) {
+			assertEquals(BODY.length(), response.getSource().readAll(sink));
+			assertEquals(BODY, sink.readUtf8());
+		}
+	}
+
+	@Test
+	@DisplayName("getInputStream streams the body")
+	void testGetInputStream() throws IOException {
+		try (RawResponse response = response();
+				InputStream in = response.getInputStream()) {
+			assertEquals(BODY, ByteString.read(in, BODY.length()).string(StandardCharsets.UTF_8));
+			assertEquals(-1, in.read());
+		}
+	}
+
+	@Test
+	@DisplayName("a response without body has an empty body")
+	void testWithoutBody() throws IOException {
+		RawResponse response = new RawResponse(204, HEADERS, null);
+
+		assertEquals(0, response.getContentLength());
+		assertEquals(ByteString.EMPTY, response.getByteString());
+	}
+}
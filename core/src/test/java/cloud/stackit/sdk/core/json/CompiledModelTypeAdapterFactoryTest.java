@@ -0,0 +1,132 @@
+package cloud.stackit.sdk.core.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CompiledModelTypeAdapterFactoryTest {
+	private AtomicInteger createdAdapters;
+	private CompiledModelTypeAdapterFactory factory;
+	private Gson gson;
+
+	/** Minimal model with a compiled adapter. */
+	public static class TestModel {
+		private String name;
+
+		private transient boolean readByCompiledAdapter;
+
+		public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<TestModel> {
+			private final TypeAdapter<String> stringAdapter;
+
+			public CompiledTypeAdapter(Gson gson) {
+				super(gson, "TestModel");
+				stringAdapter = gson.getAdapter(String.class);
+			}
+
+			@Override
+			protected TestModel newInstance() {
+				TestModel instance = new TestModel();
+				instance.readByCompiledAdapter = true;
+				return instance;
+			}
+
+			@Override
+			protected int readField(JsonReader in, String name, TestModel instance)
+					throws IOException {
+				if ("name".equals(name)) {
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				}
+				return UNKNOWN_FIELD;
+			}
+
+			@Override
+			protected void writeFields(JsonWriter out, TestModel value) throws IOException {
+				writeField(out, "name", value.name, stringAdapter);
+			}
+		}
+	}
+
+	/** Minimal model without a compiled adapter. */
+	public static class OtherTestModel {
+		private String name;
+	}
+
+	@BeforeEach
+	void setUp() {
+		createdAdapters = new AtomicInteger();
+		factory =
+				new CompiledModelTypeAdapterFactory(
+						"cloud.stackit.sdk.core.json",
+						(gson, modelName) -> {
+							createdAdapters.incrementAndGet();
+							return "CompiledModelTypeAdapterFactoryTest$TestModel".equals(modelName)
+									? new TestModel.CompiledTypeAdapter(gson)
+									: null;
+						});
+		gson = new GsonBuilder().registerTypeAdapterFactory(factory).create();
+	}
+
+	@Test
+	void testDisabledByDefault() {
+		TestModel model = gson.fromJson("{\"name\":\"srv\"}", TestModel.class);
+
+		assertFalse(factory.isEnabled());
+		assertEquals("srv", model.name);
+		assertFalse(model.readByCompiledAdapter);
+		assertEquals(0, createdAdapters.get());
+	}
+
+	@Test
+	void testEnabledUsesCompiledAdapter() {
+		factory.setEnabled(true);
+
+		TestModel model = gson.fromJson("{\"name\":\"srv\"}", TestModel.class);
+
+		assertEquals("srv", model.name);
+		assertTrue(model.readByCompiledAdapter);
+		assertEquals("{\"name\":\"srv\"}", gson.toJson(model));
+	}
+
+	@Test
+	void testCompiledAdapterCreatedOnce() {
+		factory.setEnabled(true);
+
+		gson.fromJson("{\"name\":\"a\"}", TestModel.class);
+		gson.fromJson("{\"name\":\"b\"}", TestModel.class);
+
+		assertEquals(1, createdAdapters.get());
+	}
+
+	@Test
+	void testToggleAtRuntime() {
+		factory.setEnabled(true);
+		assertTrue(gson.fromJson("{}", TestModel.class).readByCompiledAdapter);
+
+		factory.setEnabled(false);
+		assertFalse(gson.fromJson("{}", TestModel.class).readByCompiledAdapter);
+	}
+
+	@Test
+	void testModelWithoutCompiledAdapterUsesDelegate() {
+		factory.setEnabled(true);
+
+		OtherTestModel model = gson.fromJson("{\"name\":\"srv\"}", OtherTestModel.class);
+
+		assertEquals("srv", model.name);
+	}
+
+	@Test
+	void testOtherPackagesIgnored() {
+		assertNull(factory.create(gson, TypeToken.get(String.class)));
+	}
+}
@@ -0,0 +1,301 @@
+package cloud.stackit.sdk.core.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class CompiledModelTypeAdapterTest {
+	private final Gson gson = new Gson();
+
+	/** Minimal enum following the layout of the generated enums. */
+	public enum TestStatus {
+		ACTIVE("ACTIVE"),
+
+		INACTIVE("INACTIVE"),
+
+		UNKNOWN_DEFAULT_OPEN_API("unknown_default_open_api");
+
+		private final String value;
+
+		TestStatus(String value) {
+			this.value = value;
+		}
+
+		@Override
+		public String toString() {
+			return value;
+		}
+	}
+
+	/** Minimal model with a compiled adapter following the layout of the generated models. */
+	public static class TestModel {
+		private String name;
+
+		private Long count;
+
+		private TestStatus status;
+
+		private List<String> tags;
+
+		private Map<String, Object> additionalProperties;
+
+		public void putAdditionalProperty(String key, Object value) {
+			if (this.additionalProperties == null) {
+				this.additionalProperties = new HashMap<>();
+			}
+			this.additionalProperties.put(key, value);
+		}
+
+		public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<TestModel> {
+			private final TypeAdapter<String> stringAdapter;
+			private final TypeAdapter<Long> longAdapter;
+			private final TypeAdapter<TestStatus> statusAdapter;
+			private final TypeAdapter<List<String>> stringListAdapter;
+
+			public CompiledTypeAdapter(Gson gson) {
+				super(gson, "TestModel", "name", "count");
+				stringAdapter = gson.getAdapter(String.class);
+				longAdapter = gson.getAdapter(Long.class);
+				statusAdapter =
+						new EnumValueTypeAdapter<>(
+								TestStatus.values(), TestStatus.UNKNOWN_DEFAULT_OPEN_API);
+				stringListAdapter = getAdapter(List.class, String.class);
+			}
+
+			@Override
+			protected TestModel newInstance() {
+				return new TestModel();
+			}
+
+			@Override
+			protected int readField(JsonReader in, String name, TestModel instance)
+					throws IOException {
+				switch (name) {
+					case "name":
+						instance.name = readPrimitive(in, name, stringAdapter);
+						return requiredField(0, instance.name);
+					case "count":
+						instance.count = readPrimitive(in, name, longAdapter);
+						return requiredField(1);
+					case "status":
+						instance.status = readPrimitive(in, name, statusAdapter);
+						return OPTIONAL_FIELD;
+					case "tags":
+						instance.tags = readArray(in, name, stringListAdapter);
+						return OPTIONAL_FIELD;
+					default:
+						return UNKNOWN_FIELD;
+				}
+			}
+
+			@Override
+			protected void writeFields(JsonWriter out, TestModel value) throws IOException {
+				writeField(out, "name", value.name, stringAdapter);
+				writeField(out, "count", value.count, longAdapter);
+				writeField(out, "status", value.status, statusAdapter);
+				writeField(out, "tags", value.tags, stringListAdapter);
+			}
+
+			@Override
+			protected Map<String, Object> getAdditionalProperties(TestModel value) {
+				return value.additionalProperties;
+			}
+
+			@Override
+			protected void putAdditionalProperty(
+					TestModel instance, String name, JsonElement value) {
+				instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+			}
+		}
+	}
+
+	/** Minimal model without additional properties. */
+	public static class StrictTestModel {
+		private String name;
+
+		public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<StrictTestModel> {
+			private final TypeAdapter<String> stringAdapter;
+
+			public CompiledTypeAdapter(Gson gson) {
+				super(gson, "StrictTestModel");
+				stringAdapter = gson.getAdapter(String.class);
+			}
+
+			@Override
+			protected StrictTestModel newInstance() {
+				return new StrictTestModel();
+			}
+
+			@Override
+			protected int readField(JsonReader in, String name, StrictTestModel instance)
+					throws IOException {
+				if ("name".equals(name)) {
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				}
+				return UNKNOWN_FIELD;
+			}
+
+			@Override
+			protected void writeFields(JsonWriter out, StrictTestModel value) throws IOException {
+				writeField(out, "name", value.name, stringAdapter);
+			}
+		}
+	}
+
+	private TestModel read(String json) throws IOException {
+		return new TestModel.CompiledTypeAdapter(gson).fromJson(json);
+	}
+
+	@Test
+	void testReadKnownAndAdditionalFields() throws IOException {
+		TestModel model =
+				read(
+						"{\"name\":\"srv\",\"count\":3,\"status\":\"INACTIVE\",\"tags\":[\"a\"],"
+								+ "\"zone\":\"eu01\",\"meta\":{\"k\":\"v\"}}");
+
+		assertEquals("srv", model.name);
+		assertEquals(3L, model.count);
+		assertEquals(TestStatus.INACTIVE, model.status);
+		assertEquals(Arrays.asList("a"), model.tags);
+		assertEquals("eu01", model.additionalProperties.get("zone"));
+		assertEquals("v", ((Map<?, ?>) model.additionalProperties.get("meta")).get("k"));
+	}
+
+	@Test
+	void testReadUnknownEnumValue() throws IOException {
+		TestModel model = read("{\"name\":\"srv\",\"count\":1,\"status\":\"DELETED\"}");
+
+		assertEquals(TestStatus.UNKNOWN_DEFAULT_OPEN_API, model.status);
+	}
+
+	@Test
+	void testReadNull() throws IOException {
+		assertNull(read("null"));
+	}
+
+	@Test
+	void testMissingRequiredFieldThrows() {
+		IllegalArgumentException e =
+				assertThrows(IllegalArgumentException.class, () -> read("{\"name\":\"srv\"}"));
+		assertTrue(e.getMessage().contains("`count`"));
+	}
+
+	@Test
+	void testRequiredFieldNull() throws IOException {
+		// like the generated adapters, required numbers may be null but strings may not
+		assertNull(read("{\"name\":\"srv\",\"count\":null}").count);
+		assertThrows(IllegalArgumentException.class, () -> read("{\"name\":null,\"count\":1}"));
+	}
+
+	@Test
+	void testWrongFieldTypesThrow() {
+		assertThrows(
+				IllegalArgumentException.class, () -> read("{\"name\":{\"a\":1},\"count\":1}"));
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> read("{\"name\":\"srv\",\"count\":1,\"tags\":\"a\"}"));
+		assertThrows(IllegalArgumentException.class, () -> read("[]"));
+	}
+
+	@Test
+	void testUnknownFieldOfStrictModelThrows() throws IOException {
+		TypeAdapter<StrictTestModel> adapter = new StrictTestModel.CompiledTypeAdapter(gson);
+
+		assertEquals("srv", adapter.fromJson("{\"name\":\"srv\"}").name);
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> adapter.fromJson("{\"name\":\"srv\",\"zone\":\"eu01\"}"));
+	}
+
+	@Test
+	void testWrite() {
+		TestModel model = new TestModel();
+		model.name = "srv";
+		model.status = TestStatus.ACTIVE;
+
+		assertEquals(
+				"{\"name\":\"srv\",\"status\":\"ACTIVE\"}",
+				new TestModel.CompiledTypeAdapter(gson).toJson(model));
+	}
+
+	@Test
+	void testWriteAdditionalPropertiesReplaceFields() {
+		TestModel model = new TestModel();
+		model.name = "srv";
+		model.count = 1L;
+		model.putAdditionalProperty("count", 2);
+		model.putAdditionalProperty("labels", Arrays.asList("x"));
+
+		JsonElement json =
+				JsonParser.parseString(new TestModel.CompiledTypeAdapter(gson).toJson(model));
+
+		assertEquals(
+				JsonParser.parseString("{\"name\":\"srv\",\"count\":2,\"labels\":[\"x\"]}"),
+				json);
+	}
+
+	@Test
+	void testWriteAdditionalPropertiesAfterFields() {
+		TestModel model = new TestModel();
+		model.name = "srv";
+		model.putAdditionalProperty("labels", Arrays.asList("x"));
+		TestModel.CompiledTypeAdapter adapter = new TestModel.CompiledTypeAdapter(gson);
+
+		assertEquals("{\"name\":\"srv\",\"labels\":[\"x\"]}", adapter.toJson(model));
+		model.additionalProperties.clear();
+		model.putAdditionalProperty("zone", 'z');
+		assertEquals("{\"name\":\"srv\",\"zone\":\"z\"}", adapter.toJson(model));
+		model.additionalProperties.clear();
+		model.putAdditionalProperty("size", 1.5);
+		assertEquals("{\"name\":\"srv\",\"size\":1.5}", adapter.toJson(model));
+		model.additionalProperties.clear();
+		model.putAdditionalProperty("enabled", true);
+		assertEquals("{\"name\":\"srv\",\"enabled\":true}", adapter.toJson(model));
+	}
+
+	@Test
+	void testReadPooledStringFields() throws IOException {
+		StringPoolTypeAdapter stringAdapter = new StringPoolTypeAdapter();
+		StringPool stringPool = new StringPool(16);
+		stringPool.setFields("name");
+		stringAdapter.setStringPool(stringPool);
+		Gson pooledGson =
+				new GsonBuilder().registerTypeAdapter(String.class, stringAdapter).create();
+		TestModel.CompiledTypeAdapter adapter = new TestModel.CompiledTypeAdapter(pooledGson);
+
+		String json = "{\"name\":\"srv\",\"count\":1,\"tags\":[\"a\"]}";
+		TestModel first = adapter.fromJson(json);
+		TestModel second = adapter.fromJson(json);
+
+		assertSame(first.name, second.name);
+		assertEquals(first.tags, second.tags);
+		assertNotSame(first.tags.get(0), second.tags.get(0));
+	}
+
+	@Test
+	void testEnumValueTypeAdapter() throws IOException {
+		EnumValueTypeAdapter<TestStatus> adapter =
+				new EnumValueTypeAdapter<>(
+						TestStatus.values(), TestStatus.UNKNOWN_DEFAULT_OPEN_API);
+
+		assertEquals(TestStatus.ACTIVE, adapter.fromValue("ACTIVE"));
+		assertEquals(TestStatus.UNKNOWN_DEFAULT_OPEN_API, adapter.fromValue("active"));
+		assertNull(adapter.fromJson("null"));
+		assertEquals(
+				"\"unknown_default_open_api\"",
+				adapter.toJson(TestStatus.UNKNOWN_DEFAULT_OPEN_API));
+	}
+}
@@ -0,0 +1,73 @@
+package cloud.stackit.sdk.core.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import org.junit.jupiter.api.Test;
+
+class DateTimeParserTest {
+	private static void assertParsedLikeFormatter(String value) {
+		OffsetDateTime expected =
+				OffsetDateTime.parse(value, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+		OffsetDateTime actual = DateTimeParser.parseOffsetDateTime(value);
+
+		assertEquals(expected, actual, value);
+		assertEquals(expected.getOffset(), actual.getOffset(), value);
+	}
+
+	@Test
+	void testParsesLikeFormatter() {
+		assertParsedLikeFormatter("2024-01-31T12:30:45Z");
+		assertParsedLikeFormatter("2024-01-31t12:30:45z");
+		assertParsedLikeFormatter("2024-02-29T00:00:00.5Z");
+		assertParsedLikeFormatter("2024-01-31T12:30:45.123Z");
+		assertParsedLikeFormatter("2024-01-31T12:30:45.123456789Z");
+		assertParsedLikeFormatter("2024-01-31T12:30:45+02:00");
+		assertParsedLikeFormatter("2024-01-31T12:30:45.1-05:30");
+		assertParsedLikeFormatter("2024-01-31T12:30:45-00:00");
+		assertParsedLikeFormatter("2024-01-31T12:30:45+18:00");
+	}
+
+	@Test
+	void testParsesOtherFormsWithFormatter() {
+		assertParsedLikeFormatter("2024-01-31T12:30Z");
+		assertParsedLikeFormatter("2024-01-31T12:30:45.Z");
+		assertParsedLikeFormatter("+12024-01-31T12:30:45Z");
+		assertParsedLikeFormatter("2024-01-31T12:30:45+01:00:30");
+	}
+
+	@Test
+	void testParsesOffsetWithoutColon() {
+		OffsetDateTime dateTime = DateTimeParser.parseOffsetDateTime("2024-01-31T12:30:45.25+0000");
+
+		assertEquals(
+				OffsetDateTime.of(2024, 1, 31, 12, 30, 45, 250_000_000, ZoneOffset.UTC), dateTime);
+	}
+
+	@Test
+	void testRejectsInvalidTimestamps() {
+		String[] values = {
+			"",
+			"2024-01-31",
+			"2024-01-31T12:30:45",
+			"2024-02-30T12:30:45Z",
+			"2024-01-31T24:00:00Z",
+			"2024-01-31T12:30:60Z",
+			"2024-01-31T12:30:45.1234567891Z",
+			"2024-01-31T12:30:45+19:00",
+			"2024-01-31T12:30:45+01:60",
+			"2024-01-31T12:30:45Zx",
+			"2024-01-31 12:30:45Z",
+			"2024-1-31T12:30:45Z"
+		};
+		for (String value : values) {
+			assertThrows(
+					DateTimeParseException.class,
+					() -> DateTimeParser.parseOffsetDateTime(value),
+					value);
+		}
+	}
+}
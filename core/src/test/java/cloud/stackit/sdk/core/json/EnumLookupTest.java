@@ -0,0 +1,41 @@
+package cloud.stackit.sdk.core.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class EnumLookupTest {
+	// Enum like the generated ones, whose values differ from the constant names
+	private enum Status {
+		ACTIVE("active"),
+		IN_PROGRESS("in-progress"),
+		UNKNOWN_DEFAULT_OPEN_API("unknown_default_open_api");
+
+		private final String value;
+
+		Status(String value) {
+			this.value = value;
+		}
+
+		@Override
+		public String toString() {
+			return value;
+		}
+	}
+
+	private final EnumLookup<Status> lookup =
+			new EnumLookup<>(Status.values(), Status.UNKNOWN_DEFAULT_OPEN_API);
+
+	@Test
+	void testFromValue() {
+		assertSame(Status.ACTIVE, lookup.fromValue("active"));
+		assertSame(Status.IN_PROGRESS, lookup.fromValue("in-progress"));
+	}
+
+	@Test
+	void testFromValueUnknown() {
+		assertSame(Status.UNKNOWN_DEFAULT_OPEN_API, lookup.fromValue("ACTIVE"));
+		assertSame(Status.UNKNOWN_DEFAULT_OPEN_API, lookup.fromValue("deleted"));
+		assertSame(Status.UNKNOWN_DEFAULT_OPEN_API, lookup.fromValue(null));
+	}
+}
@@ -0,0 +1,64 @@
+package cloud.stackit.sdk.core.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.gson.Gson;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import okhttp3.MediaType;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+
+class JsonRequestBodyTest {
+	private static final MediaType JSON = MediaType.parse("application/json");
+
+	private final Gson gson = new Gson();
+
+	@Test
+	void testWritesSameJsonAsToJson() throws IOException {
+		Map<String, Object> value = new LinkedHashMap<>();
+		value.put("name", "srv\u00e4<>");
+		value.put("targets", Arrays.asList("10.0.0.1", "10.0.0.2"));
+		value.put("count", 2);
+		JsonRequestBody body = new JsonRequestBody(gson, value, JSON);
+
+		try (Buffer buffer = new Buffer()) {
+			body.writeTo(buffer);
+
+			assertEquals(gson.toJson(value), buffer.readUtf8());
+		}
+	}
+
+	@Test
+	void testCanBeWrittenRepeatedly() throws IOException {
+		JsonRequestBody body = new JsonRequestBody(gson, Arrays.asList(1, 2), JSON);
+
+		try (Buffer first = new Buffer();
+				Buffer second = new Buffer()) {
+			body.writeTo(first);
+			body.writeTo(second);
+
+			assertEquals("[1,2]", first.readUtf8());
+			assertEquals("[1,2]", second.readUtf8());
+		}
+	}
+
+	@Test
+	void testUnknownContentLength() {
+		JsonRequestBody body = new JsonRequestBody(gson, "value", JSON);
+
+		assertEquals(-1, body.contentLength());
+		assertSame(JSON, body.contentType());
+	}
+
+	@Test
+	void testWritesNull() throws IOException {
+		try (Buffer buffer = new Buffer()) {
+			new JsonRequestBody(gson, null, JSON).writeTo(buffer);
+
+			assertEquals("null", buffer.readUtf8());
+		}
+	}
+}
@@ -0,0 +1,143 @@
+package cloud.stackit.sdk.core.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LazyModelTypeAdapterFactoryTest {
+	private static LazyModelTypeAdapterFactory factory;
+	private Gson gson;
+
+	/** Minimal model with a factory following the layout of the generated model classes. */
+	public static class TestModel {
+		@SerializedName("name")
+		private String name;
+
+		private transient boolean readByCustomAdapter;
+
+		public static class CustomTypeAdapterFactory implements TypeAdapterFactory {
+			@SuppressWarnings("unchecked")
+			@Override
+			public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+				if (!TestModel.class.isAssignableFrom(type.getRawType())) {
+					return null;
+				}
+				final TypeAdapter<TestModel> thisAdapter =
+						factory.getDelegateAdapter(gson, this, TypeToken.get(TestModel.class));
+				return (TypeAdapter<T>)
+						new TypeAdapter<TestModel>() {
+							@Override
+							public void write(JsonWriter out, TestModel value) throws IOException {
+								thisAdapter.write(out, value);
+							}
+
+							@Override
+							public TestModel read(JsonReader in) throws IOException {
+								TestModel instance = thisAdapter.read(in);
+								instance.readByCustomAdapter = true;
+								return instance;
+							}
+						}.nullSafe();
+			}
+		}
+	}
+
+	/** Minimal oneOf model, which delegates to the adapter of its member. */
+	public static class TestOneOfModel {
+		private TestModel actualInstance;
+
+		public static class CustomTypeAdapterFactory implements TypeAdapterFactory {
+			@SuppressWarnings("unchecked")
+			@Override
+			public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+				if (!TestOneOfModel.class.isAssignableFrom(type.getRawType())) {
+					return null;
+				}
+				final TypeAdapter<TestModel> adapterTestModel =
+						factory.getDelegateAdapter(gson, this, TypeToken.get(TestModel.class));
+				return (TypeAdapter<T>)
+						new TypeAdapter<TestOneOfModel>() {
+							@Override
+							public void write(JsonWriter out, TestOneOfModel value)
+									throws IOException {
+								adapterTestModel.write(out, value.actualInstance);
+							}
+
+							@Override
+							public TestOneOfModel read(JsonReader in) throws IOException {
+								TestOneOfModel instance = new TestOneOfModel();
+								instance.actualInstance = adapterTestModel.read(in);
+								return instance;
+							}
+						}.nullSafe();
+			}
+		}
+	}
+
+	/** Model without a generated factory. */
+	public static class PlainModel {
+		@SerializedName("name")
+		private String name;
+	}
+
+	@BeforeEach
+	void setUp() {
+		factory = new LazyModelTypeAdapterFactory("cloud.stackit.sdk.core.json");
+		gson = new GsonBuilder().registerTypeAdapterFactory(factory).create();
+	}
+
+	@Test
+	void testModelAdapterIsCreatedOnFirstUse() {
+		TestModel model = gson.fromJson("{\"name\":\"srv\"}", TestModel.class);
+
+		assertEquals("srv", model.name);
+		assertTrue(model.readByCustomAdapter);
+		assertEquals("{\"name\":\"srv\"}", gson.toJson(model));
+	}
+
+	@Test
+	void testOneOfMemberUsesModelAdapter() {
+		TestOneOfModel model = gson.fromJson("{\"name\":\"srv\"}", TestOneOfModel.class);
+
+		assertEquals("srv", model.actualInstance.name);
+		assertTrue(model.actualInstance.readByCustomAdapter);
+	}
+
+	@Test
+	void testModelWithoutFactory() {
+		assertNull(factory.create(gson, TypeToken.get(PlainModel.class)));
+		assertEquals("srv", gson.fromJson("{\"name\":\"srv\"}", PlainModel.class).name);
+	}
+
+	@Test
+	void testTypesOutsideOfModelPackageAreIgnored() {
+		LazyModelTypeAdapterFactory otherPackage =
+				new LazyModelTypeAdapterFactory("cloud.stackit.sdk.other");
+
+		assertNull(otherPackage.create(gson, TypeToken.get(TestModel.class)));
+		assertNull(factory.create(gson, TypeToken.get(String.class)));
+	}
+
+	@Test
+	void testEagerlyRegisteredFactoryStillWorks() {
+		Gson eagerGson =
+				new GsonBuilder()
+						.registerTypeAdapterFactory(new TestModel.CustomTypeAdapterFactory())
+						.create();
+
+		TestModel model = eagerGson.fromJson("{\"name\":\"srv\"}", TestModel.class);
+
+		assertEquals("srv", model.name);
+		assertTrue(model.readByCustomAdapter);
+	}
+}
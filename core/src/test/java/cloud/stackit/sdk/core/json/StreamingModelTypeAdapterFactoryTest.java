@@ -0,0 +1,144 @@
+package cloud.stackit.sdk.core.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.annotations.SerializedName;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StreamingModelTypeAdapterFactoryTest {
+	private StreamingModelTypeAdapterFactory factory;
+	private Gson gson;
+
+	/** Minimal model following the layout of the generated model classes. */
+	public static class TestModel {
+		@SerializedName("name")
+		private String name;
+
+		@SerializedName("enabled")
+		private Boolean enabled = false;
+
+		@SerializedName("tags")
+		private List<String> tags;
+
+		@SerializedName("child")
+		private TestModel child;
+
+		private Map<String, Object> additionalProperties;
+
+		public static HashSet<String> openapiFields =
+				new HashSet<>(Arrays.asList("name", "enabled", "tags", "child"));
+		public static HashSet<String> openapiRequiredFields =
+				new HashSet<>(Arrays.asList("name"));
+
+		public TestModel() {}
+
+		public static void validateJsonElement(JsonElement jsonElement) {}
+
+		public TestModel putAdditionalProperty(String key, Object value) {
+			if (this.additionalProperties == null) {
+				this.additionalProperties = new HashMap<>();
+			}
+			this.additionalProperties.put(key, value);
+			return this;
+		}
+
+		public Object getAdditionalProperty(String key) {
+			return additionalProperties == null ? null : additionalProperties.get(key);
+		}
+	}
+
+	@BeforeEach
+	void setUp() {
+		factory = new StreamingModelTypeAdapterFactory("cloud.stackit.sdk.core.json", true);
+		gson = new GsonBuilder().registerTypeAdapterFactory(factory).create();
+	}
+
+	@Test
+	void testReadKnownAndAdditionalFields() {
+		TestModel model =
+				gson.fromJson(
+						"{\"name\":\"srv\",\"tags\":[\"a\",\"b\"],\"child\":{\"name\":\"c\"},"
+								+ "\"status\":\"ACTIVE\",\"count\":3,\"meta\":{\"k\":\"v\"}}",
+						TestModel.class);
+
+		assertEquals("srv", model.name);
+		assertEquals(false, model.enabled);
+		assertEquals(Arrays.asList("a", "b"), model.tags);
+		assertEquals("c", model.child.name);
+		assertEquals("ACTIVE", model.getAdditionalProperty("status"));
+		assertEquals(3, ((Number) model.getAdditionalProperty("count")).intValue());
+		assertEquals("v", ((Map<?, ?>) model.getAdditionalProperty("meta")).get("k"));
+	}
+
+	@Test
+	void testMissingRequiredFieldThrows() {
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> gson.fromJson("{\"enabled\":true}", TestModel.class));
+	}
+
+	@Test
+	void testRequiredFieldNullThrows() {
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> gson.fromJson("{\"name\":null}", TestModel.class));
+	}
+
+	@Test
+	void testWrongFieldTypesThrow() {
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> gson.fromJson("{\"name\":{\"a\":1}}", TestModel.class));
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> gson.fromJson("{\"name\":\"n\",\"tags\":\"a\"}", TestModel.class));
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> gson.fromJson("{\"name\":\"n\",\"child\":{}}", TestModel.class));
+	}
+
+	@Test
+	void testReadPooledStringFields() {
+		StringPoolTypeAdapter stringAdapter = new StringPoolTypeAdapter();
+		StringPool stringPool = new StringPool(16);
+		stringPool.setFields("name");
+		stringAdapter.setStringPool(stringPool);
+		Gson pooledGson =
+				new GsonBuilder()
+						.registerTypeAdapter(String.class, stringAdapter)
+						.registerTypeAdapterFactory(factory)
+						.create();
+
+		TestModel model =
+				pooledGson.fromJson(
+						"{\"name\":\"srv\",\"tags\":[\"srv\"],\"child\":{\"name\":\"srv\"}}",
+						TestModel.class);
+
+		assertSame(model.name, model.child.name);
+		assertNotSame(model.name, model.tags.get(0));
+	}
+
+	@Test
+	void testNullModel() {
+		assertNull(gson.fromJson("null", TestModel.class));
+	}
+
+	@Test
+	void testDisabledDelegatesToGeneratedAdapter() {
+		factory.setEnabled(false);
+
+		// the reflective fallback doesn't validate the required fields
+		TestModel model = gson.fromJson("{\"enabled\":true}", TestModel.class);
+		assertNull(model.name);
+		assertTrue(model.enabled);
+	}
+}
@@ -0,0 +1,66 @@
+package cloud.stackit.sdk.core.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class StringPoolTest {
+	// a new instance of a string, like the strings read from a response
+	private static String copy(String value) {
+		return new StringBuilder(value).toString();
+	}
+
+	@Test
+	void testInternReturnsPooledInstance() {
+		StringPool pool = new StringPool(16);
+		String first = copy("eu01-1");
+
+		assertSame(first, pool.intern(first));
+		assertSame(first, pool.intern(copy("eu01-1")));
+		assertNull(pool.intern(null));
+	}
+
+	@Test
+	void testInternSkipsLongStrings() {
+		StringPool pool = new StringPool(16);
+		pool.setMaxLength(4);
+		String first = copy("ACTIVE");
+
+		pool.intern(first);
+
+		assertNotSame(first, pool.intern(copy("ACTIVE")));
+	}
+
+	@Test
+	void testPoolIsBounded() {
+		StringPool pool = new StringPool(4);
+		String first = copy("value-0");
+		pool.intern(first);
+		for (int i = 1; i < 1000; i++) {
+			pool.intern("value-" + i);
+		}
+
+		// the value was replaced at some point, but the pool still returns equal strings
+		assertEquals(first, pool.intern(copy("value-0")));
+	}
+
+	@Test
+	void testIsPooled() {
+		StringPool pool = new StringPool(16);
+
+		assertTrue(pool.isPooled(null));
+		assertTrue(pool.isPooled("status"));
+		assertNull(pool.getFields());
+
+		pool.setFields("status", "availabilityZone");
+
+		assertFalse(pool.isPooled(null));
+		assertTrue(pool.isPooled("status"));
+		assertFalse(pool.isPooled("name"));
+	}
+
+	@Test
+	void testInvalidCapacityThrows() {
+		assertThrows(IllegalArgumentException.class, () -> new StringPool(0));
+	}
+}
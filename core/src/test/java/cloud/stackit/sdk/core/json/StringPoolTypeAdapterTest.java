@@ -0,0 +1,57 @@
+package cloud.stackit.sdk.core.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class StringPoolTypeAdapterTest {
+	private static final String JSON = "[{\"status\":\"ACTIVE\"},{\"status\":\"ACTIVE\"}]";
+
+	private final StringPoolTypeAdapter adapter = new StringPoolTypeAdapter();
+	private final Gson gson = new GsonBuilder().registerTypeAdapter(String.class, adapter).create();
+
+	private List<Map<String, String>> read() {
+		return gson.fromJson(JSON, new TypeToken<List<Map<String, String>>>() {}.getType());
+	}
+
+	@Test
+	void testReadsLikeDefaultAdapter() {
+		assertEquals("true", gson.fromJson("true", String.class));
+		assertEquals("1.50", gson.fromJson("1.50", String.class));
+		assertNull(gson.fromJson("null", String.class));
+		assertEquals("\"a\\\"b\"", gson.toJson("a\"b"));
+	}
+
+	@Test
+	void testReadWithoutPoolKeepsInstances() {
+		List<Map<String, String>> list = read();
+
+		assertNotSame(list.get(0).get("status"), list.get(1).get("status"));
+	}
+
+	@Test
+	void testReadWithPoolSharesInstances() {
+		adapter.setStringPool(new StringPool(16));
+
+		List<Map<String, String>> list = read();
+
+		assertSame(list.get(0).get("status"), list.get(1).get("status"));
+	}
+
+	@Test
+	void testReadWithFieldsPoolsOnlyThoseFields() {
+		StringPool pool = new StringPool(16);
+		pool.setFields("status");
+		adapter.setStringPool(pool);
+
+		// without the field name, e.g. in the default adapters, nothing is pooled
+		List<Map<String, String>> list = read();
+
+		assertNotSame(list.get(0).get("status"), list.get(1).get("status"));
+	}
+}
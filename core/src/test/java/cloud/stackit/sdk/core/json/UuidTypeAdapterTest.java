@@ -0,0 +1,54 @@
+package cloud.stackit.sdk.core.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class UuidTypeAdapterTest {
+	private final Gson gson =
+			new GsonBuilder().registerTypeAdapter(UUID.class, new UuidTypeAdapter()).create();
+
+	@Test
+	void testParsesLikeFromString() {
+		String[] values = {
+			"123e4567-e89b-12d3-a456-426614174000",
+			"00000000-0000-0000-0000-000000000000",
+			"ffffffff-ffff-ffff-ffff-ffffffffffff",
+			"FFFFFFFF-0000-ABCD-8000-0123456789AB",
+			"1-2-3-4-5"
+		};
+		for (String value : values) {
+			assertEquals(UUID.fromString(value), UuidTypeAdapter.parse(value), value);
+		}
+	}
+
+	@Test
+	void testRejectsInvalidUuids() {
+		String[] values = {
+			"", "123e4567-e89b-12d3-a456-42661417400g", "123e4567e89b12d3a456426614174000"
+		};
+		for (String value : values) {
+			assertThrows(
+					IllegalArgumentException.class, () -> UuidTypeAdapter.parse(value), value);
+		}
+	}
+
+	@Test
+	void testReadAndWrite() {
+		UUID uuid = UUID.randomUUID();
+		String json = "\"" + uuid + "\"";
+
+		assertEquals(uuid, gson.fromJson(json, UUID.class));
+		assertEquals(json, gson.toJson(uuid));
+		assertNull(gson.fromJson("null", UUID.class));
+	}
+
+	@Test
+	void testReadInvalidThrowsJsonSyntaxException() {
+		assertThrows(JsonSyntaxException.class, () -> gson.fromJson("\"invalid\"", UUID.class));
+	}
+}
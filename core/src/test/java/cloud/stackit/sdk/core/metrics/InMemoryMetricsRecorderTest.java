@@ -0,0 +1,50 @@
+package cloud.stackit.sdk.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryMetricsRecorderTest {
+	private static final String LIST_SERVERS = "GET /v2/projects/{}/regions/{}/servers";
+
+	@Test
+	@DisplayName("recordRequest keeps the metrics per operation")
+	void recordRequestPerOperation() {
+		InMemoryMetricsRecorder recorder = new InMemoryMetricsRecorder();
+
+		recorder.recordRequest(LIST_SERVERS, 200, 1_000_000, 0, 100);
+		recorder.recordRequest(LIST_SERVERS, 503, 2_000_000, 0, 20);
+		recorder.recordRequest(LIST_SERVERS, 0, 3_000_000, 0, 0);
+		recorder.recordRequest("POST /v2/projects/{}/regions/{}/servers", 201, 1_000_000, 50, 80);
+		recorder.recordRetry(LIST_SERVERS);
+
+		OperationMetrics metrics = recorder.getOperation(LIST_SERVERS);
+		assertEquals(LIST_SERVERS, metrics.getOperation());
+		assertEquals(3, metrics.getCount());
+		assertEquals(1, metrics.getCount(200));
+		assertEquals(1, metrics.getCount(503));
+		assertEquals(1, metrics.getCount(0));
+		assertEquals(0, metrics.getCount(1000));
+		assertEquals(3, metrics.getLatency().getCount());
+		assertEquals(6_000_000, metrics.getLatency().getTotalNanos());
+		assertEquals(0, metrics.getRequestBytes());
+		assertEquals(120, metrics.getResponseBytes());
+		assertEquals(1, metrics.getRetryCount());
+		assertEquals(2, recorder.getOperations().size());
+		assertNull(recorder.getOperation("GET /v2/projects/{}"));
+	}
+
+	@Test
+	@DisplayName("recordTokenRefresh counts failed refreshes")
+	void recordTokenRefresh() {
+		InMemoryMetricsRecorder recorder = new InMemoryMetricsRecorder();
+
+		recorder.recordTokenRefresh(true, 1_000_000);
+		recorder.recordTokenRefresh(false, 1_000_000);
+
+		assertEquals(2, recorder.getTokenRefreshCount());
+		assertEquals(1, recorder.getFailedTokenRefreshCount());
+		assertEquals(2, recorder.getTokenRefreshLatency().getCount());
+	}
+}
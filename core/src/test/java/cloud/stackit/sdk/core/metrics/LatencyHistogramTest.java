@@ -0,0 +1,58 @@
+package cloud.stackit.sdk.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+	@Test
+	@DisplayName("record counts latencies in exponential buckets")
+	void recordUsesExponentialBuckets() {
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		histogram.record(500);
+		histogram.record(TimeUnit.MICROSECONDS.toNanos(1));
+		histogram.record(TimeUnit.MICROSECONDS.toNanos(3));
+		histogram.record(TimeUnit.HOURS.toNanos(1));
+
+		assertEquals(1, histogram.getCount(0));
+		assertEquals(1, histogram.getCount(1));
+		assertEquals(1, histogram.getCount(2));
+		assertEquals(1, histogram.getCount(histogram.getBucketCount() - 1));
+		assertEquals(4, histogram.getCount());
+	}
+
+	@Test
+	@DisplayName("getUpperBoundNanos doubles with every bucket")
+	void getUpperBoundNanos() {
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		assertEquals(1000, histogram.getUpperBoundNanos(0));
+		assertEquals(2000, histogram.getUpperBoundNanos(1));
+		assertEquals(TimeUnit.MICROSECONDS.toNanos(1L << 20), histogram.getUpperBoundNanos(20));
+		assertEquals(Long.MAX_VALUE, histogram.getUpperBoundNanos(histogram.getBucketCount() - 1));
+	}
+
+	@Test
+	@DisplayName("getPercentileNanos returns the upper bound of the percentile's bucket")
+	void getPercentileNanos() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0, histogram.getPercentileNanos(50));
+
+		for (int i = 0; i < 99; i++) {
+			histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+		}
+		histogram.record(TimeUnit.SECONDS.toNanos(1));
+
+		// 1 ms is in the bucket up to 1024 microseconds, 1 s in the one up to 2^20 microseconds
+		assertEquals(TimeUnit.MICROSECONDS.toNanos(1024), histogram.getPercentileNanos(50));
+		assertEquals(TimeUnit.MICROSECONDS.toNanos(1024), histogram.getPercentileNanos(99));
+		assertEquals(TimeUnit.MICROSECONDS.toNanos(1L << 20), histogram.getPercentileNanos(100));
+		assertEquals(
+				TimeUnit.MILLISECONDS.toNanos(99) + TimeUnit.SECONDS.toNanos(1),
+				histogram.getTotalNanos());
+	}
+}
@@ -0,0 +1,135 @@
+package cloud.stackit.sdk.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MetricsInterceptorTest {
+	private static final String GET_SERVER = "GET /v2/projects/{}/regions/{}/servers/{}";
+
+	private MockWebServer mockWebServer;
+	private InMemoryMetricsRecorder metricsRecorder;
+	private OkHttpClient client;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		mockWebServer = new MockWebServer();
+		mockWebServer.start();
+
+		metricsRecorder = new InMemoryMetricsRecorder();
+		client =
+				new OkHttpClient.Builder()
+						.retryOnConnectionFailure(false)
+						.addInterceptor(new MetricsInterceptor(metricsRecorder))
+						.build();
+	}
+
+	@AfterEach
+	void teardown() throws IOException {
+		mockWebServer.shutdown();
+	}
+
+	private Request request(String path) {
+		return new Request.Builder().url("https://iaas.api.stackit.cloud" + path).build();
+	}
+
+	@Test
+	@DisplayName("operation replaces the path parameters")
+	void operationReplacesPathParameters() {
+		assertEquals(
+				GET_SERVER,
+				MetricsInterceptor.operation(request("/v2/projects/p1/regions/eu01/servers/s1")));
+		assertEquals(
+				"GET /v2/projects/{}/regions/{}/servers",
+				MetricsInterceptor.operation(request("/v2/projects/p1/regions/eu01/servers")));
+		assertEquals(
+				"GET /v2beta1/projects/{}/servers/{}/start",
+				MetricsInterceptor.operation(request("/v2beta1/projects/p1/servers/s1/start")));
+		assertEquals(
+				"GET /prefix/v1/organizations/{}",
+				MetricsInterceptor.operation(request("/prefix/v1/organizations/o1")));
+		assertEquals("GET /", MetricsInterceptor.operation(request("/")));
+	}
+
+	@Test
+	@DisplayName("operation caches the names of repeated requests")
+	void operationCachesNames() {
+		String path = "/v2/projects/p1/regions/eu01/servers/s2";
+
+		String operation = MetricsInterceptor.operation(request(path));
+
+		assertEquals(GET_SERVER, operation);
+		assertSame(operation, MetricsInterceptor.operation(request(path)));
+		assertNotSame(
+				operation,
+				MetricsInterceptor.operation(request("/v2/projects/p1/regions/eu01/servers/s3")));
+	}
+
+	@Test
+	@DisplayName("intercept records status code, latency and sizes")
+	void interceptRecordsRequests() throws IOException {
+		mockWebServer.enqueue(new MockResponse().setResponseCode(201).setBody("created"));
+
+		Request request =
+				new Request.Builder()
+						.url(mockWebServer.url("/v2/projects/p1/regions/eu01/servers"))
+						.post(RequestBody.create("{\"name\":\"s1\"}", null))
+						.build();
+		try (Response response = client.newCall(request).execute()) {
+			assertEquals("created", response.body().string());
+		}
+
+		OperationMetrics metrics =
+				metricsRecorder.getOperation("POST /v2/projects/{}/regions/{}/servers");
+		assertEquals(1, metrics.getCount());
+		assertEquals(1, metrics.getCount(201));
+		assertEquals(1, metrics.getLatency().getCount());
+		assertEquals(13, metrics.getRequestBytes());
+		assertEquals(7, metrics.getResponseBytes());
+	}
+
+	@Test
+	@DisplayName("intercept counts response bodies of unknown size when they are closed")
+	void interceptCountsChunkedResponses() throws IOException {
+		mockWebServer.enqueue(
+				new MockResponse().setChunkedBody(new Buffer().writeUtf8("0123456789"), 3));
+
+		Request request =
+				new Request.Builder()
+						.url(mockWebServer.url("/v2/projects/p1/regions/eu01/servers/s1"))
+						.build();
+		try (Response response = client.newCall(request).execute()) {
+			assertEquals("0123456789", response.body().string());
+		}
+
+		OperationMetrics metrics = metricsRecorder.getOperation(GET_SERVER);
+		assertEquals(1, metrics.getCount(200));
+		assertEquals(10, metrics.getResponseBytes());
+	}
+
+	@Test
+	@DisplayName("intercept records I/O errors with status code 0")
+	void interceptRecordsIoErrors() {
+		mockWebServer.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AT_START));
+
+		Request request =
+				new Request.Builder()
+						.url(mockWebServer.url("/v2/projects/p1/regions/eu01/servers/s1"))
+						.build();
+		assertThrows(IOException.class, () -> client.newCall(request).execute());
+
+		assertEquals(1, metricsRecorder.getOperation(GET_SERVER).getCount(0));
+	}
+}
@@ -0,0 +1,119 @@
+package cloud.stackit.sdk.core.pagination;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class ItemIteratorTest {
+	private static final Gson GSON = new Gson();
+
+	// Item of the fake list response
+	private static final class Item {
+		private String id;
+	}
+
+	private static ItemIterator<Item> items(String json, String field) {
+		return new ItemIterator<>(
+				new JsonReader(new StringReader(json)), field, GSON.getAdapter(Item.class));
+	}
+
+	private static List<String> ids(ItemIterator<Item> iterator) {
+		List<String> ids = new ArrayList<>();
+		iterator.forEachRemaining(item -> ids.add(item.id));
+		return ids;
+	}
+
+	@Test
+	void iteratorReturnsItemsOfField() {
+		String json =
+				"{\"meta\":{\"items\":[{\"id\":\"x\"}]},"
+						+ "\"items\":[{\"id\":\"a\"},{\"id\":\"b\"},{\"id\":\"c\"}],"
+						+ "\"limit\":100}";
+		try (ItemIterator<Item> iterator = items(json, "items")) {
+			assertEquals(Arrays.asList("a", "b", "c"), ids(iterator));
+			assertFalse(iterator.hasNext());
+		}
+	}
+
+	@Test
+	void iteratorReturnsItemsOfTopLevelArray() {
+		try (ItemIterator<Item> iterator = items("[{\"id\":\"a\"},{\"id\":\"b\"}]", null)) {
+			assertEquals(Arrays.asList("a", "b"), ids(iterator));
+		}
+	}
+
+	@Test
+	void iteratorWithoutFieldIsEmpty() {
+		try (ItemIterator<Item> missing = items("{\"limit\":100}", "items");
+				ItemIterator<Item> nullField = items("{\"items\":null}", "items")) {
+			assertFalse(missing.hasNext());
+			assertFalse(nullField.hasNext());
+			assertThrows(NoSuchElementException.class, missing::next);
+		}
+	}
+
+	@Test
+	void emptyIteratorHasNoItems() {
+		try (ItemIterator<Item> iterator = ItemIterator.empty()) {
+			assertFalse(iterator.hasNext());
+		}
+	}
+
+	@Test
+	void iteratorIsClosedAfterTheLastItem() {
+		AtomicBoolean closed = new AtomicBoolean();
+		StringReader body =
+				new StringReader("{\"items\":[{\"id\":\"a\"}]}") {
+					@Override
+					public void close() {
+						closed.set(true);
+						super.close();
+					}
+				};
+		try (ItemIterator<Item> iterator =
+				new ItemIterator<>(new JsonReader(body), "items", GSON.getAdapter(Item.class))) {
+			assertTrue(iterator.hasNext());
+			assertFalse(closed.get());
+			iterator.next();
+			assertFalse(iterator.hasNext());
+			assertTrue(closed.get());
+		}
+	}
+
+	@Test
+	void closingTheStreamClosesTheIterator() {
+		ItemIterator<Item> iterator = items("{\"items\":[{\"id\":\"a\"},{\"id\":\"b\"}]}", "items");
+		try (Stream<Item> stream = iterator.stream()) {
+			assertEquals(
+					Collections.singletonList("a"),
+					stream.limit(1).map(item -> item.id).collect(Collectors.toList()));
+		}
+		assertFalse(iterator.hasNext());
+	}
+
+	@Test
+	void truncatedResponseThrowsUncheckedIOException() {
+		try (ItemIterator<Item> iterator = items("{\"items\":[{\"id\":\"a\"},{\"id\"", "items")) {
+			iterator.next();
+			UncheckedIOException e = assertThrows(UncheckedIOException.class, iterator::next);
+			assertTrue(e.getCause() instanceof IOException);
+			assertFalse(iterator.hasNext());
+		}
+	}
+}
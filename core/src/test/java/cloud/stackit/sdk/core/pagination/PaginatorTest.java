@@ -0,0 +1,151 @@
+package cloud.stackit.sdk.core.pagination;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cloud.stackit.sdk.core.exception.ApiException;
+import cloud.stackit.sdk.core.exception.UncheckedApiException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class PaginatorTest {
+
+	// Page of the fake list operation, identified by a page id
+	private static final class TestPage {
+		private final List<String> items;
+		private final String nextPageId;
+
+		private TestPage(String nextPageId, String... items) {
+			this.items = Arrays.asList(items);
+			this.nextPageId = nextPageId;
+		}
+	}
+
+	private final Map<String, TestPage> pages = new HashMap<>();
+	private final List<String> requestedPageIds = new ArrayList<>();
+	private final Map<String, CompletableFuture<TestPage>> responses = new HashMap<>();
+
+	private CompletableFuture<TestPage> fetchPage(String pageId) {
+		requestedPageIds.add(pageId);
+		CompletableFuture<TestPage> response = responses.get(pageId);
+		if (response != null) {
+			return response;
+		}
+		return CompletableFuture.completedFuture(pages.get(pageId));
+	}
+
+	private Paginator<String> pageIdPaginator() {
+		pages.put(null, new TestPage("b", "1", "2"));
+		pages.put("b", new TestPage("c", "3"));
+		pages.put("c", new TestPage("", "4", "5"));
+		return Paginator.ofPageId(this::fetchPage, page -> page.items, page -> page.nextPageId);
+	}
+
+	@Test
+	void iteratorReturnsItemsOfAllPages() {
+		List<String> items = new ArrayList<>();
+		for (String item : pageIdPaginator()) {
+			items.add(item);
+		}
+
+		assertEquals(Arrays.asList("1", "2", "3", "4", "5"), items);
+		assertEquals(Arrays.asList(null, "b", "c"), requestedPageIds);
+	}
+
+	@Test
+	void streamReturnsItemsOfAllPages() {
+		assertEquals(
+				Arrays.asList("1", "2", "3", "4", "5"),
+				pageIdPaginator().stream().collect(Collectors.toList()));
+	}
+
+	@Test
+	void iteratorIsLazy() {
+		Iterator<String> iterator = pageIdPaginator().iterator();
+
+		assertTrue(requestedPageIds.isEmpty());
+		assertEquals("1", iterator.next());
+	}
+
+	@Test
+	void iteratorPrefetchesNextPage() {
+		CompletableFuture<TestPage> secondPage = new CompletableFuture<>();
+		responses.put("b", secondPage);
+		Iterator<String> iterator = pageIdPaginator().iterator();
+
+		assertEquals("1", iterator.next());
+		// the second page is requested while the first page is consumed
+		assertEquals(Arrays.asList(null, "b"), requestedPageIds);
+
+		secondPage.complete(pages.get("b"));
+		assertEquals("2", iterator.next());
+		assertEquals("3", iterator.next());
+		assertEquals(Arrays.asList(null, "b", "c"), requestedPageIds);
+	}
+
+	@Test
+	void iteratorWithoutPrefetchRequestsPagesOnDemand() {
+		Iterator<String> iterator = pageIdPaginator().prefetchDepth(0).iterator();
+
+		assertEquals("1", iterator.next());
+		assertEquals("2", iterator.next());
+		assertEquals(Collections.singletonList(null), requestedPageIds);
+		assertEquals("3", iterator.next());
+		assertEquals(Arrays.asList(null, "b"), requestedPageIds);
+	}
+
+	@Test
+	void iteratorThrowsUncheckedApiException() {
+		ApiException apiException = new ApiException(500, "");
+		CompletableFuture<TestPage> failedPage = new CompletableFuture<>();
+		failedPage.completeExceptionally(apiException);
+		responses.put("b", failedPage);
+		Iterator<String> iterator = pageIdPaginator().iterator();
+
+		assertEquals("1", iterator.next());
+		assertEquals("2", iterator.next());
+		UncheckedApiException thrown = assertThrows(UncheckedApiException.class, iterator::hasNext);
+		assertSame(apiException, thrown.getApiException());
+		assertFalse(iterator.hasNext());
+	}
+
+	@Test
+	void prefetchDepthMustNotBeNegative() {
+		Paginator<String> paginator = pageIdPaginator();
+
+		assertThrows(IllegalArgumentException.class, () -> paginator.prefetchDepth(-1));
+	}
+
+	@Test
+	void offsetPaginatorStopsAtIncompletePage() {
+		List<BigDecimal> requestedOffsets = new ArrayList<>();
+		List<Integer> allItems = Arrays.asList(1, 2, 3, 4, 5);
+		Paginator<Integer> paginator =
+				Paginator.ofOffset(
+						offset -> {
+							requestedOffsets.add(offset);
+							int from = Math.min(offset.intValue(), allItems.size());
+							int to = Math.min(from + 2, allItems.size());
+							return CompletableFuture.completedFuture(allItems.subList(from, to));
+						},
+						page -> page,
+						page -> BigDecimal.valueOf(2));
+
+		assertEquals(allItems, paginator.stream().collect(Collectors.toList()));
+		assertEquals(
+				Arrays.asList(BigDecimal.ZERO, BigDecimal.valueOf(2), BigDecimal.valueOf(4)),
+				requestedOffsets);
+	}
+}
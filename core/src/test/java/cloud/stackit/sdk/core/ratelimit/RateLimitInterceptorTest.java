@@ -0,0 +1,116 @@
+package cloud.stackit.sdk.core.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RateLimitInterceptorTest {
+	private MockWebServer mockWebServer;
+	private RateLimiter rateLimiter;
+	private OkHttpClient client;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		mockWebServer = new MockWebServer();
+		mockWebServer.start();
+
+		rateLimiter = new RateLimiter(100, 10);
+		client =
+				new OkHttpClient.Builder()
+						.addInterceptor(new RateLimitInterceptor(rateLimiter))
+						.build();
+	}
+
+	@AfterEach
+	void teardown() throws IOException {
+		mockWebServer.shutdown();
+	}
+
+	private int execute(Request request) throws IOException {
+		try (Response response = client.newCall(request).execute()) {
+			return response.code();
+		}
+	}
+
+	private Request post() {
+		return new Request.Builder()
+				.url(mockWebServer.url("/v1/projects/p1/servers"))
+				.post(RequestBody.create(new byte[0], null))
+				.build();
+	}
+
+	@Test
+	@DisplayName("intercept retries requests answered with 429 after the Retry-After delay")
+	void interceptRetriesTooManyRequests() throws IOException {
+		mockWebServer.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "0"));
+		mockWebServer.enqueue(new MockResponse().setResponseCode(201));
+
+		assertEquals(201, execute(post()));
+		assertEquals(2, mockWebServer.getRequestCount());
+		assertEquals(1, rateLimiter.getRetryAfterCount());
+	}
+
+	@Test
+	@DisplayName("intercept returns the response after the last retry")
+	void interceptStopsAfterMaxRetries() throws IOException {
+		rateLimiter.setMaxRetries(1);
+		for (int i = 0; i < 2; i++) {
+			mockWebServer.enqueue(
+					new MockResponse().setResponseCode(429).setHeader("Retry-After", "0"));
+		}
+
+		assertEquals(429, execute(post()));
+		assertEquals(2, mockWebServer.getRequestCount());
+	}
+
+	@Test
+	@DisplayName("intercept doesn't wait for Retry-After delays above the maximum")
+	void interceptSkipsLongRetryAfter() throws IOException {
+		rateLimiter.setMaxRetryAfter(10, TimeUnit.SECONDS);
+		mockWebServer.enqueue(
+				new MockResponse().setResponseCode(429).setHeader("Retry-After", "3600"));
+
+		assertEquals(429, execute(post()));
+		assertEquals(1, mockWebServer.getRequestCount());
+	}
+
+	@Test
+	@DisplayName("intercept retries 503 only for idempotent requests with Retry-After")
+	void interceptRetriesServiceUnavailable() throws IOException {
+		mockWebServer.enqueue(new MockResponse().setResponseCode(503).setHeader("Retry-After", "0"));
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+		mockWebServer.enqueue(new MockResponse().setResponseCode(503).setHeader("Retry-After", "0"));
+		mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+
+		Request get = new Request.Builder().url(mockWebServer.url("/v1/projects/p1")).build();
+		assertEquals(200, execute(get));
+		assertEquals(503, execute(post()));
+		assertEquals(503, execute(get));
+		assertEquals(4, mockWebServer.getRequestCount());
+	}
+
+	@Test
+	@DisplayName("key consists of the host and the project ID")
+	void keyContainsProject() {
+		assertEquals(
+				"iaas.api.stackit.cloud/p1",
+				RateLimitInterceptor.key(
+						HttpUrl.get("https://iaas.api.stackit.cloud/v2/projects/p1/servers")));
+		assertEquals(
+				"resource-manager.api.stackit.cloud",
+				RateLimitInterceptor.key(
+						HttpUrl.get("https://resource-manager.api.stackit.cloud/v2/projects")));
+	}
+}
@@ -0,0 +1,82 @@
+package cloud.stackit.sdk.core.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+	private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+	private final AtomicLong now = new AtomicLong(5_000 * MILLI);
+	private final List<Long> sleeps = new ArrayList<>();
+
+	private RateLimiter rateLimiter(double requestsPerSecond, int burst) {
+		return new RateLimiter(requestsPerSecond, burst, now::get, sleeps::add);
+	}
+
+	@Test
+	@DisplayName("acquire lets a burst pass and then waits for the rate")
+	void acquireAllowsBurst() throws InterruptedException {
+		RateLimiter rateLimiter = rateLimiter(10, 3);
+
+		for (int i = 0; i < 5; i++) {
+			rateLimiter.acquire("key");
+		}
+
+		assertEquals(Arrays.asList(100 * MILLI, 200 * MILLI), sleeps);
+		assertEquals(2, rateLimiter.getThrottledCount());
+	}
+
+	@Test
+	@DisplayName("acquire refills the bucket over time")
+	void acquireRefillsBucket() throws InterruptedException {
+		RateLimiter rateLimiter = rateLimiter(10, 2);
+		rateLimiter.acquire("key");
+		rateLimiter.acquire("key");
+
+		now.addAndGet(100 * MILLI);
+		rateLimiter.acquire("key");
+		assertTrue(sleeps.isEmpty());
+
+		rateLimiter.acquire("key");
+		assertEquals(Arrays.asList(100 * MILLI), sleeps);
+	}
+
+	@Test
+	@DisplayName("acquire uses a bucket per key")
+	void acquireSeparatesKeys() throws InterruptedException {
+		RateLimiter rateLimiter = rateLimiter(1, 1);
+
+		rateLimiter.acquire("iaas.api.stackit.cloud/p1");
+		rateLimiter.acquire("iaas.api.stackit.cloud/p2");
+
+		assertTrue(sleeps.isEmpty());
+	}
+
+	@Test
+	@DisplayName("pause delays the next token of the bucket")
+	void pauseDelaysBucket() throws InterruptedException {
+		RateLimiter rateLimiter = rateLimiter(10, 5);
+		rateLimiter.acquire("key");
+
+		rateLimiter.pause("key", 2, TimeUnit.SECONDS);
+		rateLimiter.acquire("key");
+		rateLimiter.acquire("other");
+
+		assertEquals(Arrays.asList(2_000 * MILLI), sleeps);
+		assertEquals(1, rateLimiter.getRetryAfterCount());
+	}
+
+	@Test
+	@DisplayName("constructor rejects invalid limits")
+	void constructorRejectsInvalidLimits() {
+		assertThrows(IllegalArgumentException.class, () -> new RateLimiter(0, 1));
+		assertThrows(IllegalArgumentException.class, () -> new RateLimiter(1, 0));
+	}
+}
@@ -0,0 +1,54 @@
+package cloud.stackit.sdk.core.retry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RetryBudgetTest {
+
+	@Test
+	@DisplayName("tryWithdraw allows the saved retries and then fails")
+	void tryWithdrawUsesSavedRetries() {
+		RetryBudget budget = new RetryBudget(0.1, 2);
+
+		assertTrue(budget.tryWithdraw());
+		assertTrue(budget.tryWithdraw());
+		assertFalse(budget.tryWithdraw());
+		assertEquals(1, budget.getExhaustedCount());
+	}
+
+	@Test
+	@DisplayName("deposit refills the budget by the retry ratio per request")
+	void depositRefillsBudget() {
+		RetryBudget budget = new RetryBudget(0.1, 1);
+		assertTrue(budget.tryWithdraw());
+
+		for (int i = 0; i < 9; i++) {
+			budget.deposit();
+		}
+		assertFalse(budget.tryWithdraw());
+
+		budget.deposit();
+		assertTrue(budget.tryWithdraw());
+	}
+
+	@Test
+	@DisplayName("deposit doesn't exceed the max retries")
+	void depositCapsBalance() {
+		RetryBudget budget = new RetryBudget(0.5, 2);
+
+		for (int i = 0; i < 100; i++) {
+			budget.deposit();
+		}
+
+		assertEquals(2.0, budget.getBalance());
+	}
+
+	@Test
+	@DisplayName("constructor rejects invalid limits")
+	void constructorRejectsInvalidLimits() {
+		assertThrows(IllegalArgumentException.class, () -> new RetryBudget(-1, 1));
+		assertThrows(IllegalArgumentException.class, () -> new RetryBudget(0.1, 0));
+	}
+}
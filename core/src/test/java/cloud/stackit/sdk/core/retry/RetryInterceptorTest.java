@@ -0,0 +1,158 @@
+package cloud.stackit.sdk.core.retry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import cloud.stackit.sdk.core.ratelimit.RateLimitInterceptor;
+import cloud.stackit.sdk.core.ratelimit.RateLimiter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RetryInterceptorTest {
+	private MockWebServer mockWebServer;
+	private RetryPolicy retryPolicy;
+	private OkHttpClient client;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		mockWebServer = new MockWebServer();
+		mockWebServer.start();
+
+		retryPolicy = new RetryPolicy();
+		retryPolicy.setBackoff(1, 10, TimeUnit.MILLISECONDS);
+		client =
+				new OkHttpClient.Builder()
+						.retryOnConnectionFailure(false)
+						.addInterceptor(new RetryInterceptor(retryPolicy))
+						.build();
+	}
+
+	@AfterEach
+	void teardown() throws IOException {
+		mockWebServer.shutdown();
+	}
+
+	private int execute(Request request) throws IOException {
+		try (Response response = client.newCall(request).execute()) {
+			return response.code();
+		}
+	}
+
+	private Request get() {
+		return new Request.Builder().url(mockWebServer.url("/v2/projects/p1")).build();
+	}
+
+	private Request post() {
+		return new Request.Builder()
+				.url(mockWebServer.url("/v2/projects"))
+				.post(RequestBody.create(new byte[0], null))
+				.build();
+	}
+
+	@Test
+	@DisplayName("intercept retries idempotent requests after transient errors")
+	void interceptRetriesTransientErrors() throws IOException {
+		mockWebServer.enqueue(new MockResponse().setResponseCode(502));
+		mockWebServer.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AT_START));
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+
+		assertEquals(200, execute(get()));
+		assertEquals(3, mockWebServer.getRequestCount());
+		assertEquals(2, retryPolicy.getRetryCount());
+	}
+
+	@Test
+	@DisplayName("intercept doesn't retry POST requests unless flagged as safe")
+	void interceptSkipsUnsafePost() throws IOException {
+		mockWebServer.enqueue(new MockResponse().setResponseCode(502));
+		mockWebServer.enqueue(new MockResponse().setResponseCode(502));
+		mockWebServer.enqueue(new MockResponse().setResponseCode(201));
+
+		assertEquals(502, execute(post()));
+		retryPolicy.setSafeToRetry("POST", "/v2/projects");
+		assertEquals(201, execute(post()));
+		assertEquals(3, mockWebServer.getRequestCount());
+	}
+
+	@Test
+	@DisplayName("intercept returns the response after the last retry")
+	void interceptStopsAfterMaxRetries() throws IOException {
+		retryPolicy.setMaxRetries(2);
+		for (int i = 0; i < 3; i++) {
+			mockWebServer.enqueue(new MockResponse().setResponseCode(504));
+		}
+
+		assertEquals(504, execute(get()));
+		assertEquals(3, mockWebServer.getRequestCount());
+	}
+
+	@Test
+	@DisplayName("intercept stops retrying when the retry budget is exhausted")
+	void interceptRespectsRetryBudget() throws IOException {
+		retryPolicy.setRetryBudget(new RetryBudget(0, 1));
+		for (int i = 0; i < 3; i++) {
+			mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+		}
+
+		assertEquals(503, execute(get()));
+		assertEquals(2, mockWebServer.getRequestCount());
+		assertEquals(1, retryPolicy.getRetryBudget().getExhaustedCount());
+	}
+
+	@Test
+	@DisplayName("intercept doesn't retry other errors")
+	void interceptSkipsOtherErrors() throws IOException {
+		mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+
+		assertEquals(500, execute(get()));
+		assertEquals(1, mockWebServer.getRequestCount());
+	}
+
+	@Test
+	@DisplayName("intercept leaves responses with Retry-After to the rate limit interceptor")
+	void interceptWithRateLimitRetriesOnce() throws IOException {
+		RateLimiter rateLimiter = new RateLimiter(1000, 1000);
+		client =
+				new OkHttpClient.Builder()
+						.retryOnConnectionFailure(false)
+						.addInterceptor(new RetryInterceptor(retryPolicy, null, true))
+						.addInterceptor(new RateLimitInterceptor(rateLimiter))
+						.build();
+		for (int i = 0; i < 16; i++) {
+			mockWebServer.enqueue(
+					new MockResponse().setResponseCode(503).setHeader("Retry-After", "0"));
+		}
+
+		assertEquals(503, execute(get()));
+		// the initial request and the retries of the rate limit interceptor only
+		assertEquals(1 + rateLimiter.getMaxRetries(), mockWebServer.getRequestCount());
+		assertEquals(0, retryPolicy.getRetryCount());
+	}
+
+	@Test
+	@DisplayName("intercept retries responses without Retry-After in front of the rate limit")
+	void interceptWithRateLimitRetriesTransientErrors() throws IOException {
+		client =
+				new OkHttpClient.Builder()
+						.retryOnConnectionFailure(false)
+						.addInterceptor(new RetryInterceptor(retryPolicy, null, true))
+						.addInterceptor(new RateLimitInterceptor(new RateLimiter(1000, 1000)))
+						.build();
+		mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+
+		assertEquals(200, execute(get()));
+		assertEquals(2, mockWebServer.getRequestCount());
+		assertEquals(1, retryPolicy.getRetryCount());
+	}
+}
@@ -0,0 +1,62 @@
+package cloud.stackit.sdk.core.retry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RetryPolicyTest {
+	private static final String START =
+			"/v2/projects/{projectId}/regions/{region}/servers/{serverId}/start";
+
+	@Test
+	@DisplayName("isRetryable accepts idempotent methods")
+	void isRetryableAcceptsIdempotentMethods() {
+		RetryPolicy policy = new RetryPolicy();
+
+		assertTrue(policy.isRetryable("GET", "/v2/projects/p1"));
+		assertTrue(policy.isRetryable("PUT", "/v2/projects/p1"));
+		assertTrue(policy.isRetryable("DELETE", "/v2/projects/p1"));
+		assertFalse(policy.isRetryable("POST", "/v2/projects"));
+		assertFalse(policy.isRetryable("PATCH", "/v2/projects/p1"));
+	}
+
+	@Test
+	@DisplayName("isRetryable accepts operations flagged as safe")
+	void isRetryableAcceptsSafeOperations() {
+		RetryPolicy policy = new RetryPolicy();
+		policy.setSafeToRetry("POST", START);
+
+		assertTrue(policy.isRetryable("POST", "/v2/projects/p1/regions/eu01/servers/s1/start"));
+		assertFalse(policy.isRetryable("POST", "/v2/projects/p1/regions/eu01/servers/s1/stop"));
+		assertFalse(policy.isRetryable("PATCH", "/v2/projects/p1/regions/eu01/servers/s1/start"));
+	}
+
+	@Test
+	@DisplayName("isRetryableStatusCode accepts the configured status codes")
+	void isRetryableStatusCode() {
+		RetryPolicy policy = new RetryPolicy();
+		assertTrue(policy.isRetryableStatusCode(502));
+		assertTrue(policy.isRetryableStatusCode(504));
+		assertFalse(policy.isRetryableStatusCode(500));
+
+		policy.setRetryableStatusCodes(500);
+		assertTrue(policy.isRetryableStatusCode(500));
+		assertFalse(policy.isRetryableStatusCode(502));
+	}
+
+	@Test
+	@DisplayName("getBackoffNanos grows exponentially up to the max backoff")
+	void getBackoffNanosIsBounded() {
+		RetryPolicy policy = new RetryPolicy();
+		policy.setBackoff(100, 1000, TimeUnit.MILLISECONDS);
+
+		for (int i = 0; i < 100; i++) {
+			assertTrue(policy.getBackoffNanos(0) <= TimeUnit.MILLISECONDS.toNanos(100));
+			assertTrue(policy.getBackoffNanos(2) <= TimeUnit.MILLISECONDS.toNanos(400));
+			assertTrue(policy.getBackoffNanos(60) <= TimeUnit.MILLISECONDS.toNanos(1000));
+			assertTrue(policy.getBackoffNanos(60) >= 0);
+		}
+	}
+}
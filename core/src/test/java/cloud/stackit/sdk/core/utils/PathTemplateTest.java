@@ -0,0 +1,30 @@
+package cloud.stackit.sdk.core.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class PathTemplateTest {
+	private static final PathTemplate SERVER =
+			new PathTemplate("/v2/projects/{projectId}/regions/{region}/servers/{serverId}");
+
+	@Test
+	void testMatches() {
+		assertTrue(SERVER.matches(PathTemplate.split("/v2/projects/p1/regions/eu01/servers/s1")));
+		assertTrue(SERVER.matches(PathTemplate.split("v2/projects/p1/regions/eu01/servers/s1")));
+	}
+
+	@Test
+	void testMatchesRejectsOtherPaths() {
+		assertFalse(SERVER.matches(PathTemplate.split("/v2/projects/p1/regions/eu01/servers")));
+		assertFalse(
+				SERVER.matches(PathTemplate.split("/v2/projects/p1/regions/eu01/servers/s1/nics")));
+		assertFalse(SERVER.matches(PathTemplate.split("/v1/projects/p1/regions/eu01/servers/s1")));
+	}
+
+	@Test
+	void testGetLiteralSegments() {
+		assertEquals(4, SERVER.getLiteralSegments());
+		assertEquals(0, new PathTemplate("/").getLiteralSegments());
+	}
+}
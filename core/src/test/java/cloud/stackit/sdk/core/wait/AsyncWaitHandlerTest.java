@@ -1,6 +1,7 @@
 package cloud.stackit.sdk.core.wait;
 
 import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
@@ -8,7 +9,9 @@ import cloud.stackit.sdk.core.exception.ApiException;
 import cloud.stackit.sdk.core.wait.AsyncActionHandler.AsyncActionResult;
 import java.net.HttpURLConnection;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -124,4 +127,58 @@ class AsyncWaitHandlerTest {
 						apiException.getMessage());
 		assertTrue(thrown.getMessage().contains(AsyncActionHandler.TEMPORARY_ERROR_MESSAGE));
 	}
+
+	// Interval grows with the backoff multiplier until the max throttle is reached
+	@Test
+	void testBackoffInterval() {
+		AsyncActionHandler<Void> handler = testWaitHandler(apiClient);
+		handler.setThrottle(100, TimeUnit.MILLISECONDS);
+		handler.setBackoffMultiplier(2);
+		handler.setMaxThrottle(500, TimeUnit.MILLISECONDS);
+
+		assertEquals(100, handler.getIntervalMillis(1));
+		assertEquals(200, handler.getIntervalMillis(2));
+		assertEquals(400, handler.getIntervalMillis(3));
+		assertEquals(500, handler.getIntervalMillis(4));
+		assertEquals(500, handler.getIntervalMillis(100));
+	}
+
+	// Jitter shortens the interval by at most the given fraction
+	@Test
+	void testBackoffIntervalWithJitter() {
+		AsyncActionHandler<Void> handler = testWaitHandler(apiClient);
+		handler.setThrottle(100, TimeUnit.MILLISECONDS);
+		handler.setJitter(0.5);
+
+		for (int i = 0; i < 100; i++) {
+			long interval = handler.getIntervalMillis(1);
+			assertTrue(interval >= 50 && interval <= 100);
+		}
+	}
+
+	@Test
+	void testInvalidBackoffMultiplier() {
+		AsyncActionHandler<Void> handler = testWaitHandler(apiClient);
+		handler.setBackoffMultiplier(0.5);
+
+		assertThrows(IllegalArgumentException.class, handler::waitWithContextAsync);
+	}
+
+	// Checks are executed by the configured check executor
+	@Test
+	void testCustomCheckExecutor() throws Exception {
+		AtomicInteger executedChecks = new AtomicInteger(0);
+		Executor executor =
+				command -> {
+					executedChecks.incrementAndGet();
+					command.run();
+				};
+		AsyncActionHandler<String> handler =
+				new AsyncActionHandler<>(() -> new AsyncActionResult<>(true, "done"));
+		handler.setThrottle(10, TimeUnit.MILLISECONDS);
+		handler.setCheckExecutor(executor);
+
+		assertEquals("done", handler.waitWithContextAsync().get());
+		assertEquals(1, executedChecks.get());
+	}
 }
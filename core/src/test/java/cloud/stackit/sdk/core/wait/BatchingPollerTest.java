@@ -0,0 +1,136 @@
+package cloud.stackit.sdk.core.wait;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cloud.stackit.sdk.core.exception.ApiException;
+import cloud.stackit.sdk.core.wait.AsyncActionHandler.AsyncActionResult;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+class BatchingPollerTest {
+
+	// state of the fake resources, a resource is finished when its state reaches 0
+	private final Map<String, Integer> states = new ConcurrentHashMap<>();
+	private final List<Set<String>> batchCalls = new CopyOnWriteArrayList<>();
+
+	private Map<String, Integer> listResources(Set<String> keys) {
+		batchCalls.add(keys);
+		Map<String, Integer> resources = new HashMap<>();
+		for (String key : keys) {
+			Integer state = states.computeIfPresent(key, (k, value) -> Math.max(0, value - 1));
+			if (state != null) {
+				resources.put(key, state);
+			}
+		}
+		return resources;
+	}
+
+	private static AsyncActionResult<Integer> checkResource(Integer state) {
+		return new AsyncActionResult<>(state != null && state == 0, state);
+	}
+
+	private BatchingPoller<String, Integer> newPoller() {
+		BatchingPoller<String, Integer> poller = new BatchingPoller<>(this::listResources);
+		poller.setThrottle(10, TimeUnit.MILLISECONDS);
+		poller.setTimeout(2, TimeUnit.SECONDS);
+		return poller;
+	}
+
+	@Test
+	void waitsArePolledWithOneBatchCall() throws Exception {
+		BatchingPoller<String, Integer> poller = newPoller();
+		List<CompletableFuture<Integer>> futures = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			states.put("resource-" + i, 2);
+			futures.add(poller.waitFor("resource-" + i, BatchingPollerTest::checkResource));
+		}
+
+		for (CompletableFuture<Integer> future : futures) {
+			assertEquals(0, future.get());
+		}
+		// every resource needs two polls, usually all of them are polled by the same batch calls
+		assertTrue(batchCalls.size() < futures.size());
+	}
+
+	@Test
+	void batchCallsAreSplitByMaxBatchSize() throws Exception {
+		BatchingPoller<String, Integer> poller = newPoller();
+		poller.setMaxBatchSize(2);
+		poller.setSleepBeforeWait(0, TimeUnit.MILLISECONDS);
+		states.put("a", 1);
+		states.put("b", 1);
+		states.put("c", 1);
+
+		CompletableFuture<Integer> a = poller.waitFor("a", BatchingPollerTest::checkResource);
+		CompletableFuture<Integer> b = poller.waitFor("b", BatchingPollerTest::checkResource);
+		CompletableFuture<Integer> c = poller.waitFor("c", BatchingPollerTest::checkResource);
+		CompletableFuture.allOf(a, b, c).get();
+
+		for (Set<String> batchCall : batchCalls) {
+			assertTrue(batchCall.size() <= 2);
+		}
+	}
+
+	@Test
+	void missingResourceIsPassedAsNull() throws Exception {
+		BatchingPoller<String, Integer> poller = newPoller();
+
+		CompletableFuture<String> deleted =
+				poller.waitFor("deleted", state -> new AsyncActionResult<>(state == null, "gone"));
+
+		assertEquals("gone", deleted.get());
+	}
+
+	@Test
+	void waitTimesOut() {
+		BatchingPoller<String, Integer> poller = newPoller();
+		states.put("slow", Integer.MAX_VALUE);
+
+		CompletableFuture<Integer> future =
+				poller.waitFor(
+						"slow", BatchingPollerTest::checkResource, 0, 50, TimeUnit.MILLISECONDS);
+
+		ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+		assertInstanceOf(TimeoutException.class, thrown.getCause());
+	}
+
+	@Test
+	void temporaryErrorsAreRetriedUntilLimit() {
+		BatchingPoller<String, Integer> poller =
+				new BatchingPoller<>(
+						keys -> {
+							throw new ApiException(HttpURLConnection.HTTP_BAD_GATEWAY, "");
+						});
+		poller.setThrottle(10, TimeUnit.MILLISECONDS);
+		poller.setTempErrRetryLimit(2);
+
+		CompletableFuture<Integer> future =
+				poller.waitFor("resource", BatchingPollerTest::checkResource);
+
+		ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+		assertTrue(thrown.getMessage().contains(AsyncActionHandler.TEMPORARY_ERROR_MESSAGE));
+	}
+
+	@Test
+	void invalidMaxBatchSize() {
+		BatchingPoller<String, Integer> poller =
+				new BatchingPoller<>(keys -> Collections.emptyMap());
+
+		assertThrows(IllegalArgumentException.class, () -> poller.setMaxBatchSize(0));
+	}
+}
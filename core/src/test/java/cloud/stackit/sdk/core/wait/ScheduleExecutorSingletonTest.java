@@ -0,0 +1,41 @@
+package cloud.stackit.sdk.core.wait;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ScheduleExecutorSingletonTest {
+
+	@AfterEach
+	void tearDown() {
+		ScheduleExecutorSingleton.getInstance().setPoolSize(1);
+	}
+
+	@Test
+	void poolSizeCanBeChangedAfterFirstUse() {
+		ScheduleExecutorSingleton instance = ScheduleExecutorSingleton.getInstance();
+
+		assertSame(instance, ScheduleExecutorSingleton.getInstance(4));
+		assertEquals(4, instance.getPoolSize());
+
+		instance.setPoolSize(2);
+		assertEquals(2, instance.getPoolSize());
+	}
+
+	@Test
+	void getInstanceWithoutPoolSizeKeepsPoolSize() {
+		ScheduleExecutorSingleton.getInstance(3);
+
+		assertEquals(3, ScheduleExecutorSingleton.getInstance().getPoolSize());
+	}
+
+	@Test
+	void invalidPoolSize() {
+		ScheduleExecutorSingleton instance = ScheduleExecutorSingleton.getInstance();
+
+		assertThrows(IllegalArgumentException.class, () -> instance.setPoolSize(0));
+	}
+}
@@ -12,12 +12,21 @@
 
 package cloud.stackit.sdk.alb.v2api;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapterFactory;
+import cloud.stackit.sdk.core.json.DateTimeParser;
+import cloud.stackit.sdk.core.json.LazyModelTypeAdapterFactory;
+import cloud.stackit.sdk.core.json.StreamingModelTypeAdapterFactory;
+import cloud.stackit.sdk.core.json.StringPool;
+import cloud.stackit.sdk.core.json.StringPoolTypeAdapter;
+import cloud.stackit.sdk.core.json.UuidTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
 import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
 import com.google.gson.internal.bind.util.ISO8601Utils;
+import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 import io.gsonfire.GsonFireBuilder;
@@ -35,6 +44,7 @@ import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Date;
 import java.util.Map;
+import java.util.UUID;
 import okio.ByteString;
 
 /*
@@ -52,6 +62,16 @@ public class JSON {
 			new OffsetDateTimeTypeAdapter();
 	private static LocalDateTypeAdapter localDateTypeAdapter = new LocalDateTypeAdapter();
 	private static ByteArrayAdapter byteArrayAdapter = new ByteArrayAdapter();
+	private static UuidTypeAdapter uuidTypeAdapter = new UuidTypeAdapter();
+	private static StringPoolTypeAdapter stringPoolTypeAdapter = new StringPoolTypeAdapter();
+	private static StreamingModelTypeAdapterFactory streamingModelTypeAdapterFactory =
+			new StreamingModelTypeAdapterFactory("cloud.stackit.sdk.alb.v2api.model");
+	private static LazyModelTypeAdapterFactory modelTypeAdapterFactory =
+			new LazyModelTypeAdapterFactory("cloud.stackit.sdk.alb.v2api.model");
+	private static CompiledModelTypeAdapterFactory compiledModelTypeAdapterFactory =
+			new CompiledModelTypeAdapterFactory(
+					"cloud.stackit.sdk.alb.v2api.model",
+					cloud.stackit.sdk.alb.v2api.model.CompiledTypeAdapters::create);
 
 	@SuppressWarnings("unchecked")
 	public static GsonBuilder createGson() {
@@ -95,104 +115,15 @@ public class JSON {
 		gsonBuilder.registerTypeAdapter(OffsetDateTime.class, offsetDateTimeTypeAdapter);
 		gsonBuilder.registerTypeAdapter(LocalDate.class, localDateTypeAdapter);
 		gsonBuilder.registerTypeAdapter(byte[].class, byteArrayAdapter);
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.ActiveHealthCheck.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.CertificateConfig.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.CookiePersistence.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.CreateCredentialsPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.CreateCredentialsResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.CreateLoadBalancerPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.CredentialsResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.GetCredentialsResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.GetQuotaResponse.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.GoogleProtobufAny.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.HostConfig.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.HttpHeader.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.HttpHealthChecks.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.ListCredentialsResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.ListLoadBalancersResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.ListPlansResponse.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.Listener.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.LoadBalancer.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.LoadBalancerError.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.LoadBalancerOptions
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.LoadbalancerOptionAccessControl
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.LoadbalancerOptionLogs
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.LoadbalancerOptionMetrics
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.LoadbalancerOptionObservability
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.Network.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.Path.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.PlanDetails.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.ProtocolOptionsHTTP
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.ProtocolOptionsHTTPS
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.QueryParameter.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.Rule.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.SecurityGroup.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.Status.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.Target.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.TargetPool.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.TlsConfig.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.UpdateCredentialsPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.UpdateCredentialsResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.UpdateLoadBalancerPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.alb.v2api.model.UpdateTargetPoolPayload
-						.CustomTypeAdapterFactory());
+		gsonBuilder.registerTypeAdapter(UUID.class, uuidTypeAdapter);
+		gsonBuilder.registerTypeAdapter(String.class, stringPoolTypeAdapter);
+		// the adapters of the models are created on first use instead of registering the
+		// generated factories of all models up front
+		gsonBuilder.registerTypeAdapterFactory(modelTypeAdapterFactory);
+		// registered after the lazy factory, so it takes precedence over the model adapters
+		gsonBuilder.registerTypeAdapterFactory(streamingModelTypeAdapterFactory);
+		// registered last, so the compiled model adapters take precedence over all others
+		gsonBuilder.registerTypeAdapterFactory(compiledModelTypeAdapterFactory);
 		gson = gsonBuilder.create();
 	}
 
@@ -218,6 +149,68 @@ public class JSON {
 		isLenientOnJson = lenientOnJson;
 	}
 
+	/**
+	 * Enable or disable the single-pass streaming deserialization of the model classes. If
+	 * enabled, models are validated and bound while the JSON is read instead of building and
+	 * walking an intermediate JsonElement tree. Disabled by default.
+	 *
+	 * @param streamingDeserialization true to deserialize models in a single pass
+	 */
+	public static void setStreamingDeserialization(boolean streamingDeserialization) {
+		streamingModelTypeAdapterFactory.setEnabled(streamingDeserialization);
+	}
+
+	public static boolean isStreamingDeserialization() {
+		return streamingModelTypeAdapterFactory.isEnabled();
+	}
+
+	/**
+	 * Enable or disable the compiled type adapters of the model classes. If enabled, models are
+	 * read and written by the adapters generated into the model classes, which create the models
+	 * and access their fields without reflection. The compiled adapters read the models in a
+	 * single pass and validate them like the default adapters. Disabled by default.
+	 *
+	 * @param compiledTypeAdapters true to use the compiled type adapters
+	 */
+	public static void setCompiledTypeAdapters(boolean compiledTypeAdapters) {
+		compiledModelTypeAdapterFactory.setEnabled(compiledTypeAdapters);
+	}
+
+	public static boolean isCompiledTypeAdapters() {
+		return compiledModelTypeAdapterFactory.isEnabled();
+	}
+
+	/**
+	 * Set the pool of the deserialized strings. If set, equal string values of the models share
+	 * one instance, which reduces the heap used by large lists kept in memory. Disabled by
+	 * default.
+	 *
+	 * @param stringPool the pool, or null to disable the pooling
+	 */
+	public static void setStringPool(StringPool stringPool) {
+		stringPoolTypeAdapter.setStringPool(stringPool);
+	}
+
+	public static StringPool getStringPool() {
+		return stringPoolTypeAdapter.getStringPool();
+	}
+
+	/**
+	 * Returns the adapter the generated adapter of a model delegates to. Used by the generated
+	 * model adapters instead of {@link Gson#getDelegateAdapter(TypeAdapterFactory, TypeToken)},
+	 * as their factories are not registered in the Gson instance.
+	 *
+	 * @param <T> Type
+	 * @param gson Gson instance which created the model adapter
+	 * @param skipPast factory of the model adapter
+	 * @param type type to get the adapter for
+	 * @return adapter for the type
+	 */
+	public static <T> TypeAdapter<T> getDelegateAdapter(
+			Gson gson, TypeAdapterFactory skipPast, TypeToken<T> type) {
+		return modelTypeAdapterFactory.getDelegateAdapter(gson, skipPast, type);
+	}
+
 	/**
 	 * Serialize the given Java object into JSON string.
 	 *
@@ -343,6 +336,10 @@ public class JSON {
 					return null;
 				default:
 					String date = in.nextString();
+					if (formatter == DateTimeFormatter.ISO_OFFSET_DATE_TIME) {
+						// parses the common forms without running the formatter
+						return DateTimeParser.parseOffsetDateTime(date);
+					}
 					if (date.endsWith("+0000")) {
 						date = date.substring(0, date.length() - 5) + "Z";
 					}
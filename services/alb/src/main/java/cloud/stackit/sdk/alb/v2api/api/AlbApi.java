@@ -12,7 +12,12 @@
 
 package cloud.stackit.sdk.alb.v2api.api;
 
+import cloud.stackit.sdk.alb.v2api.model.ListLoadBalancersResponse;
+import cloud.stackit.sdk.alb.v2api.model.LoadBalancer;
+import cloud.stackit.sdk.alb.v2api.model.PlanDetails;
+import cloud.stackit.sdk.core.catalog.ReferenceCatalog;
 import cloud.stackit.sdk.core.config.CoreConfiguration;
+import cloud.stackit.sdk.core.pagination.Paginator;
 import java.io.IOException;
 import okhttp3.OkHttpClient;
 
@@ -60,4 +65,34 @@ public class AlbApi extends DefaultApi {
 	public AlbApi(OkHttpClient httpClient, CoreConfiguration configuration) throws IOException {
 		super(httpClient, configuration);
 	}
+
+	/**
+	 * Lazily iterates over all load balancers of the project, see {@link #listLoadBalancers}. The
+	 * next page is already requested while the current page is consumed.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param pageSize Number of load balancers per page (optional)
+	 * @return Paginator over the load balancers
+	 */
+	public Paginator<LoadBalancer> listLoadBalancersPaginator(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable String pageSize) {
+		return Paginator.ofPageId(
+				pageId -> listLoadBalancersFuture(projectId, region, pageSize, pageId),
+				ListLoadBalancersResponse::getLoadBalancers,
+				ListLoadBalancersResponse::getNextPageId);
+	}
+
+	/**
+	 * Returns a catalog of the plans, see {@link #listPlans}. The catalog loads them on first
+	 * access and refreshes them in the background, so lookups don't need an API call.
+	 *
+	 * @param region (required)
+	 * @return ReferenceCatalog of the plans
+	 */
+	public ReferenceCatalog<PlanDetails> listPlansCatalog(@javax.annotation.Nonnull String region) {
+		return new ReferenceCatalog<>(() -> listPlans(region).getValidPlans());
+	}
 }
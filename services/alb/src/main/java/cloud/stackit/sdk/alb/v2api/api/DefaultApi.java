@@ -40,6 +40,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import okhttp3.OkHttpClient;
 
 // Package-private access to enforce service-specific API usage (DefaultApi => <ServiceName>Api)
@@ -366,6 +367,49 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create credentials for observability of the Application Load Balancer (asynchronously)
+	 * Created credentials can be stored and used for the load balancer observability. For example,
+	 * when using STACKIT Observability, credentials first must be created for that STACKIT
+	 * Observability instance (by using their API or the STACKIT Portal) and then can be provided to
+	 * the load balancer by storing them with this endpoint.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param createCredentialsPayload (required)
+	 * @param xRequestID (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> One or more fields are invalid. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> this project_id is not allowed to try this API </td><td>  -  </td></tr>
+	 * <tr><td> 429 </td><td> maximum number of credentials reached - please contact support to increase it </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> internal error - please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * <tr><td> 0 </td><td> Default error response </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<CreateCredentialsResponse> createCredentialsFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreateCredentialsPayload createCredentialsPayload,
+			@javax.annotation.Nullable UUID xRequestID) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createCredentialsValidateBeforeCall(
+							projectId, region, createCredentialsPayload, xRequestID, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<CreateCredentialsResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createLoadBalancer
 	 *
@@ -611,6 +655,48 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create an Application Load Balancer in a project (asynchronously) Creates an Application Load
+	 * Balancer. The default load balancing algorithm is Maglev, and selecting a different algorithm
+	 * is currently not supported.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param createLoadBalancerPayload (required)
+	 * @param xRequestID (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> One or more fields are invalid. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> this project_id is not allowed to try this API </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Application Load Balancer already exists </td><td>  -  </td></tr>
+	 * <tr><td> 429 </td><td> maximum number of load balancing servers reached - please contact support to increase it </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> internal error - please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * <tr><td> 0 </td><td> Default error response </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<LoadBalancer> createLoadBalancerFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreateLoadBalancerPayload createLoadBalancerPayload,
+			@javax.annotation.Nullable UUID xRequestID) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createLoadBalancerValidateBeforeCall(
+							projectId, region, createLoadBalancerPayload, xRequestID, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<LoadBalancer>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteCredentials
 	 *
@@ -828,6 +914,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a single credential in a project. (asynchronously) Deletes the stored Observability
+	 * credentials.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param credentialsRef (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> One or more fields are invalid. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> this project_id is not allowed to try this API </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> internal error - please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * <tr><td> 0 </td><td> Default error response </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Object> deleteCredentialsFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String credentialsRef) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteCredentialsValidateBeforeCall(projectId, region, credentialsRef, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Object>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteLoadBalancer
 	 *
@@ -1044,6 +1166,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a given load balancer in a project. (asynchronously) Deletes the specified Application
+	 * Load Balancer.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param name (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> One or more fields are invalid. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> this project_id is not allowed to try this API </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> internal error - please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * <tr><td> 0 </td><td> Default error response </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Object> deleteLoadBalancerFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String name) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteLoadBalancerValidateBeforeCall(projectId, region, name, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Object>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getCredentials
 	 *
@@ -1265,6 +1422,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get a single credential reference in a project. (asynchronously) Gets the stored
+	 * Observability credentials.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param credentialsRef (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> One or more fields are invalid. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> this project_id is not allowed to try this API </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> credential reference not found </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> internal error - please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * <tr><td> 0 </td><td> Default error response </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetCredentialsResponse> getCredentialsFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String credentialsRef) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getCredentialsValidateBeforeCall(projectId, region, credentialsRef, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetCredentialsResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getLoadBalancer
 	 *
@@ -1491,6 +1685,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get a single Application Load Balancer in a project. (asynchronously) Retrieves details of a
+	 * specific Application Load Balancer in a project. Includes creation and update information,
+	 * current status, and any error descriptions.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param name (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> One or more fields are invalid. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> this project_id is not allowed to try this API </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Application Load Balancer not found </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> internal error - please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * <tr><td> 0 </td><td> Default error response </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<LoadBalancer> getLoadBalancerFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String name) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getLoadBalancerValidateBeforeCall(projectId, region, name, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<LoadBalancer>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getQuota
 	 *
@@ -1688,6 +1919,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get the quota of Application Load Balancers in a project. (asynchronously) Retrieves the
+	 * configured Application Load Balancer quota for the project. Limit can be changed via service
+	 * request.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> One or more fields are invalid. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> this projectId is not allowed to try this API </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> internal error - please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * <tr><td> 0 </td><td> Default error response </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetQuotaResponse> getQuotaFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getQuotaValidateBeforeCall(projectId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetQuotaResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listCredentials
 	 *
@@ -1883,6 +2147,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all credentials in a project. (asynchronously) Lists the stored Observability
+	 * credentials.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> One or more fields are invalid. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> this project_id is not allowed to try this API </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> internal error - please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * <tr><td> 0 </td><td> Default error response </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListCredentialsResponse> listCredentialsFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listCredentialsValidateBeforeCall(projectId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListCredentialsResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listLoadBalancers
 	 *
@@ -2121,6 +2417,47 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List Application Load Balancers in a project. (asynchronously) Lists all Application Load
+	 * Balancers in a project. Includes details from creation or updates, along with their status
+	 * and any error descriptions.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param pageSize page_size specifies how many Application Load Balancers should be returned on
+	 *     this page. Must be a positive number &lt;&#x3D; 1000 (optional)
+	 * @param pageId page_id is a page identifier returned by the previous response and is used to
+	 *     request the next page (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> One or more fields are invalid. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> this project_id is not allowed to try this API </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> internal error - please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * <tr><td> 0 </td><td> Default error response </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListLoadBalancersResponse> listLoadBalancersFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable String pageSize,
+			@javax.annotation.Nullable String pageId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listLoadBalancersValidateBeforeCall(projectId, region, pageSize, pageId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListLoadBalancersResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listPlans
 	 *
@@ -2294,6 +2631,37 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List available service plans. (asynchronously) Lists the configured service plans for a
+	 * project.
+	 *
+	 * @param region (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> One or more fields are invalid. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> this projectId is not allowed to try this API </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> internal error - please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * <tr><td> 0 </td><td> Default error response </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListPlansResponse> listPlansFuture(
+			@javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listPlansValidateBeforeCall(region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListPlansResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateCredentials
 	 *
@@ -2536,6 +2904,46 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update credentials for observability in a project. (asynchronously) Updates the stored
+	 * Observability credentials.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param credentialsRef (required)
+	 * @param updateCredentialsPayload (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> One or more fields are invalid. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> this project_id is not allowed to try this API </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> credential reference not found </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> internal error - please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * <tr><td> 0 </td><td> Default error response </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<UpdateCredentialsResponse> updateCredentialsFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String credentialsRef,
+			@javax.annotation.Nonnull UpdateCredentialsPayload updateCredentialsPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateCredentialsValidateBeforeCall(
+							projectId, region, credentialsRef, updateCredentialsPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<UpdateCredentialsResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateLoadBalancer
 	 *
@@ -2783,6 +3191,48 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update a load balancer in a project. (asynchronously) Updates an existing Application Load
+	 * Balancer by modifying its listeners and target pools. Ensure the resource version is current
+	 * to maintain concurrency safety. The default load balancing algorithm is Maglev, and selecting
+	 * a different algorithm is currently not supported.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param name (required)
+	 * @param updateLoadBalancerPayload (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> One or more fields are invalid. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> this project_id is not allowed to try this API </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict with current state </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> internal error - please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * <tr><td> 0 </td><td> Default error response </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<LoadBalancer> updateLoadBalancerFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String name,
+			@javax.annotation.Nonnull UpdateLoadBalancerPayload updateLoadBalancerPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateLoadBalancerValidateBeforeCall(
+							projectId, region, name, updateLoadBalancerPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<LoadBalancer>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateTargetPool
 	 *
@@ -3048,4 +3498,47 @@ class DefaultApi {
 		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
 		return localVarCall;
 	}
+
+	/**
+	 * Update a single target pool of a load balancer in a project. (asynchronously) Replaces the
+	 * content of a specific target pool in the Application Load Balancer (useful for adding or
+	 * removing target servers). Only updates the specified target pool, leaving others unchanged.
+	 * Cannot be used to create or rename target pools.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param name (required)
+	 * @param targetPoolName (required)
+	 * @param updateTargetPoolPayload (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> One or more fields are invalid. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> this project_id is not allowed to try this API </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> internal error - please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * <tr><td> 0 </td><td> Default error response </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<TargetPool> updateTargetPoolFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String name,
+			@javax.annotation.Nonnull String targetPoolName,
+			@javax.annotation.Nonnull UpdateTargetPoolPayload updateTargetPoolPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateTargetPoolValidateBeforeCall(
+							projectId, region, name, targetPoolName, updateTargetPoolPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<TargetPool>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
 }
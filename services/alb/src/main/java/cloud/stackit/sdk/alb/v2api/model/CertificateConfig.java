@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -204,7 +205,7 @@ public class CertificateConfig {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CertificateConfig> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CertificateConfig.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(CertificateConfig.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CertificateConfig>() {
@@ -283,6 +284,50 @@ public class CertificateConfig {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<CertificateConfig> {
+		private final TypeAdapter<List<String>> stringListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CertificateConfig");
+			stringListAdapter = getAdapter(List.class, String.class);
+		}
+
+		@Override
+		protected CertificateConfig newInstance() {
+			return new CertificateConfig();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CertificateConfig instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CERTIFICATE_IDS:
+					instance.certificateIds = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CertificateConfig value) throws IOException {
+			writeField(
+					out, SERIALIZED_NAME_CERTIFICATE_IDS, value.certificateIds, stringListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CertificateConfig value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CertificateConfig instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CertificateConfig given an JSON string
 	 *
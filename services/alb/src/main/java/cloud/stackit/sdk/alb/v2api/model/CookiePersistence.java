@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -226,7 +227,7 @@ public class CookiePersistence {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CookiePersistence> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CookiePersistence.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(CookiePersistence.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CookiePersistence>() {
@@ -305,6 +306,53 @@ public class CookiePersistence {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<CookiePersistence> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CookiePersistence");
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected CookiePersistence newInstance() {
+			return new CookiePersistence();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CookiePersistence instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_TTL:
+					instance.ttl = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CookiePersistence value) throws IOException {
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_TTL, value.ttl, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CookiePersistence value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CookiePersistence instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CookiePersistence given an JSON string
 	 *
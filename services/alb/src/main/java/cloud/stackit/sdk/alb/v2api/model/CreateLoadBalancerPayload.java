@@ -13,6 +13,9 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
+import cloud.stackit.sdk.core.json.EnumLookup;
+import cloud.stackit.sdk.core.json.EnumValueTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -128,13 +131,11 @@ public class CreateLoadBalancerPayload {
 			return String.valueOf(value);
 		}
 
+		private static final EnumLookup<StatusEnum> LOOKUP =
+				new EnumLookup<>(values(), UNKNOWN_DEFAULT_OPEN_API);
+
 		public static StatusEnum fromValue(String value) {
-			for (StatusEnum b : StatusEnum.values()) {
-				if (b.value.equals(value)) {
-					return b;
-				}
-			}
-			return UNKNOWN_DEFAULT_OPEN_API;
+			return LOOKUP.fromValue(value);
 		}
 
 		public static class Adapter extends TypeAdapter<StatusEnum> {
@@ -838,7 +839,8 @@ public class CreateLoadBalancerPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateLoadBalancerPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateLoadBalancerPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateLoadBalancerPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateLoadBalancerPayload>() {
@@ -917,6 +919,144 @@ public class CreateLoadBalancerPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateLoadBalancerPayload> {
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<List<LoadBalancerError>> loadBalancerErrorListAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Map<String, String>> stringMapAdapter;
+		private final TypeAdapter<List<Listener>> listenerListAdapter;
+		private final TypeAdapter<SecurityGroup> securityGroupAdapter;
+		private final TypeAdapter<List<Network>> networkListAdapter;
+		private final TypeAdapter<LoadBalancerOptions> loadBalancerOptionsAdapter;
+		private final TypeAdapter<StatusEnum> statusEnumAdapter;
+		private final TypeAdapter<List<TargetPool>> targetPoolListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateLoadBalancerPayload");
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			loadBalancerErrorListAdapter = getAdapter(List.class, LoadBalancerError.class);
+			stringAdapter = gson.getAdapter(String.class);
+			stringMapAdapter = getAdapter(Map.class, String.class, String.class);
+			listenerListAdapter = getAdapter(List.class, Listener.class);
+			securityGroupAdapter = gson.getAdapter(SecurityGroup.class);
+			networkListAdapter = getAdapter(List.class, Network.class);
+			loadBalancerOptionsAdapter = gson.getAdapter(LoadBalancerOptions.class);
+			statusEnumAdapter =
+					new EnumValueTypeAdapter<>(
+							StatusEnum.values(), StatusEnum.UNKNOWN_DEFAULT_OPEN_API);
+			targetPoolListAdapter = getAdapter(List.class, TargetPool.class);
+		}
+
+		@Override
+		protected CreateLoadBalancerPayload newInstance() {
+			return new CreateLoadBalancerPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateLoadBalancerPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DISABLE_TARGET_SECURITY_GROUP_ASSIGNMENT:
+					instance.disableTargetSecurityGroupAssignment =
+							readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ERRORS:
+					instance.errors = readArray(in, name, loadBalancerErrorListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_EXTERNAL_ADDRESS:
+					instance.externalAddress = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, stringMapAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LISTENERS:
+					instance.listeners = readArray(in, name, listenerListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LOAD_BALANCER_SECURITY_GROUP:
+					instance.loadBalancerSecurityGroup = readValue(in, securityGroupAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NETWORKS:
+					instance.networks = readArray(in, name, networkListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_OPTIONS:
+					instance.options = readValue(in, loadBalancerOptionsAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PLAN_ID:
+					instance.planId = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PRIVATE_ADDRESS:
+					instance.privateAddress = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_REGION:
+					instance.region = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_STATUS:
+					instance.status = readPrimitive(in, name, statusEnumAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_TARGET_POOLS:
+					instance.targetPools = readArray(in, name, targetPoolListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_TARGET_SECURITY_GROUP:
+					instance.targetSecurityGroup = readValue(in, securityGroupAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_VERSION:
+					instance.version = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateLoadBalancerPayload value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_DISABLE_TARGET_SECURITY_GROUP_ASSIGNMENT,
+					value.disableTargetSecurityGroupAssignment,
+					booleanAdapter);
+			writeField(out, SERIALIZED_NAME_ERRORS, value.errors, loadBalancerErrorListAdapter);
+			writeField(out, SERIALIZED_NAME_EXTERNAL_ADDRESS, value.externalAddress, stringAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, stringMapAdapter);
+			writeField(out, SERIALIZED_NAME_LISTENERS, value.listeners, listenerListAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_LOAD_BALANCER_SECURITY_GROUP,
+					value.loadBalancerSecurityGroup,
+					securityGroupAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NETWORKS, value.networks, networkListAdapter);
+			writeField(out, SERIALIZED_NAME_OPTIONS, value.options, loadBalancerOptionsAdapter);
+			writeField(out, SERIALIZED_NAME_PLAN_ID, value.planId, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PRIVATE_ADDRESS, value.privateAddress, stringAdapter);
+			writeField(out, SERIALIZED_NAME_REGION, value.region, stringAdapter);
+			writeField(out, SERIALIZED_NAME_STATUS, value.status, statusEnumAdapter);
+			writeField(out, SERIALIZED_NAME_TARGET_POOLS, value.targetPools, targetPoolListAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_TARGET_SECURITY_GROUP,
+					value.targetSecurityGroup,
+					securityGroupAdapter);
+			writeField(out, SERIALIZED_NAME_VERSION, value.version, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateLoadBalancerPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateLoadBalancerPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateLoadBalancerPayload given an JSON string
 	 *
@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -293,7 +294,7 @@ public class CredentialsResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CredentialsResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CredentialsResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(CredentialsResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CredentialsResponse>() {
@@ -372,6 +373,61 @@ public class CredentialsResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<CredentialsResponse> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CredentialsResponse");
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected CredentialsResponse newInstance() {
+			return new CredentialsResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CredentialsResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CREDENTIALS_REF:
+					instance.credentialsRef = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DISPLAY_NAME:
+					instance.displayName = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_REGION:
+					instance.region = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_USERNAME:
+					instance.username = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CredentialsResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_CREDENTIALS_REF, value.credentialsRef, stringAdapter);
+			writeField(out, SERIALIZED_NAME_DISPLAY_NAME, value.displayName, stringAdapter);
+			writeField(out, SERIALIZED_NAME_REGION, value.region, stringAdapter);
+			writeField(out, SERIALIZED_NAME_USERNAME, value.username, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CredentialsResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CredentialsResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CredentialsResponse given an JSON string
 	 *
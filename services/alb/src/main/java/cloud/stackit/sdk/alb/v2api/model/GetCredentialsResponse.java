@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -189,7 +190,8 @@ public class GetCredentialsResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GetCredentialsResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(GetCredentialsResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(GetCredentialsResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GetCredentialsResponse>() {
@@ -268,6 +270,52 @@ public class GetCredentialsResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<GetCredentialsResponse> {
+		private final TypeAdapter<CredentialsResponse> credentialsResponseAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "GetCredentialsResponse");
+			credentialsResponseAdapter = gson.getAdapter(CredentialsResponse.class);
+		}
+
+		@Override
+		protected GetCredentialsResponse newInstance() {
+			return new GetCredentialsResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, GetCredentialsResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CREDENTIAL:
+					instance.credential = readValue(in, credentialsResponseAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GetCredentialsResponse value)
+				throws IOException {
+			writeField(
+					out, SERIALIZED_NAME_CREDENTIAL, value.credential, credentialsResponseAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(GetCredentialsResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GetCredentialsResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GetCredentialsResponse given an JSON string
 	 *
@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -245,7 +246,7 @@ public class HostConfig {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<HostConfig> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(HostConfig.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(HostConfig.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<HostConfig>() {
@@ -323,6 +324,54 @@ public class HostConfig {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<HostConfig> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<List<Rule>> ruleListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "HostConfig");
+			stringAdapter = gson.getAdapter(String.class);
+			ruleListAdapter = getAdapter(List.class, Rule.class);
+		}
+
+		@Override
+		protected HostConfig newInstance() {
+			return new HostConfig();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, HostConfig instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_HOST:
+					instance.host = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_RULES:
+					instance.rules = readArray(in, name, ruleListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, HostConfig value) throws IOException {
+			writeField(out, SERIALIZED_NAME_HOST, value.host, stringAdapter);
+			writeField(out, SERIALIZED_NAME_RULES, value.rules, ruleListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(HostConfig value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(HostConfig instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of HostConfig given an JSON string
 	 *
@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -224,7 +225,7 @@ public class HttpHeader {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<HttpHeader> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(HttpHeader.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(HttpHeader.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<HttpHeader>() {
@@ -302,6 +303,52 @@ public class HttpHeader {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<HttpHeader> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "HttpHeader");
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected HttpHeader newInstance() {
+			return new HttpHeader();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, HttpHeader instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_EXACT_MATCH:
+					instance.exactMatch = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, HttpHeader value) throws IOException {
+			writeField(out, SERIALIZED_NAME_EXACT_MATCH, value.exactMatch, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(HttpHeader value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(HttpHeader instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of HttpHeader given an JSON string
 	 *
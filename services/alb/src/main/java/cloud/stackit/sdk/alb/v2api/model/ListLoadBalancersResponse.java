@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -248,7 +249,8 @@ public class ListLoadBalancersResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ListLoadBalancersResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ListLoadBalancersResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(ListLoadBalancersResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ListLoadBalancersResponse>() {
@@ -327,6 +329,61 @@ public class ListLoadBalancersResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<ListLoadBalancersResponse> {
+		private final TypeAdapter<List<LoadBalancer>> loadBalancerListAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ListLoadBalancersResponse");
+			loadBalancerListAdapter = getAdapter(List.class, LoadBalancer.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected ListLoadBalancersResponse newInstance() {
+			return new ListLoadBalancersResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ListLoadBalancersResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_LOAD_BALANCERS:
+					instance.loadBalancers = readArray(in, name, loadBalancerListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NEXT_PAGE_ID:
+					instance.nextPageId = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ListLoadBalancersResponse value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_LOAD_BALANCERS,
+					value.loadBalancers,
+					loadBalancerListAdapter);
+			writeField(out, SERIALIZED_NAME_NEXT_PAGE_ID, value.nextPageId, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ListLoadBalancersResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ListLoadBalancersResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ListLoadBalancersResponse given an JSON string
 	 *
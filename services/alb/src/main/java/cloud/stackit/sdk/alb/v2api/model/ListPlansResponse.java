@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -213,7 +214,7 @@ public class ListPlansResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ListPlansResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ListPlansResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ListPlansResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ListPlansResponse>() {
@@ -292,6 +293,49 @@ public class ListPlansResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ListPlansResponse> {
+		private final TypeAdapter<List<PlanDetails>> planDetailsListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ListPlansResponse");
+			planDetailsListAdapter = getAdapter(List.class, PlanDetails.class);
+		}
+
+		@Override
+		protected ListPlansResponse newInstance() {
+			return new ListPlansResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ListPlansResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_VALID_PLANS:
+					instance.validPlans = readArray(in, name, planDetailsListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ListPlansResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_VALID_PLANS, value.validPlans, planDetailsListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ListPlansResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ListPlansResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ListPlansResponse given an JSON string
 	 *
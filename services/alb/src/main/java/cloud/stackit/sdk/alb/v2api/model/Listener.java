@@ -13,6 +13,9 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
+import cloud.stackit.sdk.core.json.EnumLookup;
+import cloud.stackit.sdk.core.json.EnumValueTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -83,13 +86,11 @@ public class Listener {
 			return String.valueOf(value);
 		}
 
+		private static final EnumLookup<ProtocolEnum> LOOKUP =
+				new EnumLookup<>(values(), UNKNOWN_DEFAULT_OPEN_API);
+
 		public static ProtocolEnum fromValue(String value) {
-			for (ProtocolEnum b : ProtocolEnum.values()) {
-				if (b.value.equals(value)) {
-					return b;
-				}
-			}
-			return UNKNOWN_DEFAULT_OPEN_API;
+			return LOOKUP.fromValue(value);
 		}
 
 		public static class Adapter extends TypeAdapter<ProtocolEnum> {
@@ -408,7 +409,7 @@ public class Listener {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Listener> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Listener.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Listener.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Listener>() {
@@ -486,6 +487,77 @@ public class Listener {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Listener> {
+		private final TypeAdapter<ProtocolOptionsHTTP> protocolOptionsHTTPAdapter;
+		private final TypeAdapter<ProtocolOptionsHTTPS> protocolOptionsHTTPSAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<ProtocolEnum> protocolEnumAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "Listener");
+			protocolOptionsHTTPAdapter = gson.getAdapter(ProtocolOptionsHTTP.class);
+			protocolOptionsHTTPSAdapter = gson.getAdapter(ProtocolOptionsHTTPS.class);
+			stringAdapter = gson.getAdapter(String.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+			protocolEnumAdapter =
+					new EnumValueTypeAdapter<>(
+							ProtocolEnum.values(), ProtocolEnum.UNKNOWN_DEFAULT_OPEN_API);
+		}
+
+		@Override
+		protected Listener newInstance() {
+			return new Listener();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Listener instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_HTTP:
+					instance.http = readValue(in, protocolOptionsHTTPAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_HTTPS:
+					instance.https = readValue(in, protocolOptionsHTTPSAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PORT:
+					instance.port = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PROTOCOL:
+					instance.protocol = readPrimitive(in, name, protocolEnumAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_WAF_CONFIG_NAME:
+					instance.wafConfigName = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Listener value) throws IOException {
+			writeField(out, SERIALIZED_NAME_HTTP, value.http, protocolOptionsHTTPAdapter);
+			writeField(out, SERIALIZED_NAME_HTTPS, value.https, protocolOptionsHTTPSAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PORT, value.port, integerAdapter);
+			writeField(out, SERIALIZED_NAME_PROTOCOL, value.protocol, protocolEnumAdapter);
+			writeField(out, SERIALIZED_NAME_WAF_CONFIG_NAME, value.wafConfigName, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Listener value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Listener instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Listener given an JSON string
 	 *
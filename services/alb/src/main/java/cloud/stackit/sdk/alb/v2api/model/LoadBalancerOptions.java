@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -291,7 +292,7 @@ public class LoadBalancerOptions {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<LoadBalancerOptions> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(LoadBalancerOptions.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(LoadBalancerOptions.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<LoadBalancerOptions>() {
@@ -370,6 +371,82 @@ public class LoadBalancerOptions {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<LoadBalancerOptions> {
+		private final TypeAdapter<LoadbalancerOptionAccessControl>
+				loadbalancerOptionAccessControlAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<LoadbalancerOptionObservability>
+				loadbalancerOptionObservabilityAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "LoadBalancerOptions");
+			loadbalancerOptionAccessControlAdapter =
+					gson.getAdapter(LoadbalancerOptionAccessControl.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			loadbalancerOptionObservabilityAdapter =
+					gson.getAdapter(LoadbalancerOptionObservability.class);
+		}
+
+		@Override
+		protected LoadBalancerOptions newInstance() {
+			return new LoadBalancerOptions();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, LoadBalancerOptions instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ACCESS_CONTROL:
+					instance.accessControl = readValue(in, loadbalancerOptionAccessControlAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_EPHEMERAL_ADDRESS:
+					instance.ephemeralAddress = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_OBSERVABILITY:
+					instance.observability = readValue(in, loadbalancerOptionObservabilityAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PRIVATE_NETWORK_ONLY:
+					instance.privateNetworkOnly = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, LoadBalancerOptions value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_ACCESS_CONTROL,
+					value.accessControl,
+					loadbalancerOptionAccessControlAdapter);
+			writeField(
+					out, SERIALIZED_NAME_EPHEMERAL_ADDRESS, value.ephemeralAddress, booleanAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_OBSERVABILITY,
+					value.observability,
+					loadbalancerOptionObservabilityAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_PRIVATE_NETWORK_ONLY,
+					value.privateNetworkOnly,
+					booleanAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(LoadBalancerOptions value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				LoadBalancerOptions instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of LoadBalancerOptions given an JSON string
 	 *
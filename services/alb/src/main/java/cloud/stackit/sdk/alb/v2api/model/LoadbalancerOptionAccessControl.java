@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -214,8 +215,8 @@ public class LoadbalancerOptionAccessControl {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<LoadbalancerOptionAccessControl> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(LoadbalancerOptionAccessControl.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(LoadbalancerOptionAccessControl.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<LoadbalancerOptionAccessControl>() {
@@ -296,6 +297,57 @@ public class LoadbalancerOptionAccessControl {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<LoadbalancerOptionAccessControl> {
+		private final TypeAdapter<List<String>> stringListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "LoadbalancerOptionAccessControl");
+			stringListAdapter = getAdapter(List.class, String.class);
+		}
+
+		@Override
+		protected LoadbalancerOptionAccessControl newInstance() {
+			return new LoadbalancerOptionAccessControl();
+		}
+
+		@Override
+		protected int readField(
+				JsonReader in, String name, LoadbalancerOptionAccessControl instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ALLOWED_SOURCE_RANGES:
+					instance.allowedSourceRanges = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, LoadbalancerOptionAccessControl value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_ALLOWED_SOURCE_RANGES,
+					value.allowedSourceRanges,
+					stringListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				LoadbalancerOptionAccessControl value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				LoadbalancerOptionAccessControl instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of LoadbalancerOptionAccessControl given an JSON string
 	 *
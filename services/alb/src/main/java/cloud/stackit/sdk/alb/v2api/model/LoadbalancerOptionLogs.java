@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -228,7 +229,8 @@ public class LoadbalancerOptionLogs {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<LoadbalancerOptionLogs> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(LoadbalancerOptionLogs.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(LoadbalancerOptionLogs.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<LoadbalancerOptionLogs>() {
@@ -307,6 +309,55 @@ public class LoadbalancerOptionLogs {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<LoadbalancerOptionLogs> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "LoadbalancerOptionLogs");
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected LoadbalancerOptionLogs newInstance() {
+			return new LoadbalancerOptionLogs();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, LoadbalancerOptionLogs instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CREDENTIALS_REF:
+					instance.credentialsRef = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PUSH_URL:
+					instance.pushUrl = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, LoadbalancerOptionLogs value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_CREDENTIALS_REF, value.credentialsRef, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PUSH_URL, value.pushUrl, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(LoadbalancerOptionLogs value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				LoadbalancerOptionLogs instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of LoadbalancerOptionLogs given an JSON string
 	 *
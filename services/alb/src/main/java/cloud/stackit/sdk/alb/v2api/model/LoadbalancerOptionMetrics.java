@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -231,7 +232,8 @@ public class LoadbalancerOptionMetrics {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<LoadbalancerOptionMetrics> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(LoadbalancerOptionMetrics.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(LoadbalancerOptionMetrics.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<LoadbalancerOptionMetrics>() {
@@ -310,6 +312,55 @@ public class LoadbalancerOptionMetrics {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<LoadbalancerOptionMetrics> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "LoadbalancerOptionMetrics");
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected LoadbalancerOptionMetrics newInstance() {
+			return new LoadbalancerOptionMetrics();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, LoadbalancerOptionMetrics instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CREDENTIALS_REF:
+					instance.credentialsRef = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PUSH_URL:
+					instance.pushUrl = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, LoadbalancerOptionMetrics value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_CREDENTIALS_REF, value.credentialsRef, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PUSH_URL, value.pushUrl, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(LoadbalancerOptionMetrics value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				LoadbalancerOptionMetrics instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of LoadbalancerOptionMetrics given an JSON string
 	 *
@@ -13,6 +13,9 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
+import cloud.stackit.sdk.core.json.EnumLookup;
+import cloud.stackit.sdk.core.json.EnumValueTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -71,13 +74,11 @@ public class Network {
 			return String.valueOf(value);
 		}
 
+		private static final EnumLookup<RoleEnum> LOOKUP =
+				new EnumLookup<>(values(), UNKNOWN_DEFAULT_OPEN_API);
+
 		public static RoleEnum fromValue(String value) {
-			for (RoleEnum b : RoleEnum.values()) {
-				if (b.value.equals(value)) {
-					return b;
-				}
-			}
-			return UNKNOWN_DEFAULT_OPEN_API;
+			return LOOKUP.fromValue(value);
 		}
 
 		public static class Adapter extends TypeAdapter<RoleEnum> {
@@ -291,7 +292,7 @@ public class Network {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Network> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Network.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Network.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Network>() {
@@ -369,6 +370,55 @@ public class Network {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Network> {
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<RoleEnum> roleEnumAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "Network");
+			uuidAdapter = gson.getAdapter(UUID.class);
+			roleEnumAdapter =
+					new EnumValueTypeAdapter<>(
+							RoleEnum.values(), RoleEnum.UNKNOWN_DEFAULT_OPEN_API);
+		}
+
+		@Override
+		protected Network newInstance() {
+			return new Network();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Network instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_NETWORK_ID:
+					instance.networkId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ROLE:
+					instance.role = readPrimitive(in, name, roleEnumAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Network value) throws IOException {
+			writeField(out, SERIALIZED_NAME_NETWORK_ID, value.networkId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_ROLE, value.role, roleEnumAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Network value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Network instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Network given an JSON string
 	 *
@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -230,7 +231,7 @@ public class Path {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Path> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Path.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Path.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Path>() {
@@ -308,6 +309,51 @@ public class Path {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Path> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "Path");
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected Path newInstance() {
+			return new Path();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Path instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_EXACT_MATCH:
+					instance.exactMatch = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PREFIX:
+					instance.prefix = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Path value) throws IOException {
+			writeField(out, SERIALIZED_NAME_EXACT_MATCH, value.exactMatch, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PREFIX, value.prefix, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Path value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Path instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Path given an JSON string
 	 *
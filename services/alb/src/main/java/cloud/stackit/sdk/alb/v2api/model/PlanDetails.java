@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -363,7 +364,7 @@ public class PlanDetails {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<PlanDetails> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(PlanDetails.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(PlanDetails.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<PlanDetails>() {
@@ -441,6 +442,70 @@ public class PlanDetails {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<PlanDetails> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "PlanDetails");
+			stringAdapter = gson.getAdapter(String.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+		}
+
+		@Override
+		protected PlanDetails newInstance() {
+			return new PlanDetails();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, PlanDetails instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DESCRIPTION:
+					instance.description = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_FLAVOR_NAME:
+					instance.flavorName = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MAX_CONNECTIONS:
+					instance.maxConnections = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PLAN_ID:
+					instance.planId = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_REGION:
+					instance.region = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, PlanDetails value) throws IOException {
+			writeField(out, SERIALIZED_NAME_DESCRIPTION, value.description, stringAdapter);
+			writeField(out, SERIALIZED_NAME_FLAVOR_NAME, value.flavorName, stringAdapter);
+			writeField(out, SERIALIZED_NAME_MAX_CONNECTIONS, value.maxConnections, integerAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PLAN_ID, value.planId, stringAdapter);
+			writeField(out, SERIALIZED_NAME_REGION, value.region, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(PlanDetails value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(PlanDetails instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of PlanDetails given an JSON string
 	 *
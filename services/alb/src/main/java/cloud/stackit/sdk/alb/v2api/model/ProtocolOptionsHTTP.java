@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -213,7 +214,7 @@ public class ProtocolOptionsHTTP {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ProtocolOptionsHTTP> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ProtocolOptionsHTTP.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ProtocolOptionsHTTP.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ProtocolOptionsHTTP>() {
@@ -292,6 +293,49 @@ public class ProtocolOptionsHTTP {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ProtocolOptionsHTTP> {
+		private final TypeAdapter<List<HostConfig>> hostConfigListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ProtocolOptionsHTTP");
+			hostConfigListAdapter = getAdapter(List.class, HostConfig.class);
+		}
+
+		@Override
+		protected ProtocolOptionsHTTP newInstance() {
+			return new ProtocolOptionsHTTP();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ProtocolOptionsHTTP instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_HOSTS:
+					instance.hosts = readArray(in, name, hostConfigListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ProtocolOptionsHTTP value) throws IOException {
+			writeField(out, SERIALIZED_NAME_HOSTS, value.hosts, hostConfigListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ProtocolOptionsHTTP value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ProtocolOptionsHTTP instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ProtocolOptionsHTTP given an JSON string
 	 *
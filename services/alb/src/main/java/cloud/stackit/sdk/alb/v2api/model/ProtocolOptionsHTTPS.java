@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -193,7 +194,7 @@ public class ProtocolOptionsHTTPS {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ProtocolOptionsHTTPS> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ProtocolOptionsHTTPS.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ProtocolOptionsHTTPS.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ProtocolOptionsHTTPS>() {
@@ -272,6 +273,53 @@ public class ProtocolOptionsHTTPS {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ProtocolOptionsHTTPS> {
+		private final TypeAdapter<CertificateConfig> certificateConfigAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ProtocolOptionsHTTPS");
+			certificateConfigAdapter = gson.getAdapter(CertificateConfig.class);
+		}
+
+		@Override
+		protected ProtocolOptionsHTTPS newInstance() {
+			return new ProtocolOptionsHTTPS();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ProtocolOptionsHTTPS instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CERTIFICATE_CONFIG:
+					instance.certificateConfig = readValue(in, certificateConfigAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ProtocolOptionsHTTPS value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_CERTIFICATE_CONFIG,
+					value.certificateConfig,
+					certificateConfigAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ProtocolOptionsHTTPS value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ProtocolOptionsHTTPS instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ProtocolOptionsHTTPS given an JSON string
 	 *
@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -224,7 +225,7 @@ public class QueryParameter {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<QueryParameter> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(QueryParameter.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(QueryParameter.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<QueryParameter>() {
@@ -302,6 +303,53 @@ public class QueryParameter {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<QueryParameter> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "QueryParameter");
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected QueryParameter newInstance() {
+			return new QueryParameter();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, QueryParameter instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_EXACT_MATCH:
+					instance.exactMatch = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, QueryParameter value) throws IOException {
+			writeField(out, SERIALIZED_NAME_EXACT_MATCH, value.exactMatch, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(QueryParameter value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				QueryParameter instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of QueryParameter given an JSON string
 	 *
@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -404,7 +405,7 @@ public class Rule {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Rule> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Rule.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Rule.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Rule>() {
@@ -482,6 +483,85 @@ public class Rule {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Rule> {
+		private final TypeAdapter<CookiePersistence> cookiePersistenceAdapter;
+		private final TypeAdapter<List<HttpHeader>> httpHeaderListAdapter;
+		private final TypeAdapter<Path> pathAdapter;
+		private final TypeAdapter<List<QueryParameter>> queryParameterListAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "Rule");
+			cookiePersistenceAdapter = gson.getAdapter(CookiePersistence.class);
+			httpHeaderListAdapter = getAdapter(List.class, HttpHeader.class);
+			pathAdapter = gson.getAdapter(Path.class);
+			queryParameterListAdapter = getAdapter(List.class, QueryParameter.class);
+			stringAdapter = gson.getAdapter(String.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+		}
+
+		@Override
+		protected Rule newInstance() {
+			return new Rule();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Rule instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_COOKIE_PERSISTENCE:
+					instance.cookiePersistence = readValue(in, cookiePersistenceAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_HEADERS:
+					instance.headers = readArray(in, name, httpHeaderListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PATH:
+					instance.path = readValue(in, pathAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_QUERY_PARAMETERS:
+					instance.queryParameters = readArray(in, name, queryParameterListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_TARGET_POOL:
+					instance.targetPool = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_WEB_SOCKET:
+					instance.webSocket = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Rule value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_COOKIE_PERSISTENCE,
+					value.cookiePersistence,
+					cookiePersistenceAdapter);
+			writeField(out, SERIALIZED_NAME_HEADERS, value.headers, httpHeaderListAdapter);
+			writeField(out, SERIALIZED_NAME_PATH, value.path, pathAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_QUERY_PARAMETERS,
+					value.queryParameters,
+					queryParameterListAdapter);
+			writeField(out, SERIALIZED_NAME_TARGET_POOL, value.targetPool, stringAdapter);
+			writeField(out, SERIALIZED_NAME_WEB_SOCKET, value.webSocket, booleanAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Rule value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Rule instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Rule given an JSON string
 	 *
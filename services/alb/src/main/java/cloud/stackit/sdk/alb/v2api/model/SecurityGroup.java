@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -224,7 +225,7 @@ public class SecurityGroup {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<SecurityGroup> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(SecurityGroup.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(SecurityGroup.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<SecurityGroup>() {
@@ -302,6 +303,53 @@ public class SecurityGroup {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<SecurityGroup> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "SecurityGroup");
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected SecurityGroup newInstance() {
+			return new SecurityGroup();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, SecurityGroup instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, SecurityGroup value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ID, value.id, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(SecurityGroup value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				SecurityGroup instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of SecurityGroup given an JSON string
 	 *
@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -224,7 +225,7 @@ public class Target {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Target> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Target.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Target.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Target>() {
@@ -302,6 +303,51 @@ public class Target {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Target> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "Target");
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected Target newInstance() {
+			return new Target();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Target instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DISPLAY_NAME:
+					instance.displayName = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IP:
+					instance.ip = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Target value) throws IOException {
+			writeField(out, SERIALIZED_NAME_DISPLAY_NAME, value.displayName, stringAdapter);
+			writeField(out, SERIALIZED_NAME_IP, value.ip, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Target value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Target instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Target given an JSON string
 	 *
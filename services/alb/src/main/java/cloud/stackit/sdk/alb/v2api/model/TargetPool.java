@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -338,7 +339,7 @@ public class TargetPool {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<TargetPool> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(TargetPool.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(TargetPool.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<TargetPool>() {
@@ -416,6 +417,76 @@ public class TargetPool {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<TargetPool> {
+		private final TypeAdapter<ActiveHealthCheck> activeHealthCheckAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<List<Target>> targetListAdapter;
+		private final TypeAdapter<TlsConfig> tlsConfigAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "TargetPool");
+			activeHealthCheckAdapter = gson.getAdapter(ActiveHealthCheck.class);
+			stringAdapter = gson.getAdapter(String.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+			targetListAdapter = getAdapter(List.class, Target.class);
+			tlsConfigAdapter = gson.getAdapter(TlsConfig.class);
+		}
+
+		@Override
+		protected TargetPool newInstance() {
+			return new TargetPool();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, TargetPool instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ACTIVE_HEALTH_CHECK:
+					instance.activeHealthCheck = readValue(in, activeHealthCheckAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_TARGET_PORT:
+					instance.targetPort = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_TARGETS:
+					instance.targets = readArray(in, name, targetListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_TLS_CONFIG:
+					instance.tlsConfig = readValue(in, tlsConfigAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, TargetPool value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_ACTIVE_HEALTH_CHECK,
+					value.activeHealthCheck,
+					activeHealthCheckAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_TARGET_PORT, value.targetPort, integerAdapter);
+			writeField(out, SERIALIZED_NAME_TARGETS, value.targets, targetListAdapter);
+			writeField(out, SERIALIZED_NAME_TLS_CONFIG, value.tlsConfig, tlsConfigAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(TargetPool value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(TargetPool instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of TargetPool given an JSON string
 	 *
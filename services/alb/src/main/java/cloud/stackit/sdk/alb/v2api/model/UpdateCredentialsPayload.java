@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -261,7 +262,8 @@ public class UpdateCredentialsPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateCredentialsPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(UpdateCredentialsPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(UpdateCredentialsPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateCredentialsPayload>() {
@@ -340,6 +342,59 @@ public class UpdateCredentialsPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<UpdateCredentialsPayload> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateCredentialsPayload");
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected UpdateCredentialsPayload newInstance() {
+			return new UpdateCredentialsPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, UpdateCredentialsPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DISPLAY_NAME:
+					instance.displayName = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PASSWORD:
+					instance.password = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_USERNAME:
+					instance.username = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateCredentialsPayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_DISPLAY_NAME, value.displayName, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PASSWORD, value.password, stringAdapter);
+			writeField(out, SERIALIZED_NAME_USERNAME, value.username, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(UpdateCredentialsPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateCredentialsPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateCredentialsPayload given an JSON string
 	 *
@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -190,7 +191,8 @@ public class UpdateCredentialsResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateCredentialsResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(UpdateCredentialsResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(UpdateCredentialsResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateCredentialsResponse>() {
@@ -269,6 +271,52 @@ public class UpdateCredentialsResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<UpdateCredentialsResponse> {
+		private final TypeAdapter<CredentialsResponse> credentialsResponseAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateCredentialsResponse");
+			credentialsResponseAdapter = gson.getAdapter(CredentialsResponse.class);
+		}
+
+		@Override
+		protected UpdateCredentialsResponse newInstance() {
+			return new UpdateCredentialsResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, UpdateCredentialsResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CREDENTIAL:
+					instance.credential = readValue(in, credentialsResponseAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateCredentialsResponse value)
+				throws IOException {
+			writeField(
+					out, SERIALIZED_NAME_CREDENTIAL, value.credential, credentialsResponseAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(UpdateCredentialsResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateCredentialsResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateCredentialsResponse given an JSON string
 	 *
@@ -13,6 +13,7 @@
 package cloud.stackit.sdk.alb.v2api.model;
 
 import cloud.stackit.sdk.alb.v2api.JSON;
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -340,7 +341,8 @@ public class UpdateTargetPoolPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateTargetPoolPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(UpdateTargetPoolPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(UpdateTargetPoolPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateTargetPoolPayload>() {
@@ -419,6 +421,79 @@ public class UpdateTargetPoolPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<UpdateTargetPoolPayload> {
+		private final TypeAdapter<ActiveHealthCheck> activeHealthCheckAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<List<Target>> targetListAdapter;
+		private final TypeAdapter<TlsConfig> tlsConfigAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateTargetPoolPayload");
+			activeHealthCheckAdapter = gson.getAdapter(ActiveHealthCheck.class);
+			stringAdapter = gson.getAdapter(String.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+			targetListAdapter = getAdapter(List.class, Target.class);
+			tlsConfigAdapter = gson.getAdapter(TlsConfig.class);
+		}
+
+		@Override
+		protected UpdateTargetPoolPayload newInstance() {
+			return new UpdateTargetPoolPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, UpdateTargetPoolPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ACTIVE_HEALTH_CHECK:
+					instance.activeHealthCheck = readValue(in, activeHealthCheckAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_TARGET_PORT:
+					instance.targetPort = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_TARGETS:
+					instance.targets = readArray(in, name, targetListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_TLS_CONFIG:
+					instance.tlsConfig = readValue(in, tlsConfigAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateTargetPoolPayload value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_ACTIVE_HEALTH_CHECK,
+					value.activeHealthCheck,
+					activeHealthCheckAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_TARGET_PORT, value.targetPort, integerAdapter);
+			writeField(out, SERIALIZED_NAME_TARGETS, value.targets, targetListAdapter);
+			writeField(out, SERIALIZED_NAME_TLS_CONFIG, value.tlsConfig, tlsConfigAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(UpdateTargetPoolPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateTargetPoolPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateTargetPoolPayload given an JSON string
 	 *
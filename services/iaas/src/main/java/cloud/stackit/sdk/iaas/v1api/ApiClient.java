@@ -13,8 +13,21 @@
 package cloud.stackit.sdk.iaas.v1api;
 
 import cloud.stackit.sdk.core.KeyFlowAuthenticator;
+import cloud.stackit.sdk.core.KeyFlowAuthenticatorRegistry;
+import cloud.stackit.sdk.core.KeyFlowPreemptiveAuthInterceptor;
+import cloud.stackit.sdk.core.cache.ResponseCacheInterceptor;
+import cloud.stackit.sdk.core.coalescing.RequestCoalescingInterceptor;
+import cloud.stackit.sdk.core.compression.RequestCompressionInterceptor;
 import cloud.stackit.sdk.core.config.CoreConfiguration;
 import cloud.stackit.sdk.core.exception.ApiException;
+import cloud.stackit.sdk.core.http.RawResponse;
+import cloud.stackit.sdk.core.json.JsonRequestBody;
+import cloud.stackit.sdk.core.json.StringPool;
+import cloud.stackit.sdk.core.metrics.MetricsInterceptor;
+import cloud.stackit.sdk.core.pagination.ItemIterator;
+import cloud.stackit.sdk.core.ratelimit.RateLimitInterceptor;
+import cloud.stackit.sdk.core.retry.RetryInterceptor;
+import com.google.gson.stream.JsonReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -36,6 +49,8 @@ import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -73,6 +88,7 @@ public class ApiClient {
 	protected Integer serverIndex = 0;
 	protected Map<String, String> serverVariables = null;
 	protected boolean debugging = false;
+	protected boolean streamingSerialization = false;
 	protected Map<String, String> defaultHeaderMap = new HashMap<String, String>();
 	protected Map<String, String> defaultCookieMap = new HashMap<String, String>();
 	protected String tempFolderPath = null;
@@ -145,15 +161,81 @@ public class ApiClient {
 		}
 		this.configuration = config;
 
+		// identity of the service account, which the cached and coalesced responses are kept
+		// apart by
+		String credentials = null;
 		if (httpClient == null) {
 			initHttpClient();
-			KeyFlowAuthenticator authenticator = new KeyFlowAuthenticator(this.httpClient, config);
-			this.httpClient = this.httpClient.newBuilder().authenticator(authenticator).build();
+			KeyFlowAuthenticator authenticator =
+					KeyFlowAuthenticatorRegistry.getAuthenticator(this.httpClient, config);
+			credentials = authenticator.getServiceAccountIdentity();
+			OkHttpClient.Builder builder =
+					this.httpClient.newBuilder().authenticator(authenticator);
+			if (!Boolean.FALSE.equals(config.getPreemptiveAuthentication())) {
+				// attach the access token up front instead of waiting for a 401 response, the
+				// authenticator stays the fallback in case the token is rejected
+				builder.addInterceptor(new KeyFlowPreemptiveAuthInterceptor(authenticator));
+			}
+			this.httpClient = builder.build();
 		} else {
 			// Authorization has to be configured manually in case a custom http client object is
 			// passed
 			this.httpClient = httpClient;
 		}
+
+		if (config.getRequestCoalescer() != null) {
+			// added after the preemptive authentication, so only requests with the same access
+			// token and credentials are coalesced
+			OkHttpClient.Builder builder = this.httpClient.newBuilder();
+			builder.addInterceptor(
+					new RequestCoalescingInterceptor(config.getRequestCoalescer(), credentials));
+			this.httpClient = builder.build();
+		}
+
+		if (config.getRetryPolicy() != null) {
+			// added before the rate limiting, so every retry is rate limited; the responses with
+			// a Retry-After header are left to the rate limiting, so they aren't retried twice
+			boolean rateLimited = config.getRateLimiter() != null;
+			OkHttpClient.Builder builder = this.httpClient.newBuilder();
+			builder.addInterceptor(
+					new RetryInterceptor(
+							config.getRetryPolicy(), config.getMetricsRecorder(), rateLimited));
+			this.httpClient = builder.build();
+		}
+
+		if (config.getRateLimiter() != null) {
+			// added after the request coalescing, so coalesced requests don't take a token
+			OkHttpClient.Builder builder = this.httpClient.newBuilder();
+			builder.addInterceptor(
+					new RateLimitInterceptor(config.getRateLimiter(), config.getMetricsRecorder()));
+			this.httpClient = builder.build();
+		}
+
+		if (config.getRequestCompression() != null) {
+			// added as last interceptor, so the other interceptors see the uncompressed body and
+			// every retry is compressed again
+			OkHttpClient.Builder builder = this.httpClient.newBuilder();
+			builder.addInterceptor(
+					new RequestCompressionInterceptor(config.getRequestCompression()));
+			this.httpClient = builder.build();
+		}
+
+		if (config.getMetricsRecorder() != null) {
+			// added before all interceptors but the response cache, so the latency includes the
+			// authentication, retries and rate limiting, but cache hits aren't recorded
+			OkHttpClient.Builder builder = this.httpClient.newBuilder();
+			builder.interceptors().add(0, new MetricsInterceptor(config.getMetricsRecorder()));
+			this.httpClient = builder.build();
+		}
+
+		if (config.getResponseCache() != null) {
+			// added as first interceptor, so cache hits don't need an access token
+			OkHttpClient.Builder builder = this.httpClient.newBuilder();
+			ResponseCacheInterceptor interceptor =
+					new ResponseCacheInterceptor(config.getResponseCache(), credentials);
+			builder.interceptors().add(0, interceptor);
+			this.httpClient = builder.build();
+		}
 	}
 
 	protected void initHttpClient() {
@@ -161,7 +243,13 @@ public class ApiClient {
 	}
 
 	protected void initHttpClient(List<Interceptor> interceptors) {
-		OkHttpClient.Builder builder = new OkHttpClient.Builder();
+		OkHttpClient.Builder builder;
+		if (configuration != null && configuration.getHttpClientFactory() != null) {
+			// derived from the shared client, so the connection pool and the dispatcher are shared
+			builder = configuration.getHttpClientFactory().getHttpClient().newBuilder();
+		} else {
+			builder = new OkHttpClient.Builder();
+		}
 		builder.addNetworkInterceptor(getProgressInterceptor());
 		for (Interceptor interceptor : interceptors) {
 			builder.addInterceptor(interceptor);
@@ -409,6 +497,61 @@ public class ApiClient {
 		return this;
 	}
 
+	/**
+	 * Enable or disable the single-pass streaming deserialization of the model classes.
+	 *
+	 * @param streamingDeserialization a boolean
+	 * @return a {@link cloud.stackit.sdk.iaas.v1api.ApiClient} object
+	 */
+	public ApiClient setStreamingDeserialization(boolean streamingDeserialization) {
+		JSON.setStreamingDeserialization(streamingDeserialization);
+		return this;
+	}
+
+	/**
+	 * Enable or disable the compiled type adapters of the model classes.
+	 *
+	 * @param compiledTypeAdapters a boolean
+	 * @return a {@link cloud.stackit.sdk.iaas.v1api.ApiClient} object
+	 */
+	public ApiClient setCompiledTypeAdapters(boolean compiledTypeAdapters) {
+		JSON.setCompiledTypeAdapters(compiledTypeAdapters);
+		return this;
+	}
+
+	/**
+	 * Check that whether JSON request bodies are serialized while they are sent.
+	 *
+	 * @return True if streaming serialization is enabled, false otherwise.
+	 */
+	public boolean isStreamingSerialization() {
+		return streamingSerialization;
+	}
+
+	/**
+	 * Enable or disable the streaming serialization of JSON request bodies. If enabled, request
+	 * bodies are written as JSON straight into the connection instead of being serialized into a
+	 * String first, and are sent with chunked transfer encoding. Disabled by default.
+	 *
+	 * @param streamingSerialization a boolean
+	 * @return a {@link cloud.stackit.sdk.iaas.v1api.ApiClient} object
+	 */
+	public ApiClient setStreamingSerialization(boolean streamingSerialization) {
+		this.streamingSerialization = streamingSerialization;
+		return this;
+	}
+
+	/**
+	 * Set the pool of the deserialized strings, see {@link JSON#setStringPool(StringPool)}.
+	 *
+	 * @param stringPool a {@link cloud.stackit.sdk.core.json.StringPool} object, or null
+	 * @return a {@link cloud.stackit.sdk.iaas.v1api.ApiClient} object
+	 */
+	public ApiClient setStringPool(StringPool stringPool) {
+		JSON.setStringPool(stringPool);
+		return this;
+	}
+
 	/**
 	 * Set the User-Agent header's value (by adding to the default header map).
 	 *
@@ -903,6 +1046,9 @@ public class ApiClient {
 		} else if ("text/plain".equals(contentType) && obj instanceof String) {
 			return RequestBody.create((String) obj, MediaType.parse(contentType));
 		} else if (isJsonMime(contentType)) {
+			if (streamingSerialization && obj != null) {
+				return new JsonRequestBody(JSON.getGson(), obj, MediaType.parse(contentType));
+			}
 			String content;
 			if (obj != null) {
 				content = JSON.serialize(obj);
@@ -1009,6 +1155,61 @@ public class ApiClient {
 		}
 	}
 
+	/**
+	 * Execute HTTP call and iterate over the items of a list response, which are read one by one
+	 * from the response body instead of deserializing the whole response.
+	 *
+	 * @param <T> Type of the items
+	 * @param call Call
+	 * @param field Name of the array field of the response object which contains the items, or
+	 *     null if the response is the array itself
+	 * @param itemType Type of the items
+	 * @return ItemIterator over the items, which has to be closed if it isn't consumed completely
+	 * @throws cloud.stackit.sdk.core.exception.ApiException If fail to execute the call, or the
+	 *     response has an error status code
+	 */
+	public <T> ItemIterator<T> executeItems(Call call, String field, Class<T> itemType)
+			throws ApiException {
+		Response response;
+		try {
+			response = call.execute();
+		} catch (IOException e) {
+			throw new ApiException(e);
+		}
+		if (!response.isSuccessful() || response.code() == 204 || response.body() == null) {
+			// throws for error responses, closes the body otherwise
+			handleResponse(response, null);
+			return ItemIterator.empty();
+		}
+		return new ItemIterator<>(
+				new JsonReader(response.body().charStream()),
+				field,
+				JSON.getGson().getAdapter(itemType));
+	}
+
+	/**
+	 * Execute HTTP call and return the response without deserializing the body, e.g. to forward it
+	 * unchanged.
+	 *
+	 * @param call Call
+	 * @return RawResponse containing response status, headers and body, which has to be closed
+	 * @throws cloud.stackit.sdk.core.exception.ApiException If fail to execute the call, or the
+	 *     response has an error status code
+	 */
+	public RawResponse executeRaw(Call call) throws ApiException {
+		Response response;
+		try {
+			response = call.execute();
+		} catch (IOException e) {
+			throw new ApiException(e);
+		}
+		if (!response.isSuccessful()) {
+			// throws with the error body
+			handleResponse(response, null);
+		}
+		return new RawResponse(response.code(), response.headers().toMultimap(), response.body());
+	}
+
 	/**
 	 * {@link #executeAsync(Call, Type, ApiCallback)}
 	 *
@@ -1059,6 +1260,66 @@ public class ApiClient {
 				});
 	}
 
+	/**
+	 * Execute HTTP call asynchronously and return a future of the deserialized response body.
+	 * Cancelling the future cancels the HTTP call.
+	 *
+	 * @param <T> Type
+	 * @param call An instance of the Call object
+	 * @param returnType Return type, null if the response body is not deserialized
+	 * @return CompletableFuture, completed exceptionally with an ApiException if the call fails
+	 * @see #executeAsync(Call, Type, ApiCallback)
+	 */
+	public <T> CompletableFuture<T> executeFuture(final Call call, final Type returnType) {
+		final CompletableFuture<T> future = new CompletableFuture<T>();
+		executeAsync(
+				call,
+				returnType,
+				new ApiCallback<T>() {
+					@Override
+					public void onFailure(
+							ApiException e,
+							int statusCode,
+							Map<String, List<String>> responseHeaders) {
+						future.completeExceptionally(e);
+					}
+
+					@Override
+					public void onSuccess(
+							T result, int statusCode, Map<String, List<String>> responseHeaders) {
+						future.complete(result);
+					}
+
+					@Override
+					public void onUploadProgress(
+							long bytesWritten, long contentLength, boolean done) {}
+
+					@Override
+					public void onDownloadProgress(
+							long bytesRead, long contentLength, boolean done) {}
+				});
+		future.whenComplete(
+				(result, throwable) -> {
+					if (throwable instanceof CancellationException) {
+						call.cancel();
+					}
+				});
+		return future;
+	}
+
+	/**
+	 * Returns a future which is already completed exceptionally with the given exception.
+	 *
+	 * @param <T> Type
+	 * @param e The exception
+	 * @return CompletableFuture completed exceptionally
+	 */
+	public static <T> CompletableFuture<T> failedFuture(ApiException e) {
+		CompletableFuture<T> future = new CompletableFuture<T>();
+		future.completeExceptionally(e);
+		return future;
+	}
+
 	/**
 	 * Handle the given response, return the deserialized object when the response is successful.
 	 *
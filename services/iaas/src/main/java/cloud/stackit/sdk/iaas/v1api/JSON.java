@@ -12,12 +12,21 @@
 
 package cloud.stackit.sdk.iaas.v1api;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapterFactory;
+import cloud.stackit.sdk.core.json.DateTimeParser;
+import cloud.stackit.sdk.core.json.LazyModelTypeAdapterFactory;
+import cloud.stackit.sdk.core.json.StreamingModelTypeAdapterFactory;
+import cloud.stackit.sdk.core.json.StringPool;
+import cloud.stackit.sdk.core.json.StringPoolTypeAdapter;
+import cloud.stackit.sdk.core.json.UuidTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
 import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
 import com.google.gson.internal.bind.util.ISO8601Utils;
+import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 import io.gsonfire.GsonFireBuilder;
@@ -35,6 +44,7 @@ import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Date;
 import java.util.Map;
+import java.util.UUID;
 import okio.ByteString;
 
 /*
@@ -52,6 +62,16 @@ public class JSON {
 			new OffsetDateTimeTypeAdapter();
 	private static LocalDateTypeAdapter localDateTypeAdapter = new LocalDateTypeAdapter();
 	private static ByteArrayAdapter byteArrayAdapter = new ByteArrayAdapter();
+	private static UuidTypeAdapter uuidTypeAdapter = new UuidTypeAdapter();
+	private static StringPoolTypeAdapter stringPoolTypeAdapter = new StringPoolTypeAdapter();
+	private static StreamingModelTypeAdapterFactory streamingModelTypeAdapterFactory =
+			new StreamingModelTypeAdapterFactory("cloud.stackit.sdk.iaas.v1api.model");
+	private static LazyModelTypeAdapterFactory modelTypeAdapterFactory =
+			new LazyModelTypeAdapterFactory("cloud.stackit.sdk.iaas.v1api.model");
+	private static CompiledModelTypeAdapterFactory compiledModelTypeAdapterFactory =
+			new CompiledModelTypeAdapterFactory(
+					"cloud.stackit.sdk.iaas.v1api.model",
+					cloud.stackit.sdk.iaas.v1api.model.CompiledTypeAdapters::create);
 
 	@SuppressWarnings("unchecked")
 	public static GsonBuilder createGson() {
@@ -95,333 +115,15 @@ public class JSON {
 		gsonBuilder.registerTypeAdapter(OffsetDateTime.class, offsetDateTimeTypeAdapter);
 		gsonBuilder.registerTypeAdapter(LocalDate.class, localDateTypeAdapter);
 		gsonBuilder.registerTypeAdapter(byte[].class, byteArrayAdapter);
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.AddVolumeToServerPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.AffinityGroup.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.AffinityGroupListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.AllowedAddressesInner
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.Area.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.AreaConfig.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.AreaId.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.AreaPrefixConfigIPv4
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.AvailabilityZoneListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.Backup.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.BackupListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.BackupSource.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.BaseSecurityGroupRule
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.BootVolume.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.BootVolumeSource.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateAffinityGroupPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateAreaAddressFamily
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateAreaIPv4.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateBackupPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateImagePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateKeyPairPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateNetworkAddressFamily
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateNetworkAreaPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateNetworkAreaRangePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateNetworkAreaRoutePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateNetworkIPv4Body
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateNetworkIPv6Body
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateNetworkPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateNicPayload.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateProtocol.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreatePublicIPPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateSecurityGroupPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateSecurityGroupRulePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateSecurityGroupRuleProtocol
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateServerNetworking
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateServerNetworkingWithNics
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateServerPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateServerPayloadNetworking
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateSnapshotPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.CreateVolumePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.Error.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.GetServerLog200Response
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.ICMPParameters.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.Image.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.ImageAgent.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.ImageChecksum.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.ImageConfig.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.ImageCreateResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.ImageListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.ImageShare.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.ImageShareConsumer
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.KeyPairListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.Keypair.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.MachineType.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.MachineTypeListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.NIC.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.NICListResponse.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.Network.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.NetworkArea.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.NetworkAreaIPv4.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.NetworkAreaListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.NetworkListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.NetworkRange.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.NetworkRangeListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.PartialUpdateNetworkAreaPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.PartialUpdateNetworkPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.PortRange.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.Project.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.ProjectListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.Protocol.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.PublicIp.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.PublicIpListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.PublicNetwork.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.PublicNetworkListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.Quota.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.QuotaList.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.QuotaListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.Request.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.RequestResource.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.RescueServerPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.ResizeServerPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.ResizeVolumePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.Route.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.RouteListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.SecurityGroup.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.SecurityGroupListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.SecurityGroupRule
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.SecurityGroupRuleListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.SecurityGroupRuleProtocol
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.Server.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.ServerAgent.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.ServerConsoleUrl.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.ServerListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.ServerMaintenance
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.ServerNetwork.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.ServerNetworking.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.ServiceAccountMailListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.SetImageSharePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.Snapshot.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.SnapshotListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.UpdateAreaAddressFamily
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.UpdateAreaIPv4.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.UpdateAttachedVolumePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.UpdateBackupPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.UpdateImagePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.UpdateImageSharePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.UpdateKeyPairPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.UpdateNetworkAddressFamily
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.UpdateNetworkAreaRoutePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.UpdateNetworkIPv4Body
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.UpdateNetworkIPv6Body
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.UpdateNicPayload.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.UpdatePublicIPPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.UpdateSecurityGroupPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.UpdateServerPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.UpdateSnapshotPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.UpdateVolumePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.Volume.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.VolumeAttachment.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.VolumeAttachmentListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.VolumeEncryptionParameter
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.VolumeListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.VolumePerformanceClass
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.VolumePerformanceClassListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v1api.model.VolumeSource.CustomTypeAdapterFactory());
+		gsonBuilder.registerTypeAdapter(UUID.class, uuidTypeAdapter);
+		gsonBuilder.registerTypeAdapter(String.class, stringPoolTypeAdapter);
+		// the adapters of the models are created on first use instead of registering the
+		// generated factories of all models up front
+		gsonBuilder.registerTypeAdapterFactory(modelTypeAdapterFactory);
+		// registered after the lazy factory, so it takes precedence over the model adapters
+		gsonBuilder.registerTypeAdapterFactory(streamingModelTypeAdapterFactory);
+		// registered last, so the compiled model adapters take precedence over all others
+		gsonBuilder.registerTypeAdapterFactory(compiledModelTypeAdapterFactory);
 		gson = gsonBuilder.create();
 	}
 
@@ -447,6 +149,68 @@ public class JSON {
 		isLenientOnJson = lenientOnJson;
 	}
 
+	/**
+	 * Enable or disable the single-pass streaming deserialization of the model classes. If
+	 * enabled, models are validated and bound while the JSON is read instead of building and
+	 * walking an intermediate JsonElement tree. Disabled by default.
+	 *
+	 * @param streamingDeserialization true to deserialize models in a single pass
+	 */
+	public static void setStreamingDeserialization(boolean streamingDeserialization) {
+		streamingModelTypeAdapterFactory.setEnabled(streamingDeserialization);
+	}
+
+	public static boolean isStreamingDeserialization() {
+		return streamingModelTypeAdapterFactory.isEnabled();
+	}
+
+	/**
+	 * Enable or disable the compiled type adapters of the model classes. If enabled, models are
+	 * read and written by the adapters generated into the model classes, which create the models
+	 * and access their fields without reflection. The compiled adapters read the models in a
+	 * single pass and validate them like the default adapters. Disabled by default.
+	 *
+	 * @param compiledTypeAdapters true to use the compiled type adapters
+	 */
+	public static void setCompiledTypeAdapters(boolean compiledTypeAdapters) {
+		compiledModelTypeAdapterFactory.setEnabled(compiledTypeAdapters);
+	}
+
+	public static boolean isCompiledTypeAdapters() {
+		return compiledModelTypeAdapterFactory.isEnabled();
+	}
+
+	/**
+	 * Set the pool of the deserialized strings. If set, equal string values of the models share
+	 * one instance, which reduces the heap used by large lists kept in memory. Disabled by
+	 * default.
+	 *
+	 * @param stringPool the pool, or null to disable the pooling
+	 */
+	public static void setStringPool(StringPool stringPool) {
+		stringPoolTypeAdapter.setStringPool(stringPool);
+	}
+
+	public static StringPool getStringPool() {
+		return stringPoolTypeAdapter.getStringPool();
+	}
+
+	/**
+	 * Returns the adapter the generated adapter of a model delegates to. Used by the generated
+	 * model adapters instead of {@link Gson#getDelegateAdapter(TypeAdapterFactory, TypeToken)},
+	 * as their factories are not registered in the Gson instance.
+	 *
+	 * @param <T> Type
+	 * @param gson Gson instance which created the model adapter
+	 * @param skipPast factory of the model adapter
+	 * @param type type to get the adapter for
+	 * @return adapter for the type
+	 */
+	public static <T> TypeAdapter<T> getDelegateAdapter(
+			Gson gson, TypeAdapterFactory skipPast, TypeToken<T> type) {
+		return modelTypeAdapterFactory.getDelegateAdapter(gson, skipPast, type);
+	}
+
 	/**
 	 * Serialize the given Java object into JSON string.
 	 *
@@ -572,6 +336,10 @@ public class JSON {
 					return null;
 				default:
 					String date = in.nextString();
+					if (formatter == DateTimeFormatter.ISO_OFFSET_DATE_TIME) {
+						// parses the common forms without running the formatter
+						return DateTimeParser.parseOffsetDateTime(date);
+					}
 					if (date.endsWith("+0000")) {
 						date = date.substring(0, date.length() - 5) + "Z";
 					}
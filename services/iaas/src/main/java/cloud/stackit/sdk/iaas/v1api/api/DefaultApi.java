@@ -108,6 +108,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import okhttp3.OkHttpClient;
 
 // Package-private access to enforce service-specific API usage (DefaultApi => <ServiceName>Api)
@@ -414,6 +415,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create and attach a network interface from the specified network. (asynchronously) Create and
+	 * attach a network interface from the specified network to the server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param networkId The identifier (ID) of a STACKIT Network. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Create and attach network interface was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> addNetworkToServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID networkId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					addNetworkToServerValidateBeforeCall(projectId, serverId, networkId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for addNicToServer
 	 *
@@ -643,6 +682,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Attach an existing network interface. (asynchronously) Attach an existing network interface
+	 * to a server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param nicId The identifier (ID) of a network interface. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Network interface attachment request was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> addNicToServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID nicId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = addNicToServerValidateBeforeCall(projectId, serverId, nicId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for addPublicIpToServer
 	 *
@@ -871,6 +948,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Associate a public IP to the server. (asynchronously) Associate a public IP to a server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param publicIpId The identifier (ID) of a Public IP. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Attach Public IP to server was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> addPublicIpToServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID publicIpId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					addPublicIpToServerValidateBeforeCall(projectId, serverId, publicIpId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for addSecurityGroupToServer
 	 *
@@ -1102,6 +1217,46 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Add a server to a security group. (asynchronously) Add an existing server to an existing
+	 * security group.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param securityGroupId The identifier (ID) of a STACKIT Security Group. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Security group attachment request was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> addSecurityGroupToServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID securityGroupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					addSecurityGroupToServerValidateBeforeCall(
+							projectId, serverId, securityGroupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for addServiceAccountToServer
 	 *
@@ -1338,6 +1493,47 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Attach service account to a server. (asynchronously) Attach an additional service account to
+	 * the server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param serviceAccountMail The e-mail address of a service account. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Service account attached to the server. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<ServiceAccountMailListResponse> addServiceAccountToServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull String serviceAccountMail) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					addServiceAccountToServerValidateBeforeCall(
+							projectId, serverId, serviceAccountMail, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ServiceAccountMailListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for addVolumeToServer
 	 *
@@ -1585,6 +1781,49 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Attach a volume to a server. (asynchronously) Attach an existing volume to an existing
+	 * server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param volumeId The identifier (ID) of a STACKIT Volume. (required)
+	 * @param addVolumeToServerPayload Request a volume attachment creation. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Volume attachment request was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<VolumeAttachment> addVolumeToServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID volumeId,
+			@javax.annotation.Nullable AddVolumeToServerPayload addVolumeToServerPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					addVolumeToServerValidateBeforeCall(
+							projectId, serverId, volumeId, addVolumeToServerPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VolumeAttachment>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createAffinityGroup
 	 *
@@ -1797,6 +2036,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create a new affinity group in a project. (asynchronously) Create a new server affinity group
+	 * in the given project ID.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param createAffinityGroupPayload Request a affinity group creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Affinity group was created successfully. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<AffinityGroup> createAffinityGroupFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull CreateAffinityGroupPayload createAffinityGroupPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createAffinityGroupValidateBeforeCall(
+							projectId, createAffinityGroupPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<AffinityGroup>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createBackup
 	 *
@@ -2011,6 +2288,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new Backup. (asynchronously) Create a new Backup in a project. If a snapshot ID is
+	 * provided create the backup from the snapshot.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param createBackupPayload Request a backup creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Create request for Backup accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 413 </td><td> The request entity is too large. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Backup> createBackupFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull CreateBackupPayload createBackupPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = createBackupValidateBeforeCall(projectId, createBackupPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Backup>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createImage
 	 *
@@ -2230,6 +2544,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new Image. (asynchronously) Create a new Image in a project. This call, if successful,
+	 * returns a pre-signed URL for the customer to upload the image.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param createImagePayload Request an image creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Create request for an Image has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 413 </td><td> The request entity is too large. </td><td>  -  </td></tr>
+	 * <tr><td> 429 </td><td> Too Many Requests. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<ImageCreateResponse> createImageFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull CreateImagePayload createImagePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = createImageValidateBeforeCall(projectId, createImagePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ImageCreateResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createKeyPair
 	 *
@@ -2435,11 +2787,50 @@ class DefaultApi {
 	}
 
 	/**
-	 * Build call for createNetwork
-	 *
-	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
-	 * @param createNetworkPayload Request a network creation. (required)
-	 * @param _callback Callback for upload/download progress
+	 * Import a public key. (asynchronously) Import a new public key for the requesting user based
+	 * on provided public key material. The creation will fail if an SSH keypair with the same name
+	 * already exists. If a name is not provided it is autogenerated form the ssh-pubkey comment
+	 * section. If that is also not present it will be the the MD5 fingerprint of the key. For
+	 * autogenerated names invalid characters will be removed. Supported keypair types are ecdsa,
+	 * ed25519 and rsa.
+	 *
+	 * @param createKeyPairPayload Request a public key import. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Import of the public key was successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Keypair> createKeyPairFuture(
+			@javax.annotation.Nonnull CreateKeyPairPayload createKeyPairPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = createKeyPairValidateBeforeCall(createKeyPairPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Keypair>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
+	/**
+	 * Build call for createNetwork
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param createNetworkPayload Request a network creation. (required)
+	 * @param _callback Callback for upload/download progress
 	 * @return Call to execute
 	 * @throws ApiException If fail to serialize the request body object
 	 * @http.response.details
@@ -2655,6 +3046,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new network. (asynchronously) Create a new network in a project.
+	 * &#x60;nameservers&#x60; will be filled from &#x60;defaultNameservers&#x60; of the respective
+	 * area if not specified. If the project has &#x60;internetAccess&#x60; enabled and this is the
+	 * first network in the project this might incur cost.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param createNetworkPayload Request a network creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Network create has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Network> createNetworkFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull CreateNetworkPayload createNetworkPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = createNetworkValidateBeforeCall(projectId, createNetworkPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Network>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createNetworkArea
 	 *
@@ -2865,6 +3295,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new network area in an organization. (asynchronously) Create a new network area in an
+	 * organization.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param createNetworkAreaPayload Request an area creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Area has been successfully created. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<NetworkArea> createNetworkAreaFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull CreateNetworkAreaPayload createNetworkAreaPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createNetworkAreaValidateBeforeCall(
+							organizationId, createNetworkAreaPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NetworkArea>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createNetworkAreaRange
 	 *
@@ -3106,6 +3574,48 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new network range in a network area. (asynchronously) Create a new network range in an
+	 * existing network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param createNetworkAreaRangePayload Request an addition of network ranges to an area.
+	 *     (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Adding network ranges was successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<NetworkRangeListResponse> createNetworkAreaRangeFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull CreateNetworkAreaRangePayload createNetworkAreaRangePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createNetworkAreaRangeValidateBeforeCall(
+							organizationId, areaId, createNetworkAreaRangePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NetworkRangeListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createNetworkAreaRoute
 	 *
@@ -3341,6 +3851,47 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new network routes. (asynchronously) Create one or several new network routes in a
+	 * network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param createNetworkAreaRoutePayload Request an addition of routes to an area. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Create request for network routes has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<RouteListResponse> createNetworkAreaRouteFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull CreateNetworkAreaRoutePayload createNetworkAreaRoutePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createNetworkAreaRouteValidateBeforeCall(
+							organizationId, areaId, createNetworkAreaRoutePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RouteListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createNic
 	 *
@@ -3575,6 +4126,46 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new network interface. (asynchronously) Create a new network interface in a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param networkId The identifier (ID) of a STACKIT Network. (required)
+	 * @param createNicPayload Request a network interface creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Network interface was created successfully. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 429 </td><td> Too Many Requests. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<NIC> createNicFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID networkId,
+			@javax.annotation.Nonnull CreateNicPayload createNicPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createNicValidateBeforeCall(projectId, networkId, createNicPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NIC>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createPublicIP
 	 *
@@ -3787,6 +4378,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new public IP. (asynchronously) Create a new public IP in a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param createPublicIPPayload Request a public IP creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> The public IP has been created. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 429 </td><td> Too Many Requests. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<PublicIp> createPublicIPFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull CreatePublicIPPayload createPublicIPPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = createPublicIPValidateBeforeCall(projectId, createPublicIPPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<PublicIp>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createSecurityGroup
 	 *
@@ -3996,6 +4623,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new security group. (asynchronously) Create a new security group in a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param createSecurityGroupPayload Request a security group creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Security group create has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<SecurityGroup> createSecurityGroupFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull CreateSecurityGroupPayload createSecurityGroupPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createSecurityGroupValidateBeforeCall(
+							projectId, createSecurityGroupPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<SecurityGroup>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createSecurityGroupRule
 	 *
@@ -4227,6 +4891,46 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new security group rule. (asynchronously) Create a new security group rule in a
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param securityGroupId The identifier (ID) of a STACKIT Security Group. (required)
+	 * @param createSecurityGroupRulePayload Request for a security group rule creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Security group rule create has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<SecurityGroupRule> createSecurityGroupRuleFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID securityGroupId,
+			@javax.annotation.Nonnull CreateSecurityGroupRulePayload createSecurityGroupRulePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createSecurityGroupRuleValidateBeforeCall(
+							projectId, securityGroupId, createSecurityGroupRulePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<SecurityGroupRule>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createServer
 	 *
@@ -4434,6 +5138,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new server. (asynchronously) Create a new server in a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param createServerPayload Request a server creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Create request for server accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Server> createServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull CreateServerPayload createServerPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = createServerValidateBeforeCall(projectId, createServerPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Server>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createSnapshot
 	 *
@@ -4650,6 +5389,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new Snapshot. (asynchronously) Create a new Snapshot from a Volume in a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param createSnapshotPayload Request a snapshot creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Create request for Snapshot accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 413 </td><td> The request entity is too large. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Snapshot> createSnapshotFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull CreateSnapshotPayload createSnapshotPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = createSnapshotValidateBeforeCall(projectId, createSnapshotPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Snapshot>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createVolume
 	 *
@@ -4867,6 +5643,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new volume. (asynchronously) Create a new volume in a project. If a volume source is
+	 * not provided, an empty volume will be created. The size property is required if no source or
+	 * an image source is provided.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param createVolumePayload Request a volume creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Create request for volume accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 413 </td><td> The request entity is too large. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Volume> createVolumeFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull CreateVolumePayload createVolumePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = createVolumeValidateBeforeCall(projectId, createVolumePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Volume>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deallocateServer
 	 *
@@ -5077,6 +5891,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Deallocate an existing server. (asynchronously) Deallocate an existing server. The server
+	 * will be removed from the hypervisor so only the volume will be billed.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Server deallocation request accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> deallocateServerFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deallocateServerValidateBeforeCall(projectId, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteAffinityGroup
 	 *
@@ -5284,6 +6133,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a affinity group in a project. (asynchronously) Delete a affinity group in the given
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param affinityGroupId The identifier (ID) of a STACKIT Affinity Group. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Delete request for an server group was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> deleteAffinityGroupFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID affinityGroupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteAffinityGroupValidateBeforeCall(projectId, affinityGroupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteBackup
 	 *
@@ -5503,6 +6387,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a backup. (asynchronously) Delete a backup that is part of the project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param backupId The identifier (ID) of a STACKIT Backup. (required)
+	 * @param force Force action. (optional, default to false)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Backup delete request has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> deleteBackupFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID backupId,
+			@javax.annotation.Nullable Boolean force) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteBackupValidateBeforeCall(projectId, backupId, force, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteImage
 	 *
@@ -5705,6 +6625,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete an Image. (asynchronously) Delete an image that is part of the project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param imageId The identifier (ID) of a STACKIT Image. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Image delete request has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> deleteImageFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID imageId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteImageValidateBeforeCall(projectId, imageId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteImageShare
 	 *
@@ -5908,6 +6861,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Remove image share. (asynchronously) Remove the image share. New scope will be local.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param imageId The identifier (ID) of a STACKIT Image. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Image share removed. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> deleteImageShareFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID imageId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteImageShareValidateBeforeCall(projectId, imageId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteImageShareConsumer
 	 *
@@ -6138,6 +7124,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Remove an image share consumer. (asynchronously) Remove consumer from a shared image.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param imageId The identifier (ID) of a STACKIT Image. (required)
+	 * @param consumerProjectId The identifier (ID) of a STACKIT Project that consumes an image
+	 *     share. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Image share consumer removed. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> deleteImageShareConsumerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID imageId,
+			@javax.annotation.Nonnull UUID consumerProjectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteImageShareConsumerValidateBeforeCall(
+							projectId, imageId, consumerProjectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteKeyPair
 	 *
@@ -6318,6 +7343,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete an SSH keypair. (asynchronously) Delete an SSH keypair from a user.
+	 *
+	 * @param keypairName The name of an SSH keypair. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Delete request for an SSH keypair was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> deleteKeyPairFuture(
+			@javax.annotation.Nonnull String keypairName) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteKeyPairValidateBeforeCall(keypairName, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteNetwork
 	 *
@@ -6527,10 +7584,45 @@ class DefaultApi {
 	}
 
 	/**
-	 * Build call for deleteNetworkArea
+	 * Delete network. (asynchronously) Delete a network. If the network is still in use, the
+	 * deletion will fail.
 	 *
-	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
-	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param networkId The identifier (ID) of a STACKIT Network. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Delete request for network has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> deleteNetworkFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID networkId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteNetworkValidateBeforeCall(projectId, networkId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
+	/**
+	 * Build call for deleteNetworkArea
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
 	 * @param _callback Callback for upload/download progress
 	 * @return Call to execute
 	 * @throws ApiException If fail to serialize the request body object
@@ -6737,6 +7829,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a network area. (asynchronously) Delete an existing network area in an organization.
+	 * This is only possible if no projects are using the area anymore.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Delete request for area has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> deleteNetworkAreaFuture(
+			@javax.annotation.Nonnull UUID organizationId, @javax.annotation.Nonnull UUID areaId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteNetworkAreaValidateBeforeCall(organizationId, areaId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteNetworkAreaRange
 	 *
@@ -6970,6 +8097,46 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a network range. (asynchronously) Delete a network range of a network area. The
+	 * deletion will fail if the network range is still used.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param networkRangeId The identifier (ID) of a STACKIT Network Range. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Delete request for network range has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> deleteNetworkAreaRangeFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull UUID networkRangeId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteNetworkAreaRangeValidateBeforeCall(
+							organizationId, areaId, networkRangeId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteNetworkAreaRoute
 	 *
@@ -7195,6 +8362,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a network route. (asynchronously) Delete a network route of a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param routeId The identifier (ID) of a STACKIT Route. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Delete request for network route has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> deleteNetworkAreaRouteFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull UUID routeId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteNetworkAreaRouteValidateBeforeCall(organizationId, areaId, routeId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteNic
 	 *
@@ -7419,6 +8623,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a network interface. (asynchronously) Delete a network interface that is part of the
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param networkId The identifier (ID) of a STACKIT Network. (required)
+	 * @param nicId The identifier (ID) of a network interface. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Network interface delete request has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> deleteNicFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID networkId,
+			@javax.annotation.Nonnull UUID nicId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteNicValidateBeforeCall(projectId, networkId, nicId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deletePublicIP
 	 *
@@ -7622,6 +8863,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a public IP. (asynchronously) Delete a public IP that is part of the project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param publicIpId The identifier (ID) of a Public IP. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> The public IP has been deleted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> deletePublicIPFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID publicIpId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deletePublicIPValidateBeforeCall(projectId, publicIpId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteSecurityGroup
 	 *
@@ -7832,6 +9106,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete security group. (asynchronously) Delete a security group.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param securityGroupId The identifier (ID) of a STACKIT Security Group. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Delete request for security group has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> deleteSecurityGroupFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID securityGroupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteSecurityGroupValidateBeforeCall(projectId, securityGroupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteSecurityGroupRule
 	 *
@@ -8059,6 +9368,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete security group rule. (asynchronously) Delete a security group rule.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param securityGroupId The identifier (ID) of a STACKIT Security Group. (required)
+	 * @param securityGroupRuleId The identifier (ID) of a STACKIT Security Group Rule. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Delete request for security group rule has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> deleteSecurityGroupRuleFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID securityGroupId,
+			@javax.annotation.Nonnull UUID securityGroupRuleId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteSecurityGroupRuleValidateBeforeCall(
+							projectId, securityGroupId, securityGroupRuleId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteServer
 	 *
@@ -8261,6 +9608,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a server. (asynchronously) Delete a server. Volumes won&#39;t be deleted.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Delete request for server accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> deleteServerFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteServerValidateBeforeCall(projectId, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteSnapshot
 	 *
@@ -8464,6 +9844,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a snapshot. (asynchronously) Delete a snapshot that is part of the project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param snapshotId The identifier (ID) of a STACKIT Snapshot. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Snapshot delete request has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> deleteSnapshotFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID snapshotId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteSnapshotValidateBeforeCall(projectId, snapshotId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteVolume
 	 *
@@ -8691,10 +10104,48 @@ class DefaultApi {
 	}
 
 	/**
-	 * Build call for getAffinityGroup
+	 * Delete a volume. (asynchronously) Delete a volume inside a project. The deletion will fail if
+	 * the volume is still in use.
 	 *
 	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
-	 * @param affinityGroupId The identifier (ID) of a STACKIT Affinity Group. (required)
+	 * @param volumeId The identifier (ID) of a STACKIT Volume. (required)
+	 * @param cascade Cascade action. (optional, default to false)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Volume delete request has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> deleteVolumeFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID volumeId,
+			@javax.annotation.Nullable Boolean cascade) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteVolumeValidateBeforeCall(projectId, volumeId, cascade, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
+	/**
+	 * Build call for getAffinityGroup
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param affinityGroupId The identifier (ID) of a STACKIT Affinity Group. (required)
 	 * @param _callback Callback for upload/download progress
 	 * @return Call to execute
 	 * @throws ApiException If fail to serialize the request body object
@@ -8901,6 +10352,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get the affinity group. (asynchronously) Get the affinity group created in a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param affinityGroupId The identifier (ID) of a STACKIT Affinity Group. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show affinity group details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<AffinityGroup> getAffinityGroupFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID affinityGroupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getAffinityGroupValidateBeforeCall(projectId, affinityGroupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<AffinityGroup>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getAttachedVolume
 	 *
@@ -9131,6 +10617,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Volume Attachment details. (asynchronously) Get the details of an existing Volume
+	 * Attachment.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param volumeId The identifier (ID) of a STACKIT Volume. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Get details about a volume attachment. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<VolumeAttachment> getAttachedVolumeFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID volumeId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getAttachedVolumeValidateBeforeCall(projectId, serverId, volumeId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VolumeAttachment>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getBackup
 	 *
@@ -9337,6 +10861,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a backup. (asynchronously) Get details about a block device backup.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param backupId The identifier (ID) of a STACKIT Backup. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show backup details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Backup> getBackupFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID backupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getBackupValidateBeforeCall(projectId, backupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Backup>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getImage
 	 *
@@ -9544,6 +11102,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about an image. (asynchronously) Get details about a specific Image inside a
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param imageId The identifier (ID) of a STACKIT Image. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show Image details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Image> getImageFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID imageId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getImageValidateBeforeCall(projectId, imageId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Image>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getImageShare
 	 *
@@ -9750,6 +11343,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get share details of an image. (asynchronously) Get share details about an shared image.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param imageId The identifier (ID) of a STACKIT Image. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show Image share details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<ImageShare> getImageShareFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID imageId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getImageShareValidateBeforeCall(projectId, imageId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ImageShare>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getImageShareConsumer
 	 *
@@ -9985,6 +11612,46 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get image share consumer. (asynchronously) Get details about an image share consumer.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param imageId The identifier (ID) of a STACKIT Image. (required)
+	 * @param consumerProjectId The identifier (ID) of a STACKIT Project that consumes an image
+	 *     share. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show Image share consumer details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<ImageShareConsumer> getImageShareConsumerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID imageId,
+			@javax.annotation.Nonnull UUID consumerProjectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getImageShareConsumerValidateBeforeCall(
+							projectId, imageId, consumerProjectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ImageShareConsumer>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getKeyPair
 	 *
@@ -10169,6 +11836,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get SSH keypair details. (asynchronously) Get details about an SSH keypair.
+	 *
+	 * @param keypairName The name of an SSH keypair. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show SSH keypair details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Keypair> getKeyPairFuture(
+			@javax.annotation.Nonnull String keypairName) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getKeyPairValidateBeforeCall(keypairName, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Keypair>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getMachineType
 	 *
@@ -10376,6 +12076,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a machine type. (asynchronously) Get details about a specific machine type.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param machineType STACKIT machine type Name. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show machine type details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<MachineType> getMachineTypeFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String machineType) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getMachineTypeValidateBeforeCall(projectId, machineType, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<MachineType>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getNetwork
 	 *
@@ -10582,6 +12317,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get network details. (asynchronously) Get details about a network of a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param networkId The identifier (ID) of a STACKIT Network. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show network details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Network> getNetworkFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID networkId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getNetworkValidateBeforeCall(projectId, networkId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Network>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getNetworkArea
 	 *
@@ -10791,8 +12560,43 @@ class DefaultApi {
 	}
 
 	/**
-	 * Build call for getNetworkAreaRange
-	 *
+	 * Get details about a network area. (asynchronously) Get details about a network area in an
+	 * organization.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show network area details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<NetworkArea> getNetworkAreaFuture(
+			@javax.annotation.Nonnull UUID organizationId, @javax.annotation.Nonnull UUID areaId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getNetworkAreaValidateBeforeCall(organizationId, areaId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NetworkArea>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
+	/**
+	 * Build call for getNetworkAreaRange
+	 *
 	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
 	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
 	 * @param networkRangeId The identifier (ID) of a STACKIT Network Range. (required)
@@ -11021,6 +12825,46 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a network range. (asynchronously) Get details about a network range in a
+	 * network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param networkRangeId The identifier (ID) of a STACKIT Network Range. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show network range details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<NetworkRange> getNetworkAreaRangeFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull UUID networkRangeId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getNetworkAreaRangeValidateBeforeCall(
+							organizationId, areaId, networkRangeId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NetworkRange>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getNetworkAreaRoute
 	 *
@@ -11253,6 +13097,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a network route. (asynchronously) Get details about a network route defined
+	 * in a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param routeId The identifier (ID) of a STACKIT Route. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show route details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Route> getNetworkAreaRouteFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull UUID routeId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getNetworkAreaRouteValidateBeforeCall(organizationId, areaId, routeId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Route>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getNic
 	 *
@@ -11483,6 +13366,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a network interface of a network. (asynchronously) Get details about a
+	 * network interface inside a network.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param networkId The identifier (ID) of a STACKIT Network. (required)
+	 * @param nicId The identifier (ID) of a network interface. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show network interface details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<NIC> getNicFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID networkId,
+			@javax.annotation.Nonnull UUID nicId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getNicValidateBeforeCall(projectId, networkId, nicId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NIC>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getOrganizationRequest
 	 *
@@ -11698,6 +13619,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Lookup an organization request ID. (asynchronously) Lookup an organization request ID from a
+	 * previous request. This allows to find resource IDs of resources generated during a
+	 * organization request.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param requestId The identifier (ID) of a STACKIT Request. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show organization request details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Request> getOrganizationRequestFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull String requestId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getOrganizationRequestValidateBeforeCall(organizationId, requestId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Request>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getProjectDetails
 	 *
@@ -11882,6 +13841,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get project details. (asynchronously) Get details about a STACKIT project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show project details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Project> getProjectDetailsFuture(
+			@javax.annotation.Nonnull UUID projectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getProjectDetailsValidateBeforeCall(projectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Project>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getProjectNIC
 	 *
@@ -12091,6 +14083,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a network interface of a project. (asynchronously) Get details about a
+	 * network interface inside a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param nicId The identifier (ID) of a network interface. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show details of network interface. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<NIC> getProjectNICFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID nicId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getProjectNICValidateBeforeCall(projectId, nicId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NIC>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getProjectRequest
 	 *
@@ -12301,6 +14328,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Lookup a project request ID. (asynchronously) Lookup a project request ID from a previous
+	 * request. This allows to find resource IDs of resources generated during a projects request.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param requestId The identifier (ID) of a STACKIT Request. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show project request details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Request> getProjectRequestFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull String requestId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getProjectRequestValidateBeforeCall(projectId, requestId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Request>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getPublicIP
 	 *
@@ -12508,6 +14570,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a public IP. (asynchronously) Get details about a public IP inside a
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param publicIpId The identifier (ID) of a Public IP. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show public IP details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<PublicIp> getPublicIPFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID publicIpId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getPublicIPValidateBeforeCall(projectId, publicIpId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<PublicIp>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getSecurityGroup
 	 *
@@ -12720,19 +14817,17 @@ class DefaultApi {
 	}
 
 	/**
-	 * Build call for getSecurityGroupRule
+	 * Get security group details. (asynchronously) Get details about a security group of a project.
 	 *
 	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
 	 * @param securityGroupId The identifier (ID) of a STACKIT Security Group. (required)
-	 * @param securityGroupRuleId The identifier (ID) of a STACKIT Security Group Rule. (required)
-	 * @param _callback Callback for upload/download progress
-	 * @return Call to execute
-	 * @throws ApiException If fail to serialize the request body object
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
 	 * @http.response.details
 	 *     <table border="1">
 	 * <caption>Response Details</caption>
 	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-	 * <tr><td> 200 </td><td> Show security group rule details. </td><td>  -  </td></tr>
+	 * <tr><td> 200 </td><td> Show security group details. </td><td>  -  </td></tr>
 	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
 	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
 	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
@@ -12743,17 +14838,54 @@ class DefaultApi {
 	 * @deprecated
 	 */
 	@Deprecated
-	public okhttp3.Call getSecurityGroupRuleCall(
+	public CompletableFuture<SecurityGroup> getSecurityGroupFuture(
 			@javax.annotation.Nonnull UUID projectId,
-			@javax.annotation.Nonnull UUID securityGroupId,
-			@javax.annotation.Nonnull UUID securityGroupRuleId,
-			final ApiCallback _callback)
-			throws ApiException {
-		String basePath = null;
-		// Operation Servers
-		String[] localBasePaths = new String[] {};
+			@javax.annotation.Nonnull UUID securityGroupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getSecurityGroupValidateBeforeCall(projectId, securityGroupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<SecurityGroup>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
 
-		// Determine Base Path to Use
+	/**
+	 * Build call for getSecurityGroupRule
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param securityGroupId The identifier (ID) of a STACKIT Security Group. (required)
+	 * @param securityGroupRuleId The identifier (ID) of a STACKIT Security Group Rule. (required)
+	 * @param _callback Callback for upload/download progress
+	 * @return Call to execute
+	 * @throws ApiException If fail to serialize the request body object
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show security group rule details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public okhttp3.Call getSecurityGroupRuleCall(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID securityGroupId,
+			@javax.annotation.Nonnull UUID securityGroupRuleId,
+			final ApiCallback _callback)
+			throws ApiException {
+		String basePath = null;
+		// Operation Servers
+		String[] localBasePaths = new String[] {};
+
+		// Determine Base Path to Use
 		if (localCustomBaseUrl != null) {
 			basePath = localCustomBaseUrl;
 		} else if (localBasePaths.length > 0) {
@@ -12951,6 +15083,46 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get security group rule details. (asynchronously) Get details about a security group rule of
+	 * a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param securityGroupId The identifier (ID) of a STACKIT Security Group. (required)
+	 * @param securityGroupRuleId The identifier (ID) of a STACKIT Security Group Rule. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show security group rule details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<SecurityGroupRule> getSecurityGroupRuleFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID securityGroupId,
+			@javax.annotation.Nonnull UUID securityGroupRuleId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getSecurityGroupRuleValidateBeforeCall(
+							projectId, securityGroupId, securityGroupRuleId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<SecurityGroupRule>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getServer
 	 *
@@ -13173,6 +15345,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get server details. (asynchronously) Get details about a server by its ID.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param details Show detailed information about server. (optional, default to false)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show server details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Server> getServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nullable Boolean details) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getServerValidateBeforeCall(projectId, serverId, details, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Server>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getServerConsole
 	 *
@@ -13381,6 +15590,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get server console. (asynchronously) Get a URL for server remote console.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show server console URL. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<ServerConsoleUrl> getServerConsoleFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getServerConsoleValidateBeforeCall(projectId, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ServerConsoleUrl>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getServerLog
 	 *
@@ -13609,6 +15852,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get server log. (asynchronously) Get server console log.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param length Request the server log. By default the length is limited to 2000 lines. Set to
+	 *     0 to retrieve the complete log. (optional, default to 2000)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show server console log. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<GetServerLog200Response> getServerLogFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nullable Long length) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getServerLogValidateBeforeCall(projectId, serverId, length, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetServerLog200Response>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getSnapshot
 	 *
@@ -13815,6 +16096,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a snapshot. (asynchronously) Get details about a block device snapshot.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param snapshotId The identifier (ID) of a STACKIT Snapshot. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show snapshot details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Snapshot> getSnapshotFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID snapshotId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getSnapshotValidateBeforeCall(projectId, snapshotId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Snapshot>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getVolume
 	 *
@@ -14021,6 +16336,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a volume. (asynchronously) Get details about a block device volume.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param volumeId The identifier (ID) of a STACKIT Volume. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show volume details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Volume> getVolumeFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID volumeId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getVolumeValidateBeforeCall(projectId, volumeId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Volume>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getVolumePerformanceClass
 	 *
@@ -14237,6 +16586,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a volume performance class. (asynchronously) Get details about a specific
+	 * volume performance class.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param volumePerformanceClass The name of a STACKIT Volume performance class. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show volume performance class details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<VolumePerformanceClass> getVolumePerformanceClassFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String volumePerformanceClass) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getVolumePerformanceClassValidateBeforeCall(
+							projectId, volumePerformanceClass, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VolumePerformanceClass>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listAffinityGroups
 	 *
@@ -14437,6 +16824,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get the affinity groups setup for a project. (asynchronously) Get the affinity groups created
+	 * in a project. Affinity groups are an indication of locality of a server relative to another
+	 * group of servers. They can be either running on the same host (affinity) or on different ones
+	 * (anti-affinity).
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List affinity groups. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<AffinityGroupListResponse> listAffinityGroupsFuture(
+			@javax.annotation.Nonnull UUID projectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listAffinityGroupsValidateBeforeCall(projectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<AffinityGroupListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listAttachedVolumes
 	 *
@@ -14648,16 +17072,18 @@ class DefaultApi {
 	}
 
 	/**
-	 * Build call for listAvailabilityZones
+	 * List all volume attachments of a server. (asynchronously) Get a list of all volume
+	 * attachments of a server.
 	 *
-	 * @param _callback Callback for upload/download progress
-	 * @return Call to execute
-	 * @throws ApiException If fail to serialize the request body object
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
 	 * @http.response.details
 	 *     <table border="1">
 	 * <caption>Response Details</caption>
 	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-	 * <tr><td> 200 </td><td> Get a list of availability zones. </td><td>  -  </td></tr>
+	 * <tr><td> 200 </td><td> List volume attachments. </td><td>  -  </td></tr>
 	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
 	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
 	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
@@ -14668,9 +17094,42 @@ class DefaultApi {
 	 * @deprecated
 	 */
 	@Deprecated
-	public okhttp3.Call listAvailabilityZonesCall(final ApiCallback _callback) throws ApiException {
-		String basePath = null;
-		// Operation Servers
+	public CompletableFuture<VolumeAttachmentListResponse> listAttachedVolumesFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listAttachedVolumesValidateBeforeCall(projectId, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VolumeAttachmentListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
+	/**
+	 * Build call for listAvailabilityZones
+	 *
+	 * @param _callback Callback for upload/download progress
+	 * @return Call to execute
+	 * @throws ApiException If fail to serialize the request body object
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Get a list of availability zones. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public okhttp3.Call listAvailabilityZonesCall(final ApiCallback _callback) throws ApiException {
+		String basePath = null;
+		// Operation Servers
 		String[] localBasePaths = new String[] {};
 
 		// Determine Base Path to Use
@@ -14814,6 +17273,37 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all availability zones. (asynchronously) Get a list of all availability zones.
+	 *
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Get a list of availability zones. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<AvailabilityZoneListResponse> listAvailabilityZonesFuture() {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listAvailabilityZonesValidateBeforeCall(null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<AvailabilityZoneListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listBackups
 	 *
@@ -15021,6 +17511,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all backups inside a project. (asynchronously) Get a list of all backups inside a
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List project backups. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<BackupListResponse> listBackupsFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listBackupsValidateBeforeCall(projectId, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<BackupListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listImages
 	 *
@@ -15241,6 +17767,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all Images inside a project. (asynchronously) Get a list of all images inside a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param all List all Images. (optional, default to false)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List project images. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<ImageListResponse> listImagesFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nullable Boolean all,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listImagesValidateBeforeCall(projectId, all, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ImageListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listKeyPairs
 	 *
@@ -15425,6 +17988,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all SSH keypairs for the requesting user. (asynchronously) Get a list of all SSH
+	 * keypairs assigned to the requesting user.
+	 *
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List SSH keypairs. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<KeyPairListResponse> listKeyPairsFuture(
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listKeyPairsValidateBeforeCall(labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<KeyPairListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listMachineTypes
 	 *
@@ -15635,6 +18232,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all machine types available for a project. (asynchronously) Get a list of all machine
+	 * type available in a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param filter Filter resources by fields. A subset of expr-lang is supported. See
+	 *     https://expr-lang.org/docs/language-definition for usage details. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List of machine types. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<MachineTypeListResponse> listMachineTypesFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nullable String filter) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listMachineTypesValidateBeforeCall(projectId, filter, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<MachineTypeListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listNetworkAreaProjects
 	 *
@@ -15845,6 +18478,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all projects using a network area. (asynchronously) Get a list of all projects using a
+	 * network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List projects for a network area. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<ProjectListResponse> listNetworkAreaProjectsFuture(
+			@javax.annotation.Nonnull UUID organizationId, @javax.annotation.Nonnull UUID areaId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listNetworkAreaProjectsValidateBeforeCall(organizationId, areaId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ProjectListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listNetworkAreaRanges
 	 *
@@ -16057,6 +18725,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all network ranges in a network area. (asynchronously) Get a list of all network ranges
+	 * in a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List all network ranges. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<NetworkRangeListResponse> listNetworkAreaRangesFuture(
+			@javax.annotation.Nonnull UUID organizationId, @javax.annotation.Nonnull UUID areaId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listNetworkAreaRangesValidateBeforeCall(organizationId, areaId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NetworkRangeListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listNetworkAreaRoutes
 	 *
@@ -16287,6 +18990,46 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all network routes in a network area. (asynchronously) Get a list of all network routes
+	 * defined in a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List network routes. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<RouteListResponse> listNetworkAreaRoutesFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listNetworkAreaRoutesValidateBeforeCall(
+							organizationId, areaId, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RouteListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listNetworkAreas
 	 *
@@ -16498,18 +19241,18 @@ class DefaultApi {
 	}
 
 	/**
-	 * Build call for listNetworks
+	 * List all network areas in an organization. (asynchronously) Get a list of all visible network
+	 * areas defined in an organization.
 	 *
-	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
 	 * @param labelSelector Filter resources by labels. (optional)
-	 * @param _callback Callback for upload/download progress
-	 * @return Call to execute
-	 * @throws ApiException If fail to serialize the request body object
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
 	 * @http.response.details
 	 *     <table border="1">
 	 * <caption>Response Details</caption>
 	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-	 * <tr><td> 200 </td><td> List all networks of a project. </td><td>  -  </td></tr>
+	 * <tr><td> 200 </td><td> Get a list of all network areas. </td><td>  -  </td></tr>
 	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
 	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
 	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
@@ -16520,18 +19263,54 @@ class DefaultApi {
 	 * @deprecated
 	 */
 	@Deprecated
-	public okhttp3.Call listNetworksCall(
-			@javax.annotation.Nonnull UUID projectId,
-			@javax.annotation.Nullable String labelSelector,
-			final ApiCallback _callback)
-			throws ApiException {
-		String basePath = null;
-		// Operation Servers
-		String[] localBasePaths = new String[] {};
+	public CompletableFuture<NetworkAreaListResponse> listNetworkAreasFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listNetworkAreasValidateBeforeCall(organizationId, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NetworkAreaListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
 
-		// Determine Base Path to Use
-		if (localCustomBaseUrl != null) {
-			basePath = localCustomBaseUrl;
+	/**
+	 * Build call for listNetworks
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @param _callback Callback for upload/download progress
+	 * @return Call to execute
+	 * @throws ApiException If fail to serialize the request body object
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List all networks of a project. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public okhttp3.Call listNetworksCall(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nullable String labelSelector,
+			final ApiCallback _callback)
+			throws ApiException {
+		String basePath = null;
+		// Operation Servers
+		String[] localBasePaths = new String[] {};
+
+		// Determine Base Path to Use
+		if (localCustomBaseUrl != null) {
+			basePath = localCustomBaseUrl;
 		} else if (localBasePaths.length > 0) {
 			basePath = localBasePaths[localHostIndex];
 		} else {
@@ -16704,6 +19483,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all networks inside a project. (asynchronously) Get a list of all networks inside a
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List all networks of a project. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<NetworkListResponse> listNetworksFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listNetworksValidateBeforeCall(projectId, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NetworkListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listNics
 	 *
@@ -16932,6 +19747,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all network interfaces inside a network. (asynchronously) Get a list of all network
+	 * interfaces inside a network.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param networkId The identifier (ID) of a STACKIT Network. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List network interfaces of the network. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<NICListResponse> listNicsFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID networkId,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listNicsValidateBeforeCall(projectId, networkId, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NICListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listProjectNICs
 	 *
@@ -17142,6 +19995,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all network interfaces inside a project. (asynchronously) Get a list of all network
+	 * interfaces inside a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List network interfaces of the project. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<NICListResponse> listProjectNICsFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listProjectNICsValidateBeforeCall(projectId, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NICListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listPublicIPRanges
 	 *
@@ -17309,6 +20198,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all public IP ranges. (asynchronously) Get a list of all public IP ranges that STACKIT
+	 * uses.
+	 *
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List public IP ranges. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<PublicNetworkListResponse> listPublicIPRangesFuture() {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listPublicIPRangesValidateBeforeCall(null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<PublicNetworkListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listPublicIPs
 	 *
@@ -17516,6 +20437,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all public IPs inside a project. (asynchronously) Get a list of all public IPs inside a
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List project public IPs. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<PublicIpListResponse> listPublicIPsFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listPublicIPsValidateBeforeCall(projectId, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<PublicIpListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listQuotas
 	 *
@@ -17702,6 +20659,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List project quotas. (asynchronously) List quota limits and usage for project resources.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List quotas. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<QuotaListResponse> listQuotasFuture(
+			@javax.annotation.Nonnull UUID projectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listQuotasValidateBeforeCall(projectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<QuotaListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listSecurityGroupRules
 	 *
@@ -17914,6 +20904,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all rules for a security group. (asynchronously) Get a list of all rules inside a
+	 * security group.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param securityGroupId The identifier (ID) of a STACKIT Security Group. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List all rules of a security group. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<SecurityGroupRuleListResponse> listSecurityGroupRulesFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID securityGroupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listSecurityGroupRulesValidateBeforeCall(projectId, securityGroupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<SecurityGroupRuleListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listSecurityGroups
 	 *
@@ -18124,6 +21151,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all security groups inside a project. (asynchronously) Get a list of all security groups
+	 * inside a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List all security groups of a project. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<SecurityGroupListResponse> listSecurityGroupsFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listSecurityGroupsValidateBeforeCall(projectId, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<SecurityGroupListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listServerNics
 	 *
@@ -18332,6 +21395,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get all network interfaces. (asynchronously) Get all network interfaces attached to the
+	 * server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List network interfaces. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<NICListResponse> listServerNicsFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listServerNicsValidateBeforeCall(projectId, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NICListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listServerServiceAccounts
 	 *
@@ -18542,6 +21640,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all service accounts of the Server. (asynchronously) Get the list of the service
+	 * accounts of the server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List service accounts. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<ServiceAccountMailListResponse> listServerServiceAccountsFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listServerServiceAccountsValidateBeforeCall(projectId, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ServiceAccountMailListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listServers
 	 *
@@ -18763,6 +21896,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all servers inside a project. (asynchronously) Get a list of all servers inside a
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param details Show detailed information about server. (optional, default to false)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List all servers of a project. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<ServerListResponse> listServersFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nullable Boolean details,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listServersValidateBeforeCall(projectId, details, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ServerListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listSnapshots
 	 *
@@ -18970,6 +22141,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all snapshots inside a project. (asynchronously) Get a list of all snapshots inside a
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List project snapshots. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<SnapshotListResponse> listSnapshotsFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listSnapshotsValidateBeforeCall(projectId, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<SnapshotListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listVolumePerformanceClasses
 	 *
@@ -19180,6 +22387,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all volume performance classes available for a project. (asynchronously) Get a list of
+	 * all volume performance classes available inside a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List volume performance classes. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<VolumePerformanceClassListResponse> listVolumePerformanceClassesFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listVolumePerformanceClassesValidateBeforeCall(projectId, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VolumePerformanceClassListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listVolumes
 	 *
@@ -19387,6 +22631,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all volumes inside a project. (asynchronously) Get a list of all volumes inside a
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List project volumes. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<VolumeListResponse> listVolumesFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listVolumesValidateBeforeCall(projectId, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VolumeListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for partialUpdateNetwork
 	 *
@@ -19611,6 +22891,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update network settings. (asynchronously) Update the settings of a network inside a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param networkId The identifier (ID) of a STACKIT Network. (required)
+	 * @param partialUpdateNetworkPayload Request an update of a network. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> An update was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> partialUpdateNetworkFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID networkId,
+			@javax.annotation.Nonnull PartialUpdateNetworkPayload partialUpdateNetworkPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					partialUpdateNetworkValidateBeforeCall(
+							projectId, networkId, partialUpdateNetworkPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for partialUpdateNetworkArea
 	 *
@@ -19847,6 +23165,46 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update network area settings. (asynchronously) Update the settings of a network area in an
+	 * organization.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param partialUpdateNetworkAreaPayload Request to update an area. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Area has been updated. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<NetworkArea> partialUpdateNetworkAreaFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull PartialUpdateNetworkAreaPayload partialUpdateNetworkAreaPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					partialUpdateNetworkAreaValidateBeforeCall(
+							organizationId, areaId, partialUpdateNetworkAreaPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NetworkArea>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for rebootServer
 	 *
@@ -20031,8 +23389,49 @@ class DefaultApi {
 			@javax.annotation.Nullable String action)
 			throws ApiException {
 		okhttp3.Call localVarCall =
-				rebootServerValidateBeforeCall(projectId, serverId, action, null);
-		return localVarApiClient.execute(localVarCall);
+				rebootServerValidateBeforeCall(projectId, serverId, action, null);
+		return localVarApiClient.execute(localVarCall);
+	}
+
+	/**
+	 * Reboot the server. (asynchronously) Reboot the server. A soft reboot will attempt to
+	 * gracefully shut down the server by passing the command to the operating system. A hard reboot
+	 * will power cycle the server without waiting for the operating system to shutdown properly.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param action Defines if it is a soft or a hard reboot. (optional, default to soft)
+	 * @param _callback The callback to be executed when the API call finishes
+	 * @return The request call
+	 * @throws ApiException If fail to process the API call, e.g. serializing the request body
+	 *     object
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Server reboot request accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public okhttp3.Call rebootServerAsync(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nullable String action,
+			final ApiCallback<Void> _callback)
+			throws ApiException {
+
+		okhttp3.Call localVarCall =
+				rebootServerValidateBeforeCall(projectId, serverId, action, _callback);
+		localVarApiClient.executeAsync(localVarCall, _callback);
+		return localVarCall;
 	}
 
 	/**
@@ -20043,10 +23442,8 @@ class DefaultApi {
 	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
 	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
 	 * @param action Defines if it is a soft or a hard reboot. (optional, default to soft)
-	 * @param _callback The callback to be executed when the API call finishes
-	 * @return The request call
-	 * @throws ApiException If fail to process the API call, e.g. serializing the request body
-	 *     object
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
 	 * @http.response.details
 	 *     <table border="1">
 	 * <caption>Response Details</caption>
@@ -20063,17 +23460,17 @@ class DefaultApi {
 	 * @deprecated
 	 */
 	@Deprecated
-	public okhttp3.Call rebootServerAsync(
+	public CompletableFuture<Void> rebootServerFuture(
 			@javax.annotation.Nonnull UUID projectId,
 			@javax.annotation.Nonnull UUID serverId,
-			@javax.annotation.Nullable String action,
-			final ApiCallback<Void> _callback)
-			throws ApiException {
-
-		okhttp3.Call localVarCall =
-				rebootServerValidateBeforeCall(projectId, serverId, action, _callback);
-		localVarApiClient.executeAsync(localVarCall, _callback);
-		return localVarCall;
+			@javax.annotation.Nullable String action) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = rebootServerValidateBeforeCall(projectId, serverId, action, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
 	}
 
 	/**
@@ -20305,6 +23702,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Detach and delete all network interfaces associated with the specified network.
+	 * (asynchronously) Detach and delete all network interfaces associated with the specified
+	 * network from the server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param networkId The identifier (ID) of a STACKIT Network. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Detach and delete network interface was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> removeNetworkFromServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID networkId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					removeNetworkFromServerValidateBeforeCall(projectId, serverId, networkId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for removeNicFromServer
 	 *
@@ -20529,6 +23965,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Detach a network interface. (asynchronously) Detach a network interface from a server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param nicId The identifier (ID) of a network interface. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Network interface detachment request was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> removeNicFromServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID nicId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = removeNicFromServerValidateBeforeCall(projectId, serverId, nicId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for removePublicIpFromServer
 	 *
@@ -20759,6 +24231,46 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Dissociate a public IP from a server. (asynchronously) Dissociate a public IP on an existing
+	 * server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param publicIpId The identifier (ID) of a Public IP. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Detach Public IP from server was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The server or public IP was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> removePublicIpFromServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID publicIpId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					removePublicIpFromServerValidateBeforeCall(
+							projectId, serverId, publicIpId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for removeSecurityGroupFromServer
 	 *
@@ -20990,6 +24502,46 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Remove a server from a security group. (asynchronously) Remove a server from a attached
+	 * security group.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param securityGroupId The identifier (ID) of a STACKIT Security Group. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Security group detachment request was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> removeSecurityGroupFromServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID securityGroupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					removeSecurityGroupFromServerValidateBeforeCall(
+							projectId, serverId, securityGroupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for removeServiceAccountFromServer
 	 *
@@ -21227,6 +24779,47 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Detach a service account from a server. (asynchronously) Detach an additional service account
+	 * from the server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param serviceAccountMail The e-mail address of a service account. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Service account detached from the server. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<ServiceAccountMailListResponse> removeServiceAccountFromServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull String serviceAccountMail) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					removeServiceAccountFromServerValidateBeforeCall(
+							projectId, serverId, serviceAccountMail, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ServiceAccountMailListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for removeVolumeFromServer
 	 *
@@ -21456,6 +25049,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Detach a volume from a server. (asynchronously) Detach an existing volume from an existing
+	 * server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param volumeId The identifier (ID) of a STACKIT Volume. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Volume detachment request was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> removeVolumeFromServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID volumeId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					removeVolumeFromServerValidateBeforeCall(projectId, serverId, volumeId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for rescueServer
 	 *
@@ -21687,6 +25319,46 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Rescue an existing server. (asynchronously) Rescue an existing server. It is shutdown and the
+	 * initial image is attached as the boot volume, while the boot volume is attached as secondary
+	 * volume and the server is booted.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param rescueServerPayload Request a server rescue. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Server rescue request accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> rescueServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull RescueServerPayload rescueServerPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					rescueServerValidateBeforeCall(projectId, serverId, rescueServerPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for resizeServer
 	 *
@@ -21879,10 +25551,47 @@ class DefaultApi {
 	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
 	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
 	 * @param resizeServerPayload Request a resize of a server. (required)
-	 * @param _callback The callback to be executed when the API call finishes
-	 * @return The request call
-	 * @throws ApiException If fail to process the API call, e.g. serializing the request body
-	 *     object
+	 * @param _callback The callback to be executed when the API call finishes
+	 * @return The request call
+	 * @throws ApiException If fail to process the API call, e.g. serializing the request body
+	 *     object
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Server resize request is accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public okhttp3.Call resizeServerAsync(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull ResizeServerPayload resizeServerPayload,
+			final ApiCallback<Void> _callback)
+			throws ApiException {
+
+		okhttp3.Call localVarCall =
+				resizeServerValidateBeforeCall(projectId, serverId, resizeServerPayload, _callback);
+		localVarApiClient.executeAsync(localVarCall, _callback);
+		return localVarCall;
+	}
+
+	/**
+	 * Resize a server. (asynchronously) Resize the server to the given machine type.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param resizeServerPayload Request a resize of a server. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
 	 * @http.response.details
 	 *     <table border="1">
 	 * <caption>Response Details</caption>
@@ -21899,17 +25608,18 @@ class DefaultApi {
 	 * @deprecated
 	 */
 	@Deprecated
-	public okhttp3.Call resizeServerAsync(
+	public CompletableFuture<Void> resizeServerFuture(
 			@javax.annotation.Nonnull UUID projectId,
 			@javax.annotation.Nonnull UUID serverId,
-			@javax.annotation.Nonnull ResizeServerPayload resizeServerPayload,
-			final ApiCallback<Void> _callback)
-			throws ApiException {
-
-		okhttp3.Call localVarCall =
-				resizeServerValidateBeforeCall(projectId, serverId, resizeServerPayload, _callback);
-		localVarApiClient.executeAsync(localVarCall, _callback);
-		return localVarCall;
+			@javax.annotation.Nonnull ResizeServerPayload resizeServerPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					resizeServerValidateBeforeCall(projectId, serverId, resizeServerPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
 	}
 
 	/**
@@ -22134,6 +25844,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update the size of a volume. (asynchronously) Update the size of a block device volume. The
+	 * new volume size must be larger than the current size.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param volumeId The identifier (ID) of a STACKIT Volume. (required)
+	 * @param resizeVolumePayload Request a volume resize. (optional)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Volume resize request accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> resizeVolumeFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID volumeId,
+			@javax.annotation.Nullable ResizeVolumePayload resizeVolumePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					resizeVolumeValidateBeforeCall(projectId, volumeId, resizeVolumePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for restoreBackup
 	 *
@@ -22343,6 +26092,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Restore Backup to the referenced source Volume. (asynchronously) Restores a Backup to the
+	 * existing Volume it references to. The use of this endpoint is disruptive as the volume needs
+	 * to be detached. If a new volume is to be created use the volumes endpoint with the option to
+	 * create from backup.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param backupId The identifier (ID) of a STACKIT Backup. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Backup restore request has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> restoreBackupFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID backupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = restoreBackupValidateBeforeCall(projectId, backupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for setImageShare
 	 *
@@ -22571,6 +26356,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Set image share. (asynchronously) Set share of an Image. New Options will replace existing
+	 * settings.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param imageId The identifier (ID) of a STACKIT Image. (required)
+	 * @param setImageSharePayload Settings for an Image Share. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Setting Image share successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<ImageShare> setImageShareFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID imageId,
+			@javax.annotation.Nonnull SetImageSharePayload setImageSharePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					setImageShareValidateBeforeCall(projectId, imageId, setImageSharePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ImageShare>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for startServer
 	 *
@@ -22778,6 +26602,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Boot up a server. (asynchronously) Start an existing server or allocates the server if
+	 * deallocated.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Server start request accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> startServerFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = startServerValidateBeforeCall(projectId, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for stopServer
 	 *
@@ -22990,6 +26849,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Stop an existing server. (asynchronously) Stops an existing server. The server will remain on
+	 * the Hypervisor and will be charged full price for all resources attached to it. The attached
+	 * resources will remain reserved. Useful particularly for vGPU servers.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Server stop request accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> stopServerFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = stopServerValidateBeforeCall(projectId, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for unrescueServer
 	 *
@@ -23200,6 +27095,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Unrescue an existing server. (asynchronously) Unrescue an existing server. The original boot
+	 * volume is attached as boot volume of the server and the server is booted up.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Server unrescue request accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> unrescueServerFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = unrescueServerValidateBeforeCall(projectId, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for updateAttachedVolume
 	 *
@@ -23449,6 +27379,48 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update Volume Attachment Parameters. (asynchronously) Update the properties of an existing
+	 * Volume Attachment.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param volumeId The identifier (ID) of a STACKIT Volume. (required)
+	 * @param updateAttachedVolumePayload Request a volume attachment update. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Response to update call. Provide the updated volume attachment object. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<VolumeAttachment> updateAttachedVolumeFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID volumeId,
+			@javax.annotation.Nonnull UpdateAttachedVolumePayload updateAttachedVolumePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateAttachedVolumeValidateBeforeCall(
+							projectId, serverId, volumeId, updateAttachedVolumePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VolumeAttachment>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateBackup
 	 *
@@ -23675,6 +27647,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update information of a backup. (asynchronously) Update name or labels of the backup.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param backupId The identifier (ID) of a STACKIT Backup. (required)
+	 * @param updateBackupPayload Request an update of a backup. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Backup has been updated. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Backup> updateBackupFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID backupId,
+			@javax.annotation.Nonnull UpdateBackupPayload updateBackupPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateBackupValidateBeforeCall(projectId, backupId, updateBackupPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Backup>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateImage
 	 *
@@ -23898,8 +27908,47 @@ class DefaultApi {
 		okhttp3.Call localVarCall =
 				updateImageValidateBeforeCall(projectId, imageId, updateImagePayload, _callback);
 		Type localVarReturnType = new TypeToken<Image>() {}.getType();
-		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
-		return localVarCall;
+		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
+		return localVarCall;
+	}
+
+	/**
+	 * Update Image Parameters. (asynchronously) Update the properties of an existing Image inside a
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param imageId The identifier (ID) of a STACKIT Image. (required)
+	 * @param updateImagePayload Request an update of an Image. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Response to update call. Provide the updated image object. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Image> updateImageFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID imageId,
+			@javax.annotation.Nonnull UpdateImagePayload updateImagePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateImageValidateBeforeCall(projectId, imageId, updateImagePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Image>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
 	}
 
 	/**
@@ -24131,6 +28180,46 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update image share. (asynchronously) Update share of an Image. Projects will be appended to
+	 * existing list.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param imageId The identifier (ID) of a STACKIT Image. (required)
+	 * @param updateImageSharePayload Update an Image Share. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Updating Image share successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<ImageShare> updateImageShareFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID imageId,
+			@javax.annotation.Nonnull UpdateImageSharePayload updateImageSharePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateImageShareValidateBeforeCall(
+							projectId, imageId, updateImageSharePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ImageShare>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateKeyPair
 	 *
@@ -24339,6 +28428,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update information of an SSH keypair. (asynchronously) Update labels of the SSH keypair.
+	 *
+	 * @param keypairName The name of an SSH keypair. (required)
+	 * @param updateKeyPairPayload Request an update of an SSH keypair. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> SSH keypair has been updated. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Keypair> updateKeyPairFuture(
+			@javax.annotation.Nonnull String keypairName,
+			@javax.annotation.Nonnull UpdateKeyPairPayload updateKeyPairPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = updateKeyPairValidateBeforeCall(keypairName, updateKeyPairPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Keypair>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateNetworkAreaRoute
 	 *
@@ -24587,6 +28711,47 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update a network route. (asynchronously) Update a network route defined in a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param routeId The identifier (ID) of a STACKIT Route. (required)
+	 * @param updateNetworkAreaRoutePayload Request an update of a network route. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Update request for network successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Route> updateNetworkAreaRouteFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull UUID routeId,
+			@javax.annotation.Nonnull UpdateNetworkAreaRoutePayload updateNetworkAreaRoutePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateNetworkAreaRouteValidateBeforeCall(
+							organizationId, areaId, routeId, updateNetworkAreaRoutePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Route>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateNic
 	 *
@@ -24839,6 +29004,49 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update a network interface. (asynchronously) Update the properties of an existing network
+	 * interface inside a network.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param networkId The identifier (ID) of a STACKIT Network. (required)
+	 * @param nicId The identifier (ID) of a network interface. (required)
+	 * @param updateNicPayload Request an update of a network interface. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Network interface has been updated. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<NIC> updateNicFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID networkId,
+			@javax.annotation.Nonnull UUID nicId,
+			@javax.annotation.Nonnull UpdateNicPayload updateNicPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateNicValidateBeforeCall(
+							projectId, networkId, nicId, updateNicPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NIC>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updatePublicIP
 	 *
@@ -25068,6 +29276,46 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update a public IP. (asynchronously) Update the properties of an existing public IP inside a
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param publicIpId The identifier (ID) of a Public IP. (required)
+	 * @param updatePublicIPPayload Request an update of a public IP. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Public IP has been updated. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<PublicIp> updatePublicIPFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID publicIpId,
+			@javax.annotation.Nonnull UpdatePublicIPPayload updatePublicIPPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updatePublicIPValidateBeforeCall(
+							projectId, publicIpId, updatePublicIPPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<PublicIp>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateSecurityGroup
 	 *
@@ -25298,6 +29546,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update information of a security group. (asynchronously) Update labels of the security group.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param securityGroupId The identifier (ID) of a STACKIT Security Group. (required)
+	 * @param updateSecurityGroupPayload Request an update of a security group. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Updating security group successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<SecurityGroup> updateSecurityGroupFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID securityGroupId,
+			@javax.annotation.Nonnull UpdateSecurityGroupPayload updateSecurityGroupPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateSecurityGroupValidateBeforeCall(
+							projectId, securityGroupId, updateSecurityGroupPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<SecurityGroup>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateServer
 	 *
@@ -25524,6 +29811,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update information of a server. (asynchronously) Update name or labels of the server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param updateServerPayload Request an update of a server. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Server has been updated. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Server> updateServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UpdateServerPayload updateServerPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateServerValidateBeforeCall(projectId, serverId, updateServerPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Server>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateSnapshot
 	 *
@@ -25753,6 +30078,46 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update information of the snapshot. (asynchronously) Update information like name or labels
+	 * of the snapshot.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param snapshotId The identifier (ID) of a STACKIT Snapshot. (required)
+	 * @param updateSnapshotPayload Request an update of a snapshot. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Snapshot has been updated. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Snapshot> updateSnapshotFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID snapshotId,
+			@javax.annotation.Nonnull UpdateSnapshotPayload updateSnapshotPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateSnapshotValidateBeforeCall(
+							projectId, snapshotId, updateSnapshotPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Snapshot>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateVolume
 	 *
@@ -25979,4 +30344,43 @@ class DefaultApi {
 		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
 		return localVarCall;
 	}
+
+	/**
+	 * Update information of a volume. (asynchronously) Update name, description or labels of the
+	 * volume.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param volumeId The identifier (ID) of a STACKIT Volume. (required)
+	 * @param updateVolumePayload Request an update of a volume. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Volume has been updated. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Volume> updateVolumeFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID volumeId,
+			@javax.annotation.Nonnull UpdateVolumePayload updateVolumePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateVolumeValidateBeforeCall(projectId, volumeId, updateVolumePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Volume>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
 }
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -224,7 +225,8 @@ public class AffinityGroupListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<AffinityGroupListResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(AffinityGroupListResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(AffinityGroupListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<AffinityGroupListResponse>() {
@@ -303,6 +305,51 @@ public class AffinityGroupListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<AffinityGroupListResponse> {
+		private final TypeAdapter<List<AffinityGroup>> affinityGroupListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "AffinityGroupListResponse", SERIALIZED_NAME_ITEMS);
+			affinityGroupListAdapter = getAdapter(List.class, AffinityGroup.class);
+		}
+
+		@Override
+		protected AffinityGroupListResponse newInstance() {
+			return new AffinityGroupListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, AffinityGroupListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, affinityGroupListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, AffinityGroupListResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, affinityGroupListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(AffinityGroupListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				AffinityGroupListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of AffinityGroupListResponse given an JSON string
 	 *
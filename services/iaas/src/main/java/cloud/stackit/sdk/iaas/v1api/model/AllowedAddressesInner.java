@@ -41,7 +41,7 @@ public class AllowedAddressesInner extends AbstractOpenApiSchema {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<String> adapterString =
-					gson.getDelegateAdapter(this, TypeToken.get(String.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(String.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<AllowedAddressesInner>() {
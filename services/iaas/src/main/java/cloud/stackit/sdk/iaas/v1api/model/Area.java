@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -349,7 +350,7 @@ public class Area {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Area> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Area.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Area.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Area>() {
@@ -427,6 +428,73 @@ public class Area {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Area> {
+		private final TypeAdapter<List<String>> stringListAdapter;
+		private final TypeAdapter<List<NetworkRange>> networkRangeListAdapter;
+		private final TypeAdapter<List<Route>> routeListAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "Area");
+			stringListAdapter = getAdapter(List.class, String.class);
+			networkRangeListAdapter = getAdapter(List.class, NetworkRange.class);
+			routeListAdapter = getAdapter(List.class, Route.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected Area newInstance() {
+			return new Area();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Area instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DEFAULT_NAMESERVERS:
+					instance.defaultNameservers = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NETWORK_RANGES:
+					instance.networkRanges = readArray(in, name, networkRangeListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ROUTES:
+					instance.routes = readArray(in, name, routeListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_TRANSFER_NETWORK:
+					instance.transferNetwork = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Area value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_DEFAULT_NAMESERVERS,
+					value.defaultNameservers,
+					stringListAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_NETWORK_RANGES,
+					value.networkRanges,
+					networkRangeListAdapter);
+			writeField(out, SERIALIZED_NAME_ROUTES, value.routes, routeListAdapter);
+			writeField(out, SERIALIZED_NAME_TRANSFER_NETWORK, value.transferNetwork, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Area value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Area instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Area given an JSON string
 	 *
@@ -41,9 +41,9 @@ public class AreaId extends AbstractOpenApiSchema {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UUID> adapterUUID =
-					gson.getDelegateAdapter(this, TypeToken.get(UUID.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(UUID.class));
 			final TypeAdapter<StaticAreaID> adapterStaticAreaID =
-					gson.getDelegateAdapter(this, TypeToken.get(StaticAreaID.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(StaticAreaID.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<AreaId>() {
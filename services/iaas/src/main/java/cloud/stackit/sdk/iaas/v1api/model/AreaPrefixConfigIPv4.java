@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -237,7 +238,7 @@ public class AreaPrefixConfigIPv4 {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<AreaPrefixConfigIPv4> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(AreaPrefixConfigIPv4.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(AreaPrefixConfigIPv4.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<AreaPrefixConfigIPv4>() {
@@ -316,6 +317,61 @@ public class AreaPrefixConfigIPv4 {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<AreaPrefixConfigIPv4> {
+		private final TypeAdapter<Integer> integerAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "AreaPrefixConfigIPv4");
+			integerAdapter = gson.getAdapter(Integer.class);
+		}
+
+		@Override
+		protected AreaPrefixConfigIPv4 newInstance() {
+			return new AreaPrefixConfigIPv4();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, AreaPrefixConfigIPv4 instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DEFAULT_PREFIX_LEN:
+					instance.defaultPrefixLen = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MAX_PREFIX_LEN:
+					instance.maxPrefixLen = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MIN_PREFIX_LEN:
+					instance.minPrefixLen = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, AreaPrefixConfigIPv4 value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_DEFAULT_PREFIX_LEN,
+					value.defaultPrefixLen,
+					integerAdapter);
+			writeField(out, SERIALIZED_NAME_MAX_PREFIX_LEN, value.maxPrefixLen, integerAdapter);
+			writeField(out, SERIALIZED_NAME_MIN_PREFIX_LEN, value.minPrefixLen, integerAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(AreaPrefixConfigIPv4 value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				AreaPrefixConfigIPv4 instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of AreaPrefixConfigIPv4 given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -490,7 +491,7 @@ public class Backup {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Backup> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Backup.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Backup.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Backup>() {
@@ -568,6 +569,102 @@ public class Backup {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Backup> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<Long> longAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "Backup");
+			stringAdapter = gson.getAdapter(String.class);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			objectAdapter = gson.getAdapter(Object.class);
+			longAdapter = gson.getAdapter(Long.class);
+		}
+
+		@Override
+		protected Backup newInstance() {
+			return new Backup();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Backup instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_AVAILABILITY_ZONE:
+					instance.availabilityZone = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_CREATED_AT:
+					instance.createdAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DESCRIPTION:
+					instance.description = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ENCRYPTED:
+					instance.encrypted = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SIZE:
+					instance.size = readPrimitive(in, name, longAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SNAPSHOT_ID:
+					instance.snapshotId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_STATUS:
+					instance.status = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_UPDATED_AT:
+					instance.updatedAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_VOLUME_ID:
+					instance.volumeId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Backup value) throws IOException {
+			writeField(
+					out, SERIALIZED_NAME_AVAILABILITY_ZONE, value.availabilityZone, stringAdapter);
+			writeField(out, SERIALIZED_NAME_CREATED_AT, value.createdAt, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_DESCRIPTION, value.description, stringAdapter);
+			writeField(out, SERIALIZED_NAME_ENCRYPTED, value.encrypted, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_ID, value.id, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_SIZE, value.size, longAdapter);
+			writeField(out, SERIALIZED_NAME_SNAPSHOT_ID, value.snapshotId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_STATUS, value.status, stringAdapter);
+			writeField(out, SERIALIZED_NAME_UPDATED_AT, value.updatedAt, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_VOLUME_ID, value.volumeId, uuidAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Backup value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Backup instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Backup given an JSON string
 	 *
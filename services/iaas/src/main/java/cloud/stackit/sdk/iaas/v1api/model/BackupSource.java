@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -239,7 +240,7 @@ public class BackupSource {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<BackupSource> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(BackupSource.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(BackupSource.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<BackupSource>() {
@@ -317,6 +318,55 @@ public class BackupSource {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<BackupSource> {
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "BackupSource", SERIALIZED_NAME_ID, SERIALIZED_NAME_TYPE);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected BackupSource newInstance() {
+			return new BackupSource();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, BackupSource instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, uuidAdapter);
+					return requiredField(0, instance.id);
+				case SERIALIZED_NAME_TYPE:
+					instance.type = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.type);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, BackupSource value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ID, value.id, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_TYPE, value.type, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(BackupSource value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				BackupSource instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of BackupSource given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -304,7 +305,8 @@ public class CreateAffinityGroupPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateAffinityGroupPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateAffinityGroupPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateAffinityGroupPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateAffinityGroupPayload>() {
@@ -383,6 +385,67 @@ public class CreateAffinityGroupPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateAffinityGroupPayload> {
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<List<UUID>> uuidListAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateAffinityGroupPayload", SERIALIZED_NAME_NAME, SERIALIZED_NAME_POLICY);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			uuidListAdapter = getAdapter(List.class, UUID.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected CreateAffinityGroupPayload newInstance() {
+			return new CreateAffinityGroupPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateAffinityGroupPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MEMBERS:
+					instance.members = readArray(in, name, uuidListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.name);
+				case SERIALIZED_NAME_POLICY:
+					instance.policy = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.policy);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateAffinityGroupPayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ID, value.id, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_MEMBERS, value.members, uuidListAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_POLICY, value.policy, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateAffinityGroupPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateAffinityGroupPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateAffinityGroupPayload given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -189,7 +190,8 @@ public class CreateAreaAddressFamily {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateAreaAddressFamily> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateAreaAddressFamily.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateAreaAddressFamily.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateAreaAddressFamily>() {
@@ -268,6 +270,51 @@ public class CreateAreaAddressFamily {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateAreaAddressFamily> {
+		private final TypeAdapter<CreateAreaIPv4> createAreaIPv4Adapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateAreaAddressFamily");
+			createAreaIPv4Adapter = gson.getAdapter(CreateAreaIPv4.class);
+		}
+
+		@Override
+		protected CreateAreaAddressFamily newInstance() {
+			return new CreateAreaAddressFamily();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateAreaAddressFamily instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_IPV4:
+					instance.ipv4 = readValue(in, createAreaIPv4Adapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateAreaAddressFamily value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_IPV4, value.ipv4, createAreaIPv4Adapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateAreaAddressFamily value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateAreaAddressFamily instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateAreaAddressFamily given an JSON string
 	 *
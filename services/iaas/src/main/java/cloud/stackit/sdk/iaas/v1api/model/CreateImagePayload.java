@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -647,7 +648,7 @@ public class CreateImagePayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateImagePayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateImagePayload.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(CreateImagePayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateImagePayload>() {
@@ -726,6 +727,129 @@ public class CreateImagePayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<CreateImagePayload> {
+		private final TypeAdapter<ImageAgent> imageAgentAdapter;
+		private final TypeAdapter<ImageChecksum> imageChecksumAdapter;
+		private final TypeAdapter<ImageConfig> imageConfigAdapter;
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<Long> longAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateImagePayload", SERIALIZED_NAME_DISK_FORMAT, SERIALIZED_NAME_NAME);
+			imageAgentAdapter = gson.getAdapter(ImageAgent.class);
+			imageChecksumAdapter = gson.getAdapter(ImageChecksum.class);
+			imageConfigAdapter = gson.getAdapter(ImageConfig.class);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+			stringAdapter = gson.getAdapter(String.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			longAdapter = gson.getAdapter(Long.class);
+			objectAdapter = gson.getAdapter(Object.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+		}
+
+		@Override
+		protected CreateImagePayload newInstance() {
+			return new CreateImagePayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateImagePayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_AGENT:
+					instance.agent = readValue(in, imageAgentAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_CHECKSUM:
+					instance.checksum = readValue(in, imageChecksumAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_CONFIG:
+					instance.config = readValue(in, imageConfigAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_CREATED_AT:
+					instance.createdAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DISK_FORMAT:
+					instance.diskFormat = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.diskFormat);
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IMPORT_PROGRESS:
+					instance.importProgress = readPrimitive(in, name, longAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MIN_DISK_SIZE:
+					instance.minDiskSize = readPrimitive(in, name, longAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MIN_RAM:
+					instance.minRam = readPrimitive(in, name, longAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.name);
+				case SERIALIZED_NAME_OWNER:
+					instance.owner = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PROTECTED:
+					instance._protected = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SCOPE:
+					instance.scope = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SIZE:
+					instance.size = readPrimitive(in, name, longAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_STATUS:
+					instance.status = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_UPDATED_AT:
+					instance.updatedAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateImagePayload value) throws IOException {
+			writeField(out, SERIALIZED_NAME_AGENT, value.agent, imageAgentAdapter);
+			writeField(out, SERIALIZED_NAME_CHECKSUM, value.checksum, imageChecksumAdapter);
+			writeField(out, SERIALIZED_NAME_CONFIG, value.config, imageConfigAdapter);
+			writeField(out, SERIALIZED_NAME_CREATED_AT, value.createdAt, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_DISK_FORMAT, value.diskFormat, stringAdapter);
+			writeField(out, SERIALIZED_NAME_ID, value.id, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_IMPORT_PROGRESS, value.importProgress, longAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_MIN_DISK_SIZE, value.minDiskSize, longAdapter);
+			writeField(out, SERIALIZED_NAME_MIN_RAM, value.minRam, longAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_OWNER, value.owner, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_PROTECTED, value._protected, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_SCOPE, value.scope, stringAdapter);
+			writeField(out, SERIALIZED_NAME_SIZE, value.size, longAdapter);
+			writeField(out, SERIALIZED_NAME_STATUS, value.status, stringAdapter);
+			writeField(out, SERIALIZED_NAME_UPDATED_AT, value.updatedAt, offsetDateTimeAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateImagePayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateImagePayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateImagePayload given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -342,7 +343,7 @@ public class CreateKeyPairPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateKeyPairPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateKeyPairPayload.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(CreateKeyPairPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateKeyPairPayload>() {
@@ -421,6 +422,73 @@ public class CreateKeyPairPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<CreateKeyPairPayload> {
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateKeyPairPayload", SERIALIZED_NAME_PUBLIC_KEY);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+			stringAdapter = gson.getAdapter(String.class);
+			objectAdapter = gson.getAdapter(Object.class);
+		}
+
+		@Override
+		protected CreateKeyPairPayload newInstance() {
+			return new CreateKeyPairPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateKeyPairPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CREATED_AT:
+					instance.createdAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_FINGERPRINT:
+					instance.fingerprint = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PUBLIC_KEY:
+					instance.publicKey = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.publicKey);
+				case SERIALIZED_NAME_UPDATED_AT:
+					instance.updatedAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateKeyPairPayload value) throws IOException {
+			writeField(out, SERIALIZED_NAME_CREATED_AT, value.createdAt, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_FINGERPRINT, value.fingerprint, stringAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PUBLIC_KEY, value.publicKey, stringAdapter);
+			writeField(out, SERIALIZED_NAME_UPDATED_AT, value.updatedAt, offsetDateTimeAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateKeyPairPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateKeyPairPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateKeyPairPayload given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -218,7 +219,8 @@ public class CreateNetworkAddressFamily {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateNetworkAddressFamily> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateNetworkAddressFamily.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateNetworkAddressFamily.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateNetworkAddressFamily>() {
@@ -297,6 +299,57 @@ public class CreateNetworkAddressFamily {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateNetworkAddressFamily> {
+		private final TypeAdapter<CreateNetworkIPv4Body> createNetworkIPv4BodyAdapter;
+		private final TypeAdapter<CreateNetworkIPv6Body> createNetworkIPv6BodyAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateNetworkAddressFamily");
+			createNetworkIPv4BodyAdapter = gson.getAdapter(CreateNetworkIPv4Body.class);
+			createNetworkIPv6BodyAdapter = gson.getAdapter(CreateNetworkIPv6Body.class);
+		}
+
+		@Override
+		protected CreateNetworkAddressFamily newInstance() {
+			return new CreateNetworkAddressFamily();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateNetworkAddressFamily instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_IPV4:
+					instance.ipv4 = readValue(in, createNetworkIPv4BodyAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IPV6:
+					instance.ipv6 = readValue(in, createNetworkIPv6BodyAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateNetworkAddressFamily value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_IPV4, value.ipv4, createNetworkIPv4BodyAdapter);
+			writeField(out, SERIALIZED_NAME_IPV6, value.ipv6, createNetworkIPv6BodyAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateNetworkAddressFamily value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateNetworkAddressFamily instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateNetworkAddressFamily given an JSON string
 	 *
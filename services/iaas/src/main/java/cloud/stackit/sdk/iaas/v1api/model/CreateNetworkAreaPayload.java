@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -265,7 +266,8 @@ public class CreateNetworkAreaPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateNetworkAreaPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateNetworkAreaPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateNetworkAreaPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateNetworkAreaPayload>() {
@@ -344,6 +346,71 @@ public class CreateNetworkAreaPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateNetworkAreaPayload> {
+		private final TypeAdapter<CreateAreaAddressFamily> createAreaAddressFamilyAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"CreateNetworkAreaPayload",
+					SERIALIZED_NAME_ADDRESS_FAMILY,
+					SERIALIZED_NAME_NAME);
+			createAreaAddressFamilyAdapter = gson.getAdapter(CreateAreaAddressFamily.class);
+			objectAdapter = gson.getAdapter(Object.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected CreateNetworkAreaPayload newInstance() {
+			return new CreateNetworkAreaPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateNetworkAreaPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ADDRESS_FAMILY:
+					instance.addressFamily = readValue(in, createAreaAddressFamilyAdapter);
+					return requiredField(0, instance.addressFamily);
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.name);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateNetworkAreaPayload value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_ADDRESS_FAMILY,
+					value.addressFamily,
+					createAreaAddressFamilyAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateNetworkAreaPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateNetworkAreaPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateNetworkAreaPayload given an JSON string
 	 *
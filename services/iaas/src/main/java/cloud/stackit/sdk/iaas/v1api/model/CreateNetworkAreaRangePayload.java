@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -217,8 +218,8 @@ public class CreateNetworkAreaRangePayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateNetworkAreaRangePayload> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(CreateNetworkAreaRangePayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateNetworkAreaRangePayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateNetworkAreaRangePayload>() {
@@ -299,6 +300,51 @@ public class CreateNetworkAreaRangePayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateNetworkAreaRangePayload> {
+		private final TypeAdapter<List<NetworkRange>> networkRangeListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateNetworkAreaRangePayload");
+			networkRangeListAdapter = getAdapter(List.class, NetworkRange.class);
+		}
+
+		@Override
+		protected CreateNetworkAreaRangePayload newInstance() {
+			return new CreateNetworkAreaRangePayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateNetworkAreaRangePayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_IPV4:
+					instance.ipv4 = readArray(in, name, networkRangeListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateNetworkAreaRangePayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_IPV4, value.ipv4, networkRangeListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateNetworkAreaRangePayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateNetworkAreaRangePayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateNetworkAreaRangePayload given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -217,8 +218,8 @@ public class CreateNetworkAreaRoutePayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateNetworkAreaRoutePayload> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(CreateNetworkAreaRoutePayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateNetworkAreaRoutePayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateNetworkAreaRoutePayload>() {
@@ -299,6 +300,51 @@ public class CreateNetworkAreaRoutePayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateNetworkAreaRoutePayload> {
+		private final TypeAdapter<List<Route>> routeListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateNetworkAreaRoutePayload");
+			routeListAdapter = getAdapter(List.class, Route.class);
+		}
+
+		@Override
+		protected CreateNetworkAreaRoutePayload newInstance() {
+			return new CreateNetworkAreaRoutePayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateNetworkAreaRoutePayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_IPV4:
+					instance.ipv4 = readArray(in, name, routeListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateNetworkAreaRoutePayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_IPV4, value.ipv4, routeListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateNetworkAreaRoutePayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateNetworkAreaRoutePayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateNetworkAreaRoutePayload given an JSON string
 	 *
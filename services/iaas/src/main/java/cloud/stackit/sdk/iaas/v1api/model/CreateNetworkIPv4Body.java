@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -314,7 +315,7 @@ public class CreateNetworkIPv4Body {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateNetworkIPv4Body> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateNetworkIPv4Body.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(CreateNetworkIPv4Body.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateNetworkIPv4Body>() {
@@ -393,6 +394,66 @@ public class CreateNetworkIPv4Body {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateNetworkIPv4Body> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<List<String>> stringListAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateNetworkIPv4Body");
+			stringAdapter = gson.getAdapter(String.class);
+			stringListAdapter = getAdapter(List.class, String.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+		}
+
+		@Override
+		protected CreateNetworkIPv4Body newInstance() {
+			return new CreateNetworkIPv4Body();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateNetworkIPv4Body instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_GATEWAY:
+					instance.gateway = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAMESERVERS:
+					instance.nameservers = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PREFIX:
+					instance.prefix = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PREFIX_LENGTH:
+					instance.prefixLength = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateNetworkIPv4Body value) throws IOException {
+			writeField(out, SERIALIZED_NAME_GATEWAY, value.gateway, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NAMESERVERS, value.nameservers, stringListAdapter);
+			writeField(out, SERIALIZED_NAME_PREFIX, value.prefix, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PREFIX_LENGTH, value.prefixLength, integerAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateNetworkIPv4Body value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateNetworkIPv4Body instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateNetworkIPv4Body given an JSON string
 	 *
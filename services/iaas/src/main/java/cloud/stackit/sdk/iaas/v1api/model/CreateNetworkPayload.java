@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -317,7 +318,7 @@ public class CreateNetworkPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateNetworkPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateNetworkPayload.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(CreateNetworkPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateNetworkPayload>() {
@@ -396,6 +397,75 @@ public class CreateNetworkPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<CreateNetworkPayload> {
+		private final TypeAdapter<CreateNetworkAddressFamily> createNetworkAddressFamilyAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateNetworkPayload", SERIALIZED_NAME_NAME);
+			createNetworkAddressFamilyAdapter = gson.getAdapter(CreateNetworkAddressFamily.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			objectAdapter = gson.getAdapter(Object.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected CreateNetworkPayload newInstance() {
+			return new CreateNetworkPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateNetworkPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ADDRESS_FAMILY:
+					instance.addressFamily = readValue(in, createNetworkAddressFamilyAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DHCP:
+					instance.dhcp = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.name);
+				case SERIALIZED_NAME_ROUTED:
+					instance.routed = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateNetworkPayload value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_ADDRESS_FAMILY,
+					value.addressFamily,
+					createNetworkAddressFamilyAdapter);
+			writeField(out, SERIALIZED_NAME_DHCP, value.dhcp, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_ROUTED, value.routed, booleanAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateNetworkPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateNetworkPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateNetworkPayload given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -296,7 +297,7 @@ public class CreatePublicIPPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreatePublicIPPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreatePublicIPPayload.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(CreatePublicIPPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreatePublicIPPayload>() {
@@ -375,6 +376,66 @@ public class CreatePublicIPPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreatePublicIPPayload> {
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreatePublicIPPayload");
+			uuidAdapter = gson.getAdapter(UUID.class);
+			stringAdapter = gson.getAdapter(String.class);
+			objectAdapter = gson.getAdapter(Object.class);
+		}
+
+		@Override
+		protected CreatePublicIPPayload newInstance() {
+			return new CreatePublicIPPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreatePublicIPPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IP:
+					instance.ip = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NETWORK_INTERFACE:
+					instance.networkInterface = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreatePublicIPPayload value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ID, value.id, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_IP, value.ip, stringAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_NETWORK_INTERFACE, value.networkInterface, uuidAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreatePublicIPPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreatePublicIPPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreatePublicIPPayload given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -419,7 +420,8 @@ public class CreateSecurityGroupPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateSecurityGroupPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateSecurityGroupPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateSecurityGroupPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateSecurityGroupPayload>() {
@@ -498,6 +500,89 @@ public class CreateSecurityGroupPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateSecurityGroupPayload> {
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<List<SecurityGroupRule>> securityGroupRuleListAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateSecurityGroupPayload", SERIALIZED_NAME_NAME);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+			stringAdapter = gson.getAdapter(String.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			objectAdapter = gson.getAdapter(Object.class);
+			securityGroupRuleListAdapter = getAdapter(List.class, SecurityGroupRule.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+		}
+
+		@Override
+		protected CreateSecurityGroupPayload newInstance() {
+			return new CreateSecurityGroupPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateSecurityGroupPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CREATED_AT:
+					instance.createdAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DESCRIPTION:
+					instance.description = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.name);
+				case SERIALIZED_NAME_RULES:
+					instance.rules = readArray(in, name, securityGroupRuleListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_STATEFUL:
+					instance.stateful = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_UPDATED_AT:
+					instance.updatedAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateSecurityGroupPayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_CREATED_AT, value.createdAt, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_DESCRIPTION, value.description, stringAdapter);
+			writeField(out, SERIALIZED_NAME_ID, value.id, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_RULES, value.rules, securityGroupRuleListAdapter);
+			writeField(out, SERIALIZED_NAME_STATEFUL, value.stateful, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_UPDATED_AT, value.updatedAt, offsetDateTimeAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateSecurityGroupPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateSecurityGroupPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateSecurityGroupPayload given an JSON string
 	 *
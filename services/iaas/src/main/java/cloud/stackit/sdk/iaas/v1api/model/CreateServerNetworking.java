@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -156,7 +157,8 @@ public class CreateServerNetworking {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateServerNetworking> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateServerNetworking.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateServerNetworking.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateServerNetworking>() {
@@ -177,6 +179,40 @@ public class CreateServerNetworking {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateServerNetworking> {
+		private final TypeAdapter<UUID> uuidAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateServerNetworking");
+			uuidAdapter = gson.getAdapter(UUID.class);
+		}
+
+		@Override
+		protected CreateServerNetworking newInstance() {
+			return new CreateServerNetworking();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateServerNetworking instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_NETWORK_ID:
+					instance.networkId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateServerNetworking value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_NETWORK_ID, value.networkId, uuidAdapter);
+		}
+	}
+
 	/**
 	 * Create an instance of CreateServerNetworking given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -231,7 +232,7 @@ public class Error {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Error> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Error.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Error.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Error>() {
@@ -309,6 +310,53 @@ public class Error {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Error> {
+		private final TypeAdapter<Long> longAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "Error", SERIALIZED_NAME_CODE, SERIALIZED_NAME_MSG);
+			longAdapter = gson.getAdapter(Long.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected Error newInstance() {
+			return new Error();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Error instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CODE:
+					instance.code = readPrimitive(in, name, longAdapter);
+					return requiredField(0);
+				case SERIALIZED_NAME_MSG:
+					instance.msg = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.msg);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Error value) throws IOException {
+			writeField(out, SERIALIZED_NAME_CODE, value.code, longAdapter);
+			writeField(out, SERIALIZED_NAME_MSG, value.msg, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Error value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Error instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Error given an JSON string
 	 *
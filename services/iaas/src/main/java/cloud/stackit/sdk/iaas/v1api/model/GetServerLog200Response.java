@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -193,7 +194,8 @@ public class GetServerLog200Response {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GetServerLog200Response> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(GetServerLog200Response.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(GetServerLog200Response.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GetServerLog200Response>() {
@@ -272,6 +274,51 @@ public class GetServerLog200Response {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<GetServerLog200Response> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "GetServerLog200Response");
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected GetServerLog200Response newInstance() {
+			return new GetServerLog200Response();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, GetServerLog200Response instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_OUTPUT:
+					instance.output = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GetServerLog200Response value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_OUTPUT, value.output, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(GetServerLog200Response value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GetServerLog200Response instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GetServerLog200Response given an JSON string
 	 *
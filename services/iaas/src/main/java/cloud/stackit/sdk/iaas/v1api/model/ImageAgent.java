@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -211,7 +212,7 @@ public class ImageAgent {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ImageAgent> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ImageAgent.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ImageAgent.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ImageAgent>() {
@@ -289,6 +290,56 @@ public class ImageAgent {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ImageAgent> {
+		private final TypeAdapter<Boolean> booleanAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ImageAgent");
+			booleanAdapter = gson.getAdapter(Boolean.class);
+		}
+
+		@Override
+		protected ImageAgent newInstance() {
+			return new ImageAgent();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ImageAgent instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_PROVISION_BY_DEFAULT:
+					instance.provisionByDefault = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SUPPORTED:
+					instance.supported = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ImageAgent value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_PROVISION_BY_DEFAULT,
+					value.provisionByDefault,
+					booleanAdapter);
+			writeField(out, SERIALIZED_NAME_SUPPORTED, value.supported, booleanAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ImageAgent value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(ImageAgent instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ImageAgent given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -239,7 +240,7 @@ public class ImageChecksum {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ImageChecksum> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ImageChecksum.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ImageChecksum.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ImageChecksum>() {
@@ -317,6 +318,53 @@ public class ImageChecksum {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ImageChecksum> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ImageChecksum", SERIALIZED_NAME_ALGORITHM, SERIALIZED_NAME_DIGEST);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected ImageChecksum newInstance() {
+			return new ImageChecksum();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ImageChecksum instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ALGORITHM:
+					instance.algorithm = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.algorithm);
+				case SERIALIZED_NAME_DIGEST:
+					instance.digest = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.digest);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ImageChecksum value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ALGORITHM, value.algorithm, stringAdapter);
+			writeField(out, SERIALIZED_NAME_DIGEST, value.digest, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ImageChecksum value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ImageChecksum instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ImageChecksum given an JSON string
 	 *
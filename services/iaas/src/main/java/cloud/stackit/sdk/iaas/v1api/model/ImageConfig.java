@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -654,7 +655,7 @@ public class ImageConfig {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ImageConfig> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ImageConfig.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ImageConfig.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ImageConfig>() {
@@ -732,6 +733,110 @@ public class ImageConfig {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ImageConfig> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ImageConfig");
+			stringAdapter = gson.getAdapter(String.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+		}
+
+		@Override
+		protected ImageConfig newInstance() {
+			return new ImageConfig();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ImageConfig instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ARCHITECTURE:
+					instance.architecture = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_BOOT_MENU:
+					instance.bootMenu = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_CDROM_BUS:
+					instance.cdromBus = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DISK_BUS:
+					instance.diskBus = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NIC_MODEL:
+					instance.nicModel = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_OPERATING_SYSTEM:
+					instance.operatingSystem = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_OPERATING_SYSTEM_DISTRO:
+					instance.operatingSystemDistro = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_OPERATING_SYSTEM_VERSION:
+					instance.operatingSystemVersion = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_RESCUE_BUS:
+					instance.rescueBus = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_RESCUE_DEVICE:
+					instance.rescueDevice = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SECURE_BOOT:
+					instance.secureBoot = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_UEFI:
+					instance.uefi = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_VIDEO_MODEL:
+					instance.videoModel = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_VIRTIO_SCSI:
+					instance.virtioScsi = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ImageConfig value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ARCHITECTURE, value.architecture, stringAdapter);
+			writeField(out, SERIALIZED_NAME_BOOT_MENU, value.bootMenu, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_CDROM_BUS, value.cdromBus, stringAdapter);
+			writeField(out, SERIALIZED_NAME_DISK_BUS, value.diskBus, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NIC_MODEL, value.nicModel, stringAdapter);
+			writeField(out, SERIALIZED_NAME_OPERATING_SYSTEM, value.operatingSystem, stringAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_OPERATING_SYSTEM_DISTRO,
+					value.operatingSystemDistro,
+					stringAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_OPERATING_SYSTEM_VERSION,
+					value.operatingSystemVersion,
+					stringAdapter);
+			writeField(out, SERIALIZED_NAME_RESCUE_BUS, value.rescueBus, stringAdapter);
+			writeField(out, SERIALIZED_NAME_RESCUE_DEVICE, value.rescueDevice, stringAdapter);
+			writeField(out, SERIALIZED_NAME_SECURE_BOOT, value.secureBoot, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_UEFI, value.uefi, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_VIDEO_MODEL, value.videoModel, stringAdapter);
+			writeField(out, SERIALIZED_NAME_VIRTIO_SCSI, value.virtioScsi, booleanAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ImageConfig value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(ImageConfig instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ImageConfig given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -241,7 +242,7 @@ public class ImageCreateResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ImageCreateResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ImageCreateResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ImageCreateResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ImageCreateResponse>() {
@@ -320,6 +321,55 @@ public class ImageCreateResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ImageCreateResponse> {
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<URI> uriAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ImageCreateResponse", SERIALIZED_NAME_ID, SERIALIZED_NAME_UPLOAD_URL);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			uriAdapter = gson.getAdapter(URI.class);
+		}
+
+		@Override
+		protected ImageCreateResponse newInstance() {
+			return new ImageCreateResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ImageCreateResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, uuidAdapter);
+					return requiredField(0, instance.id);
+				case SERIALIZED_NAME_UPLOAD_URL:
+					instance.uploadUrl = readPrimitive(in, name, uriAdapter);
+					return requiredField(1, instance.uploadUrl);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ImageCreateResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ID, value.id, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_UPLOAD_URL, value.uploadUrl, uriAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ImageCreateResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ImageCreateResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ImageCreateResponse given an JSON string
 	 *
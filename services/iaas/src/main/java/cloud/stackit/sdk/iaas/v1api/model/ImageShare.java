@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -232,7 +233,7 @@ public class ImageShare {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ImageShare> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ImageShare.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ImageShare.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ImageShare>() {
@@ -310,6 +311,58 @@ public class ImageShare {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ImageShare> {
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<List<UUID>> uuidListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ImageShare");
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			uuidListAdapter = getAdapter(List.class, UUID.class);
+		}
+
+		@Override
+		protected ImageShare newInstance() {
+			return new ImageShare();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ImageShare instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_PARENT_ORGANIZATION:
+					instance.parentOrganization = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PROJECTS:
+					instance.projects = readArray(in, name, uuidListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ImageShare value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_PARENT_ORGANIZATION,
+					value.parentOrganization,
+					booleanAdapter);
+			writeField(out, SERIALIZED_NAME_PROJECTS, value.projects, uuidListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ImageShare value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(ImageShare instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ImageShare given an JSON string
 	 *
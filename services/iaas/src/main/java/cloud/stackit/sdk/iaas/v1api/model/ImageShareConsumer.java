@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -258,7 +259,7 @@ public class ImageShareConsumer {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ImageShareConsumer> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ImageShareConsumer.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ImageShareConsumer.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ImageShareConsumer>() {
@@ -337,6 +338,64 @@ public class ImageShareConsumer {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ImageShareConsumer> {
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ImageShareConsumer");
+			uuidAdapter = gson.getAdapter(UUID.class);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+		}
+
+		@Override
+		protected ImageShareConsumer newInstance() {
+			return new ImageShareConsumer();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ImageShareConsumer instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CONSUMER_PROJECT_ID:
+					instance.consumerProjectId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_CREATED_AT:
+					instance.createdAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IMAGE_ID:
+					instance.imageId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_UPDATED_AT:
+					instance.updatedAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ImageShareConsumer value) throws IOException {
+			writeField(
+					out, SERIALIZED_NAME_CONSUMER_PROJECT_ID, value.consumerProjectId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_CREATED_AT, value.createdAt, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_IMAGE_ID, value.imageId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_UPDATED_AT, value.updatedAt, offsetDateTimeAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ImageShareConsumer value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ImageShareConsumer instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ImageShareConsumer given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -631,7 +632,7 @@ public class NIC {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<NIC> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(NIC.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(NIC.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<NIC>() {
@@ -709,6 +710,114 @@ public class NIC {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<NIC> {
+		private final TypeAdapter<List<AllowedAddressesInner>> allowedAddressesInnerListAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<List<UUID>> uuidListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "NIC");
+			allowedAddressesInnerListAdapter = getAdapter(List.class, AllowedAddressesInner.class);
+			stringAdapter = gson.getAdapter(String.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			objectAdapter = gson.getAdapter(Object.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			uuidListAdapter = getAdapter(List.class, UUID.class);
+		}
+
+		@Override
+		protected NIC newInstance() {
+			return new NIC();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, NIC instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ALLOWED_ADDRESSES:
+					instance.allowedAddresses =
+							readArray(in, name, allowedAddressesInnerListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DESCRIPTION:
+					instance.description = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DEVICE:
+					instance.device = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IPV4:
+					instance.ipv4 = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IPV6:
+					instance.ipv6 = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MAC:
+					instance.mac = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NETWORK_ID:
+					instance.networkId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NIC_SECURITY:
+					instance.nicSecurity = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SECURITY_GROUPS:
+					instance.securityGroups = readArray(in, name, uuidListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_STATUS:
+					instance.status = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_TYPE:
+					instance.type = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, NIC value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_ALLOWED_ADDRESSES,
+					value.allowedAddresses,
+					allowedAddressesInnerListAdapter);
+			writeField(out, SERIALIZED_NAME_DESCRIPTION, value.description, stringAdapter);
+			writeField(out, SERIALIZED_NAME_DEVICE, value.device, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_ID, value.id, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_IPV4, value.ipv4, stringAdapter);
+			writeField(out, SERIALIZED_NAME_IPV6, value.ipv6, stringAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_MAC, value.mac, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NETWORK_ID, value.networkId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_NIC_SECURITY, value.nicSecurity, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_SECURITY_GROUPS, value.securityGroups, uuidListAdapter);
+			writeField(out, SERIALIZED_NAME_STATUS, value.status, stringAdapter);
+			writeField(out, SERIALIZED_NAME_TYPE, value.type, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(NIC value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(NIC instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of NIC given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -222,7 +223,7 @@ public class NICListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<NICListResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(NICListResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(NICListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<NICListResponse>() {
@@ -301,6 +302,49 @@ public class NICListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<NICListResponse> {
+		private final TypeAdapter<List<NIC>> nicListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "NICListResponse", SERIALIZED_NAME_ITEMS);
+			nicListAdapter = getAdapter(List.class, NIC.class);
+		}
+
+		@Override
+		protected NICListResponse newInstance() {
+			return new NICListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, NICListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, nicListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, NICListResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, nicListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(NICListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				NICListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of NICListResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -717,7 +718,7 @@ public class Network {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Network> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Network.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Network.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Network>() {
@@ -795,6 +796,118 @@ public class Network {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Network> {
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<List<String>> stringListAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"Network",
+					SERIALIZED_NAME_NAME,
+					SERIALIZED_NAME_NETWORK_ID,
+					SERIALIZED_NAME_STATE);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			stringAdapter = gson.getAdapter(String.class);
+			objectAdapter = gson.getAdapter(Object.class);
+			stringListAdapter = getAdapter(List.class, String.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+		}
+
+		@Override
+		protected Network newInstance() {
+			return new Network();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Network instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CREATED_AT:
+					instance.createdAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DHCP:
+					instance.dhcp = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_GATEWAY:
+					instance.gateway = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_GATEWAYV6:
+					instance.gatewayv6 = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.name);
+				case SERIALIZED_NAME_NAMESERVERS:
+					instance.nameservers = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAMESERVERS_V6:
+					instance.nameserversV6 = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NETWORK_ID:
+					instance.networkId = readPrimitive(in, name, uuidAdapter);
+					return requiredField(1, instance.networkId);
+				case SERIALIZED_NAME_PREFIXES:
+					instance.prefixes = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PREFIXES_V6:
+					instance.prefixesV6 = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PUBLIC_IP:
+					instance.publicIp = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ROUTED:
+					instance.routed = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_STATE:
+					instance.state = readPrimitive(in, name, stringAdapter);
+					return requiredField(2, instance.state);
+				case SERIALIZED_NAME_UPDATED_AT:
+					instance.updatedAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Network value) throws IOException {
+			writeField(out, SERIALIZED_NAME_CREATED_AT, value.createdAt, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_DHCP, value.dhcp, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_GATEWAY, value.gateway, stringAdapter);
+			writeField(out, SERIALIZED_NAME_GATEWAYV6, value.gatewayv6, stringAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NAMESERVERS, value.nameservers, stringListAdapter);
+			writeField(out, SERIALIZED_NAME_NAMESERVERS_V6, value.nameserversV6, stringListAdapter);
+			writeField(out, SERIALIZED_NAME_NETWORK_ID, value.networkId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_PREFIXES, value.prefixes, stringListAdapter);
+			writeField(out, SERIALIZED_NAME_PREFIXES_V6, value.prefixesV6, stringListAdapter);
+			writeField(out, SERIALIZED_NAME_PUBLIC_IP, value.publicIp, stringAdapter);
+			writeField(out, SERIALIZED_NAME_ROUTED, value.routed, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_STATE, value.state, stringAdapter);
+			writeField(out, SERIALIZED_NAME_UPDATED_AT, value.updatedAt, offsetDateTimeAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Network value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Network instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Network given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -419,7 +420,7 @@ public class NetworkArea {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<NetworkArea> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(NetworkArea.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(NetworkArea.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<NetworkArea>() {
@@ -497,6 +498,92 @@ public class NetworkArea {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<NetworkArea> {
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+		private final TypeAdapter<NetworkAreaIPv4> networkAreaIPv4Adapter;
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Long> longAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"NetworkArea",
+					SERIALIZED_NAME_AREA_ID,
+					SERIALIZED_NAME_NAME,
+					SERIALIZED_NAME_PROJECT_COUNT,
+					SERIALIZED_NAME_STATE);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+			networkAreaIPv4Adapter = gson.getAdapter(NetworkAreaIPv4.class);
+			objectAdapter = gson.getAdapter(Object.class);
+			stringAdapter = gson.getAdapter(String.class);
+			longAdapter = gson.getAdapter(Long.class);
+		}
+
+		@Override
+		protected NetworkArea newInstance() {
+			return new NetworkArea();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, NetworkArea instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_AREA_ID:
+					instance.areaId = readPrimitive(in, name, uuidAdapter);
+					return requiredField(0, instance.areaId);
+				case SERIALIZED_NAME_CREATED_AT:
+					instance.createdAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IPV4:
+					instance.ipv4 = readValue(in, networkAreaIPv4Adapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.name);
+				case SERIALIZED_NAME_PROJECT_COUNT:
+					instance.projectCount = readPrimitive(in, name, longAdapter);
+					return requiredField(2);
+				case SERIALIZED_NAME_STATE:
+					instance.state = readPrimitive(in, name, stringAdapter);
+					return requiredField(3, instance.state);
+				case SERIALIZED_NAME_UPDATED_AT:
+					instance.updatedAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, NetworkArea value) throws IOException {
+			writeField(out, SERIALIZED_NAME_AREA_ID, value.areaId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_CREATED_AT, value.createdAt, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_IPV4, value.ipv4, networkAreaIPv4Adapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PROJECT_COUNT, value.projectCount, longAdapter);
+			writeField(out, SERIALIZED_NAME_STATE, value.state, stringAdapter);
+			writeField(out, SERIALIZED_NAME_UPDATED_AT, value.updatedAt, offsetDateTimeAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(NetworkArea value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(NetworkArea instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of NetworkArea given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -436,7 +437,7 @@ public class NetworkAreaIPv4 {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<NetworkAreaIPv4> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(NetworkAreaIPv4.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(NetworkAreaIPv4.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<NetworkAreaIPv4>() {
@@ -515,6 +516,93 @@ public class NetworkAreaIPv4 {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<NetworkAreaIPv4> {
+		private final TypeAdapter<List<String>> stringListAdapter;
+		private final TypeAdapter<List<NetworkRange>> networkRangeListAdapter;
+		private final TypeAdapter<List<Route>> routeListAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "NetworkAreaIPv4");
+			stringListAdapter = getAdapter(List.class, String.class);
+			networkRangeListAdapter = getAdapter(List.class, NetworkRange.class);
+			routeListAdapter = getAdapter(List.class, Route.class);
+			stringAdapter = gson.getAdapter(String.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+		}
+
+		@Override
+		protected NetworkAreaIPv4 newInstance() {
+			return new NetworkAreaIPv4();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, NetworkAreaIPv4 instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DEFAULT_NAMESERVERS:
+					instance.defaultNameservers = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NETWORK_RANGES:
+					instance.networkRanges = readArray(in, name, networkRangeListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ROUTES:
+					instance.routes = readArray(in, name, routeListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_TRANSFER_NETWORK:
+					instance.transferNetwork = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DEFAULT_PREFIX_LEN:
+					instance.defaultPrefixLen = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MAX_PREFIX_LEN:
+					instance.maxPrefixLen = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MIN_PREFIX_LEN:
+					instance.minPrefixLen = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, NetworkAreaIPv4 value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_DEFAULT_NAMESERVERS,
+					value.defaultNameservers,
+					stringListAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_NETWORK_RANGES,
+					value.networkRanges,
+					networkRangeListAdapter);
+			writeField(out, SERIALIZED_NAME_ROUTES, value.routes, routeListAdapter);
+			writeField(out, SERIALIZED_NAME_TRANSFER_NETWORK, value.transferNetwork, stringAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_DEFAULT_PREFIX_LEN,
+					value.defaultPrefixLen,
+					integerAdapter);
+			writeField(out, SERIALIZED_NAME_MAX_PREFIX_LEN, value.maxPrefixLen, integerAdapter);
+			writeField(out, SERIALIZED_NAME_MIN_PREFIX_LEN, value.minPrefixLen, integerAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(NetworkAreaIPv4 value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				NetworkAreaIPv4 instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of NetworkAreaIPv4 given an JSON string
 	 *
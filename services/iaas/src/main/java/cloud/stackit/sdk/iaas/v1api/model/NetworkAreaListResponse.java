@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -224,7 +225,8 @@ public class NetworkAreaListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<NetworkAreaListResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(NetworkAreaListResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(NetworkAreaListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<NetworkAreaListResponse>() {
@@ -303,6 +305,51 @@ public class NetworkAreaListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<NetworkAreaListResponse> {
+		private final TypeAdapter<List<NetworkArea>> networkAreaListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "NetworkAreaListResponse", SERIALIZED_NAME_ITEMS);
+			networkAreaListAdapter = getAdapter(List.class, NetworkArea.class);
+		}
+
+		@Override
+		protected NetworkAreaListResponse newInstance() {
+			return new NetworkAreaListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, NetworkAreaListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, networkAreaListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, NetworkAreaListResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, networkAreaListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(NetworkAreaListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				NetworkAreaListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of NetworkAreaListResponse given an JSON string
 	 *
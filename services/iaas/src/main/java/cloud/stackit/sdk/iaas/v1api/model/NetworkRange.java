@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -271,7 +272,7 @@ public class NetworkRange {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<NetworkRange> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(NetworkRange.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(NetworkRange.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<NetworkRange>() {
@@ -349,6 +350,65 @@ public class NetworkRange {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<NetworkRange> {
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "NetworkRange", SERIALIZED_NAME_PREFIX);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected NetworkRange newInstance() {
+			return new NetworkRange();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, NetworkRange instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CREATED_AT:
+					instance.createdAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NETWORK_RANGE_ID:
+					instance.networkRangeId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PREFIX:
+					instance.prefix = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.prefix);
+				case SERIALIZED_NAME_UPDATED_AT:
+					instance.updatedAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, NetworkRange value) throws IOException {
+			writeField(out, SERIALIZED_NAME_CREATED_AT, value.createdAt, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_NETWORK_RANGE_ID, value.networkRangeId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_PREFIX, value.prefix, stringAdapter);
+			writeField(out, SERIALIZED_NAME_UPDATED_AT, value.updatedAt, offsetDateTimeAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(NetworkRange value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				NetworkRange instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of NetworkRange given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -307,7 +308,8 @@ public class PartialUpdateNetworkPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<PartialUpdateNetworkPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(PartialUpdateNetworkPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(PartialUpdateNetworkPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<PartialUpdateNetworkPayload>() {
@@ -387,6 +389,77 @@ public class PartialUpdateNetworkPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<PartialUpdateNetworkPayload> {
+		private final TypeAdapter<UpdateNetworkAddressFamily> updateNetworkAddressFamilyAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "PartialUpdateNetworkPayload");
+			updateNetworkAddressFamilyAdapter = gson.getAdapter(UpdateNetworkAddressFamily.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			objectAdapter = gson.getAdapter(Object.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected PartialUpdateNetworkPayload newInstance() {
+			return new PartialUpdateNetworkPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, PartialUpdateNetworkPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ADDRESS_FAMILY:
+					instance.addressFamily = readValue(in, updateNetworkAddressFamilyAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DHCP:
+					instance.dhcp = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ROUTED:
+					instance.routed = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, PartialUpdateNetworkPayload value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_ADDRESS_FAMILY,
+					value.addressFamily,
+					updateNetworkAddressFamilyAdapter);
+			writeField(out, SERIALIZED_NAME_DHCP, value.dhcp, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_ROUTED, value.routed, booleanAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(PartialUpdateNetworkPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				PartialUpdateNetworkPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of PartialUpdateNetworkPayload given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -227,7 +228,7 @@ public class PortRange {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<PortRange> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(PortRange.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(PortRange.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<PortRange>() {
@@ -305,6 +306,51 @@ public class PortRange {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<PortRange> {
+		private final TypeAdapter<Long> longAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "PortRange", SERIALIZED_NAME_MAX, SERIALIZED_NAME_MIN);
+			longAdapter = gson.getAdapter(Long.class);
+		}
+
+		@Override
+		protected PortRange newInstance() {
+			return new PortRange();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, PortRange instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_MAX:
+					instance.max = readPrimitive(in, name, longAdapter);
+					return requiredField(0);
+				case SERIALIZED_NAME_MIN:
+					instance.min = readPrimitive(in, name, longAdapter);
+					return requiredField(1);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, PortRange value) throws IOException {
+			writeField(out, SERIALIZED_NAME_MAX, value.max, longAdapter);
+			writeField(out, SERIALIZED_NAME_MIN, value.min, longAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(PortRange value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(PortRange instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of PortRange given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -379,7 +380,7 @@ public class Project {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Project> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Project.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Project.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Project>() {
@@ -457,6 +458,88 @@ public class Project {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Project> {
+		private final TypeAdapter<AreaId> areaIdAdapter;
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"Project",
+					SERIALIZED_NAME_AREA_ID,
+					SERIALIZED_NAME_PROJECT_ID,
+					SERIALIZED_NAME_STATE);
+			areaIdAdapter = gson.getAdapter(AreaId.class);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			stringAdapter = gson.getAdapter(String.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+		}
+
+		@Override
+		protected Project newInstance() {
+			return new Project();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Project instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_AREA_ID:
+					instance.areaId = readValue(in, areaIdAdapter);
+					return requiredField(0, instance.areaId);
+				case SERIALIZED_NAME_CREATED_AT:
+					instance.createdAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_INTERNET_ACCESS:
+					instance.internetAccess = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_OPENSTACK_PROJECT_ID:
+					instance.openstackProjectId = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PROJECT_ID:
+					instance.projectId = readPrimitive(in, name, uuidAdapter);
+					return requiredField(1, instance.projectId);
+				case SERIALIZED_NAME_STATE:
+					instance.state = readPrimitive(in, name, stringAdapter);
+					return requiredField(2, instance.state);
+				case SERIALIZED_NAME_UPDATED_AT:
+					instance.updatedAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Project value) throws IOException {
+			writeField(out, SERIALIZED_NAME_AREA_ID, value.areaId, areaIdAdapter);
+			writeField(out, SERIALIZED_NAME_CREATED_AT, value.createdAt, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_INTERNET_ACCESS, value.internetAccess, booleanAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_OPENSTACK_PROJECT_ID,
+					value.openstackProjectId,
+					stringAdapter);
+			writeField(out, SERIALIZED_NAME_PROJECT_ID, value.projectId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_STATE, value.state, stringAdapter);
+			writeField(out, SERIALIZED_NAME_UPDATED_AT, value.updatedAt, offsetDateTimeAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Project value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Project instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Project given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -219,7 +220,7 @@ public class ProjectListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ProjectListResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ProjectListResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ProjectListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ProjectListResponse>() {
@@ -298,6 +299,49 @@ public class ProjectListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ProjectListResponse> {
+		private final TypeAdapter<List<UUID>> uuidListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ProjectListResponse", SERIALIZED_NAME_ITEMS);
+			uuidListAdapter = getAdapter(List.class, UUID.class);
+		}
+
+		@Override
+		protected ProjectListResponse newInstance() {
+			return new ProjectListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ProjectListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, uuidListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ProjectListResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, uuidListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ProjectListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ProjectListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ProjectListResponse given an JSON string
 	 *
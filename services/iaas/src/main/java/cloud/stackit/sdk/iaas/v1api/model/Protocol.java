@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -221,7 +222,7 @@ public class Protocol {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Protocol> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Protocol.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Protocol.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Protocol>() {
@@ -299,6 +300,53 @@ public class Protocol {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Protocol> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Long> longAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "Protocol");
+			stringAdapter = gson.getAdapter(String.class);
+			longAdapter = gson.getAdapter(Long.class);
+		}
+
+		@Override
+		protected Protocol newInstance() {
+			return new Protocol();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Protocol instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NUMBER:
+					instance.number = readPrimitive(in, name, longAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Protocol value) throws IOException {
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NUMBER, value.number, longAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Protocol value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Protocol instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Protocol given an JSON string
 	 *
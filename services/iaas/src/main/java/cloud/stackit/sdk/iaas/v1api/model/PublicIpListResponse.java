@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -223,7 +224,7 @@ public class PublicIpListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<PublicIpListResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(PublicIpListResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(PublicIpListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<PublicIpListResponse>() {
@@ -302,6 +303,49 @@ public class PublicIpListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<PublicIpListResponse> {
+		private final TypeAdapter<List<PublicIp>> publicIpListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "PublicIpListResponse", SERIALIZED_NAME_ITEMS);
+			publicIpListAdapter = getAdapter(List.class, PublicIp.class);
+		}
+
+		@Override
+		protected PublicIpListResponse newInstance() {
+			return new PublicIpListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, PublicIpListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, publicIpListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, PublicIpListResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, publicIpListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(PublicIpListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				PublicIpListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of PublicIpListResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -204,7 +205,7 @@ public class PublicNetwork {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<PublicNetwork> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(PublicNetwork.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(PublicNetwork.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<PublicNetwork>() {
@@ -282,6 +283,49 @@ public class PublicNetwork {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<PublicNetwork> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "PublicNetwork", SERIALIZED_NAME_CIDR);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected PublicNetwork newInstance() {
+			return new PublicNetwork();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, PublicNetwork instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CIDR:
+					instance.cidr = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.cidr);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, PublicNetwork value) throws IOException {
+			writeField(out, SERIALIZED_NAME_CIDR, value.cidr, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(PublicNetwork value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				PublicNetwork instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of PublicNetwork given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -279,7 +280,7 @@ public class RequestResource {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<RequestResource> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(RequestResource.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(RequestResource.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<RequestResource>() {
@@ -358,6 +359,64 @@ public class RequestResource {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<RequestResource> {
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"RequestResource",
+					SERIALIZED_NAME_ID,
+					SERIALIZED_NAME_STATUS,
+					SERIALIZED_NAME_TYPE);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected RequestResource newInstance() {
+			return new RequestResource();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, RequestResource instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, uuidAdapter);
+					return requiredField(0, instance.id);
+				case SERIALIZED_NAME_STATUS:
+					instance.status = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.status);
+				case SERIALIZED_NAME_TYPE:
+					instance.type = readPrimitive(in, name, stringAdapter);
+					return requiredField(2, instance.type);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, RequestResource value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ID, value.id, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_STATUS, value.status, stringAdapter);
+			writeField(out, SERIALIZED_NAME_TYPE, value.type, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(RequestResource value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				RequestResource instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of RequestResource given an JSON string
 	 *
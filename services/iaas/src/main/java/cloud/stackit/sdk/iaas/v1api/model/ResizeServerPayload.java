@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -205,7 +206,7 @@ public class ResizeServerPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ResizeServerPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ResizeServerPayload.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ResizeServerPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ResizeServerPayload>() {
@@ -284,6 +285,49 @@ public class ResizeServerPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ResizeServerPayload> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ResizeServerPayload", SERIALIZED_NAME_MACHINE_TYPE);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected ResizeServerPayload newInstance() {
+			return new ResizeServerPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ResizeServerPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_MACHINE_TYPE:
+					instance.machineType = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.machineType);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ResizeServerPayload value) throws IOException {
+			writeField(out, SERIALIZED_NAME_MACHINE_TYPE, value.machineType, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ResizeServerPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ResizeServerPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ResizeServerPayload given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -341,7 +342,7 @@ public class Route {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Route> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Route.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Route.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Route>() {
@@ -419,6 +420,73 @@ public class Route {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Route> {
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "Route", SERIALIZED_NAME_NEXTHOP, SERIALIZED_NAME_PREFIX);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+			objectAdapter = gson.getAdapter(Object.class);
+			stringAdapter = gson.getAdapter(String.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+		}
+
+		@Override
+		protected Route newInstance() {
+			return new Route();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Route instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CREATED_AT:
+					instance.createdAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NEXTHOP:
+					instance.nexthop = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.nexthop);
+				case SERIALIZED_NAME_PREFIX:
+					instance.prefix = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.prefix);
+				case SERIALIZED_NAME_ROUTE_ID:
+					instance.routeId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_UPDATED_AT:
+					instance.updatedAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Route value) throws IOException {
+			writeField(out, SERIALIZED_NAME_CREATED_AT, value.createdAt, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_NEXTHOP, value.nexthop, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PREFIX, value.prefix, stringAdapter);
+			writeField(out, SERIALIZED_NAME_ROUTE_ID, value.routeId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_UPDATED_AT, value.updatedAt, offsetDateTimeAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Route value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Route instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Route given an JSON string
 	 *
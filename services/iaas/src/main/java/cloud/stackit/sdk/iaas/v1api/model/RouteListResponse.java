@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -223,7 +224,7 @@ public class RouteListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<RouteListResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(RouteListResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(RouteListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<RouteListResponse>() {
@@ -302,6 +303,49 @@ public class RouteListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<RouteListResponse> {
+		private final TypeAdapter<List<Route>> routeListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "RouteListResponse", SERIALIZED_NAME_ITEMS);
+			routeListAdapter = getAdapter(List.class, Route.class);
+		}
+
+		@Override
+		protected RouteListResponse newInstance() {
+			return new RouteListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, RouteListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, routeListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, RouteListResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, routeListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(RouteListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				RouteListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of RouteListResponse given an JSON string
 	 *
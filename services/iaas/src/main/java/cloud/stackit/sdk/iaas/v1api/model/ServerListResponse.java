@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -223,7 +224,7 @@ public class ServerListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ServerListResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ServerListResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ServerListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ServerListResponse>() {
@@ -302,6 +303,49 @@ public class ServerListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ServerListResponse> {
+		private final TypeAdapter<List<Server>> serverListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ServerListResponse", SERIALIZED_NAME_ITEMS);
+			serverListAdapter = getAdapter(List.class, Server.class);
+		}
+
+		@Override
+		protected ServerListResponse newInstance() {
+			return new ServerListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ServerListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, serverListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ServerListResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, serverListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ServerListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ServerListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ServerListResponse given an JSON string
 	 *
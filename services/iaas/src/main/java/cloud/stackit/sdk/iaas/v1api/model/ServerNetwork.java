@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -558,7 +559,7 @@ public class ServerNetwork {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ServerNetwork> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ServerNetwork.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ServerNetwork.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ServerNetwork>() {
@@ -636,6 +637,105 @@ public class ServerNetwork {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ServerNetwork> {
+		private final TypeAdapter<List<AllowedAddressesInner>> allowedAddressesInnerListAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<List<UUID>> uuidListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"ServerNetwork",
+					SERIALIZED_NAME_MAC,
+					SERIALIZED_NAME_NETWORK_ID,
+					SERIALIZED_NAME_NETWORK_NAME,
+					SERIALIZED_NAME_NIC_ID,
+					SERIALIZED_NAME_NIC_SECURITY);
+			allowedAddressesInnerListAdapter = getAdapter(List.class, AllowedAddressesInner.class);
+			stringAdapter = gson.getAdapter(String.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			uuidListAdapter = getAdapter(List.class, UUID.class);
+		}
+
+		@Override
+		protected ServerNetwork newInstance() {
+			return new ServerNetwork();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ServerNetwork instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ALLOWED_ADDRESSES:
+					instance.allowedAddresses =
+							readArray(in, name, allowedAddressesInnerListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IPV4:
+					instance.ipv4 = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IPV6:
+					instance.ipv6 = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MAC:
+					instance.mac = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.mac);
+				case SERIALIZED_NAME_NETWORK_ID:
+					instance.networkId = readPrimitive(in, name, uuidAdapter);
+					return requiredField(1, instance.networkId);
+				case SERIALIZED_NAME_NETWORK_NAME:
+					instance.networkName = readPrimitive(in, name, stringAdapter);
+					return requiredField(2, instance.networkName);
+				case SERIALIZED_NAME_NIC_ID:
+					instance.nicId = readPrimitive(in, name, uuidAdapter);
+					return requiredField(3, instance.nicId);
+				case SERIALIZED_NAME_NIC_SECURITY:
+					instance.nicSecurity = readPrimitive(in, name, booleanAdapter);
+					return requiredField(4);
+				case SERIALIZED_NAME_PUBLIC_IP:
+					instance.publicIp = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SECURITY_GROUPS:
+					instance.securityGroups = readArray(in, name, uuidListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ServerNetwork value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_ALLOWED_ADDRESSES,
+					value.allowedAddresses,
+					allowedAddressesInnerListAdapter);
+			writeField(out, SERIALIZED_NAME_IPV4, value.ipv4, stringAdapter);
+			writeField(out, SERIALIZED_NAME_IPV6, value.ipv6, stringAdapter);
+			writeField(out, SERIALIZED_NAME_MAC, value.mac, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NETWORK_ID, value.networkId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_NETWORK_NAME, value.networkName, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NIC_ID, value.nicId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_NIC_SECURITY, value.nicSecurity, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_PUBLIC_IP, value.publicIp, stringAdapter);
+			writeField(out, SERIALIZED_NAME_SECURITY_GROUPS, value.securityGroups, uuidListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ServerNetwork value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ServerNetwork instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ServerNetwork given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -222,8 +223,8 @@ public class ServiceAccountMailListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ServiceAccountMailListResponse> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(ServiceAccountMailListResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(ServiceAccountMailListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ServiceAccountMailListResponse>() {
@@ -304,6 +305,52 @@ public class ServiceAccountMailListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<ServiceAccountMailListResponse> {
+		private final TypeAdapter<List<String>> stringListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ServiceAccountMailListResponse", SERIALIZED_NAME_ITEMS);
+			stringListAdapter = getAdapter(List.class, String.class);
+		}
+
+		@Override
+		protected ServiceAccountMailListResponse newInstance() {
+			return new ServiceAccountMailListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ServiceAccountMailListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, stringListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ServiceAccountMailListResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, stringListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				ServiceAccountMailListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ServiceAccountMailListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ServiceAccountMailListResponse given an JSON string
 	 *
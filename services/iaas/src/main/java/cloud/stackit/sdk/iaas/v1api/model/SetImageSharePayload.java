@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -234,7 +235,7 @@ public class SetImageSharePayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<SetImageSharePayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(SetImageSharePayload.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(SetImageSharePayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<SetImageSharePayload>() {
@@ -313,6 +314,59 @@ public class SetImageSharePayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<SetImageSharePayload> {
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<List<UUID>> uuidListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "SetImageSharePayload");
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			uuidListAdapter = getAdapter(List.class, UUID.class);
+		}
+
+		@Override
+		protected SetImageSharePayload newInstance() {
+			return new SetImageSharePayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, SetImageSharePayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_PARENT_ORGANIZATION:
+					instance.parentOrganization = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PROJECTS:
+					instance.projects = readArray(in, name, uuidListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, SetImageSharePayload value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_PARENT_ORGANIZATION,
+					value.parentOrganization,
+					booleanAdapter);
+			writeField(out, SERIALIZED_NAME_PROJECTS, value.projects, uuidListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(SetImageSharePayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				SetImageSharePayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of SetImageSharePayload given an JSON string
 	 *
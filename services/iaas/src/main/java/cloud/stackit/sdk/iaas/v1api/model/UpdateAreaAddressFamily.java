@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -189,7 +190,8 @@ public class UpdateAreaAddressFamily {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateAreaAddressFamily> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(UpdateAreaAddressFamily.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(UpdateAreaAddressFamily.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateAreaAddressFamily>() {
@@ -268,6 +270,51 @@ public class UpdateAreaAddressFamily {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<UpdateAreaAddressFamily> {
+		private final TypeAdapter<UpdateAreaIPv4> updateAreaIPv4Adapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateAreaAddressFamily");
+			updateAreaIPv4Adapter = gson.getAdapter(UpdateAreaIPv4.class);
+		}
+
+		@Override
+		protected UpdateAreaAddressFamily newInstance() {
+			return new UpdateAreaAddressFamily();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, UpdateAreaAddressFamily instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_IPV4:
+					instance.ipv4 = readValue(in, updateAreaIPv4Adapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateAreaAddressFamily value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_IPV4, value.ipv4, updateAreaIPv4Adapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(UpdateAreaAddressFamily value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateAreaAddressFamily instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateAreaAddressFamily given an JSON string
 	 *
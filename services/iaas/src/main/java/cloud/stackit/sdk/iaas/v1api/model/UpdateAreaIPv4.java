@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -291,7 +292,7 @@ public class UpdateAreaIPv4 {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateAreaIPv4> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(UpdateAreaIPv4.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(UpdateAreaIPv4.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateAreaIPv4>() {
@@ -369,6 +370,71 @@ public class UpdateAreaIPv4 {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<UpdateAreaIPv4> {
+		private final TypeAdapter<List<String>> stringListAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateAreaIPv4");
+			stringListAdapter = getAdapter(List.class, String.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+		}
+
+		@Override
+		protected UpdateAreaIPv4 newInstance() {
+			return new UpdateAreaIPv4();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, UpdateAreaIPv4 instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DEFAULT_NAMESERVERS:
+					instance.defaultNameservers = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DEFAULT_PREFIX_LEN:
+					instance.defaultPrefixLen = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MAX_PREFIX_LEN:
+					instance.maxPrefixLen = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MIN_PREFIX_LEN:
+					instance.minPrefixLen = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateAreaIPv4 value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_DEFAULT_NAMESERVERS,
+					value.defaultNameservers,
+					stringListAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_DEFAULT_PREFIX_LEN,
+					value.defaultPrefixLen,
+					integerAdapter);
+			writeField(out, SERIALIZED_NAME_MAX_PREFIX_LEN, value.maxPrefixLen, integerAdapter);
+			writeField(out, SERIALIZED_NAME_MIN_PREFIX_LEN, value.minPrefixLen, integerAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(UpdateAreaIPv4 value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateAreaIPv4 instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateAreaIPv4 given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -247,7 +248,8 @@ public class UpdateAttachedVolumePayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateAttachedVolumePayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(UpdateAttachedVolumePayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(UpdateAttachedVolumePayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateAttachedVolumePayload>() {
@@ -327,6 +329,65 @@ public class UpdateAttachedVolumePayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<UpdateAttachedVolumePayload> {
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateAttachedVolumePayload");
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+		}
+
+		@Override
+		protected UpdateAttachedVolumePayload newInstance() {
+			return new UpdateAttachedVolumePayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, UpdateAttachedVolumePayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DELETE_ON_TERMINATION:
+					instance.deleteOnTermination = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SERVER_ID:
+					instance.serverId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_VOLUME_ID:
+					instance.volumeId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateAttachedVolumePayload value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_DELETE_ON_TERMINATION,
+					value.deleteOnTermination,
+					booleanAdapter);
+			writeField(out, SERIALIZED_NAME_SERVER_ID, value.serverId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_VOLUME_ID, value.volumeId, uuidAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(UpdateAttachedVolumePayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateAttachedVolumePayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateAttachedVolumePayload given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -407,7 +408,7 @@ public class UpdateImagePayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateImagePayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(UpdateImagePayload.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(UpdateImagePayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateImagePayload>() {
@@ -486,6 +487,87 @@ public class UpdateImagePayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<UpdateImagePayload> {
+		private final TypeAdapter<ImageAgent> imageAgentAdapter;
+		private final TypeAdapter<ImageConfig> imageConfigAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<Long> longAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateImagePayload");
+			imageAgentAdapter = gson.getAdapter(ImageAgent.class);
+			imageConfigAdapter = gson.getAdapter(ImageConfig.class);
+			stringAdapter = gson.getAdapter(String.class);
+			objectAdapter = gson.getAdapter(Object.class);
+			longAdapter = gson.getAdapter(Long.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+		}
+
+		@Override
+		protected UpdateImagePayload newInstance() {
+			return new UpdateImagePayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, UpdateImagePayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_AGENT:
+					instance.agent = readValue(in, imageAgentAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_CONFIG:
+					instance.config = readValue(in, imageConfigAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DISK_FORMAT:
+					instance.diskFormat = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MIN_DISK_SIZE:
+					instance.minDiskSize = readPrimitive(in, name, longAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MIN_RAM:
+					instance.minRam = readPrimitive(in, name, longAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PROTECTED:
+					instance._protected = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateImagePayload value) throws IOException {
+			writeField(out, SERIALIZED_NAME_AGENT, value.agent, imageAgentAdapter);
+			writeField(out, SERIALIZED_NAME_CONFIG, value.config, imageConfigAdapter);
+			writeField(out, SERIALIZED_NAME_DISK_FORMAT, value.diskFormat, stringAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_MIN_DISK_SIZE, value.minDiskSize, longAdapter);
+			writeField(out, SERIALIZED_NAME_MIN_RAM, value.minRam, longAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PROTECTED, value._protected, booleanAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(UpdateImagePayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateImagePayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateImagePayload given an JSON string
 	 *
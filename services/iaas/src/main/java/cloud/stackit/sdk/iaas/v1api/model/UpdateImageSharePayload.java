@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -235,7 +236,8 @@ public class UpdateImageSharePayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateImageSharePayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(UpdateImageSharePayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(UpdateImageSharePayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateImageSharePayload>() {
@@ -314,6 +316,61 @@ public class UpdateImageSharePayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<UpdateImageSharePayload> {
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<List<UUID>> uuidListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateImageSharePayload");
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			uuidListAdapter = getAdapter(List.class, UUID.class);
+		}
+
+		@Override
+		protected UpdateImageSharePayload newInstance() {
+			return new UpdateImageSharePayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, UpdateImageSharePayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_PARENT_ORGANIZATION:
+					instance.parentOrganization = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PROJECTS:
+					instance.projects = readArray(in, name, uuidListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateImageSharePayload value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_PARENT_ORGANIZATION,
+					value.parentOrganization,
+					booleanAdapter);
+			writeField(out, SERIALIZED_NAME_PROJECTS, value.projects, uuidListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(UpdateImageSharePayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateImageSharePayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateImageSharePayload given an JSON string
 	 *
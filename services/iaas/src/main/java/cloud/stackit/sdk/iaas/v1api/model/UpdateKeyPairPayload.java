@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -188,7 +189,7 @@ public class UpdateKeyPairPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateKeyPairPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(UpdateKeyPairPayload.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(UpdateKeyPairPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateKeyPairPayload>() {
@@ -267,6 +268,49 @@ public class UpdateKeyPairPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<UpdateKeyPairPayload> {
+		private final TypeAdapter<Object> objectAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateKeyPairPayload");
+			objectAdapter = gson.getAdapter(Object.class);
+		}
+
+		@Override
+		protected UpdateKeyPairPayload newInstance() {
+			return new UpdateKeyPairPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, UpdateKeyPairPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateKeyPairPayload value) throws IOException {
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(UpdateKeyPairPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateKeyPairPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateKeyPairPayload given an JSON string
 	 *
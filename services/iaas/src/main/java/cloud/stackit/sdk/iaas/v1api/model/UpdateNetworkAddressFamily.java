@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -218,7 +219,8 @@ public class UpdateNetworkAddressFamily {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateNetworkAddressFamily> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(UpdateNetworkAddressFamily.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(UpdateNetworkAddressFamily.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateNetworkAddressFamily>() {
@@ -297,6 +299,57 @@ public class UpdateNetworkAddressFamily {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<UpdateNetworkAddressFamily> {
+		private final TypeAdapter<UpdateNetworkIPv4Body> updateNetworkIPv4BodyAdapter;
+		private final TypeAdapter<UpdateNetworkIPv6Body> updateNetworkIPv6BodyAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateNetworkAddressFamily");
+			updateNetworkIPv4BodyAdapter = gson.getAdapter(UpdateNetworkIPv4Body.class);
+			updateNetworkIPv6BodyAdapter = gson.getAdapter(UpdateNetworkIPv6Body.class);
+		}
+
+		@Override
+		protected UpdateNetworkAddressFamily newInstance() {
+			return new UpdateNetworkAddressFamily();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, UpdateNetworkAddressFamily instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_IPV4:
+					instance.ipv4 = readValue(in, updateNetworkIPv4BodyAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IPV6:
+					instance.ipv6 = readValue(in, updateNetworkIPv6BodyAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateNetworkAddressFamily value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_IPV4, value.ipv4, updateNetworkIPv4BodyAdapter);
+			writeField(out, SERIALIZED_NAME_IPV6, value.ipv6, updateNetworkIPv6BodyAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(UpdateNetworkAddressFamily value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateNetworkAddressFamily instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateNetworkAddressFamily given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -192,8 +193,8 @@ public class UpdateNetworkAreaRoutePayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateNetworkAreaRoutePayload> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(UpdateNetworkAreaRoutePayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(UpdateNetworkAreaRoutePayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateNetworkAreaRoutePayload>() {
@@ -274,6 +275,51 @@ public class UpdateNetworkAreaRoutePayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<UpdateNetworkAreaRoutePayload> {
+		private final TypeAdapter<Object> objectAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateNetworkAreaRoutePayload");
+			objectAdapter = gson.getAdapter(Object.class);
+		}
+
+		@Override
+		protected UpdateNetworkAreaRoutePayload newInstance() {
+			return new UpdateNetworkAreaRoutePayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, UpdateNetworkAreaRoutePayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateNetworkAreaRoutePayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(UpdateNetworkAreaRoutePayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateNetworkAreaRoutePayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateNetworkAreaRoutePayload given an JSON string
 	 *
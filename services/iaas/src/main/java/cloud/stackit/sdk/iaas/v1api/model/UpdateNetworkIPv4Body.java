@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -254,7 +255,7 @@ public class UpdateNetworkIPv4Body {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateNetworkIPv4Body> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(UpdateNetworkIPv4Body.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(UpdateNetworkIPv4Body.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateNetworkIPv4Body>() {
@@ -333,6 +334,56 @@ public class UpdateNetworkIPv4Body {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<UpdateNetworkIPv4Body> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<List<String>> stringListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateNetworkIPv4Body");
+			stringAdapter = gson.getAdapter(String.class);
+			stringListAdapter = getAdapter(List.class, String.class);
+		}
+
+		@Override
+		protected UpdateNetworkIPv4Body newInstance() {
+			return new UpdateNetworkIPv4Body();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, UpdateNetworkIPv4Body instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_GATEWAY:
+					instance.gateway = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAMESERVERS:
+					instance.nameservers = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateNetworkIPv4Body value) throws IOException {
+			writeField(out, SERIALIZED_NAME_GATEWAY, value.gateway, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NAMESERVERS, value.nameservers, stringListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(UpdateNetworkIPv4Body value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateNetworkIPv4Body instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateNetworkIPv4Body given an JSON string
 	 *
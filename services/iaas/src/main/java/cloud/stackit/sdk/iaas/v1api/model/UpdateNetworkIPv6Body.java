@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -254,7 +255,7 @@ public class UpdateNetworkIPv6Body {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateNetworkIPv6Body> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(UpdateNetworkIPv6Body.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(UpdateNetworkIPv6Body.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateNetworkIPv6Body>() {
@@ -333,6 +334,56 @@ public class UpdateNetworkIPv6Body {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<UpdateNetworkIPv6Body> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<List<String>> stringListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateNetworkIPv6Body");
+			stringAdapter = gson.getAdapter(String.class);
+			stringListAdapter = getAdapter(List.class, String.class);
+		}
+
+		@Override
+		protected UpdateNetworkIPv6Body newInstance() {
+			return new UpdateNetworkIPv6Body();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, UpdateNetworkIPv6Body instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_GATEWAY:
+					instance.gateway = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAMESERVERS:
+					instance.nameservers = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateNetworkIPv6Body value) throws IOException {
+			writeField(out, SERIALIZED_NAME_GATEWAY, value.gateway, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NAMESERVERS, value.nameservers, stringListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(UpdateNetworkIPv6Body value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateNetworkIPv6Body instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateNetworkIPv6Body given an JSON string
 	 *
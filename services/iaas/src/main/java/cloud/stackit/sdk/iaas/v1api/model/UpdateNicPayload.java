@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -394,7 +395,7 @@ public class UpdateNicPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateNicPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(UpdateNicPayload.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(UpdateNicPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateNicPayload>() {
@@ -473,6 +474,82 @@ public class UpdateNicPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<UpdateNicPayload> {
+		private final TypeAdapter<List<AllowedAddressesInner>> allowedAddressesInnerListAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<List<UUID>> uuidListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateNicPayload");
+			allowedAddressesInnerListAdapter = getAdapter(List.class, AllowedAddressesInner.class);
+			stringAdapter = gson.getAdapter(String.class);
+			objectAdapter = gson.getAdapter(Object.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			uuidListAdapter = getAdapter(List.class, UUID.class);
+		}
+
+		@Override
+		protected UpdateNicPayload newInstance() {
+			return new UpdateNicPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, UpdateNicPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ALLOWED_ADDRESSES:
+					instance.allowedAddresses =
+							readArray(in, name, allowedAddressesInnerListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DESCRIPTION:
+					instance.description = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NIC_SECURITY:
+					instance.nicSecurity = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SECURITY_GROUPS:
+					instance.securityGroups = readArray(in, name, uuidListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateNicPayload value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_ALLOWED_ADDRESSES,
+					value.allowedAddresses,
+					allowedAddressesInnerListAdapter);
+			writeField(out, SERIALIZED_NAME_DESCRIPTION, value.description, stringAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NIC_SECURITY, value.nicSecurity, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_SECURITY_GROUPS, value.securityGroups, uuidListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(UpdateNicPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateNicPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateNicPayload given an JSON string
 	 *
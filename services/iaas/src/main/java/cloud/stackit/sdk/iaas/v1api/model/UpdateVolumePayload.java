@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -310,7 +311,7 @@ public class UpdateVolumePayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateVolumePayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(UpdateVolumePayload.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(UpdateVolumePayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateVolumePayload>() {
@@ -389,6 +390,71 @@ public class UpdateVolumePayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<UpdateVolumePayload> {
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<ImageConfig> imageConfigAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateVolumePayload");
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			stringAdapter = gson.getAdapter(String.class);
+			imageConfigAdapter = gson.getAdapter(ImageConfig.class);
+			objectAdapter = gson.getAdapter(Object.class);
+		}
+
+		@Override
+		protected UpdateVolumePayload newInstance() {
+			return new UpdateVolumePayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, UpdateVolumePayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_BOOTABLE:
+					instance.bootable = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DESCRIPTION:
+					instance.description = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IMAGE_CONFIG:
+					instance.imageConfig = readValue(in, imageConfigAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateVolumePayload value) throws IOException {
+			writeField(out, SERIALIZED_NAME_BOOTABLE, value.bootable, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_DESCRIPTION, value.description, stringAdapter);
+			writeField(out, SERIALIZED_NAME_IMAGE_CONFIG, value.imageConfig, imageConfigAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(UpdateVolumePayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateVolumePayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateVolumePayload given an JSON string
 	 *
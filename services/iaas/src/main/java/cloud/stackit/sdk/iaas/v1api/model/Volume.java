@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -650,7 +651,7 @@ public class Volume {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Volume> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Volume.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Volume.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Volume>() {
@@ -728,6 +729,129 @@ public class Volume {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Volume> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+		private final TypeAdapter<VolumeEncryptionParameter> volumeEncryptionParameterAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<ImageConfig> imageConfigAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<Long> longAdapter;
+		private final TypeAdapter<VolumeSource> volumeSourceAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "Volume", SERIALIZED_NAME_AVAILABILITY_ZONE);
+			stringAdapter = gson.getAdapter(String.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+			volumeEncryptionParameterAdapter = gson.getAdapter(VolumeEncryptionParameter.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			imageConfigAdapter = gson.getAdapter(ImageConfig.class);
+			objectAdapter = gson.getAdapter(Object.class);
+			longAdapter = gson.getAdapter(Long.class);
+			volumeSourceAdapter = gson.getAdapter(VolumeSource.class);
+		}
+
+		@Override
+		protected Volume newInstance() {
+			return new Volume();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Volume instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_AVAILABILITY_ZONE:
+					instance.availabilityZone = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.availabilityZone);
+				case SERIALIZED_NAME_BOOTABLE:
+					instance.bootable = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_CREATED_AT:
+					instance.createdAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DESCRIPTION:
+					instance.description = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ENCRYPTED:
+					instance.encrypted = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ENCRYPTION_PARAMETERS:
+					instance.encryptionParameters = readValue(in, volumeEncryptionParameterAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IMAGE_CONFIG:
+					instance.imageConfig = readValue(in, imageConfigAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PERFORMANCE_CLASS:
+					instance.performanceClass = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SERVER_ID:
+					instance.serverId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SIZE:
+					instance.size = readPrimitive(in, name, longAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SOURCE:
+					instance.source = readValue(in, volumeSourceAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_STATUS:
+					instance.status = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_UPDATED_AT:
+					instance.updatedAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Volume value) throws IOException {
+			writeField(
+					out, SERIALIZED_NAME_AVAILABILITY_ZONE, value.availabilityZone, stringAdapter);
+			writeField(out, SERIALIZED_NAME_BOOTABLE, value.bootable, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_CREATED_AT, value.createdAt, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_DESCRIPTION, value.description, stringAdapter);
+			writeField(out, SERIALIZED_NAME_ENCRYPTED, value.encrypted, booleanAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_ENCRYPTION_PARAMETERS,
+					value.encryptionParameters,
+					volumeEncryptionParameterAdapter);
+			writeField(out, SERIALIZED_NAME_ID, value.id, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_IMAGE_CONFIG, value.imageConfig, imageConfigAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(
+					out, SERIALIZED_NAME_PERFORMANCE_CLASS, value.performanceClass, stringAdapter);
+			writeField(out, SERIALIZED_NAME_SERVER_ID, value.serverId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_SIZE, value.size, longAdapter);
+			writeField(out, SERIALIZED_NAME_SOURCE, value.source, volumeSourceAdapter);
+			writeField(out, SERIALIZED_NAME_STATUS, value.status, stringAdapter);
+			writeField(out, SERIALIZED_NAME_UPDATED_AT, value.updatedAt, offsetDateTimeAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Volume value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Volume instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Volume given an JSON string
 	 *
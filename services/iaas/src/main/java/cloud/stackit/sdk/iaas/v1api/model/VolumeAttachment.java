@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -242,7 +243,7 @@ public class VolumeAttachment {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<VolumeAttachment> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(VolumeAttachment.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(VolumeAttachment.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<VolumeAttachment>() {
@@ -321,6 +322,63 @@ public class VolumeAttachment {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<VolumeAttachment> {
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "VolumeAttachment");
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+		}
+
+		@Override
+		protected VolumeAttachment newInstance() {
+			return new VolumeAttachment();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, VolumeAttachment instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DELETE_ON_TERMINATION:
+					instance.deleteOnTermination = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SERVER_ID:
+					instance.serverId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_VOLUME_ID:
+					instance.volumeId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, VolumeAttachment value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_DELETE_ON_TERMINATION,
+					value.deleteOnTermination,
+					booleanAdapter);
+			writeField(out, SERIALIZED_NAME_SERVER_ID, value.serverId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_VOLUME_ID, value.volumeId, uuidAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(VolumeAttachment value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				VolumeAttachment instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of VolumeAttachment given an JSON string
 	 *
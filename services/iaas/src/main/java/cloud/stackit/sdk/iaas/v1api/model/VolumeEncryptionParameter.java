@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -388,7 +389,8 @@ public class VolumeEncryptionParameter {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<VolumeEncryptionParameter> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(VolumeEncryptionParameter.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(VolumeEncryptionParameter.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<VolumeEncryptionParameter>() {
@@ -467,6 +469,83 @@ public class VolumeEncryptionParameter {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<VolumeEncryptionParameter> {
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<Long> longAdapter;
+		private final TypeAdapter<byte[]> byteArrayAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"VolumeEncryptionParameter",
+					SERIALIZED_NAME_KEK_KEY_ID,
+					SERIALIZED_NAME_KEK_KEY_VERSION,
+					SERIALIZED_NAME_KEK_KEYRING_ID,
+					SERIALIZED_NAME_SERVICE_ACCOUNT);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			longAdapter = gson.getAdapter(Long.class);
+			byteArrayAdapter = gson.getAdapter(byte[].class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected VolumeEncryptionParameter newInstance() {
+			return new VolumeEncryptionParameter();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, VolumeEncryptionParameter instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_KEK_KEY_ID:
+					instance.kekKeyId = readPrimitive(in, name, uuidAdapter);
+					return requiredField(0, instance.kekKeyId);
+				case SERIALIZED_NAME_KEK_KEY_VERSION:
+					instance.kekKeyVersion = readPrimitive(in, name, longAdapter);
+					return requiredField(1);
+				case SERIALIZED_NAME_KEK_KEYRING_ID:
+					instance.kekKeyringId = readPrimitive(in, name, uuidAdapter);
+					return requiredField(2, instance.kekKeyringId);
+				case SERIALIZED_NAME_KEK_PROJECT_ID:
+					instance.kekProjectId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_KEY_PAYLOAD:
+					instance.keyPayload = readPrimitive(in, name, byteArrayAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SERVICE_ACCOUNT:
+					instance.serviceAccount = readPrimitive(in, name, stringAdapter);
+					return requiredField(3, instance.serviceAccount);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, VolumeEncryptionParameter value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_KEK_KEY_ID, value.kekKeyId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_KEK_KEY_VERSION, value.kekKeyVersion, longAdapter);
+			writeField(out, SERIALIZED_NAME_KEK_KEYRING_ID, value.kekKeyringId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_KEK_PROJECT_ID, value.kekProjectId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_KEY_PAYLOAD, value.keyPayload, byteArrayAdapter);
+			writeField(out, SERIALIZED_NAME_SERVICE_ACCOUNT, value.serviceAccount, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(VolumeEncryptionParameter value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				VolumeEncryptionParameter instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of VolumeEncryptionParameter given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -319,7 +320,8 @@ public class VolumePerformanceClass {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<VolumePerformanceClass> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(VolumePerformanceClass.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(VolumePerformanceClass.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<VolumePerformanceClass>() {
@@ -398,6 +400,71 @@ public class VolumePerformanceClass {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<VolumePerformanceClass> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Long> longAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "VolumePerformanceClass", SERIALIZED_NAME_NAME);
+			stringAdapter = gson.getAdapter(String.class);
+			longAdapter = gson.getAdapter(Long.class);
+			objectAdapter = gson.getAdapter(Object.class);
+		}
+
+		@Override
+		protected VolumePerformanceClass newInstance() {
+			return new VolumePerformanceClass();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, VolumePerformanceClass instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DESCRIPTION:
+					instance.description = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IOPS:
+					instance.iops = readPrimitive(in, name, longAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.name);
+				case SERIALIZED_NAME_THROUGHPUT:
+					instance.throughput = readPrimitive(in, name, longAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, VolumePerformanceClass value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_DESCRIPTION, value.description, stringAdapter);
+			writeField(out, SERIALIZED_NAME_IOPS, value.iops, longAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_THROUGHPUT, value.throughput, longAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(VolumePerformanceClass value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				VolumePerformanceClass instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of VolumePerformanceClass given an JSON string
 	 *
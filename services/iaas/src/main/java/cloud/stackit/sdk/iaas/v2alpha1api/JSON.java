@@ -12,12 +12,21 @@
 
 package cloud.stackit.sdk.iaas.v2alpha1api;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapterFactory;
+import cloud.stackit.sdk.core.json.DateTimeParser;
+import cloud.stackit.sdk.core.json.LazyModelTypeAdapterFactory;
+import cloud.stackit.sdk.core.json.StreamingModelTypeAdapterFactory;
+import cloud.stackit.sdk.core.json.StringPool;
+import cloud.stackit.sdk.core.json.StringPoolTypeAdapter;
+import cloud.stackit.sdk.core.json.UuidTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
 import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
 import com.google.gson.internal.bind.util.ISO8601Utils;
+import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 import io.gsonfire.GsonFireBuilder;
@@ -37,6 +46,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import okio.ByteString;
 
 /*
@@ -54,6 +64,16 @@ public class JSON {
 			new OffsetDateTimeTypeAdapter();
 	private static LocalDateTypeAdapter localDateTypeAdapter = new LocalDateTypeAdapter();
 	private static ByteArrayAdapter byteArrayAdapter = new ByteArrayAdapter();
+	private static UuidTypeAdapter uuidTypeAdapter = new UuidTypeAdapter();
+	private static StringPoolTypeAdapter stringPoolTypeAdapter = new StringPoolTypeAdapter();
+	private static StreamingModelTypeAdapterFactory streamingModelTypeAdapterFactory =
+			new StreamingModelTypeAdapterFactory("cloud.stackit.sdk.iaas.v2alpha1api.model");
+	private static LazyModelTypeAdapterFactory modelTypeAdapterFactory =
+			new LazyModelTypeAdapterFactory("cloud.stackit.sdk.iaas.v2alpha1api.model");
+	private static CompiledModelTypeAdapterFactory compiledModelTypeAdapterFactory =
+			new CompiledModelTypeAdapterFactory(
+					"cloud.stackit.sdk.iaas.v2alpha1api.model",
+					cloud.stackit.sdk.iaas.v2alpha1api.model.CompiledTypeAdapters::create);
 
 	@SuppressWarnings("unchecked")
 	public static GsonBuilder createGson() {
@@ -319,172 +339,15 @@ public class JSON {
 		gsonBuilder.registerTypeAdapter(OffsetDateTime.class, offsetDateTimeTypeAdapter);
 		gsonBuilder.registerTypeAdapter(LocalDate.class, localDateTypeAdapter);
 		gsonBuilder.registerTypeAdapter(byte[].class, byteArrayAdapter);
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.AddRoutesToRoutingTablePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.AddRoutingTableToAreaPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.AddVPCRoutingTablePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.AddVPCStaticRoutePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.AddVPCStaticRoutePayloadDestination
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.AddVPCStaticRoutePayloadNexthop
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.CreateNetworkIPv4
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.CreateNetworkIPv4WithPrefix
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.CreateNetworkIPv4WithPrefixLength
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.CreateNetworkIPv6
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.CreateNetworkIPv6WithPrefix
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.CreateNetworkIPv6WithPrefixLength
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.CreateNetworkPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.CreateVPCNetworkRangePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.CreateVPCPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.CreateVPCRegionPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.DestinationCIDRv4
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.DestinationCIDRv6
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.Error.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.Network.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.NetworkIPv4
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.NetworkIPv6
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.NetworkListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.NetworkRangeIPv4Request
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.NexthopBlackhole
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.NexthopIPv4
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.NexthopIPv6
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.NexthopInternet
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.PartialUpdateNetworkPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.PartialUpdateVPCPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.RegionalVPC
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.RegionalVPCIPv4
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.RegionalVPCList
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.Route.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.RouteDestination
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.RouteListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.RouteNexthop
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.RoutingTable
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.RoutingTableListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.UpdateNetworkIPv4Body
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.UpdateNetworkIPv6Body
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.UpdateRouteOfRoutingTablePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.UpdateRoutingTableOfAreaPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.UpdateVPCNetworkRangePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.UpdateVPCRegionPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.UpdateVPCRoutingTablePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.UpdateVPCStaticRoutePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.V1UpdateVPCNetworkRangeIPv4
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.VPC.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.VPCBaseNetworkRange
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.VPCList.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.VPCNetworkRange
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.VPCNetworkRangeIPv4
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.VPCNetworkRangeIPv6
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.VPCNetworkRangeList
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.VPCRoutingTable
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2alpha1api.model.VPCRoutingTableList
-						.CustomTypeAdapterFactory());
+		gsonBuilder.registerTypeAdapter(UUID.class, uuidTypeAdapter);
+		gsonBuilder.registerTypeAdapter(String.class, stringPoolTypeAdapter);
+		// the adapters of the models are created on first use instead of registering the
+		// generated factories of all models up front
+		gsonBuilder.registerTypeAdapterFactory(modelTypeAdapterFactory);
+		// registered after the lazy factory, so it takes precedence over the model adapters
+		gsonBuilder.registerTypeAdapterFactory(streamingModelTypeAdapterFactory);
+		// registered last, so the compiled model adapters take precedence over all others
+		gsonBuilder.registerTypeAdapterFactory(compiledModelTypeAdapterFactory);
 		gson = gsonBuilder.create();
 	}
 
@@ -510,6 +373,68 @@ public class JSON {
 		isLenientOnJson = lenientOnJson;
 	}
 
+	/**
+	 * Enable or disable the single-pass streaming deserialization of the model classes. If
+	 * enabled, models are validated and bound while the JSON is read instead of building and
+	 * walking an intermediate JsonElement tree. Disabled by default.
+	 *
+	 * @param streamingDeserialization true to deserialize models in a single pass
+	 */
+	public static void setStreamingDeserialization(boolean streamingDeserialization) {
+		streamingModelTypeAdapterFactory.setEnabled(streamingDeserialization);
+	}
+
+	public static boolean isStreamingDeserialization() {
+		return streamingModelTypeAdapterFactory.isEnabled();
+	}
+
+	/**
+	 * Enable or disable the compiled type adapters of the model classes. If enabled, models are
+	 * read and written by the adapters generated into the model classes, which create the models
+	 * and access their fields without reflection. The compiled adapters read the models in a
+	 * single pass and validate them like the default adapters. Disabled by default.
+	 *
+	 * @param compiledTypeAdapters true to use the compiled type adapters
+	 */
+	public static void setCompiledTypeAdapters(boolean compiledTypeAdapters) {
+		compiledModelTypeAdapterFactory.setEnabled(compiledTypeAdapters);
+	}
+
+	public static boolean isCompiledTypeAdapters() {
+		return compiledModelTypeAdapterFactory.isEnabled();
+	}
+
+	/**
+	 * Set the pool of the deserialized strings. If set, equal string values of the models share
+	 * one instance, which reduces the heap used by large lists kept in memory. Disabled by
+	 * default.
+	 *
+	 * @param stringPool the pool, or null to disable the pooling
+	 */
+	public static void setStringPool(StringPool stringPool) {
+		stringPoolTypeAdapter.setStringPool(stringPool);
+	}
+
+	public static StringPool getStringPool() {
+		return stringPoolTypeAdapter.getStringPool();
+	}
+
+	/**
+	 * Returns the adapter the generated adapter of a model delegates to. Used by the generated
+	 * model adapters instead of {@link Gson#getDelegateAdapter(TypeAdapterFactory, TypeToken)},
+	 * as their factories are not registered in the Gson instance.
+	 *
+	 * @param <T> Type
+	 * @param gson Gson instance which created the model adapter
+	 * @param skipPast factory of the model adapter
+	 * @param type type to get the adapter for
+	 * @return adapter for the type
+	 */
+	public static <T> TypeAdapter<T> getDelegateAdapter(
+			Gson gson, TypeAdapterFactory skipPast, TypeToken<T> type) {
+		return modelTypeAdapterFactory.getDelegateAdapter(gson, skipPast, type);
+	}
+
 	/**
 	 * Serialize the given Java object into JSON string.
 	 *
@@ -635,6 +560,10 @@ public class JSON {
 					return null;
 				default:
 					String date = in.nextString();
+					if (formatter == DateTimeFormatter.ISO_OFFSET_DATE_TIME) {
+						// parses the common forms without running the formatter
+						return DateTimeParser.parseOffsetDateTime(date);
+					}
 					if (date.endsWith("+0000")) {
 						date = date.substring(0, date.length() - 5) + "Z";
 					}
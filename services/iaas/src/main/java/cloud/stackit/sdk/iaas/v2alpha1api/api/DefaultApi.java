@@ -56,6 +56,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import okhttp3.OkHttpClient;
 
 // Package-private access to enforce service-specific API usage (DefaultApi => <ServiceName>Api)
@@ -418,6 +419,54 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new routes in a routing table. (asynchronously) Create new routes in an existing
+	 * routing table of a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @param addRoutesToRoutingTablePayload Request an addition of routes to a routing table.
+	 *     (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Adding routes to routing table was successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<RouteListResponse> addRoutesToRoutingTableFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId,
+			@javax.annotation.Nonnull AddRoutesToRoutingTablePayload addRoutesToRoutingTablePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					addRoutesToRoutingTableValidateBeforeCall(
+							organizationId,
+							areaId,
+							region,
+							routingTableId,
+							addRoutesToRoutingTablePayload,
+							null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RouteListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for addRoutingTableToArea
 	 *
@@ -664,6 +713,47 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new routing table in a network area. (asynchronously) Create a new routing table in an
+	 * existing network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param addRoutingTableToAreaPayload Request an addition of a routing table to an area.
+	 *     (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Adding routing table was successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<RoutingTable> addRoutingTableToAreaFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull AddRoutingTableToAreaPayload addRoutingTableToAreaPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					addRoutingTableToAreaValidateBeforeCall(
+							organizationId, areaId, region, addRoutingTableToAreaPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RoutingTable>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for addVPCRoutingTable
 	 *
@@ -913,6 +1003,48 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create a new regional routing table in a VPC. (asynchronously) Create a new routing table in
+	 * an existing VPC for this region.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param vpcId The unique identifier (ID) of the target STACKIT VPC in the request path.
+	 *     (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param addVPCRoutingTablePayload Request an addition of a routing table to a VPC. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Adding routing table was successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 424 </td><td> The region of the vpc is not enabled. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<VPCRoutingTable> addVPCRoutingTableFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID vpcId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull AddVPCRoutingTablePayload addVPCRoutingTablePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					addVPCRoutingTableValidateBeforeCall(
+							projectId, vpcId, region, addVPCRoutingTablePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VPCRoutingTable>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for addVPCStaticRoute
 	 *
@@ -1184,6 +1316,55 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new regional static route. (asynchronously) Create a new static route in the VPC for
+	 * this region.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param vpcId The unique identifier (ID) of the target STACKIT VPC in the request path.
+	 *     (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @param addVPCStaticRoutePayload Request to add a static route to a VPC. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Adding static route was successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 424 </td><td> The region of the vpc is not enabled. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Route> addVPCStaticRouteFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID vpcId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId,
+			@javax.annotation.Nonnull AddVPCStaticRoutePayload addVPCStaticRoutePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					addVPCStaticRouteValidateBeforeCall(
+							projectId,
+							vpcId,
+							region,
+							routingTableId,
+							addVPCStaticRoutePayload,
+							null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Route>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createNetwork
 	 *
@@ -1410,6 +1591,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new network. (asynchronously) Create a new network in a project.
+	 * &#x60;nameservers&#x60; will be filled from &#x60;defaultNameservers&#x60; of the respective
+	 * area if not specified. If the project has &#x60;internetAccess&#x60; enabled and this is the
+	 * first network in the project this might incur cost.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param createNetworkPayload Request a network creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Network create has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Network> createNetworkFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreateNetworkPayload createNetworkPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createNetworkValidateBeforeCall(projectId, region, createNetworkPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Network>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createVPC
 	 *
@@ -1603,6 +1823,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create a new VPC. (asynchronously) Create a new VPC in a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param createVPCPayload Request a VPC creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> VPC has been successfully created. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<VPC> createVPCFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull CreateVPCPayload createVPCPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = createVPCValidateBeforeCall(projectId, createVPCPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VPC>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createVPCNetworkRange
 	 *
@@ -1857,6 +2109,49 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new regional network ranges in a VPC. (asynchronously) Create a new network range in
+	 * an existing VPC for this region.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param vpcId The unique identifier (ID) of the target STACKIT VPC in the request path.
+	 *     (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param createVPCNetworkRangePayload Request to add an additional network range to a VPC.
+	 *     (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Create request for a network range has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 424 </td><td> The region of the vpc is not enabled. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<VPCNetworkRange> createVPCNetworkRangeFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID vpcId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreateVPCNetworkRangePayload createVPCNetworkRangePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createVPCNetworkRangeValidateBeforeCall(
+							projectId, vpcId, region, createVPCNetworkRangePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VPCNetworkRange>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createVPCRegion
 	 *
@@ -2103,6 +2398,48 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create the regional configuration of a VPC. (asynchronously) Create the configuration of a
+	 * region for a VPC.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param vpcId The unique identifier (ID) of the target STACKIT VPC in the request path.
+	 *     (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param createVPCRegionPayload Request to add a new regional VPC configuration. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Configure VPC in a new region was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 424 </td><td> The region of the vpc is not enabled. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<RegionalVPC> createVPCRegionFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID vpcId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreateVPCRegionPayload createVPCRegionPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createVPCRegionValidateBeforeCall(
+							projectId, vpcId, region, createVPCRegionPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RegionalVPC>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteNetwork
 	 *
@@ -2320,36 +2657,71 @@ class DefaultApi {
 	}
 
 	/**
-	 * Build call for deleteRouteFromRoutingTable
+	 * Delete network. (asynchronously) Delete a network. If the network is still in use, the
+	 * deletion will fail.
 	 *
-	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
-	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
 	 * @param region The STACKIT Region of the resources. (required)
-	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
-	 * @param routeId The identifier (ID) of a STACKIT Route. (required)
-	 * @param _callback Callback for upload/download progress
-	 * @return Call to execute
-	 * @throws ApiException If fail to serialize the request body object
+	 * @param networkId The identifier (ID) of a STACKIT Network. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
 	 * @http.response.details
 	 *     <table border="1">
 	 * <caption>Response Details</caption>
 	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-	 * <tr><td> 204 </td><td> Delete request for the route has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 202 </td><td> Delete request for network has been accepted. </td><td>  -  </td></tr>
 	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
 	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
 	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
 	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
 	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
 	 * </table>
 	 */
-	public okhttp3.Call deleteRouteFromRoutingTableCall(
-			@javax.annotation.Nonnull UUID organizationId,
-			@javax.annotation.Nonnull UUID areaId,
+	public CompletableFuture<Void> deleteNetworkFuture(
+			@javax.annotation.Nonnull UUID projectId,
 			@javax.annotation.Nonnull String region,
-			@javax.annotation.Nonnull UUID routingTableId,
-			@javax.annotation.Nonnull UUID routeId,
-			final ApiCallback _callback)
-			throws ApiException {
+			@javax.annotation.Nonnull UUID networkId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteNetworkValidateBeforeCall(projectId, region, networkId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
+	/**
+	 * Build call for deleteRouteFromRoutingTable
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @param routeId The identifier (ID) of a STACKIT Route. (required)
+	 * @param _callback Callback for upload/download progress
+	 * @return Call to execute
+	 * @throws ApiException If fail to serialize the request body object
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Delete request for the route has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public okhttp3.Call deleteRouteFromRoutingTableCall(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId,
+			@javax.annotation.Nonnull UUID routeId,
+			final ApiCallback _callback)
+			throws ApiException {
 		String basePath = null;
 		// Operation Servers
 		String[] localBasePaths = new String[] {};
@@ -2573,6 +2945,46 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a route in a routing table. (asynchronously) Delete a route in an existing routing
+	 * table of a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @param routeId The identifier (ID) of a STACKIT Route. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Delete request for the route has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteRouteFromRoutingTableFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId,
+			@javax.annotation.Nonnull UUID routeId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteRouteFromRoutingTableValidateBeforeCall(
+							organizationId, areaId, region, routingTableId, routeId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteRoutingTableFromArea
 	 *
@@ -2805,6 +3217,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a routing table. (asynchronously) Delete a routing table of a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Delete request for the routing table has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteRoutingTableFromAreaFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteRoutingTableFromAreaValidateBeforeCall(
+							organizationId, areaId, region, routingTableId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteVPC
 	 *
@@ -3006,6 +3455,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a VPC. (asynchronously) Delete an existing VPC in a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param vpcId The unique identifier (ID) of the target STACKIT VPC in the request path.
+	 *     (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> VPC has been deleted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 424 </td><td> The region of the vpc is not enabled. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteVPCFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID vpcId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteVPCValidateBeforeCall(projectId, vpcId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteVPCNetworkRange
 	 *
@@ -3252,6 +3734,47 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a regional network range. (asynchronously) Delete a network range of a VPC for this
+	 * region, if the network range is not used anymore.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param vpcId The unique identifier (ID) of the target STACKIT VPC in the request path.
+	 *     (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param networkRangeId The identifier (ID) of a STACKIT Network Range. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Delete request for network range has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 424 </td><td> The region of the vpc is not enabled. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteVPCNetworkRangeFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID vpcId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID networkRangeId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteVPCNetworkRangeValidateBeforeCall(
+							projectId, vpcId, region, networkRangeId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteVPCRegion
 	 *
@@ -3478,6 +4001,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete the regional configuration of a VPC. (asynchronously) Delete the current configuration
+	 * of a region for a VPC.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param vpcId The unique identifier (ID) of the target STACKIT VPC in the request path.
+	 *     (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Delete request for the regional VPC has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 424 </td><td> The region of the vpc is not enabled. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteVPCRegionFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID vpcId,
+			@javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteVPCRegionValidateBeforeCall(projectId, vpcId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteVPCRoutingTable
 	 *
@@ -3718,6 +4278,46 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a regional routing table. (asynchronously) Delete a routing table of a VPC for this
+	 * region.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param vpcId The unique identifier (ID) of the target STACKIT VPC in the request path.
+	 *     (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Routingtable has been deleted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 424 </td><td> The region of the vpc is not enabled. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteVPCRoutingTableFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID vpcId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteVPCRoutingTableValidateBeforeCall(
+							projectId, vpcId, region, routingTableId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteVPCStaticRoute
 	 *
@@ -3977,6 +4577,48 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a regional static route. (asynchronously) Delete a static route of a VPC for this
+	 * region.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param vpcId The unique identifier (ID) of the target STACKIT VPC in the request path.
+	 *     (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @param routeId The identifier (ID) of a STACKIT Route. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Delete request for the static route has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 424 </td><td> The region of the vpc is not enabled. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteVPCStaticRouteFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID vpcId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId,
+			@javax.annotation.Nonnull UUID routeId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteVPCStaticRouteValidateBeforeCall(
+							projectId, vpcId, region, routingTableId, routeId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for getNetwork
 	 *
@@ -4192,6 +4834,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get network details. (asynchronously) Get details about a network of a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param networkId The identifier (ID) of a STACKIT Network. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show network details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Network> getNetworkFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID networkId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getNetworkValidateBeforeCall(projectId, region, networkId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Network>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getRouteOfRoutingTable
 	 *
@@ -4452,20 +5128,61 @@ class DefaultApi {
 	}
 
 	/**
-	 * Build call for getRoutingTableOfArea
+	 * Get details about a route of a routing table. (asynchronously) Get details about a route
+	 * defined in a routing table of a network area.
 	 *
 	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
 	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
 	 * @param region The STACKIT Region of the resources. (required)
 	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
-	 * @param _callback Callback for upload/download progress
-	 * @return Call to execute
-	 * @throws ApiException If fail to serialize the request body object
+	 * @param routeId The identifier (ID) of a STACKIT Route. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
 	 * @http.response.details
 	 *     <table border="1">
 	 * <caption>Response Details</caption>
 	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-	 * <tr><td> 200 </td><td> Show routing table details. </td><td>  -  </td></tr>
+	 * <tr><td> 200 </td><td> Show the details of a route in a routing table. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Route> getRouteOfRoutingTableFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId,
+			@javax.annotation.Nonnull UUID routeId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getRouteOfRoutingTableValidateBeforeCall(
+							organizationId, areaId, region, routingTableId, routeId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Route>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
+	/**
+	 * Build call for getRoutingTableOfArea
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @param _callback Callback for upload/download progress
+	 * @return Call to execute
+	 * @throws ApiException If fail to serialize the request body object
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show routing table details. </td><td>  -  </td></tr>
 	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
 	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
 	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
@@ -4690,6 +5407,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a routing table. (asynchronously) Get details about a routing table defined
+	 * in a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show routing table details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<RoutingTable> getRoutingTableOfAreaFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getRoutingTableOfAreaValidateBeforeCall(
+							organizationId, areaId, region, routingTableId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RoutingTable>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getVPC
 	 *
@@ -4891,6 +5647,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a VPC. (asynchronously) Get details about a VPC in a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param vpcId The unique identifier (ID) of the target STACKIT VPC in the request path.
+	 *     (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show VPC details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 424 </td><td> The region of the vpc is not enabled. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<VPC> getVPCFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID vpcId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getVPCValidateBeforeCall(projectId, vpcId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VPC>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getVPCNetworkRange
 	 *
@@ -5138,6 +5927,47 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a regional network range. (asynchronously) Get details about a network
+	 * range in a VPC for this region.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param vpcId The unique identifier (ID) of the target STACKIT VPC in the request path.
+	 *     (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param networkRangeId The identifier (ID) of a STACKIT Network Range. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show network range details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 424 </td><td> The region of the vpc is not enabled. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<VPCNetworkRange> getVPCNetworkRangeFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID vpcId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID networkRangeId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getVPCNetworkRangeValidateBeforeCall(
+							projectId, vpcId, region, networkRangeId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VPCNetworkRange>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getVPCRegion
 	 *
@@ -5361,6 +6191,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get the regional configuration of a VPC. (asynchronously) Get the current configuration of a
+	 * region for a VPC.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param vpcId The unique identifier (ID) of the target STACKIT VPC in the request path.
+	 *     (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show the regional VPC configuration. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 424 </td><td> The region of the vpc is not enabled. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<RegionalVPC> getVPCRegionFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID vpcId,
+			@javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getVPCRegionValidateBeforeCall(projectId, vpcId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RegionalVPC>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getVPCRoutingTable
 	 *
@@ -5608,6 +6475,47 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a regional routing table. (asynchronously) Get details about a routing
+	 * table of a VPC for this region.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param vpcId The unique identifier (ID) of the target STACKIT VPC in the request path.
+	 *     (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show routing table details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 424 </td><td> The region of the vpc is not enabled. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<VPCRoutingTable> getVPCRoutingTableFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID vpcId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getVPCRoutingTableValidateBeforeCall(
+							projectId, vpcId, region, routingTableId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VPCRoutingTable>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getVPCStaticRoute
 	 *
@@ -5873,6 +6781,49 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a regional static route. (asynchronously) Get details about a static route
+	 * of a VPC for this region.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param vpcId The unique identifier (ID) of the target STACKIT VPC in the request path.
+	 *     (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @param routeId The identifier (ID) of a STACKIT Route. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show static route details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 424 </td><td> The region of the vpc is not enabled. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Route> getVPCStaticRouteFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID vpcId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId,
+			@javax.annotation.Nonnull UUID routeId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getVPCStaticRouteValidateBeforeCall(
+							projectId, vpcId, region, routingTableId, routeId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Route>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listNetworks
 	 *
@@ -6086,6 +7037,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all networks inside a project. (asynchronously) Get a list of all networks inside a
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List all networks of a project. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<NetworkListResponse> listNetworksFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listNetworksValidateBeforeCall(projectId, region, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NetworkListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listNetworksOfRoutingTable
 	 *
@@ -6327,6 +7313,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all networks in a routing table. (asynchronously) Get a list of all networks in a
+	 * routing table of a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List all routing table networks. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<NetworkListResponse> listNetworksOfRoutingTableFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listNetworksOfRoutingTableValidateBeforeCall(
+							organizationId, areaId, region, routingTableId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NetworkListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listRoutesOfRoutingTable
 	 *
@@ -6582,6 +7607,47 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all routes in a routing table. (asynchronously) Get a list of all routes in a routing
+	 * table of a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List all routing table routes. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<RouteListResponse> listRoutesOfRoutingTableFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listRoutesOfRoutingTableValidateBeforeCall(
+							organizationId, areaId, region, routingTableId, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RouteListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listRoutingTablesOfArea
 	 *
@@ -6818,6 +7884,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all routing tables in a network area. (asynchronously) Get a list of all routing tables
+	 * in a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List all routing tables. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<RoutingTableListResponse> listRoutingTablesOfAreaFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listRoutingTablesOfAreaValidateBeforeCall(
+							organizationId, areaId, region, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RoutingTableListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listVPCNetworkRanges
 	 *
@@ -7078,6 +8183,50 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all regional network ranges in a VPC. (asynchronously) Get a list of all network ranges
+	 * in a VPC for this region.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param vpcId The unique identifier (ID) of the target STACKIT VPC in the request path.
+	 *     (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @param filter Filter resources by fields. A subset of expr-lang is supported. See
+	 *     https://expr-lang.org/docs/language-definition for usage details. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List all network ranges. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 424 </td><td> The region of the vpc is not enabled. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<VPCNetworkRangeList> listVPCNetworkRangesFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID vpcId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable String labelSelector,
+			@javax.annotation.Nullable String filter) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listVPCNetworkRangesValidateBeforeCall(
+							projectId, vpcId, region, labelSelector, filter, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VPCNetworkRangeList>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listVPCRegions
 	 *
@@ -7276,6 +8425,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all configured regions in a VPC. (asynchronously) Get a list of all configured regions
+	 * in a VPC.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param vpcId The unique identifier (ID) of the target STACKIT VPC in the request path.
+	 *     (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List all configured VPC regions. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<RegionalVPCList> listVPCRegionsFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull UUID vpcId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listVPCRegionsValidateBeforeCall(projectId, vpcId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RegionalVPCList>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listVPCRoutingTables
 	 *
@@ -7536,6 +8718,50 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all regional routing tables in a VPC. (asynchronously) Get a list of all routing tables
+	 * in a VPC for this region.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param vpcId The unique identifier (ID) of the target STACKIT VPC in the request path.
+	 *     (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @param filter Filter resources by fields. A subset of expr-lang is supported. See
+	 *     https://expr-lang.org/docs/language-definition for usage details. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List all routing tables. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 424 </td><td> The region of the vpc is not enabled. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<VPCRoutingTableList> listVPCRoutingTablesFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID vpcId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable String labelSelector,
+			@javax.annotation.Nullable String filter) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listVPCRoutingTablesValidateBeforeCall(
+							projectId, vpcId, region, labelSelector, filter, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VPCRoutingTableList>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listVPCStaticRoutes
 	 *
@@ -7799,6 +9025,49 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all regional static routes in a VPC. (asynchronously) Get a list of all static routes of
+	 * a VPC for this region.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param vpcId The unique identifier (ID) of the target STACKIT VPC in the request path.
+	 *     (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List all static routes. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 424 </td><td> The region of the vpc is not enabled. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<RouteListResponse> listVPCStaticRoutesFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID vpcId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listVPCStaticRoutesValidateBeforeCall(
+							projectId, vpcId, region, routingTableId, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RouteListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listVPCs
 	 *
@@ -7983,10 +9252,47 @@ class DefaultApi {
 	 * @param labelSelector Filter resources by labels. (optional)
 	 * @param filter Filter resources by fields. A subset of expr-lang is supported. See
 	 *     https://expr-lang.org/docs/language-definition for usage details. (optional)
-	 * @param _callback The callback to be executed when the API call finishes
-	 * @return The request call
-	 * @throws ApiException If fail to process the API call, e.g. serializing the request body
-	 *     object
+	 * @param _callback The callback to be executed when the API call finishes
+	 * @return The request call
+	 * @throws ApiException If fail to process the API call, e.g. serializing the request body
+	 *     object
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Get a list of all VPCs. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public okhttp3.Call listVPCsAsync(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nullable String labelSelector,
+			@javax.annotation.Nullable String filter,
+			final ApiCallback<VPCList> _callback)
+			throws ApiException {
+
+		okhttp3.Call localVarCall =
+				listVPCsValidateBeforeCall(projectId, labelSelector, filter, _callback);
+		Type localVarReturnType = new TypeToken<VPCList>() {}.getType();
+		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
+		return localVarCall;
+	}
+
+	/**
+	 * List project VPCs. (asynchronously) List all visible VPCs of this project. To list shared
+	 * VPCs from other projects of the organization use the &#x60;List all shared VPCs&#x60;
+	 * endpoint.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @param filter Filter resources by fields. A subset of expr-lang is supported. See
+	 *     https://expr-lang.org/docs/language-definition for usage details. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
 	 * @http.response.details
 	 *     <table border="1">
 	 * <caption>Response Details</caption>
@@ -7999,18 +9305,18 @@ class DefaultApi {
 	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
 	 * </table>
 	 */
-	public okhttp3.Call listVPCsAsync(
+	public CompletableFuture<VPCList> listVPCsFuture(
 			@javax.annotation.Nonnull UUID projectId,
 			@javax.annotation.Nullable String labelSelector,
-			@javax.annotation.Nullable String filter,
-			final ApiCallback<VPCList> _callback)
-			throws ApiException {
-
-		okhttp3.Call localVarCall =
-				listVPCsValidateBeforeCall(projectId, labelSelector, filter, _callback);
+			@javax.annotation.Nullable String filter) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listVPCsValidateBeforeCall(projectId, labelSelector, filter, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
 		Type localVarReturnType = new TypeToken<VPCList>() {}.getType();
-		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
-		return localVarCall;
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
 	}
 
 	/**
@@ -8242,6 +9548,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update network settings. (asynchronously) Update the settings of a network inside a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param networkId The identifier (ID) of a STACKIT Network. (required)
+	 * @param partialUpdateNetworkPayload Request an update of a network. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> An update was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> partialUpdateNetworkFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID networkId,
+			@javax.annotation.Nonnull PartialUpdateNetworkPayload partialUpdateNetworkPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					partialUpdateNetworkValidateBeforeCall(
+							projectId, region, networkId, partialUpdateNetworkPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for partialUpdateVPC
 	 *
@@ -8464,6 +9807,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update VPC settings. (asynchronously) Update the settings of a VPC.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param vpcId The unique identifier (ID) of the target STACKIT VPC in the request path.
+	 *     (required)
+	 * @param partialUpdateVPCPayload Request to update a VPC. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> VPC has been updated. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 424 </td><td> The region of the vpc is not enabled. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<VPC> partialUpdateVPCFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID vpcId,
+			@javax.annotation.Nonnull PartialUpdateVPCPayload partialUpdateVPCPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					partialUpdateVPCValidateBeforeCall(
+							projectId, vpcId, partialUpdateVPCPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VPC>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateRouteOfRoutingTable
 	 *
@@ -8770,6 +10151,56 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update a route of a routing table. (asynchronously) Update a route defined in a routing table
+	 * of a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @param routeId The identifier (ID) of a STACKIT Route. (required)
+	 * @param updateRouteOfRoutingTablePayload Request an update of a route in a routing table.
+	 *     (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Update request for route successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Route> updateRouteOfRoutingTableFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId,
+			@javax.annotation.Nonnull UUID routeId,
+			@javax.annotation.Nonnull UpdateRouteOfRoutingTablePayload updateRouteOfRoutingTablePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateRouteOfRoutingTableValidateBeforeCall(
+							organizationId,
+							areaId,
+							region,
+							routingTableId,
+							routeId,
+							updateRouteOfRoutingTablePayload,
+							null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Route>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateRoutingTableOfArea
 	 *
@@ -9047,6 +10478,51 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update a routing table. (asynchronously) Update a routing table defined in a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @param updateRoutingTableOfAreaPayload Request an update of a routing table. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Update request for routing table successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<RoutingTable> updateRoutingTableOfAreaFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId,
+			@javax.annotation.Nonnull UpdateRoutingTableOfAreaPayload updateRoutingTableOfAreaPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateRoutingTableOfAreaValidateBeforeCall(
+							organizationId,
+							areaId,
+							region,
+							routingTableId,
+							updateRoutingTableOfAreaPayload,
+							null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RoutingTable>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateVPCNetworkRange
 	 *
@@ -9323,6 +10799,55 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update a regional network range. (asynchronously) Update a network range of a VPC for this
+	 * region.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param vpcId The unique identifier (ID) of the target STACKIT VPC in the request path.
+	 *     (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param networkRangeId The identifier (ID) of a STACKIT Network Range. (required)
+	 * @param updateVPCNetworkRangePayload Request an update of a network range. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Network Range has been updated. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 424 </td><td> The region of the vpc is not enabled. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<VPCNetworkRange> updateVPCNetworkRangeFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID vpcId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID networkRangeId,
+			@javax.annotation.Nonnull UpdateVPCNetworkRangePayload updateVPCNetworkRangePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateVPCNetworkRangeValidateBeforeCall(
+							projectId,
+							vpcId,
+							region,
+							networkRangeId,
+							updateVPCNetworkRangePayload,
+							null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VPCNetworkRange>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateVPCRegion
 	 *
@@ -9580,6 +11105,51 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update the regional configuration of a VPC. (asynchronously) Update the current configuration
+	 * of a region for a VPC. **Example:** Update nameservers. **Request Body:**
+	 * &#x60;&#x60;&#x60;json { \&quot;ipv4\&quot;: { \&quot;defaultNameservers\&quot;: [
+	 * \&quot;10.1.2.10\&quot;, \&quot;10.1.2.11\&quot; ], } } &#x60;&#x60;&#x60; **Result:** *
+	 * &#x60;ipv4.defaultNameservers&#x60;: **Updated** as a new value was provided.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param vpcId The unique identifier (ID) of the target STACKIT VPC in the request path.
+	 *     (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param updateVPCRegionPayload Request an update of the regional VPC configuration. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Regional VPC configuration has been updated. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 424 </td><td> The region of the vpc is not enabled. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<RegionalVPC> updateVPCRegionFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID vpcId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UpdateVPCRegionPayload updateVPCRegionPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateVPCRegionValidateBeforeCall(
+							projectId, vpcId, region, updateVPCRegionPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RegionalVPC>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateVPCRoutingTable
 	 *
@@ -9852,6 +11422,54 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update a regional routing table. (asynchronously) Update a routing table of a VPC for this
+	 * region.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param vpcId The unique identifier (ID) of the target STACKIT VPC in the request path.
+	 *     (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @param updateVPCRoutingTablePayload Request an update of a routing table. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Update request for routing table successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 424 </td><td> The region of the vpc is not enabled. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<VPCRoutingTable> updateVPCRoutingTableFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID vpcId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId,
+			@javax.annotation.Nonnull UpdateVPCRoutingTablePayload updateVPCRoutingTablePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateVPCRoutingTableValidateBeforeCall(
+							projectId,
+							vpcId,
+							region,
+							routingTableId,
+							updateVPCRoutingTablePayload,
+							null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VPCRoutingTable>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateVPCStaticRoute
 	 *
@@ -10154,4 +11772,55 @@ class DefaultApi {
 		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
 		return localVarCall;
 	}
+
+	/**
+	 * Update a regional static route. (asynchronously) Update a static route of a VPC for this
+	 * region.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param vpcId The unique identifier (ID) of the target STACKIT VPC in the request path.
+	 *     (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @param routeId The identifier (ID) of a STACKIT Route. (required)
+	 * @param updateVPCStaticRoutePayload Request an update of a static route. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Update request for static route successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 424 </td><td> The region of the vpc is not enabled. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Route> updateVPCStaticRouteFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID vpcId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId,
+			@javax.annotation.Nonnull UUID routeId,
+			@javax.annotation.Nonnull UpdateVPCStaticRoutePayload updateVPCStaticRoutePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateVPCStaticRouteValidateBeforeCall(
+							projectId,
+							vpcId,
+							region,
+							routingTableId,
+							routeId,
+							updateVPCStaticRoutePayload,
+							null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Route>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
 }
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2alpha1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2alpha1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -227,8 +228,8 @@ public class AddRoutesToRoutingTablePayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<AddRoutesToRoutingTablePayload> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(AddRoutesToRoutingTablePayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(AddRoutesToRoutingTablePayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<AddRoutesToRoutingTablePayload>() {
@@ -309,6 +310,52 @@ public class AddRoutesToRoutingTablePayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<AddRoutesToRoutingTablePayload> {
+		private final TypeAdapter<List<Route>> routeListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "AddRoutesToRoutingTablePayload", SERIALIZED_NAME_ITEMS);
+			routeListAdapter = getAdapter(List.class, Route.class);
+		}
+
+		@Override
+		protected AddRoutesToRoutingTablePayload newInstance() {
+			return new AddRoutesToRoutingTablePayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, AddRoutesToRoutingTablePayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, routeListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, AddRoutesToRoutingTablePayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, routeListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				AddRoutesToRoutingTablePayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				AddRoutesToRoutingTablePayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of AddRoutesToRoutingTablePayload given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2alpha1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2alpha1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -433,8 +434,8 @@ public class AddRoutingTableToAreaPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<AddRoutingTableToAreaPayload> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(AddRoutingTableToAreaPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(AddRoutingTableToAreaPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<AddRoutingTableToAreaPayload>() {
@@ -514,6 +515,91 @@ public class AddRoutingTableToAreaPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<AddRoutingTableToAreaPayload> {
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "AddRoutingTableToAreaPayload", SERIALIZED_NAME_NAME);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			stringAdapter = gson.getAdapter(String.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			objectAdapter = gson.getAdapter(Object.class);
+		}
+
+		@Override
+		protected AddRoutingTableToAreaPayload newInstance() {
+			return new AddRoutingTableToAreaPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, AddRoutingTableToAreaPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CREATED_AT:
+					instance.createdAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DEFAULT:
+					instance._default = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DESCRIPTION:
+					instance.description = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DYNAMIC_ROUTES:
+					instance.dynamicRoutes = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.name);
+				case SERIALIZED_NAME_SYSTEM_ROUTES:
+					instance.systemRoutes = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_UPDATED_AT:
+					instance.updatedAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, AddRoutingTableToAreaPayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_CREATED_AT, value.createdAt, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_DEFAULT, value._default, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_DESCRIPTION, value.description, stringAdapter);
+			writeField(out, SERIALIZED_NAME_DYNAMIC_ROUTES, value.dynamicRoutes, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_ID, value.id, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_SYSTEM_ROUTES, value.systemRoutes, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_UPDATED_AT, value.updatedAt, offsetDateTimeAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(AddRoutingTableToAreaPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				AddRoutingTableToAreaPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of AddRoutingTableToAreaPayload given an JSON string
 	 *
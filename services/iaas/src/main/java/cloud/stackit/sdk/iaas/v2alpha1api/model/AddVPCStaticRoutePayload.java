@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2alpha1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2alpha1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -336,7 +337,8 @@ public class AddVPCStaticRoutePayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<AddVPCStaticRoutePayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(AddVPCStaticRoutePayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(AddVPCStaticRoutePayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<AddVPCStaticRoutePayload>() {
@@ -415,6 +417,96 @@ public class AddVPCStaticRoutePayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<AddVPCStaticRoutePayload> {
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+		private final TypeAdapter<AddVPCStaticRoutePayloadDestination>
+				addVPCStaticRoutePayloadDestinationAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<AddVPCStaticRoutePayloadNexthop>
+				addVPCStaticRoutePayloadNexthopAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"AddVPCStaticRoutePayload",
+					SERIALIZED_NAME_DESTINATION,
+					SERIALIZED_NAME_NEXTHOP);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+			addVPCStaticRoutePayloadDestinationAdapter =
+					gson.getAdapter(AddVPCStaticRoutePayloadDestination.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			objectAdapter = gson.getAdapter(Object.class);
+			addVPCStaticRoutePayloadNexthopAdapter =
+					gson.getAdapter(AddVPCStaticRoutePayloadNexthop.class);
+		}
+
+		@Override
+		protected AddVPCStaticRoutePayload newInstance() {
+			return new AddVPCStaticRoutePayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, AddVPCStaticRoutePayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CREATED_AT:
+					instance.createdAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DESTINATION:
+					instance.destination =
+							readValue(in, addVPCStaticRoutePayloadDestinationAdapter);
+					return requiredField(0, instance.destination);
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NEXTHOP:
+					instance.nexthop = readValue(in, addVPCStaticRoutePayloadNexthopAdapter);
+					return requiredField(1, instance.nexthop);
+				case SERIALIZED_NAME_UPDATED_AT:
+					instance.updatedAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, AddVPCStaticRoutePayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_CREATED_AT, value.createdAt, offsetDateTimeAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_DESTINATION,
+					value.destination,
+					addVPCStaticRoutePayloadDestinationAdapter);
+			writeField(out, SERIALIZED_NAME_ID, value.id, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_NEXTHOP,
+					value.nexthop,
+					addVPCStaticRoutePayloadNexthopAdapter);
+			writeField(out, SERIALIZED_NAME_UPDATED_AT, value.updatedAt, offsetDateTimeAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(AddVPCStaticRoutePayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				AddVPCStaticRoutePayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of AddVPCStaticRoutePayload given an JSON string
 	 *
@@ -42,9 +42,9 @@ public class AddVPCStaticRoutePayloadDestination extends AbstractOpenApiSchema {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<DestinationCIDRv4> adapterDestinationCIDRv4 =
-					gson.getDelegateAdapter(this, TypeToken.get(DestinationCIDRv4.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(DestinationCIDRv4.class));
 			final TypeAdapter<DestinationCIDRv6> adapterDestinationCIDRv6 =
-					gson.getDelegateAdapter(this, TypeToken.get(DestinationCIDRv6.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(DestinationCIDRv6.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<AddVPCStaticRoutePayloadDestination>() {
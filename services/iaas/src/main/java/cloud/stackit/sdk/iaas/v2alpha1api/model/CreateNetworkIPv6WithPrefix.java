@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2alpha1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2alpha1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -345,7 +346,8 @@ public class CreateNetworkIPv6WithPrefix {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateNetworkIPv6WithPrefix> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateNetworkIPv6WithPrefix.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateNetworkIPv6WithPrefix.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateNetworkIPv6WithPrefix>() {
@@ -425,6 +427,71 @@ public class CreateNetworkIPv6WithPrefix {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateNetworkIPv6WithPrefix> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<List<String>> stringListAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateNetworkIPv6WithPrefix", SERIALIZED_NAME_PREFIX);
+			stringAdapter = gson.getAdapter(String.class);
+			stringListAdapter = getAdapter(List.class, String.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+		}
+
+		@Override
+		protected CreateNetworkIPv6WithPrefix newInstance() {
+			return new CreateNetworkIPv6WithPrefix();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateNetworkIPv6WithPrefix instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_GATEWAY:
+					instance.gateway = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAMESERVERS:
+					instance.nameservers = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PREFIX:
+					instance.prefix = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.prefix);
+				case SERIALIZED_NAME_VPC_NETWORK_RANGE_ID:
+					instance.vpcNetworkRangeId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateNetworkIPv6WithPrefix value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_GATEWAY, value.gateway, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NAMESERVERS, value.nameservers, stringListAdapter);
+			writeField(out, SERIALIZED_NAME_PREFIX, value.prefix, stringAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_VPC_NETWORK_RANGE_ID,
+					value.vpcNetworkRangeId,
+					uuidAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateNetworkIPv6WithPrefix value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateNetworkIPv6WithPrefix instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateNetworkIPv6WithPrefix given an JSON string
 	 *
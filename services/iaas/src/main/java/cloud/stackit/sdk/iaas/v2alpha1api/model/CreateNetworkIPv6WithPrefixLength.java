@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2alpha1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2alpha1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -290,8 +291,8 @@ public class CreateNetworkIPv6WithPrefixLength {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateNetworkIPv6WithPrefixLength> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(CreateNetworkIPv6WithPrefixLength.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateNetworkIPv6WithPrefixLength.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateNetworkIPv6WithPrefixLength>() {
@@ -372,6 +373,69 @@ public class CreateNetworkIPv6WithPrefixLength {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateNetworkIPv6WithPrefixLength> {
+		private final TypeAdapter<List<String>> stringListAdapter;
+		private final TypeAdapter<Long> longAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateNetworkIPv6WithPrefixLength", SERIALIZED_NAME_PREFIX_LENGTH);
+			stringListAdapter = getAdapter(List.class, String.class);
+			longAdapter = gson.getAdapter(Long.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+		}
+
+		@Override
+		protected CreateNetworkIPv6WithPrefixLength newInstance() {
+			return new CreateNetworkIPv6WithPrefixLength();
+		}
+
+		@Override
+		protected int readField(
+				JsonReader in, String name, CreateNetworkIPv6WithPrefixLength instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_NAMESERVERS:
+					instance.nameservers = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PREFIX_LENGTH:
+					instance.prefixLength = readPrimitive(in, name, longAdapter);
+					return requiredField(0);
+				case SERIALIZED_NAME_VPC_NETWORK_RANGE_ID:
+					instance.vpcNetworkRangeId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateNetworkIPv6WithPrefixLength value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_NAMESERVERS, value.nameservers, stringListAdapter);
+			writeField(out, SERIALIZED_NAME_PREFIX_LENGTH, value.prefixLength, longAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_VPC_NETWORK_RANGE_ID,
+					value.vpcNetworkRangeId,
+					uuidAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				CreateNetworkIPv6WithPrefixLength value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateNetworkIPv6WithPrefixLength instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateNetworkIPv6WithPrefixLength given an JSON string
 	 *
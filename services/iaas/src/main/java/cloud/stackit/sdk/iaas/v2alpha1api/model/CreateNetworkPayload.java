@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2alpha1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2alpha1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -428,7 +429,7 @@ public class CreateNetworkPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateNetworkPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateNetworkPayload.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(CreateNetworkPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateNetworkPayload>() {
@@ -507,6 +508,87 @@ public class CreateNetworkPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<CreateNetworkPayload> {
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<CreateNetworkIPv4> createNetworkIPv4Adapter;
+		private final TypeAdapter<CreateNetworkIPv6> createNetworkIPv6Adapter;
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateNetworkPayload", SERIALIZED_NAME_NAME);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			createNetworkIPv4Adapter = gson.getAdapter(CreateNetworkIPv4.class);
+			createNetworkIPv6Adapter = gson.getAdapter(CreateNetworkIPv6.class);
+			objectAdapter = gson.getAdapter(Object.class);
+			stringAdapter = gson.getAdapter(String.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+		}
+
+		@Override
+		protected CreateNetworkPayload newInstance() {
+			return new CreateNetworkPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateNetworkPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DHCP:
+					instance.dhcp = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IPV4:
+					instance.ipv4 = readValue(in, createNetworkIPv4Adapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IPV6:
+					instance.ipv6 = readValue(in, createNetworkIPv6Adapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.name);
+				case SERIALIZED_NAME_ROUTED:
+					instance.routed = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ROUTING_TABLE_ID:
+					instance.routingTableId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_VPC_ID:
+					instance.vpcId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateNetworkPayload value) throws IOException {
+			writeField(out, SERIALIZED_NAME_DHCP, value.dhcp, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_IPV4, value.ipv4, createNetworkIPv4Adapter);
+			writeField(out, SERIALIZED_NAME_IPV6, value.ipv6, createNetworkIPv6Adapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_ROUTED, value.routed, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_ROUTING_TABLE_ID, value.routingTableId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_VPC_ID, value.vpcId, uuidAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateNetworkPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateNetworkPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateNetworkPayload given an JSON string
 	 *
@@ -42,7 +42,8 @@ public class CreateVPCNetworkRangePayload extends AbstractOpenApiSchema {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<NetworkRangeIPv4Request> adapterNetworkRangeIPv4Request =
-					gson.getDelegateAdapter(this, TypeToken.get(NetworkRangeIPv4Request.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(NetworkRangeIPv4Request.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateVPCNetworkRangePayload>() {
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2alpha1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2alpha1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -219,7 +220,8 @@ public class CreateVPCRegionPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateVPCRegionPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateVPCRegionPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateVPCRegionPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateVPCRegionPayload>() {
@@ -298,6 +300,57 @@ public class CreateVPCRegionPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateVPCRegionPayload> {
+		private final TypeAdapter<RegionalVPCIPv4> regionalVPCIPv4Adapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateVPCRegionPayload");
+			regionalVPCIPv4Adapter = gson.getAdapter(RegionalVPCIPv4.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected CreateVPCRegionPayload newInstance() {
+			return new CreateVPCRegionPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateVPCRegionPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_IPV4:
+					instance.ipv4 = readValue(in, regionalVPCIPv4Adapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_STATUS:
+					instance.status = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateVPCRegionPayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_IPV4, value.ipv4, regionalVPCIPv4Adapter);
+			writeField(out, SERIALIZED_NAME_STATUS, value.status, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateVPCRegionPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateVPCRegionPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateVPCRegionPayload given an JSON string
 	 *
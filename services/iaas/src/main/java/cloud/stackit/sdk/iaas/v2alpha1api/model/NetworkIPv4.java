@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2alpha1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2alpha1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -385,7 +386,7 @@ public class NetworkIPv4 {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<NetworkIPv4> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(NetworkIPv4.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(NetworkIPv4.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<NetworkIPv4>() {
@@ -463,6 +464,72 @@ public class NetworkIPv4 {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<NetworkIPv4> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<List<String>> stringListAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "NetworkIPv4", SERIALIZED_NAME_PREFIXES);
+			stringAdapter = gson.getAdapter(String.class);
+			stringListAdapter = getAdapter(List.class, String.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+		}
+
+		@Override
+		protected NetworkIPv4 newInstance() {
+			return new NetworkIPv4();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, NetworkIPv4 instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_GATEWAY:
+					instance.gateway = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAMESERVERS:
+					instance.nameservers = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PREFIXES:
+					instance.prefixes = readArray(in, name, stringListAdapter);
+					return requiredField(0, instance.prefixes);
+				case SERIALIZED_NAME_PUBLIC_IP:
+					instance.publicIp = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_VPC_NETWORK_RANGE_ID:
+					instance.vpcNetworkRangeId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, NetworkIPv4 value) throws IOException {
+			writeField(out, SERIALIZED_NAME_GATEWAY, value.gateway, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NAMESERVERS, value.nameservers, stringListAdapter);
+			writeField(out, SERIALIZED_NAME_PREFIXES, value.prefixes, stringListAdapter);
+			writeField(out, SERIALIZED_NAME_PUBLIC_IP, value.publicIp, stringAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_VPC_NETWORK_RANGE_ID,
+					value.vpcNetworkRangeId,
+					uuidAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(NetworkIPv4 value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(NetworkIPv4 instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of NetworkIPv4 given an JSON string
 	 *
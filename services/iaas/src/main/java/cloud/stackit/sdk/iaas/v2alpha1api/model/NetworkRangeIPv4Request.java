@@ -12,6 +12,9 @@
 
 package cloud.stackit.sdk.iaas.v2alpha1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
+import cloud.stackit.sdk.core.json.EnumLookup;
+import cloud.stackit.sdk.core.json.EnumValueTypeAdapter;
 import cloud.stackit.sdk.iaas.v2alpha1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -71,13 +74,11 @@ public class NetworkRangeIPv4Request {
 			return String.valueOf(value);
 		}
 
+		private static final EnumLookup<IpVersionEnum> LOOKUP =
+				new EnumLookup<>(values(), UNKNOWN_DEFAULT_OPEN_API);
+
 		public static IpVersionEnum fromValue(String value) {
-			for (IpVersionEnum b : IpVersionEnum.values()) {
-				if (b.value.equals(value)) {
-					return b;
-				}
-			}
-			return UNKNOWN_DEFAULT_OPEN_API;
+			return LOOKUP.fromValue(value);
 		}
 
 		public static class Adapter extends TypeAdapter<IpVersionEnum> {
@@ -500,7 +501,8 @@ public class NetworkRangeIPv4Request {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<NetworkRangeIPv4Request> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(NetworkRangeIPv4Request.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(NetworkRangeIPv4Request.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<NetworkRangeIPv4Request>() {
@@ -579,6 +581,94 @@ public class NetworkRangeIPv4Request {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<NetworkRangeIPv4Request> {
+		private final TypeAdapter<Long> longAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<IpVersionEnum> ipVersionEnumAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<List<String>> stringListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"NetworkRangeIPv4Request",
+					SERIALIZED_NAME_IP_VERSION,
+					SERIALIZED_NAME_PREFIX);
+			longAdapter = gson.getAdapter(Long.class);
+			stringAdapter = gson.getAdapter(String.class);
+			ipVersionEnumAdapter =
+					new EnumValueTypeAdapter<>(
+							IpVersionEnum.values(), IpVersionEnum.UNKNOWN_DEFAULT_OPEN_API);
+			objectAdapter = gson.getAdapter(Object.class);
+			stringListAdapter = getAdapter(List.class, String.class);
+		}
+
+		@Override
+		protected NetworkRangeIPv4Request newInstance() {
+			return new NetworkRangeIPv4Request();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, NetworkRangeIPv4Request instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DEFAULT_PREFIX_LEN:
+					instance.defaultPrefixLen = readPrimitive(in, name, longAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DESCRIPTION:
+					instance.description = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IP_VERSION:
+					instance.ipVersion = readPrimitive(in, name, ipVersionEnumAdapter);
+					return requiredField(0, instance.ipVersion);
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MAX_PREFIX_LEN:
+					instance.maxPrefixLen = readPrimitive(in, name, longAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MIN_PREFIX_LEN:
+					instance.minPrefixLen = readPrimitive(in, name, longAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAMESERVERS:
+					instance.nameservers = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PREFIX:
+					instance.prefix = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.prefix);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, NetworkRangeIPv4Request value)
+				throws IOException {
+			writeField(
+					out, SERIALIZED_NAME_DEFAULT_PREFIX_LEN, value.defaultPrefixLen, longAdapter);
+			writeField(out, SERIALIZED_NAME_DESCRIPTION, value.description, stringAdapter);
+			writeField(out, SERIALIZED_NAME_IP_VERSION, value.ipVersion, ipVersionEnumAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_MAX_PREFIX_LEN, value.maxPrefixLen, longAdapter);
+			writeField(out, SERIALIZED_NAME_MIN_PREFIX_LEN, value.minPrefixLen, longAdapter);
+			writeField(out, SERIALIZED_NAME_NAMESERVERS, value.nameservers, stringListAdapter);
+			writeField(out, SERIALIZED_NAME_PREFIX, value.prefix, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(NetworkRangeIPv4Request value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				NetworkRangeIPv4Request instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of NetworkRangeIPv4Request given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2alpha1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2alpha1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -220,7 +221,7 @@ public class RegionalVPCIPv4 {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<RegionalVPCIPv4> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(RegionalVPCIPv4.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(RegionalVPCIPv4.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<RegionalVPCIPv4>() {
@@ -299,6 +300,53 @@ public class RegionalVPCIPv4 {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<RegionalVPCIPv4> {
+		private final TypeAdapter<List<String>> stringListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "RegionalVPCIPv4", SERIALIZED_NAME_DEFAULT_NAMESERVERS);
+			stringListAdapter = getAdapter(List.class, String.class);
+		}
+
+		@Override
+		protected RegionalVPCIPv4 newInstance() {
+			return new RegionalVPCIPv4();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, RegionalVPCIPv4 instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DEFAULT_NAMESERVERS:
+					instance.defaultNameservers = readArray(in, name, stringListAdapter);
+					return requiredField(0, instance.defaultNameservers);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, RegionalVPCIPv4 value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_DEFAULT_NAMESERVERS,
+					value.defaultNameservers,
+					stringListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(RegionalVPCIPv4 value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				RegionalVPCIPv4 instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of RegionalVPCIPv4 given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2alpha1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2alpha1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -205,7 +206,7 @@ public class RegionalVPCList {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<RegionalVPCList> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(RegionalVPCList.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(RegionalVPCList.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<RegionalVPCList>() {
@@ -284,6 +285,49 @@ public class RegionalVPCList {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<RegionalVPCList> {
+		private final TypeAdapter<Map<String, RegionalVPC>> regionalVPCMapAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "RegionalVPCList", SERIALIZED_NAME_REGIONS);
+			regionalVPCMapAdapter = getAdapter(Map.class, String.class, RegionalVPC.class);
+		}
+
+		@Override
+		protected RegionalVPCList newInstance() {
+			return new RegionalVPCList();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, RegionalVPCList instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_REGIONS:
+					instance.regions = readValue(in, regionalVPCMapAdapter);
+					return requiredField(0);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, RegionalVPCList value) throws IOException {
+			writeField(out, SERIALIZED_NAME_REGIONS, value.regions, regionalVPCMapAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(RegionalVPCList value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				RegionalVPCList instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of RegionalVPCList given an JSON string
 	 *
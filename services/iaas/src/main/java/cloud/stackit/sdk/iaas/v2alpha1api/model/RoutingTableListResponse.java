@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2alpha1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2alpha1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -224,7 +225,8 @@ public class RoutingTableListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<RoutingTableListResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(RoutingTableListResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(RoutingTableListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<RoutingTableListResponse>() {
@@ -303,6 +305,51 @@ public class RoutingTableListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<RoutingTableListResponse> {
+		private final TypeAdapter<List<RoutingTable>> routingTableListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "RoutingTableListResponse", SERIALIZED_NAME_ITEMS);
+			routingTableListAdapter = getAdapter(List.class, RoutingTable.class);
+		}
+
+		@Override
+		protected RoutingTableListResponse newInstance() {
+			return new RoutingTableListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, RoutingTableListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, routingTableListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, RoutingTableListResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, routingTableListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(RoutingTableListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				RoutingTableListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of RoutingTableListResponse given an JSON string
 	 *
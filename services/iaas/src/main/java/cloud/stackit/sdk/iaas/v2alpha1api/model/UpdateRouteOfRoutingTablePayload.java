@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2alpha1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2alpha1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -192,8 +193,8 @@ public class UpdateRouteOfRoutingTablePayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateRouteOfRoutingTablePayload> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(UpdateRouteOfRoutingTablePayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(UpdateRouteOfRoutingTablePayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateRouteOfRoutingTablePayload>() {
@@ -274,6 +275,53 @@ public class UpdateRouteOfRoutingTablePayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<UpdateRouteOfRoutingTablePayload> {
+		private final TypeAdapter<Object> objectAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateRouteOfRoutingTablePayload");
+			objectAdapter = gson.getAdapter(Object.class);
+		}
+
+		@Override
+		protected UpdateRouteOfRoutingTablePayload newInstance() {
+			return new UpdateRouteOfRoutingTablePayload();
+		}
+
+		@Override
+		protected int readField(
+				JsonReader in, String name, UpdateRouteOfRoutingTablePayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateRouteOfRoutingTablePayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				UpdateRouteOfRoutingTablePayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateRouteOfRoutingTablePayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateRouteOfRoutingTablePayload given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2alpha1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2alpha1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -317,8 +318,8 @@ public class UpdateRoutingTableOfAreaPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateRoutingTableOfAreaPayload> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(UpdateRoutingTableOfAreaPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(UpdateRoutingTableOfAreaPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateRoutingTableOfAreaPayload>() {
@@ -399,6 +400,73 @@ public class UpdateRoutingTableOfAreaPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<UpdateRoutingTableOfAreaPayload> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateRoutingTableOfAreaPayload");
+			stringAdapter = gson.getAdapter(String.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			objectAdapter = gson.getAdapter(Object.class);
+		}
+
+		@Override
+		protected UpdateRoutingTableOfAreaPayload newInstance() {
+			return new UpdateRoutingTableOfAreaPayload();
+		}
+
+		@Override
+		protected int readField(
+				JsonReader in, String name, UpdateRoutingTableOfAreaPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DESCRIPTION:
+					instance.description = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DYNAMIC_ROUTES:
+					instance.dynamicRoutes = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SYSTEM_ROUTES:
+					instance.systemRoutes = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateRoutingTableOfAreaPayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_DESCRIPTION, value.description, stringAdapter);
+			writeField(out, SERIALIZED_NAME_DYNAMIC_ROUTES, value.dynamicRoutes, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_SYSTEM_ROUTES, value.systemRoutes, booleanAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				UpdateRoutingTableOfAreaPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateRoutingTableOfAreaPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateRoutingTableOfAreaPayload given an JSON string
 	 *
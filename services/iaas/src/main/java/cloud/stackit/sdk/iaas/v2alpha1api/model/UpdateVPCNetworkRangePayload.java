@@ -42,7 +42,8 @@ public class UpdateVPCNetworkRangePayload extends AbstractOpenApiSchema {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<V1UpdateVPCNetworkRangeIPv4> adapterV1UpdateVPCNetworkRangeIPv4 =
-					gson.getDelegateAdapter(this, TypeToken.get(V1UpdateVPCNetworkRangeIPv4.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(V1UpdateVPCNetworkRangeIPv4.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateVPCNetworkRangePayload>() {
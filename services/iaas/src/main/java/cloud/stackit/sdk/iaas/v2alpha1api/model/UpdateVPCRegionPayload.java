@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2alpha1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2alpha1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -219,7 +220,8 @@ public class UpdateVPCRegionPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateVPCRegionPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(UpdateVPCRegionPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(UpdateVPCRegionPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateVPCRegionPayload>() {
@@ -298,6 +300,57 @@ public class UpdateVPCRegionPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<UpdateVPCRegionPayload> {
+		private final TypeAdapter<RegionalVPCIPv4> regionalVPCIPv4Adapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateVPCRegionPayload");
+			regionalVPCIPv4Adapter = gson.getAdapter(RegionalVPCIPv4.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected UpdateVPCRegionPayload newInstance() {
+			return new UpdateVPCRegionPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, UpdateVPCRegionPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_IPV4:
+					instance.ipv4 = readValue(in, regionalVPCIPv4Adapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_STATUS:
+					instance.status = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateVPCRegionPayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_IPV4, value.ipv4, regionalVPCIPv4Adapter);
+			writeField(out, SERIALIZED_NAME_STATUS, value.status, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(UpdateVPCRegionPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateVPCRegionPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateVPCRegionPayload given an JSON string
 	 *
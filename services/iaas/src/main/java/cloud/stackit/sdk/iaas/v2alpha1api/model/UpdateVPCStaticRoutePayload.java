@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2alpha1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2alpha1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -191,7 +192,8 @@ public class UpdateVPCStaticRoutePayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateVPCStaticRoutePayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(UpdateVPCStaticRoutePayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(UpdateVPCStaticRoutePayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateVPCStaticRoutePayload>() {
@@ -271,6 +273,51 @@ public class UpdateVPCStaticRoutePayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<UpdateVPCStaticRoutePayload> {
+		private final TypeAdapter<Object> objectAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateVPCStaticRoutePayload");
+			objectAdapter = gson.getAdapter(Object.class);
+		}
+
+		@Override
+		protected UpdateVPCStaticRoutePayload newInstance() {
+			return new UpdateVPCStaticRoutePayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, UpdateVPCStaticRoutePayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateVPCStaticRoutePayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(UpdateVPCStaticRoutePayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateVPCStaticRoutePayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateVPCStaticRoutePayload given an JSON string
 	 *
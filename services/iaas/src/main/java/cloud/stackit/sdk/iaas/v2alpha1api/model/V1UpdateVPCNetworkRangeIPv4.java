@@ -12,6 +12,9 @@
 
 package cloud.stackit.sdk.iaas.v2alpha1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
+import cloud.stackit.sdk.core.json.EnumLookup;
+import cloud.stackit.sdk.core.json.EnumValueTypeAdapter;
 import cloud.stackit.sdk.iaas.v2alpha1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -67,13 +70,11 @@ public class V1UpdateVPCNetworkRangeIPv4 {
 			return String.valueOf(value);
 		}
 
+		private static final EnumLookup<IpVersionEnum> LOOKUP =
+				new EnumLookup<>(values(), UNKNOWN_DEFAULT_OPEN_API);
+
 		public static IpVersionEnum fromValue(String value) {
-			for (IpVersionEnum b : IpVersionEnum.values()) {
-				if (b.value.equals(value)) {
-					return b;
-				}
-			}
-			return UNKNOWN_DEFAULT_OPEN_API;
+			return LOOKUP.fromValue(value);
 		}
 
 		public static class Adapter extends TypeAdapter<IpVersionEnum> {
@@ -463,7 +464,8 @@ public class V1UpdateVPCNetworkRangeIPv4 {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<V1UpdateVPCNetworkRangeIPv4> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(V1UpdateVPCNetworkRangeIPv4.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(V1UpdateVPCNetworkRangeIPv4.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<V1UpdateVPCNetworkRangeIPv4>() {
@@ -543,6 +545,86 @@ public class V1UpdateVPCNetworkRangeIPv4 {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<V1UpdateVPCNetworkRangeIPv4> {
+		private final TypeAdapter<Long> longAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<IpVersionEnum> ipVersionEnumAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<List<String>> stringListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "V1UpdateVPCNetworkRangeIPv4", SERIALIZED_NAME_IP_VERSION);
+			longAdapter = gson.getAdapter(Long.class);
+			stringAdapter = gson.getAdapter(String.class);
+			ipVersionEnumAdapter =
+					new EnumValueTypeAdapter<>(
+							IpVersionEnum.values(), IpVersionEnum.UNKNOWN_DEFAULT_OPEN_API);
+			objectAdapter = gson.getAdapter(Object.class);
+			stringListAdapter = getAdapter(List.class, String.class);
+		}
+
+		@Override
+		protected V1UpdateVPCNetworkRangeIPv4 newInstance() {
+			return new V1UpdateVPCNetworkRangeIPv4();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, V1UpdateVPCNetworkRangeIPv4 instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DEFAULT_PREFIX_LEN:
+					instance.defaultPrefixLen = readPrimitive(in, name, longAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DESCRIPTION:
+					instance.description = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IP_VERSION:
+					instance.ipVersion = readPrimitive(in, name, ipVersionEnumAdapter);
+					return requiredField(0, instance.ipVersion);
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MAX_PREFIX_LEN:
+					instance.maxPrefixLen = readPrimitive(in, name, longAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MIN_PREFIX_LEN:
+					instance.minPrefixLen = readPrimitive(in, name, longAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAMESERVERS:
+					instance.nameservers = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, V1UpdateVPCNetworkRangeIPv4 value)
+				throws IOException {
+			writeField(
+					out, SERIALIZED_NAME_DEFAULT_PREFIX_LEN, value.defaultPrefixLen, longAdapter);
+			writeField(out, SERIALIZED_NAME_DESCRIPTION, value.description, stringAdapter);
+			writeField(out, SERIALIZED_NAME_IP_VERSION, value.ipVersion, ipVersionEnumAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_MAX_PREFIX_LEN, value.maxPrefixLen, longAdapter);
+			writeField(out, SERIALIZED_NAME_MIN_PREFIX_LEN, value.minPrefixLen, longAdapter);
+			writeField(out, SERIALIZED_NAME_NAMESERVERS, value.nameservers, stringListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(V1UpdateVPCNetworkRangeIPv4 value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				V1UpdateVPCNetworkRangeIPv4 instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of V1UpdateVPCNetworkRangeIPv4 given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2alpha1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2alpha1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -222,7 +223,7 @@ public class VPCList {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<VPCList> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(VPCList.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(VPCList.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<VPCList>() {
@@ -300,6 +301,47 @@ public class VPCList {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<VPCList> {
+		private final TypeAdapter<List<VPC>> vpcListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "VPCList", SERIALIZED_NAME_ITEMS);
+			vpcListAdapter = getAdapter(List.class, VPC.class);
+		}
+
+		@Override
+		protected VPCList newInstance() {
+			return new VPCList();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, VPCList instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, vpcListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, VPCList value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, vpcListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(VPCList value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(VPCList instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of VPCList given an JSON string
 	 *
@@ -40,9 +40,9 @@ public class VPCNetworkRange extends AbstractOpenApiSchema {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<VPCNetworkRangeIPv4> adapterVPCNetworkRangeIPv4 =
-					gson.getDelegateAdapter(this, TypeToken.get(VPCNetworkRangeIPv4.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(VPCNetworkRangeIPv4.class));
 			final TypeAdapter<VPCNetworkRangeIPv6> adapterVPCNetworkRangeIPv6 =
-					gson.getDelegateAdapter(this, TypeToken.get(VPCNetworkRangeIPv6.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(VPCNetworkRangeIPv6.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<VPCNetworkRange>() {
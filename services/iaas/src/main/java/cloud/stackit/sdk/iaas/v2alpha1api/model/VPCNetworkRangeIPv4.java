@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2alpha1api.model;
 
+import cloud.stackit.sdk.core.json.EnumLookup;
 import cloud.stackit.sdk.iaas.v2alpha1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -94,13 +95,11 @@ public class VPCNetworkRangeIPv4 {
 			return String.valueOf(value);
 		}
 
+		private static final EnumLookup<IpVersionEnum> LOOKUP =
+				new EnumLookup<>(values(), UNKNOWN_DEFAULT_OPEN_API);
+
 		public static IpVersionEnum fromValue(String value) {
-			for (IpVersionEnum b : IpVersionEnum.values()) {
-				if (b.value.equals(value)) {
-					return b;
-				}
-			}
-			return UNKNOWN_DEFAULT_OPEN_API;
+			return LOOKUP.fromValue(value);
 		}
 
 		public static class Adapter extends TypeAdapter<IpVersionEnum> {
@@ -609,7 +608,7 @@ public class VPCNetworkRangeIPv4 {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<VPCNetworkRangeIPv4> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(VPCNetworkRangeIPv4.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(VPCNetworkRangeIPv4.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<VPCNetworkRangeIPv4>() {
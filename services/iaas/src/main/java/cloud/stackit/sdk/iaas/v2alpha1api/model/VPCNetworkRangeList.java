@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2alpha1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2alpha1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -223,7 +224,7 @@ public class VPCNetworkRangeList {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<VPCNetworkRangeList> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(VPCNetworkRangeList.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(VPCNetworkRangeList.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<VPCNetworkRangeList>() {
@@ -302,6 +303,49 @@ public class VPCNetworkRangeList {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<VPCNetworkRangeList> {
+		private final TypeAdapter<List<VPCNetworkRange>> vpcNetworkRangeListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "VPCNetworkRangeList", SERIALIZED_NAME_ITEMS);
+			vpcNetworkRangeListAdapter = getAdapter(List.class, VPCNetworkRange.class);
+		}
+
+		@Override
+		protected VPCNetworkRangeList newInstance() {
+			return new VPCNetworkRangeList();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, VPCNetworkRangeList instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, vpcNetworkRangeListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, VPCNetworkRangeList value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, vpcNetworkRangeListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(VPCNetworkRangeList value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				VPCNetworkRangeList instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of VPCNetworkRangeList given an JSON string
 	 *
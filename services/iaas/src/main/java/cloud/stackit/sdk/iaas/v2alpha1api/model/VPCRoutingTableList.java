@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2alpha1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2alpha1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -223,7 +224,7 @@ public class VPCRoutingTableList {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<VPCRoutingTableList> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(VPCRoutingTableList.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(VPCRoutingTableList.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<VPCRoutingTableList>() {
@@ -302,6 +303,49 @@ public class VPCRoutingTableList {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<VPCRoutingTableList> {
+		private final TypeAdapter<List<VPCRoutingTable>> vpcRoutingTableListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "VPCRoutingTableList", SERIALIZED_NAME_ITEMS);
+			vpcRoutingTableListAdapter = getAdapter(List.class, VPCRoutingTable.class);
+		}
+
+		@Override
+		protected VPCRoutingTableList newInstance() {
+			return new VPCRoutingTableList();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, VPCRoutingTableList instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, vpcRoutingTableListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, VPCRoutingTableList value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, vpcRoutingTableListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(VPCRoutingTableList value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				VPCRoutingTableList instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of VPCRoutingTableList given an JSON string
 	 *
@@ -12,12 +12,21 @@
 
 package cloud.stackit.sdk.iaas.v2api;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapterFactory;
+import cloud.stackit.sdk.core.json.DateTimeParser;
+import cloud.stackit.sdk.core.json.LazyModelTypeAdapterFactory;
+import cloud.stackit.sdk.core.json.StreamingModelTypeAdapterFactory;
+import cloud.stackit.sdk.core.json.StringPool;
+import cloud.stackit.sdk.core.json.StringPoolTypeAdapter;
+import cloud.stackit.sdk.core.json.UuidTypeAdapter;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
 import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
 import com.google.gson.internal.bind.util.ISO8601Utils;
+import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 import io.gsonfire.GsonFireBuilder;
@@ -37,6 +46,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import okio.ByteString;
 
 /*
@@ -54,6 +64,16 @@ public class JSON {
 			new OffsetDateTimeTypeAdapter();
 	private static LocalDateTypeAdapter localDateTypeAdapter = new LocalDateTypeAdapter();
 	private static ByteArrayAdapter byteArrayAdapter = new ByteArrayAdapter();
+	private static UuidTypeAdapter uuidTypeAdapter = new UuidTypeAdapter();
+	private static StringPoolTypeAdapter stringPoolTypeAdapter = new StringPoolTypeAdapter();
+	private static StreamingModelTypeAdapterFactory streamingModelTypeAdapterFactory =
+			new StreamingModelTypeAdapterFactory("cloud.stackit.sdk.iaas.v2api.model");
+	private static LazyModelTypeAdapterFactory modelTypeAdapterFactory =
+			new LazyModelTypeAdapterFactory("cloud.stackit.sdk.iaas.v2api.model");
+	private static CompiledModelTypeAdapterFactory compiledModelTypeAdapterFactory =
+			new CompiledModelTypeAdapterFactory(
+					"cloud.stackit.sdk.iaas.v2api.model",
+					cloud.stackit.sdk.iaas.v2api.model.CompiledTypeAdapters::create);
 
 	@SuppressWarnings("unchecked")
 	public static GsonBuilder createGson() {
@@ -164,381 +184,15 @@ public class JSON {
 		gsonBuilder.registerTypeAdapter(OffsetDateTime.class, offsetDateTimeTypeAdapter);
 		gsonBuilder.registerTypeAdapter(LocalDate.class, localDateTypeAdapter);
 		gsonBuilder.registerTypeAdapter(byte[].class, byteArrayAdapter);
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.AddRoutesToRoutingTablePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.AddRoutingTableToAreaPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.AddVolumeToServerPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.AffinityGroup.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.AffinityGroupListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.AllowedAddressesInner
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.AreaId.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.AvailabilityZoneListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.Backup.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.BackupListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.BackupSource.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.BaseSecurityGroupRule
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.BootVolume.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.BootVolumeSource.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateAffinityGroupPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateBackupPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateImagePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateIsolatedNetworkPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateKeyPairPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateNetworkAreaPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateNetworkAreaRangePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateNetworkAreaRegionPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateNetworkAreaRoutePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateNetworkIPv4
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateNetworkIPv4WithPrefix
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateNetworkIPv4WithPrefixLength
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateNetworkIPv6
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateNetworkIPv6WithPrefix
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateNetworkIPv6WithPrefixLength
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateNetworkPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateNicPayload.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateProtocol.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreatePublicIPPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateSecurityGroupPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateSecurityGroupRulePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateSecurityGroupRuleProtocol
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateServerNetworking
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateServerNetworkingWithNics
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateServerPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateServerPayloadAllOfNetworking
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateSnapshotPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.CreateVolumePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.DestinationCIDRv4
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.DestinationCIDRv6
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.Error.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.GetServerLog200Response
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.ICMPParameters.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.Image.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.ImageAgent.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.ImageChecksum.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.ImageConfig.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.ImageCreateResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.ImageFromVolumePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.ImageListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.ImageShare.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.ImageShareConsumer
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.KeyPairListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.Keypair.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.MachineType.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.MachineTypeListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.NIC.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.NICListResponse.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.Network.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.NetworkArea.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.NetworkAreaListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.NetworkIPv4.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.NetworkIPv6.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.NetworkListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.NetworkRange.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.NetworkRangeListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.NexthopBlackhole.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.NexthopIPv4.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.NexthopIPv6.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.NexthopInternet.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.PartialUpdateNetworkAreaPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.PartialUpdateNetworkPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.PortRange.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.Project.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.ProjectListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.Protocol.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.PublicIp.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.PublicIpListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.PublicNetwork.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.PublicNetworkListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.Quota.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.QuotaList.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.QuotaListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.RegionalArea.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.RegionalAreaIPv4.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.RegionalAreaListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.Request.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.RequestResource.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.RescueServerPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.ResizeServerPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.ResizeVolumePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.Route.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.RouteDestination.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.RouteListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.RouteNexthop.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.RoutingTable.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.RoutingTableListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.SecurityGroup.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.SecurityGroupListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.SecurityGroupRule
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.SecurityGroupRuleListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.SecurityGroupRuleProtocol
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.Server.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.ServerAgent.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.ServerConsoleUrl.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.ServerListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.ServerMaintenance
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.ServerNetwork.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.ServerNetworking.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.ServiceAccountMailListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.SetImageSharePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.Snapshot.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.SnapshotListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.UpdateAttachedVolumePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.UpdateBackupPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.UpdateImagePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.UpdateImageSharePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.UpdateKeyPairPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.UpdateNetworkAreaRegionPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.UpdateNetworkAreaRoutePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.UpdateNetworkIPv4Body
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.UpdateNetworkIPv6Body
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.UpdateNicPayload.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.UpdatePublicIPPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.UpdateRegionalAreaIPv4
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.UpdateRouteOfRoutingTablePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.UpdateRoutingTableOfAreaPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.UpdateSecurityGroupPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.UpdateServerPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.UpdateSnapshotPayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.UpdateVolumePayload
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.Volume.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.VolumeAttachment.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.VolumeAttachmentListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.VolumeEncryptionParameter
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.VolumeListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.VolumePerformanceClass
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.VolumePerformanceClassListResponse
-						.CustomTypeAdapterFactory());
-		gsonBuilder.registerTypeAdapterFactory(
-				new cloud.stackit.sdk.iaas.v2api.model.VolumeSource.CustomTypeAdapterFactory());
+		gsonBuilder.registerTypeAdapter(UUID.class, uuidTypeAdapter);
+		gsonBuilder.registerTypeAdapter(String.class, stringPoolTypeAdapter);
+		// the adapters of the models are created on first use instead of registering the
+		// generated factories of all models up front
+		gsonBuilder.registerTypeAdapterFactory(modelTypeAdapterFactory);
+		// registered after the lazy factory, so it takes precedence over the model adapters
+		gsonBuilder.registerTypeAdapterFactory(streamingModelTypeAdapterFactory);
+		// registered last, so the compiled model adapters take precedence over all others
+		gsonBuilder.registerTypeAdapterFactory(compiledModelTypeAdapterFactory);
 		gson = gsonBuilder.create();
 	}
 
@@ -564,6 +218,68 @@ public class JSON {
 		isLenientOnJson = lenientOnJson;
 	}
 
+	/**
+	 * Enable or disable the single-pass streaming deserialization of the model classes. If
+	 * enabled, models are validated and bound while the JSON is read instead of building and
+	 * walking an intermediate JsonElement tree. Disabled by default.
+	 *
+	 * @param streamingDeserialization true to deserialize models in a single pass
+	 */
+	public static void setStreamingDeserialization(boolean streamingDeserialization) {
+		streamingModelTypeAdapterFactory.setEnabled(streamingDeserialization);
+	}
+
+	public static boolean isStreamingDeserialization() {
+		return streamingModelTypeAdapterFactory.isEnabled();
+	}
+
+	/**
+	 * Enable or disable the compiled type adapters of the model classes. If enabled, models are
+	 * read and written by the adapters generated into the model classes, which create the models
+	 * and access their fields without reflection. The compiled adapters read the models in a
+	 * single pass and validate them like the default adapters. Disabled by default.
+	 *
+	 * @param compiledTypeAdapters true to use the compiled type adapters
+	 */
+	public static void setCompiledTypeAdapters(boolean compiledTypeAdapters) {
+		compiledModelTypeAdapterFactory.setEnabled(compiledTypeAdapters);
+	}
+
+	public static boolean isCompiledTypeAdapters() {
+		return compiledModelTypeAdapterFactory.isEnabled();
+	}
+
+	/**
+	 * Set the pool of the deserialized strings. If set, equal string values of the models share
+	 * one instance, which reduces the heap used by large lists kept in memory. Disabled by
+	 * default.
+	 *
+	 * @param stringPool the pool, or null to disable the pooling
+	 */
+	public static void setStringPool(StringPool stringPool) {
+		stringPoolTypeAdapter.setStringPool(stringPool);
+	}
+
+	public static StringPool getStringPool() {
+		return stringPoolTypeAdapter.getStringPool();
+	}
+
+	/**
+	 * Returns the adapter the generated adapter of a model delegates to. Used by the generated
+	 * model adapters instead of {@link Gson#getDelegateAdapter(TypeAdapterFactory, TypeToken)},
+	 * as their factories are not registered in the Gson instance.
+	 *
+	 * @param <T> Type
+	 * @param gson Gson instance which created the model adapter
+	 * @param skipPast factory of the model adapter
+	 * @param type type to get the adapter for
+	 * @return adapter for the type
+	 */
+	public static <T> TypeAdapter<T> getDelegateAdapter(
+			Gson gson, TypeAdapterFactory skipPast, TypeToken<T> type) {
+		return modelTypeAdapterFactory.getDelegateAdapter(gson, skipPast, type);
+	}
+
 	/**
 	 * Serialize the given Java object into JSON string.
 	 *
@@ -689,6 +405,10 @@ public class JSON {
 					return null;
 				default:
 					String date = in.nextString();
+					if (formatter == DateTimeFormatter.ISO_OFFSET_DATE_TIME) {
+						// parses the common forms without running the formatter
+						return DateTimeParser.parseOffsetDateTime(date);
+					}
 					if (date.endsWith("+0000")) {
 						date = date.substring(0, date.length() - 5) + "Z";
 					}
@@ -120,6 +120,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import okhttp3.OkHttpClient;
 
 // Package-private access to enforce service-specific API usage (DefaultApi => <ServiceName>Api)
@@ -432,6 +433,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create and attach a network interface from the specified network. (asynchronously) Create and
+	 * attach a network interface from the specified network to the server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param networkId The identifier (ID) of a STACKIT Network. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Create and attach network interface was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> addNetworkToServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID networkId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					addNetworkToServerValidateBeforeCall(
+							projectId, region, serverId, networkId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for addNicToServer
 	 *
@@ -666,6 +705,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Attach an existing network interface. (asynchronously) Attach an existing network interface
+	 * to a server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param nicId The identifier (ID) of a network interface. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Network interface attachment request was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> addNicToServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID nicId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					addNicToServerValidateBeforeCall(projectId, region, serverId, nicId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for addPublicIpToServer
 	 *
@@ -901,6 +978,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Associate a public IP to the server. (asynchronously) Associate a public IP to a server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param publicIpId The identifier (ID) of a Public IP. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Attach Public IP to server was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> addPublicIpToServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID publicIpId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					addPublicIpToServerValidateBeforeCall(
+							projectId, region, serverId, publicIpId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for addRoutesToRoutingTable
 	 *
@@ -1182,6 +1297,54 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new routes in a routing table. (asynchronously) Create new routes in an existing
+	 * routing table.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @param addRoutesToRoutingTablePayload Request an addition of routes to a routing table.
+	 *     (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Adding routes to routing table was successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<RouteListResponse> addRoutesToRoutingTableFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId,
+			@javax.annotation.Nonnull AddRoutesToRoutingTablePayload addRoutesToRoutingTablePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					addRoutesToRoutingTableValidateBeforeCall(
+							organizationId,
+							areaId,
+							region,
+							routingTableId,
+							addRoutesToRoutingTablePayload,
+							null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RouteListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for addRoutingTableToArea
 	 *
@@ -1428,6 +1591,47 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new routing table in a network area. (asynchronously) Create a new routing table in an
+	 * existing network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param addRoutingTableToAreaPayload Request an addition of a routing table to an area.
+	 *     (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Adding routing table was successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<RoutingTable> addRoutingTableToAreaFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull AddRoutingTableToAreaPayload addRoutingTableToAreaPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					addRoutingTableToAreaValidateBeforeCall(
+							organizationId, areaId, region, addRoutingTableToAreaPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RoutingTable>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for addSecurityGroupToServer
 	 *
@@ -1665,6 +1869,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Add a server to a security group. (asynchronously) Add an existing server to an existing
+	 * security group.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param securityGroupId The identifier (ID) of a STACKIT Security Group. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Security group attachment request was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> addSecurityGroupToServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID securityGroupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					addSecurityGroupToServerValidateBeforeCall(
+							projectId, region, serverId, securityGroupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for addServiceAccountToServer
 	 *
@@ -1907,6 +2150,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Attach service account to a server. (asynchronously) Attach a service account to the server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param serviceAccountMail The e-mail address of a service account. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Service account attached to the server. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ServiceAccountMailListResponse> addServiceAccountToServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull String serviceAccountMail) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					addServiceAccountToServerValidateBeforeCall(
+							projectId, region, serverId, serviceAccountMail, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ServiceAccountMailListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for addVolumeToServer
 	 *
@@ -2159,6 +2441,48 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Attach a volume to a server. (asynchronously) Attach an existing volume to an existing
+	 * server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param volumeId The identifier (ID) of a STACKIT Volume. (required)
+	 * @param addVolumeToServerPayload Request a volume attachment creation. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Volume attachment request was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<VolumeAttachment> addVolumeToServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID volumeId,
+			@javax.annotation.Nullable AddVolumeToServerPayload addVolumeToServerPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					addVolumeToServerValidateBeforeCall(
+							projectId, region, serverId, volumeId, addVolumeToServerPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VolumeAttachment>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createAffinityGroup
 	 *
@@ -2377,6 +2701,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create a new affinity group in a project. (asynchronously) Create a new server affinity group
+	 * in the given project ID.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param createAffinityGroupPayload Request a affinity group creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Affinity group was created successfully. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<AffinityGroup> createAffinityGroupFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreateAffinityGroupPayload createAffinityGroupPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createAffinityGroupValidateBeforeCall(
+							projectId, region, createAffinityGroupPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<AffinityGroup>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createBackup
 	 *
@@ -2598,14 +2959,51 @@ class DefaultApi {
 	}
 
 	/**
-	 * Build call for createImage
+	 * Create new Backup. (asynchronously) Create a new Backup in a project. If a snapshot ID is
+	 * provided create the backup from the snapshot.
 	 *
 	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
 	 * @param region The STACKIT Region of the resources. (required)
-	 * @param createImagePayload Request an image creation. (required)
-	 * @param _callback Callback for upload/download progress
-	 * @return Call to execute
-	 * @throws ApiException If fail to serialize the request body object
+	 * @param createBackupPayload Request a backup creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Create request for Backup accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 413 </td><td> The request entity is too large. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Backup> createBackupFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreateBackupPayload createBackupPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createBackupValidateBeforeCall(projectId, region, createBackupPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Backup>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
+	/**
+	 * Build call for createImage
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param createImagePayload Request an image creation. (required)
+	 * @param _callback Callback for upload/download progress
+	 * @return Call to execute
+	 * @throws ApiException If fail to serialize the request body object
 	 * @http.response.details
 	 *     <table border="1">
 	 * <caption>Response Details</caption>
@@ -2821,6 +3219,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new Image. (asynchronously) Create a new Image in a project in queued state. Image
+	 * data must be imported separately. This call returns a pre-signed URL to upload small images.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param createImagePayload Request an image creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Create request for an Image has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 413 </td><td> The request entity is too large. </td><td>  -  </td></tr>
+	 * <tr><td> 429 </td><td> Too Many Requests. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ImageCreateResponse> createImageFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreateImagePayload createImagePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createImageValidateBeforeCall(projectId, region, createImagePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ImageCreateResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createIsolatedNetwork
 	 *
@@ -3047,6 +3483,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create a single isolated network. (asynchronously) Creates an isolated network which is not
+	 * connected to other networks in this project. We recommend using this endpoint only if you are
+	 * fully aware of its purpose and the consequences of its execution.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param createIsolatedNetworkPayload Request a single isolated network creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Isolated Network create has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Network> createIsolatedNetworkFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreateIsolatedNetworkPayload createIsolatedNetworkPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createIsolatedNetworkValidateBeforeCall(
+							projectId, region, createIsolatedNetworkPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Network>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createKeyPair
 	 *
@@ -3237,6 +3712,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Import a public key. (asynchronously) Import a new public key for the requesting user based
+	 * on provided public key material. The creation will fail if an SSH keypair with the same name
+	 * already exists. If a name is not provided it is autogenerated form the ssh-pubkey comment
+	 * section. If that is also not present it will be the the MD5 fingerprint of the key. For
+	 * autogenerated names invalid characters will be removed.
+	 *
+	 * @param createKeyPairPayload Request a public key import. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Import of the public key was successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Keypair> createKeyPairFuture(
+			@javax.annotation.Nonnull CreateKeyPairPayload createKeyPairPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = createKeyPairValidateBeforeCall(createKeyPairPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Keypair>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createNetwork
 	 *
@@ -3463,6 +3973,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new network. (asynchronously) Create a new network in a project.
+	 * &#x60;nameservers&#x60; will be filled from &#x60;defaultNameservers&#x60; of the respective
+	 * area if not specified. If the project has &#x60;internetAccess&#x60; enabled and this is the
+	 * first network in the project this might incur cost.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param createNetworkPayload Request a network creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Network create has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Network> createNetworkFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreateNetworkPayload createNetworkPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createNetworkValidateBeforeCall(projectId, region, createNetworkPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Network>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createNetworkArea
 	 *
@@ -3668,6 +4217,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new network area in an organization. (asynchronously) Create a new network area in an
+	 * organization. You can specify
+	 * &#x60;\&quot;preview/routingtables\&quot;&#x3D;\&quot;true\&quot;&#x60; as a label to enable
+	 * the preview routing tables feature. This feature cannot be enabled or disabled afterwards.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param createNetworkAreaPayload Request an Area creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Area has been successfully created. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<NetworkArea> createNetworkAreaFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull CreateNetworkAreaPayload createNetworkAreaPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createNetworkAreaValidateBeforeCall(
+							organizationId, createNetworkAreaPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NetworkArea>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createNetworkAreaRange
 	 *
@@ -3914,6 +4500,47 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new network range in a network area. (asynchronously) Create a new network range in an
+	 * existing network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param createNetworkAreaRangePayload Request an addition of network ranges to an area.
+	 *     (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Adding network ranges was successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<NetworkRangeListResponse> createNetworkAreaRangeFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreateNetworkAreaRangePayload createNetworkAreaRangePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createNetworkAreaRangeValidateBeforeCall(
+							organizationId, areaId, region, createNetworkAreaRangePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NetworkRangeListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createNetworkAreaRegion
 	 *
@@ -4158,6 +4785,47 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Configure a region for a network area. (asynchronously) Configure a new region for a network
+	 * area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param createNetworkAreaRegionPayload Request to add a new regional network area
+	 *     configuration. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Configure network area in a new region was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<RegionalArea> createNetworkAreaRegionFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreateNetworkAreaRegionPayload createNetworkAreaRegionPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createNetworkAreaRegionValidateBeforeCall(
+							organizationId, areaId, region, createNetworkAreaRegionPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RegionalArea>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createNetworkAreaRoute
 	 *
@@ -4398,6 +5066,46 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new network routes. (asynchronously) Create one or several new network routes in a
+	 * network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param createNetworkAreaRoutePayload Request an addition of routes to an area. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Create request for network routes accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<RouteListResponse> createNetworkAreaRouteFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreateNetworkAreaRoutePayload createNetworkAreaRoutePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createNetworkAreaRouteValidateBeforeCall(
+							organizationId, areaId, region, createNetworkAreaRoutePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RouteListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createNic
 	 *
@@ -4639,19 +5347,59 @@ class DefaultApi {
 	}
 
 	/**
-	 * Build call for createPublicIP
+	 * Create new network interface. (asynchronously) Create a new network interface in a project.
 	 *
 	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
 	 * @param region The STACKIT Region of the resources. (required)
-	 * @param createPublicIPPayload Request a public IP creation. (required)
-	 * @param _callback Callback for upload/download progress
-	 * @return Call to execute
-	 * @throws ApiException If fail to serialize the request body object
+	 * @param networkId The identifier (ID) of a STACKIT Network. (required)
+	 * @param createNicPayload Request a network interface creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
 	 * @http.response.details
 	 *     <table border="1">
 	 * <caption>Response Details</caption>
 	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-	 * <tr><td> 201 </td><td> The public IP has been created. </td><td>  -  </td></tr>
+	 * <tr><td> 201 </td><td> Network interface was created successfully. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 429 </td><td> Too Many Requests. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<NIC> createNicFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID networkId,
+			@javax.annotation.Nonnull CreateNicPayload createNicPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createNicValidateBeforeCall(
+							projectId, region, networkId, createNicPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NIC>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
+	/**
+	 * Build call for createPublicIP
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param createPublicIPPayload Request a public IP creation. (required)
+	 * @param _callback Callback for upload/download progress
+	 * @return Call to execute
+	 * @throws ApiException If fail to serialize the request body object
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> The public IP has been created. </td><td>  -  </td></tr>
 	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
 	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
 	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
@@ -4856,6 +5604,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new public IP. (asynchronously) Create a new public IP in a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param createPublicIPPayload Request a public IP creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> The public IP has been created. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 429 </td><td> Too Many Requests. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<PublicIp> createPublicIPFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreatePublicIPPayload createPublicIPPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createPublicIPValidateBeforeCall(
+							projectId, region, createPublicIPPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<PublicIp>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createSecurityGroup
 	 *
@@ -5071,6 +5856,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new security group. (asynchronously) Create a new security group in a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param createSecurityGroupPayload Request a security group creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Security group create has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<SecurityGroup> createSecurityGroupFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreateSecurityGroupPayload createSecurityGroupPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createSecurityGroupValidateBeforeCall(
+							projectId, region, createSecurityGroupPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<SecurityGroup>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createSecurityGroupRule
 	 *
@@ -5311,6 +6132,49 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new security group rule. (asynchronously) Create a new security group rule in a
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param securityGroupId The identifier (ID) of a STACKIT Security Group. (required)
+	 * @param createSecurityGroupRulePayload Request for a security group rule creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Security group rule create has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<SecurityGroupRule> createSecurityGroupRuleFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID securityGroupId,
+			@javax.annotation.Nonnull CreateSecurityGroupRulePayload createSecurityGroupRulePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createSecurityGroupRuleValidateBeforeCall(
+							projectId,
+							region,
+							securityGroupId,
+							createSecurityGroupRulePayload,
+							null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<SecurityGroupRule>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createServer
 	 *
@@ -5524,6 +6388,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new server. (asynchronously) Create a new server in a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param createServerPayload Request a server creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Create request for server accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Server> createServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreateServerPayload createServerPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createServerValidateBeforeCall(projectId, region, createServerPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Server>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createSnapshot
 	 *
@@ -5746,6 +6645,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new Snapshot. (asynchronously) Create a new Snapshot from a Volume in a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param createSnapshotPayload Request a snapshot creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Create request for Snapshot accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 413 </td><td> The request entity is too large. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Snapshot> createSnapshotFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreateSnapshotPayload createSnapshotPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createSnapshotValidateBeforeCall(
+							projectId, region, createSnapshotPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Snapshot>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createVolume
 	 *
@@ -5973,6 +6910,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create new volume. (asynchronously) Create a new volume in a project. If a volume source is
+	 * not provided, an empty volume will be created. The size property is required if no source or
+	 * an image source is provided.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param createVolumePayload Request a volume creation. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Create request for volume accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 413 </td><td> The request entity is too large. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Volume> createVolumeFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreateVolumePayload createVolumePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createVolumeValidateBeforeCall(projectId, region, createVolumePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Volume>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deallocateServer
 	 *
@@ -6191,6 +7167,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Deallocate an existing server. (asynchronously) Deallocate an existing server. The server
+	 * will be removed from the hypervisor so only the volume will be billed.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Server deallocation request accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deallocateServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deallocateServerValidateBeforeCall(projectId, region, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteAffinityGroup
 	 *
@@ -6404,6 +7415,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a affinity group in a project. (asynchronously) Delete a affinity group in the given
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param affinityGroupId The identifier (ID) of a STACKIT Affinity Group. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Delete request for an server group was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteAffinityGroupFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID affinityGroupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteAffinityGroupValidateBeforeCall(projectId, region, affinityGroupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteBackup
 	 *
@@ -6628,6 +7674,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a backup. (asynchronously) Delete a backup that is part of the project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param backupId The identifier (ID) of a STACKIT Backup. (required)
+	 * @param force Force action. (optional, default to false)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Backup delete request has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteBackupFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID backupId,
+			@javax.annotation.Nullable Boolean force) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteBackupValidateBeforeCall(projectId, region, backupId, force, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteImage
 	 *
@@ -6838,6 +7919,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete an Image. (asynchronously) Delete an image that is part of the project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param imageId The identifier (ID) of a STACKIT Image. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Image delete request has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteImageFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID imageId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteImageValidateBeforeCall(projectId, region, imageId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteImageShare
 	 *
@@ -7049,6 +8163,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Remove image share. (asynchronously) Remove the image share. New scope will be local.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param imageId The identifier (ID) of a STACKIT Image. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Image share removed. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteImageShareFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID imageId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteImageShareValidateBeforeCall(projectId, region, imageId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteImageShareConsumer
 	 *
@@ -7285,6 +8432,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Remove an image share consumer. (asynchronously) Remove consumer from a shared image.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param imageId The identifier (ID) of a STACKIT Image. (required)
+	 * @param consumerProjectId The identifier (ID) of a STACKIT Project that consumes an image
+	 *     share. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Image share consumer removed. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteImageShareConsumerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID imageId,
+			@javax.annotation.Nonnull UUID consumerProjectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteImageShareConsumerValidateBeforeCall(
+							projectId, region, imageId, consumerProjectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteKeyPair
 	 *
@@ -7452,6 +8637,35 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete an SSH keypair. (asynchronously) Delete an SSH keypair from a user.
+	 *
+	 * @param keypairName The name of an SSH keypair. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Delete request for an SSH keypair was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteKeyPairFuture(
+			@javax.annotation.Nonnull String keypairName) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteKeyPairValidateBeforeCall(keypairName, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteNetwork
 	 *
@@ -7668,6 +8882,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete network. (asynchronously) Delete a network. If the network is still in use, the
+	 * deletion will fail.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param networkId The identifier (ID) of a STACKIT Network. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Delete request for network has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteNetworkFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID networkId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteNetworkValidateBeforeCall(projectId, region, networkId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteNetworkArea
 	 *
@@ -7866,6 +9115,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a network area. (asynchronously) Delete an existing network area in an organization.
+	 * This is only possible if no projects are using the area anymore.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Delete request for area has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteNetworkAreaFuture(
+			@javax.annotation.Nonnull UUID organizationId, @javax.annotation.Nonnull UUID areaId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteNetworkAreaValidateBeforeCall(organizationId, areaId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteNetworkAreaRange
 	 *
@@ -8105,6 +9386,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a network range. (asynchronously) Delete a network range of a network area. The
+	 * deletion will fail if the network range is still used.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param networkRangeId The identifier (ID) of a STACKIT Network Range. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Delete request for network range accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteNetworkAreaRangeFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID networkRangeId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteNetworkAreaRangeValidateBeforeCall(
+							organizationId, areaId, region, networkRangeId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteNetworkAreaRegion
 	 *
@@ -8324,6 +9644,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a configuration of region for a network area. (asynchronously) Delete a current
+	 * configuration of region for a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Regional configuration has been deleted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteNetworkAreaRegionFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteNetworkAreaRegionValidateBeforeCall(organizationId, areaId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteNetworkAreaRoute
 	 *
@@ -8555,6 +9911,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a network route. (asynchronously) Delete a network route of a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routeId The identifier (ID) of a STACKIT Route. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Delete request for the network route has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteNetworkAreaRouteFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routeId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteNetworkAreaRouteValidateBeforeCall(
+							organizationId, areaId, region, routeId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteNic
 	 *
@@ -8785,6 +10178,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a network interface. (asynchronously) Delete a network interface that is part of the
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param networkId The identifier (ID) of a STACKIT Network. (required)
+	 * @param nicId The identifier (ID) of a network interface. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Network interface delete request has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteNicFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID networkId,
+			@javax.annotation.Nonnull UUID nicId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteNicValidateBeforeCall(projectId, region, networkId, nicId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deletePublicIP
 	 *
@@ -8996,6 +10425,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a public IP. (asynchronously) Delete a public IP that is part of the project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param publicIpId The identifier (ID) of a Public IP. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> The public IP has been deleted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deletePublicIPFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID publicIpId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deletePublicIPValidateBeforeCall(projectId, region, publicIpId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteRouteFromRoutingTable
 	 *
@@ -9194,17 +10656,58 @@ class DefaultApi {
 	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
 	 * </table>
 	 */
-	public ApiResponse<Void> deleteRouteFromRoutingTableWithHttpInfo(
+	public ApiResponse<Void> deleteRouteFromRoutingTableWithHttpInfo(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId,
+			@javax.annotation.Nonnull UUID routeId)
+			throws ApiException {
+		okhttp3.Call localVarCall =
+				deleteRouteFromRoutingTableValidateBeforeCall(
+						organizationId, areaId, region, routingTableId, routeId, null);
+		return localVarApiClient.execute(localVarCall);
+	}
+
+	/**
+	 * Delete a route in a routing table. (asynchronously) Delete a route in an existing routing
+	 * table.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @param routeId The identifier (ID) of a STACKIT Route. (required)
+	 * @param _callback The callback to be executed when the API call finishes
+	 * @return The request call
+	 * @throws ApiException If fail to process the API call, e.g. serializing the request body
+	 *     object
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Delete request for the route has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public okhttp3.Call deleteRouteFromRoutingTableAsync(
 			@javax.annotation.Nonnull UUID organizationId,
 			@javax.annotation.Nonnull UUID areaId,
 			@javax.annotation.Nonnull String region,
 			@javax.annotation.Nonnull UUID routingTableId,
-			@javax.annotation.Nonnull UUID routeId)
+			@javax.annotation.Nonnull UUID routeId,
+			final ApiCallback<Void> _callback)
 			throws ApiException {
+
 		okhttp3.Call localVarCall =
 				deleteRouteFromRoutingTableValidateBeforeCall(
-						organizationId, areaId, region, routingTableId, routeId, null);
-		return localVarApiClient.execute(localVarCall);
+						organizationId, areaId, region, routingTableId, routeId, _callback);
+		localVarApiClient.executeAsync(localVarCall, _callback);
+		return localVarCall;
 	}
 
 	/**
@@ -9216,10 +10719,8 @@ class DefaultApi {
 	 * @param region The STACKIT Region of the resources. (required)
 	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
 	 * @param routeId The identifier (ID) of a STACKIT Route. (required)
-	 * @param _callback The callback to be executed when the API call finishes
-	 * @return The request call
-	 * @throws ApiException If fail to process the API call, e.g. serializing the request body
-	 *     object
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
 	 * @http.response.details
 	 *     <table border="1">
 	 * <caption>Response Details</caption>
@@ -9232,20 +10733,21 @@ class DefaultApi {
 	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
 	 * </table>
 	 */
-	public okhttp3.Call deleteRouteFromRoutingTableAsync(
+	public CompletableFuture<Void> deleteRouteFromRoutingTableFuture(
 			@javax.annotation.Nonnull UUID organizationId,
 			@javax.annotation.Nonnull UUID areaId,
 			@javax.annotation.Nonnull String region,
 			@javax.annotation.Nonnull UUID routingTableId,
-			@javax.annotation.Nonnull UUID routeId,
-			final ApiCallback<Void> _callback)
-			throws ApiException {
-
-		okhttp3.Call localVarCall =
-				deleteRouteFromRoutingTableValidateBeforeCall(
-						organizationId, areaId, region, routingTableId, routeId, _callback);
-		localVarApiClient.executeAsync(localVarCall, _callback);
-		return localVarCall;
+			@javax.annotation.Nonnull UUID routeId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteRouteFromRoutingTableValidateBeforeCall(
+							organizationId, areaId, region, routingTableId, routeId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
 	}
 
 	/**
@@ -9480,6 +10982,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a routing table. (asynchronously) Delete a routing table of a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Delete request for the routing table has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteRoutingTableFromAreaFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteRoutingTableFromAreaValidateBeforeCall(
+							organizationId, areaId, region, routingTableId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteSecurityGroup
 	 *
@@ -9696,6 +11235,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete security group. (asynchronously) Delete a security group.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param securityGroupId The identifier (ID) of a STACKIT Security Group. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Delete request for security group has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteSecurityGroupFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID securityGroupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteSecurityGroupValidateBeforeCall(projectId, region, securityGroupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteSecurityGroupRule
 	 *
@@ -9929,6 +11503,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete security group rule. (asynchronously) Delete a security group rule.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param securityGroupId The identifier (ID) of a STACKIT Security Group. (required)
+	 * @param securityGroupRuleId The identifier (ID) of a STACKIT Security Group Rule. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Delete request for security group rule has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteSecurityGroupRuleFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID securityGroupId,
+			@javax.annotation.Nonnull UUID securityGroupRuleId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteSecurityGroupRuleValidateBeforeCall(
+							projectId, region, securityGroupId, securityGroupRuleId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteServer
 	 *
@@ -10140,6 +11751,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a server. (asynchronously) Delete a server. Volumes won&#39;t be deleted.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Delete request for server accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteServerValidateBeforeCall(projectId, region, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteSnapshot
 	 *
@@ -10351,6 +11995,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a snapshot. (asynchronously) Delete a snapshot that is part of the project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param snapshotId The identifier (ID) of a STACKIT Snapshot. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Snapshot delete request has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteSnapshotFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID snapshotId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteSnapshotValidateBeforeCall(projectId, region, snapshotId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteVolume
 	 *
@@ -10582,6 +12259,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete a volume. (asynchronously) Delete a volume inside a project. The deletion will fail if
+	 * the volume is still in use.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param volumeId The identifier (ID) of a STACKIT Volume. (required)
+	 * @param cascade Cascade action. (optional, default to false)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Volume delete request has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteVolumeFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID volumeId,
+			@javax.annotation.Nullable Boolean cascade) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteVolumeValidateBeforeCall(projectId, region, volumeId, cascade, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for getAffinityGroup
 	 *
@@ -10798,6 +12513,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get the affinity group. (asynchronously) Get the affinity group created in a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param affinityGroupId The identifier (ID) of a STACKIT Affinity Group. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show affinity group details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<AffinityGroup> getAffinityGroupFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID affinityGroupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getAffinityGroupValidateBeforeCall(projectId, region, affinityGroupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<AffinityGroup>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getAttachedVolume
 	 *
@@ -11034,6 +12784,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Volume Attachment details. (asynchronously) Get the details of an existing Volume
+	 * Attachment.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param volumeId The identifier (ID) of a STACKIT Volume. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Get details about a volume attachment. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<VolumeAttachment> getAttachedVolumeFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID volumeId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getAttachedVolumeValidateBeforeCall(
+							projectId, region, serverId, volumeId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VolumeAttachment>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getBackup
 	 *
@@ -11234,18 +13023,52 @@ class DefaultApi {
 	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
 	 * </table>
 	 */
-	public okhttp3.Call getBackupAsync(
+	public okhttp3.Call getBackupAsync(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID backupId,
+			final ApiCallback<Backup> _callback)
+			throws ApiException {
+
+		okhttp3.Call localVarCall =
+				getBackupValidateBeforeCall(projectId, region, backupId, _callback);
+		Type localVarReturnType = new TypeToken<Backup>() {}.getType();
+		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
+		return localVarCall;
+	}
+
+	/**
+	 * Get details about a backup. (asynchronously) Get details about a block device backup.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param backupId The identifier (ID) of a STACKIT Backup. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show backup details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Backup> getBackupFuture(
 			@javax.annotation.Nonnull UUID projectId,
 			@javax.annotation.Nonnull String region,
-			@javax.annotation.Nonnull UUID backupId,
-			final ApiCallback<Backup> _callback)
-			throws ApiException {
-
-		okhttp3.Call localVarCall =
-				getBackupValidateBeforeCall(projectId, region, backupId, _callback);
+			@javax.annotation.Nonnull UUID backupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getBackupValidateBeforeCall(projectId, region, backupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
 		Type localVarReturnType = new TypeToken<Backup>() {}.getType();
-		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
-		return localVarCall;
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
 	}
 
 	/**
@@ -11463,6 +13286,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about an image. (asynchronously) Get details about a specific Image inside a
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param imageId The identifier (ID) of a STACKIT Image. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show Image details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Image> getImageFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID imageId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getImageValidateBeforeCall(projectId, region, imageId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Image>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getImageShare
 	 *
@@ -11679,6 +13537,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get share details of an image. (asynchronously) Get share details about an shared image.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param imageId The identifier (ID) of a STACKIT Image. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show Image share details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ImageShare> getImageShareFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID imageId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getImageShareValidateBeforeCall(projectId, region, imageId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ImageShare>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getImageShareConsumer
 	 *
@@ -11919,6 +13811,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get image share consumer. (asynchronously) Get details about an image share consumer.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param imageId The identifier (ID) of a STACKIT Image. (required)
+	 * @param consumerProjectId The identifier (ID) of a STACKIT Project that consumes an image
+	 *     share. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show Image share consumer details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ImageShareConsumer> getImageShareConsumerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID imageId,
+			@javax.annotation.Nonnull UUID consumerProjectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getImageShareConsumerValidateBeforeCall(
+							projectId, region, imageId, consumerProjectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ImageShareConsumer>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getKeyPair
 	 *
@@ -12090,6 +14021,36 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get SSH keypair details. (asynchronously) Get details about an SSH keypair.
+	 *
+	 * @param keypairName The name of an SSH keypair. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show SSH keypair details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Keypair> getKeyPairFuture(
+			@javax.annotation.Nonnull String keypairName) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getKeyPairValidateBeforeCall(keypairName, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Keypair>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getMachineType
 	 *
@@ -12306,6 +14267,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a machine type. (asynchronously) Get details about a specific machine type.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param machineType STACKIT machine type Name. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show machine type details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<MachineType> getMachineTypeFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String machineType) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getMachineTypeValidateBeforeCall(projectId, region, machineType, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<MachineType>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getNetwork
 	 *
@@ -12521,6 +14516,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get network details. (asynchronously) Get details about a network of a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param networkId The identifier (ID) of a STACKIT Network. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show network details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Network> getNetworkFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID networkId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getNetworkValidateBeforeCall(projectId, region, networkId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Network>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getNetworkArea
 	 *
@@ -12716,6 +14745,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a network area. (asynchronously) Get details about a network area in an
+	 * organization.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show network area details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<NetworkArea> getNetworkAreaFuture(
+			@javax.annotation.Nonnull UUID organizationId, @javax.annotation.Nonnull UUID areaId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getNetworkAreaValidateBeforeCall(organizationId, areaId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NetworkArea>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getNetworkAreaRange
 	 *
@@ -12953,6 +15014,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a network range. (asynchronously) Get details about a network range in a
+	 * network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param networkRangeId The identifier (ID) of a STACKIT Network Range. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show network range details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<NetworkRange> getNetworkAreaRangeFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID networkRangeId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getNetworkAreaRangeValidateBeforeCall(
+							organizationId, areaId, region, networkRangeId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NetworkRange>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getNetworkAreaRegion
 	 *
@@ -13172,6 +15272,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a configured region. (asynchronously) Get details about a configured region
+	 * in a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show configured region details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<RegionalArea> getNetworkAreaRegionFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getNetworkAreaRegionValidateBeforeCall(organizationId, areaId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RegionalArea>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getNetworkAreaRoute
 	 *
@@ -13407,8 +15543,47 @@ class DefaultApi {
 				getNetworkAreaRouteValidateBeforeCall(
 						organizationId, areaId, region, routeId, _callback);
 		Type localVarReturnType = new TypeToken<Route>() {}.getType();
-		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
-		return localVarCall;
+		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
+		return localVarCall;
+	}
+
+	/**
+	 * Get details about a network route. (asynchronously) Get details about a network route defined
+	 * in a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routeId The identifier (ID) of a STACKIT Route. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show route details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Route> getNetworkAreaRouteFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routeId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getNetworkAreaRouteValidateBeforeCall(
+							organizationId, areaId, region, routeId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Route>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
 	}
 
 	/**
@@ -13647,6 +15822,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a network interface. (asynchronously) Get details about a network interface
+	 * inside a network.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param networkId The identifier (ID) of a STACKIT Network. (required)
+	 * @param nicId The identifier (ID) of a network interface. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show network interface details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<NIC> getNicFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID networkId,
+			@javax.annotation.Nonnull UUID nicId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getNicValidateBeforeCall(projectId, region, networkId, nicId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NIC>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getOrganizationRequest
 	 *
@@ -13849,6 +16061,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Lookup an organization request ID. (asynchronously) Lookup an organization request ID from a
+	 * previous request. This allows to find resource IDs of resources generated during a
+	 * organization request.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param requestId The identifier (ID) of a STACKIT Request. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show organization request details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Request> getOrganizationRequestFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull String requestId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getOrganizationRequestValidateBeforeCall(organizationId, requestId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Request>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getProjectDetails
 	 *
@@ -14020,6 +16267,36 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get project details. (asynchronously) Get details about a STACKIT project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show project details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Project> getProjectDetailsFuture(
+			@javax.annotation.Nonnull UUID projectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getProjectDetailsValidateBeforeCall(projectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Project>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getProjectNIC
 	 *
@@ -14237,6 +16514,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a network interface of a project. (asynchronously) Get details about a
+	 * network interface inside a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param nicId The identifier (ID) of a network interface. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show details of network interface. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<NIC> getProjectNICFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID nicId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getProjectNICValidateBeforeCall(projectId, region, nicId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NIC>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getProjectRequest
 	 *
@@ -14456,6 +16768,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Lookup a project request ID. (asynchronously) Lookup a project request ID from a previous
+	 * request. This allows to find resource IDs of resources generated during a projects request.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param requestId The identifier (ID) of a STACKIT Request. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show project request details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Request> getProjectRequestFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String requestId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getProjectRequestValidateBeforeCall(projectId, region, requestId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Request>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getPublicIP
 	 *
@@ -14672,6 +17019,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a public IP. (asynchronously) Get details about a public IP inside a
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param publicIpId The identifier (ID) of a Public IP. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show public IP details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<PublicIp> getPublicIPFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID publicIpId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getPublicIPValidateBeforeCall(projectId, region, publicIpId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<PublicIp>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getRouteOfRoutingTable
 	 *
@@ -14931,6 +17313,47 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a route of a routing table. (asynchronously) Get details about a route
+	 * defined in a routing table.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @param routeId The identifier (ID) of a STACKIT Route. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show the details of a route in a routing table. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Route> getRouteOfRoutingTableFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId,
+			@javax.annotation.Nonnull UUID routeId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getRouteOfRoutingTableValidateBeforeCall(
+							organizationId, areaId, region, routingTableId, routeId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Route>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getRoutingTableOfArea
 	 *
@@ -15170,6 +17593,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a routing table. (asynchronously) Get details about a routing table defined
+	 * in a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show routing table details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<RoutingTable> getRoutingTableOfAreaFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getRoutingTableOfAreaValidateBeforeCall(
+							organizationId, areaId, region, routingTableId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RoutingTable>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getSecurityGroup
 	 *
@@ -15386,6 +17848,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get security group details. (asynchronously) Get details about a security group of a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param securityGroupId The identifier (ID) of a STACKIT Security Group. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show security group details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<SecurityGroup> getSecurityGroupFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID securityGroupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getSecurityGroupValidateBeforeCall(projectId, region, securityGroupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<SecurityGroup>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getSecurityGroupRule
 	 *
@@ -15625,6 +18122,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get security group rule details. (asynchronously) Get details about a security group rule of
+	 * a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param securityGroupId The identifier (ID) of a STACKIT Security Group. (required)
+	 * @param securityGroupRuleId The identifier (ID) of a STACKIT Security Group Rule. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show security group rule details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<SecurityGroupRule> getSecurityGroupRuleFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID securityGroupId,
+			@javax.annotation.Nonnull UUID securityGroupRuleId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getSecurityGroupRuleValidateBeforeCall(
+							projectId, region, securityGroupId, securityGroupRuleId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<SecurityGroupRule>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getServer
 	 *
@@ -15854,6 +18390,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get server details. (asynchronously) Get details about a server by its ID.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param details Show detailed information about server. (optional, default to false)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show server details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Server> getServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nullable Boolean details) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getServerValidateBeforeCall(projectId, region, serverId, details, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Server>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getServerConsole
 	 *
@@ -16070,6 +18642,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get server console. (asynchronously) Get a URL for server remote console.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show server console URL. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ServerConsoleUrl> getServerConsoleFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getServerConsoleValidateBeforeCall(projectId, region, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ServerConsoleUrl>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getServerLog
 	 *
@@ -16303,6 +18909,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get server log. (asynchronously) Get server console log.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param length Request the server log. By default the length is limited to 2000 lines. Set to
+	 *     0 to retrieve the complete log. (optional, default to 2000)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show server console log. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetServerLog200Response> getServerLogFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nullable Long length) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getServerLogValidateBeforeCall(projectId, region, serverId, length, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetServerLog200Response>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getSnapshot
 	 *
@@ -16518,6 +19162,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a snapshot. (asynchronously) Get details about a block device snapshot.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param snapshotId The identifier (ID) of a STACKIT Snapshot. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show snapshot details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Snapshot> getSnapshotFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID snapshotId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getSnapshotValidateBeforeCall(projectId, region, snapshotId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Snapshot>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getVolume
 	 *
@@ -16732,6 +19410,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a volume. (asynchronously) Get details about a block device volume.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param volumeId The identifier (ID) of a STACKIT Volume. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show volume details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Volume> getVolumeFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID volumeId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getVolumeValidateBeforeCall(projectId, region, volumeId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Volume>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getVolumePerformanceClass
 	 *
@@ -16953,6 +19665,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get details about a volume performance class. (asynchronously) Get details about a specific
+	 * volume performance class.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param volumePerformanceClass The name of a STACKIT Volume performance class. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Show volume performance class details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<VolumePerformanceClass> getVolumePerformanceClassFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String volumePerformanceClass) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getVolumePerformanceClassValidateBeforeCall(
+							projectId, region, volumePerformanceClass, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VolumePerformanceClass>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for imageFromVolume
 	 *
@@ -17184,6 +19933,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create an image out of a volume. (asynchronously) Create an image out a a volume.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param volumeId The identifier (ID) of a STACKIT Volume. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param imageFromVolumePayload Create an image from a volume. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Image creation details. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Image> imageFromVolumeFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull UUID volumeId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable ImageFromVolumePayload imageFromVolumePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					imageFromVolumeValidateBeforeCall(
+							projectId, volumeId, region, imageFromVolumePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Image>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listAffinityGroups
 	 *
@@ -17392,6 +20180,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get the affinity groups setup for a project. (asynchronously) Get the affinity groups created
+	 * in a project. Affinity groups are an indication of locality of a server relative to another
+	 * group of servers. They can be either running on the same host (affinity) or on different ones
+	 * (anti-affinity).
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List affinity groups. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<AffinityGroupListResponse> listAffinityGroupsFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listAffinityGroupsValidateBeforeCall(projectId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<AffinityGroupListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listAttachedVolumes
 	 *
@@ -17609,6 +20432,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all volume attachments of a server. (asynchronously) Get a list of all volume
+	 * attachments of a server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List volume attachments. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<VolumeAttachmentListResponse> listAttachedVolumesFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listAttachedVolumesValidateBeforeCall(projectId, region, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VolumeAttachmentListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listAvailabilityZones
 	 *
@@ -17756,10 +20614,39 @@ class DefaultApi {
 	 * List all availability zones. (asynchronously) Get a list of all availability zones.
 	 *
 	 * @param region The STACKIT Region of the resources. (required)
-	 * @param _callback The callback to be executed when the API call finishes
-	 * @return The request call
-	 * @throws ApiException If fail to process the API call, e.g. serializing the request body
-	 *     object
+	 * @param _callback The callback to be executed when the API call finishes
+	 * @return The request call
+	 * @throws ApiException If fail to process the API call, e.g. serializing the request body
+	 *     object
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Get a list of availability zones. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public okhttp3.Call listAvailabilityZonesAsync(
+			@javax.annotation.Nonnull String region,
+			final ApiCallback<AvailabilityZoneListResponse> _callback)
+			throws ApiException {
+
+		okhttp3.Call localVarCall = listAvailabilityZonesValidateBeforeCall(region, _callback);
+		Type localVarReturnType = new TypeToken<AvailabilityZoneListResponse>() {}.getType();
+		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
+		return localVarCall;
+	}
+
+	/**
+	 * List all availability zones. (asynchronously) Get a list of all availability zones.
+	 *
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
 	 * @http.response.details
 	 *     <table border="1">
 	 * <caption>Response Details</caption>
@@ -17772,15 +20659,16 @@ class DefaultApi {
 	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
 	 * </table>
 	 */
-	public okhttp3.Call listAvailabilityZonesAsync(
-			@javax.annotation.Nonnull String region,
-			final ApiCallback<AvailabilityZoneListResponse> _callback)
-			throws ApiException {
-
-		okhttp3.Call localVarCall = listAvailabilityZonesValidateBeforeCall(region, _callback);
+	public CompletableFuture<AvailabilityZoneListResponse> listAvailabilityZonesFuture(
+			@javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listAvailabilityZonesValidateBeforeCall(region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
 		Type localVarReturnType = new TypeToken<AvailabilityZoneListResponse>() {}.getType();
-		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
-		return localVarCall;
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
 	}
 
 	/**
@@ -17996,6 +20884,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all backups inside a project. (asynchronously) Get a list of all backups inside a
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List project backups. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<BackupListResponse> listBackupsFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listBackupsValidateBeforeCall(projectId, region, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<BackupListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listImages
 	 *
@@ -18221,6 +21144,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all Images inside a project. (asynchronously) Get a list of all images inside a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param all List all Images. (optional, default to false)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List project images. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ImageListResponse> listImagesFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable Boolean all,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listImagesValidateBeforeCall(projectId, region, all, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ImageListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listKeyPairs
 	 *
@@ -18392,6 +21352,37 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all SSH keypairs for the requesting user. (asynchronously) Get a list of all SSH
+	 * keypairs assigned to the requesting user.
+	 *
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List SSH keypairs. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<KeyPairListResponse> listKeyPairsFuture(
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listKeyPairsValidateBeforeCall(labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<KeyPairListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listMachineTypes
 	 *
@@ -18610,6 +21601,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all machine types available for a project. (asynchronously) Get a list of all machine
+	 * type available in a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param filter Filter resources by fields. A subset of expr-lang is supported. See
+	 *     https://expr-lang.org/docs/language-definition for usage details. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List of machine types. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<MachineTypeListResponse> listMachineTypesFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable String filter) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listMachineTypesValidateBeforeCall(projectId, region, filter, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<MachineTypeListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listNetworkAreaProjects
 	 *
@@ -18807,6 +21834,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all projects using a network area. (asynchronously) Get a list of all projects using a
+	 * network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List projects for a network area. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ProjectListResponse> listNetworkAreaProjectsFuture(
+			@javax.annotation.Nonnull UUID organizationId, @javax.annotation.Nonnull UUID areaId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listNetworkAreaProjectsValidateBeforeCall(organizationId, areaId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ProjectListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listNetworkAreaRanges
 	 *
@@ -19026,6 +22085,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all network ranges in a network area. (asynchronously) Get a list of all network ranges
+	 * in a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List all network ranges. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<NetworkRangeListResponse> listNetworkAreaRangesFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listNetworkAreaRangesValidateBeforeCall(organizationId, areaId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NetworkRangeListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listNetworkAreaRegions
 	 *
@@ -19223,6 +22318,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all configured regions in a network area. (asynchronously) Get a list of all configured
+	 * regions.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List all configured area regions. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<RegionalAreaListResponse> listNetworkAreaRegionsFuture(
+			@javax.annotation.Nonnull UUID organizationId, @javax.annotation.Nonnull UUID areaId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listNetworkAreaRegionsValidateBeforeCall(organizationId, areaId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RegionalAreaListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listNetworkAreaRoutes
 	 *
@@ -19458,6 +22585,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all network routes in a network area. (asynchronously) Get a list of all network routes
+	 * defined in a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List network routes. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<RouteListResponse> listNetworkAreaRoutesFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listNetworkAreaRoutesValidateBeforeCall(
+							organizationId, areaId, region, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RouteListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listNetworkAreas
 	 *
@@ -19655,6 +22821,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all network areas in an organization. (asynchronously) Get a list of all visible network
+	 * areas defined in an organization.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Get a list of all network areas. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<NetworkAreaListResponse> listNetworkAreasFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listNetworkAreasValidateBeforeCall(organizationId, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NetworkAreaListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listNetworks
 	 *
@@ -19864,8 +23063,43 @@ class DefaultApi {
 		okhttp3.Call localVarCall =
 				listNetworksValidateBeforeCall(projectId, region, labelSelector, _callback);
 		Type localVarReturnType = new TypeToken<NetworkListResponse>() {}.getType();
-		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
-		return localVarCall;
+		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
+		return localVarCall;
+	}
+
+	/**
+	 * List all networks inside a project. (asynchronously) Get a list of all networks inside a
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List all networks of a project. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<NetworkListResponse> listNetworksFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listNetworksValidateBeforeCall(projectId, region, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NetworkListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
 	}
 
 	/**
@@ -20101,6 +23335,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all network interfaces inside a network. (asynchronously) Get a list of all network
+	 * interfaces inside a network.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param networkId The identifier (ID) of a STACKIT Network. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List project network interfaces. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<NICListResponse> listNicsFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID networkId,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listNicsValidateBeforeCall(projectId, region, networkId, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NICListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listProjectNICs
 	 *
@@ -20316,6 +23588,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all network interfaces inside a project. (asynchronously) Get a list of all network
+	 * interfaces inside a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List network interfaces of the project. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<NICListResponse> listProjectNICsFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listProjectNICsValidateBeforeCall(projectId, region, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NICListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listPublicIPRanges
 	 *
@@ -20470,6 +23778,35 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all public IP ranges. (asynchronously) Get a list of all public IP ranges that STACKIT
+	 * uses.
+	 *
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List public IP ranges. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<PublicNetworkListResponse> listPublicIPRangesFuture() {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listPublicIPRangesValidateBeforeCall(null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<PublicNetworkListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listPublicIPs
 	 *
@@ -20683,6 +24020,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all public IPs inside a project. (asynchronously) Get a list of all public IPs inside a
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List project public IPs. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<PublicIpListResponse> listPublicIPsFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listPublicIPsValidateBeforeCall(projectId, region, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<PublicIpListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listQuotas
 	 *
@@ -20876,6 +24248,37 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List project quotas. (asynchronously) List quota limits and usage for project resources.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List quotas. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<QuotaListResponse> listQuotasFuture(
+			@javax.annotation.Nonnull UUID projectId, @javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listQuotasValidateBeforeCall(projectId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<QuotaListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listRoutesOfRoutingTable
 	 *
@@ -21129,6 +24532,47 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all routes in a routing table. (asynchronously) Get a list of all routes in a routing
+	 * table.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List all routing table routes. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<RouteListResponse> listRoutesOfRoutingTableFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listRoutesOfRoutingTableValidateBeforeCall(
+							organizationId, areaId, region, routingTableId, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RouteListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listRoutingTablesOfArea
 	 *
@@ -21365,6 +24809,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all routing tables in a network area. (asynchronously) Get a list of all routing tables
+	 * in a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List all routing tables. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<RoutingTableListResponse> listRoutingTablesOfAreaFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listRoutingTablesOfAreaValidateBeforeCall(
+							organizationId, areaId, region, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RoutingTableListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listSecurityGroupRules
 	 *
@@ -21583,6 +25066,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all rules for a security group. (asynchronously) Get a list of all rules inside a
+	 * security group.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param securityGroupId The identifier (ID) of a STACKIT Security Group. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List all rules of a security group. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<SecurityGroupRuleListResponse> listSecurityGroupRulesFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID securityGroupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listSecurityGroupRulesValidateBeforeCall(
+							projectId, region, securityGroupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<SecurityGroupRuleListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listSecurityGroups
 	 *
@@ -21798,6 +25318,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all security groups inside a project. (asynchronously) Get a list of all security groups
+	 * inside a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List all security groups of a project. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<SecurityGroupListResponse> listSecurityGroupsFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listSecurityGroupsValidateBeforeCall(projectId, region, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<SecurityGroupListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listServerNICs
 	 *
@@ -22011,8 +25567,43 @@ class DefaultApi {
 		okhttp3.Call localVarCall =
 				listServerNICsValidateBeforeCall(projectId, region, serverId, _callback);
 		Type localVarReturnType = new TypeToken<NICListResponse>() {}.getType();
-		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
-		return localVarCall;
+		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
+		return localVarCall;
+	}
+
+	/**
+	 * Get all network interfaces. (asynchronously) Get all network interfaces attached to the
+	 * server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List network interfaces. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<NICListResponse> listServerNICsFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listServerNICsValidateBeforeCall(projectId, region, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NICListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
 	}
 
 	/**
@@ -22232,6 +25823,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List the service account of the Server. (asynchronously) Get service account of the server in
+	 * a list.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List service account. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ServiceAccountMailListResponse> listServerServiceAccountsFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listServerServiceAccountsValidateBeforeCall(projectId, region, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ServiceAccountMailListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listServers
 	 *
@@ -22458,6 +26085,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all servers inside a project. (asynchronously) Get a list of all servers inside a
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param details Show detailed information about server. (optional, default to false)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List all servers of a project. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ServerListResponse> listServersFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable Boolean details,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listServersValidateBeforeCall(projectId, region, details, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ServerListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listSnapshotsInProject
 	 *
@@ -22672,6 +26337,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all snapshots inside a project. (asynchronously) Get a list of all snapshots inside a
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List project snapshots. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<SnapshotListResponse> listSnapshotsInProjectFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listSnapshotsInProjectValidateBeforeCall(
+							projectId, region, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<SnapshotListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listVolumePerformanceClasses
 	 *
@@ -22889,6 +26591,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all volume performance classes available for a project. (asynchronously) Get a list of
+	 * all volume performance classes available inside a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List volume performance classes. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<VolumePerformanceClassListResponse> listVolumePerformanceClassesFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listVolumePerformanceClassesValidateBeforeCall(
+							projectId, region, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VolumePerformanceClassListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listVolumes
 	 *
@@ -23102,6 +26841,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List all volumes inside a project. (asynchronously) Get a list of all volumes inside a
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param labelSelector Filter resources by labels. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> List project volumes. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<VolumeListResponse> listVolumesFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable String labelSelector) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listVolumesValidateBeforeCall(projectId, region, labelSelector, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VolumeListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for partialUpdateNetwork
 	 *
@@ -23331,6 +27105,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update network settings. (asynchronously) Update the settings of a network inside a project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param networkId The identifier (ID) of a STACKIT Network. (required)
+	 * @param partialUpdateNetworkPayload Request an update of a network. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> An update was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> partialUpdateNetworkFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID networkId,
+			@javax.annotation.Nonnull PartialUpdateNetworkPayload partialUpdateNetworkPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					partialUpdateNetworkValidateBeforeCall(
+							projectId, region, networkId, partialUpdateNetworkPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for partialUpdateNetworkArea
 	 *
@@ -23554,6 +27365,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update network area settings. (asynchronously) Update the settings of a network area in an
+	 * organization.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param partialUpdateNetworkAreaPayload Request to update an Area. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Area has been updated. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<NetworkArea> partialUpdateNetworkAreaFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull PartialUpdateNetworkAreaPayload partialUpdateNetworkAreaPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					partialUpdateNetworkAreaValidateBeforeCall(
+							organizationId, areaId, partialUpdateNetworkAreaPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NetworkArea>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for rebootServer
 	 *
@@ -23788,6 +27636,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Reboot the server. (asynchronously) Reboot the server. A soft reboot will attempt to
+	 * gracefully shut down the server by passing the command to the operating system. A hard reboot
+	 * will power cycle the server without waiting for the operating system to shutdown properly.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param action Defines if it is a soft or a hard reboot. (optional, default to soft)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Server reboot request accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> rebootServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nullable String action) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					rebootServerValidateBeforeCall(projectId, region, serverId, action, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for removeNetworkFromServer
 	 *
@@ -24023,6 +27910,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Detach and delete all network interfaces associated with the specified network.
+	 * (asynchronously) Detach and delete all network interfaces associated with the specified
+	 * network from the server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param networkId The identifier (ID) of a STACKIT Network. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Detach and delete network interface was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> removeNetworkFromServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID networkId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					removeNetworkFromServerValidateBeforeCall(
+							projectId, region, serverId, networkId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for removeNicFromServer
 	 *
@@ -24253,6 +28179,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Detach a network interface. (asynchronously) Detach a network interface from a server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param nicId The identifier (ID) of a network interface. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Network interface detachment request was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> removeNicFromServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID nicId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					removeNicFromServerValidateBeforeCall(projectId, region, serverId, nicId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for removePublicIpFromServer
 	 *
@@ -24489,6 +28451,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Dissociate a public IP from a server. (asynchronously) Dissociate a public IP on an existing
+	 * server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param publicIpId The identifier (ID) of a Public IP. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Detach Public IP from server was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The server or public IP was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> removePublicIpFromServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID publicIpId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					removePublicIpFromServerValidateBeforeCall(
+							projectId, region, serverId, publicIpId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for removeSecurityGroupFromServer
 	 *
@@ -24726,6 +28727,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Remove a server from a security group. (asynchronously) Remove a server from a attached
+	 * security group.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param securityGroupId The identifier (ID) of a STACKIT Security Group. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Security group detachment request was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> removeSecurityGroupFromServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID securityGroupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					removeSecurityGroupFromServerValidateBeforeCall(
+							projectId, region, serverId, securityGroupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for removeServiceAccountFromServer
 	 *
@@ -24969,6 +29009,46 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Detach a service account from a server. (asynchronously) Detach a service account from the
+	 * server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param serviceAccountMail The e-mail address of a service account. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Service account detached from the server. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ServiceAccountMailListResponse> removeServiceAccountFromServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull String serviceAccountMail) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					removeServiceAccountFromServerValidateBeforeCall(
+							projectId, region, serverId, serviceAccountMail, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ServiceAccountMailListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for removeVolumeFromServer
 	 *
@@ -25205,6 +29285,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Detach a volume from a server. (asynchronously) Detach an existing volume from an existing
+	 * server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param volumeId The identifier (ID) of a STACKIT Volume. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Volume detachment request was accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> removeVolumeFromServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID volumeId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					removeVolumeFromServerValidateBeforeCall(
+							projectId, region, serverId, volumeId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for rescueServer
 	 *
@@ -25443,6 +29562,46 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Rescue an existing server. (asynchronously) Rescue an existing server. It is shutdown and the
+	 * initial image is attached as the boot volume, while the boot volume is attached as secondary
+	 * volume and the server is booted.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param rescueServerPayload Request a server rescue. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Server rescue request accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> rescueServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull RescueServerPayload rescueServerPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					rescueServerValidateBeforeCall(
+							projectId, region, serverId, rescueServerPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for resizeServer
 	 *
@@ -25675,6 +29834,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Resize a server. (asynchronously) Resize the server to the given machine type.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param resizeServerPayload Request a resize of a server. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Server resize request is accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> resizeServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull ResizeServerPayload resizeServerPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					resizeServerValidateBeforeCall(
+							projectId, region, serverId, resizeServerPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for resizeVolume
 	 *
@@ -25904,6 +30101,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update the size of a volume. (asynchronously) Update the size of a block device volume. The
+	 * new volume size must be larger than the current size.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param volumeId The identifier (ID) of a STACKIT Volume. (required)
+	 * @param resizeVolumePayload Request a volume resize. (optional)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Volume resize request accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> resizeVolumeFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID volumeId,
+			@javax.annotation.Nullable ResizeVolumePayload resizeVolumePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					resizeVolumeValidateBeforeCall(
+							projectId, region, volumeId, resizeVolumePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for restoreBackup
 	 *
@@ -26122,6 +30358,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Restore Backup to the referenced source Volume. (asynchronously) Restores a Backup to the
+	 * existing Volume it references to. The use of this endpoint is disruptive as the volume needs
+	 * to be detached. If a new volume is to be created use the volumes endpoint with the option to
+	 * create from backup.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param backupId The identifier (ID) of a STACKIT Backup. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Backup restore request has been accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> restoreBackupFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID backupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = restoreBackupValidateBeforeCall(projectId, region, backupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for setImageShare
 	 *
@@ -26311,9 +30583,49 @@ class DefaultApi {
 			throws ApiException {
 		okhttp3.Call localVarCall =
 				setImageShareValidateBeforeCall(
-						projectId, region, imageId, setImageSharePayload, null);
+						projectId, region, imageId, setImageSharePayload, null);
+		Type localVarReturnType = new TypeToken<ImageShare>() {}.getType();
+		return localVarApiClient.execute(localVarCall, localVarReturnType);
+	}
+
+	/**
+	 * Set image share. (asynchronously) Set share of an Image. New Options will replace existing
+	 * settings.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param imageId The identifier (ID) of a STACKIT Image. (required)
+	 * @param setImageSharePayload Settings for an Image Share. (required)
+	 * @param _callback The callback to be executed when the API call finishes
+	 * @return The request call
+	 * @throws ApiException If fail to process the API call, e.g. serializing the request body
+	 *     object
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Setting Image share successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public okhttp3.Call setImageShareAsync(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID imageId,
+			@javax.annotation.Nonnull SetImageSharePayload setImageSharePayload,
+			final ApiCallback<ImageShare> _callback)
+			throws ApiException {
+
+		okhttp3.Call localVarCall =
+				setImageShareValidateBeforeCall(
+						projectId, region, imageId, setImageSharePayload, _callback);
 		Type localVarReturnType = new TypeToken<ImageShare>() {}.getType();
-		return localVarApiClient.execute(localVarCall, localVarReturnType);
+		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
+		return localVarCall;
 	}
 
 	/**
@@ -26324,10 +30636,8 @@ class DefaultApi {
 	 * @param region The STACKIT Region of the resources. (required)
 	 * @param imageId The identifier (ID) of a STACKIT Image. (required)
 	 * @param setImageSharePayload Settings for an Image Share. (required)
-	 * @param _callback The callback to be executed when the API call finishes
-	 * @return The request call
-	 * @throws ApiException If fail to process the API call, e.g. serializing the request body
-	 *     object
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
 	 * @http.response.details
 	 *     <table border="1">
 	 * <caption>Response Details</caption>
@@ -26340,20 +30650,21 @@ class DefaultApi {
 	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
 	 * </table>
 	 */
-	public okhttp3.Call setImageShareAsync(
+	public CompletableFuture<ImageShare> setImageShareFuture(
 			@javax.annotation.Nonnull UUID projectId,
 			@javax.annotation.Nonnull String region,
 			@javax.annotation.Nonnull UUID imageId,
-			@javax.annotation.Nonnull SetImageSharePayload setImageSharePayload,
-			final ApiCallback<ImageShare> _callback)
-			throws ApiException {
-
-		okhttp3.Call localVarCall =
-				setImageShareValidateBeforeCall(
-						projectId, region, imageId, setImageSharePayload, _callback);
+			@javax.annotation.Nonnull SetImageSharePayload setImageSharePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					setImageShareValidateBeforeCall(
+							projectId, region, imageId, setImageSharePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
 		Type localVarReturnType = new TypeToken<ImageShare>() {}.getType();
-		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
-		return localVarCall;
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
 	}
 
 	/**
@@ -26572,6 +30883,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Boot up a server. (asynchronously) Start an existing server or allocates the server if
+	 * deallocated.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Server start request accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> startServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = startServerValidateBeforeCall(projectId, region, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for stopServer
 	 *
@@ -26792,6 +31138,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Stop an existing server. (asynchronously) Stops an existing server. The server will remain on
+	 * the Hypervisor and will be charged full price for all resources attached to it. The attached
+	 * resources will remain reserved. Useful particularly for vGPU servers.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Server stop request accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> stopServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = stopServerValidateBeforeCall(projectId, region, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for unrescueServer
 	 *
@@ -27010,6 +31392,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Unrescue an existing server. (asynchronously) Unrescue an existing server. The original boot
+	 * volume is attached as boot volume of the server and the server is booted up.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Server unrescue request accepted. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> unrescueServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = unrescueServerValidateBeforeCall(projectId, region, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for updateAttachedVolume
 	 *
@@ -27269,6 +31686,52 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update Volume Attachment Parameters. (asynchronously) Update the properties of an existing
+	 * Volume Attachment.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param volumeId The identifier (ID) of a STACKIT Volume. (required)
+	 * @param updateAttachedVolumePayload Request a volume attachment update. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Response to update call. Provide the updated volume attachment object. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<VolumeAttachment> updateAttachedVolumeFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UUID volumeId,
+			@javax.annotation.Nonnull UpdateAttachedVolumePayload updateAttachedVolumePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateAttachedVolumeValidateBeforeCall(
+							projectId,
+							region,
+							serverId,
+							volumeId,
+							updateAttachedVolumePayload,
+							null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<VolumeAttachment>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateBackup
 	 *
@@ -27502,6 +31965,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update information of a backup. (asynchronously) Update name or labels of the backup.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param backupId The identifier (ID) of a STACKIT Backup. (required)
+	 * @param updateBackupPayload Request an update of a backup. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Backup has been updated. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Backup> updateBackupFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID backupId,
+			@javax.annotation.Nonnull UpdateBackupPayload updateBackupPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateBackupValidateBeforeCall(
+							projectId, region, backupId, updateBackupPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Backup>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateImage
 	 *
@@ -27735,6 +32236,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update Image Parameters. (asynchronously) Update the properties of an existing Image inside a
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param imageId The identifier (ID) of a STACKIT Image. (required)
+	 * @param updateImagePayload Request an update of an Image. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Response to update call. Provide the updated image object. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Image> updateImageFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID imageId,
+			@javax.annotation.Nonnull UpdateImagePayload updateImagePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateImageValidateBeforeCall(
+							projectId, region, imageId, updateImagePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Image>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateImageShare
 	 *
@@ -27969,6 +32509,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update image share. (asynchronously) Update share of an Image. Projects will be appended to
+	 * existing list.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param imageId The identifier (ID) of a STACKIT Image. (required)
+	 * @param updateImageSharePayload Update an Image Share. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Updating Image share successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ImageShare> updateImageShareFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID imageId,
+			@javax.annotation.Nonnull UpdateImageSharePayload updateImageSharePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateImageShareValidateBeforeCall(
+							projectId, region, imageId, updateImageSharePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ImageShare>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateKeyPair
 	 *
@@ -28164,6 +32743,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update information of an SSH keypair. (asynchronously) Update labels of the SSH keypair.
+	 *
+	 * @param keypairName The name of an SSH keypair. (required)
+	 * @param updateKeyPairPayload Request an update of an SSH keypair. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> SSH keypair has been updated. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Keypair> updateKeyPairFuture(
+			@javax.annotation.Nonnull String keypairName,
+			@javax.annotation.Nonnull UpdateKeyPairPayload updateKeyPairPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = updateKeyPairValidateBeforeCall(keypairName, updateKeyPairPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Keypair>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateNetworkAreaRegion
 	 *
@@ -28403,8 +33014,48 @@ class DefaultApi {
 				updateNetworkAreaRegionValidateBeforeCall(
 						organizationId, areaId, region, updateNetworkAreaRegionPayload, _callback);
 		Type localVarReturnType = new TypeToken<RegionalArea>() {}.getType();
-		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
-		return localVarCall;
+		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
+		return localVarCall;
+	}
+
+	/**
+	 * Update a region for a network area. (asynchronously) Update a new region for a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param updateNetworkAreaRegionPayload Request an update of a regional network area.
+	 *     (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Regional area has been updated. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<RegionalArea> updateNetworkAreaRegionFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UpdateNetworkAreaRegionPayload updateNetworkAreaRegionPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateNetworkAreaRegionValidateBeforeCall(
+							organizationId, areaId, region, updateNetworkAreaRegionPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RegionalArea>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
 	}
 
 	/**
@@ -28670,6 +33321,51 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update a network route. (asynchronously) Update a network route defined in a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routeId The identifier (ID) of a STACKIT Route. (required)
+	 * @param updateNetworkAreaRoutePayload Request an update of a network route. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Update request for network successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Route> updateNetworkAreaRouteFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routeId,
+			@javax.annotation.Nonnull UpdateNetworkAreaRoutePayload updateNetworkAreaRoutePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateNetworkAreaRouteValidateBeforeCall(
+							organizationId,
+							areaId,
+							region,
+							routeId,
+							updateNetworkAreaRoutePayload,
+							null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Route>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateNic
 	 *
@@ -28928,6 +33624,48 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update a network interface. (asynchronously) Update the properties of an existing network
+	 * interface inside a network.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param networkId The identifier (ID) of a STACKIT Network. (required)
+	 * @param nicId The identifier (ID) of a network interface. (required)
+	 * @param updateNicPayload Request an update of a network interface. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Network interface has been updated. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> A conflict has occurred. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<NIC> updateNicFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID networkId,
+			@javax.annotation.Nonnull UUID nicId,
+			@javax.annotation.Nonnull UpdateNicPayload updateNicPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateNicValidateBeforeCall(
+							projectId, region, networkId, nicId, updateNicPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<NIC>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updatePublicIP
 	 *
@@ -29162,6 +33900,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update a public IP. (asynchronously) Update the properties of an existing public IP inside a
+	 * project.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param publicIpId The identifier (ID) of a Public IP. (required)
+	 * @param updatePublicIPPayload Request an update of a public IP. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Public IP has been updated. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<PublicIp> updatePublicIPFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID publicIpId,
+			@javax.annotation.Nonnull UpdatePublicIPPayload updatePublicIPPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updatePublicIPValidateBeforeCall(
+							projectId, region, publicIpId, updatePublicIPPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<PublicIp>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateRouteOfRoutingTable
 	 *
@@ -29466,6 +34243,56 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update a route of a routing table. (asynchronously) Update a route defined in a routing
+	 * table.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @param routeId The identifier (ID) of a STACKIT Route. (required)
+	 * @param updateRouteOfRoutingTablePayload Request an update of a route in a routing table.
+	 *     (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Update request for route successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Route> updateRouteOfRoutingTableFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId,
+			@javax.annotation.Nonnull UUID routeId,
+			@javax.annotation.Nonnull UpdateRouteOfRoutingTablePayload updateRouteOfRoutingTablePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateRouteOfRoutingTableValidateBeforeCall(
+							organizationId,
+							areaId,
+							region,
+							routingTableId,
+							routeId,
+							updateRouteOfRoutingTablePayload,
+							null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Route>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateRoutingTableOfArea
 	 *
@@ -29743,6 +34570,51 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update a routing table. (asynchronously) Update a routing table defined in a network area.
+	 *
+	 * @param organizationId The identifier (ID) of a STACKIT Organization. (required)
+	 * @param areaId The identifier (ID) of a STACKIT Network Area. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param routingTableId The identifier (ID) of a STACKIT Routing Table. (required)
+	 * @param updateRoutingTableOfAreaPayload Request an update of a routing table. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Update request for routing table successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<RoutingTable> updateRoutingTableOfAreaFuture(
+			@javax.annotation.Nonnull UUID organizationId,
+			@javax.annotation.Nonnull UUID areaId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID routingTableId,
+			@javax.annotation.Nonnull UpdateRoutingTableOfAreaPayload updateRoutingTableOfAreaPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateRoutingTableOfAreaValidateBeforeCall(
+							organizationId,
+							areaId,
+							region,
+							routingTableId,
+							updateRoutingTableOfAreaPayload,
+							null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<RoutingTable>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateSecurityGroup
 	 *
@@ -29978,6 +34850,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update information of a security group. (asynchronously) Update labels of the security group.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param securityGroupId The identifier (ID) of a STACKIT Security Group. (required)
+	 * @param updateSecurityGroupPayload Request an update of a security group. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Updating security group successful. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<SecurityGroup> updateSecurityGroupFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID securityGroupId,
+			@javax.annotation.Nonnull UpdateSecurityGroupPayload updateSecurityGroupPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateSecurityGroupValidateBeforeCall(
+							projectId, region, securityGroupId, updateSecurityGroupPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<SecurityGroup>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateServer
 	 *
@@ -30211,6 +35121,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update information of a server. (asynchronously) Update name or labels of the server.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param serverId The identifier (ID) of a STACKIT Server. (required)
+	 * @param updateServerPayload Request an update of a server. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Server has been updated. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Server> updateServerFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID serverId,
+			@javax.annotation.Nonnull UpdateServerPayload updateServerPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateServerValidateBeforeCall(
+							projectId, region, serverId, updateServerPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Server>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateSnapshot
 	 *
@@ -30445,6 +35393,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update information of the snapshot. (asynchronously) Update information like name or labels
+	 * of the snapshot.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param snapshotId The identifier (ID) of a STACKIT Snapshot. (required)
+	 * @param updateSnapshotPayload Request an update of a snapshot. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Snapshot has been updated. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Snapshot> updateSnapshotFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID snapshotId,
+			@javax.annotation.Nonnull UpdateSnapshotPayload updateSnapshotPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateSnapshotValidateBeforeCall(
+							projectId, region, snapshotId, updateSnapshotPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Snapshot>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateVolume
 	 *
@@ -30678,4 +35665,43 @@ class DefaultApi {
 		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
 		return localVarCall;
 	}
+
+	/**
+	 * Update information of a volume. (asynchronously) Update name, description or labels of the
+	 * volume.
+	 *
+	 * @param projectId The identifier (ID) of a STACKIT Project. (required)
+	 * @param region The STACKIT Region of the resources. (required)
+	 * @param volumeId The identifier (ID) of a STACKIT Volume. (required)
+	 * @param updateVolumePayload Request an update of a volume. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Volume has been updated. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> A bad request. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> A request which was not authorized. </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> A request which was forbidden. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> The object was not found. </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error, returns a 500 if something is broken on IaaS API Side. </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Volume> updateVolumeFuture(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID volumeId,
+			@javax.annotation.Nonnull UpdateVolumePayload updateVolumePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateVolumeValidateBeforeCall(
+							projectId, region, volumeId, updateVolumePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Volume>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
 }
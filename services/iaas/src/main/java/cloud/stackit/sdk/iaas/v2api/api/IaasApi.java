@@ -12,8 +12,24 @@
 
 package cloud.stackit.sdk.iaas.v2api.api;
 
+import cloud.stackit.sdk.core.catalog.ReferenceCatalog;
 import cloud.stackit.sdk.core.config.CoreConfiguration;
+import cloud.stackit.sdk.core.exception.ApiException;
+import cloud.stackit.sdk.core.http.RawResponse;
+import cloud.stackit.sdk.core.pagination.ItemIterator;
+import cloud.stackit.sdk.iaas.v2api.model.Image;
+import cloud.stackit.sdk.iaas.v2api.model.MachineType;
+import cloud.stackit.sdk.iaas.v2api.model.NIC;
+import cloud.stackit.sdk.iaas.v2api.model.NICListResponse;
+import cloud.stackit.sdk.iaas.v2api.model.SecurityGroupRule;
+import cloud.stackit.sdk.iaas.v2api.model.SecurityGroupRuleListResponse;
+import cloud.stackit.sdk.iaas.v2api.model.Server;
+import cloud.stackit.sdk.iaas.v2api.model.ServerListResponse;
+import cloud.stackit.sdk.iaas.v2api.model.Volume;
+import cloud.stackit.sdk.iaas.v2api.model.VolumeListResponse;
+import cloud.stackit.sdk.iaas.v2api.model.VolumePerformanceClass;
 import java.io.IOException;
+import java.util.UUID;
 import okhttp3.OkHttpClient;
 
 public class IaasApi extends DefaultApi {
@@ -60,4 +76,242 @@ public class IaasApi extends DefaultApi {
 	public IaasApi(OkHttpClient httpClient, CoreConfiguration configuration) throws IOException {
 		super(httpClient, configuration);
 	}
+
+	/**
+	 * Returns a catalog of the machine types, see {@link #listMachineTypes}. The catalog loads them
+	 * on first access and refreshes them in the background, so lookups don't need an API call.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param filter (optional)
+	 * @return ReferenceCatalog of the machine types
+	 */
+	public ReferenceCatalog<MachineType> listMachineTypesCatalog(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable String filter) {
+		return new ReferenceCatalog<>(
+				() -> listMachineTypes(projectId, region, filter).getItems());
+	}
+
+	/**
+	 * Returns a catalog of the availability zones, see {@link #listAvailabilityZones}. The catalog
+	 * loads them on first access and refreshes them in the background, so lookups don't need an API
+	 * call.
+	 *
+	 * @param region (required)
+	 * @return ReferenceCatalog of the availability zones
+	 */
+	public ReferenceCatalog<String> listAvailabilityZonesCatalog(
+			@javax.annotation.Nonnull String region) {
+		return new ReferenceCatalog<>(() -> listAvailabilityZones(region).getItems());
+	}
+
+	/**
+	 * Returns a catalog of the images, see {@link #listImages}. The catalog loads them on first
+	 * access and refreshes them in the background, so lookups don't need an API call.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param all (optional)
+	 * @param labelSelector (optional)
+	 * @return ReferenceCatalog of the images
+	 */
+	public ReferenceCatalog<Image> listImagesCatalog(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable Boolean all,
+			@javax.annotation.Nullable String labelSelector) {
+		return new ReferenceCatalog<>(
+				() -> listImages(projectId, region, all, labelSelector).getItems());
+	}
+
+	/**
+	 * Returns a catalog of the volume performance classes, see {@link
+	 * #listVolumePerformanceClasses}. The catalog loads them on first access and refreshes them in
+	 * the background, so lookups don't need an API call.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param labelSelector (optional)
+	 * @return ReferenceCatalog of the volume performance classes
+	 */
+	public ReferenceCatalog<VolumePerformanceClass> listVolumePerformanceClassesCatalog(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable String labelSelector) {
+		return new ReferenceCatalog<>(
+				() -> listVolumePerformanceClasses(projectId, region, labelSelector).getItems());
+	}
+
+	/**
+	 * Iterates over the servers of a project, see {@link #listServers}. The servers are read one by
+	 * one from the response instead of deserializing the whole response, so the memory used doesn't
+	 * depend on their number. Close the iterator if it isn't consumed completely.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param details (optional)
+	 * @param labelSelector (optional)
+	 * @return ItemIterator over the servers
+	 * @throws ApiException if the request fails
+	 */
+	public ItemIterator<Server> listServersIterator(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable Boolean details,
+			@javax.annotation.Nullable String labelSelector)
+			throws ApiException {
+		requireParameter(projectId, "projectId", "listServers");
+		requireParameter(region, "region", "listServers");
+		return getApiClient()
+				.executeItems(
+						listServersCall(projectId, region, details, labelSelector, null),
+						ServerListResponse.SERIALIZED_NAME_ITEMS,
+						Server.class);
+	}
+
+	/**
+	 * Iterates over the volumes of a project, see {@link #listVolumes}. The volumes are read one by
+	 * one from the response instead of deserializing the whole response, so the memory used doesn't
+	 * depend on their number. Close the iterator if it isn't consumed completely.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param labelSelector (optional)
+	 * @return ItemIterator over the volumes
+	 * @throws ApiException if the request fails
+	 */
+	public ItemIterator<Volume> listVolumesIterator(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable String labelSelector)
+			throws ApiException {
+		requireParameter(projectId, "projectId", "listVolumes");
+		requireParameter(region, "region", "listVolumes");
+		return getApiClient()
+				.executeItems(
+						listVolumesCall(projectId, region, labelSelector, null),
+						VolumeListResponse.SERIALIZED_NAME_ITEMS,
+						Volume.class);
+	}
+
+	/**
+	 * Iterates over the network interfaces of a network, see {@link #listNics}. The network
+	 * interfaces are read one by one from the response instead of deserializing the whole response,
+	 * so the memory used doesn't depend on their number. Close the iterator if it isn't consumed
+	 * completely.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param networkId (required)
+	 * @param labelSelector (optional)
+	 * @return ItemIterator over the network interfaces
+	 * @throws ApiException if the request fails
+	 */
+	public ItemIterator<NIC> listNicsIterator(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID networkId,
+			@javax.annotation.Nullable String labelSelector)
+			throws ApiException {
+		requireParameter(projectId, "projectId", "listNics");
+		requireParameter(region, "region", "listNics");
+		requireParameter(networkId, "networkId", "listNics");
+		return getApiClient()
+				.executeItems(
+						listNicsCall(projectId, region, networkId, labelSelector, null),
+						NICListResponse.SERIALIZED_NAME_ITEMS,
+						NIC.class);
+	}
+
+	/**
+	 * Iterates over the network interfaces of a project, see {@link #listProjectNICs}. The network
+	 * interfaces are read one by one from the response instead of deserializing the whole response,
+	 * so the memory used doesn't depend on their number. Close the iterator if it isn't consumed
+	 * completely.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param labelSelector (optional)
+	 * @return ItemIterator over the network interfaces
+	 * @throws ApiException if the request fails
+	 */
+	public ItemIterator<NIC> listProjectNICsIterator(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable String labelSelector)
+			throws ApiException {
+		requireParameter(projectId, "projectId", "listProjectNICs");
+		requireParameter(region, "region", "listProjectNICs");
+		return getApiClient()
+				.executeItems(
+						listProjectNICsCall(projectId, region, labelSelector, null),
+						NICListResponse.SERIALIZED_NAME_ITEMS,
+						NIC.class);
+	}
+
+	/**
+	 * Iterates over the rules of a security group, see {@link #listSecurityGroupRules}. The rules
+	 * are read one by one from the response instead of deserializing the whole response, so the
+	 * memory used doesn't depend on their number. Close the iterator if it isn't consumed
+	 * completely.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param securityGroupId (required)
+	 * @return ItemIterator over the rules
+	 * @throws ApiException if the request fails
+	 */
+	public ItemIterator<SecurityGroupRule> listSecurityGroupRulesIterator(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull UUID securityGroupId)
+			throws ApiException {
+		requireParameter(projectId, "projectId", "listSecurityGroupRules");
+		requireParameter(region, "region", "listSecurityGroupRules");
+		requireParameter(securityGroupId, "securityGroupId", "listSecurityGroupRules");
+		return getApiClient()
+				.executeItems(
+						listSecurityGroupRulesCall(projectId, region, securityGroupId, null),
+						SecurityGroupRuleListResponse.SERIALIZED_NAME_ITEMS,
+						SecurityGroupRule.class);
+	}
+
+	/**
+	 * Lists the servers of a project like {@link #listServers}, but returns the response without
+	 * deserializing it, so the body can be forwarded unchanged. Close the response unless the body
+	 * is read with {@link RawResponse#getByteString}.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param details (optional)
+	 * @param labelSelector (optional)
+	 * @return RawResponse with the status, headers and body of the response
+	 * @throws ApiException if the request fails
+	 */
+	public RawResponse listServersRaw(
+			@javax.annotation.Nonnull UUID projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable Boolean details,
+			@javax.annotation.Nullable String labelSelector)
+			throws ApiException {
+		requireParameter(projectId, "projectId", "listServers");
+		requireParameter(region, "region", "listServers");
+		return getApiClient()
+				.executeRaw(listServersCall(projectId, region, details, labelSelector, null));
+	}
+
+	// the same check as in the generated validation of the operations
+	private static void requireParameter(Object value, String parameter, String operation)
+			throws ApiException {
+		if (value == null) {
+			throw new ApiException(
+					"Missing the required parameter '"
+							+ parameter
+							+ "' when calling "
+							+ operation
+							+ "(Async)");
+		}
+	}
 }
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -519,7 +520,7 @@ public class BaseSecurityGroupRule {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<BaseSecurityGroupRule> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(BaseSecurityGroupRule.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(BaseSecurityGroupRule.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<BaseSecurityGroupRule>() {
@@ -598,6 +599,106 @@ public class BaseSecurityGroupRule {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<BaseSecurityGroupRule> {
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<ICMPParameters> icmpParametersAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<PortRange> portRangeAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "BaseSecurityGroupRule", SERIALIZED_NAME_DIRECTION);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+			stringAdapter = gson.getAdapter(String.class);
+			icmpParametersAdapter = gson.getAdapter(ICMPParameters.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			portRangeAdapter = gson.getAdapter(PortRange.class);
+		}
+
+		@Override
+		protected BaseSecurityGroupRule newInstance() {
+			return new BaseSecurityGroupRule();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, BaseSecurityGroupRule instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CREATED_AT:
+					instance.createdAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DESCRIPTION:
+					instance.description = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DIRECTION:
+					instance.direction = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.direction);
+				case SERIALIZED_NAME_ETHERTYPE:
+					instance.ethertype = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ICMP_PARAMETERS:
+					instance.icmpParameters = readValue(in, icmpParametersAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IP_RANGE:
+					instance.ipRange = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PORT_RANGE:
+					instance.portRange = readValue(in, portRangeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_REMOTE_SECURITY_GROUP_ID:
+					instance.remoteSecurityGroupId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SECURITY_GROUP_ID:
+					instance.securityGroupId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_UPDATED_AT:
+					instance.updatedAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, BaseSecurityGroupRule value) throws IOException {
+			writeField(out, SERIALIZED_NAME_CREATED_AT, value.createdAt, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_DESCRIPTION, value.description, stringAdapter);
+			writeField(out, SERIALIZED_NAME_DIRECTION, value.direction, stringAdapter);
+			writeField(out, SERIALIZED_NAME_ETHERTYPE, value.ethertype, stringAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_ICMP_PARAMETERS,
+					value.icmpParameters,
+					icmpParametersAdapter);
+			writeField(out, SERIALIZED_NAME_ID, value.id, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_IP_RANGE, value.ipRange, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PORT_RANGE, value.portRange, portRangeAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_REMOTE_SECURITY_GROUP_ID,
+					value.remoteSecurityGroupId,
+					uuidAdapter);
+			writeField(out, SERIALIZED_NAME_SECURITY_GROUP_ID, value.securityGroupId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_UPDATED_AT, value.updatedAt, offsetDateTimeAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(BaseSecurityGroupRule value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				BaseSecurityGroupRule instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of BaseSecurityGroupRule given an JSON string
 	 *
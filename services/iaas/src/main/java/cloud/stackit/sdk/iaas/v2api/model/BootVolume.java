@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -307,7 +308,7 @@ public class BootVolume {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<BootVolume> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(BootVolume.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(BootVolume.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<BootVolume>() {
@@ -385,6 +386,77 @@ public class BootVolume {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<BootVolume> {
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Long> longAdapter;
+		private final TypeAdapter<BootVolumeSource> bootVolumeSourceAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "BootVolume");
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			stringAdapter = gson.getAdapter(String.class);
+			longAdapter = gson.getAdapter(Long.class);
+			bootVolumeSourceAdapter = gson.getAdapter(BootVolumeSource.class);
+		}
+
+		@Override
+		protected BootVolume newInstance() {
+			return new BootVolume();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, BootVolume instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DELETE_ON_TERMINATION:
+					instance.deleteOnTermination = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PERFORMANCE_CLASS:
+					instance.performanceClass = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SIZE:
+					instance.size = readPrimitive(in, name, longAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SOURCE:
+					instance.source = readValue(in, bootVolumeSourceAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, BootVolume value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_DELETE_ON_TERMINATION,
+					value.deleteOnTermination,
+					booleanAdapter);
+			writeField(out, SERIALIZED_NAME_ID, value.id, uuidAdapter);
+			writeField(
+					out, SERIALIZED_NAME_PERFORMANCE_CLASS, value.performanceClass, stringAdapter);
+			writeField(out, SERIALIZED_NAME_SIZE, value.size, longAdapter);
+			writeField(out, SERIALIZED_NAME_SOURCE, value.source, bootVolumeSourceAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(BootVolume value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(BootVolume instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of BootVolume given an JSON string
 	 *
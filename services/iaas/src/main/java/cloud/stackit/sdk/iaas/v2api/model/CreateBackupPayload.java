@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -296,7 +297,7 @@ public class CreateBackupPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateBackupPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateBackupPayload.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(CreateBackupPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateBackupPayload>() {
@@ -375,6 +376,65 @@ public class CreateBackupPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<CreateBackupPayload> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<BackupSource> backupSourceAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateBackupPayload", SERIALIZED_NAME_SOURCE);
+			stringAdapter = gson.getAdapter(String.class);
+			objectAdapter = gson.getAdapter(Object.class);
+			backupSourceAdapter = gson.getAdapter(BackupSource.class);
+		}
+
+		@Override
+		protected CreateBackupPayload newInstance() {
+			return new CreateBackupPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateBackupPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DESCRIPTION:
+					instance.description = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SOURCE:
+					instance.source = readValue(in, backupSourceAdapter);
+					return requiredField(0, instance.source);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateBackupPayload value) throws IOException {
+			writeField(out, SERIALIZED_NAME_DESCRIPTION, value.description, stringAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_SOURCE, value.source, backupSourceAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateBackupPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateBackupPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateBackupPayload given an JSON string
 	 *
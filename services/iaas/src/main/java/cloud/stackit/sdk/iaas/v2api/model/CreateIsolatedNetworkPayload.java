@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -292,8 +293,8 @@ public class CreateIsolatedNetworkPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateIsolatedNetworkPayload> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(CreateIsolatedNetworkPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateIsolatedNetworkPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateIsolatedNetworkPayload>() {
@@ -373,6 +374,69 @@ public class CreateIsolatedNetworkPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateIsolatedNetworkPayload> {
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<CreateNetworkIPv4> createNetworkIPv4Adapter;
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateIsolatedNetworkPayload", SERIALIZED_NAME_NAME);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			createNetworkIPv4Adapter = gson.getAdapter(CreateNetworkIPv4.class);
+			objectAdapter = gson.getAdapter(Object.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected CreateIsolatedNetworkPayload newInstance() {
+			return new CreateIsolatedNetworkPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateIsolatedNetworkPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DHCP:
+					instance.dhcp = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IPV4:
+					instance.ipv4 = readValue(in, createNetworkIPv4Adapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.name);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateIsolatedNetworkPayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_DHCP, value.dhcp, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_IPV4, value.ipv4, createNetworkIPv4Adapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateIsolatedNetworkPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateIsolatedNetworkPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateIsolatedNetworkPayload given an JSON string
 	 *
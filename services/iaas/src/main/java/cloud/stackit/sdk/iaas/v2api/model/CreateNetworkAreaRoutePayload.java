@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -227,8 +228,8 @@ public class CreateNetworkAreaRoutePayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateNetworkAreaRoutePayload> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(CreateNetworkAreaRoutePayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateNetworkAreaRoutePayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateNetworkAreaRoutePayload>() {
@@ -309,6 +310,51 @@ public class CreateNetworkAreaRoutePayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateNetworkAreaRoutePayload> {
+		private final TypeAdapter<List<Route>> routeListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateNetworkAreaRoutePayload", SERIALIZED_NAME_ITEMS);
+			routeListAdapter = getAdapter(List.class, Route.class);
+		}
+
+		@Override
+		protected CreateNetworkAreaRoutePayload newInstance() {
+			return new CreateNetworkAreaRoutePayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateNetworkAreaRoutePayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, routeListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateNetworkAreaRoutePayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, routeListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateNetworkAreaRoutePayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateNetworkAreaRoutePayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateNetworkAreaRoutePayload given an JSON string
 	 *
@@ -40,11 +40,14 @@ public class CreateNetworkIPv4 extends AbstractOpenApiSchema {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateNetworkIPv4WithPrefix> adapterCreateNetworkIPv4WithPrefix =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateNetworkIPv4WithPrefix.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateNetworkIPv4WithPrefix.class));
 			final TypeAdapter<CreateNetworkIPv4WithPrefixLength>
 					adapterCreateNetworkIPv4WithPrefixLength =
-							gson.getDelegateAdapter(
-									this, TypeToken.get(CreateNetworkIPv4WithPrefixLength.class));
+							JSON.getDelegateAdapter(
+									gson,
+									this,
+									TypeToken.get(CreateNetworkIPv4WithPrefixLength.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateNetworkIPv4>() {
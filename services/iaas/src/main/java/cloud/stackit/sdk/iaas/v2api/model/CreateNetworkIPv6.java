@@ -40,11 +40,14 @@ public class CreateNetworkIPv6 extends AbstractOpenApiSchema {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateNetworkIPv6WithPrefix> adapterCreateNetworkIPv6WithPrefix =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateNetworkIPv6WithPrefix.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateNetworkIPv6WithPrefix.class));
 			final TypeAdapter<CreateNetworkIPv6WithPrefixLength>
 					adapterCreateNetworkIPv6WithPrefixLength =
-							gson.getDelegateAdapter(
-									this, TypeToken.get(CreateNetworkIPv6WithPrefixLength.class));
+							JSON.getDelegateAdapter(
+									gson,
+									this,
+									TypeToken.get(CreateNetworkIPv6WithPrefixLength.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateNetworkIPv6>() {
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -193,8 +194,8 @@ public class CreateSecurityGroupRuleProtocol {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateSecurityGroupRuleProtocol> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(CreateSecurityGroupRuleProtocol.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateSecurityGroupRuleProtocol.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateSecurityGroupRuleProtocol>() {
@@ -275,6 +276,53 @@ public class CreateSecurityGroupRuleProtocol {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateSecurityGroupRuleProtocol> {
+		private final TypeAdapter<CreateProtocol> createProtocolAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateSecurityGroupRuleProtocol");
+			createProtocolAdapter = gson.getAdapter(CreateProtocol.class);
+		}
+
+		@Override
+		protected CreateSecurityGroupRuleProtocol newInstance() {
+			return new CreateSecurityGroupRuleProtocol();
+		}
+
+		@Override
+		protected int readField(
+				JsonReader in, String name, CreateSecurityGroupRuleProtocol instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_PROTOCOL:
+					instance.protocol = readValue(in, createProtocolAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateSecurityGroupRuleProtocol value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_PROTOCOL, value.protocol, createProtocolAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				CreateSecurityGroupRuleProtocol value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateSecurityGroupRuleProtocol instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateSecurityGroupRuleProtocol given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -996,7 +997,7 @@ public class CreateServerPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateServerPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateServerPayload.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(CreateServerPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateServerPayload>() {
@@ -1075,6 +1076,190 @@ public class CreateServerPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<CreateServerPayload> {
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<ServerAgent> serverAgentAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<BootVolume> bootVolumeAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<ServerMaintenance> serverMaintenanceAdapter;
+		private final TypeAdapter<CreateServerPayloadAllOfNetworking>
+				createServerPayloadAllOfNetworkingAdapter;
+		private final TypeAdapter<List<ServerNetwork>> serverNetworkListAdapter;
+		private final TypeAdapter<List<String>> stringListAdapter;
+		private final TypeAdapter<byte[]> byteArrayAdapter;
+		private final TypeAdapter<List<UUID>> uuidListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"CreateServerPayload",
+					SERIALIZED_NAME_MACHINE_TYPE,
+					SERIALIZED_NAME_NAME,
+					SERIALIZED_NAME_NETWORKING);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			serverAgentAdapter = gson.getAdapter(ServerAgent.class);
+			stringAdapter = gson.getAdapter(String.class);
+			bootVolumeAdapter = gson.getAdapter(BootVolume.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+			objectAdapter = gson.getAdapter(Object.class);
+			serverMaintenanceAdapter = gson.getAdapter(ServerMaintenance.class);
+			createServerPayloadAllOfNetworkingAdapter =
+					gson.getAdapter(CreateServerPayloadAllOfNetworking.class);
+			serverNetworkListAdapter = getAdapter(List.class, ServerNetwork.class);
+			stringListAdapter = getAdapter(List.class, String.class);
+			byteArrayAdapter = gson.getAdapter(byte[].class);
+			uuidListAdapter = getAdapter(List.class, UUID.class);
+		}
+
+		@Override
+		protected CreateServerPayload newInstance() {
+			return new CreateServerPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateServerPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_AFFINITY_GROUP:
+					instance.affinityGroup = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_AGENT:
+					instance.agent = readValue(in, serverAgentAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_AVAILABILITY_ZONE:
+					instance.availabilityZone = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_BOOT_VOLUME:
+					instance.bootVolume = readValue(in, bootVolumeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_CONFIG_DRIVE:
+					instance.configDrive = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_CREATED_AT:
+					instance.createdAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ERROR_MESSAGE:
+					instance.errorMessage = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IMAGE_ID:
+					instance.imageId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_KEYPAIR_NAME:
+					instance.keypairName = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LAUNCHED_AT:
+					instance.launchedAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MACHINE_TYPE:
+					instance.machineType = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.machineType);
+				case SERIALIZED_NAME_MAINTENANCE_WINDOW:
+					instance.maintenanceWindow = readValue(in, serverMaintenanceAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_METADATA:
+					instance.metadata = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.name);
+				case SERIALIZED_NAME_NETWORKING:
+					instance.networking = readValue(in, createServerPayloadAllOfNetworkingAdapter);
+					return requiredField(2, instance.networking);
+				case SERIALIZED_NAME_NICS:
+					instance.nics = readArray(in, name, serverNetworkListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_POWER_STATUS:
+					instance.powerStatus = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SECURITY_GROUPS:
+					instance.securityGroups = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SERVICE_ACCOUNT_MAILS:
+					instance.serviceAccountMails = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_STATUS:
+					instance.status = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_UPDATED_AT:
+					instance.updatedAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_USER_DATA:
+					instance.userData = readPrimitive(in, name, byteArrayAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_VOLUMES:
+					instance.volumes = readArray(in, name, uuidListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateServerPayload value) throws IOException {
+			writeField(out, SERIALIZED_NAME_AFFINITY_GROUP, value.affinityGroup, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_AGENT, value.agent, serverAgentAdapter);
+			writeField(
+					out, SERIALIZED_NAME_AVAILABILITY_ZONE, value.availabilityZone, stringAdapter);
+			writeField(out, SERIALIZED_NAME_BOOT_VOLUME, value.bootVolume, bootVolumeAdapter);
+			writeField(out, SERIALIZED_NAME_CONFIG_DRIVE, value.configDrive, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_CREATED_AT, value.createdAt, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_ERROR_MESSAGE, value.errorMessage, stringAdapter);
+			writeField(out, SERIALIZED_NAME_ID, value.id, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_IMAGE_ID, value.imageId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_KEYPAIR_NAME, value.keypairName, stringAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_LAUNCHED_AT, value.launchedAt, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_MACHINE_TYPE, value.machineType, stringAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_MAINTENANCE_WINDOW,
+					value.maintenanceWindow,
+					serverMaintenanceAdapter);
+			writeField(out, SERIALIZED_NAME_METADATA, value.metadata, objectAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_NETWORKING,
+					value.networking,
+					createServerPayloadAllOfNetworkingAdapter);
+			writeField(out, SERIALIZED_NAME_NICS, value.nics, serverNetworkListAdapter);
+			writeField(out, SERIALIZED_NAME_POWER_STATUS, value.powerStatus, stringAdapter);
+			writeField(
+					out, SERIALIZED_NAME_SECURITY_GROUPS, value.securityGroups, stringListAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_SERVICE_ACCOUNT_MAILS,
+					value.serviceAccountMails,
+					stringListAdapter);
+			writeField(out, SERIALIZED_NAME_STATUS, value.status, stringAdapter);
+			writeField(out, SERIALIZED_NAME_UPDATED_AT, value.updatedAt, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_USER_DATA, value.userData, byteArrayAdapter);
+			writeField(out, SERIALIZED_NAME_VOLUMES, value.volumes, uuidListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateServerPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateServerPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateServerPayload given an JSON string
 	 *
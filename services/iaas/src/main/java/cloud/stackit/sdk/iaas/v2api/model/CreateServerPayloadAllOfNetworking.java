@@ -42,11 +42,14 @@ public class CreateServerPayloadAllOfNetworking extends AbstractOpenApiSchema {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateServerNetworking> adapterCreateServerNetworking =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateServerNetworking.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateServerNetworking.class));
 			final TypeAdapter<CreateServerNetworkingWithNics>
 					adapterCreateServerNetworkingWithNics =
-							gson.getDelegateAdapter(
-									this, TypeToken.get(CreateServerNetworkingWithNics.class));
+							JSON.getDelegateAdapter(
+									gson,
+									this,
+									TypeToken.get(CreateServerNetworkingWithNics.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateServerPayloadAllOfNetworking>() {
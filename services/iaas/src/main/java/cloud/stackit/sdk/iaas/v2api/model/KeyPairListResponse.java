@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -223,7 +224,7 @@ public class KeyPairListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<KeyPairListResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(KeyPairListResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(KeyPairListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<KeyPairListResponse>() {
@@ -302,6 +303,49 @@ public class KeyPairListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<KeyPairListResponse> {
+		private final TypeAdapter<List<Keypair>> keypairListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "KeyPairListResponse", SERIALIZED_NAME_ITEMS);
+			keypairListAdapter = getAdapter(List.class, Keypair.class);
+		}
+
+		@Override
+		protected KeyPairListResponse newInstance() {
+			return new KeyPairListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, KeyPairListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, keypairListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, KeyPairListResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, keypairListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(KeyPairListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				KeyPairListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of KeyPairListResponse given an JSON string
 	 *
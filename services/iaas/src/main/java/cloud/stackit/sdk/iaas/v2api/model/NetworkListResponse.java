@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -223,7 +224,7 @@ public class NetworkListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<NetworkListResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(NetworkListResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(NetworkListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<NetworkListResponse>() {
@@ -302,6 +303,49 @@ public class NetworkListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<NetworkListResponse> {
+		private final TypeAdapter<List<Network>> networkListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "NetworkListResponse", SERIALIZED_NAME_ITEMS);
+			networkListAdapter = getAdapter(List.class, Network.class);
+		}
+
+		@Override
+		protected NetworkListResponse newInstance() {
+			return new NetworkListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, NetworkListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, networkListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, NetworkListResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, networkListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(NetworkListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				NetworkListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of NetworkListResponse given an JSON string
 	 *
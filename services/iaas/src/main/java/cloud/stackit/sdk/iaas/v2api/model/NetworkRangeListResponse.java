@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -224,7 +225,8 @@ public class NetworkRangeListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<NetworkRangeListResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(NetworkRangeListResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(NetworkRangeListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<NetworkRangeListResponse>() {
@@ -303,6 +305,51 @@ public class NetworkRangeListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<NetworkRangeListResponse> {
+		private final TypeAdapter<List<NetworkRange>> networkRangeListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "NetworkRangeListResponse", SERIALIZED_NAME_ITEMS);
+			networkRangeListAdapter = getAdapter(List.class, NetworkRange.class);
+		}
+
+		@Override
+		protected NetworkRangeListResponse newInstance() {
+			return new NetworkRangeListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, NetworkRangeListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, networkRangeListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, NetworkRangeListResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, networkRangeListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(NetworkRangeListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				NetworkRangeListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of NetworkRangeListResponse given an JSON string
 	 *
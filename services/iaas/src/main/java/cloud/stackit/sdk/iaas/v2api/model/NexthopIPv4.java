@@ -246,7 +246,7 @@ public class NexthopIPv4 {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<NexthopIPv4> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(NexthopIPv4.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(NexthopIPv4.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<NexthopIPv4>() {
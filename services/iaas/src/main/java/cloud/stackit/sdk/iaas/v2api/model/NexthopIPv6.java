@@ -246,7 +246,7 @@ public class NexthopIPv6 {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<NexthopIPv6> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(NexthopIPv6.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(NexthopIPv6.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<NexthopIPv6>() {
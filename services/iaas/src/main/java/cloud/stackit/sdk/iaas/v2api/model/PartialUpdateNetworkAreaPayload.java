@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -225,8 +226,8 @@ public class PartialUpdateNetworkAreaPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<PartialUpdateNetworkAreaPayload> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(PartialUpdateNetworkAreaPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(PartialUpdateNetworkAreaPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<PartialUpdateNetworkAreaPayload>() {
@@ -307,6 +308,59 @@ public class PartialUpdateNetworkAreaPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<PartialUpdateNetworkAreaPayload> {
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "PartialUpdateNetworkAreaPayload");
+			objectAdapter = gson.getAdapter(Object.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected PartialUpdateNetworkAreaPayload newInstance() {
+			return new PartialUpdateNetworkAreaPayload();
+		}
+
+		@Override
+		protected int readField(
+				JsonReader in, String name, PartialUpdateNetworkAreaPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, PartialUpdateNetworkAreaPayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				PartialUpdateNetworkAreaPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				PartialUpdateNetworkAreaPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of PartialUpdateNetworkAreaPayload given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -406,7 +407,7 @@ public class RegionalAreaIPv4 {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<RegionalAreaIPv4> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(RegionalAreaIPv4.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(RegionalAreaIPv4.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<RegionalAreaIPv4>() {
@@ -485,6 +486,91 @@ public class RegionalAreaIPv4 {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<RegionalAreaIPv4> {
+		private final TypeAdapter<List<String>> stringListAdapter;
+		private final TypeAdapter<Long> longAdapter;
+		private final TypeAdapter<List<NetworkRange>> networkRangeListAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"RegionalAreaIPv4",
+					SERIALIZED_NAME_DEFAULT_PREFIX_LEN,
+					SERIALIZED_NAME_MAX_PREFIX_LEN,
+					SERIALIZED_NAME_MIN_PREFIX_LEN,
+					SERIALIZED_NAME_NETWORK_RANGES,
+					SERIALIZED_NAME_TRANSFER_NETWORK);
+			stringListAdapter = getAdapter(List.class, String.class);
+			longAdapter = gson.getAdapter(Long.class);
+			networkRangeListAdapter = getAdapter(List.class, NetworkRange.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected RegionalAreaIPv4 newInstance() {
+			return new RegionalAreaIPv4();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, RegionalAreaIPv4 instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DEFAULT_NAMESERVERS:
+					instance.defaultNameservers = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DEFAULT_PREFIX_LEN:
+					instance.defaultPrefixLen = readPrimitive(in, name, longAdapter);
+					return requiredField(0);
+				case SERIALIZED_NAME_MAX_PREFIX_LEN:
+					instance.maxPrefixLen = readPrimitive(in, name, longAdapter);
+					return requiredField(1);
+				case SERIALIZED_NAME_MIN_PREFIX_LEN:
+					instance.minPrefixLen = readPrimitive(in, name, longAdapter);
+					return requiredField(2);
+				case SERIALIZED_NAME_NETWORK_RANGES:
+					instance.networkRanges = readArray(in, name, networkRangeListAdapter);
+					return requiredField(3, instance.networkRanges);
+				case SERIALIZED_NAME_TRANSFER_NETWORK:
+					instance.transferNetwork = readPrimitive(in, name, stringAdapter);
+					return requiredField(4, instance.transferNetwork);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, RegionalAreaIPv4 value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_DEFAULT_NAMESERVERS,
+					value.defaultNameservers,
+					stringListAdapter);
+			writeField(
+					out, SERIALIZED_NAME_DEFAULT_PREFIX_LEN, value.defaultPrefixLen, longAdapter);
+			writeField(out, SERIALIZED_NAME_MAX_PREFIX_LEN, value.maxPrefixLen, longAdapter);
+			writeField(out, SERIALIZED_NAME_MIN_PREFIX_LEN, value.minPrefixLen, longAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_NETWORK_RANGES,
+					value.networkRanges,
+					networkRangeListAdapter);
+			writeField(out, SERIALIZED_NAME_TRANSFER_NETWORK, value.transferNetwork, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(RegionalAreaIPv4 value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				RegionalAreaIPv4 instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of RegionalAreaIPv4 given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -420,7 +421,7 @@ public class Request {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Request> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Request.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Request.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Request>() {
@@ -498,6 +499,76 @@ public class Request {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Request> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<List<RequestResource>> requestResourceListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"Request",
+					SERIALIZED_NAME_REQUEST_ACTION,
+					SERIALIZED_NAME_REQUEST_ID,
+					SERIALIZED_NAME_REQUEST_TYPE,
+					SERIALIZED_NAME_RESOURCES,
+					SERIALIZED_NAME_STATUS);
+			stringAdapter = gson.getAdapter(String.class);
+			requestResourceListAdapter = getAdapter(List.class, RequestResource.class);
+		}
+
+		@Override
+		protected Request newInstance() {
+			return new Request();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Request instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DETAILS:
+					instance.details = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_REQUEST_ACTION:
+					instance.requestAction = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.requestAction);
+				case SERIALIZED_NAME_REQUEST_ID:
+					instance.requestId = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.requestId);
+				case SERIALIZED_NAME_REQUEST_TYPE:
+					instance.requestType = readPrimitive(in, name, stringAdapter);
+					return requiredField(2, instance.requestType);
+				case SERIALIZED_NAME_RESOURCES:
+					instance.resources = readArray(in, name, requestResourceListAdapter);
+					return requiredField(3, instance.resources);
+				case SERIALIZED_NAME_STATUS:
+					instance.status = readPrimitive(in, name, stringAdapter);
+					return requiredField(4, instance.status);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Request value) throws IOException {
+			writeField(out, SERIALIZED_NAME_DETAILS, value.details, stringAdapter);
+			writeField(out, SERIALIZED_NAME_REQUEST_ACTION, value.requestAction, stringAdapter);
+			writeField(out, SERIALIZED_NAME_REQUEST_ID, value.requestId, stringAdapter);
+			writeField(out, SERIALIZED_NAME_REQUEST_TYPE, value.requestType, stringAdapter);
+			writeField(out, SERIALIZED_NAME_RESOURCES, value.resources, requestResourceListAdapter);
+			writeField(out, SERIALIZED_NAME_STATUS, value.status, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Request value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Request instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Request given an JSON string
 	 *
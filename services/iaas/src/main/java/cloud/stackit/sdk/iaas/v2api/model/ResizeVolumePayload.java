@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -198,7 +199,7 @@ public class ResizeVolumePayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ResizeVolumePayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ResizeVolumePayload.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ResizeVolumePayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ResizeVolumePayload>() {
@@ -277,6 +278,49 @@ public class ResizeVolumePayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ResizeVolumePayload> {
+		private final TypeAdapter<Long> longAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ResizeVolumePayload", SERIALIZED_NAME_SIZE);
+			longAdapter = gson.getAdapter(Long.class);
+		}
+
+		@Override
+		protected ResizeVolumePayload newInstance() {
+			return new ResizeVolumePayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ResizeVolumePayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_SIZE:
+					instance.size = readPrimitive(in, name, longAdapter);
+					return requiredField(0);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ResizeVolumePayload value) throws IOException {
+			writeField(out, SERIALIZED_NAME_SIZE, value.size, longAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ResizeVolumePayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ResizeVolumePayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ResizeVolumePayload given an JSON string
 	 *
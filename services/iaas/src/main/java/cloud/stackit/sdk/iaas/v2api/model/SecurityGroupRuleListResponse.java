@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -228,8 +229,8 @@ public class SecurityGroupRuleListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<SecurityGroupRuleListResponse> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(SecurityGroupRuleListResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(SecurityGroupRuleListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<SecurityGroupRuleListResponse>() {
@@ -310,6 +311,51 @@ public class SecurityGroupRuleListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<SecurityGroupRuleListResponse> {
+		private final TypeAdapter<List<SecurityGroupRule>> securityGroupRuleListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "SecurityGroupRuleListResponse", SERIALIZED_NAME_ITEMS);
+			securityGroupRuleListAdapter = getAdapter(List.class, SecurityGroupRule.class);
+		}
+
+		@Override
+		protected SecurityGroupRuleListResponse newInstance() {
+			return new SecurityGroupRuleListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, SecurityGroupRuleListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, securityGroupRuleListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, SecurityGroupRuleListResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, securityGroupRuleListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(SecurityGroupRuleListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				SecurityGroupRuleListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of SecurityGroupRuleListResponse given an JSON string
 	 *
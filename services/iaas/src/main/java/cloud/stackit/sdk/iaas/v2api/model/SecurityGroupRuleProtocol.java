@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -189,7 +190,8 @@ public class SecurityGroupRuleProtocol {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<SecurityGroupRuleProtocol> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(SecurityGroupRuleProtocol.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(SecurityGroupRuleProtocol.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<SecurityGroupRuleProtocol>() {
@@ -268,6 +270,51 @@ public class SecurityGroupRuleProtocol {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<SecurityGroupRuleProtocol> {
+		private final TypeAdapter<Protocol> protocolAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "SecurityGroupRuleProtocol");
+			protocolAdapter = gson.getAdapter(Protocol.class);
+		}
+
+		@Override
+		protected SecurityGroupRuleProtocol newInstance() {
+			return new SecurityGroupRuleProtocol();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, SecurityGroupRuleProtocol instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_PROTOCOL:
+					instance.protocol = readValue(in, protocolAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, SecurityGroupRuleProtocol value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_PROTOCOL, value.protocol, protocolAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(SecurityGroupRuleProtocol value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				SecurityGroupRuleProtocol instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of SecurityGroupRuleProtocol given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -186,7 +187,7 @@ public class ServerAgent {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ServerAgent> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ServerAgent.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ServerAgent.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ServerAgent>() {
@@ -264,6 +265,48 @@ public class ServerAgent {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ServerAgent> {
+		private final TypeAdapter<Boolean> booleanAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ServerAgent");
+			booleanAdapter = gson.getAdapter(Boolean.class);
+		}
+
+		@Override
+		protected ServerAgent newInstance() {
+			return new ServerAgent();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ServerAgent instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_PROVISIONED:
+					instance.provisioned = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ServerAgent value) throws IOException {
+			writeField(out, SERIALIZED_NAME_PROVISIONED, value.provisioned, booleanAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ServerAgent value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(ServerAgent instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ServerAgent given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -204,7 +205,7 @@ public class ServerConsoleUrl {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ServerConsoleUrl> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ServerConsoleUrl.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ServerConsoleUrl.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ServerConsoleUrl>() {
@@ -283,6 +284,49 @@ public class ServerConsoleUrl {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ServerConsoleUrl> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ServerConsoleUrl", SERIALIZED_NAME_URL);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected ServerConsoleUrl newInstance() {
+			return new ServerConsoleUrl();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ServerConsoleUrl instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_URL:
+					instance.url = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.url);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ServerConsoleUrl value) throws IOException {
+			writeField(out, SERIALIZED_NAME_URL, value.url, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ServerConsoleUrl value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ServerConsoleUrl instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ServerConsoleUrl given an JSON string
 	 *
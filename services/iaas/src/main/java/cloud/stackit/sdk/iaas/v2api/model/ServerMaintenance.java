@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -294,7 +295,7 @@ public class ServerMaintenance {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ServerMaintenance> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ServerMaintenance.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ServerMaintenance.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ServerMaintenance>() {
@@ -373,6 +374,68 @@ public class ServerMaintenance {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ServerMaintenance> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"ServerMaintenance",
+					SERIALIZED_NAME_ENDS_AT,
+					SERIALIZED_NAME_STARTS_AT,
+					SERIALIZED_NAME_STATUS);
+			stringAdapter = gson.getAdapter(String.class);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+		}
+
+		@Override
+		protected ServerMaintenance newInstance() {
+			return new ServerMaintenance();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ServerMaintenance instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DETAILS:
+					instance.details = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ENDS_AT:
+					instance.endsAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return requiredField(0);
+				case SERIALIZED_NAME_STARTS_AT:
+					instance.startsAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return requiredField(1);
+				case SERIALIZED_NAME_STATUS:
+					instance.status = readPrimitive(in, name, stringAdapter);
+					return requiredField(2, instance.status);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ServerMaintenance value) throws IOException {
+			writeField(out, SERIALIZED_NAME_DETAILS, value.details, stringAdapter);
+			writeField(out, SERIALIZED_NAME_ENDS_AT, value.endsAt, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_STARTS_AT, value.startsAt, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_STATUS, value.status, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ServerMaintenance value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ServerMaintenance instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ServerMaintenance given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -193,8 +194,8 @@ public class UpdateNetworkAreaRegionPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateNetworkAreaRegionPayload> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(UpdateNetworkAreaRegionPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(UpdateNetworkAreaRegionPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateNetworkAreaRegionPayload>() {
@@ -275,6 +276,52 @@ public class UpdateNetworkAreaRegionPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<UpdateNetworkAreaRegionPayload> {
+		private final TypeAdapter<UpdateRegionalAreaIPv4> updateRegionalAreaIPv4Adapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateNetworkAreaRegionPayload");
+			updateRegionalAreaIPv4Adapter = gson.getAdapter(UpdateRegionalAreaIPv4.class);
+		}
+
+		@Override
+		protected UpdateNetworkAreaRegionPayload newInstance() {
+			return new UpdateNetworkAreaRegionPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, UpdateNetworkAreaRegionPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_IPV4:
+					instance.ipv4 = readValue(in, updateRegionalAreaIPv4Adapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateNetworkAreaRegionPayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_IPV4, value.ipv4, updateRegionalAreaIPv4Adapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				UpdateNetworkAreaRegionPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateNetworkAreaRegionPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateNetworkAreaRegionPayload given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -223,7 +224,7 @@ public class VolumeListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<VolumeListResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(VolumeListResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(VolumeListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<VolumeListResponse>() {
@@ -302,6 +303,49 @@ public class VolumeListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<VolumeListResponse> {
+		private final TypeAdapter<List<Volume>> volumeListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "VolumeListResponse", SERIALIZED_NAME_ITEMS);
+			volumeListAdapter = getAdapter(List.class, Volume.class);
+		}
+
+		@Override
+		protected VolumeListResponse newInstance() {
+			return new VolumeListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, VolumeListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, volumeListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, VolumeListResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, volumeListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(VolumeListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				VolumeListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of VolumeListResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2beta1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2beta1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -302,7 +303,7 @@ public class AffinityGroup {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<AffinityGroup> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(AffinityGroup.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(AffinityGroup.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<AffinityGroup>() {
@@ -380,6 +381,65 @@ public class AffinityGroup {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<AffinityGroup> {
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<List<UUID>> uuidListAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "AffinityGroup", SERIALIZED_NAME_NAME, SERIALIZED_NAME_POLICY);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			uuidListAdapter = getAdapter(List.class, UUID.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected AffinityGroup newInstance() {
+			return new AffinityGroup();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, AffinityGroup instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MEMBERS:
+					instance.members = readArray(in, name, uuidListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.name);
+				case SERIALIZED_NAME_POLICY:
+					instance.policy = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.policy);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, AffinityGroup value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ID, value.id, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_MEMBERS, value.members, uuidListAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_POLICY, value.policy, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(AffinityGroup value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				AffinityGroup instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of AffinityGroup given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2beta1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2beta1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -222,8 +223,8 @@ public class AvailabilityZoneListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<AvailabilityZoneListResponse> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(AvailabilityZoneListResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(AvailabilityZoneListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<AvailabilityZoneListResponse>() {
@@ -303,6 +304,51 @@ public class AvailabilityZoneListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<AvailabilityZoneListResponse> {
+		private final TypeAdapter<List<String>> stringListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "AvailabilityZoneListResponse", SERIALIZED_NAME_ITEMS);
+			stringListAdapter = getAdapter(List.class, String.class);
+		}
+
+		@Override
+		protected AvailabilityZoneListResponse newInstance() {
+			return new AvailabilityZoneListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, AvailabilityZoneListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, stringListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, AvailabilityZoneListResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, stringListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(AvailabilityZoneListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				AvailabilityZoneListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of AvailabilityZoneListResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2beta1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2beta1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -223,7 +224,7 @@ public class BackupListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<BackupListResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(BackupListResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(BackupListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<BackupListResponse>() {
@@ -302,6 +303,49 @@ public class BackupListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<BackupListResponse> {
+		private final TypeAdapter<List<Backup>> backupListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "BackupListResponse", SERIALIZED_NAME_ITEMS);
+			backupListAdapter = getAdapter(List.class, Backup.class);
+		}
+
+		@Override
+		protected BackupListResponse newInstance() {
+			return new BackupListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, BackupListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, backupListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, BackupListResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, backupListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(BackupListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				BackupListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of BackupListResponse given an JSON string
 	 *
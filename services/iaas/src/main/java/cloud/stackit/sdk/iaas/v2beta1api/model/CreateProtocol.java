@@ -41,9 +41,9 @@ public class CreateProtocol extends AbstractOpenApiSchema {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Long> adapterLong =
-					gson.getDelegateAdapter(this, TypeToken.get(Long.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Long.class));
 			final TypeAdapter<String> adapterString =
-					gson.getDelegateAdapter(this, TypeToken.get(String.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(String.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateProtocol>() {
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2beta1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2beta1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -171,8 +172,8 @@ public class CreateServerNetworkingWithNics {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateServerNetworkingWithNics> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(CreateServerNetworkingWithNics.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateServerNetworkingWithNics.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateServerNetworkingWithNics>() {
@@ -194,6 +195,40 @@ public class CreateServerNetworkingWithNics {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateServerNetworkingWithNics> {
+		private final TypeAdapter<List<UUID>> uuidListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateServerNetworkingWithNics");
+			uuidListAdapter = getAdapter(List.class, UUID.class);
+		}
+
+		@Override
+		protected CreateServerNetworkingWithNics newInstance() {
+			return new CreateServerNetworkingWithNics();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateServerNetworkingWithNics instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_NIC_IDS:
+					instance.nicIds = readArray(in, name, uuidListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateServerNetworkingWithNics value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_NIC_IDS, value.nicIds, uuidListAdapter);
+		}
+	}
+
 	/**
 	 * Create an instance of CreateServerNetworkingWithNics given an JSON string
 	 *
@@ -247,7 +247,7 @@ public class DestinationCIDRv4 {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<DestinationCIDRv4> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(DestinationCIDRv4.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(DestinationCIDRv4.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<DestinationCIDRv4>() {
@@ -247,7 +247,7 @@ public class DestinationCIDRv6 {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<DestinationCIDRv6> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(DestinationCIDRv6.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(DestinationCIDRv6.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<DestinationCIDRv6>() {
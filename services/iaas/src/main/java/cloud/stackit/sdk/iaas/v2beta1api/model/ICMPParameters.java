@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2beta1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2beta1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -224,7 +225,7 @@ public class ICMPParameters {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ICMPParameters> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ICMPParameters.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ICMPParameters.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ICMPParameters>() {
@@ -302,6 +303,53 @@ public class ICMPParameters {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ICMPParameters> {
+		private final TypeAdapter<Long> longAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ICMPParameters", SERIALIZED_NAME_CODE, SERIALIZED_NAME_TYPE);
+			longAdapter = gson.getAdapter(Long.class);
+		}
+
+		@Override
+		protected ICMPParameters newInstance() {
+			return new ICMPParameters();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ICMPParameters instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CODE:
+					instance.code = readPrimitive(in, name, longAdapter);
+					return requiredField(0);
+				case SERIALIZED_NAME_TYPE:
+					instance.type = readPrimitive(in, name, longAdapter);
+					return requiredField(1);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ICMPParameters value) throws IOException {
+			writeField(out, SERIALIZED_NAME_CODE, value.code, longAdapter);
+			writeField(out, SERIALIZED_NAME_TYPE, value.type, longAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ICMPParameters value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ICMPParameters instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ICMPParameters given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2beta1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2beta1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -223,7 +224,7 @@ public class ImageListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ImageListResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ImageListResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ImageListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ImageListResponse>() {
@@ -302,6 +303,49 @@ public class ImageListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ImageListResponse> {
+		private final TypeAdapter<List<Image>> imageListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ImageListResponse", SERIALIZED_NAME_ITEMS);
+			imageListAdapter = getAdapter(List.class, Image.class);
+		}
+
+		@Override
+		protected ImageListResponse newInstance() {
+			return new ImageListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ImageListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, imageListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ImageListResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, imageListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ImageListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ImageListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ImageListResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2beta1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2beta1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -348,7 +349,7 @@ public class MachineType {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<MachineType> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(MachineType.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(MachineType.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<MachineType>() {
@@ -426,6 +427,78 @@ public class MachineType {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<MachineType> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Long> longAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"MachineType",
+					SERIALIZED_NAME_DISK,
+					SERIALIZED_NAME_NAME,
+					SERIALIZED_NAME_RAM,
+					SERIALIZED_NAME_VCPUS);
+			stringAdapter = gson.getAdapter(String.class);
+			longAdapter = gson.getAdapter(Long.class);
+			objectAdapter = gson.getAdapter(Object.class);
+		}
+
+		@Override
+		protected MachineType newInstance() {
+			return new MachineType();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, MachineType instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DESCRIPTION:
+					instance.description = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DISK:
+					instance.disk = readPrimitive(in, name, longAdapter);
+					return requiredField(0);
+				case SERIALIZED_NAME_EXTRA_SPECS:
+					instance.extraSpecs = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.name);
+				case SERIALIZED_NAME_RAM:
+					instance.ram = readPrimitive(in, name, longAdapter);
+					return requiredField(2);
+				case SERIALIZED_NAME_VCPUS:
+					instance.vcpus = readPrimitive(in, name, longAdapter);
+					return requiredField(3);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, MachineType value) throws IOException {
+			writeField(out, SERIALIZED_NAME_DESCRIPTION, value.description, stringAdapter);
+			writeField(out, SERIALIZED_NAME_DISK, value.disk, longAdapter);
+			writeField(out, SERIALIZED_NAME_EXTRA_SPECS, value.extraSpecs, objectAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_RAM, value.ram, longAdapter);
+			writeField(out, SERIALIZED_NAME_VCPUS, value.vcpus, longAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(MachineType value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(MachineType instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of MachineType given an JSON string
 	 *
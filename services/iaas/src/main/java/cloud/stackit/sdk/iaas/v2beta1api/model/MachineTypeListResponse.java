@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2beta1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2beta1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -224,7 +225,8 @@ public class MachineTypeListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<MachineTypeListResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(MachineTypeListResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(MachineTypeListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<MachineTypeListResponse>() {
@@ -303,6 +305,51 @@ public class MachineTypeListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<MachineTypeListResponse> {
+		private final TypeAdapter<List<MachineType>> machineTypeListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "MachineTypeListResponse", SERIALIZED_NAME_ITEMS);
+			machineTypeListAdapter = getAdapter(List.class, MachineType.class);
+		}
+
+		@Override
+		protected MachineTypeListResponse newInstance() {
+			return new MachineTypeListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, MachineTypeListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, machineTypeListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, MachineTypeListResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, machineTypeListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(MachineTypeListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				MachineTypeListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of MachineTypeListResponse given an JSON string
 	 *
@@ -212,7 +212,7 @@ public class NexthopBlackhole {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<NexthopBlackhole> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(NexthopBlackhole.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(NexthopBlackhole.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<NexthopBlackhole>() {
@@ -212,7 +212,7 @@ public class NexthopInternet {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<NexthopInternet> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(NexthopInternet.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(NexthopInternet.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<NexthopInternet>() {
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2beta1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2beta1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -224,7 +225,8 @@ public class PublicNetworkListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<PublicNetworkListResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(PublicNetworkListResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(PublicNetworkListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<PublicNetworkListResponse>() {
@@ -303,6 +305,51 @@ public class PublicNetworkListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<PublicNetworkListResponse> {
+		private final TypeAdapter<List<PublicNetwork>> publicNetworkListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "PublicNetworkListResponse", SERIALIZED_NAME_ITEMS);
+			publicNetworkListAdapter = getAdapter(List.class, PublicNetwork.class);
+		}
+
+		@Override
+		protected PublicNetworkListResponse newInstance() {
+			return new PublicNetworkListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, PublicNetworkListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, publicNetworkListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, PublicNetworkListResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, publicNetworkListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(PublicNetworkListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				PublicNetworkListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of PublicNetworkListResponse given an JSON string
 	 *
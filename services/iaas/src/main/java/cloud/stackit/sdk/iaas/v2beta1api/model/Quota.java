@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2beta1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2beta1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -224,7 +225,7 @@ public class Quota {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Quota> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Quota.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Quota.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Quota>() {
@@ -302,6 +303,51 @@ public class Quota {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Quota> {
+		private final TypeAdapter<Long> longAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "Quota", SERIALIZED_NAME_LIMIT, SERIALIZED_NAME_USAGE);
+			longAdapter = gson.getAdapter(Long.class);
+		}
+
+		@Override
+		protected Quota newInstance() {
+			return new Quota();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Quota instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_LIMIT:
+					instance.limit = readPrimitive(in, name, longAdapter);
+					return requiredField(0);
+				case SERIALIZED_NAME_USAGE:
+					instance.usage = readPrimitive(in, name, longAdapter);
+					return requiredField(1);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Quota value) throws IOException {
+			writeField(out, SERIALIZED_NAME_LIMIT, value.limit, longAdapter);
+			writeField(out, SERIALIZED_NAME_USAGE, value.usage, longAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Quota value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Quota instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Quota given an JSON string
 	 *
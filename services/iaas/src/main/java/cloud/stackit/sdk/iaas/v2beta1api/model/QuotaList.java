@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2beta1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2beta1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -561,7 +562,7 @@ public class QuotaList {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<QuotaList> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(QuotaList.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(QuotaList.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<QuotaList>() {
@@ -639,6 +640,109 @@ public class QuotaList {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<QuotaList> {
+		private final TypeAdapter<Quota> quotaAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"QuotaList",
+					SERIALIZED_NAME_BACKUP_GIGABYTES,
+					SERIALIZED_NAME_BACKUPS,
+					SERIALIZED_NAME_GIGABYTES,
+					SERIALIZED_NAME_NETWORKS,
+					SERIALIZED_NAME_NICS,
+					SERIALIZED_NAME_PUBLIC_IPS,
+					SERIALIZED_NAME_RAM,
+					SERIALIZED_NAME_SECURITY_GROUP_RULES,
+					SERIALIZED_NAME_SECURITY_GROUPS,
+					SERIALIZED_NAME_SNAPSHOTS,
+					SERIALIZED_NAME_VCPU,
+					SERIALIZED_NAME_VOLUMES);
+			quotaAdapter = gson.getAdapter(Quota.class);
+		}
+
+		@Override
+		protected QuotaList newInstance() {
+			return new QuotaList();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, QuotaList instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_BACKUP_GIGABYTES:
+					instance.backupGigabytes = readValue(in, quotaAdapter);
+					return requiredField(0, instance.backupGigabytes);
+				case SERIALIZED_NAME_BACKUPS:
+					instance.backups = readValue(in, quotaAdapter);
+					return requiredField(1, instance.backups);
+				case SERIALIZED_NAME_GIGABYTES:
+					instance.gigabytes = readValue(in, quotaAdapter);
+					return requiredField(2, instance.gigabytes);
+				case SERIALIZED_NAME_NETWORKS:
+					instance.networks = readValue(in, quotaAdapter);
+					return requiredField(3, instance.networks);
+				case SERIALIZED_NAME_NICS:
+					instance.nics = readValue(in, quotaAdapter);
+					return requiredField(4, instance.nics);
+				case SERIALIZED_NAME_PUBLIC_IPS:
+					instance.publicIps = readValue(in, quotaAdapter);
+					return requiredField(5, instance.publicIps);
+				case SERIALIZED_NAME_RAM:
+					instance.ram = readValue(in, quotaAdapter);
+					return requiredField(6, instance.ram);
+				case SERIALIZED_NAME_SECURITY_GROUP_RULES:
+					instance.securityGroupRules = readValue(in, quotaAdapter);
+					return requiredField(7, instance.securityGroupRules);
+				case SERIALIZED_NAME_SECURITY_GROUPS:
+					instance.securityGroups = readValue(in, quotaAdapter);
+					return requiredField(8, instance.securityGroups);
+				case SERIALIZED_NAME_SNAPSHOTS:
+					instance.snapshots = readValue(in, quotaAdapter);
+					return requiredField(9, instance.snapshots);
+				case SERIALIZED_NAME_VCPU:
+					instance.vcpu = readValue(in, quotaAdapter);
+					return requiredField(10, instance.vcpu);
+				case SERIALIZED_NAME_VOLUMES:
+					instance.volumes = readValue(in, quotaAdapter);
+					return requiredField(11, instance.volumes);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, QuotaList value) throws IOException {
+			writeField(out, SERIALIZED_NAME_BACKUP_GIGABYTES, value.backupGigabytes, quotaAdapter);
+			writeField(out, SERIALIZED_NAME_BACKUPS, value.backups, quotaAdapter);
+			writeField(out, SERIALIZED_NAME_GIGABYTES, value.gigabytes, quotaAdapter);
+			writeField(out, SERIALIZED_NAME_NETWORKS, value.networks, quotaAdapter);
+			writeField(out, SERIALIZED_NAME_NICS, value.nics, quotaAdapter);
+			writeField(out, SERIALIZED_NAME_PUBLIC_IPS, value.publicIps, quotaAdapter);
+			writeField(out, SERIALIZED_NAME_RAM, value.ram, quotaAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_SECURITY_GROUP_RULES,
+					value.securityGroupRules,
+					quotaAdapter);
+			writeField(out, SERIALIZED_NAME_SECURITY_GROUPS, value.securityGroups, quotaAdapter);
+			writeField(out, SERIALIZED_NAME_SNAPSHOTS, value.snapshots, quotaAdapter);
+			writeField(out, SERIALIZED_NAME_VCPU, value.vcpu, quotaAdapter);
+			writeField(out, SERIALIZED_NAME_VOLUMES, value.volumes, quotaAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(QuotaList value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(QuotaList instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of QuotaList given an JSON string
 	 *
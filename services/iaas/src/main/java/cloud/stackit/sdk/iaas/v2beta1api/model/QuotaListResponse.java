@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2beta1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2beta1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -200,7 +201,7 @@ public class QuotaListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<QuotaListResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(QuotaListResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(QuotaListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<QuotaListResponse>() {
@@ -279,6 +280,49 @@ public class QuotaListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<QuotaListResponse> {
+		private final TypeAdapter<QuotaList> quotaListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "QuotaListResponse", SERIALIZED_NAME_QUOTAS);
+			quotaListAdapter = gson.getAdapter(QuotaList.class);
+		}
+
+		@Override
+		protected QuotaListResponse newInstance() {
+			return new QuotaListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, QuotaListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_QUOTAS:
+					instance.quotas = readValue(in, quotaListAdapter);
+					return requiredField(0, instance.quotas);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, QuotaListResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_QUOTAS, value.quotas, quotaListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(QuotaListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				QuotaListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of QuotaListResponse given an JSON string
 	 *
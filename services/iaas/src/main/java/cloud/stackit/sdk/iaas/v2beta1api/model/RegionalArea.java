@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2beta1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2beta1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -218,7 +219,7 @@ public class RegionalArea {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<RegionalArea> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(RegionalArea.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(RegionalArea.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<RegionalArea>() {
@@ -296,6 +297,55 @@ public class RegionalArea {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<RegionalArea> {
+		private final TypeAdapter<RegionalAreaIPv4> regionalAreaIPv4Adapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "RegionalArea");
+			regionalAreaIPv4Adapter = gson.getAdapter(RegionalAreaIPv4.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected RegionalArea newInstance() {
+			return new RegionalArea();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, RegionalArea instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_IPV4:
+					instance.ipv4 = readValue(in, regionalAreaIPv4Adapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_STATUS:
+					instance.status = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, RegionalArea value) throws IOException {
+			writeField(out, SERIALIZED_NAME_IPV4, value.ipv4, regionalAreaIPv4Adapter);
+			writeField(out, SERIALIZED_NAME_STATUS, value.status, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(RegionalArea value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				RegionalArea instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of RegionalArea given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2beta1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2beta1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -208,7 +209,8 @@ public class RegionalAreaListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<RegionalAreaListResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(RegionalAreaListResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(RegionalAreaListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<RegionalAreaListResponse>() {
@@ -287,6 +289,51 @@ public class RegionalAreaListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<RegionalAreaListResponse> {
+		private final TypeAdapter<Map<String, RegionalArea>> regionalAreaMapAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "RegionalAreaListResponse", SERIALIZED_NAME_REGIONS);
+			regionalAreaMapAdapter = getAdapter(Map.class, String.class, RegionalArea.class);
+		}
+
+		@Override
+		protected RegionalAreaListResponse newInstance() {
+			return new RegionalAreaListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, RegionalAreaListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_REGIONS:
+					instance.regions = readValue(in, regionalAreaMapAdapter);
+					return requiredField(0);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, RegionalAreaListResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_REGIONS, value.regions, regionalAreaMapAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(RegionalAreaListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				RegionalAreaListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of RegionalAreaListResponse given an JSON string
 	 *
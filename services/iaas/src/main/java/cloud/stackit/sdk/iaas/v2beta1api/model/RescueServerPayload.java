@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2beta1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2beta1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -206,7 +207,7 @@ public class RescueServerPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<RescueServerPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(RescueServerPayload.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(RescueServerPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<RescueServerPayload>() {
@@ -285,6 +286,49 @@ public class RescueServerPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<RescueServerPayload> {
+		private final TypeAdapter<UUID> uuidAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "RescueServerPayload", SERIALIZED_NAME_IMAGE);
+			uuidAdapter = gson.getAdapter(UUID.class);
+		}
+
+		@Override
+		protected RescueServerPayload newInstance() {
+			return new RescueServerPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, RescueServerPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_IMAGE:
+					instance.image = readPrimitive(in, name, uuidAdapter);
+					return requiredField(0, instance.image);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, RescueServerPayload value) throws IOException {
+			writeField(out, SERIALIZED_NAME_IMAGE, value.image, uuidAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(RescueServerPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				RescueServerPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of RescueServerPayload given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2beta1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2beta1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -331,7 +332,7 @@ public class Route {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Route> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Route.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Route.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Route>() {
@@ -409,6 +410,76 @@ public class Route {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Route> {
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+		private final TypeAdapter<RouteDestination> routeDestinationAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<RouteNexthop> routeNexthopAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "Route", SERIALIZED_NAME_DESTINATION, SERIALIZED_NAME_NEXTHOP);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+			routeDestinationAdapter = gson.getAdapter(RouteDestination.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			objectAdapter = gson.getAdapter(Object.class);
+			routeNexthopAdapter = gson.getAdapter(RouteNexthop.class);
+		}
+
+		@Override
+		protected Route newInstance() {
+			return new Route();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Route instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CREATED_AT:
+					instance.createdAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DESTINATION:
+					instance.destination = readValue(in, routeDestinationAdapter);
+					return requiredField(0, instance.destination);
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NEXTHOP:
+					instance.nexthop = readValue(in, routeNexthopAdapter);
+					return requiredField(1, instance.nexthop);
+				case SERIALIZED_NAME_UPDATED_AT:
+					instance.updatedAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Route value) throws IOException {
+			writeField(out, SERIALIZED_NAME_CREATED_AT, value.createdAt, offsetDateTimeAdapter);
+			writeField(
+					out, SERIALIZED_NAME_DESTINATION, value.destination, routeDestinationAdapter);
+			writeField(out, SERIALIZED_NAME_ID, value.id, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, objectAdapter);
+			writeField(out, SERIALIZED_NAME_NEXTHOP, value.nexthop, routeNexthopAdapter);
+			writeField(out, SERIALIZED_NAME_UPDATED_AT, value.updatedAt, offsetDateTimeAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Route value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Route instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Route given an JSON string
 	 *
@@ -40,13 +40,13 @@ public class RouteNexthop extends AbstractOpenApiSchema {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<NexthopIPv4> adapterNexthopIPv4 =
-					gson.getDelegateAdapter(this, TypeToken.get(NexthopIPv4.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(NexthopIPv4.class));
 			final TypeAdapter<NexthopIPv6> adapterNexthopIPv6 =
-					gson.getDelegateAdapter(this, TypeToken.get(NexthopIPv6.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(NexthopIPv6.class));
 			final TypeAdapter<NexthopInternet> adapterNexthopInternet =
-					gson.getDelegateAdapter(this, TypeToken.get(NexthopInternet.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(NexthopInternet.class));
 			final TypeAdapter<NexthopBlackhole> adapterNexthopBlackhole =
-					gson.getDelegateAdapter(this, TypeToken.get(NexthopBlackhole.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(NexthopBlackhole.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<RouteNexthop>() {
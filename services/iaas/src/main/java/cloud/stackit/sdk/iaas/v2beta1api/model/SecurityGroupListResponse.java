@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2beta1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2beta1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -224,7 +225,8 @@ public class SecurityGroupListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<SecurityGroupListResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(SecurityGroupListResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(SecurityGroupListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<SecurityGroupListResponse>() {
@@ -303,6 +305,51 @@ public class SecurityGroupListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<SecurityGroupListResponse> {
+		private final TypeAdapter<List<SecurityGroup>> securityGroupListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "SecurityGroupListResponse", SERIALIZED_NAME_ITEMS);
+			securityGroupListAdapter = getAdapter(List.class, SecurityGroup.class);
+		}
+
+		@Override
+		protected SecurityGroupListResponse newInstance() {
+			return new SecurityGroupListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, SecurityGroupListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, securityGroupListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, SecurityGroupListResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, securityGroupListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(SecurityGroupListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				SecurityGroupListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of SecurityGroupListResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2beta1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2beta1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -223,7 +224,7 @@ public class SnapshotListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<SnapshotListResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(SnapshotListResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(SnapshotListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<SnapshotListResponse>() {
@@ -302,6 +303,49 @@ public class SnapshotListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<SnapshotListResponse> {
+		private final TypeAdapter<List<Snapshot>> snapshotListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "SnapshotListResponse", SERIALIZED_NAME_ITEMS);
+			snapshotListAdapter = getAdapter(List.class, Snapshot.class);
+		}
+
+		@Override
+		protected SnapshotListResponse newInstance() {
+			return new SnapshotListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, SnapshotListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, snapshotListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, SnapshotListResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, snapshotListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(SnapshotListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				SnapshotListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of SnapshotListResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2beta1api.model;
 
+import cloud.stackit.sdk.core.json.EnumLookup;
 import com.google.gson.JsonElement;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -43,13 +44,11 @@ public enum StaticAreaID {
 		return String.valueOf(value);
 	}
 
+	private static final EnumLookup<StaticAreaID> LOOKUP =
+			new EnumLookup<>(values(), UNKNOWN_DEFAULT_OPEN_API);
+
 	public static StaticAreaID fromValue(String value) {
-		for (StaticAreaID b : StaticAreaID.values()) {
-			if (b.value.equals(value)) {
-				return b;
-			}
-		}
-		return UNKNOWN_DEFAULT_OPEN_API;
+		return LOOKUP.fromValue(value);
 	}
 
 	public static class Adapter extends TypeAdapter<StaticAreaID> {
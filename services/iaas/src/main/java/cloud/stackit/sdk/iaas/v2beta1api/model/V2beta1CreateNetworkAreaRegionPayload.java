@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2beta1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2beta1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -225,8 +226,8 @@ public class V2beta1CreateNetworkAreaRegionPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<V2beta1CreateNetworkAreaRegionPayload> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(V2beta1CreateNetworkAreaRegionPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(V2beta1CreateNetworkAreaRegionPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<V2beta1CreateNetworkAreaRegionPayload>() {
@@ -308,6 +309,59 @@ public class V2beta1CreateNetworkAreaRegionPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<V2beta1CreateNetworkAreaRegionPayload> {
+		private final TypeAdapter<RegionalAreaIPv4> regionalAreaIPv4Adapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "V2beta1CreateNetworkAreaRegionPayload");
+			regionalAreaIPv4Adapter = gson.getAdapter(RegionalAreaIPv4.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected V2beta1CreateNetworkAreaRegionPayload newInstance() {
+			return new V2beta1CreateNetworkAreaRegionPayload();
+		}
+
+		@Override
+		protected int readField(
+				JsonReader in, String name, V2beta1CreateNetworkAreaRegionPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_IPV4:
+					instance.ipv4 = readValue(in, regionalAreaIPv4Adapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_STATUS:
+					instance.status = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, V2beta1CreateNetworkAreaRegionPayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_IPV4, value.ipv4, regionalAreaIPv4Adapter);
+			writeField(out, SERIALIZED_NAME_STATUS, value.status, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				V2beta1CreateNetworkAreaRegionPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				V2beta1CreateNetworkAreaRegionPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of V2beta1CreateNetworkAreaRegionPayload given an JSON string
 	 *
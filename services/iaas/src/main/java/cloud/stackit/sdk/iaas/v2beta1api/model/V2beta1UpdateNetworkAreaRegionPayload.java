@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2beta1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2beta1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -194,8 +195,8 @@ public class V2beta1UpdateNetworkAreaRegionPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<V2beta1UpdateNetworkAreaRegionPayload> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(V2beta1UpdateNetworkAreaRegionPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(V2beta1UpdateNetworkAreaRegionPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<V2beta1UpdateNetworkAreaRegionPayload>() {
@@ -277,6 +278,53 @@ public class V2beta1UpdateNetworkAreaRegionPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<V2beta1UpdateNetworkAreaRegionPayload> {
+		private final TypeAdapter<UpdateRegionalAreaIPv4> updateRegionalAreaIPv4Adapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "V2beta1UpdateNetworkAreaRegionPayload");
+			updateRegionalAreaIPv4Adapter = gson.getAdapter(UpdateRegionalAreaIPv4.class);
+		}
+
+		@Override
+		protected V2beta1UpdateNetworkAreaRegionPayload newInstance() {
+			return new V2beta1UpdateNetworkAreaRegionPayload();
+		}
+
+		@Override
+		protected int readField(
+				JsonReader in, String name, V2beta1UpdateNetworkAreaRegionPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_IPV4:
+					instance.ipv4 = readValue(in, updateRegionalAreaIPv4Adapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, V2beta1UpdateNetworkAreaRegionPayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_IPV4, value.ipv4, updateRegionalAreaIPv4Adapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				V2beta1UpdateNetworkAreaRegionPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				V2beta1UpdateNetworkAreaRegionPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of V2beta1UpdateNetworkAreaRegionPayload given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2beta1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2beta1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -228,8 +229,8 @@ public class VolumeAttachmentListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<VolumeAttachmentListResponse> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(VolumeAttachmentListResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(VolumeAttachmentListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<VolumeAttachmentListResponse>() {
@@ -309,6 +310,51 @@ public class VolumeAttachmentListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<VolumeAttachmentListResponse> {
+		private final TypeAdapter<List<VolumeAttachment>> volumeAttachmentListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "VolumeAttachmentListResponse", SERIALIZED_NAME_ITEMS);
+			volumeAttachmentListAdapter = getAdapter(List.class, VolumeAttachment.class);
+		}
+
+		@Override
+		protected VolumeAttachmentListResponse newInstance() {
+			return new VolumeAttachmentListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, VolumeAttachmentListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, volumeAttachmentListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, VolumeAttachmentListResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, volumeAttachmentListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(VolumeAttachmentListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				VolumeAttachmentListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of VolumeAttachmentListResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.iaas.v2beta1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.iaas.v2beta1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -229,8 +230,8 @@ public class VolumePerformanceClassListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<VolumePerformanceClassListResponse> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(VolumePerformanceClassListResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(VolumePerformanceClassListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<VolumePerformanceClassListResponse>() {
@@ -311,6 +312,54 @@ public class VolumePerformanceClassListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<VolumePerformanceClassListResponse> {
+		private final TypeAdapter<List<VolumePerformanceClass>> volumePerformanceClassListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "VolumePerformanceClassListResponse", SERIALIZED_NAME_ITEMS);
+			volumePerformanceClassListAdapter =
+					getAdapter(List.class, VolumePerformanceClass.class);
+		}
+
+		@Override
+		protected VolumePerformanceClassListResponse newInstance() {
+			return new VolumePerformanceClassListResponse();
+		}
+
+		@Override
+		protected int readField(
+				JsonReader in, String name, VolumePerformanceClassListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, volumePerformanceClassListAdapter);
+					return requiredField(0, instance.items);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, VolumePerformanceClassListResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, volumePerformanceClassListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				VolumePerformanceClassListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				VolumePerformanceClassListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of VolumePerformanceClassListResponse given an JSON string
 	 *
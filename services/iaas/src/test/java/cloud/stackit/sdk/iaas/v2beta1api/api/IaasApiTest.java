@@ -13,11 +13,30 @@
 package cloud.stackit.sdk.iaas.v2beta1api.api;
 
 import cloud.stackit.sdk.core.KeyFlowAuthenticator;
+import cloud.stackit.sdk.core.KeyFlowPreemptiveAuthInterceptor;
 import cloud.stackit.sdk.core.auth.SetupAuth;
+import cloud.stackit.sdk.core.cache.ResponseCache;
+import cloud.stackit.sdk.core.cache.ResponseCacheInterceptor;
+import cloud.stackit.sdk.core.coalescing.RequestCoalescer;
+import cloud.stackit.sdk.core.coalescing.RequestCoalescingInterceptor;
+import cloud.stackit.sdk.core.compression.RequestCompression;
+import cloud.stackit.sdk.core.compression.RequestCompressionInterceptor;
 import cloud.stackit.sdk.core.config.CoreConfiguration;
+import cloud.stackit.sdk.core.exception.ApiException;
+import cloud.stackit.sdk.core.metrics.InMemoryMetricsRecorder;
+import cloud.stackit.sdk.core.metrics.MetricsInterceptor;
+import cloud.stackit.sdk.core.ratelimit.RateLimitInterceptor;
+import cloud.stackit.sdk.core.ratelimit.RateLimiter;
+import cloud.stackit.sdk.core.retry.RetryInterceptor;
+import cloud.stackit.sdk.core.retry.RetryPolicy;
 import cloud.stackit.sdk.core.utils.TestUtils;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
 import okhttp3.Authenticator;
+import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -64,4 +83,83 @@ public class IaasApiTest {
 				httpClient.authenticator().getClass(),
 				api.getApiClient().getHttpClient().authenticator().getClass());
 	}
+
+	/** configuration with all features which install an interceptor */
+	private static CoreConfiguration fullConfiguration() {
+		return new CoreConfiguration()
+				.serviceAccountKey(TestUtils.MOCK_SERVICE_ACCOUNT_KEY)
+				.responseCache(new ResponseCache())
+				.metricsRecorder(new InMemoryMetricsRecorder())
+				.requestCoalescer(new RequestCoalescer())
+				.retryPolicy(new RetryPolicy())
+				.rateLimiter(new RateLimiter(100, 10))
+				.requestCompression(new RequestCompression());
+	}
+
+	private static List<Class<?>> interceptorTypes(OkHttpClient httpClient) {
+		List<Class<?>> types = new ArrayList<>();
+		for (Interceptor interceptor : httpClient.interceptors()) {
+			types.add(interceptor.getClass());
+		}
+		return types;
+	}
+
+	@Test
+	public void TestInterceptorOrder() throws IOException {
+		// before
+		CoreConfiguration conf = fullConfiguration();
+
+		// when
+		IaasApi api = new IaasApi(conf);
+
+		// then
+		Assertions.assertEquals(
+				Arrays.asList(
+						ResponseCacheInterceptor.class,
+						MetricsInterceptor.class,
+						KeyFlowPreemptiveAuthInterceptor.class,
+						RequestCoalescingInterceptor.class,
+						RetryInterceptor.class,
+						RateLimitInterceptor.class,
+						RequestCompressionInterceptor.class),
+				interceptorTypes(api.getApiClient().getHttpClient()));
+	}
+
+	@Test
+	public void TestInterceptorOrderWithoutPreemptiveAuthentication() throws IOException {
+		// before
+		CoreConfiguration conf = fullConfiguration().preemptiveAuthentication(false);
+
+		// when
+		IaasApi api = new IaasApi(conf);
+
+		// then
+		Assertions.assertEquals(
+				Arrays.asList(
+						ResponseCacheInterceptor.class,
+						MetricsInterceptor.class,
+						RequestCoalescingInterceptor.class,
+						RetryInterceptor.class,
+						RateLimitInterceptor.class,
+						RequestCompressionInterceptor.class),
+				interceptorTypes(api.getApiClient().getHttpClient()));
+		Assertions.assertEquals(
+				KeyFlowAuthenticator.class,
+				api.getApiClient().getHttpClient().authenticator().getClass());
+	}
+
+	@Test
+	public void TestIteratorMissingRequiredParameter() throws IOException {
+		// when
+		IaasApi api = new IaasApi(new OkHttpClient());
+
+		// then
+		ApiException exception =
+				Assertions.assertThrows(
+						ApiException.class,
+						() -> api.listServersIterator(UUID.randomUUID(), null, null, null));
+		Assertions.assertEquals(
+				"Missing the required parameter 'region' when calling listServers(Async)",
+				exception.getMessage());
+	}
 }
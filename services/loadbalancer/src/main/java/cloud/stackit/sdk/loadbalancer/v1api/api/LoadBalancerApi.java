@@ -12,7 +12,14 @@
 
 package cloud.stackit.sdk.loadbalancer.v1api.api;
 
+import cloud.stackit.sdk.core.catalog.ReferenceCatalog;
 import cloud.stackit.sdk.core.config.CoreConfiguration;
+import cloud.stackit.sdk.core.exception.ApiException;
+import cloud.stackit.sdk.core.http.RawResponse;
+import cloud.stackit.sdk.core.pagination.Paginator;
+import cloud.stackit.sdk.loadbalancer.v1api.model.ListLoadBalancersResponse;
+import cloud.stackit.sdk.loadbalancer.v1api.model.LoadBalancer;
+import cloud.stackit.sdk.loadbalancer.v1api.model.PlanDetails;
 import java.io.IOException;
 import okhttp3.OkHttpClient;
 
@@ -61,4 +68,64 @@ public class LoadBalancerApi extends DefaultApi {
 			throws IOException {
 		super(httpClient, configuration);
 	}
+
+	/**
+	 * Lazily iterates over all load balancers of the project, see {@link #listLoadBalancers}. The
+	 * next page is already requested while the current page is consumed.
+	 *
+	 * @param projectId (required)
+	 * @param pageSize Number of load balancers per page (optional)
+	 * @return Paginator over the load balancers
+	 */
+	public Paginator<LoadBalancer> listLoadBalancersPaginator(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nullable String pageSize) {
+		return Paginator.ofPageId(
+				pageId -> listLoadBalancersFuture(projectId, pageSize, pageId),
+				ListLoadBalancersResponse::getLoadBalancers,
+				ListLoadBalancersResponse::getNextPageId);
+	}
+
+	/**
+	 * Returns a catalog of the plans, see {@link #listPlans}. The catalog loads them on first
+	 * access and refreshes them in the background, so lookups don't need an API call.
+	 *
+	 * @return ReferenceCatalog of the plans
+	 */
+	public ReferenceCatalog<PlanDetails> listPlansCatalog() {
+		return new ReferenceCatalog<>(() -> listPlans().getValidPlans());
+	}
+
+	/**
+	 * Lists the load balancers of a project like {@link #listLoadBalancers}, but returns the
+	 * response without deserializing it, so the body can be forwarded unchanged. Close the response
+	 * unless the body is read with {@link RawResponse#getByteString}.
+	 *
+	 * @param projectId (required)
+	 * @param pageSize Number of load balancers per page (optional)
+	 * @param pageId Identifier of the page, returned by the previous page (optional)
+	 * @return RawResponse with the status, headers and body of the response
+	 * @throws ApiException if the request fails
+	 */
+	public RawResponse listLoadBalancersRaw(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nullable String pageSize,
+			@javax.annotation.Nullable String pageId)
+			throws ApiException {
+		requireParameter(projectId, "projectId", "listLoadBalancers");
+		return getApiClient().executeRaw(listLoadBalancersCall(projectId, pageSize, pageId, null));
+	}
+
+	// the same check as in the generated validation of the operations
+	private static void requireParameter(Object value, String parameter, String operation)
+			throws ApiException {
+		if (value == null) {
+			throw new ApiException(
+					"Missing the required parameter '"
+							+ parameter
+							+ "' when calling "
+							+ operation
+							+ "(Async)");
+		}
+	}
 }
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.loadbalancer.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.loadbalancer.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -259,7 +260,8 @@ public class CreateCredentialsPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateCredentialsPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateCredentialsPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateCredentialsPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateCredentialsPayload>() {
@@ -338,6 +340,59 @@ public class CreateCredentialsPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateCredentialsPayload> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateCredentialsPayload");
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected CreateCredentialsPayload newInstance() {
+			return new CreateCredentialsPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateCredentialsPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DISPLAY_NAME:
+					instance.displayName = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PASSWORD:
+					instance.password = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_USERNAME:
+					instance.username = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateCredentialsPayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_DISPLAY_NAME, value.displayName, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PASSWORD, value.password, stringAdapter);
+			writeField(out, SERIALIZED_NAME_USERNAME, value.username, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateCredentialsPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateCredentialsPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateCredentialsPayload given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.loadbalancer.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.loadbalancer.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -190,7 +191,8 @@ public class CreateCredentialsResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateCredentialsResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateCredentialsResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateCredentialsResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateCredentialsResponse>() {
@@ -269,6 +271,52 @@ public class CreateCredentialsResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateCredentialsResponse> {
+		private final TypeAdapter<CredentialsResponse> credentialsResponseAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateCredentialsResponse");
+			credentialsResponseAdapter = gson.getAdapter(CredentialsResponse.class);
+		}
+
+		@Override
+		protected CreateCredentialsResponse newInstance() {
+			return new CreateCredentialsResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateCredentialsResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CREDENTIAL:
+					instance.credential = readValue(in, credentialsResponseAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateCredentialsResponse value)
+				throws IOException {
+			writeField(
+					out, SERIALIZED_NAME_CREDENTIAL, value.credential, credentialsResponseAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateCredentialsResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateCredentialsResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateCredentialsResponse given an JSON string
 	 *
@@ -12,6 +12,9 @@
 
 package cloud.stackit.sdk.loadbalancer.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
+import cloud.stackit.sdk.core.json.EnumLookup;
+import cloud.stackit.sdk.core.json.EnumValueTypeAdapter;
 import cloud.stackit.sdk.loadbalancer.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -68,13 +71,11 @@ public class GetServiceStatusResponse {
 			return String.valueOf(value);
 		}
 
+		private static final EnumLookup<StatusEnum> LOOKUP =
+				new EnumLookup<>(values(), UNKNOWN_DEFAULT_OPEN_API);
+
 		public static StatusEnum fromValue(String value) {
-			for (StatusEnum b : StatusEnum.values()) {
-				if (b.value.equals(value)) {
-					return b;
-				}
-			}
-			return UNKNOWN_DEFAULT_OPEN_API;
+			return LOOKUP.fromValue(value);
 		}
 
 		public static class Adapter extends TypeAdapter<StatusEnum> {
@@ -261,7 +262,8 @@ public class GetServiceStatusResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GetServiceStatusResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(GetServiceStatusResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(GetServiceStatusResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GetServiceStatusResponse>() {
@@ -340,6 +342,53 @@ public class GetServiceStatusResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<GetServiceStatusResponse> {
+		private final TypeAdapter<StatusEnum> statusEnumAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "GetServiceStatusResponse");
+			statusEnumAdapter =
+					new EnumValueTypeAdapter<>(
+							StatusEnum.values(), StatusEnum.UNKNOWN_DEFAULT_OPEN_API);
+		}
+
+		@Override
+		protected GetServiceStatusResponse newInstance() {
+			return new GetServiceStatusResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, GetServiceStatusResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_STATUS:
+					instance.status = readPrimitive(in, name, statusEnumAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GetServiceStatusResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_STATUS, value.status, statusEnumAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(GetServiceStatusResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GetServiceStatusResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GetServiceStatusResponse given an JSON string
 	 *
@@ -12,6 +12,9 @@
 
 package cloud.stackit.sdk.loadbalancer.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
+import cloud.stackit.sdk.core.json.EnumLookup;
+import cloud.stackit.sdk.core.json.EnumValueTypeAdapter;
 import cloud.stackit.sdk.loadbalancer.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -84,13 +87,11 @@ public class LoadBalancerError {
 			return String.valueOf(value);
 		}
 
+		private static final EnumLookup<TypeEnum> LOOKUP =
+				new EnumLookup<>(values(), UNKNOWN_DEFAULT_OPEN_API);
+
 		public static TypeEnum fromValue(String value) {
-			for (TypeEnum b : TypeEnum.values()) {
-				if (b.value.equals(value)) {
-					return b;
-				}
-			}
-			return UNKNOWN_DEFAULT_OPEN_API;
+			return LOOKUP.fromValue(value);
 		}
 
 		public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -310,7 +311,7 @@ public class LoadBalancerError {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<LoadBalancerError> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(LoadBalancerError.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(LoadBalancerError.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<LoadBalancerError>() {
@@ -389,6 +390,57 @@ public class LoadBalancerError {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<LoadBalancerError> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<TypeEnum> typeEnumAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "LoadBalancerError");
+			stringAdapter = gson.getAdapter(String.class);
+			typeEnumAdapter =
+					new EnumValueTypeAdapter<>(
+							TypeEnum.values(), TypeEnum.UNKNOWN_DEFAULT_OPEN_API);
+		}
+
+		@Override
+		protected LoadBalancerError newInstance() {
+			return new LoadBalancerError();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, LoadBalancerError instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DESCRIPTION:
+					instance.description = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_TYPE:
+					instance.type = readPrimitive(in, name, typeEnumAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, LoadBalancerError value) throws IOException {
+			writeField(out, SERIALIZED_NAME_DESCRIPTION, value.description, stringAdapter);
+			writeField(out, SERIALIZED_NAME_TYPE, value.type, typeEnumAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(LoadBalancerError value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				LoadBalancerError instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of LoadBalancerError given an JSON string
 	 *
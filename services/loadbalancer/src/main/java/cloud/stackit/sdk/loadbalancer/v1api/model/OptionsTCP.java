@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.loadbalancer.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.loadbalancer.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -196,7 +197,7 @@ public class OptionsTCP {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<OptionsTCP> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(OptionsTCP.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(OptionsTCP.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<OptionsTCP>() {
@@ -274,6 +275,48 @@ public class OptionsTCP {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<OptionsTCP> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "OptionsTCP");
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected OptionsTCP newInstance() {
+			return new OptionsTCP();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, OptionsTCP instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_IDLE_TIMEOUT:
+					instance.idleTimeout = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, OptionsTCP value) throws IOException {
+			writeField(out, SERIALIZED_NAME_IDLE_TIMEOUT, value.idleTimeout, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(OptionsTCP value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(OptionsTCP instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of OptionsTCP given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.loadbalancer.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.loadbalancer.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -188,7 +189,7 @@ public class SessionPersistence {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<SessionPersistence> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(SessionPersistence.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(SessionPersistence.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<SessionPersistence>() {
@@ -267,6 +268,53 @@ public class SessionPersistence {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<SessionPersistence> {
+		private final TypeAdapter<Boolean> booleanAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "SessionPersistence");
+			booleanAdapter = gson.getAdapter(Boolean.class);
+		}
+
+		@Override
+		protected SessionPersistence newInstance() {
+			return new SessionPersistence();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, SessionPersistence instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_USE_SOURCE_IP_ADDRESS:
+					instance.useSourceIpAddress = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, SessionPersistence value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_USE_SOURCE_IP_ADDRESS,
+					value.useSourceIpAddress,
+					booleanAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(SessionPersistence value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				SessionPersistence instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of SessionPersistence given an JSON string
 	 *
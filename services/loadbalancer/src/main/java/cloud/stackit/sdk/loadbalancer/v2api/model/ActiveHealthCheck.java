@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.loadbalancer.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.loadbalancer.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -384,7 +385,7 @@ public class ActiveHealthCheck {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ActiveHealthCheck> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ActiveHealthCheck.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ActiveHealthCheck.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ActiveHealthCheck>() {
@@ -463,6 +464,86 @@ public class ActiveHealthCheck {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ActiveHealthCheck> {
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<HttpHealthChecks> httpHealthChecksAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ActiveHealthCheck");
+			integerAdapter = gson.getAdapter(Integer.class);
+			httpHealthChecksAdapter = gson.getAdapter(HttpHealthChecks.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected ActiveHealthCheck newInstance() {
+			return new ActiveHealthCheck();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ActiveHealthCheck instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ALT_PORT:
+					instance.altPort = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_HEALTHY_THRESHOLD:
+					instance.healthyThreshold = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_HTTP_HEALTH_CHECKS:
+					instance.httpHealthChecks = readValue(in, httpHealthChecksAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_INTERVAL:
+					instance.interval = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_INTERVAL_JITTER:
+					instance.intervalJitter = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_TIMEOUT:
+					instance.timeout = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_UNHEALTHY_THRESHOLD:
+					instance.unhealthyThreshold = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ActiveHealthCheck value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ALT_PORT, value.altPort, integerAdapter);
+			writeField(
+					out, SERIALIZED_NAME_HEALTHY_THRESHOLD, value.healthyThreshold, integerAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_HTTP_HEALTH_CHECKS,
+					value.httpHealthChecks,
+					httpHealthChecksAdapter);
+			writeField(out, SERIALIZED_NAME_INTERVAL, value.interval, stringAdapter);
+			writeField(out, SERIALIZED_NAME_INTERVAL_JITTER, value.intervalJitter, stringAdapter);
+			writeField(out, SERIALIZED_NAME_TIMEOUT, value.timeout, stringAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_UNHEALTHY_THRESHOLD,
+					value.unhealthyThreshold,
+					integerAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ActiveHealthCheck value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ActiveHealthCheck instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ActiveHealthCheck given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.loadbalancer.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.loadbalancer.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -334,7 +335,7 @@ public class GetQuotaResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GetQuotaResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(GetQuotaResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(GetQuotaResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GetQuotaResponse>() {
@@ -413,6 +414,82 @@ public class GetQuotaResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<GetQuotaResponse> {
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "GetQuotaResponse");
+			integerAdapter = gson.getAdapter(Integer.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected GetQuotaResponse newInstance() {
+			return new GetQuotaResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, GetQuotaResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_MAX_CREDENTIALS:
+					instance.maxCredentials = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MAX_LOAD_BALANCERS:
+					instance.maxLoadBalancers = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PROJECT_ID:
+					instance.projectId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_REGION:
+					instance.region = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_USED_CREDENTIALS:
+					instance.usedCredentials = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_USED_LOAD_BALANCERS:
+					instance.usedLoadBalancers = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GetQuotaResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_MAX_CREDENTIALS, value.maxCredentials, integerAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_MAX_LOAD_BALANCERS,
+					value.maxLoadBalancers,
+					integerAdapter);
+			writeField(out, SERIALIZED_NAME_PROJECT_ID, value.projectId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_REGION, value.region, stringAdapter);
+			writeField(
+					out, SERIALIZED_NAME_USED_CREDENTIALS, value.usedCredentials, integerAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_USED_LOAD_BALANCERS,
+					value.usedLoadBalancers,
+					integerAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(GetQuotaResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GetQuotaResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GetQuotaResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.loadbalancer.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.loadbalancer.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -195,7 +196,7 @@ public class GoogleProtobufAny {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GoogleProtobufAny> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(GoogleProtobufAny.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(GoogleProtobufAny.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GoogleProtobufAny>() {
@@ -274,6 +275,49 @@ public class GoogleProtobufAny {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<GoogleProtobufAny> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "GoogleProtobufAny");
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected GoogleProtobufAny newInstance() {
+			return new GoogleProtobufAny();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, GoogleProtobufAny instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_AT_TYPE:
+					instance.atType = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GoogleProtobufAny value) throws IOException {
+			writeField(out, SERIALIZED_NAME_AT_TYPE, value.atType, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(GoogleProtobufAny value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GoogleProtobufAny instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GoogleProtobufAny given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.loadbalancer.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.loadbalancer.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -264,7 +265,7 @@ public class HttpHealthChecks {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<HttpHealthChecks> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(HttpHealthChecks.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(HttpHealthChecks.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<HttpHealthChecks>() {
@@ -343,6 +344,61 @@ public class HttpHealthChecks {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<HttpHealthChecks> {
+		private final TypeAdapter<List<String>> stringListAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<TlsConfig> tlsConfigAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "HttpHealthChecks");
+			stringListAdapter = getAdapter(List.class, String.class);
+			stringAdapter = gson.getAdapter(String.class);
+			tlsConfigAdapter = gson.getAdapter(TlsConfig.class);
+		}
+
+		@Override
+		protected HttpHealthChecks newInstance() {
+			return new HttpHealthChecks();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, HttpHealthChecks instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_OK_STATUSES:
+					instance.okStatuses = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PATH:
+					instance.path = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_TLS:
+					instance.tls = readValue(in, tlsConfigAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, HttpHealthChecks value) throws IOException {
+			writeField(out, SERIALIZED_NAME_OK_STATUSES, value.okStatuses, stringListAdapter);
+			writeField(out, SERIALIZED_NAME_PATH, value.path, stringAdapter);
+			writeField(out, SERIALIZED_NAME_TLS, value.tls, tlsConfigAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(HttpHealthChecks value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				HttpHealthChecks instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of HttpHealthChecks given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.loadbalancer.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.loadbalancer.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -215,7 +216,8 @@ public class ListCredentialsResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ListCredentialsResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ListCredentialsResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(ListCredentialsResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ListCredentialsResponse>() {
@@ -294,6 +296,55 @@ public class ListCredentialsResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<ListCredentialsResponse> {
+		private final TypeAdapter<List<CredentialsResponse>> credentialsResponseListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ListCredentialsResponse");
+			credentialsResponseListAdapter = getAdapter(List.class, CredentialsResponse.class);
+		}
+
+		@Override
+		protected ListCredentialsResponse newInstance() {
+			return new ListCredentialsResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ListCredentialsResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CREDENTIALS:
+					instance.credentials = readArray(in, name, credentialsResponseListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ListCredentialsResponse value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_CREDENTIALS,
+					value.credentials,
+					credentialsResponseListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ListCredentialsResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ListCredentialsResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ListCredentialsResponse given an JSON string
 	 *
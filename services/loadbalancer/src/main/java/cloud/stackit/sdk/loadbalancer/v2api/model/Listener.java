@@ -12,6 +12,9 @@
 
 package cloud.stackit.sdk.loadbalancer.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
+import cloud.stackit.sdk.core.json.EnumLookup;
+import cloud.stackit.sdk.core.json.EnumValueTypeAdapter;
 import cloud.stackit.sdk.loadbalancer.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -84,13 +87,11 @@ public class Listener {
 			return String.valueOf(value);
 		}
 
+		private static final EnumLookup<ProtocolEnum> LOOKUP =
+				new EnumLookup<>(values(), UNKNOWN_DEFAULT_OPEN_API);
+
 		public static ProtocolEnum fromValue(String value) {
-			for (ProtocolEnum b : ProtocolEnum.values()) {
-				if (b.value.equals(value)) {
-					return b;
-				}
-			}
-			return UNKNOWN_DEFAULT_OPEN_API;
+			return LOOKUP.fromValue(value);
 		}
 
 		public static class Adapter extends TypeAdapter<ProtocolEnum> {
@@ -523,7 +524,7 @@ public class Listener {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Listener> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Listener.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Listener.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Listener>() {
@@ -601,6 +602,92 @@ public class Listener {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Listener> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<ProtocolEnum> protocolEnumAdapter;
+		private final TypeAdapter<List<ServerNameIndicator>> serverNameIndicatorListAdapter;
+		private final TypeAdapter<OptionsTCP> optionsTCPAdapter;
+		private final TypeAdapter<OptionsUDP> optionsUDPAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "Listener");
+			stringAdapter = gson.getAdapter(String.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+			protocolEnumAdapter =
+					new EnumValueTypeAdapter<>(
+							ProtocolEnum.values(), ProtocolEnum.UNKNOWN_DEFAULT_OPEN_API);
+			serverNameIndicatorListAdapter = getAdapter(List.class, ServerNameIndicator.class);
+			optionsTCPAdapter = gson.getAdapter(OptionsTCP.class);
+			optionsUDPAdapter = gson.getAdapter(OptionsUDP.class);
+		}
+
+		@Override
+		protected Listener newInstance() {
+			return new Listener();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Listener instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DISPLAY_NAME:
+					instance.displayName = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PORT:
+					instance.port = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PROTOCOL:
+					instance.protocol = readPrimitive(in, name, protocolEnumAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SERVER_NAME_INDICATORS:
+					instance.serverNameIndicators =
+							readArray(in, name, serverNameIndicatorListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_TARGET_POOL:
+					instance.targetPool = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_TCP:
+					instance.tcp = readValue(in, optionsTCPAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_UDP:
+					instance.udp = readValue(in, optionsUDPAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Listener value) throws IOException {
+			writeField(out, SERIALIZED_NAME_DISPLAY_NAME, value.displayName, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PORT, value.port, integerAdapter);
+			writeField(out, SERIALIZED_NAME_PROTOCOL, value.protocol, protocolEnumAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_SERVER_NAME_INDICATORS,
+					value.serverNameIndicators,
+					serverNameIndicatorListAdapter);
+			writeField(out, SERIALIZED_NAME_TARGET_POOL, value.targetPool, stringAdapter);
+			writeField(out, SERIALIZED_NAME_TCP, value.tcp, optionsTCPAdapter);
+			writeField(out, SERIALIZED_NAME_UDP, value.udp, optionsUDPAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Listener value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Listener instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Listener given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.loadbalancer.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.loadbalancer.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -223,8 +224,8 @@ public class LoadbalancerOptionObservability {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<LoadbalancerOptionObservability> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(LoadbalancerOptionObservability.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(LoadbalancerOptionObservability.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<LoadbalancerOptionObservability>() {
@@ -305,6 +306,60 @@ public class LoadbalancerOptionObservability {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<LoadbalancerOptionObservability> {
+		private final TypeAdapter<LoadbalancerOptionLogs> loadbalancerOptionLogsAdapter;
+		private final TypeAdapter<LoadbalancerOptionMetrics> loadbalancerOptionMetricsAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "LoadbalancerOptionObservability");
+			loadbalancerOptionLogsAdapter = gson.getAdapter(LoadbalancerOptionLogs.class);
+			loadbalancerOptionMetricsAdapter = gson.getAdapter(LoadbalancerOptionMetrics.class);
+		}
+
+		@Override
+		protected LoadbalancerOptionObservability newInstance() {
+			return new LoadbalancerOptionObservability();
+		}
+
+		@Override
+		protected int readField(
+				JsonReader in, String name, LoadbalancerOptionObservability instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_LOGS:
+					instance.logs = readValue(in, loadbalancerOptionLogsAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_METRICS:
+					instance.metrics = readValue(in, loadbalancerOptionMetricsAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, LoadbalancerOptionObservability value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_LOGS, value.logs, loadbalancerOptionLogsAdapter);
+			writeField(
+					out, SERIALIZED_NAME_METRICS, value.metrics, loadbalancerOptionMetricsAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				LoadbalancerOptionObservability value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				LoadbalancerOptionObservability instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of LoadbalancerOptionObservability given an JSON string
 	 *
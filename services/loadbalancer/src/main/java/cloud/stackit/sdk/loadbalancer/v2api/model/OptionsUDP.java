@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.loadbalancer.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.loadbalancer.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -192,7 +193,7 @@ public class OptionsUDP {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<OptionsUDP> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(OptionsUDP.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(OptionsUDP.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<OptionsUDP>() {
@@ -270,6 +271,48 @@ public class OptionsUDP {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<OptionsUDP> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "OptionsUDP");
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected OptionsUDP newInstance() {
+			return new OptionsUDP();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, OptionsUDP instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_IDLE_TIMEOUT:
+					instance.idleTimeout = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, OptionsUDP value) throws IOException {
+			writeField(out, SERIALIZED_NAME_IDLE_TIMEOUT, value.idleTimeout, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(OptionsUDP value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(OptionsUDP instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of OptionsUDP given an JSON string
 	 *
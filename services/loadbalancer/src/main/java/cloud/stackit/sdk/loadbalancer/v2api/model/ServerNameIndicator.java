@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.loadbalancer.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.loadbalancer.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -192,7 +193,7 @@ public class ServerNameIndicator {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ServerNameIndicator> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ServerNameIndicator.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ServerNameIndicator.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ServerNameIndicator>() {
@@ -271,6 +272,49 @@ public class ServerNameIndicator {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ServerNameIndicator> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ServerNameIndicator");
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected ServerNameIndicator newInstance() {
+			return new ServerNameIndicator();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ServerNameIndicator instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ServerNameIndicator value) throws IOException {
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ServerNameIndicator value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ServerNameIndicator instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ServerNameIndicator given an JSON string
 	 *
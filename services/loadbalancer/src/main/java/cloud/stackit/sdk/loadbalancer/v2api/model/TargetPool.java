@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.loadbalancer.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.loadbalancer.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -352,7 +353,7 @@ public class TargetPool {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<TargetPool> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(TargetPool.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(TargetPool.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<TargetPool>() {
@@ -430,6 +431,80 @@ public class TargetPool {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<TargetPool> {
+		private final TypeAdapter<ActiveHealthCheck> activeHealthCheckAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<SessionPersistence> sessionPersistenceAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<List<Target>> targetListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "TargetPool");
+			activeHealthCheckAdapter = gson.getAdapter(ActiveHealthCheck.class);
+			stringAdapter = gson.getAdapter(String.class);
+			sessionPersistenceAdapter = gson.getAdapter(SessionPersistence.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+			targetListAdapter = getAdapter(List.class, Target.class);
+		}
+
+		@Override
+		protected TargetPool newInstance() {
+			return new TargetPool();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, TargetPool instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ACTIVE_HEALTH_CHECK:
+					instance.activeHealthCheck = readValue(in, activeHealthCheckAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SESSION_PERSISTENCE:
+					instance.sessionPersistence = readValue(in, sessionPersistenceAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_TARGET_PORT:
+					instance.targetPort = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_TARGETS:
+					instance.targets = readArray(in, name, targetListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, TargetPool value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_ACTIVE_HEALTH_CHECK,
+					value.activeHealthCheck,
+					activeHealthCheckAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_SESSION_PERSISTENCE,
+					value.sessionPersistence,
+					sessionPersistenceAdapter);
+			writeField(out, SERIALIZED_NAME_TARGET_PORT, value.targetPort, integerAdapter);
+			writeField(out, SERIALIZED_NAME_TARGETS, value.targets, targetListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(TargetPool value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(TargetPool instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of TargetPool given an JSON string
 	 *
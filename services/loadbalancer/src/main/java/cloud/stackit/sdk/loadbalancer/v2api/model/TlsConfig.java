@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.loadbalancer.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.loadbalancer.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -257,7 +258,7 @@ public class TlsConfig {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<TlsConfig> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(TlsConfig.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(TlsConfig.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<TlsConfig>() {
@@ -335,6 +336,61 @@ public class TlsConfig {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<TlsConfig> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "TlsConfig");
+			stringAdapter = gson.getAdapter(String.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+		}
+
+		@Override
+		protected TlsConfig newInstance() {
+			return new TlsConfig();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, TlsConfig instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CUSTOM_CA:
+					instance.customCa = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ENABLED:
+					instance.enabled = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SKIP_CERTIFICATE_VALIDATION:
+					instance.skipCertificateValidation = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, TlsConfig value) throws IOException {
+			writeField(out, SERIALIZED_NAME_CUSTOM_CA, value.customCa, stringAdapter);
+			writeField(out, SERIALIZED_NAME_ENABLED, value.enabled, booleanAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_SKIP_CERTIFICATE_VALIDATION,
+					value.skipCertificateValidation,
+					booleanAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(TlsConfig value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(TlsConfig instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of TlsConfig given an JSON string
 	 *
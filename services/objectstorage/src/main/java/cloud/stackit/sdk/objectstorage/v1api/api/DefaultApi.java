@@ -43,6 +43,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import okhttp3.OkHttpClient;
 
 // Package-private access to enforce service-specific API usage (DefaultApi => <ServiceName>Api)
@@ -333,6 +334,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create Access Key (asynchronously) Create an access key for the given project.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param createAccessKeyPayload (required)
+	 * @param credentialsGroup (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Validation Error </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<CreateAccessKeyResponse> createAccessKeyFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull CreateAccessKeyPayload createAccessKeyPayload,
+			@javax.annotation.Nullable String credentialsGroup) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createAccessKeyValidateBeforeCall(
+							projectId, createAccessKeyPayload, credentialsGroup, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<CreateAccessKeyResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createBucket
 	 *
@@ -552,6 +589,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create Bucket (asynchronously) Create a bucket for the given project. Bucket with the same
+	 * name cannot already exists in the object storage
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param bucketName The name has to be dns-conform. (required)
+	 * @param objectLockEnabled Enable S3 Object Lock on this bucket. Can only be set at creation
+	 *     time. Requires an active project-level compliance lock. (optional, default to false)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Unprocessable Entity </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<CreateBucketResponse> createBucketFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String bucketName,
+			@javax.annotation.Nullable Boolean objectLockEnabled) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createBucketValidateBeforeCall(projectId, bucketName, objectLockEnabled, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<CreateBucketResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createComplianceLock
 	 *
@@ -718,6 +792,34 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create Compliance Lock (asynchronously) Enable compliance lock for a project.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ComplianceLockResponse> createComplianceLockFuture(
+			@javax.annotation.Nonnull String projectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = createComplianceLockValidateBeforeCall(projectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ComplianceLockResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createCredentialsGroup
 	 *
@@ -919,6 +1021,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create Credentials Group (asynchronously)
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param createCredentialsGroupPayload (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Validation Error </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<CreateCredentialsGroupResponse> createCredentialsGroupFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull CreateCredentialsGroupPayload createCredentialsGroupPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createCredentialsGroupValidateBeforeCall(
+							projectId, createCredentialsGroupPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<CreateCredentialsGroupResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteAccessKey
 	 *
@@ -1135,6 +1272,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Access Key (asynchronously) Delete an access key from the given project.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param keyId Object storage access key (required)
+	 * @param credentialsGroup (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 307 </td><td> Temporary Redirect </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Validation Error </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<DeleteAccessKeyResponse> deleteAccessKeyFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String keyId,
+			@javax.annotation.Nullable String credentialsGroup) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteAccessKeyValidateBeforeCall(projectId, keyId, credentialsGroup, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<DeleteAccessKeyResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteBucket
 	 *
@@ -1326,6 +1499,37 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Bucket (asynchronously) Delete a bucket from the given project.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param bucketName The name has to be dns-conform. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Unprocessable Entity </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<DeleteBucketResponse> deleteBucketFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String bucketName) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteBucketValidateBeforeCall(projectId, bucketName, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<DeleteBucketResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteComplianceLock
 	 *
@@ -1492,6 +1696,34 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Compliance Lock (asynchronously) Remove compliance lock from a project.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ComplianceLockResponse> deleteComplianceLockFuture(
+			@javax.annotation.Nonnull String projectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteComplianceLockValidateBeforeCall(projectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ComplianceLockResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteCredentialsGroup
 	 *
@@ -1687,6 +1919,37 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Credentials Group (asynchronously) Delete a credentials group inside a project if the
+	 * project exists and no valid access keys are left in the group.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param groupId Id of the credentials group (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Validation Error </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<DeleteCredentialsGroupResponse> deleteCredentialsGroupFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String groupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteCredentialsGroupValidateBeforeCall(projectId, groupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<DeleteCredentialsGroupResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteDefaultRetention
 	 *
@@ -1878,6 +2141,37 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Default Retention (asynchronously) Remove the default retention from a bucket. Object
+	 * Lock itself remains enabled.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param bucketName The name has to be dns-conform. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<DeleteDefaultRetentionResponse> deleteDefaultRetentionFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String bucketName) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteDefaultRetentionValidateBeforeCall(projectId, bucketName, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<DeleteDefaultRetentionResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for disableService
 	 *
@@ -2058,6 +2352,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Project (asynchronously) Delete the given project
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Unprocessable Entity </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ProjectStatus> disableServiceFuture(
+			@javax.annotation.Nonnull String projectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = disableServiceValidateBeforeCall(projectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ProjectStatus>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for enableService
 	 *
@@ -2237,6 +2563,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create Project (asynchronously) Create a project. Creation will also be successful if the
+	 * project already exists, but will not create a duplicate
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 201 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Validation Error </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ProjectStatus> enableServiceFuture(
+			@javax.annotation.Nonnull String projectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = enableServiceValidateBeforeCall(projectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ProjectStatus>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getBucket
 	 *
@@ -2430,6 +2788,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Bucket (asynchronously) Get information for the given bucket in the project.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param bucketName The name has to be dns-conform. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Validation Error </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetBucketResponse> getBucketFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String bucketName) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getBucketValidateBeforeCall(projectId, bucketName, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetBucketResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getComplianceLock
 	 *
@@ -2591,6 +2981,33 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Compliance Lock (asynchronously) Get the project-level compliance lock.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ComplianceLockResponse> getComplianceLockFuture(
+			@javax.annotation.Nonnull String projectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getComplianceLockValidateBeforeCall(projectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ComplianceLockResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getCredentialsGroup
 	 *
@@ -2778,6 +3195,35 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Credentials Group (asynchronously) Get the details of a single credentials group
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param groupId Id of the credentials group (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Validation Error </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetCredentialsGroupResponse> getCredentialsGroupFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String groupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getCredentialsGroupValidateBeforeCall(projectId, groupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetCredentialsGroupResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getDefaultRetention
 	 *
@@ -2966,6 +3412,36 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Default Retention (asynchronously) Get the default retention configuration for a bucket.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param bucketName The name has to be dns-conform. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<DefaultRetentionResponse> getDefaultRetentionFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String bucketName) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getDefaultRetentionValidateBeforeCall(projectId, bucketName, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<DefaultRetentionResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getServiceStatus
 	 *
@@ -3138,6 +3614,36 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Project (asynchronously) Get project details.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Validation Error </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ProjectStatus> getServiceStatusFuture(
+			@javax.annotation.Nonnull String projectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getServiceStatusValidateBeforeCall(projectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ProjectStatus>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listAccessKeys
 	 *
@@ -3332,6 +3838,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Access Keys (asynchronously) Get a list of access keys for the given project.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param credentialsGroup (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Validation Error </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListAccessKeysResponse> listAccessKeysFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nullable String credentialsGroup) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listAccessKeysValidateBeforeCall(projectId, credentialsGroup, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListAccessKeysResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listBuckets
 	 *
@@ -3505,6 +4043,36 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Buckets (asynchronously) Get the list of all buckets in the given project
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Validation Error </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListBucketsResponse> listBucketsFuture(
+			@javax.annotation.Nonnull String projectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listBucketsValidateBeforeCall(projectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListBucketsResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listCredentialsGroups
 	 *
@@ -3676,6 +4244,36 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Credentials Groups (asynchronously) Get credentials groups inside a project if the
+	 * project exists
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Validation Error </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListCredentialsGroupsResponse> listCredentialsGroupsFuture(
+			@javax.annotation.Nonnull String projectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listCredentialsGroupsValidateBeforeCall(projectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListCredentialsGroupsResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for setDefaultRetention
 	 *
@@ -3887,4 +4485,39 @@ class DefaultApi {
 		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
 		return localVarCall;
 	}
+
+	/**
+	 * Update Default Retention (asynchronously) Set or update the default retention for a bucket.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param bucketName The name has to be dns-conform. (required)
+	 * @param setDefaultRetentionPayload (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<DefaultRetentionResponse> setDefaultRetentionFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String bucketName,
+			@javax.annotation.Nonnull SetDefaultRetentionPayload setDefaultRetentionPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					setDefaultRetentionValidateBeforeCall(
+							projectId, bucketName, setDefaultRetentionPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<DefaultRetentionResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
 }
@@ -13,6 +13,8 @@
 package cloud.stackit.sdk.objectstorage.v1api.api;
 
 import cloud.stackit.sdk.core.config.CoreConfiguration;
+import cloud.stackit.sdk.core.exception.ApiException;
+import cloud.stackit.sdk.core.http.RawResponse;
 import java.io.IOException;
 import okhttp3.OkHttpClient;
 
@@ -61,4 +63,32 @@ public class ObjectStorageApi extends DefaultApi {
 			throws IOException {
 		super(httpClient, configuration);
 	}
+
+	/**
+	 * Lists the buckets of a project like {@link #listBuckets}, but returns the response without
+	 * deserializing it, so the body can be forwarded unchanged. Close the response unless the body
+	 * is read with {@link RawResponse#getByteString}.
+	 *
+	 * @param projectId (required)
+	 * @return RawResponse with the status, headers and body of the response
+	 * @throws ApiException if the request fails
+	 */
+	public RawResponse listBucketsRaw(@javax.annotation.Nonnull String projectId)
+			throws ApiException {
+		requireParameter(projectId, "projectId", "listBuckets");
+		return getApiClient().executeRaw(listBucketsCall(projectId, null));
+	}
+
+	// the same check as in the generated validation of the operations
+	private static void requireParameter(Object value, String parameter, String operation)
+			throws ApiException {
+		if (value == null) {
+			throw new ApiException(
+					"Missing the required parameter '"
+							+ parameter
+							+ "' when calling "
+							+ operation
+							+ "(Async)");
+		}
+	}
 }
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.objectstorage.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -273,7 +274,7 @@ public class AccessKey {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<AccessKey> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(AccessKey.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(AccessKey.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<AccessKey>() {
@@ -351,6 +352,60 @@ public class AccessKey {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<AccessKey> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"AccessKey",
+					SERIALIZED_NAME_DISPLAY_NAME,
+					SERIALIZED_NAME_EXPIRES,
+					SERIALIZED_NAME_KEY_ID);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected AccessKey newInstance() {
+			return new AccessKey();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, AccessKey instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DISPLAY_NAME:
+					instance.displayName = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.displayName);
+				case SERIALIZED_NAME_EXPIRES:
+					instance.expires = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.expires);
+				case SERIALIZED_NAME_KEY_ID:
+					instance.keyId = readPrimitive(in, name, stringAdapter);
+					return requiredField(2, instance.keyId);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, AccessKey value) throws IOException {
+			writeField(out, SERIALIZED_NAME_DISPLAY_NAME, value.displayName, stringAdapter);
+			writeField(out, SERIALIZED_NAME_EXPIRES, value.expires, stringAdapter);
+			writeField(out, SERIALIZED_NAME_KEY_ID, value.keyId, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(AccessKey value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(AccessKey instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of AccessKey given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.objectstorage.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -233,7 +234,8 @@ public class ComplianceLockResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ComplianceLockResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ComplianceLockResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(ComplianceLockResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ComplianceLockResponse>() {
@@ -312,6 +314,65 @@ public class ComplianceLockResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<ComplianceLockResponse> {
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"ComplianceLockResponse",
+					SERIALIZED_NAME_MAX_RETENTION_DAYS,
+					SERIALIZED_NAME_PROJECT);
+			integerAdapter = gson.getAdapter(Integer.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected ComplianceLockResponse newInstance() {
+			return new ComplianceLockResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ComplianceLockResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_MAX_RETENTION_DAYS:
+					instance.maxRetentionDays = readPrimitive(in, name, integerAdapter);
+					return requiredField(0);
+				case SERIALIZED_NAME_PROJECT:
+					instance.project = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.project);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ComplianceLockResponse value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_MAX_RETENTION_DAYS,
+					value.maxRetentionDays,
+					integerAdapter);
+			writeField(out, SERIALIZED_NAME_PROJECT, value.project, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ComplianceLockResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ComplianceLockResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ComplianceLockResponse given an JSON string
 	 *
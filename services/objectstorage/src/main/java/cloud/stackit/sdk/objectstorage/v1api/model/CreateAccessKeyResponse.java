@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.objectstorage.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -400,7 +401,8 @@ public class CreateAccessKeyResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateAccessKeyResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateAccessKeyResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateAccessKeyResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateAccessKeyResponse>() {
@@ -479,6 +481,80 @@ public class CreateAccessKeyResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateAccessKeyResponse> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"CreateAccessKeyResponse",
+					SERIALIZED_NAME_ACCESS_KEY,
+					SERIALIZED_NAME_DISPLAY_NAME,
+					SERIALIZED_NAME_EXPIRES,
+					SERIALIZED_NAME_KEY_ID,
+					SERIALIZED_NAME_PROJECT,
+					SERIALIZED_NAME_SECRET_ACCESS_KEY);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected CreateAccessKeyResponse newInstance() {
+			return new CreateAccessKeyResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateAccessKeyResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ACCESS_KEY:
+					instance.accessKey = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.accessKey);
+				case SERIALIZED_NAME_DISPLAY_NAME:
+					instance.displayName = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.displayName);
+				case SERIALIZED_NAME_EXPIRES:
+					instance.expires = readPrimitive(in, name, stringAdapter);
+					return requiredField(2, instance.expires);
+				case SERIALIZED_NAME_KEY_ID:
+					instance.keyId = readPrimitive(in, name, stringAdapter);
+					return requiredField(3, instance.keyId);
+				case SERIALIZED_NAME_PROJECT:
+					instance.project = readPrimitive(in, name, stringAdapter);
+					return requiredField(4, instance.project);
+				case SERIALIZED_NAME_SECRET_ACCESS_KEY:
+					instance.secretAccessKey = readPrimitive(in, name, stringAdapter);
+					return requiredField(5, instance.secretAccessKey);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateAccessKeyResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ACCESS_KEY, value.accessKey, stringAdapter);
+			writeField(out, SERIALIZED_NAME_DISPLAY_NAME, value.displayName, stringAdapter);
+			writeField(out, SERIALIZED_NAME_EXPIRES, value.expires, stringAdapter);
+			writeField(out, SERIALIZED_NAME_KEY_ID, value.keyId, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PROJECT, value.project, stringAdapter);
+			writeField(
+					out, SERIALIZED_NAME_SECRET_ACCESS_KEY, value.secretAccessKey, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateAccessKeyResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateAccessKeyResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateAccessKeyResponse given an JSON string
 	 *
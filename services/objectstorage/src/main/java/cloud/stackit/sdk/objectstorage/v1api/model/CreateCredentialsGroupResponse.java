@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.objectstorage.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -240,8 +241,8 @@ public class CreateCredentialsGroupResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateCredentialsGroupResponse> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(CreateCredentialsGroupResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateCredentialsGroupResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateCredentialsGroupResponse>() {
@@ -322,6 +323,66 @@ public class CreateCredentialsGroupResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateCredentialsGroupResponse> {
+		private final TypeAdapter<CredentialsGroup> credentialsGroupAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"CreateCredentialsGroupResponse",
+					SERIALIZED_NAME_CREDENTIALS_GROUP,
+					SERIALIZED_NAME_PROJECT);
+			credentialsGroupAdapter = gson.getAdapter(CredentialsGroup.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected CreateCredentialsGroupResponse newInstance() {
+			return new CreateCredentialsGroupResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateCredentialsGroupResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CREDENTIALS_GROUP:
+					instance.credentialsGroup = readValue(in, credentialsGroupAdapter);
+					return requiredField(0, instance.credentialsGroup);
+				case SERIALIZED_NAME_PROJECT:
+					instance.project = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.project);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateCredentialsGroupResponse value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_CREDENTIALS_GROUP,
+					value.credentialsGroup,
+					credentialsGroupAdapter);
+			writeField(out, SERIALIZED_NAME_PROJECT, value.project, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				CreateCredentialsGroupResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateCredentialsGroupResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateCredentialsGroupResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.objectstorage.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -315,7 +316,8 @@ public class CredentialsGroupExtended {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CredentialsGroupExtended> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CredentialsGroupExtended.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CredentialsGroupExtended.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CredentialsGroupExtended>() {
@@ -394,6 +396,73 @@ public class CredentialsGroupExtended {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CredentialsGroupExtended> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"CredentialsGroupExtended",
+					SERIALIZED_NAME_CREDENTIALS_GROUP_ID,
+					SERIALIZED_NAME_DISPLAY_NAME,
+					SERIALIZED_NAME_URN,
+					SERIALIZED_NAME_USER_URN);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected CredentialsGroupExtended newInstance() {
+			return new CredentialsGroupExtended();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CredentialsGroupExtended instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CREDENTIALS_GROUP_ID:
+					instance.credentialsGroupId = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.credentialsGroupId);
+				case SERIALIZED_NAME_DISPLAY_NAME:
+					instance.displayName = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.displayName);
+				case SERIALIZED_NAME_URN:
+					instance.urn = readPrimitive(in, name, stringAdapter);
+					return requiredField(2, instance.urn);
+				case SERIALIZED_NAME_USER_URN:
+					instance.userUrn = readPrimitive(in, name, stringAdapter);
+					return requiredField(3, instance.userUrn);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CredentialsGroupExtended value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_CREDENTIALS_GROUP_ID,
+					value.credentialsGroupId,
+					stringAdapter);
+			writeField(out, SERIALIZED_NAME_DISPLAY_NAME, value.displayName, stringAdapter);
+			writeField(out, SERIALIZED_NAME_URN, value.urn, stringAdapter);
+			writeField(out, SERIALIZED_NAME_USER_URN, value.userUrn, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CredentialsGroupExtended value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CredentialsGroupExtended instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CredentialsGroupExtended given an JSON string
 	 *
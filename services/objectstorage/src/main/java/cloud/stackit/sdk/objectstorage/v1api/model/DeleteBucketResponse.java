@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.objectstorage.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -239,7 +240,7 @@ public class DeleteBucketResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<DeleteBucketResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(DeleteBucketResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(DeleteBucketResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<DeleteBucketResponse>() {
@@ -318,6 +319,53 @@ public class DeleteBucketResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<DeleteBucketResponse> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "DeleteBucketResponse", SERIALIZED_NAME_BUCKET, SERIALIZED_NAME_PROJECT);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected DeleteBucketResponse newInstance() {
+			return new DeleteBucketResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, DeleteBucketResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_BUCKET:
+					instance.bucket = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.bucket);
+				case SERIALIZED_NAME_PROJECT:
+					instance.project = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.project);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, DeleteBucketResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_BUCKET, value.bucket, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PROJECT, value.project, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(DeleteBucketResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				DeleteBucketResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of DeleteBucketResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.objectstorage.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -247,8 +248,8 @@ public class DeleteCredentialsGroupResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<DeleteCredentialsGroupResponse> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(DeleteCredentialsGroupResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(DeleteCredentialsGroupResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<DeleteCredentialsGroupResponse>() {
@@ -329,6 +330,64 @@ public class DeleteCredentialsGroupResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<DeleteCredentialsGroupResponse> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"DeleteCredentialsGroupResponse",
+					SERIALIZED_NAME_CREDENTIALS_GROUP_ID,
+					SERIALIZED_NAME_PROJECT);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected DeleteCredentialsGroupResponse newInstance() {
+			return new DeleteCredentialsGroupResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, DeleteCredentialsGroupResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CREDENTIALS_GROUP_ID:
+					instance.credentialsGroupId = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.credentialsGroupId);
+				case SERIALIZED_NAME_PROJECT:
+					instance.project = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.project);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, DeleteCredentialsGroupResponse value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_CREDENTIALS_GROUP_ID,
+					value.credentialsGroupId,
+					stringAdapter);
+			writeField(out, SERIALIZED_NAME_PROJECT, value.project, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				DeleteCredentialsGroupResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				DeleteCredentialsGroupResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of DeleteCredentialsGroupResponse given an JSON string
 	 *
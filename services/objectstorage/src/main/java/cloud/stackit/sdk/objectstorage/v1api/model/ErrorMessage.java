@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.objectstorage.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -222,7 +223,7 @@ public class ErrorMessage {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ErrorMessage> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ErrorMessage.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ErrorMessage.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ErrorMessage>() {
@@ -300,6 +301,49 @@ public class ErrorMessage {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ErrorMessage> {
+		private final TypeAdapter<List<DetailedError>> detailedErrorListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ErrorMessage", SERIALIZED_NAME_DETAIL);
+			detailedErrorListAdapter = getAdapter(List.class, DetailedError.class);
+		}
+
+		@Override
+		protected ErrorMessage newInstance() {
+			return new ErrorMessage();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ErrorMessage instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DETAIL:
+					instance.detail = readArray(in, name, detailedErrorListAdapter);
+					return requiredField(0, instance.detail);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ErrorMessage value) throws IOException {
+			writeField(out, SERIALIZED_NAME_DETAIL, value.detail, detailedErrorListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ErrorMessage value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ErrorMessage instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ErrorMessage given an JSON string
 	 *
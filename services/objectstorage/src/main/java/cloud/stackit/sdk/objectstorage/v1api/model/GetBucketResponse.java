@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.objectstorage.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -234,7 +235,7 @@ public class GetBucketResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GetBucketResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(GetBucketResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(GetBucketResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GetBucketResponse>() {
@@ -313,6 +314,55 @@ public class GetBucketResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<GetBucketResponse> {
+		private final TypeAdapter<Bucket> bucketAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "GetBucketResponse", SERIALIZED_NAME_BUCKET, SERIALIZED_NAME_PROJECT);
+			bucketAdapter = gson.getAdapter(Bucket.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected GetBucketResponse newInstance() {
+			return new GetBucketResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, GetBucketResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_BUCKET:
+					instance.bucket = readValue(in, bucketAdapter);
+					return requiredField(0, instance.bucket);
+				case SERIALIZED_NAME_PROJECT:
+					instance.project = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.project);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GetBucketResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_BUCKET, value.bucket, bucketAdapter);
+			writeField(out, SERIALIZED_NAME_PROJECT, value.project, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(GetBucketResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GetBucketResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GetBucketResponse given an JSON string
 	 *
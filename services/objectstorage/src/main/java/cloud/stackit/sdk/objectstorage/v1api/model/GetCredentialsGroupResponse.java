@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.objectstorage.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -239,7 +240,8 @@ public class GetCredentialsGroupResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GetCredentialsGroupResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(GetCredentialsGroupResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(GetCredentialsGroupResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GetCredentialsGroupResponse>() {
@@ -319,6 +321,65 @@ public class GetCredentialsGroupResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<GetCredentialsGroupResponse> {
+		private final TypeAdapter<CredentialsGroupExtended> credentialsGroupExtendedAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"GetCredentialsGroupResponse",
+					SERIALIZED_NAME_CREDENTIALS_GROUP,
+					SERIALIZED_NAME_PROJECT);
+			credentialsGroupExtendedAdapter = gson.getAdapter(CredentialsGroupExtended.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected GetCredentialsGroupResponse newInstance() {
+			return new GetCredentialsGroupResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, GetCredentialsGroupResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CREDENTIALS_GROUP:
+					instance.credentialsGroup = readValue(in, credentialsGroupExtendedAdapter);
+					return requiredField(0, instance.credentialsGroup);
+				case SERIALIZED_NAME_PROJECT:
+					instance.project = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.project);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GetCredentialsGroupResponse value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_CREDENTIALS_GROUP,
+					value.credentialsGroup,
+					credentialsGroupExtendedAdapter);
+			writeField(out, SERIALIZED_NAME_PROJECT, value.project, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(GetCredentialsGroupResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GetCredentialsGroupResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GetCredentialsGroupResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.objectstorage.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -257,7 +258,7 @@ public class ListBucketsResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ListBucketsResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ListBucketsResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ListBucketsResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ListBucketsResponse>() {
@@ -336,6 +337,55 @@ public class ListBucketsResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ListBucketsResponse> {
+		private final TypeAdapter<List<Bucket>> bucketListAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ListBucketsResponse", SERIALIZED_NAME_BUCKETS, SERIALIZED_NAME_PROJECT);
+			bucketListAdapter = getAdapter(List.class, Bucket.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected ListBucketsResponse newInstance() {
+			return new ListBucketsResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ListBucketsResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_BUCKETS:
+					instance.buckets = readArray(in, name, bucketListAdapter);
+					return requiredField(0, instance.buckets);
+				case SERIALIZED_NAME_PROJECT:
+					instance.project = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.project);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ListBucketsResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_BUCKETS, value.buckets, bucketListAdapter);
+			writeField(out, SERIALIZED_NAME_PROJECT, value.project, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ListBucketsResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ListBucketsResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ListBucketsResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.objectstorage.v1api.model;
 
+import cloud.stackit.sdk.core.json.EnumLookup;
 import com.google.gson.JsonElement;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -43,13 +44,11 @@ public enum RetentionMode {
 		return String.valueOf(value);
 	}
 
+	private static final EnumLookup<RetentionMode> LOOKUP =
+			new EnumLookup<>(values(), UNKNOWN_DEFAULT_OPEN_API);
+
 	public static RetentionMode fromValue(String value) {
-		for (RetentionMode b : RetentionMode.values()) {
-			if (b.value.equals(value)) {
-				return b;
-			}
-		}
-		return UNKNOWN_DEFAULT_OPEN_API;
+		return LOOKUP.fromValue(value);
 	}
 
 	public static class Adapter extends TypeAdapter<RetentionMode> {
@@ -43,6 +43,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import okhttp3.OkHttpClient;
 
 // Package-private access to enforce service-specific API usage (DefaultApi => <ServiceName>Api)
@@ -353,6 +354,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create Access Key (asynchronously) Create an access key for the given project.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param region STACKIT Region (required)
+	 * @param createAccessKeyPayload (required)
+	 * @param credentialsGroup (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Validation Error </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<CreateAccessKeyResponse> createAccessKeyFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreateAccessKeyPayload createAccessKeyPayload,
+			@javax.annotation.Nullable String credentialsGroup) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createAccessKeyValidateBeforeCall(
+							projectId, region, createAccessKeyPayload, credentialsGroup, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<CreateAccessKeyResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createBucket
 	 *
@@ -592,6 +631,46 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create Bucket (asynchronously) Create a bucket for the given project. Bucket with the same
+	 * name cannot already exists in the object storage
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param region STACKIT Region (required)
+	 * @param bucketName The name has to be dns-conform. (required)
+	 * @param objectLockEnabled Enable S3 Object Lock on this bucket. Can only be set at creation
+	 *     time. Requires an active project-level compliance lock. (optional, default to false)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Unprocessable Entity </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<CreateBucketResponse> createBucketFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String bucketName,
+			@javax.annotation.Nullable Boolean objectLockEnabled) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createBucketValidateBeforeCall(
+							projectId, region, bucketName, objectLockEnabled, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<CreateBucketResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createComplianceLock
 	 *
@@ -779,6 +858,35 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create Compliance Lock (asynchronously) Enable compliance lock for a project.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param region STACKIT Region (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ComplianceLockResponse> createComplianceLockFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = createComplianceLockValidateBeforeCall(projectId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ComplianceLockResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createCredentialsGroup
 	 *
@@ -1000,6 +1108,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create Credentials Group (asynchronously)
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param region STACKIT Region (required)
+	 * @param createCredentialsGroupPayload (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Validation Error </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<CreateCredentialsGroupResponse> createCredentialsGroupFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreateCredentialsGroupPayload createCredentialsGroupPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createCredentialsGroupValidateBeforeCall(
+							projectId, region, createCredentialsGroupPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<CreateCredentialsGroupResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteAccessKey
 	 *
@@ -1235,6 +1380,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Access Key (asynchronously) Delete an access key from the given project.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param region STACKIT Region (required)
+	 * @param keyId Object storage access key (required)
+	 * @param credentialsGroup (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 307 </td><td> Temporary Redirect </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Validation Error </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<DeleteAccessKeyResponse> deleteAccessKeyFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String keyId,
+			@javax.annotation.Nullable String credentialsGroup) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteAccessKeyValidateBeforeCall(
+							projectId, region, keyId, credentialsGroup, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<DeleteAccessKeyResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteBucket
 	 *
@@ -1447,6 +1631,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Bucket (asynchronously) Delete a bucket from the given project.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param region STACKIT Region (required)
+	 * @param bucketName The name has to be dns-conform. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Unprocessable Entity </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<DeleteBucketResponse> deleteBucketFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String bucketName) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteBucketValidateBeforeCall(projectId, region, bucketName, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<DeleteBucketResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteComplianceLock
 	 *
@@ -1634,6 +1851,35 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Compliance Lock (asynchronously) Remove compliance lock from a project.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param region STACKIT Region (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ComplianceLockResponse> deleteComplianceLockFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteComplianceLockValidateBeforeCall(projectId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ComplianceLockResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteCredentialsGroup
 	 *
@@ -1849,6 +2095,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Credentials Group (asynchronously) Delete a credentials group inside a project if the
+	 * project exists and no valid access keys are left in the group.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param region STACKIT Region (required)
+	 * @param groupId Id of the credentials group (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Validation Error </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<DeleteCredentialsGroupResponse> deleteCredentialsGroupFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String groupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteCredentialsGroupValidateBeforeCall(projectId, region, groupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<DeleteCredentialsGroupResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteDefaultRetention
 	 *
@@ -2060,6 +2341,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Default Retention (asynchronously) Remove the default retention from a bucket. Object
+	 * Lock itself remains enabled.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param region STACKIT Region (required)
+	 * @param bucketName The name has to be dns-conform. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<DeleteDefaultRetentionResponse> deleteDefaultRetentionFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String bucketName) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteDefaultRetentionValidateBeforeCall(projectId, region, bucketName, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<DeleteDefaultRetentionResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for disableService
 	 *
@@ -2261,6 +2576,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Project (asynchronously) Delete the given project
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param region STACKIT Region (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Unprocessable Entity </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ProjectStatus> disableServiceFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = disableServiceValidateBeforeCall(projectId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ProjectStatus>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for enableService
 	 *
@@ -2461,6 +2809,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create Project (asynchronously) Create a project. Creation will also be successful if the
+	 * project already exists, but will not create a duplicate
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param region STACKIT Region (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 201 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Validation Error </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ProjectStatus> enableServiceFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = enableServiceValidateBeforeCall(projectId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ProjectStatus>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getBucket
 	 *
@@ -2677,6 +3058,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Bucket (asynchronously) Get information for the given bucket in the project.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param region STACKIT Region (required)
+	 * @param bucketName The name has to be dns-conform. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Validation Error </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetBucketResponse> getBucketFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String bucketName) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getBucketValidateBeforeCall(projectId, region, bucketName, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetBucketResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getComplianceLock
 	 *
@@ -2860,6 +3275,34 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Compliance Lock (asynchronously) Get the project-level compliance lock.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param region STACKIT Region (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ComplianceLockResponse> getComplianceLockFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getComplianceLockValidateBeforeCall(projectId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ComplianceLockResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getCredentialsGroup
 	 *
@@ -3068,6 +3511,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Credentials Group (asynchronously) Get the details of a single credentials group
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param region STACKIT Region (required)
+	 * @param groupId Id of the credentials group (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Validation Error </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetCredentialsGroupResponse> getCredentialsGroupFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String groupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getCredentialsGroupValidateBeforeCall(projectId, region, groupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetCredentialsGroupResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getDefaultRetention
 	 *
@@ -3276,6 +3751,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Default Retention (asynchronously) Get the default retention configuration for a bucket.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param region STACKIT Region (required)
+	 * @param bucketName The name has to be dns-conform. (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<DefaultRetentionResponse> getDefaultRetentionFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String bucketName) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getDefaultRetentionValidateBeforeCall(projectId, region, bucketName, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<DefaultRetentionResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getServiceStatus
 	 *
@@ -3470,6 +3978,37 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Project (asynchronously) Get project details.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param region STACKIT Region (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Validation Error </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ProjectStatus> getServiceStatusFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getServiceStatusValidateBeforeCall(projectId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ProjectStatus>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listAccessKeys
 	 *
@@ -3682,6 +4221,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Access Keys (asynchronously) Get a list of access keys for the given project.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param region STACKIT Region (required)
+	 * @param credentialsGroup (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Validation Error </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListAccessKeysResponse> listAccessKeysFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable String credentialsGroup) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listAccessKeysValidateBeforeCall(projectId, region, credentialsGroup, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListAccessKeysResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listBuckets
 	 *
@@ -3875,6 +4449,37 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Buckets (asynchronously) Get the list of all buckets in the given project
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param region STACKIT Region (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Validation Error </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListBucketsResponse> listBucketsFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listBucketsValidateBeforeCall(projectId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListBucketsResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listCredentialsGroups
 	 *
@@ -4068,6 +4673,37 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Credentials Groups (asynchronously) Get credentials groups inside a project if the
+	 * project exists
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param region STACKIT Region (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 422 </td><td> Validation Error </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListCredentialsGroupsResponse> listCredentialsGroupsFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listCredentialsGroupsValidateBeforeCall(projectId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListCredentialsGroupsResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for setDefaultRetention
 	 *
@@ -4298,4 +4934,41 @@ class DefaultApi {
 		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
 		return localVarCall;
 	}
+
+	/**
+	 * Update Default Retention (asynchronously) Set or update the default retention for a bucket.
+	 *
+	 * @param projectId STACKIT project ID (required)
+	 * @param region STACKIT Region (required)
+	 * @param bucketName The name has to be dns-conform. (required)
+	 * @param setDefaultRetentionPayload (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Successful Response </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Internal Server Error </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<DefaultRetentionResponse> setDefaultRetentionFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String bucketName,
+			@javax.annotation.Nonnull SetDefaultRetentionPayload setDefaultRetentionPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					setDefaultRetentionValidateBeforeCall(
+							projectId, region, bucketName, setDefaultRetentionPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<DefaultRetentionResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
 }
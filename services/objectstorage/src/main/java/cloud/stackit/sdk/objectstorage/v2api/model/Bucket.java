@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.objectstorage.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -357,7 +358,7 @@ public class Bucket {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Bucket> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Bucket.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Bucket.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Bucket>() {
@@ -435,6 +436,80 @@ public class Bucket {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Bucket> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"Bucket",
+					SERIALIZED_NAME_NAME,
+					SERIALIZED_NAME_OBJECT_LOCK_ENABLED,
+					SERIALIZED_NAME_REGION,
+					SERIALIZED_NAME_URL_PATH_STYLE,
+					SERIALIZED_NAME_URL_VIRTUAL_HOSTED_STYLE);
+			stringAdapter = gson.getAdapter(String.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+		}
+
+		@Override
+		protected Bucket newInstance() {
+			return new Bucket();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Bucket instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.name);
+				case SERIALIZED_NAME_OBJECT_LOCK_ENABLED:
+					instance.objectLockEnabled = readPrimitive(in, name, booleanAdapter);
+					return requiredField(1);
+				case SERIALIZED_NAME_REGION:
+					instance.region = readPrimitive(in, name, stringAdapter);
+					return requiredField(2, instance.region);
+				case SERIALIZED_NAME_URL_PATH_STYLE:
+					instance.urlPathStyle = readPrimitive(in, name, stringAdapter);
+					return requiredField(3, instance.urlPathStyle);
+				case SERIALIZED_NAME_URL_VIRTUAL_HOSTED_STYLE:
+					instance.urlVirtualHostedStyle = readPrimitive(in, name, stringAdapter);
+					return requiredField(4, instance.urlVirtualHostedStyle);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Bucket value) throws IOException {
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_OBJECT_LOCK_ENABLED,
+					value.objectLockEnabled,
+					booleanAdapter);
+			writeField(out, SERIALIZED_NAME_REGION, value.region, stringAdapter);
+			writeField(out, SERIALIZED_NAME_URL_PATH_STYLE, value.urlPathStyle, stringAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_URL_VIRTUAL_HOSTED_STYLE,
+					value.urlVirtualHostedStyle,
+					stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Bucket value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Bucket instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Bucket given an JSON string
 	 *
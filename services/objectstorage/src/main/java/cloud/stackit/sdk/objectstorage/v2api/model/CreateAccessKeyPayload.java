@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.objectstorage.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -185,7 +186,8 @@ public class CreateAccessKeyPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateAccessKeyPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateAccessKeyPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateAccessKeyPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateAccessKeyPayload>() {
@@ -264,6 +266,51 @@ public class CreateAccessKeyPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateAccessKeyPayload> {
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateAccessKeyPayload");
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+		}
+
+		@Override
+		protected CreateAccessKeyPayload newInstance() {
+			return new CreateAccessKeyPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateAccessKeyPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_EXPIRES:
+					instance.expires = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateAccessKeyPayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_EXPIRES, value.expires, offsetDateTimeAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateAccessKeyPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateAccessKeyPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateAccessKeyPayload given an JSON string
 	 *
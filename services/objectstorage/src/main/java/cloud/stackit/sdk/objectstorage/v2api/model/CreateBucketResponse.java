@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.objectstorage.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -239,7 +240,7 @@ public class CreateBucketResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateBucketResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateBucketResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(CreateBucketResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateBucketResponse>() {
@@ -318,6 +319,53 @@ public class CreateBucketResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<CreateBucketResponse> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateBucketResponse", SERIALIZED_NAME_BUCKET, SERIALIZED_NAME_PROJECT);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected CreateBucketResponse newInstance() {
+			return new CreateBucketResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateBucketResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_BUCKET:
+					instance.bucket = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.bucket);
+				case SERIALIZED_NAME_PROJECT:
+					instance.project = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.project);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateBucketResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_BUCKET, value.bucket, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PROJECT, value.project, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateBucketResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateBucketResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateBucketResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.objectstorage.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -277,7 +278,7 @@ public class CredentialsGroup {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CredentialsGroup> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CredentialsGroup.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(CredentialsGroup.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CredentialsGroup>() {
@@ -356,6 +357,66 @@ public class CredentialsGroup {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<CredentialsGroup> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"CredentialsGroup",
+					SERIALIZED_NAME_CREDENTIALS_GROUP_ID,
+					SERIALIZED_NAME_DISPLAY_NAME,
+					SERIALIZED_NAME_URN);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected CredentialsGroup newInstance() {
+			return new CredentialsGroup();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CredentialsGroup instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CREDENTIALS_GROUP_ID:
+					instance.credentialsGroupId = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.credentialsGroupId);
+				case SERIALIZED_NAME_DISPLAY_NAME:
+					instance.displayName = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.displayName);
+				case SERIALIZED_NAME_URN:
+					instance.urn = readPrimitive(in, name, stringAdapter);
+					return requiredField(2, instance.urn);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CredentialsGroup value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_CREDENTIALS_GROUP_ID,
+					value.credentialsGroupId,
+					stringAdapter);
+			writeField(out, SERIALIZED_NAME_DISPLAY_NAME, value.displayName, stringAdapter);
+			writeField(out, SERIALIZED_NAME_URN, value.urn, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CredentialsGroup value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CredentialsGroup instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CredentialsGroup given an JSON string
 	 *
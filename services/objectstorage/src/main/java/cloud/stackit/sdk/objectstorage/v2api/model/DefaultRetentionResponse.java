@@ -12,6 +12,8 @@
 
 package cloud.stackit.sdk.objectstorage.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
+import cloud.stackit.sdk.core.json.EnumValueTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -297,7 +299,8 @@ public class DefaultRetentionResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<DefaultRetentionResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(DefaultRetentionResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(DefaultRetentionResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<DefaultRetentionResponse>() {
@@ -376,6 +379,75 @@ public class DefaultRetentionResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<DefaultRetentionResponse> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<RetentionMode> retentionModeAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"DefaultRetentionResponse",
+					SERIALIZED_NAME_BUCKET,
+					SERIALIZED_NAME_DAYS,
+					SERIALIZED_NAME_MODE,
+					SERIALIZED_NAME_PROJECT);
+			stringAdapter = gson.getAdapter(String.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+			retentionModeAdapter =
+					new EnumValueTypeAdapter<>(
+							RetentionMode.values(), RetentionMode.UNKNOWN_DEFAULT_OPEN_API);
+		}
+
+		@Override
+		protected DefaultRetentionResponse newInstance() {
+			return new DefaultRetentionResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, DefaultRetentionResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_BUCKET:
+					instance.bucket = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.bucket);
+				case SERIALIZED_NAME_DAYS:
+					instance.days = readPrimitive(in, name, integerAdapter);
+					return requiredField(1);
+				case SERIALIZED_NAME_MODE:
+					instance.mode = readPrimitive(in, name, retentionModeAdapter);
+					return requiredField(2, instance.mode);
+				case SERIALIZED_NAME_PROJECT:
+					instance.project = readPrimitive(in, name, stringAdapter);
+					return requiredField(3, instance.project);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, DefaultRetentionResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_BUCKET, value.bucket, stringAdapter);
+			writeField(out, SERIALIZED_NAME_DAYS, value.days, integerAdapter);
+			writeField(out, SERIALIZED_NAME_MODE, value.mode, retentionModeAdapter);
+			writeField(out, SERIALIZED_NAME_PROJECT, value.project, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(DefaultRetentionResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				DefaultRetentionResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of DefaultRetentionResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.objectstorage.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -240,7 +241,8 @@ public class DeleteAccessKeyResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<DeleteAccessKeyResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(DeleteAccessKeyResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(DeleteAccessKeyResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<DeleteAccessKeyResponse>() {
@@ -319,6 +321,55 @@ public class DeleteAccessKeyResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<DeleteAccessKeyResponse> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "DeleteAccessKeyResponse", SERIALIZED_NAME_KEY_ID, SERIALIZED_NAME_PROJECT);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected DeleteAccessKeyResponse newInstance() {
+			return new DeleteAccessKeyResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, DeleteAccessKeyResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_KEY_ID:
+					instance.keyId = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.keyId);
+				case SERIALIZED_NAME_PROJECT:
+					instance.project = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.project);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, DeleteAccessKeyResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_KEY_ID, value.keyId, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PROJECT, value.project, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(DeleteAccessKeyResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				DeleteAccessKeyResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of DeleteAccessKeyResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.objectstorage.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -243,8 +244,8 @@ public class DeleteDefaultRetentionResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<DeleteDefaultRetentionResponse> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(DeleteDefaultRetentionResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(DeleteDefaultRetentionResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<DeleteDefaultRetentionResponse>() {
@@ -325,6 +326,60 @@ public class DeleteDefaultRetentionResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<DeleteDefaultRetentionResponse> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"DeleteDefaultRetentionResponse",
+					SERIALIZED_NAME_BUCKET,
+					SERIALIZED_NAME_PROJECT);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected DeleteDefaultRetentionResponse newInstance() {
+			return new DeleteDefaultRetentionResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, DeleteDefaultRetentionResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_BUCKET:
+					instance.bucket = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.bucket);
+				case SERIALIZED_NAME_PROJECT:
+					instance.project = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.project);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, DeleteDefaultRetentionResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_BUCKET, value.bucket, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PROJECT, value.project, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				DeleteDefaultRetentionResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				DeleteDefaultRetentionResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of DeleteDefaultRetentionResponse given an JSON string
 	 *
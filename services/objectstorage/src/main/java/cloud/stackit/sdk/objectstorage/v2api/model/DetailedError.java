@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.objectstorage.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -238,7 +239,7 @@ public class DetailedError {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<DetailedError> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(DetailedError.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(DetailedError.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<DetailedError>() {
@@ -316,6 +317,53 @@ public class DetailedError {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<DetailedError> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "DetailedError", SERIALIZED_NAME_KEY, SERIALIZED_NAME_MSG);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected DetailedError newInstance() {
+			return new DetailedError();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, DetailedError instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_KEY:
+					instance.key = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.key);
+				case SERIALIZED_NAME_MSG:
+					instance.msg = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.msg);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, DetailedError value) throws IOException {
+			writeField(out, SERIALIZED_NAME_KEY, value.key, stringAdapter);
+			writeField(out, SERIALIZED_NAME_MSG, value.msg, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(DetailedError value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				DetailedError instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of DetailedError given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.objectstorage.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -213,7 +214,7 @@ public class HTTPValidationError {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<HTTPValidationError> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(HTTPValidationError.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(HTTPValidationError.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<HTTPValidationError>() {
@@ -292,6 +293,49 @@ public class HTTPValidationError {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<HTTPValidationError> {
+		private final TypeAdapter<List<ValidationError>> validationErrorListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "HTTPValidationError");
+			validationErrorListAdapter = getAdapter(List.class, ValidationError.class);
+		}
+
+		@Override
+		protected HTTPValidationError newInstance() {
+			return new HTTPValidationError();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, HTTPValidationError instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DETAIL:
+					instance.detail = readArray(in, name, validationErrorListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, HTTPValidationError value) throws IOException {
+			writeField(out, SERIALIZED_NAME_DETAIL, value.detail, validationErrorListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(HTTPValidationError value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				HTTPValidationError instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of HTTPValidationError given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.objectstorage.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -257,7 +258,8 @@ public class ListAccessKeysResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ListAccessKeysResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ListAccessKeysResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(ListAccessKeysResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ListAccessKeysResponse>() {
@@ -336,6 +338,61 @@ public class ListAccessKeysResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<ListAccessKeysResponse> {
+		private final TypeAdapter<List<AccessKey>> accessKeyListAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"ListAccessKeysResponse",
+					SERIALIZED_NAME_ACCESS_KEYS,
+					SERIALIZED_NAME_PROJECT);
+			accessKeyListAdapter = getAdapter(List.class, AccessKey.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected ListAccessKeysResponse newInstance() {
+			return new ListAccessKeysResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ListAccessKeysResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ACCESS_KEYS:
+					instance.accessKeys = readArray(in, name, accessKeyListAdapter);
+					return requiredField(0, instance.accessKeys);
+				case SERIALIZED_NAME_PROJECT:
+					instance.project = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.project);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ListAccessKeysResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ACCESS_KEYS, value.accessKeys, accessKeyListAdapter);
+			writeField(out, SERIALIZED_NAME_PROJECT, value.project, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ListAccessKeysResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ListAccessKeysResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ListAccessKeysResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.objectstorage.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -267,8 +268,8 @@ public class ListCredentialsGroupsResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ListCredentialsGroupsResponse> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(ListCredentialsGroupsResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(ListCredentialsGroupsResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ListCredentialsGroupsResponse>() {
@@ -349,6 +350,65 @@ public class ListCredentialsGroupsResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<ListCredentialsGroupsResponse> {
+		private final TypeAdapter<List<CredentialsGroup>> credentialsGroupListAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"ListCredentialsGroupsResponse",
+					SERIALIZED_NAME_CREDENTIALS_GROUPS,
+					SERIALIZED_NAME_PROJECT);
+			credentialsGroupListAdapter = getAdapter(List.class, CredentialsGroup.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected ListCredentialsGroupsResponse newInstance() {
+			return new ListCredentialsGroupsResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ListCredentialsGroupsResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CREDENTIALS_GROUPS:
+					instance.credentialsGroups = readArray(in, name, credentialsGroupListAdapter);
+					return requiredField(0, instance.credentialsGroups);
+				case SERIALIZED_NAME_PROJECT:
+					instance.project = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.project);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ListCredentialsGroupsResponse value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_CREDENTIALS_GROUPS,
+					value.credentialsGroups,
+					credentialsGroupListAdapter);
+			writeField(out, SERIALIZED_NAME_PROJECT, value.project, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ListCredentialsGroupsResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ListCredentialsGroupsResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ListCredentialsGroupsResponse given an JSON string
 	 *
@@ -41,9 +41,9 @@ public class LocationInner extends AbstractOpenApiSchema {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<String> adapterString =
-					gson.getDelegateAdapter(this, TypeToken.get(String.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(String.class));
 			final TypeAdapter<Integer> adapterInteger =
-					gson.getDelegateAdapter(this, TypeToken.get(Integer.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Integer.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<LocationInner>() {
@@ -12,6 +12,8 @@
 
 package cloud.stackit.sdk.objectstorage.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
+import cloud.stackit.sdk.core.json.EnumValueTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -233,7 +235,7 @@ public class ProjectStatus {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ProjectStatus> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ProjectStatus.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ProjectStatus.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ProjectStatus>() {
@@ -311,6 +313,57 @@ public class ProjectStatus {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ProjectStatus> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<ProjectScope> projectScopeAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ProjectStatus", SERIALIZED_NAME_PROJECT, SERIALIZED_NAME_SCOPE);
+			stringAdapter = gson.getAdapter(String.class);
+			projectScopeAdapter =
+					new EnumValueTypeAdapter<>(
+							ProjectScope.values(), ProjectScope.UNKNOWN_DEFAULT_OPEN_API);
+		}
+
+		@Override
+		protected ProjectStatus newInstance() {
+			return new ProjectStatus();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ProjectStatus instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_PROJECT:
+					instance.project = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.project);
+				case SERIALIZED_NAME_SCOPE:
+					instance.scope = readPrimitive(in, name, projectScopeAdapter);
+					return requiredField(1, instance.scope);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ProjectStatus value) throws IOException {
+			writeField(out, SERIALIZED_NAME_PROJECT, value.project, stringAdapter);
+			writeField(out, SERIALIZED_NAME_SCOPE, value.scope, projectScopeAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ProjectStatus value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ProjectStatus instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ProjectStatus given an JSON string
 	 *
@@ -12,6 +12,8 @@
 
 package cloud.stackit.sdk.objectstorage.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
+import cloud.stackit.sdk.core.json.EnumValueTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -228,7 +230,8 @@ public class SetDefaultRetentionPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<SetDefaultRetentionPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(SetDefaultRetentionPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(SetDefaultRetentionPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<SetDefaultRetentionPayload>() {
@@ -307,6 +310,59 @@ public class SetDefaultRetentionPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<SetDefaultRetentionPayload> {
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<RetentionMode> retentionModeAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "SetDefaultRetentionPayload", SERIALIZED_NAME_DAYS, SERIALIZED_NAME_MODE);
+			integerAdapter = gson.getAdapter(Integer.class);
+			retentionModeAdapter =
+					new EnumValueTypeAdapter<>(
+							RetentionMode.values(), RetentionMode.UNKNOWN_DEFAULT_OPEN_API);
+		}
+
+		@Override
+		protected SetDefaultRetentionPayload newInstance() {
+			return new SetDefaultRetentionPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, SetDefaultRetentionPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DAYS:
+					instance.days = readPrimitive(in, name, integerAdapter);
+					return requiredField(0);
+				case SERIALIZED_NAME_MODE:
+					instance.mode = readPrimitive(in, name, retentionModeAdapter);
+					return requiredField(1, instance.mode);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, SetDefaultRetentionPayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_DAYS, value.days, integerAdapter);
+			writeField(out, SERIALIZED_NAME_MODE, value.mode, retentionModeAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(SetDefaultRetentionPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				SetDefaultRetentionPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of SetDefaultRetentionPayload given an JSON string
 	 *
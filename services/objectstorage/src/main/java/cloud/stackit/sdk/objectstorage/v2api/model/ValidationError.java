@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.objectstorage.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.objectstorage.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -290,7 +291,7 @@ public class ValidationError {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ValidationError> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ValidationError.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ValidationError.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ValidationError>() {
@@ -369,6 +370,64 @@ public class ValidationError {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ValidationError> {
+		private final TypeAdapter<List<LocationInner>> locationInnerListAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"ValidationError",
+					SERIALIZED_NAME_LOC,
+					SERIALIZED_NAME_MSG,
+					SERIALIZED_NAME_TYPE);
+			locationInnerListAdapter = getAdapter(List.class, LocationInner.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected ValidationError newInstance() {
+			return new ValidationError();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ValidationError instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_LOC:
+					instance.loc = readArray(in, name, locationInnerListAdapter);
+					return requiredField(0, instance.loc);
+				case SERIALIZED_NAME_MSG:
+					instance.msg = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.msg);
+				case SERIALIZED_NAME_TYPE:
+					instance.type = readPrimitive(in, name, stringAdapter);
+					return requiredField(2, instance.type);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ValidationError value) throws IOException {
+			writeField(out, SERIALIZED_NAME_LOC, value.loc, locationInnerListAdapter);
+			writeField(out, SERIALIZED_NAME_MSG, value.msg, stringAdapter);
+			writeField(out, SERIALIZED_NAME_TYPE, value.type, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ValidationError value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ValidationError instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ValidationError given an JSON string
 	 *
@@ -40,6 +40,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import okhttp3.OkHttpClient;
 
 // Package-private access to enforce service-specific API usage (DefaultApi => <ServiceName>Api)
@@ -278,6 +279,34 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create Folder (asynchronously) Create a new folder.
+	 *
+	 * @param createFolderPayload (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Created </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<FolderResponse> createFolderFuture(
+			@javax.annotation.Nullable CreateFolderPayload createFolderPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = createFolderValidateBeforeCall(createFolderPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<FolderResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createProject
 	 *
@@ -442,6 +471,36 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create Project (asynchronously) Create a new project. - The request is synchronous, but the
+	 * workflow-based creation is asynchronous. - Lifecycle state remains in CREATING, until
+	 * workflow completes
+	 *
+	 * @param createProjectPayload (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Project created </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Project> createProjectFuture(
+			@javax.annotation.Nullable CreateProjectPayload createProjectPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = createProjectValidateBeforeCall(createProjectPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Project>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteFolder
 	 *
@@ -628,6 +687,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Folder (asynchronously) Delete a folder and its metadata. - Folder must not be parent
+	 * of any other container - A force flag may be set, deleting all underlying folders recursively
+	 * - if no project is attached!
+	 *
+	 * @param containerId Folder identifier - containerId as well as UUID identifier is supported.
+	 *     (required)
+	 * @param force If true, all nested, empty folders are deleted recursively - if no project is
+	 *     attached! (optional, default to false)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Deletion process triggered </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteFolderFuture(
+			@javax.annotation.Nonnull String containerId,
+			@javax.annotation.Nullable Boolean force) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteFolderValidateBeforeCall(containerId, force, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteFolderLabels
 	 *
@@ -807,6 +898,35 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Folder Labels (asynchronously) Deletes all folder labels by given keys. - Specific
+	 * labels may be deleted by key(s) - If no key is specified, all labels will be deleted!
+	 *
+	 * @param containerId Folder identifier - containerId as well as UUID identifier is supported.
+	 *     (required)
+	 * @param keys Label name. (optional)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Labels removed </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteFolderLabelsFuture(
+			@javax.annotation.Nonnull String containerId,
+			@javax.annotation.Nullable List<String> keys) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteFolderLabelsValidateBeforeCall(containerId, keys, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteOrganizationLabels
 	 *
@@ -988,6 +1108,36 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Organization Labels (asynchronously) Deletes all organization labels by given keys. -
+	 * Specific labels may be deleted by key(s) - If no key is specified, all labels will be
+	 * deleted!
+	 *
+	 * @param containerId Organization identifier - containerId as well as UUID identifier is
+	 *     supported. (required)
+	 * @param keys Label name. (optional)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Labels removed </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteOrganizationLabelsFuture(
+			@javax.annotation.Nonnull String containerId,
+			@javax.annotation.Nullable List<String> keys) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteOrganizationLabelsValidateBeforeCall(containerId, keys, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteProject
 	 *
@@ -1145,6 +1295,33 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Project (asynchronously) Triggers the deletion of a project. - The request is
+	 * synchronous, but the workflow-based deletion is asynchronous - Lifecycle state remains in
+	 * DELETING, until workflow completes
+	 *
+	 * @param id Project identifier - containerId as well as UUID identifier is supported.
+	 *     (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Deletion process triggered </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteProjectFuture(@javax.annotation.Nonnull String id) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteProjectValidateBeforeCall(id, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteProjectLabels
 	 *
@@ -1324,6 +1501,35 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Project Labels (asynchronously) Deletes all project labels by given keys. - Specific
+	 * labels may be deleted by key(s) - If no key is specified, all labels will be deleted!
+	 *
+	 * @param containerId Project identifier - containerId as well as UUID identifier is supported.
+	 *     (required)
+	 * @param keys Label name. (optional)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Labels removed </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteProjectLabelsFuture(
+			@javax.annotation.Nonnull String containerId,
+			@javax.annotation.Nullable List<String> keys) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = deleteProjectLabelsValidateBeforeCall(containerId, keys, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for getFolderDetails
 	 *
@@ -1510,6 +1716,36 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Folder Details (asynchronously) Returns all metadata for a specific folder.
+	 *
+	 * @param containerId Folder identifier - containerId as well as UUID identifier is supported.
+	 *     (required)
+	 * @param includeParents (optional, default to false)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetFolderDetailsResponse> getFolderDetailsFuture(
+			@javax.annotation.Nonnull String containerId,
+			@javax.annotation.Nullable Boolean includeParents) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getFolderDetailsValidateBeforeCall(containerId, includeParents, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetFolderDetailsResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getOrganization
 	 *
@@ -1666,6 +1902,33 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Organization Details (asynchronously) Returns the organization and its metadata.
+	 *
+	 * @param id Organization identifier - containerId as well as UUID identifier is supported.
+	 *     (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<OrganizationResponse> getOrganizationFuture(
+			@javax.annotation.Nonnull String id) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getOrganizationValidateBeforeCall(id, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<OrganizationResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getProject
 	 *
@@ -1845,6 +2108,36 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Project Details (asynchronously) Returns the project and its metadata.
+	 *
+	 * @param id Project identifier - containerId as well as UUID identifier is supported.
+	 *     (required)
+	 * @param includeParents (optional, default to false)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetProjectResponse> getProjectFuture(
+			@javax.annotation.Nonnull String id,
+			@javax.annotation.Nullable Boolean includeParents) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getProjectValidateBeforeCall(id, includeParents, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetProjectResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listFolders
 	 *
@@ -2144,6 +2437,64 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get All Folders (asynchronously) Returns all folders and their metadata that: - Are children
+	 * of the specific containerParentId - Match the given containerIds - User is member of &lt;br
+	 * /&gt; Filter: - Either containerParentId OR containerIds OR member must be passed - If
+	 * containerId and containerParentId are given, both are used for filtering - containers must
+	 * point to the same parent - If member and containerParentId are given, both are used for
+	 * filtering - If member is given, containers must not point to the same container parent
+	 *
+	 * @param containerParentId Identifier of the parent resource container - containerId as well as
+	 *     UUID identifier is supported. (optional)
+	 * @param containerIds List of container identifiers - containerId as well as UUID identifier is
+	 *     supported. (optional)
+	 * @param member E-Mail address of the user for whom the visible resource containers should be
+	 *     filtered. (optional)
+	 * @param limit The maximum number of projects to return in the response. If not present, an
+	 *     appropriate default will be used. If maximum is exceeded, maximum is used. (optional,
+	 *     default to 50)
+	 * @param offset The offset of the first item in the collection to return. (optional, default to
+	 *     0)
+	 * @param creationTimeStart A timestamp to specify the beginning of the creationTime from which
+	 *     entries should be returned. If not given, defaults to the beginning of time. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListFoldersResponse> listFoldersFuture(
+			@javax.annotation.Nullable String containerParentId,
+			@javax.annotation.Nullable List<String> containerIds,
+			@javax.annotation.Nullable String member,
+			@javax.annotation.Nullable BigDecimal limit,
+			@javax.annotation.Nullable BigDecimal offset,
+			@javax.annotation.Nullable OffsetDateTime creationTimeStart) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listFoldersValidateBeforeCall(
+							containerParentId,
+							containerIds,
+							member,
+							limit,
+							offset,
+							creationTimeStart,
+							null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListFoldersResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listOrganizations
 	 *
@@ -2397,6 +2748,52 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get All Organizations (asynchronously) Returns all organizations and their metadata. - If no
+	 * containerIds are specified, all organizations are returned, if permitted - ContainerIds may
+	 * be set to filter - Member may be set to filter - If member and containerIds are given, both
+	 * are used for filtering
+	 *
+	 * @param containerIds Organization identifiers - containerId as well as UUID identifier is
+	 *     supported. A combination of both is not allowed. (optional)
+	 * @param member E-Mail address of the user for whom the visible resource containers should be
+	 *     filtered. (optional)
+	 * @param limit The maximum number of projects to return in the response. If not present, an
+	 *     appropriate default will be used. If maximum is exceeded, maximum is used. (optional,
+	 *     default to 50)
+	 * @param offset The offset of the first item in the collection to return. (optional, default to
+	 *     0)
+	 * @param creationTimeStart A timestamp to specify the beginning of the creationTime from which
+	 *     entries should be returned. If not given, defaults to the beginning of time. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListOrganizationsResponse> listOrganizationsFuture(
+			@javax.annotation.Nullable List<String> containerIds,
+			@javax.annotation.Nullable String member,
+			@javax.annotation.Nullable BigDecimal limit,
+			@javax.annotation.Nullable BigDecimal offset,
+			@javax.annotation.Nullable OffsetDateTime creationTimeStart) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listOrganizationsValidateBeforeCall(
+							containerIds, member, limit, offset, creationTimeStart, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListOrganizationsResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listProjects
 	 *
@@ -2692,6 +3089,63 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get All Projects (asynchronously) Returns all projects and their metadata that: - Are
+	 * children of the specific containerParentId - Match the given containerIds - User is member of
+	 * Filter: - Either containerParentId OR containerIds OR member must be passed - If containerId
+	 * and containerParentId are given, both are used for filtering - containers must point to the
+	 * same parent - If member and containerParentId are given, both are used for filtering - If
+	 * member is given, containers must not point to the same container parent
+	 *
+	 * @param containerParentId Identifier of the parent resource container - containerId as well as
+	 *     UUID identifier is supported. (optional)
+	 * @param containerIds List of container identifiers - containerId as well as UUID identifier is
+	 *     supported. (optional)
+	 * @param member E-Mail address of the user for whom the visible resource containers should be
+	 *     filtered. (optional)
+	 * @param offset The offset of the first item in the collection to return. (optional, default to
+	 *     0)
+	 * @param limit The maximum number of projects to return in the response. If not present, an
+	 *     appropriate default will be used. If maximum is exceeded, maximum is used. (optional,
+	 *     default to 50)
+	 * @param creationTimeStart A timestamp to specify the beginning of the creationTime from which
+	 *     entries should be returned. If not given, defaults to the beginning of time. (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListProjectsResponse> listProjectsFuture(
+			@javax.annotation.Nullable String containerParentId,
+			@javax.annotation.Nullable List<String> containerIds,
+			@javax.annotation.Nullable String member,
+			@javax.annotation.Nullable BigDecimal offset,
+			@javax.annotation.Nullable BigDecimal limit,
+			@javax.annotation.Nullable OffsetDateTime creationTimeStart) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listProjectsValidateBeforeCall(
+							containerParentId,
+							containerIds,
+							member,
+							offset,
+							limit,
+							creationTimeStart,
+							null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListProjectsResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for partialUpdateFolder
 	 *
@@ -2882,6 +3336,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update Folder (asynchronously) Update the folder and its metadata. - Update folder name -
+	 * Update folder labels - Update folder parent (folder or organization)
+	 *
+	 * @param containerId Folder identifier - containerId as well as UUID identifier is supported.
+	 *     (required)
+	 * @param partialUpdateFolderPayload (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<FolderResponse> partialUpdateFolderFuture(
+			@javax.annotation.Nonnull String containerId,
+			@javax.annotation.Nullable PartialUpdateFolderPayload partialUpdateFolderPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					partialUpdateFolderValidateBeforeCall(
+							containerId, partialUpdateFolderPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<FolderResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for partialUpdateOrganization
 	 *
@@ -3066,6 +3554,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update Organization (asynchronously) Update the organization and its metadata. - Update
+	 * organization name - Update organization labels
+	 *
+	 * @param id Organization identifier - containerId as well as UUID identifier is supported.
+	 *     (required)
+	 * @param partialUpdateOrganizationPayload (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<OrganizationResponse> partialUpdateOrganizationFuture(
+			@javax.annotation.Nonnull String id,
+			@javax.annotation.Nullable PartialUpdateOrganizationPayload partialUpdateOrganizationPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					partialUpdateOrganizationValidateBeforeCall(
+							id, partialUpdateOrganizationPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<OrganizationResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for partialUpdateProject
 	 *
@@ -3251,4 +3772,37 @@ class DefaultApi {
 		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
 		return localVarCall;
 	}
+
+	/**
+	 * Update Project (asynchronously) Update the project and its metadata. - Update project name -
+	 * Update project labels - Update project parent (folder or organization)
+	 *
+	 * @param id Project identifier - containerId as well as UUID identifier is supported.
+	 *     (required)
+	 * @param partialUpdateProjectPayload (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 403 </td><td> Forbidden </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Not Found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Conflict </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Project> partialUpdateProjectFuture(
+			@javax.annotation.Nonnull String id,
+			@javax.annotation.Nullable PartialUpdateProjectPayload partialUpdateProjectPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					partialUpdateProjectValidateBeforeCall(id, partialUpdateProjectPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Project>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
 }
@@ -13,7 +13,17 @@
 package cloud.stackit.sdk.resourcemanager.v0api.api;
 
 import cloud.stackit.sdk.core.config.CoreConfiguration;
+import cloud.stackit.sdk.core.pagination.Paginator;
+import cloud.stackit.sdk.resourcemanager.v0api.model.ListFoldersResponse;
+import cloud.stackit.sdk.resourcemanager.v0api.model.ListFoldersResponseItemsInner;
+import cloud.stackit.sdk.resourcemanager.v0api.model.ListOrganizationsResponse;
+import cloud.stackit.sdk.resourcemanager.v0api.model.ListOrganizationsResponseItemsInner;
+import cloud.stackit.sdk.resourcemanager.v0api.model.ListProjectsResponse;
+import cloud.stackit.sdk.resourcemanager.v0api.model.Project;
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
 import okhttp3.OkHttpClient;
 
 public class ResourceManagerApi extends DefaultApi {
@@ -61,4 +71,93 @@ public class ResourceManagerApi extends DefaultApi {
 			throws IOException {
 		super(httpClient, configuration);
 	}
+
+	/**
+	 * Lazily iterates over all folders matching the given filters, see {@link #listFolders}. The
+	 * next page is already requested while the current page is consumed.
+	 *
+	 * @param containerParentId Identifier of the parent resource container (optional)
+	 * @param containerIds List of container identifiers (optional)
+	 * @param member E-Mail address of the user for whom the visible resource containers should be
+	 *     filtered (optional)
+	 * @param limit The maximum number of folders per page (optional)
+	 * @param creationTimeStart A timestamp to specify the beginning of the creationTime from which
+	 *     entries should be returned (optional)
+	 * @return Paginator over the folders
+	 */
+	public Paginator<ListFoldersResponseItemsInner> listFoldersPaginator(
+			@javax.annotation.Nullable String containerParentId,
+			@javax.annotation.Nullable List<String> containerIds,
+			@javax.annotation.Nullable String member,
+			@javax.annotation.Nullable BigDecimal limit,
+			@javax.annotation.Nullable OffsetDateTime creationTimeStart) {
+		return Paginator.ofOffset(
+				offset ->
+						listFoldersFuture(
+								containerParentId,
+								containerIds,
+								member,
+								limit,
+								offset,
+								creationTimeStart),
+				ListFoldersResponse::getItems,
+				ListFoldersResponse::getLimit);
+	}
+
+	/**
+	 * Lazily iterates over all organizations matching the given filters, see {@link
+	 * #listOrganizations}. The next page is already requested while the current page is consumed.
+	 *
+	 * @param containerIds List of container identifiers (optional)
+	 * @param member E-Mail address of the user for whom the visible resource containers should be
+	 *     filtered (optional)
+	 * @param limit The maximum number of organizations per page (optional)
+	 * @param creationTimeStart A timestamp to specify the beginning of the creationTime from which
+	 *     entries should be returned (optional)
+	 * @return Paginator over the organizations
+	 */
+	public Paginator<ListOrganizationsResponseItemsInner> listOrganizationsPaginator(
+			@javax.annotation.Nullable List<String> containerIds,
+			@javax.annotation.Nullable String member,
+			@javax.annotation.Nullable BigDecimal limit,
+			@javax.annotation.Nullable OffsetDateTime creationTimeStart) {
+		return Paginator.ofOffset(
+				offset ->
+						listOrganizationsFuture(
+								containerIds, member, limit, offset, creationTimeStart),
+				ListOrganizationsResponse::getItems,
+				ListOrganizationsResponse::getLimit);
+	}
+
+	/**
+	 * Lazily iterates over all projects matching the given filters, see {@link #listProjects}. The
+	 * next page is already requested while the current page is consumed.
+	 *
+	 * @param containerParentId Identifier of the parent resource container (optional)
+	 * @param containerIds List of container identifiers (optional)
+	 * @param member E-Mail address of the user for whom the visible resource containers should be
+	 *     filtered (optional)
+	 * @param limit The maximum number of projects per page (optional)
+	 * @param creationTimeStart A timestamp to specify the beginning of the creationTime from which
+	 *     entries should be returned (optional)
+	 * @return Paginator over the projects
+	 */
+	public Paginator<Project> listProjectsPaginator(
+			@javax.annotation.Nullable String containerParentId,
+			@javax.annotation.Nullable List<String> containerIds,
+			@javax.annotation.Nullable String member,
+			@javax.annotation.Nullable BigDecimal limit,
+			@javax.annotation.Nullable OffsetDateTime creationTimeStart) {
+		return Paginator.ofOffset(
+				offset ->
+						listProjectsFuture(
+								containerParentId,
+								containerIds,
+								member,
+								offset,
+								limit,
+								creationTimeStart),
+				ListProjectsResponse::getItems,
+				ListProjectsResponse::getLimit);
+	}
 }
@@ -12,6 +12,9 @@
 
 package cloud.stackit.sdk.resourcemanager.v0api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
+import cloud.stackit.sdk.core.json.EnumLookup;
+import cloud.stackit.sdk.core.json.EnumValueTypeAdapter;
 import cloud.stackit.sdk.resourcemanager.v0api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -65,13 +68,11 @@ public class ContainerSearchResult {
 			return String.valueOf(value);
 		}
 
+		private static final EnumLookup<ContainerTypeEnum> LOOKUP =
+				new EnumLookup<>(values(), UNKNOWN_DEFAULT_OPEN_API);
+
 		public static ContainerTypeEnum fromValue(String value) {
-			for (ContainerTypeEnum b : ContainerTypeEnum.values()) {
-				if (b.value.equals(value)) {
-					return b;
-				}
-			}
-			return UNKNOWN_DEFAULT_OPEN_API;
+			return LOOKUP.fromValue(value);
 		}
 
 		public static class Adapter extends TypeAdapter<ContainerTypeEnum> {
@@ -444,7 +445,7 @@ public class ContainerSearchResult {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ContainerSearchResult> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ContainerSearchResult.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ContainerSearchResult.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ContainerSearchResult>() {
@@ -523,6 +524,94 @@ public class ContainerSearchResult {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<ContainerSearchResult> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<ContainerTypeEnum> containerTypeEnumAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<LifecycleState> lifecycleStateAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"ContainerSearchResult",
+					SERIALIZED_NAME_CONTAINER_ID,
+					SERIALIZED_NAME_CONTAINER_TYPE,
+					SERIALIZED_NAME_ID,
+					SERIALIZED_NAME_NAME);
+			stringAdapter = gson.getAdapter(String.class);
+			containerTypeEnumAdapter =
+					new EnumValueTypeAdapter<>(
+							ContainerTypeEnum.values(), ContainerTypeEnum.UNKNOWN_DEFAULT_OPEN_API);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			lifecycleStateAdapter =
+					new EnumValueTypeAdapter<>(
+							LifecycleState.values(), LifecycleState.UNKNOWN_DEFAULT_OPEN_API);
+		}
+
+		@Override
+		protected ContainerSearchResult newInstance() {
+			return new ContainerSearchResult();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ContainerSearchResult instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CONTAINER_ID:
+					instance.containerId = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.containerId);
+				case SERIALIZED_NAME_CONTAINER_TYPE:
+					instance.containerType = readPrimitive(in, name, containerTypeEnumAdapter);
+					return requiredField(1, instance.containerType);
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, uuidAdapter);
+					return requiredField(2, instance.id);
+				case SERIALIZED_NAME_LIFECYCLE_STATE:
+					instance.lifecycleState = readPrimitive(in, name, lifecycleStateAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(3, instance.name);
+				case SERIALIZED_NAME_ORGANIZATION_ID:
+					instance.organizationId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ContainerSearchResult value) throws IOException {
+			writeField(out, SERIALIZED_NAME_CONTAINER_ID, value.containerId, stringAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_CONTAINER_TYPE,
+					value.containerType,
+					containerTypeEnumAdapter);
+			writeField(out, SERIALIZED_NAME_ID, value.id, uuidAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_LIFECYCLE_STATE,
+					value.lifecycleState,
+					lifecycleStateAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_ORGANIZATION_ID, value.organizationId, uuidAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ContainerSearchResult value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ContainerSearchResult instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ContainerSearchResult given an JSON string
 	 *
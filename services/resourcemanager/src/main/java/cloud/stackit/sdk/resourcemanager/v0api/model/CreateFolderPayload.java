@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.resourcemanager.v0api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.resourcemanager.v0api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -339,7 +340,7 @@ public class CreateFolderPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateFolderPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateFolderPayload.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(CreateFolderPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateFolderPayload>() {
@@ -418,6 +419,73 @@ public class CreateFolderPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<CreateFolderPayload> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Map<String, String>> stringMapAdapter;
+		private final TypeAdapter<Set<Member>> memberSetAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"CreateFolderPayload",
+					SERIALIZED_NAME_CONTAINER_PARENT_ID,
+					SERIALIZED_NAME_NAME);
+			stringAdapter = gson.getAdapter(String.class);
+			stringMapAdapter = getAdapter(Map.class, String.class, String.class);
+			memberSetAdapter = getAdapter(Set.class, Member.class);
+		}
+
+		@Override
+		protected CreateFolderPayload newInstance() {
+			return new CreateFolderPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateFolderPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CONTAINER_PARENT_ID:
+					instance.containerParentId = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.containerParentId);
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, stringMapAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MEMBERS:
+					instance.members = readArray(in, name, memberSetAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.name);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateFolderPayload value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_CONTAINER_PARENT_ID,
+					value.containerParentId,
+					stringAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, stringMapAdapter);
+			writeField(out, SERIALIZED_NAME_MEMBERS, value.members, memberSetAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateFolderPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateFolderPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateFolderPayload given an JSON string
 	 *
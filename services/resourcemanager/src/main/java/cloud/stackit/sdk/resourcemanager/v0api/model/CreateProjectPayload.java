@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.resourcemanager.v0api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.resourcemanager.v0api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -342,7 +343,7 @@ public class CreateProjectPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateProjectPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateProjectPayload.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(CreateProjectPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateProjectPayload>() {
@@ -421,6 +422,74 @@ public class CreateProjectPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<CreateProjectPayload> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Map<String, String>> stringMapAdapter;
+		private final TypeAdapter<Set<Member>> memberSetAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"CreateProjectPayload",
+					SERIALIZED_NAME_CONTAINER_PARENT_ID,
+					SERIALIZED_NAME_MEMBERS,
+					SERIALIZED_NAME_NAME);
+			stringAdapter = gson.getAdapter(String.class);
+			stringMapAdapter = getAdapter(Map.class, String.class, String.class);
+			memberSetAdapter = getAdapter(Set.class, Member.class);
+		}
+
+		@Override
+		protected CreateProjectPayload newInstance() {
+			return new CreateProjectPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateProjectPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CONTAINER_PARENT_ID:
+					instance.containerParentId = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.containerParentId);
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, stringMapAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MEMBERS:
+					instance.members = readArray(in, name, memberSetAdapter);
+					return requiredField(1, instance.members);
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(2, instance.name);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateProjectPayload value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_CONTAINER_PARENT_ID,
+					value.containerParentId,
+					stringAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, stringMapAdapter);
+			writeField(out, SERIALIZED_NAME_MEMBERS, value.members, memberSetAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateProjectPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateProjectPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateProjectPayload given an JSON string
 	 *
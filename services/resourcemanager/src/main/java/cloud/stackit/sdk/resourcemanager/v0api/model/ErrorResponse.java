@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.resourcemanager.v0api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.resourcemanager.v0api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -332,7 +333,7 @@ public class ErrorResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ErrorResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ErrorResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ErrorResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ErrorResponse>() {
@@ -410,6 +411,76 @@ public class ErrorResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ErrorResponse> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"ErrorResponse",
+					SERIALIZED_NAME_ERROR,
+					SERIALIZED_NAME_MESSAGE,
+					SERIALIZED_NAME_PATH,
+					SERIALIZED_NAME_STATUS,
+					SERIALIZED_NAME_TIME_STAMP);
+			stringAdapter = gson.getAdapter(String.class);
+			bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+		}
+
+		@Override
+		protected ErrorResponse newInstance() {
+			return new ErrorResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ErrorResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ERROR:
+					instance.error = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.error);
+				case SERIALIZED_NAME_MESSAGE:
+					instance.message = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.message);
+				case SERIALIZED_NAME_PATH:
+					instance.path = readPrimitive(in, name, stringAdapter);
+					return requiredField(2, instance.path);
+				case SERIALIZED_NAME_STATUS:
+					instance.status = readPrimitive(in, name, bigDecimalAdapter);
+					return requiredField(3);
+				case SERIALIZED_NAME_TIME_STAMP:
+					instance.timeStamp = readPrimitive(in, name, offsetDateTimeAdapter);
+					return requiredField(4);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ErrorResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ERROR, value.error, stringAdapter);
+			writeField(out, SERIALIZED_NAME_MESSAGE, value.message, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PATH, value.path, stringAdapter);
+			writeField(out, SERIALIZED_NAME_STATUS, value.status, bigDecimalAdapter);
+			writeField(out, SERIALIZED_NAME_TIME_STAMP, value.timeStamp, offsetDateTimeAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ErrorResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ErrorResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ErrorResponse given an JSON string
 	 *
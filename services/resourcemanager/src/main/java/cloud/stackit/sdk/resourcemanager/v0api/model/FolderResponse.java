@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.resourcemanager.v0api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.resourcemanager.v0api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -419,7 +420,7 @@ public class FolderResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<FolderResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(FolderResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(FolderResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<FolderResponse>() {
@@ -497,6 +498,90 @@ public class FolderResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<FolderResponse> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<Map<String, String>> stringMapAdapter;
+		private final TypeAdapter<Parent> parentAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"FolderResponse",
+					SERIALIZED_NAME_CONTAINER_ID,
+					SERIALIZED_NAME_CREATION_TIME,
+					SERIALIZED_NAME_FOLDER_ID,
+					SERIALIZED_NAME_NAME,
+					SERIALIZED_NAME_PARENT,
+					SERIALIZED_NAME_UPDATE_TIME);
+			stringAdapter = gson.getAdapter(String.class);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			stringMapAdapter = getAdapter(Map.class, String.class, String.class);
+			parentAdapter = gson.getAdapter(Parent.class);
+		}
+
+		@Override
+		protected FolderResponse newInstance() {
+			return new FolderResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, FolderResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CONTAINER_ID:
+					instance.containerId = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.containerId);
+				case SERIALIZED_NAME_CREATION_TIME:
+					instance.creationTime = readPrimitive(in, name, offsetDateTimeAdapter);
+					return requiredField(1);
+				case SERIALIZED_NAME_FOLDER_ID:
+					instance.folderId = readPrimitive(in, name, uuidAdapter);
+					return requiredField(2, instance.folderId);
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, stringMapAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(3, instance.name);
+				case SERIALIZED_NAME_PARENT:
+					instance.parent = readValue(in, parentAdapter);
+					return requiredField(4, instance.parent);
+				case SERIALIZED_NAME_UPDATE_TIME:
+					instance.updateTime = readPrimitive(in, name, offsetDateTimeAdapter);
+					return requiredField(5);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, FolderResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_CONTAINER_ID, value.containerId, stringAdapter);
+			writeField(
+					out, SERIALIZED_NAME_CREATION_TIME, value.creationTime, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_FOLDER_ID, value.folderId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, stringMapAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PARENT, value.parent, parentAdapter);
+			writeField(out, SERIALIZED_NAME_UPDATE_TIME, value.updateTime, offsetDateTimeAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(FolderResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				FolderResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of FolderResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.resourcemanager.v0api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.resourcemanager.v0api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -480,7 +481,8 @@ public class GetFolderDetailsResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GetFolderDetailsResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(GetFolderDetailsResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(GetFolderDetailsResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GetFolderDetailsResponse>() {
@@ -559,6 +561,98 @@ public class GetFolderDetailsResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<GetFolderDetailsResponse> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<Map<String, String>> stringMapAdapter;
+		private final TypeAdapter<Parent> parentAdapter;
+		private final TypeAdapter<List<ParentListInner>> parentListInnerListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"GetFolderDetailsResponse",
+					SERIALIZED_NAME_CONTAINER_ID,
+					SERIALIZED_NAME_CREATION_TIME,
+					SERIALIZED_NAME_FOLDER_ID,
+					SERIALIZED_NAME_NAME,
+					SERIALIZED_NAME_PARENT,
+					SERIALIZED_NAME_UPDATE_TIME);
+			stringAdapter = gson.getAdapter(String.class);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			stringMapAdapter = getAdapter(Map.class, String.class, String.class);
+			parentAdapter = gson.getAdapter(Parent.class);
+			parentListInnerListAdapter = getAdapter(List.class, ParentListInner.class);
+		}
+
+		@Override
+		protected GetFolderDetailsResponse newInstance() {
+			return new GetFolderDetailsResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, GetFolderDetailsResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CONTAINER_ID:
+					instance.containerId = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.containerId);
+				case SERIALIZED_NAME_CREATION_TIME:
+					instance.creationTime = readPrimitive(in, name, offsetDateTimeAdapter);
+					return requiredField(1);
+				case SERIALIZED_NAME_FOLDER_ID:
+					instance.folderId = readPrimitive(in, name, uuidAdapter);
+					return requiredField(2, instance.folderId);
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, stringMapAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(3, instance.name);
+				case SERIALIZED_NAME_PARENT:
+					instance.parent = readValue(in, parentAdapter);
+					return requiredField(4, instance.parent);
+				case SERIALIZED_NAME_PARENTS:
+					instance.parents = readArray(in, name, parentListInnerListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_UPDATE_TIME:
+					instance.updateTime = readPrimitive(in, name, offsetDateTimeAdapter);
+					return requiredField(5);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GetFolderDetailsResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_CONTAINER_ID, value.containerId, stringAdapter);
+			writeField(
+					out, SERIALIZED_NAME_CREATION_TIME, value.creationTime, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_FOLDER_ID, value.folderId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, stringMapAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PARENT, value.parent, parentAdapter);
+			writeField(out, SERIALIZED_NAME_PARENTS, value.parents, parentListInnerListAdapter);
+			writeField(out, SERIALIZED_NAME_UPDATE_TIME, value.updateTime, offsetDateTimeAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(GetFolderDetailsResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GetFolderDetailsResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GetFolderDetailsResponse given an JSON string
 	 *
@@ -12,6 +12,8 @@
 
 package cloud.stackit.sdk.resourcemanager.v0api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
+import cloud.stackit.sdk.core.json.EnumValueTypeAdapter;
 import cloud.stackit.sdk.resourcemanager.v0api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -509,7 +511,7 @@ public class GetProjectResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GetProjectResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(GetProjectResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(GetProjectResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GetProjectResponse>() {
@@ -588,6 +590,109 @@ public class GetProjectResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<GetProjectResponse> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+		private final TypeAdapter<Map<String, String>> stringMapAdapter;
+		private final TypeAdapter<LifecycleState> lifecycleStateAdapter;
+		private final TypeAdapter<Parent> parentAdapter;
+		private final TypeAdapter<List<ParentListInner>> parentListInnerListAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"GetProjectResponse",
+					SERIALIZED_NAME_CONTAINER_ID,
+					SERIALIZED_NAME_CREATION_TIME,
+					SERIALIZED_NAME_LIFECYCLE_STATE,
+					SERIALIZED_NAME_NAME,
+					SERIALIZED_NAME_PARENT,
+					SERIALIZED_NAME_PROJECT_ID,
+					SERIALIZED_NAME_UPDATE_TIME);
+			stringAdapter = gson.getAdapter(String.class);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+			stringMapAdapter = getAdapter(Map.class, String.class, String.class);
+			lifecycleStateAdapter =
+					new EnumValueTypeAdapter<>(
+							LifecycleState.values(), LifecycleState.UNKNOWN_DEFAULT_OPEN_API);
+			parentAdapter = gson.getAdapter(Parent.class);
+			parentListInnerListAdapter = getAdapter(List.class, ParentListInner.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+		}
+
+		@Override
+		protected GetProjectResponse newInstance() {
+			return new GetProjectResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, GetProjectResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CONTAINER_ID:
+					instance.containerId = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.containerId);
+				case SERIALIZED_NAME_CREATION_TIME:
+					instance.creationTime = readPrimitive(in, name, offsetDateTimeAdapter);
+					return requiredField(1);
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, stringMapAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LIFECYCLE_STATE:
+					instance.lifecycleState = readPrimitive(in, name, lifecycleStateAdapter);
+					return requiredField(2, instance.lifecycleState);
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(3, instance.name);
+				case SERIALIZED_NAME_PARENT:
+					instance.parent = readValue(in, parentAdapter);
+					return requiredField(4, instance.parent);
+				case SERIALIZED_NAME_PARENTS:
+					instance.parents = readArray(in, name, parentListInnerListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PROJECT_ID:
+					instance.projectId = readPrimitive(in, name, uuidAdapter);
+					return requiredField(5, instance.projectId);
+				case SERIALIZED_NAME_UPDATE_TIME:
+					instance.updateTime = readPrimitive(in, name, offsetDateTimeAdapter);
+					return requiredField(6);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GetProjectResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_CONTAINER_ID, value.containerId, stringAdapter);
+			writeField(
+					out, SERIALIZED_NAME_CREATION_TIME, value.creationTime, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, stringMapAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_LIFECYCLE_STATE,
+					value.lifecycleState,
+					lifecycleStateAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PARENT, value.parent, parentAdapter);
+			writeField(out, SERIALIZED_NAME_PARENTS, value.parents, parentListInnerListAdapter);
+			writeField(out, SERIALIZED_NAME_PROJECT_ID, value.projectId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_UPDATE_TIME, value.updateTime, offsetDateTimeAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(GetProjectResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GetProjectResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GetProjectResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.resourcemanager.v0api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.resourcemanager.v0api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -280,7 +281,7 @@ public class ListFoldersResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ListFoldersResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ListFoldersResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ListFoldersResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ListFoldersResponse>() {
@@ -359,6 +360,70 @@ public class ListFoldersResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ListFoldersResponse> {
+		private final TypeAdapter<List<ListFoldersResponseItemsInner>>
+				listFoldersResponseItemsInnerListAdapter;
+		private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"ListFoldersResponse",
+					SERIALIZED_NAME_ITEMS,
+					SERIALIZED_NAME_LIMIT,
+					SERIALIZED_NAME_OFFSET);
+			listFoldersResponseItemsInnerListAdapter =
+					getAdapter(List.class, ListFoldersResponseItemsInner.class);
+			bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+		}
+
+		@Override
+		protected ListFoldersResponse newInstance() {
+			return new ListFoldersResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ListFoldersResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, listFoldersResponseItemsInnerListAdapter);
+					return requiredField(0, instance.items);
+				case SERIALIZED_NAME_LIMIT:
+					instance.limit = readPrimitive(in, name, bigDecimalAdapter);
+					return requiredField(1);
+				case SERIALIZED_NAME_OFFSET:
+					instance.offset = readPrimitive(in, name, bigDecimalAdapter);
+					return requiredField(2);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ListFoldersResponse value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_ITEMS,
+					value.items,
+					listFoldersResponseItemsInnerListAdapter);
+			writeField(out, SERIALIZED_NAME_LIMIT, value.limit, bigDecimalAdapter);
+			writeField(out, SERIALIZED_NAME_OFFSET, value.offset, bigDecimalAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ListFoldersResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ListFoldersResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ListFoldersResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.resourcemanager.v0api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.resourcemanager.v0api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -282,7 +283,8 @@ public class ListOrganizationsResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ListOrganizationsResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ListOrganizationsResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(ListOrganizationsResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ListOrganizationsResponse>() {
@@ -361,6 +363,73 @@ public class ListOrganizationsResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<ListOrganizationsResponse> {
+		private final TypeAdapter<List<ListOrganizationsResponseItemsInner>>
+				listOrganizationsResponseItemsInnerListAdapter;
+		private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"ListOrganizationsResponse",
+					SERIALIZED_NAME_ITEMS,
+					SERIALIZED_NAME_LIMIT,
+					SERIALIZED_NAME_OFFSET);
+			listOrganizationsResponseItemsInnerListAdapter =
+					getAdapter(List.class, ListOrganizationsResponseItemsInner.class);
+			bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+		}
+
+		@Override
+		protected ListOrganizationsResponse newInstance() {
+			return new ListOrganizationsResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ListOrganizationsResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items =
+							readArray(in, name, listOrganizationsResponseItemsInnerListAdapter);
+					return requiredField(0, instance.items);
+				case SERIALIZED_NAME_LIMIT:
+					instance.limit = readPrimitive(in, name, bigDecimalAdapter);
+					return requiredField(1);
+				case SERIALIZED_NAME_OFFSET:
+					instance.offset = readPrimitive(in, name, bigDecimalAdapter);
+					return requiredField(2);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ListOrganizationsResponse value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_ITEMS,
+					value.items,
+					listOrganizationsResponseItemsInnerListAdapter);
+			writeField(out, SERIALIZED_NAME_LIMIT, value.limit, bigDecimalAdapter);
+			writeField(out, SERIALIZED_NAME_OFFSET, value.offset, bigDecimalAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ListOrganizationsResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ListOrganizationsResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ListOrganizationsResponse given an JSON string
 	 *
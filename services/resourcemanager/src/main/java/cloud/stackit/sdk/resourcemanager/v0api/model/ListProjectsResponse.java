@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.resourcemanager.v0api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.resourcemanager.v0api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -279,7 +280,7 @@ public class ListProjectsResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ListProjectsResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ListProjectsResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ListProjectsResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ListProjectsResponse>() {
@@ -358,6 +359,64 @@ public class ListProjectsResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ListProjectsResponse> {
+		private final TypeAdapter<List<Project>> projectListAdapter;
+		private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"ListProjectsResponse",
+					SERIALIZED_NAME_ITEMS,
+					SERIALIZED_NAME_LIMIT,
+					SERIALIZED_NAME_OFFSET);
+			projectListAdapter = getAdapter(List.class, Project.class);
+			bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+		}
+
+		@Override
+		protected ListProjectsResponse newInstance() {
+			return new ListProjectsResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ListProjectsResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, projectListAdapter);
+					return requiredField(0, instance.items);
+				case SERIALIZED_NAME_LIMIT:
+					instance.limit = readPrimitive(in, name, bigDecimalAdapter);
+					return requiredField(1);
+				case SERIALIZED_NAME_OFFSET:
+					instance.offset = readPrimitive(in, name, bigDecimalAdapter);
+					return requiredField(2);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ListProjectsResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, projectListAdapter);
+			writeField(out, SERIALIZED_NAME_LIMIT, value.limit, bigDecimalAdapter);
+			writeField(out, SERIALIZED_NAME_OFFSET, value.offset, bigDecimalAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ListProjectsResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ListProjectsResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ListProjectsResponse given an JSON string
 	 *
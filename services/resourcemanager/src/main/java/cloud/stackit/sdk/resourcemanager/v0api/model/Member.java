@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.resourcemanager.v0api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.resourcemanager.v0api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -238,7 +239,7 @@ public class Member {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Member> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Member.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Member.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Member>() {
@@ -316,6 +317,51 @@ public class Member {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Member> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "Member", SERIALIZED_NAME_ROLE, SERIALIZED_NAME_SUBJECT);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected Member newInstance() {
+			return new Member();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Member instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ROLE:
+					instance.role = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.role);
+				case SERIALIZED_NAME_SUBJECT:
+					instance.subject = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.subject);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Member value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ROLE, value.role, stringAdapter);
+			writeField(out, SERIALIZED_NAME_SUBJECT, value.subject, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Member value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Member instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Member given an JSON string
 	 *
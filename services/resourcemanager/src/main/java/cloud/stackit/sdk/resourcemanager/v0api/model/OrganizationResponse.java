@@ -12,6 +12,8 @@
 
 package cloud.stackit.sdk.resourcemanager.v0api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
+import cloud.stackit.sdk.core.json.EnumValueTypeAdapter;
 import cloud.stackit.sdk.resourcemanager.v0api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -422,7 +424,7 @@ public class OrganizationResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<OrganizationResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(OrganizationResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(OrganizationResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<OrganizationResponse>() {
@@ -501,6 +503,96 @@ public class OrganizationResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<OrganizationResponse> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+		private final TypeAdapter<Map<String, String>> stringMapAdapter;
+		private final TypeAdapter<LifecycleState> lifecycleStateAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"OrganizationResponse",
+					SERIALIZED_NAME_CONTAINER_ID,
+					SERIALIZED_NAME_CREATION_TIME,
+					SERIALIZED_NAME_LIFECYCLE_STATE,
+					SERIALIZED_NAME_NAME,
+					SERIALIZED_NAME_ORGANIZATION_ID,
+					SERIALIZED_NAME_UPDATE_TIME);
+			stringAdapter = gson.getAdapter(String.class);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+			stringMapAdapter = getAdapter(Map.class, String.class, String.class);
+			lifecycleStateAdapter =
+					new EnumValueTypeAdapter<>(
+							LifecycleState.values(), LifecycleState.UNKNOWN_DEFAULT_OPEN_API);
+			uuidAdapter = gson.getAdapter(UUID.class);
+		}
+
+		@Override
+		protected OrganizationResponse newInstance() {
+			return new OrganizationResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, OrganizationResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CONTAINER_ID:
+					instance.containerId = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.containerId);
+				case SERIALIZED_NAME_CREATION_TIME:
+					instance.creationTime = readPrimitive(in, name, offsetDateTimeAdapter);
+					return requiredField(1);
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, stringMapAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LIFECYCLE_STATE:
+					instance.lifecycleState = readPrimitive(in, name, lifecycleStateAdapter);
+					return requiredField(2, instance.lifecycleState);
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(3, instance.name);
+				case SERIALIZED_NAME_ORGANIZATION_ID:
+					instance.organizationId = readPrimitive(in, name, uuidAdapter);
+					return requiredField(4, instance.organizationId);
+				case SERIALIZED_NAME_UPDATE_TIME:
+					instance.updateTime = readPrimitive(in, name, offsetDateTimeAdapter);
+					return requiredField(5);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, OrganizationResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_CONTAINER_ID, value.containerId, stringAdapter);
+			writeField(
+					out, SERIALIZED_NAME_CREATION_TIME, value.creationTime, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, stringMapAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_LIFECYCLE_STATE,
+					value.lifecycleState,
+					lifecycleStateAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_ORGANIZATION_ID, value.organizationId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_UPDATE_TIME, value.updateTime, offsetDateTimeAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(OrganizationResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				OrganizationResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of OrganizationResponse given an JSON string
 	 *
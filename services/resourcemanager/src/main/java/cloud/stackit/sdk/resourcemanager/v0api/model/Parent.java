@@ -12,6 +12,9 @@
 
 package cloud.stackit.sdk.resourcemanager.v0api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
+import cloud.stackit.sdk.core.json.EnumLookup;
+import cloud.stackit.sdk.core.json.EnumValueTypeAdapter;
 import cloud.stackit.sdk.resourcemanager.v0api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -71,13 +74,11 @@ public class Parent {
 			return String.valueOf(value);
 		}
 
+		private static final EnumLookup<TypeEnum> LOOKUP =
+				new EnumLookup<>(values(), UNKNOWN_DEFAULT_OPEN_API);
+
 		public static TypeEnum fromValue(String value) {
-			for (TypeEnum b : TypeEnum.values()) {
-				if (b.value.equals(value)) {
-					return b;
-				}
-			}
-			return UNKNOWN_DEFAULT_OPEN_API;
+			return LOOKUP.fromValue(value);
 		}
 
 		public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -329,7 +330,7 @@ public class Parent {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Parent> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Parent.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Parent.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Parent>() {
@@ -407,6 +408,66 @@ public class Parent {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Parent> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<TypeEnum> typeEnumAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"Parent",
+					SERIALIZED_NAME_CONTAINER_ID,
+					SERIALIZED_NAME_ID,
+					SERIALIZED_NAME_TYPE);
+			stringAdapter = gson.getAdapter(String.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			typeEnumAdapter =
+					new EnumValueTypeAdapter<>(
+							TypeEnum.values(), TypeEnum.UNKNOWN_DEFAULT_OPEN_API);
+		}
+
+		@Override
+		protected Parent newInstance() {
+			return new Parent();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Parent instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CONTAINER_ID:
+					instance.containerId = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.containerId);
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, uuidAdapter);
+					return requiredField(1, instance.id);
+				case SERIALIZED_NAME_TYPE:
+					instance.type = readPrimitive(in, name, typeEnumAdapter);
+					return requiredField(2, instance.type);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Parent value) throws IOException {
+			writeField(out, SERIALIZED_NAME_CONTAINER_ID, value.containerId, stringAdapter);
+			writeField(out, SERIALIZED_NAME_ID, value.id, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_TYPE, value.type, typeEnumAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Parent value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Parent instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Parent given an JSON string
 	 *
@@ -12,6 +12,9 @@
 
 package cloud.stackit.sdk.resourcemanager.v0api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
+import cloud.stackit.sdk.core.json.EnumLookup;
+import cloud.stackit.sdk.core.json.EnumValueTypeAdapter;
 import cloud.stackit.sdk.resourcemanager.v0api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -87,13 +90,11 @@ public class ParentListInner {
 			return String.valueOf(value);
 		}
 
+		private static final EnumLookup<TypeEnum> LOOKUP =
+				new EnumLookup<>(values(), UNKNOWN_DEFAULT_OPEN_API);
+
 		public static TypeEnum fromValue(String value) {
-			for (TypeEnum b : TypeEnum.values()) {
-				if (b.value.equals(value)) {
-					return b;
-				}
-			}
-			return UNKNOWN_DEFAULT_OPEN_API;
+			return LOOKUP.fromValue(value);
 		}
 
 		public static class Adapter extends TypeAdapter<TypeEnum> {
@@ -442,7 +443,7 @@ public class ParentListInner {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ParentListInner> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ParentListInner.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ParentListInner.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ParentListInner>() {
@@ -521,6 +522,85 @@ public class ParentListInner {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ParentListInner> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<UUID> uuidAdapter;
+		private final TypeAdapter<TypeEnum> typeEnumAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"ParentListInner",
+					SERIALIZED_NAME_CONTAINER_ID,
+					SERIALIZED_NAME_ID,
+					SERIALIZED_NAME_NAME,
+					SERIALIZED_NAME_TYPE);
+			stringAdapter = gson.getAdapter(String.class);
+			uuidAdapter = gson.getAdapter(UUID.class);
+			typeEnumAdapter =
+					new EnumValueTypeAdapter<>(
+							TypeEnum.values(), TypeEnum.UNKNOWN_DEFAULT_OPEN_API);
+		}
+
+		@Override
+		protected ParentListInner newInstance() {
+			return new ParentListInner();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ParentListInner instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CONTAINER_ID:
+					instance.containerId = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.containerId);
+				case SERIALIZED_NAME_CONTAINER_PARENT_ID:
+					instance.containerParentId = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, uuidAdapter);
+					return requiredField(1, instance.id);
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(2, instance.name);
+				case SERIALIZED_NAME_PARENT_ID:
+					instance.parentId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_TYPE:
+					instance.type = readPrimitive(in, name, typeEnumAdapter);
+					return requiredField(3, instance.type);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ParentListInner value) throws IOException {
+			writeField(out, SERIALIZED_NAME_CONTAINER_ID, value.containerId, stringAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_CONTAINER_PARENT_ID,
+					value.containerParentId,
+					stringAdapter);
+			writeField(out, SERIALIZED_NAME_ID, value.id, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PARENT_ID, value.parentId, uuidAdapter);
+			writeField(out, SERIALIZED_NAME_TYPE, value.type, typeEnumAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ParentListInner value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ParentListInner instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ParentListInner given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.resourcemanager.v0api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.resourcemanager.v0api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -236,8 +237,8 @@ public class PartialUpdateOrganizationPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<PartialUpdateOrganizationPayload> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(PartialUpdateOrganizationPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(PartialUpdateOrganizationPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<PartialUpdateOrganizationPayload>() {
@@ -318,6 +319,59 @@ public class PartialUpdateOrganizationPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<PartialUpdateOrganizationPayload> {
+		private final TypeAdapter<Map<String, String>> stringMapAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "PartialUpdateOrganizationPayload");
+			stringMapAdapter = getAdapter(Map.class, String.class, String.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected PartialUpdateOrganizationPayload newInstance() {
+			return new PartialUpdateOrganizationPayload();
+		}
+
+		@Override
+		protected int readField(
+				JsonReader in, String name, PartialUpdateOrganizationPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, stringMapAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, PartialUpdateOrganizationPayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, stringMapAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				PartialUpdateOrganizationPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				PartialUpdateOrganizationPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of PartialUpdateOrganizationPayload given an JSON string
 	 *
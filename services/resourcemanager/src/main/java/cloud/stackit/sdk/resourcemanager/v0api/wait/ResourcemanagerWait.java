@@ -3,13 +3,23 @@ package cloud.stackit.sdk.resourcemanager.v0api.wait;
 import cloud.stackit.sdk.core.exception.ApiException;
 import cloud.stackit.sdk.core.wait.AsyncActionHandler;
 import cloud.stackit.sdk.core.wait.AsyncActionHandler.AsyncActionResult;
+import cloud.stackit.sdk.core.wait.BatchingPoller;
 import cloud.stackit.sdk.core.wait.CheckFunction;
 import cloud.stackit.sdk.resourcemanager.v0api.api.ResourceManagerApi;
 import cloud.stackit.sdk.resourcemanager.v0api.model.GetProjectResponse;
 import cloud.stackit.sdk.resourcemanager.v0api.model.LifecycleState;
+import cloud.stackit.sdk.resourcemanager.v0api.model.ListProjectsResponse;
+import cloud.stackit.sdk.resourcemanager.v0api.model.Project;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 public final class ResourcemanagerWait {
+	// Number of projects which are requested with one listProjects call by the project poller
+	private static final int PROJECT_POLLER_BATCH_SIZE = 50;
 
 	/** Prevent instantiation */
 	private ResourcemanagerWait() {}
@@ -154,4 +164,108 @@ public final class ResourcemanagerWait {
 		handler.setTimeout(timeout, TimeUnit.MINUTES);
 		return handler;
 	}
+
+	/**
+	 * projectPoller creates a poller, which checks the state of all projects waited for with one
+	 * listProjects call per interval, instead of one getProject call per project like the wait
+	 * handlers. Use it when waiting for many projects at the same time. Uses the default values for
+	 * sleepBeforeWait (1 min) and timeout (45 min).
+	 *
+	 * @param apiClient
+	 * @return
+	 */
+	public static BatchingPoller<String, Project> projectPoller(ResourceManagerApi apiClient) {
+		BatchingPoller<String, Project> poller =
+				new BatchingPoller<>(
+						containerIds -> {
+							ListProjectsResponse response =
+									apiClient.listProjects(
+											null,
+											new ArrayList<>(containerIds),
+											null,
+											null,
+											BigDecimal.valueOf(containerIds.size()),
+											null);
+							Map<String, Project> projects = new HashMap<>();
+							for (Project project : response.getItems()) {
+								// projects can be requested by containerId or UUID
+								projects.put(project.getContainerId(), project);
+								if (project.getProjectId() != null) {
+									projects.put(project.getProjectId().toString(), project);
+								}
+							}
+							return projects;
+						});
+		poller.setMaxBatchSize(PROJECT_POLLER_BATCH_SIZE);
+		poller.setSleepBeforeWait(1, TimeUnit.MINUTES);
+		poller.setTimeout(45, TimeUnit.MINUTES);
+		return poller;
+	}
+
+	/**
+	 * createProjectWait will wait for project creation, using the given project poller.
+	 *
+	 * @param poller created by {@link #projectPoller(ResourceManagerApi)}
+	 * @param containerId
+	 * @return
+	 */
+	public static CompletableFuture<Project> createProjectWait(
+			BatchingPoller<String, Project> poller, String containerId) {
+		return poller.waitFor(containerId, ResourcemanagerWait::checkProjectActive);
+	}
+
+	/**
+	 * updateProjectWait will wait until the project was updated, using the given project poller.
+	 *
+	 * @param poller created by {@link #projectPoller(ResourceManagerApi)}
+	 * @param containerId
+	 * @return
+	 */
+	public static CompletableFuture<Project> updateProjectWait(
+			BatchingPoller<String, Project> poller, String containerId) {
+		return poller.waitFor(containerId, ResourcemanagerWait::checkProjectActive);
+	}
+
+	/**
+	 * deleteProjectWait will wait for project deletion, using the given project poller. Uses the
+	 * default value for timeout (15 min).
+	 *
+	 * @param poller created by {@link #projectPoller(ResourceManagerApi)}
+	 * @param containerId
+	 * @return
+	 */
+	public static CompletableFuture<Void> deleteProjectWait(
+			BatchingPoller<String, Project> poller, String containerId) {
+		return poller.waitFor(
+				containerId,
+				project ->
+						new AsyncActionResult<>(
+								project == null
+										|| project.getLifecycleState() == LifecycleState.DELETING,
+								null),
+				0,
+				15,
+				TimeUnit.MINUTES);
+	}
+
+	/**
+	 * Private helper function for the create and update wait of the project poller.
+	 *
+	 * @param project
+	 * @return
+	 */
+	private static AsyncActionResult<Project> checkProjectActive(Project project) {
+		// A new project may not be listed yet
+		if (project == null || project.getLifecycleState() == LifecycleState.CREATING) {
+			return new AsyncActionResult<>(false, null);
+		}
+		if (project.getLifecycleState() == LifecycleState.ACTIVE) {
+			return new AsyncActionResult<>(true, project);
+		}
+		// An invalid state was received which should not be possible.
+		throw new IllegalStateException(
+				"Creation failed: received project state '"
+						+ project.getLifecycleState().getValue()
+						+ "'");
+	}
 }
@@ -5,10 +5,16 @@ import static org.mockito.Mockito.*;
 
 import cloud.stackit.sdk.core.exception.ApiException;
 import cloud.stackit.sdk.core.wait.AsyncActionHandler;
+import cloud.stackit.sdk.core.wait.BatchingPoller;
 import cloud.stackit.sdk.resourcemanager.v0api.api.ResourceManagerApi;
 import cloud.stackit.sdk.resourcemanager.v0api.model.GetProjectResponse;
 import cloud.stackit.sdk.resourcemanager.v0api.model.LifecycleState;
+import cloud.stackit.sdk.resourcemanager.v0api.model.ListProjectsResponse;
+import cloud.stackit.sdk.resourcemanager.v0api.model.Project;
 import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
@@ -306,4 +312,36 @@ class ResourcemanagerWaitTest {
 						apiException.getMessage());
 		assertTrue(thrown.getMessage().contains(AsyncActionHandler.TEMPORARY_ERROR_MESSAGE));
 	}
+
+	@Test
+	void testProjectPollerWaitsWithOneListCall() throws Exception {
+		Project first = new Project().containerId("first").lifecycleState(LifecycleState.ACTIVE);
+		Project second = new Project().containerId("second").lifecycleState(LifecycleState.ACTIVE);
+		when(apiClient.listProjects(any(), any(), any(), any(), any(), any()))
+				.thenReturn(new ListProjectsResponse().items(Arrays.asList(first, second)));
+
+		BatchingPoller<String, Project> poller = ResourcemanagerWait.projectPoller(apiClient);
+		poller.setSleepBeforeWait(0, TimeUnit.SECONDS);
+		poller.setThrottle(100, TimeUnit.MILLISECONDS);
+		poller.setTimeout(2, TimeUnit.SECONDS);
+
+		CompletableFuture<Project> firstWait = ResourcemanagerWait.createProjectWait(poller, "first");
+		CompletableFuture<Project> secondWait =
+				ResourcemanagerWait.createProjectWait(poller, "second");
+
+		assertSame(first, firstWait.get());
+		assertSame(second, secondWait.get());
+		verify(apiClient, times(1)).listProjects(any(), any(), any(), any(), any(), any());
+	}
+
+	@Test
+	void testProjectPollerDeleteProjectNotListed() throws Exception {
+		when(apiClient.listProjects(any(), any(), any(), any(), any(), any()))
+				.thenReturn(new ListProjectsResponse().items(new ArrayList<>()));
+
+		BatchingPoller<String, Project> poller = ResourcemanagerWait.projectPoller(apiClient);
+		poller.setThrottle(10, TimeUnit.MILLISECONDS);
+
+		assertNull(ResourcemanagerWait.deleteProjectWait(poller, CONTAINER_ID).get());
+	}
 }
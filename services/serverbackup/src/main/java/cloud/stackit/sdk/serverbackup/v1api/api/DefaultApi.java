@@ -39,6 +39,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import okhttp3.OkHttpClient;
 
 // Package-private access to enforce service-specific API usage (DefaultApi => <ServiceName>Api)
@@ -317,6 +318,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * create backup (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param createBackupPayload (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Request is accepted, but processing may take some time. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server not found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Backup already running </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<BackupJob> createBackupFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nullable CreateBackupPayload createBackupPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createBackupValidateBeforeCall(projectId, serverId, createBackupPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<BackupJob>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createBackupSchedule
 	 *
@@ -515,6 +549,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * create backup schedule (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param createBackupSchedulePayload (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Schedule created </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<BackupSchedule> createBackupScheduleFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nullable CreateBackupSchedulePayload createBackupSchedulePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createBackupScheduleValidateBeforeCall(
+							projectId, serverId, createBackupSchedulePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<BackupSchedule>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteBackup
 	 *
@@ -723,6 +790,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * delete backup (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param backupId id of the backup (required)
+	 * @param force force delete the backup (optional)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Request is accepted, but processing may take some time. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server | backup job not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteBackupFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String backupId,
+			@javax.annotation.Nullable Boolean force) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteBackupValidateBeforeCall(projectId, serverId, backupId, force, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteBackupSchedule
 	 *
@@ -919,6 +1018,37 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * delete backup schedule (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param backupScheduleId backup schedule id (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> backup schedule successfully deleted </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server | schedule not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteBackupScheduleFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String backupScheduleId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteBackupScheduleValidateBeforeCall(
+							projectId, serverId, backupScheduleId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteVolumeBackup
 	 *
@@ -1148,6 +1278,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * delete volume backup (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param backupId id of the backup (required)
+	 * @param volumeBackupId id of the volume backup (required)
+	 * @param force Force delete the volume backup (optional)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Request is accepted, but processing may take some time. </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server | volume backup not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteVolumeBackupFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String backupId,
+			@javax.annotation.Nonnull String volumeBackupId,
+			@javax.annotation.Nullable Boolean force) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteVolumeBackupValidateBeforeCall(
+							projectId, serverId, backupId, volumeBackupId, force, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for disableService
 	 *
@@ -1339,6 +1504,36 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * disable backup service (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Backup service disabled </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad request </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server not found </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> disableServiceFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = disableServiceValidateBeforeCall(projectId, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for disableServiceResource
 	 *
@@ -1518,6 +1713,33 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * disable backup service (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Backup service disabled </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> disableServiceResourceFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = disableServiceResourceValidateBeforeCall(projectId, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for enableService
 	 *
@@ -1722,6 +1944,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * enable backup service (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param enableServicePayload (optional)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Backup service enabled </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server not found </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> enableServiceFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nullable EnableServicePayload enableServicePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					enableServiceValidateBeforeCall(
+							projectId, serverId, enableServicePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for enableServiceResource
 	 *
@@ -1915,6 +2172,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * enable backup service (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param enableServiceResourcePayload (optional)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Backup service enabled </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> enableServiceResourceFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nullable EnableServiceResourcePayload enableServiceResourcePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					enableServiceResourceValidateBeforeCall(
+							projectId, serverId, enableServiceResourcePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for getBackup
 	 *
@@ -2114,6 +2403,36 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * get backup (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param backupId id of the backup (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> backup response </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server | backup job not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Backup> getBackupFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String backupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getBackupValidateBeforeCall(projectId, serverId, backupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Backup>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getBackupSchedule
 	 *
@@ -2315,6 +2634,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * get single backup schedule details (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param backupScheduleId backup schedule id (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> backup schedule response </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server | backup schedule not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<BackupSchedule> getBackupScheduleFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String backupScheduleId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getBackupScheduleValidateBeforeCall(
+							projectId, serverId, backupScheduleId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<BackupSchedule>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getServiceResource
 	 *
@@ -2498,6 +2849,34 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * get backup service details (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Backup service details </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server, or service, Not Found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetBackupServiceResponse> getServiceResourceFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getServiceResourceValidateBeforeCall(projectId, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetBackupServiceResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listBackupPolicies
 	 *
@@ -2660,6 +3039,33 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * get list of backup policies (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> backup policy list response </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Project Not Found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetBackupPoliciesResponse> listBackupPoliciesFuture(
+			@javax.annotation.Nonnull String projectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listBackupPoliciesValidateBeforeCall(projectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetBackupPoliciesResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listBackupSchedules
 	 *
@@ -2840,6 +3246,33 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * get list of backup schedules (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> schedule list response </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetBackupSchedulesResponse> listBackupSchedulesFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listBackupSchedulesValidateBeforeCall(projectId, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetBackupSchedulesResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listBackups
 	 *
@@ -3018,6 +3451,33 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * get list of backups (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> backup list response </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetBackupsListResponse> listBackupsFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listBackupsValidateBeforeCall(projectId, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetBackupsListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for restoreBackup
 	 *
@@ -3232,6 +3692,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * trigger restore of the requested backup (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param backupId id of the backup (required)
+	 * @param restoreBackupPayload (optional)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Request is accepted, but processing may take some time. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server | backup not found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Restore already running </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> restoreBackupFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String backupId,
+			@javax.annotation.Nullable RestoreBackupPayload restoreBackupPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					restoreBackupValidateBeforeCall(
+							projectId, serverId, backupId, restoreBackupPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for restoreVolumeBackup
 	 *
@@ -3477,6 +3972,47 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * trigger restore of the requested volume backup (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param backupId id of the backup (required)
+	 * @param volumeBackupId id of the volume backup (required)
+	 * @param restoreVolumeBackupPayload (optional)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Request is accepted, but processing may take some time. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server | backup not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> restoreVolumeBackupFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String backupId,
+			@javax.annotation.Nonnull String volumeBackupId,
+			@javax.annotation.Nullable RestoreVolumeBackupPayload restoreVolumeBackupPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					restoreVolumeBackupValidateBeforeCall(
+							projectId,
+							serverId,
+							backupId,
+							volumeBackupId,
+							restoreVolumeBackupPayload,
+							null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for updateBackupSchedule
 	 *
@@ -3697,4 +4233,43 @@ class DefaultApi {
 		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
 		return localVarCall;
 	}
+
+	/**
+	 * update backup schedule (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param backupScheduleId backup schedule id (required)
+	 * @param updateBackupSchedulePayload (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> updated backup schedule </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server | schedule not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<BackupSchedule> updateBackupScheduleFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String backupScheduleId,
+			@javax.annotation.Nullable UpdateBackupSchedulePayload updateBackupSchedulePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateBackupScheduleValidateBeforeCall(
+							projectId,
+							serverId,
+							backupScheduleId,
+							updateBackupSchedulePayload,
+							null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<BackupSchedule>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
 }
@@ -12,7 +12,9 @@
 
 package cloud.stackit.sdk.serverbackup.v1api.api;
 
+import cloud.stackit.sdk.core.catalog.ReferenceCatalog;
 import cloud.stackit.sdk.core.config.CoreConfiguration;
+import cloud.stackit.sdk.serverbackup.v1api.model.BackupPolicy;
 import java.io.IOException;
 import okhttp3.OkHttpClient;
 
@@ -61,4 +63,16 @@ public class ServerBackupApi extends DefaultApi {
 			throws IOException {
 		super(httpClient, configuration);
 	}
+
+	/**
+	 * Returns a catalog of the backup policies, see {@link #listBackupPolicies}. The catalog loads
+	 * them on first access and refreshes them in the background, so lookups don't need an API call.
+	 *
+	 * @param projectId (required)
+	 * @return ReferenceCatalog of the backup policies
+	 */
+	public ReferenceCatalog<BackupPolicy> listBackupPoliciesCatalog(
+			@javax.annotation.Nonnull String projectId) {
+		return new ReferenceCatalog<>(() -> listBackupPolicies(projectId).getItems());
+	}
 }
@@ -12,6 +12,9 @@
 
 package cloud.stackit.sdk.serverbackup.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
+import cloud.stackit.sdk.core.json.EnumLookup;
+import cloud.stackit.sdk.core.json.EnumValueTypeAdapter;
 import cloud.stackit.sdk.serverbackup.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -106,13 +109,11 @@ public class Backup {
 			return String.valueOf(value);
 		}
 
+		private static final EnumLookup<StatusEnum> LOOKUP =
+				new EnumLookup<>(values(), UNKNOWN_DEFAULT_OPEN_API);
+
 		public static StatusEnum fromValue(String value) {
-			for (StatusEnum b : StatusEnum.values()) {
-				if (b.value.equals(value)) {
-					return b;
-				}
-			}
-			return UNKNOWN_DEFAULT_OPEN_API;
+			return LOOKUP.fromValue(value);
 		}
 
 		public static class Adapter extends TypeAdapter<StatusEnum> {
@@ -542,7 +543,7 @@ public class Backup {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Backup> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Backup.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Backup.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Backup>() {
@@ -620,6 +621,97 @@ public class Backup {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Backup> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<StatusEnum> statusEnumAdapter;
+		private final TypeAdapter<List<BackupVolumeBackupsInner>>
+				backupVolumeBackupsInnerListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"Backup",
+					SERIALIZED_NAME_CREATED_AT,
+					SERIALIZED_NAME_EXPIRE_AT,
+					SERIALIZED_NAME_ID,
+					SERIALIZED_NAME_NAME,
+					SERIALIZED_NAME_STATUS);
+			stringAdapter = gson.getAdapter(String.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+			statusEnumAdapter =
+					new EnumValueTypeAdapter<>(
+							StatusEnum.values(), StatusEnum.UNKNOWN_DEFAULT_OPEN_API);
+			backupVolumeBackupsInnerListAdapter =
+					getAdapter(List.class, BackupVolumeBackupsInner.class);
+		}
+
+		@Override
+		protected Backup newInstance() {
+			return new Backup();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Backup instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CREATED_AT:
+					instance.createdAt = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.createdAt);
+				case SERIALIZED_NAME_EXPIRE_AT:
+					instance.expireAt = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.expireAt);
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, stringAdapter);
+					return requiredField(2, instance.id);
+				case SERIALIZED_NAME_LAST_RESTORED_AT:
+					instance.lastRestoredAt = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(3, instance.name);
+				case SERIALIZED_NAME_SIZE:
+					instance.size = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_STATUS:
+					instance.status = readPrimitive(in, name, statusEnumAdapter);
+					return requiredField(4, instance.status);
+				case SERIALIZED_NAME_VOLUME_BACKUPS:
+					instance.volumeBackups =
+							readArray(in, name, backupVolumeBackupsInnerListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Backup value) throws IOException {
+			writeField(out, SERIALIZED_NAME_CREATED_AT, value.createdAt, stringAdapter);
+			writeField(out, SERIALIZED_NAME_EXPIRE_AT, value.expireAt, stringAdapter);
+			writeField(out, SERIALIZED_NAME_ID, value.id, stringAdapter);
+			writeField(out, SERIALIZED_NAME_LAST_RESTORED_AT, value.lastRestoredAt, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_SIZE, value.size, integerAdapter);
+			writeField(out, SERIALIZED_NAME_STATUS, value.status, statusEnumAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_VOLUME_BACKUPS,
+					value.volumeBackups,
+					backupVolumeBackupsInnerListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Backup value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Backup instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Backup given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverbackup.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverbackup.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -204,7 +205,7 @@ public class BackupJob {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<BackupJob> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(BackupJob.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(BackupJob.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<BackupJob>() {
@@ -282,6 +283,47 @@ public class BackupJob {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<BackupJob> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "BackupJob", SERIALIZED_NAME_ID);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected BackupJob newInstance() {
+			return new BackupJob();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, BackupJob instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.id);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, BackupJob value) throws IOException {
+			writeField(out, SERIALIZED_NAME_ID, value.id, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(BackupJob value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(BackupJob instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of BackupJob given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverbackup.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverbackup.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -223,8 +224,8 @@ public class BackupPolicyBackupProperties {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<BackupPolicyBackupProperties> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(BackupPolicyBackupProperties.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(BackupPolicyBackupProperties.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<BackupPolicyBackupProperties>() {
@@ -304,6 +305,58 @@ public class BackupPolicyBackupProperties {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<BackupPolicyBackupProperties> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "BackupPolicyBackupProperties");
+			stringAdapter = gson.getAdapter(String.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+		}
+
+		@Override
+		protected BackupPolicyBackupProperties newInstance() {
+			return new BackupPolicyBackupProperties();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, BackupPolicyBackupProperties instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_RETENTION_PERIOD:
+					instance.retentionPeriod = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, BackupPolicyBackupProperties value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(
+					out, SERIALIZED_NAME_RETENTION_PERIOD, value.retentionPeriod, integerAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(BackupPolicyBackupProperties value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				BackupPolicyBackupProperties instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of BackupPolicyBackupProperties given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverbackup.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverbackup.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -328,7 +329,7 @@ public class BackupSchedule {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<BackupSchedule> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(BackupSchedule.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(BackupSchedule.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<BackupSchedule>() {
@@ -406,6 +407,81 @@ public class BackupSchedule {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<BackupSchedule> {
+		private final TypeAdapter<BackupProperties> backupPropertiesAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"BackupSchedule",
+					SERIALIZED_NAME_ENABLED,
+					SERIALIZED_NAME_ID,
+					SERIALIZED_NAME_NAME,
+					SERIALIZED_NAME_RRULE);
+			backupPropertiesAdapter = gson.getAdapter(BackupProperties.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected BackupSchedule newInstance() {
+			return new BackupSchedule();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, BackupSchedule instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_BACKUP_PROPERTIES:
+					instance.backupProperties = readValue(in, backupPropertiesAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ENABLED:
+					instance.enabled = readPrimitive(in, name, booleanAdapter);
+					return requiredField(0);
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, integerAdapter);
+					return requiredField(1);
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(2, instance.name);
+				case SERIALIZED_NAME_RRULE:
+					instance.rrule = readPrimitive(in, name, stringAdapter);
+					return requiredField(3, instance.rrule);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, BackupSchedule value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_BACKUP_PROPERTIES,
+					value.backupProperties,
+					backupPropertiesAdapter);
+			writeField(out, SERIALIZED_NAME_ENABLED, value.enabled, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_ID, value.id, integerAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_RRULE, value.rrule, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(BackupSchedule value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				BackupSchedule instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of BackupSchedule given an JSON string
 	 *
@@ -12,6 +12,9 @@
 
 package cloud.stackit.sdk.serverbackup.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
+import cloud.stackit.sdk.core.json.EnumLookup;
+import cloud.stackit.sdk.core.json.EnumValueTypeAdapter;
 import cloud.stackit.sdk.serverbackup.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -92,13 +95,11 @@ public class BackupVolumeBackupsInner {
 			return String.valueOf(value);
 		}
 
+		private static final EnumLookup<StatusEnum> LOOKUP =
+				new EnumLookup<>(values(), UNKNOWN_DEFAULT_OPEN_API);
+
 		public static StatusEnum fromValue(String value) {
-			for (StatusEnum b : StatusEnum.values()) {
-				if (b.value.equals(value)) {
-					return b;
-				}
-			}
-			return UNKNOWN_DEFAULT_OPEN_API;
+			return LOOKUP.fromValue(value);
 		}
 
 		public static class Adapter extends TypeAdapter<StatusEnum> {
@@ -443,7 +444,8 @@ public class BackupVolumeBackupsInner {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<BackupVolumeBackupsInner> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(BackupVolumeBackupsInner.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(BackupVolumeBackupsInner.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<BackupVolumeBackupsInner>() {
@@ -522,6 +524,81 @@ public class BackupVolumeBackupsInner {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<BackupVolumeBackupsInner> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<StatusEnum> statusEnumAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "BackupVolumeBackupsInner");
+			stringAdapter = gson.getAdapter(String.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+			statusEnumAdapter =
+					new EnumValueTypeAdapter<>(
+							StatusEnum.values(), StatusEnum.UNKNOWN_DEFAULT_OPEN_API);
+		}
+
+		@Override
+		protected BackupVolumeBackupsInner newInstance() {
+			return new BackupVolumeBackupsInner();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, BackupVolumeBackupsInner instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LAST_RESTORED_AT:
+					instance.lastRestoredAt = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LAST_RESTORED_VOLUME_ID:
+					instance.lastRestoredVolumeId = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SIZE:
+					instance.size = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_STATUS:
+					instance.status = readPrimitive(in, name, statusEnumAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_VOLUME_ID:
+					instance.volumeId = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, BackupVolumeBackupsInner value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ID, value.id, stringAdapter);
+			writeField(out, SERIALIZED_NAME_LAST_RESTORED_AT, value.lastRestoredAt, stringAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_LAST_RESTORED_VOLUME_ID,
+					value.lastRestoredVolumeId,
+					stringAdapter);
+			writeField(out, SERIALIZED_NAME_SIZE, value.size, integerAdapter);
+			writeField(out, SERIALIZED_NAME_STATUS, value.status, statusEnumAdapter);
+			writeField(out, SERIALIZED_NAME_VOLUME_ID, value.volumeId, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(BackupVolumeBackupsInner value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				BackupVolumeBackupsInner instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of BackupVolumeBackupsInner given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverbackup.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverbackup.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -276,7 +277,7 @@ public class CreateBackupPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateBackupPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateBackupPayload.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(CreateBackupPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateBackupPayload>() {
@@ -355,6 +356,66 @@ public class CreateBackupPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<CreateBackupPayload> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<List<String>> stringListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"CreateBackupPayload",
+					SERIALIZED_NAME_NAME,
+					SERIALIZED_NAME_RETENTION_PERIOD);
+			stringAdapter = gson.getAdapter(String.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+			stringListAdapter = getAdapter(List.class, String.class);
+		}
+
+		@Override
+		protected CreateBackupPayload newInstance() {
+			return new CreateBackupPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateBackupPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.name);
+				case SERIALIZED_NAME_RETENTION_PERIOD:
+					instance.retentionPeriod = readPrimitive(in, name, integerAdapter);
+					return requiredField(1);
+				case SERIALIZED_NAME_VOLUME_IDS:
+					instance.volumeIds = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateBackupPayload value) throws IOException {
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(
+					out, SERIALIZED_NAME_RETENTION_PERIOD, value.retentionPeriod, integerAdapter);
+			writeField(out, SERIALIZED_NAME_VOLUME_IDS, value.volumeIds, stringListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateBackupPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateBackupPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateBackupPayload given an JSON string
 	 *
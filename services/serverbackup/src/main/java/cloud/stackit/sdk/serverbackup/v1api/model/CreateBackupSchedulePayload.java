@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverbackup.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverbackup.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -303,7 +304,8 @@ public class CreateBackupSchedulePayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateBackupSchedulePayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateBackupSchedulePayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateBackupSchedulePayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateBackupSchedulePayload>() {
@@ -383,6 +385,76 @@ public class CreateBackupSchedulePayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateBackupSchedulePayload> {
+		private final TypeAdapter<BackupProperties> backupPropertiesAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"CreateBackupSchedulePayload",
+					SERIALIZED_NAME_ENABLED,
+					SERIALIZED_NAME_NAME,
+					SERIALIZED_NAME_RRULE);
+			backupPropertiesAdapter = gson.getAdapter(BackupProperties.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected CreateBackupSchedulePayload newInstance() {
+			return new CreateBackupSchedulePayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateBackupSchedulePayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_BACKUP_PROPERTIES:
+					instance.backupProperties = readValue(in, backupPropertiesAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ENABLED:
+					instance.enabled = readPrimitive(in, name, booleanAdapter);
+					return requiredField(0);
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.name);
+				case SERIALIZED_NAME_RRULE:
+					instance.rrule = readPrimitive(in, name, stringAdapter);
+					return requiredField(2, instance.rrule);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateBackupSchedulePayload value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_BACKUP_PROPERTIES,
+					value.backupProperties,
+					backupPropertiesAdapter);
+			writeField(out, SERIALIZED_NAME_ENABLED, value.enabled, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_RRULE, value.rrule, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateBackupSchedulePayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateBackupSchedulePayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateBackupSchedulePayload given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverbackup.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverbackup.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -193,7 +194,7 @@ public class EnableServicePayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<EnableServicePayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(EnableServicePayload.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(EnableServicePayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<EnableServicePayload>() {
@@ -272,6 +273,49 @@ public class EnableServicePayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<EnableServicePayload> {
+		private final TypeAdapter<UUID> uuidAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "EnableServicePayload");
+			uuidAdapter = gson.getAdapter(UUID.class);
+		}
+
+		@Override
+		protected EnableServicePayload newInstance() {
+			return new EnableServicePayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, EnableServicePayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_BACKUP_POLICY_ID:
+					instance.backupPolicyId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, EnableServicePayload value) throws IOException {
+			writeField(out, SERIALIZED_NAME_BACKUP_POLICY_ID, value.backupPolicyId, uuidAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(EnableServicePayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				EnableServicePayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of EnableServicePayload given an JSON string
 	 *
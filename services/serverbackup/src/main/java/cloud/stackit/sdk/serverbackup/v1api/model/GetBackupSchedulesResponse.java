@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverbackup.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverbackup.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -214,7 +215,8 @@ public class GetBackupSchedulesResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GetBackupSchedulesResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(GetBackupSchedulesResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(GetBackupSchedulesResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GetBackupSchedulesResponse>() {
@@ -293,6 +295,51 @@ public class GetBackupSchedulesResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<GetBackupSchedulesResponse> {
+		private final TypeAdapter<List<BackupSchedule>> backupScheduleListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "GetBackupSchedulesResponse");
+			backupScheduleListAdapter = getAdapter(List.class, BackupSchedule.class);
+		}
+
+		@Override
+		protected GetBackupSchedulesResponse newInstance() {
+			return new GetBackupSchedulesResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, GetBackupSchedulesResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, backupScheduleListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GetBackupSchedulesResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, backupScheduleListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(GetBackupSchedulesResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GetBackupSchedulesResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GetBackupSchedulesResponse given an JSON string
 	 *
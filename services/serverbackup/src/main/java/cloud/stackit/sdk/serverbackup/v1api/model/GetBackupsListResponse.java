@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverbackup.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverbackup.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -213,7 +214,8 @@ public class GetBackupsListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GetBackupsListResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(GetBackupsListResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(GetBackupsListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GetBackupsListResponse>() {
@@ -292,6 +294,51 @@ public class GetBackupsListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<GetBackupsListResponse> {
+		private final TypeAdapter<List<Backup>> backupListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "GetBackupsListResponse");
+			backupListAdapter = getAdapter(List.class, Backup.class);
+		}
+
+		@Override
+		protected GetBackupsListResponse newInstance() {
+			return new GetBackupsListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, GetBackupsListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, backupListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GetBackupsListResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, backupListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(GetBackupsListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GetBackupsListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GetBackupsListResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverbackup.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverbackup.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -303,7 +304,8 @@ public class UpdateBackupSchedulePayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateBackupSchedulePayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(UpdateBackupSchedulePayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(UpdateBackupSchedulePayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateBackupSchedulePayload>() {
@@ -383,6 +385,76 @@ public class UpdateBackupSchedulePayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<UpdateBackupSchedulePayload> {
+		private final TypeAdapter<BackupProperties> backupPropertiesAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"UpdateBackupSchedulePayload",
+					SERIALIZED_NAME_ENABLED,
+					SERIALIZED_NAME_NAME,
+					SERIALIZED_NAME_RRULE);
+			backupPropertiesAdapter = gson.getAdapter(BackupProperties.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected UpdateBackupSchedulePayload newInstance() {
+			return new UpdateBackupSchedulePayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, UpdateBackupSchedulePayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_BACKUP_PROPERTIES:
+					instance.backupProperties = readValue(in, backupPropertiesAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ENABLED:
+					instance.enabled = readPrimitive(in, name, booleanAdapter);
+					return requiredField(0);
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.name);
+				case SERIALIZED_NAME_RRULE:
+					instance.rrule = readPrimitive(in, name, stringAdapter);
+					return requiredField(2, instance.rrule);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateBackupSchedulePayload value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_BACKUP_PROPERTIES,
+					value.backupProperties,
+					backupPropertiesAdapter);
+			writeField(out, SERIALIZED_NAME_ENABLED, value.enabled, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_RRULE, value.rrule, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(UpdateBackupSchedulePayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateBackupSchedulePayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateBackupSchedulePayload given an JSON string
 	 *
@@ -38,6 +38,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import okhttp3.OkHttpClient;
 
 // Package-private access to enforce service-specific API usage (DefaultApi => <ServiceName>Api)
@@ -340,6 +341,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * create backup (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param region region (required)
+	 * @param createBackupPayload (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Request is accepted, but processing may take some time. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server not found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Backup already running </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<BackupJob> createBackupFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable CreateBackupPayload createBackupPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createBackupValidateBeforeCall(
+							projectId, serverId, region, createBackupPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<BackupJob>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createBackupSchedule
 	 *
@@ -561,6 +599,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * create backup schedule (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param region region (required)
+	 * @param createBackupSchedulePayload (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Schedule created </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<BackupSchedule> createBackupScheduleFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable CreateBackupSchedulePayload createBackupSchedulePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createBackupScheduleValidateBeforeCall(
+							projectId, serverId, region, createBackupSchedulePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<BackupSchedule>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteBackup
 	 *
@@ -796,6 +870,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * delete backup (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param region region (required)
+	 * @param backupId id of the backup (required)
+	 * @param force force delete the backup (optional)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Request is accepted, but processing may take some time. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server | backup job not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteBackupFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String backupId,
+			@javax.annotation.Nullable Boolean force) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteBackupValidateBeforeCall(
+							projectId, serverId, region, backupId, force, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteBackupSchedule
 	 *
@@ -1019,6 +1130,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * delete backup schedule (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param region region (required)
+	 * @param backupScheduleId backup schedule id (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> backup schedule successfully deleted </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server | schedule not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteBackupScheduleFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String backupScheduleId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteBackupScheduleValidateBeforeCall(
+							projectId, serverId, region, backupScheduleId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for deleteVolumeBackup
 	 *
@@ -1275,6 +1421,45 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * delete volume backup (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param region region (required)
+	 * @param backupId id of the backup (required)
+	 * @param volumeBackupId id of the volume backup (required)
+	 * @param force Force delete the volume backup (optional)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Request is accepted, but processing may take some time. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server | volume backup not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteVolumeBackupFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String backupId,
+			@javax.annotation.Nonnull String volumeBackupId,
+			@javax.annotation.Nullable Boolean force) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteVolumeBackupValidateBeforeCall(
+							projectId, serverId, region, backupId, volumeBackupId, force, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for disableServiceResource
 	 *
@@ -1478,6 +1663,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * disable backup service (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param region region (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Backup service disabled </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> disableServiceResourceFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					disableServiceResourceValidateBeforeCall(projectId, serverId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for enableServiceResource
 	 *
@@ -1694,6 +1911,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * enable backup service (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param region region (required)
+	 * @param enableServiceResourcePayload (optional)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Backup service enabled </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> enableServiceResourceFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nullable EnableServiceResourcePayload enableServiceResourcePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					enableServiceResourceValidateBeforeCall(
+							projectId, serverId, region, enableServiceResourcePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for getBackup
 	 *
@@ -1920,6 +2172,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * get backup (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param region region (required)
+	 * @param backupId id of the backup (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> backup response </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server | backup job not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Backup> getBackupFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String backupId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getBackupValidateBeforeCall(projectId, serverId, region, backupId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Backup>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getBackupSchedule
 	 *
@@ -2148,6 +2434,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * get single backup schedule details (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param region region (required)
+	 * @param backupScheduleId backup schedule id (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> backup schedule response </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server | backup schedule not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<BackupSchedule> getBackupScheduleFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String backupScheduleId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getBackupScheduleValidateBeforeCall(
+							projectId, serverId, region, backupScheduleId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<BackupSchedule>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getServiceResource
 	 *
@@ -2356,6 +2678,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * get backup service details (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param region region (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Backup service details </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server, or service, Not Found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetBackupServiceResponse> getServiceResourceFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getServiceResourceValidateBeforeCall(projectId, serverId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetBackupServiceResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listBackupPolicies
 	 *
@@ -2522,6 +2876,34 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * get list of backup policies (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> backup policy list response </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Project Not Found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetBackupPoliciesResponse> listBackupPoliciesFuture(
+			@javax.annotation.Nonnull String projectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listBackupPoliciesValidateBeforeCall(projectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetBackupPoliciesResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listBackupSchedules
 	 *
@@ -2730,6 +3112,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * get list of backup schedules (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param region region (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> schedule list response </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetBackupSchedulesResponse> listBackupSchedulesFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listBackupSchedulesValidateBeforeCall(projectId, serverId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetBackupSchedulesResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listBackups
 	 *
@@ -2938,6 +3352,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * get list of backups (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param region region (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> backup list response </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetBackupsListResponse> listBackupsFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listBackupsValidateBeforeCall(projectId, serverId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetBackupsListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for restoreBackup
 	 *
@@ -3175,6 +3621,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * trigger restore of the requested backup (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param region region (required)
+	 * @param backupId id of the backup (required)
+	 * @param restoreBackupPayload (optional)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Request is accepted, but processing may take some time. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server | backup not found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Restore already running </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> restoreBackupFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String backupId,
+			@javax.annotation.Nullable RestoreBackupPayload restoreBackupPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					restoreBackupValidateBeforeCall(
+							projectId, serverId, region, backupId, restoreBackupPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for restoreVolumeBackup
 	 *
@@ -3445,6 +3929,51 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * trigger restore of the requested volume backup (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param region region (required)
+	 * @param backupId id of the backup (required)
+	 * @param volumeBackupId id of the volume backup (required)
+	 * @param restoreVolumeBackupPayload (optional)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Request is accepted, but processing may take some time. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server | backup not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> restoreVolumeBackupFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String backupId,
+			@javax.annotation.Nonnull String volumeBackupId,
+			@javax.annotation.Nullable RestoreVolumeBackupPayload restoreVolumeBackupPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					restoreVolumeBackupValidateBeforeCall(
+							projectId,
+							serverId,
+							region,
+							backupId,
+							volumeBackupId,
+							restoreVolumeBackupPayload,
+							null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for updateBackupSchedule
 	 *
@@ -3698,4 +4227,47 @@ class DefaultApi {
 		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
 		return localVarCall;
 	}
+
+	/**
+	 * update backup schedule (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param region region (required)
+	 * @param backupScheduleId backup schedule id (required)
+	 * @param updateBackupSchedulePayload (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> updated backup schedule </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server | schedule not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<BackupSchedule> updateBackupScheduleFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String backupScheduleId,
+			@javax.annotation.Nullable UpdateBackupSchedulePayload updateBackupSchedulePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateBackupScheduleValidateBeforeCall(
+							projectId,
+							serverId,
+							region,
+							backupScheduleId,
+							updateBackupSchedulePayload,
+							null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<BackupSchedule>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
 }
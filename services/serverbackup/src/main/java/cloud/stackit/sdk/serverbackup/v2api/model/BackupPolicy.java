@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverbackup.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverbackup.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -391,7 +392,7 @@ public class BackupPolicy {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<BackupPolicy> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(BackupPolicy.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(BackupPolicy.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<BackupPolicy>() {
@@ -469,6 +470,82 @@ public class BackupPolicy {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<BackupPolicy> {
+		private final TypeAdapter<BackupPolicyBackupProperties> backupPolicyBackupPropertiesAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "BackupPolicy");
+			backupPolicyBackupPropertiesAdapter =
+					gson.getAdapter(BackupPolicyBackupProperties.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected BackupPolicy newInstance() {
+			return new BackupPolicy();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, BackupPolicy instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_BACKUP_PROPERTIES:
+					instance.backupProperties = readValue(in, backupPolicyBackupPropertiesAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DEFAULT:
+					instance._default = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DESCRIPTION:
+					instance.description = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ENABLED:
+					instance.enabled = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_RRULE:
+					instance.rrule = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, BackupPolicy value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_BACKUP_PROPERTIES,
+					value.backupProperties,
+					backupPolicyBackupPropertiesAdapter);
+			writeField(out, SERIALIZED_NAME_DEFAULT, value._default, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_DESCRIPTION, value.description, stringAdapter);
+			writeField(out, SERIALIZED_NAME_ENABLED, value.enabled, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_ID, value.id, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_RRULE, value.rrule, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(BackupPolicy value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				BackupPolicy instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of BackupPolicy given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverbackup.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverbackup.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -275,7 +276,7 @@ public class BackupProperties {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<BackupProperties> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(BackupProperties.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(BackupProperties.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<BackupProperties>() {
@@ -354,6 +355,62 @@ public class BackupProperties {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<BackupProperties> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<List<String>> stringListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "BackupProperties", SERIALIZED_NAME_NAME, SERIALIZED_NAME_RETENTION_PERIOD);
+			stringAdapter = gson.getAdapter(String.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+			stringListAdapter = getAdapter(List.class, String.class);
+		}
+
+		@Override
+		protected BackupProperties newInstance() {
+			return new BackupProperties();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, BackupProperties instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.name);
+				case SERIALIZED_NAME_RETENTION_PERIOD:
+					instance.retentionPeriod = readPrimitive(in, name, integerAdapter);
+					return requiredField(1);
+				case SERIALIZED_NAME_VOLUME_IDS:
+					instance.volumeIds = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, BackupProperties value) throws IOException {
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(
+					out, SERIALIZED_NAME_RETENTION_PERIOD, value.retentionPeriod, integerAdapter);
+			writeField(out, SERIALIZED_NAME_VOLUME_IDS, value.volumeIds, stringListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(BackupProperties value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				BackupProperties instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of BackupProperties given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverbackup.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverbackup.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -198,8 +199,8 @@ public class EnableServiceResourcePayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<EnableServiceResourcePayload> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(EnableServiceResourcePayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(EnableServiceResourcePayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<EnableServiceResourcePayload>() {
@@ -279,6 +280,51 @@ public class EnableServiceResourcePayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<EnableServiceResourcePayload> {
+		private final TypeAdapter<UUID> uuidAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "EnableServiceResourcePayload");
+			uuidAdapter = gson.getAdapter(UUID.class);
+		}
+
+		@Override
+		protected EnableServiceResourcePayload newInstance() {
+			return new EnableServiceResourcePayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, EnableServiceResourcePayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_BACKUP_POLICY_ID:
+					instance.backupPolicyId = readPrimitive(in, name, uuidAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, EnableServiceResourcePayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_BACKUP_POLICY_ID, value.backupPolicyId, uuidAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(EnableServiceResourcePayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				EnableServiceResourcePayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of EnableServiceResourcePayload given an JSON string
 	 *
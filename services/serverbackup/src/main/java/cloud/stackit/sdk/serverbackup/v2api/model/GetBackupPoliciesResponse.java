@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverbackup.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverbackup.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -214,7 +215,8 @@ public class GetBackupPoliciesResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GetBackupPoliciesResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(GetBackupPoliciesResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(GetBackupPoliciesResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GetBackupPoliciesResponse>() {
@@ -293,6 +295,51 @@ public class GetBackupPoliciesResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<GetBackupPoliciesResponse> {
+		private final TypeAdapter<List<BackupPolicy>> backupPolicyListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "GetBackupPoliciesResponse");
+			backupPolicyListAdapter = getAdapter(List.class, BackupPolicy.class);
+		}
+
+		@Override
+		protected GetBackupPoliciesResponse newInstance() {
+			return new GetBackupPoliciesResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, GetBackupPoliciesResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, backupPolicyListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GetBackupPoliciesResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, backupPolicyListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(GetBackupPoliciesResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GetBackupPoliciesResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GetBackupPoliciesResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverbackup.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverbackup.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -185,7 +186,8 @@ public class GetBackupServiceResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GetBackupServiceResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(GetBackupServiceResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(GetBackupServiceResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GetBackupServiceResponse>() {
@@ -264,6 +266,51 @@ public class GetBackupServiceResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<GetBackupServiceResponse> {
+		private final TypeAdapter<Boolean> booleanAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "GetBackupServiceResponse");
+			booleanAdapter = gson.getAdapter(Boolean.class);
+		}
+
+		@Override
+		protected GetBackupServiceResponse newInstance() {
+			return new GetBackupServiceResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, GetBackupServiceResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ENABLED:
+					instance.enabled = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GetBackupServiceResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ENABLED, value.enabled, booleanAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(GetBackupServiceResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GetBackupServiceResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GetBackupServiceResponse given an JSON string
 	 *
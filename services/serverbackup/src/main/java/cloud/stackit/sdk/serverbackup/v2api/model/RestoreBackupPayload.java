@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverbackup.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverbackup.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -248,7 +249,7 @@ public class RestoreBackupPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<RestoreBackupPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(RestoreBackupPayload.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(RestoreBackupPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<RestoreBackupPayload>() {
@@ -327,6 +328,59 @@ public class RestoreBackupPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<RestoreBackupPayload> {
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<List<String>> stringListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "RestoreBackupPayload", SERIALIZED_NAME_START_SERVER_AFTER_RESTORE);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			stringListAdapter = getAdapter(List.class, String.class);
+		}
+
+		@Override
+		protected RestoreBackupPayload newInstance() {
+			return new RestoreBackupPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, RestoreBackupPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_START_SERVER_AFTER_RESTORE:
+					instance.startServerAfterRestore = readPrimitive(in, name, booleanAdapter);
+					return requiredField(0);
+				case SERIALIZED_NAME_VOLUME_IDS:
+					instance.volumeIds = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, RestoreBackupPayload value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_START_SERVER_AFTER_RESTORE,
+					value.startServerAfterRestore,
+					booleanAdapter);
+			writeField(out, SERIALIZED_NAME_VOLUME_IDS, value.volumeIds, stringListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(RestoreBackupPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				RestoreBackupPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of RestoreBackupPayload given an JSON string
 	 *
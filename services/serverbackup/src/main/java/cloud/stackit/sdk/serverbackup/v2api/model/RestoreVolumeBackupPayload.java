@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverbackup.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverbackup.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -207,7 +208,8 @@ public class RestoreVolumeBackupPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<RestoreVolumeBackupPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(RestoreVolumeBackupPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(RestoreVolumeBackupPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<RestoreVolumeBackupPayload>() {
@@ -286,6 +288,52 @@ public class RestoreVolumeBackupPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<RestoreVolumeBackupPayload> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "RestoreVolumeBackupPayload", SERIALIZED_NAME_RESTORE_VOLUME_ID);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected RestoreVolumeBackupPayload newInstance() {
+			return new RestoreVolumeBackupPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, RestoreVolumeBackupPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_RESTORE_VOLUME_ID:
+					instance.restoreVolumeId = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.restoreVolumeId);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, RestoreVolumeBackupPayload value)
+				throws IOException {
+			writeField(
+					out, SERIALIZED_NAME_RESTORE_VOLUME_ID, value.restoreVolumeId, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(RestoreVolumeBackupPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				RestoreVolumeBackupPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of RestoreVolumeBackupPayload given an JSON string
 	 *
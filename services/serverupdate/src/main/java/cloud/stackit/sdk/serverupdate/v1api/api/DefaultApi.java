@@ -36,6 +36,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import okhttp3.OkHttpClient;
 
 // Package-private access to enforce service-specific API usage (DefaultApi => <ServiceName>Api)
@@ -318,6 +319,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * create update (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param createUpdatePayload (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 202 </td><td> Request is accepted, but processing may take some time. </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server not found </td><td>  -  </td></tr>
+	 * <tr><td> 409 </td><td> Update already running </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Update> createUpdateFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nullable CreateUpdatePayload createUpdatePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createUpdateValidateBeforeCall(projectId, serverId, createUpdatePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Update>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createUpdateSchedule
 	 *
@@ -520,6 +555,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * create update schedule (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param createUpdateSchedulePayload (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 201 </td><td> Schedule created </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<UpdateSchedule> createUpdateScheduleFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nullable CreateUpdateSchedulePayload createUpdateSchedulePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createUpdateScheduleValidateBeforeCall(
+							projectId, serverId, createUpdateSchedulePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<UpdateSchedule>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteUpdateSchedule
 	 *
@@ -723,6 +792,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * delete update schedule (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param scheduleId update schedule id (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> update schedule successfully deleted </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server | schedule not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> deleteUpdateScheduleFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String scheduleId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteUpdateScheduleValidateBeforeCall(projectId, serverId, scheduleId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for disableService
 	 *
@@ -918,6 +1019,37 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * disable update service (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Update service disabled </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server not found </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> disableServiceFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = disableServiceValidateBeforeCall(projectId, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for disableServiceResource
 	 *
@@ -1101,6 +1233,34 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * disable update service (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Update service disabled </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> disableServiceResourceFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = disableServiceResourceValidateBeforeCall(projectId, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for enableService
 	 *
@@ -1309,6 +1469,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * enable update service (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param enableServicePayload (optional)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Update service enabled </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server not found </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<Void> enableServiceFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nullable EnableServicePayload enableServicePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					enableServiceValidateBeforeCall(
+							projectId, serverId, enableServicePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for enableServiceResource
 	 *
@@ -1506,6 +1702,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * enable update service (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param enableServiceResourcePayload (optional)
+	 * @return CompletableFuture which completes when the API call finishes, or exceptionally
+	 *     with an ApiException
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 204 </td><td> Update service enabled </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Void> enableServiceResourceFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nullable EnableServiceResourcePayload enableServiceResourcePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					enableServiceResourceValidateBeforeCall(
+							projectId, serverId, enableServiceResourcePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		return localVarApiClient.executeFuture(localVarCall, null);
+	}
+
 	/**
 	 * Build call for getServiceResource
 	 *
@@ -1693,6 +1922,35 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * get update service details (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> Update service details </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server, or service, Not Found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetUpdateServiceResponse> getServiceResourceFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getServiceResourceValidateBeforeCall(projectId, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetUpdateServiceResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getUpdate
 	 *
@@ -1900,6 +2158,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * get update (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param updateId id of the update (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> update response </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server | update job not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Update> getUpdateFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String updateId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getUpdateValidateBeforeCall(projectId, serverId, updateId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Update>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getUpdateSchedule
 	 *
@@ -2108,6 +2398,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * get single update schedule details (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param scheduleId update schedule id (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> update schedule response </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server | update schedule not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<UpdateSchedule> getUpdateScheduleFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String scheduleId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getUpdateScheduleValidateBeforeCall(projectId, serverId, scheduleId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<UpdateSchedule>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listUpdatePolicies
 	 *
@@ -2270,6 +2593,33 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * get list of update policies (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> update policy list response </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Project Not Found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetUpdatePoliciesResponse> listUpdatePoliciesFuture(
+			@javax.annotation.Nonnull String projectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listUpdatePoliciesValidateBeforeCall(projectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetUpdatePoliciesResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listUpdateSchedules
 	 *
@@ -2458,6 +2808,35 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * get list of update schedules (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> schedule list response </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetUpdateSchedulesResponse> listUpdateSchedulesFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listUpdateSchedulesValidateBeforeCall(projectId, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetUpdateSchedulesResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listUpdates
 	 *
@@ -2644,6 +3023,35 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * get list of updates (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> updates list response </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetUpdatesListResponse> listUpdatesFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String serverId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listUpdatesValidateBeforeCall(projectId, serverId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetUpdatesListResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateUpdateSchedule
 	 *
@@ -2864,4 +3272,40 @@ class DefaultApi {
 		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
 		return localVarCall;
 	}
+
+	/**
+	 * update update schedule (asynchronously)
+	 *
+	 * @param projectId project id (required)
+	 * @param serverId server id (required)
+	 * @param scheduleId update schedule id (required)
+	 * @param updateUpdateSchedulePayload (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> updated update schedule </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Bad Request </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Unauthorized </td><td>  -  </td></tr>
+	 * <tr><td> 404 </td><td> Server | schedule not found </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<UpdateSchedule> updateUpdateScheduleFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String serverId,
+			@javax.annotation.Nonnull String scheduleId,
+			@javax.annotation.Nullable UpdateUpdateSchedulePayload updateUpdateSchedulePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateUpdateScheduleValidateBeforeCall(
+							projectId, serverId, scheduleId, updateUpdateSchedulePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<UpdateSchedule>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
 }
@@ -12,7 +12,9 @@
 
 package cloud.stackit.sdk.serverupdate.v1api.api;
 
+import cloud.stackit.sdk.core.catalog.ReferenceCatalog;
 import cloud.stackit.sdk.core.config.CoreConfiguration;
+import cloud.stackit.sdk.serverupdate.v1api.model.UpdatePolicy;
 import java.io.IOException;
 import okhttp3.OkHttpClient;
 
@@ -61,4 +63,16 @@ public class ServerUpdateApi extends DefaultApi {
 			throws IOException {
 		super(httpClient, configuration);
 	}
+
+	/**
+	 * Returns a catalog of the update policies, see {@link #listUpdatePolicies}. The catalog loads
+	 * them on first access and refreshes them in the background, so lookups don't need an API call.
+	 *
+	 * @param projectId (required)
+	 * @return ReferenceCatalog of the update policies
+	 */
+	public ReferenceCatalog<UpdatePolicy> listUpdatePoliciesCatalog(
+			@javax.annotation.Nonnull String projectId) {
+		return new ReferenceCatalog<>(() -> listUpdatePolicies(projectId).getItems());
+	}
 }
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverupdate.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverupdate.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -305,7 +306,8 @@ public class CreateUpdateSchedulePayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateUpdateSchedulePayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateUpdateSchedulePayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateUpdateSchedulePayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateUpdateSchedulePayload>() {
@@ -385,6 +387,77 @@ public class CreateUpdateSchedulePayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateUpdateSchedulePayload> {
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"CreateUpdateSchedulePayload",
+					SERIALIZED_NAME_ENABLED,
+					SERIALIZED_NAME_MAINTENANCE_WINDOW,
+					SERIALIZED_NAME_NAME,
+					SERIALIZED_NAME_RRULE);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected CreateUpdateSchedulePayload newInstance() {
+			return new CreateUpdateSchedulePayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateUpdateSchedulePayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ENABLED:
+					instance.enabled = readPrimitive(in, name, booleanAdapter);
+					return requiredField(0);
+				case SERIALIZED_NAME_MAINTENANCE_WINDOW:
+					instance.maintenanceWindow = readPrimitive(in, name, integerAdapter);
+					return requiredField(1);
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(2, instance.name);
+				case SERIALIZED_NAME_RRULE:
+					instance.rrule = readPrimitive(in, name, stringAdapter);
+					return requiredField(3, instance.rrule);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateUpdateSchedulePayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ENABLED, value.enabled, booleanAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_MAINTENANCE_WINDOW,
+					value.maintenanceWindow,
+					integerAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_RRULE, value.rrule, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateUpdateSchedulePayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateUpdateSchedulePayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateUpdateSchedulePayload given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverupdate.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverupdate.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -214,7 +215,8 @@ public class GetUpdatePoliciesResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GetUpdatePoliciesResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(GetUpdatePoliciesResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(GetUpdatePoliciesResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GetUpdatePoliciesResponse>() {
@@ -293,6 +295,51 @@ public class GetUpdatePoliciesResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<GetUpdatePoliciesResponse> {
+		private final TypeAdapter<List<UpdatePolicy>> updatePolicyListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "GetUpdatePoliciesResponse");
+			updatePolicyListAdapter = getAdapter(List.class, UpdatePolicy.class);
+		}
+
+		@Override
+		protected GetUpdatePoliciesResponse newInstance() {
+			return new GetUpdatePoliciesResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, GetUpdatePoliciesResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, updatePolicyListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GetUpdatePoliciesResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, updatePolicyListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(GetUpdatePoliciesResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GetUpdatePoliciesResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GetUpdatePoliciesResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverupdate.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverupdate.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -185,7 +186,8 @@ public class GetUpdateServiceResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GetUpdateServiceResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(GetUpdateServiceResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(GetUpdateServiceResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GetUpdateServiceResponse>() {
@@ -264,6 +266,51 @@ public class GetUpdateServiceResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<GetUpdateServiceResponse> {
+		private final TypeAdapter<Boolean> booleanAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "GetUpdateServiceResponse");
+			booleanAdapter = gson.getAdapter(Boolean.class);
+		}
+
+		@Override
+		protected GetUpdateServiceResponse newInstance() {
+			return new GetUpdateServiceResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, GetUpdateServiceResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ENABLED:
+					instance.enabled = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GetUpdateServiceResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ENABLED, value.enabled, booleanAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(GetUpdateServiceResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GetUpdateServiceResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GetUpdateServiceResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverupdate.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverupdate.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -213,7 +214,8 @@ public class GetUpdatesListResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GetUpdatesListResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(GetUpdatesListResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(GetUpdatesListResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GetUpdatesListResponse>() {
@@ -292,6 +294,51 @@ public class GetUpdatesListResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<GetUpdatesListResponse> {
+		private final TypeAdapter<List<Update>> updateListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "GetUpdatesListResponse");
+			updateListAdapter = getAdapter(List.class, Update.class);
+		}
+
+		@Override
+		protected GetUpdatesListResponse newInstance() {
+			return new GetUpdatesListResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, GetUpdatesListResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, updateListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GetUpdatesListResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, updateListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(GetUpdatesListResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GetUpdatesListResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GetUpdatesListResponse given an JSON string
 	 *
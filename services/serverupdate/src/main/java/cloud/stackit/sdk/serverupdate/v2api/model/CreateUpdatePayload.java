@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverupdate.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverupdate.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -231,7 +232,7 @@ public class CreateUpdatePayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateUpdatePayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateUpdatePayload.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(CreateUpdatePayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateUpdatePayload>() {
@@ -310,6 +311,63 @@ public class CreateUpdatePayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<CreateUpdatePayload> {
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateUpdatePayload", SERIALIZED_NAME_MAINTENANCE_WINDOW);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+		}
+
+		@Override
+		protected CreateUpdatePayload newInstance() {
+			return new CreateUpdatePayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateUpdatePayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_BACKUP_BEFORE_UPDATE:
+					instance.backupBeforeUpdate = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MAINTENANCE_WINDOW:
+					instance.maintenanceWindow = readPrimitive(in, name, integerAdapter);
+					return requiredField(0);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateUpdatePayload value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_BACKUP_BEFORE_UPDATE,
+					value.backupBeforeUpdate,
+					booleanAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_MAINTENANCE_WINDOW,
+					value.maintenanceWindow,
+					integerAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateUpdatePayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateUpdatePayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateUpdatePayload given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverupdate.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverupdate.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -238,7 +239,7 @@ public class ErrorResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ErrorResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ErrorResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ErrorResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ErrorResponse>() {
@@ -316,6 +317,53 @@ public class ErrorResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ErrorResponse> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ErrorResponse", SERIALIZED_NAME_MESSAGE, SERIALIZED_NAME_STATUS);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected ErrorResponse newInstance() {
+			return new ErrorResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ErrorResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_MESSAGE:
+					instance.message = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.message);
+				case SERIALIZED_NAME_STATUS:
+					instance.status = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.status);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ErrorResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_MESSAGE, value.message, stringAdapter);
+			writeField(out, SERIALIZED_NAME_STATUS, value.status, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ErrorResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ErrorResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ErrorResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverupdate.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverupdate.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -214,7 +215,8 @@ public class GetUpdateSchedulesResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GetUpdateSchedulesResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(GetUpdateSchedulesResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(GetUpdateSchedulesResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GetUpdateSchedulesResponse>() {
@@ -293,6 +295,51 @@ public class GetUpdateSchedulesResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<GetUpdateSchedulesResponse> {
+		private final TypeAdapter<List<UpdateSchedule>> updateScheduleListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "GetUpdateSchedulesResponse");
+			updateScheduleListAdapter = getAdapter(List.class, UpdateSchedule.class);
+		}
+
+		@Override
+		protected GetUpdateSchedulesResponse newInstance() {
+			return new GetUpdateSchedulesResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, GetUpdateSchedulesResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ITEMS:
+					instance.items = readArray(in, name, updateScheduleListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GetUpdateSchedulesResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ITEMS, value.items, updateScheduleListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(GetUpdateSchedulesResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GetUpdateSchedulesResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GetUpdateSchedulesResponse given an JSON string
 	 *
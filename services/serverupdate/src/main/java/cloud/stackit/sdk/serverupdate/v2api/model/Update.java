@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.serverupdate.v2api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.serverupdate.v2api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -398,7 +399,7 @@ public class Update {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Update> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Update.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Update.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Update>() {
@@ -476,6 +477,79 @@ public class Update {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Update> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"Update",
+					SERIALIZED_NAME_ID,
+					SERIALIZED_NAME_START_DATE,
+					SERIALIZED_NAME_STATUS);
+			stringAdapter = gson.getAdapter(String.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+		}
+
+		@Override
+		protected Update newInstance() {
+			return new Update();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Update instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_END_DATE:
+					instance.endDate = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_FAIL_REASON:
+					instance.failReason = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_FAILED_UPDATES:
+					instance.failedUpdates = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, integerAdapter);
+					return requiredField(0);
+				case SERIALIZED_NAME_INSTALLED_UPDATES:
+					instance.installedUpdates = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_START_DATE:
+					instance.startDate = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.startDate);
+				case SERIALIZED_NAME_STATUS:
+					instance.status = readPrimitive(in, name, stringAdapter);
+					return requiredField(2, instance.status);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Update value) throws IOException {
+			writeField(out, SERIALIZED_NAME_END_DATE, value.endDate, stringAdapter);
+			writeField(out, SERIALIZED_NAME_FAIL_REASON, value.failReason, stringAdapter);
+			writeField(out, SERIALIZED_NAME_FAILED_UPDATES, value.failedUpdates, integerAdapter);
+			writeField(out, SERIALIZED_NAME_ID, value.id, integerAdapter);
+			writeField(
+					out, SERIALIZED_NAME_INSTALLED_UPDATES, value.installedUpdates, integerAdapter);
+			writeField(out, SERIALIZED_NAME_START_DATE, value.startDate, stringAdapter);
+			writeField(out, SERIALIZED_NAME_STATUS, value.status, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Update value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Update instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Update given an JSON string
 	 *
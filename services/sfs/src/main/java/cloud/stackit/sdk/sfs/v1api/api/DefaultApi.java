@@ -56,6 +56,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import okhttp3.OkHttpClient;
 
 // Package-private access to enforce service-specific API usage (DefaultApi => <ServiceName>Api)
@@ -344,6 +345,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create Resource Pool (asynchronously) Create a Resource Pool in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param createResourcePoolPayload (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<CreateResourcePoolResponse> createResourcePoolFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreateResourcePoolPayload createResourcePoolPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createResourcePoolValidateBeforeCall(
+							projectId, region, createResourcePoolPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<CreateResourcePoolResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createResourcePoolSnapshot
 	 *
@@ -583,6 +618,47 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create Resource Pool Snapshot (asynchronously) Creates a Snapshot of a Resource Pool in a
+	 * project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @param createResourcePoolSnapshotPayload (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<CreateResourcePoolSnapshotResponse> createResourcePoolSnapshotFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId,
+			@javax.annotation.Nonnull CreateResourcePoolSnapshotPayload createResourcePoolSnapshotPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createResourcePoolSnapshotValidateBeforeCall(
+							projectId,
+							region,
+							resourcePoolId,
+							createResourcePoolSnapshotPayload,
+							null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<CreateResourcePoolSnapshotResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createShare
 	 *
@@ -810,6 +886,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create Share (asynchronously) Creates a Share in a Resource Pool in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @param createSharePayload (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<CreateShareResponse> createShareFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId,
+			@javax.annotation.Nonnull CreateSharePayload createSharePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createShareValidateBeforeCall(
+							projectId, region, resourcePoolId, createSharePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<CreateShareResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createShareExportPolicy
 	 *
@@ -1022,6 +1134,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create Share Export Policy (asynchronously) Creates a ShareExportPolicy in a Resource Pool in
+	 * a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param createShareExportPolicyPayload (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<CreateShareExportPolicyResponse> createShareExportPolicyFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreateShareExportPolicyPayload createShareExportPolicyPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createShareExportPolicyValidateBeforeCall(
+							projectId, region, createShareExportPolicyPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<CreateShareExportPolicyResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteResourcePool
 	 *
@@ -1232,6 +1379,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Resource Pool (asynchronously) Deletes a Resource Pool in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Object> deleteResourcePoolFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteResourcePoolValidateBeforeCall(projectId, region, resourcePoolId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Object>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteResourcePoolSnapshot
 	 *
@@ -1465,6 +1645,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Resource Pool Snapshot (asynchronously) Deletes a Snapshot from a Resource Pool in a
+	 * project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @param snapshotName (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Object> deleteResourcePoolSnapshotFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId,
+			@javax.annotation.Nonnull String snapshotName) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteResourcePoolSnapshotValidateBeforeCall(
+							projectId, region, resourcePoolId, snapshotName, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Object>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteShare
 	 *
@@ -1694,6 +1911,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Share (asynchronously) Deletes a Shares in a Resource Pool in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @param shareId (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Object> deleteShareFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId,
+			@javax.annotation.Nonnull String shareId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteShareValidateBeforeCall(projectId, region, resourcePoolId, shareId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Object>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteShareExportPolicy
 	 *
@@ -1905,6 +2157,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Share Export Policy (asynchronously) Deletes a ShareExportPolicies in a Resource Pool
+	 * in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param policyId (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Object> deleteShareExportPolicyFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String policyId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteShareExportPolicyValidateBeforeCall(projectId, region, policyId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Object>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for disableLock
 	 *
@@ -2082,6 +2368,33 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * (asynchronously) Clean up locks for a project so that it can be deleted successfully.
+	 *
+	 * @param region (required)
+	 * @param projectId (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 0 </td><td> Default error response </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Object> disableLockFuture(
+			@javax.annotation.Nonnull String region, @javax.annotation.Nonnull String projectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = disableLockValidateBeforeCall(region, projectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Object>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for enableLock
 	 *
@@ -2262,6 +2575,34 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * (asynchronously) Enable Lock for a project. Necessary for immutable snapshots and to prevent
+	 * accidental deletion of resources.
+	 *
+	 * @param region (required)
+	 * @param projectId (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 0 </td><td> Default error response </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<EnableLockResponse> enableLockFuture(
+			@javax.annotation.Nonnull String region, @javax.annotation.Nonnull String projectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = enableLockValidateBeforeCall(region, projectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<EnableLockResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getLock
 	 *
@@ -2435,6 +2776,32 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * (asynchronously) Get lock status for a project.
+	 *
+	 * @param region (required)
+	 * @param projectId (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetLockResponse> getLockFuture(
+			@javax.annotation.Nonnull String region, @javax.annotation.Nonnull String projectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getLockValidateBeforeCall(region, projectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetLockResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getResourcePool
 	 *
@@ -2646,15 +3013,13 @@ class DefaultApi {
 	}
 
 	/**
-	 * Build call for getResourcePoolSnapshot
+	 * Get Resource Pool (asynchronously) Retrieves a Resource Pool in a project.
 	 *
 	 * @param projectId (required)
 	 * @param region (required)
 	 * @param resourcePoolId (required)
-	 * @param snapshotName (required)
-	 * @param _callback Callback for upload/download progress
-	 * @return Call to execute
-	 * @throws ApiException If fail to serialize the request body object
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
 	 * @http.response.details
 	 *     <table border="1">
 	 * <caption>Response Details</caption>
@@ -2665,16 +3030,51 @@ class DefaultApi {
 	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
 	 * </table>
 	 */
-	public okhttp3.Call getResourcePoolSnapshotCall(
+	public CompletableFuture<GetResourcePoolResponse> getResourcePoolFuture(
 			@javax.annotation.Nonnull String projectId,
 			@javax.annotation.Nonnull String region,
-			@javax.annotation.Nonnull String resourcePoolId,
-			@javax.annotation.Nonnull String snapshotName,
-			final ApiCallback _callback)
-			throws ApiException {
-		String basePath = null;
-		// Operation Servers
-		String[] localBasePaths = new String[] {};
+			@javax.annotation.Nonnull String resourcePoolId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getResourcePoolValidateBeforeCall(projectId, region, resourcePoolId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetResourcePoolResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
+	/**
+	 * Build call for getResourcePoolSnapshot
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @param snapshotName (required)
+	 * @param _callback Callback for upload/download progress
+	 * @return Call to execute
+	 * @throws ApiException If fail to serialize the request body object
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public okhttp3.Call getResourcePoolSnapshotCall(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId,
+			@javax.annotation.Nonnull String snapshotName,
+			final ApiCallback _callback)
+			throws ApiException {
+		String basePath = null;
+		// Operation Servers
+		String[] localBasePaths = new String[] {};
 
 		// Determine Base Path to Use
 		if (localCustomBaseUrl != null) {
@@ -2878,6 +3278,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Resource Pool Snapshot (asynchronously) Retrieves a Snapshot from a Resource Pool in a
+	 * project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @param snapshotName (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetResourcePoolSnapshotResponse> getResourcePoolSnapshotFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId,
+			@javax.annotation.Nonnull String snapshotName) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getResourcePoolSnapshotValidateBeforeCall(
+							projectId, region, resourcePoolId, snapshotName, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetResourcePoolSnapshotResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getSchedule
 	 *
@@ -3066,6 +3503,36 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * (asynchronously) Get Schedule
+	 *
+	 * @param projectId (required)
+	 * @param id (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 0 </td><td> Default error response </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<GetScheduleResponse> getScheduleFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String id) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getScheduleValidateBeforeCall(projectId, id, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetScheduleResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getShare
 	 *
@@ -3294,6 +3761,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Share (asynchronously) Retrieves a Shares in a Resource Pool in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @param shareId (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetShareResponse> getShareFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId,
+			@javax.annotation.Nonnull String shareId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getShareValidateBeforeCall(projectId, region, resourcePoolId, shareId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetShareResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getShareExportPolicy
 	 *
@@ -3505,6 +4007,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Share Export Policy (asynchronously) Retrieves a ShareExportPolicies in a Resource Pool
+	 * in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param policyId (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetShareExportPolicyResponse> getShareExportPolicyFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String policyId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getShareExportPolicyValidateBeforeCall(projectId, region, policyId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetShareExportPolicyResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getSnapshotPolicy
 	 *
@@ -3681,6 +4217,33 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * (asynchronously) Get Snapshot Policy
+	 *
+	 * @param projectId (required)
+	 * @param id (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 0 </td><td> Default error response </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetSnapshotPolicyResponse> getSnapshotPolicyFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String id) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = getSnapshotPolicyValidateBeforeCall(projectId, id, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetSnapshotPolicyResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listPerformanceClasses
 	 *
@@ -3830,6 +4393,32 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List Resource Performance Classes (asynchronously) Lists all performances classes available
+	 *
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListPerformanceClassesResponse> listPerformanceClassesFuture() {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listPerformanceClassesValidateBeforeCall(null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListPerformanceClassesResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listResourcePoolSnapshots
 	 *
@@ -4043,6 +4632,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List Resource Pool Snapshots (asynchronously) Lists the Snapshots of a Resource Pool in a
+	 * project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListResourcePoolSnapshotsResponse> listResourcePoolSnapshotsFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listResourcePoolSnapshotsValidateBeforeCall(
+							projectId, region, resourcePoolId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListResourcePoolSnapshotsResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listResourcePools
 	 *
@@ -4232,6 +4856,35 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List Resource Pools (asynchronously) Lists Resource Pools in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListResourcePoolsResponse> listResourcePoolsFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listResourcePoolsValidateBeforeCall(projectId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListResourcePoolsResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listSchedules
 	 *
@@ -4402,6 +5055,35 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * (asynchronously) List Schedules
+	 *
+	 * @param projectId (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 0 </td><td> Default error response </td><td>  -  </td></tr>
+	 * </table>
+	 *
+	 * @deprecated
+	 */
+	@Deprecated
+	public CompletableFuture<ListSchedulesResponse> listSchedulesFuture(
+			@javax.annotation.Nonnull String projectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listSchedulesValidateBeforeCall(projectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListSchedulesResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listShareExportPolicies
 	 *
@@ -4593,6 +5275,36 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List Share Export Policies (asynchronously) Lists ShareExportPolicies in a Resource Pool in a
+	 * project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListShareExportPoliciesResponse> listShareExportPoliciesFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listShareExportPoliciesValidateBeforeCall(projectId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListShareExportPoliciesResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listShares
 	 *
@@ -4803,6 +5515,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List Shares (asynchronously) Lists Shares in a Resource Pool in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListSharesResponse> listSharesFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listSharesValidateBeforeCall(projectId, region, resourcePoolId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListSharesResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listSnapshotPolicies
 	 *
@@ -4980,6 +5724,34 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * (asynchronously) List Snapshot Policies
+	 *
+	 * @param projectId (required)
+	 * @param immutable (optional)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 0 </td><td> Default error response </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListSnapshotPoliciesResponse> listSnapshotPoliciesFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nullable Boolean immutable) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listSnapshotPoliciesValidateBeforeCall(projectId, immutable, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListSnapshotPoliciesResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateResourcePool
 	 *
@@ -5209,6 +5981,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update Resource Pool (asynchronously) Updates a Resource Pool in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @param updateResourcePoolPayload (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<UpdateResourcePoolResponse> updateResourcePoolFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId,
+			@javax.annotation.Nonnull UpdateResourcePoolPayload updateResourcePoolPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateResourcePoolValidateBeforeCall(
+							projectId, region, resourcePoolId, updateResourcePoolPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<UpdateResourcePoolResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateResourcePoolSnapshot
 	 *
@@ -5481,6 +6289,50 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update Resource Pool Snapshot (asynchronously) Updates a Snapshot from a Resource Pool in a
+	 * project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @param snapshotName (required)
+	 * @param updateResourcePoolSnapshotPayload (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<UpdateResourcePoolSnapshotResponse> updateResourcePoolSnapshotFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId,
+			@javax.annotation.Nonnull String snapshotName,
+			@javax.annotation.Nonnull UpdateResourcePoolSnapshotPayload updateResourcePoolSnapshotPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateResourcePoolSnapshotValidateBeforeCall(
+							projectId,
+							region,
+							resourcePoolId,
+							snapshotName,
+							updateResourcePoolSnapshotPayload,
+							null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<UpdateResourcePoolSnapshotResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateShare
 	 *
@@ -5728,6 +6580,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update Share (asynchronously) Updates a Shares in a Resource Pool in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @param shareId (required)
+	 * @param updateSharePayload (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<UpdateShareResponse> updateShareFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId,
+			@javax.annotation.Nonnull String shareId,
+			@javax.annotation.Nonnull UpdateSharePayload updateSharePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateShareValidateBeforeCall(
+							projectId, region, resourcePoolId, shareId, updateSharePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<UpdateShareResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateShareExportPolicy
 	 *
@@ -5957,4 +6847,41 @@ class DefaultApi {
 		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
 		return localVarCall;
 	}
+
+	/**
+	 * Update Share Export Policy (asynchronously) Updates a ShareExportPolicies in a Resource Pool
+	 * in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param policyId (required)
+	 * @param updateShareExportPolicyPayload (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<UpdateShareExportPolicyResponse> updateShareExportPolicyFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String policyId,
+			@javax.annotation.Nonnull UpdateShareExportPolicyPayload updateShareExportPolicyPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateShareExportPolicyValidateBeforeCall(
+							projectId, region, policyId, updateShareExportPolicyPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<UpdateShareExportPolicyResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
 }
@@ -12,7 +12,9 @@
 
 package cloud.stackit.sdk.sfs.v1api.api;
 
+import cloud.stackit.sdk.core.catalog.ReferenceCatalog;
 import cloud.stackit.sdk.core.config.CoreConfiguration;
+import cloud.stackit.sdk.sfs.v1api.model.PerformanceClass;
 import java.io.IOException;
 import okhttp3.OkHttpClient;
 
@@ -60,4 +62,15 @@ public class SfsApi extends DefaultApi {
 	public SfsApi(OkHttpClient httpClient, CoreConfiguration configuration) throws IOException {
 		super(httpClient, configuration);
 	}
+
+	/**
+	 * Returns a catalog of the performance classes, see {@link #listPerformanceClasses}. The
+	 * catalog loads them on first access and refreshes them in the background, so lookups don't
+	 * need an API call.
+	 *
+	 * @return ReferenceCatalog of the performance classes
+	 */
+	public ReferenceCatalog<PerformanceClass> listPerformanceClassesCatalog() {
+		return new ReferenceCatalog<>(() -> listPerformanceClasses().getPerformanceClasses());
+	}
 }
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -332,7 +333,7 @@ public class CreateSharePayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateSharePayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateSharePayload.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(CreateSharePayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateSharePayload>() {
@@ -411,6 +412,74 @@ public class CreateSharePayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<CreateSharePayload> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Map<String, String>> stringMapAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"CreateSharePayload",
+					SERIALIZED_NAME_NAME,
+					SERIALIZED_NAME_SPACE_HARD_LIMIT_GIGABYTES);
+			stringAdapter = gson.getAdapter(String.class);
+			stringMapAdapter = getAdapter(Map.class, String.class, String.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+		}
+
+		@Override
+		protected CreateSharePayload newInstance() {
+			return new CreateSharePayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateSharePayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_EXPORT_POLICY_NAME:
+					instance.exportPolicyName = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, stringMapAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.name);
+				case SERIALIZED_NAME_SPACE_HARD_LIMIT_GIGABYTES:
+					instance.spaceHardLimitGigabytes = readPrimitive(in, name, integerAdapter);
+					return requiredField(1);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateSharePayload value) throws IOException {
+			writeField(
+					out, SERIALIZED_NAME_EXPORT_POLICY_NAME, value.exportPolicyName, stringAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, stringMapAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_SPACE_HARD_LIMIT_GIGABYTES,
+					value.spaceHardLimitGigabytes,
+					integerAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateSharePayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateSharePayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateSharePayload given an JSON string
 	 *
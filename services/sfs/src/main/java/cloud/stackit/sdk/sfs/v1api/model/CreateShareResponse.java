@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -188,7 +189,7 @@ public class CreateShareResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateShareResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateShareResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(CreateShareResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateShareResponse>() {
@@ -267,6 +268,49 @@ public class CreateShareResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<CreateShareResponse> {
+		private final TypeAdapter<Share> shareAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateShareResponse");
+			shareAdapter = gson.getAdapter(Share.class);
+		}
+
+		@Override
+		protected CreateShareResponse newInstance() {
+			return new CreateShareResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateShareResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_SHARE:
+					instance.share = readValue(in, shareAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateShareResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_SHARE, value.share, shareAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateShareResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateShareResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateShareResponse given an JSON string
 	 *
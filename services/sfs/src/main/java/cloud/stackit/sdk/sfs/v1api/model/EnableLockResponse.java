@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -192,7 +193,7 @@ public class EnableLockResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<EnableLockResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(EnableLockResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(EnableLockResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<EnableLockResponse>() {
@@ -271,6 +272,49 @@ public class EnableLockResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<EnableLockResponse> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "EnableLockResponse");
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected EnableLockResponse newInstance() {
+			return new EnableLockResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, EnableLockResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_LOCK_ID:
+					instance.lockId = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, EnableLockResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_LOCK_ID, value.lockId, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(EnableLockResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				EnableLockResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of EnableLockResponse given an JSON string
 	 *
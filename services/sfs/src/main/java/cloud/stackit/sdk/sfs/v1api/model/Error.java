@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -286,7 +287,7 @@ public class Error {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Error> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Error.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Error.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Error>() {
@@ -364,6 +365,58 @@ public class Error {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Error> {
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "Error", SERIALIZED_NAME_TITLE, SERIALIZED_NAME_TYPE);
+			objectAdapter = gson.getAdapter(Object.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected Error newInstance() {
+			return new Error();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Error instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ERROR_DESCRIPTION:
+					instance.errorDescription = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_TITLE:
+					instance.title = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.title);
+				case SERIALIZED_NAME_TYPE:
+					instance.type = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.type);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Error value) throws IOException {
+			writeField(
+					out, SERIALIZED_NAME_ERROR_DESCRIPTION, value.errorDescription, objectAdapter);
+			writeField(out, SERIALIZED_NAME_TITLE, value.title, stringAdapter);
+			writeField(out, SERIALIZED_NAME_TYPE, value.type, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Error value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Error instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Error given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -191,7 +192,7 @@ public class GetLockResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GetLockResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(GetLockResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(GetLockResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GetLockResponse>() {
@@ -270,6 +271,49 @@ public class GetLockResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<GetLockResponse> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "GetLockResponse");
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected GetLockResponse newInstance() {
+			return new GetLockResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, GetLockResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_LOCK_ID:
+					instance.lockId = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GetLockResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_LOCK_ID, value.lockId, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(GetLockResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GetLockResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GetLockResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -190,7 +191,8 @@ public class GetResourcePoolResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GetResourcePoolResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(GetResourcePoolResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(GetResourcePoolResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GetResourcePoolResponse>() {
@@ -269,6 +271,51 @@ public class GetResourcePoolResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<GetResourcePoolResponse> {
+		private final TypeAdapter<ResourcePool> resourcePoolAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "GetResourcePoolResponse");
+			resourcePoolAdapter = gson.getAdapter(ResourcePool.class);
+		}
+
+		@Override
+		protected GetResourcePoolResponse newInstance() {
+			return new GetResourcePoolResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, GetResourcePoolResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_RESOURCE_POOL:
+					instance.resourcePool = readValue(in, resourcePoolAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GetResourcePoolResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_RESOURCE_POOL, value.resourcePool, resourcePoolAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(GetResourcePoolResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GetResourcePoolResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GetResourcePoolResponse given an JSON string
 	 *
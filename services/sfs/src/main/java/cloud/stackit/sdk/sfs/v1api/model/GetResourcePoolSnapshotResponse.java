@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -199,8 +200,8 @@ public class GetResourcePoolSnapshotResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GetResourcePoolSnapshotResponse> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(GetResourcePoolSnapshotResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(GetResourcePoolSnapshotResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GetResourcePoolSnapshotResponse>() {
@@ -281,6 +282,57 @@ public class GetResourcePoolSnapshotResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<GetResourcePoolSnapshotResponse> {
+		private final TypeAdapter<ResourcePoolSnapshot> resourcePoolSnapshotAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "GetResourcePoolSnapshotResponse");
+			resourcePoolSnapshotAdapter = gson.getAdapter(ResourcePoolSnapshot.class);
+		}
+
+		@Override
+		protected GetResourcePoolSnapshotResponse newInstance() {
+			return new GetResourcePoolSnapshotResponse();
+		}
+
+		@Override
+		protected int readField(
+				JsonReader in, String name, GetResourcePoolSnapshotResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_RESOURCE_POOL_SNAPSHOT:
+					instance.resourcePoolSnapshot = readValue(in, resourcePoolSnapshotAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GetResourcePoolSnapshotResponse value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_RESOURCE_POOL_SNAPSHOT,
+					value.resourcePoolSnapshot,
+					resourcePoolSnapshotAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				GetResourcePoolSnapshotResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GetResourcePoolSnapshotResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GetResourcePoolSnapshotResponse given an JSON string
 	 *
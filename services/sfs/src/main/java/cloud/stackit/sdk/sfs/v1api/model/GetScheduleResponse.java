@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -188,7 +189,7 @@ public class GetScheduleResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GetScheduleResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(GetScheduleResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(GetScheduleResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GetScheduleResponse>() {
@@ -267,6 +268,49 @@ public class GetScheduleResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<GetScheduleResponse> {
+		private final TypeAdapter<Schedule> scheduleAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "GetScheduleResponse");
+			scheduleAdapter = gson.getAdapter(Schedule.class);
+		}
+
+		@Override
+		protected GetScheduleResponse newInstance() {
+			return new GetScheduleResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, GetScheduleResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_SCHEDULE:
+					instance.schedule = readValue(in, scheduleAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GetScheduleResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_SCHEDULE, value.schedule, scheduleAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(GetScheduleResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GetScheduleResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GetScheduleResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -198,8 +199,8 @@ public class GetShareExportPolicyResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GetShareExportPolicyResponse> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(GetShareExportPolicyResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(GetShareExportPolicyResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GetShareExportPolicyResponse>() {
@@ -279,6 +280,55 @@ public class GetShareExportPolicyResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<GetShareExportPolicyResponse> {
+		private final TypeAdapter<ShareExportPolicy> shareExportPolicyAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "GetShareExportPolicyResponse");
+			shareExportPolicyAdapter = gson.getAdapter(ShareExportPolicy.class);
+		}
+
+		@Override
+		protected GetShareExportPolicyResponse newInstance() {
+			return new GetShareExportPolicyResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, GetShareExportPolicyResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_SHARE_EXPORT_POLICY:
+					instance.shareExportPolicy = readValue(in, shareExportPolicyAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GetShareExportPolicyResponse value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_SHARE_EXPORT_POLICY,
+					value.shareExportPolicy,
+					shareExportPolicyAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(GetShareExportPolicyResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GetShareExportPolicyResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GetShareExportPolicyResponse given an JSON string
 	 *
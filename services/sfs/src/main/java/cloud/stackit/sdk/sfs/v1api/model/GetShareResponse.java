@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -187,7 +188,7 @@ public class GetShareResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GetShareResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(GetShareResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(GetShareResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GetShareResponse>() {
@@ -266,6 +267,49 @@ public class GetShareResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<GetShareResponse> {
+		private final TypeAdapter<Share> shareAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "GetShareResponse");
+			shareAdapter = gson.getAdapter(Share.class);
+		}
+
+		@Override
+		protected GetShareResponse newInstance() {
+			return new GetShareResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, GetShareResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_SHARE:
+					instance.share = readValue(in, shareAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GetShareResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_SHARE, value.share, shareAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(GetShareResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GetShareResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GetShareResponse given an JSON string
 	 *
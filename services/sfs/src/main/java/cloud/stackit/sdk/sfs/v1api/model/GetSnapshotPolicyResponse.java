@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -190,7 +191,8 @@ public class GetSnapshotPolicyResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<GetSnapshotPolicyResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(GetSnapshotPolicyResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(GetSnapshotPolicyResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<GetSnapshotPolicyResponse>() {
@@ -269,6 +271,55 @@ public class GetSnapshotPolicyResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<GetSnapshotPolicyResponse> {
+		private final TypeAdapter<SnapshotPolicy> snapshotPolicyAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "GetSnapshotPolicyResponse");
+			snapshotPolicyAdapter = gson.getAdapter(SnapshotPolicy.class);
+		}
+
+		@Override
+		protected GetSnapshotPolicyResponse newInstance() {
+			return new GetSnapshotPolicyResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, GetSnapshotPolicyResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_SNAPSHOT_POLICY:
+					instance.snapshotPolicy = readValue(in, snapshotPolicyAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, GetSnapshotPolicyResponse value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_SNAPSHOT_POLICY,
+					value.snapshotPolicy,
+					snapshotPolicyAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(GetSnapshotPolicyResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				GetSnapshotPolicyResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of GetSnapshotPolicyResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -224,8 +225,8 @@ public class ListPerformanceClassesResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ListPerformanceClassesResponse> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(ListPerformanceClassesResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(ListPerformanceClassesResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ListPerformanceClassesResponse>() {
@@ -306,6 +307,56 @@ public class ListPerformanceClassesResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<ListPerformanceClassesResponse> {
+		private final TypeAdapter<List<PerformanceClass>> performanceClassListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ListPerformanceClassesResponse");
+			performanceClassListAdapter = getAdapter(List.class, PerformanceClass.class);
+		}
+
+		@Override
+		protected ListPerformanceClassesResponse newInstance() {
+			return new ListPerformanceClassesResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ListPerformanceClassesResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_PERFORMANCE_CLASSES:
+					instance.performanceClasses = readArray(in, name, performanceClassListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ListPerformanceClassesResponse value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_PERFORMANCE_CLASSES,
+					value.performanceClasses,
+					performanceClassListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				ListPerformanceClassesResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ListPerformanceClassesResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ListPerformanceClassesResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -227,8 +228,8 @@ public class ListResourcePoolSnapshotsResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ListResourcePoolSnapshotsResponse> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(ListResourcePoolSnapshotsResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(ListResourcePoolSnapshotsResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ListResourcePoolSnapshotsResponse>() {
@@ -309,6 +310,58 @@ public class ListResourcePoolSnapshotsResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<ListResourcePoolSnapshotsResponse> {
+		private final TypeAdapter<List<ResourcePoolSnapshot>> resourcePoolSnapshotListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ListResourcePoolSnapshotsResponse");
+			resourcePoolSnapshotListAdapter = getAdapter(List.class, ResourcePoolSnapshot.class);
+		}
+
+		@Override
+		protected ListResourcePoolSnapshotsResponse newInstance() {
+			return new ListResourcePoolSnapshotsResponse();
+		}
+
+		@Override
+		protected int readField(
+				JsonReader in, String name, ListResourcePoolSnapshotsResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_RESOURCE_POOL_SNAPSHOTS:
+					instance.resourcePoolSnapshots =
+							readArray(in, name, resourcePoolSnapshotListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ListResourcePoolSnapshotsResponse value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_RESOURCE_POOL_SNAPSHOTS,
+					value.resourcePoolSnapshots,
+					resourcePoolSnapshotListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				ListResourcePoolSnapshotsResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ListResourcePoolSnapshotsResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ListResourcePoolSnapshotsResponse given an JSON string
 	 *
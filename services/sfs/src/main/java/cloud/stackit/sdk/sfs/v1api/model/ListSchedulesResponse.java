@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -213,7 +214,7 @@ public class ListSchedulesResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ListSchedulesResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ListSchedulesResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ListSchedulesResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ListSchedulesResponse>() {
@@ -292,6 +293,50 @@ public class ListSchedulesResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<ListSchedulesResponse> {
+		private final TypeAdapter<List<Schedule>> scheduleListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ListSchedulesResponse");
+			scheduleListAdapter = getAdapter(List.class, Schedule.class);
+		}
+
+		@Override
+		protected ListSchedulesResponse newInstance() {
+			return new ListSchedulesResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ListSchedulesResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_SCHEDULES:
+					instance.schedules = readArray(in, name, scheduleListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ListSchedulesResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_SCHEDULES, value.schedules, scheduleListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ListSchedulesResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ListSchedulesResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ListSchedulesResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -221,8 +222,8 @@ public class ListSnapshotPoliciesResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ListSnapshotPoliciesResponse> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(ListSnapshotPoliciesResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(ListSnapshotPoliciesResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ListSnapshotPoliciesResponse>() {
@@ -302,6 +303,55 @@ public class ListSnapshotPoliciesResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<ListSnapshotPoliciesResponse> {
+		private final TypeAdapter<List<SnapshotPolicy>> snapshotPolicyListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ListSnapshotPoliciesResponse");
+			snapshotPolicyListAdapter = getAdapter(List.class, SnapshotPolicy.class);
+		}
+
+		@Override
+		protected ListSnapshotPoliciesResponse newInstance() {
+			return new ListSnapshotPoliciesResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ListSnapshotPoliciesResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_SNAPSHOT_POLICIES:
+					instance.snapshotPolicies = readArray(in, name, snapshotPolicyListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ListSnapshotPoliciesResponse value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_SNAPSHOT_POLICIES,
+					value.snapshotPolicies,
+					snapshotPolicyListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ListSnapshotPoliciesResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ListSnapshotPoliciesResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ListSnapshotPoliciesResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -246,8 +247,8 @@ public class ResourcePoolPerformanceClass {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ResourcePoolPerformanceClass> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(ResourcePoolPerformanceClass.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(ResourcePoolPerformanceClass.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ResourcePoolPerformanceClass>() {
@@ -327,6 +328,61 @@ public class ResourcePoolPerformanceClass {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<ResourcePoolPerformanceClass> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ResourcePoolPerformanceClass");
+			stringAdapter = gson.getAdapter(String.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+		}
+
+		@Override
+		protected ResourcePoolPerformanceClass newInstance() {
+			return new ResourcePoolPerformanceClass();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ResourcePoolPerformanceClass instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PEAK_IOPS:
+					instance.peakIops = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_THROUGHPUT:
+					instance.throughput = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ResourcePoolPerformanceClass value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PEAK_IOPS, value.peakIops, integerAdapter);
+			writeField(out, SERIALIZED_NAME_THROUGHPUT, value.throughput, integerAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ResourcePoolPerformanceClass value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ResourcePoolPerformanceClass instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ResourcePoolPerformanceClass given an JSON string
 	 *
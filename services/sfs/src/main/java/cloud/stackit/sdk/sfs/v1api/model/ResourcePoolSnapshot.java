@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -403,7 +404,7 @@ public class ResourcePoolSnapshot {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ResourcePoolSnapshot> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ResourcePoolSnapshot.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ResourcePoolSnapshot.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ResourcePoolSnapshot>() {
@@ -482,6 +483,85 @@ public class ResourcePoolSnapshot {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ResourcePoolSnapshot> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ResourcePoolSnapshot");
+			stringAdapter = gson.getAdapter(String.class);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+		}
+
+		@Override
+		protected ResourcePoolSnapshot newInstance() {
+			return new ResourcePoolSnapshot();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ResourcePoolSnapshot instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_COMMENT:
+					instance.comment = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_CREATED_AT:
+					instance.createdAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LOGICAL_SIZE_GIGABYTES:
+					instance.logicalSizeGigabytes = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_RESOURCE_POOL_ID:
+					instance.resourcePoolId = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SIZE_GIGABYTES:
+					instance.sizeGigabytes = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SNAPLOCK_EXPIRY_TIME:
+					instance.snaplockExpiryTime = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SNAPSHOT_NAME:
+					instance.snapshotName = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ResourcePoolSnapshot value) throws IOException {
+			writeField(out, SERIALIZED_NAME_COMMENT, value.comment, stringAdapter);
+			writeField(out, SERIALIZED_NAME_CREATED_AT, value.createdAt, offsetDateTimeAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_LOGICAL_SIZE_GIGABYTES,
+					value.logicalSizeGigabytes,
+					integerAdapter);
+			writeField(out, SERIALIZED_NAME_RESOURCE_POOL_ID, value.resourcePoolId, stringAdapter);
+			writeField(out, SERIALIZED_NAME_SIZE_GIGABYTES, value.sizeGigabytes, integerAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_SNAPLOCK_EXPIRY_TIME,
+					value.snaplockExpiryTime,
+					offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_SNAPSHOT_NAME, value.snapshotName, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ResourcePoolSnapshot value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ResourcePoolSnapshot instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ResourcePoolSnapshot given an JSON string
 	 *
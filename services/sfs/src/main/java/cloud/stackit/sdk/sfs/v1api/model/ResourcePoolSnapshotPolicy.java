@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -226,7 +227,8 @@ public class ResourcePoolSnapshotPolicy {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ResourcePoolSnapshotPolicy> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ResourcePoolSnapshotPolicy.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(ResourcePoolSnapshotPolicy.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ResourcePoolSnapshotPolicy>() {
@@ -305,6 +307,55 @@ public class ResourcePoolSnapshotPolicy {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<ResourcePoolSnapshotPolicy> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ResourcePoolSnapshotPolicy");
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected ResourcePoolSnapshotPolicy newInstance() {
+			return new ResourcePoolSnapshotPolicy();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ResourcePoolSnapshotPolicy instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ResourcePoolSnapshotPolicy value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_ID, value.id, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ResourcePoolSnapshotPolicy value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ResourcePoolSnapshotPolicy instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ResourcePoolSnapshotPolicy given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -297,7 +298,7 @@ public class ResourcePoolSpace {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ResourcePoolSpace> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ResourcePoolSpace.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ResourcePoolSpace.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ResourcePoolSpace>() {
@@ -376,6 +377,71 @@ public class ResourcePoolSpace {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ResourcePoolSpace> {
+		private final TypeAdapter<Double> doubleAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ResourcePoolSpace");
+			doubleAdapter = gson.getAdapter(Double.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+		}
+
+		@Override
+		protected ResourcePoolSpace newInstance() {
+			return new ResourcePoolSpace();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ResourcePoolSpace instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_AVAILABLE_GIGABYTES:
+					instance.availableGigabytes = readPrimitive(in, name, doubleAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SIZE_GIGABYTES:
+					instance.sizeGigabytes = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_USED_BY_SNAPSHOTS_GIGABYTES:
+					instance.usedBySnapshotsGigabytes = readPrimitive(in, name, doubleAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_USED_GIGABYTES:
+					instance.usedGigabytes = readPrimitive(in, name, doubleAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ResourcePoolSpace value) throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_AVAILABLE_GIGABYTES,
+					value.availableGigabytes,
+					doubleAdapter);
+			writeField(out, SERIALIZED_NAME_SIZE_GIGABYTES, value.sizeGigabytes, integerAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_USED_BY_SNAPSHOTS_GIGABYTES,
+					value.usedBySnapshotsGigabytes,
+					doubleAdapter);
+			writeField(out, SERIALIZED_NAME_USED_GIGABYTES, value.usedGigabytes, doubleAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ResourcePoolSpace value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ResourcePoolSpace instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ResourcePoolSpace given an JSON string
 	 *
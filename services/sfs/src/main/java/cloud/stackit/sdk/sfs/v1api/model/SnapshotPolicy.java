@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -444,7 +445,7 @@ public class SnapshotPolicy {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<SnapshotPolicy> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(SnapshotPolicy.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(SnapshotPolicy.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<SnapshotPolicy>() {
@@ -522,6 +523,93 @@ public class SnapshotPolicy {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<SnapshotPolicy> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<List<SnapshotPolicySchedule>> snapshotPolicyScheduleListAdapter;
+		private final TypeAdapter<List<SnapshotPolicySnapshotPolicySchedule>>
+				snapshotPolicySnapshotPolicyScheduleListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "SnapshotPolicy");
+			stringAdapter = gson.getAdapter(String.class);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			snapshotPolicyScheduleListAdapter =
+					getAdapter(List.class, SnapshotPolicySchedule.class);
+			snapshotPolicySnapshotPolicyScheduleListAdapter =
+					getAdapter(List.class, SnapshotPolicySnapshotPolicySchedule.class);
+		}
+
+		@Override
+		protected SnapshotPolicy newInstance() {
+			return new SnapshotPolicy();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, SnapshotPolicy instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_COMMENT:
+					instance.comment = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_CREATED_AT:
+					instance.createdAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ENABLED:
+					instance.enabled = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SCHEDULES:
+					instance.schedules = readArray(in, name, snapshotPolicyScheduleListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SNAPSHOT_SCHEDULES:
+					instance.snapshotSchedules =
+							readArray(in, name, snapshotPolicySnapshotPolicyScheduleListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, SnapshotPolicy value) throws IOException {
+			writeField(out, SERIALIZED_NAME_COMMENT, value.comment, stringAdapter);
+			writeField(out, SERIALIZED_NAME_CREATED_AT, value.createdAt, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_ENABLED, value.enabled, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_ID, value.id, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_SCHEDULES,
+					value.schedules,
+					snapshotPolicyScheduleListAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_SNAPSHOT_SCHEDULES,
+					value.snapshotSchedules,
+					snapshotPolicySnapshotPolicyScheduleListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(SnapshotPolicy value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				SnapshotPolicy instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of SnapshotPolicy given an JSON string
 	 *
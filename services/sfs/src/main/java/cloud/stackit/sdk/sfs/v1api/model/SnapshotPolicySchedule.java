@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -321,7 +322,8 @@ public class SnapshotPolicySchedule {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<SnapshotPolicySchedule> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(SnapshotPolicySchedule.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(SnapshotPolicySchedule.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<SnapshotPolicySchedule>() {
@@ -400,6 +402,69 @@ public class SnapshotPolicySchedule {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<SnapshotPolicySchedule> {
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "SnapshotPolicySchedule");
+			integerAdapter = gson.getAdapter(Integer.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected SnapshotPolicySchedule newInstance() {
+			return new SnapshotPolicySchedule();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, SnapshotPolicySchedule instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_COUNT:
+					instance.count = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_INTERVAL:
+					instance.interval = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PREFIX:
+					instance.prefix = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_RETENTION_PERIOD:
+					instance.retentionPeriod = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SCHEDULE_ID:
+					instance.scheduleId = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, SnapshotPolicySchedule value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_COUNT, value.count, integerAdapter);
+			writeField(out, SERIALIZED_NAME_INTERVAL, value.interval, stringAdapter);
+			writeField(out, SERIALIZED_NAME_PREFIX, value.prefix, stringAdapter);
+			writeField(out, SERIALIZED_NAME_RETENTION_PERIOD, value.retentionPeriod, stringAdapter);
+			writeField(out, SERIALIZED_NAME_SCHEDULE_ID, value.scheduleId, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(SnapshotPolicySchedule value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				SnapshotPolicySchedule instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of SnapshotPolicySchedule given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -403,7 +404,8 @@ public class UpdateResourcePoolPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateResourcePoolPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(UpdateResourcePoolPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(UpdateResourcePoolPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateResourcePoolPayload>() {
@@ -482,6 +484,85 @@ public class UpdateResourcePoolPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<UpdateResourcePoolPayload> {
+		private final TypeAdapter<List<String>> stringListAdapter;
+		private final TypeAdapter<Map<String, String>> stringMapAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateResourcePoolPayload");
+			stringListAdapter = getAdapter(List.class, String.class);
+			stringMapAdapter = getAdapter(Map.class, String.class, String.class);
+			stringAdapter = gson.getAdapter(String.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+		}
+
+		@Override
+		protected UpdateResourcePoolPayload newInstance() {
+			return new UpdateResourcePoolPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, UpdateResourcePoolPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_IP_ACL:
+					instance.ipAcl = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, stringMapAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PERFORMANCE_CLASS:
+					instance.performanceClass = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SIZE_GIGABYTES:
+					instance.sizeGigabytes = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SNAPSHOT_POLICY_ID:
+					instance.snapshotPolicyId = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SNAPSHOTS_ARE_VISIBLE:
+					instance.snapshotsAreVisible = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateResourcePoolPayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_IP_ACL, value.ipAcl, stringListAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, stringMapAdapter);
+			writeField(
+					out, SERIALIZED_NAME_PERFORMANCE_CLASS, value.performanceClass, stringAdapter);
+			writeField(out, SERIALIZED_NAME_SIZE_GIGABYTES, value.sizeGigabytes, integerAdapter);
+			writeField(
+					out, SERIALIZED_NAME_SNAPSHOT_POLICY_ID, value.snapshotPolicyId, stringAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_SNAPSHOTS_ARE_VISIBLE,
+					value.snapshotsAreVisible,
+					booleanAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(UpdateResourcePoolPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateResourcePoolPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateResourcePoolPayload given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -190,7 +191,8 @@ public class UpdateResourcePoolResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateResourcePoolResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(UpdateResourcePoolResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(UpdateResourcePoolResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateResourcePoolResponse>() {
@@ -269,6 +271,51 @@ public class UpdateResourcePoolResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<UpdateResourcePoolResponse> {
+		private final TypeAdapter<ResourcePool> resourcePoolAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateResourcePoolResponse");
+			resourcePoolAdapter = gson.getAdapter(ResourcePool.class);
+		}
+
+		@Override
+		protected UpdateResourcePoolResponse newInstance() {
+			return new UpdateResourcePoolResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, UpdateResourcePoolResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_RESOURCE_POOL:
+					instance.resourcePool = readValue(in, resourcePoolAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateResourcePoolResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_RESOURCE_POOL, value.resourcePool, resourcePoolAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(UpdateResourcePoolResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateResourcePoolResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateResourcePoolResponse given an JSON string
 	 *
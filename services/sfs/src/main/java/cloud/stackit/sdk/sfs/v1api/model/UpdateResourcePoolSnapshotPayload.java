@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -247,8 +248,8 @@ public class UpdateResourcePoolSnapshotPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateResourcePoolSnapshotPayload> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(UpdateResourcePoolSnapshotPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(UpdateResourcePoolSnapshotPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateResourcePoolSnapshotPayload>() {
@@ -329,6 +330,57 @@ public class UpdateResourcePoolSnapshotPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<UpdateResourcePoolSnapshotPayload> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateResourcePoolSnapshotPayload");
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected UpdateResourcePoolSnapshotPayload newInstance() {
+			return new UpdateResourcePoolSnapshotPayload();
+		}
+
+		@Override
+		protected int readField(
+				JsonReader in, String name, UpdateResourcePoolSnapshotPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_COMMENT:
+					instance.comment = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateResourcePoolSnapshotPayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_COMMENT, value.comment, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				UpdateResourcePoolSnapshotPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateResourcePoolSnapshotPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateResourcePoolSnapshotPayload given an JSON string
 	 *
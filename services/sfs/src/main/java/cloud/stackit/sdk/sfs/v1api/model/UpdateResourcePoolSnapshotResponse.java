@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -200,8 +201,8 @@ public class UpdateResourcePoolSnapshotResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateResourcePoolSnapshotResponse> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(UpdateResourcePoolSnapshotResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(UpdateResourcePoolSnapshotResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateResourcePoolSnapshotResponse>() {
@@ -282,6 +283,57 @@ public class UpdateResourcePoolSnapshotResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<UpdateResourcePoolSnapshotResponse> {
+		private final TypeAdapter<ResourcePoolSnapshot> resourcePoolSnapshotAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateResourcePoolSnapshotResponse");
+			resourcePoolSnapshotAdapter = gson.getAdapter(ResourcePoolSnapshot.class);
+		}
+
+		@Override
+		protected UpdateResourcePoolSnapshotResponse newInstance() {
+			return new UpdateResourcePoolSnapshotResponse();
+		}
+
+		@Override
+		protected int readField(
+				JsonReader in, String name, UpdateResourcePoolSnapshotResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_RESOURCE_POOL_SNAPSHOT:
+					instance.resourcePoolSnapshot = readValue(in, resourcePoolSnapshotAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateResourcePoolSnapshotResponse value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_RESOURCE_POOL_SNAPSHOT,
+					value.resourcePoolSnapshot,
+					resourcePoolSnapshotAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				UpdateResourcePoolSnapshotResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateResourcePoolSnapshotResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateResourcePoolSnapshotResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -371,8 +372,8 @@ public class UpdateShareExportPolicyBodyRule {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateShareExportPolicyBodyRule> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(UpdateShareExportPolicyBodyRule.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(UpdateShareExportPolicyBodyRule.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateShareExportPolicyBodyRule>() {
@@ -453,6 +454,79 @@ public class UpdateShareExportPolicyBodyRule {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<UpdateShareExportPolicyBodyRule> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<List<String>> stringListAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateShareExportPolicyBodyRule");
+			stringAdapter = gson.getAdapter(String.class);
+			stringListAdapter = getAdapter(List.class, String.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+		}
+
+		@Override
+		protected UpdateShareExportPolicyBodyRule newInstance() {
+			return new UpdateShareExportPolicyBodyRule();
+		}
+
+		@Override
+		protected int readField(
+				JsonReader in, String name, UpdateShareExportPolicyBodyRule instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DESCRIPTION:
+					instance.description = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IP_ACL:
+					instance.ipAcl = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ORDER:
+					instance.order = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_READ_ONLY:
+					instance.readOnly = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SET_UUID:
+					instance.setUuid = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SUPER_USER:
+					instance.superUser = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateShareExportPolicyBodyRule value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_DESCRIPTION, value.description, stringAdapter);
+			writeField(out, SERIALIZED_NAME_IP_ACL, value.ipAcl, stringListAdapter);
+			writeField(out, SERIALIZED_NAME_ORDER, value.order, integerAdapter);
+			writeField(out, SERIALIZED_NAME_READ_ONLY, value.readOnly, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_SET_UUID, value.setUuid, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_SUPER_USER, value.superUser, booleanAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				UpdateShareExportPolicyBodyRule value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateShareExportPolicyBodyRule instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateShareExportPolicyBodyRule given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -198,8 +199,8 @@ public class UpdateShareExportPolicyResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateShareExportPolicyResponse> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(UpdateShareExportPolicyResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(UpdateShareExportPolicyResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateShareExportPolicyResponse>() {
@@ -280,6 +281,57 @@ public class UpdateShareExportPolicyResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<UpdateShareExportPolicyResponse> {
+		private final TypeAdapter<ShareExportPolicy> shareExportPolicyAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateShareExportPolicyResponse");
+			shareExportPolicyAdapter = gson.getAdapter(ShareExportPolicy.class);
+		}
+
+		@Override
+		protected UpdateShareExportPolicyResponse newInstance() {
+			return new UpdateShareExportPolicyResponse();
+		}
+
+		@Override
+		protected int readField(
+				JsonReader in, String name, UpdateShareExportPolicyResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_SHARE_EXPORT_POLICY:
+					instance.shareExportPolicy = readValue(in, shareExportPolicyAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateShareExportPolicyResponse value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_SHARE_EXPORT_POLICY,
+					value.shareExportPolicy,
+					shareExportPolicyAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				UpdateShareExportPolicyResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateShareExportPolicyResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateShareExportPolicyResponse given an JSON string
 	 *
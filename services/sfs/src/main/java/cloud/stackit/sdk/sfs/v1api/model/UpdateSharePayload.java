@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -283,7 +284,7 @@ public class UpdateSharePayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateSharePayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(UpdateSharePayload.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(UpdateSharePayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateSharePayload>() {
@@ -362,6 +363,66 @@ public class UpdateSharePayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<UpdateSharePayload> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Map<String, String>> stringMapAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateSharePayload");
+			stringAdapter = gson.getAdapter(String.class);
+			stringMapAdapter = getAdapter(Map.class, String.class, String.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+		}
+
+		@Override
+		protected UpdateSharePayload newInstance() {
+			return new UpdateSharePayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, UpdateSharePayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_EXPORT_POLICY_NAME:
+					instance.exportPolicyName = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, stringMapAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SPACE_HARD_LIMIT_GIGABYTES:
+					instance.spaceHardLimitGigabytes = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateSharePayload value) throws IOException {
+			writeField(
+					out, SERIALIZED_NAME_EXPORT_POLICY_NAME, value.exportPolicyName, stringAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, stringMapAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_SPACE_HARD_LIMIT_GIGABYTES,
+					value.spaceHardLimitGigabytes,
+					integerAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(UpdateSharePayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateSharePayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateSharePayload given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -339,7 +340,7 @@ public class ValidationError {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ValidationError> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ValidationError.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ValidationError.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ValidationError>() {
@@ -418,6 +419,71 @@ public class ValidationError {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ValidationError> {
+		private final TypeAdapter<Object> objectAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<List<ValidationErrorField>> validationErrorFieldListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(
+					gson,
+					"ValidationError",
+					SERIALIZED_NAME_TITLE,
+					SERIALIZED_NAME_TYPE,
+					SERIALIZED_NAME_FIELDS);
+			objectAdapter = gson.getAdapter(Object.class);
+			stringAdapter = gson.getAdapter(String.class);
+			validationErrorFieldListAdapter = getAdapter(List.class, ValidationErrorField.class);
+		}
+
+		@Override
+		protected ValidationError newInstance() {
+			return new ValidationError();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ValidationError instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_ERROR_DESCRIPTION:
+					instance.errorDescription = readValue(in, objectAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_TITLE:
+					instance.title = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.title);
+				case SERIALIZED_NAME_TYPE:
+					instance.type = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.type);
+				case SERIALIZED_NAME_FIELDS:
+					instance.fields = readArray(in, name, validationErrorFieldListAdapter);
+					return requiredField(2, instance.fields);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ValidationError value) throws IOException {
+			writeField(
+					out, SERIALIZED_NAME_ERROR_DESCRIPTION, value.errorDescription, objectAdapter);
+			writeField(out, SERIALIZED_NAME_TITLE, value.title, stringAdapter);
+			writeField(out, SERIALIZED_NAME_TYPE, value.type, stringAdapter);
+			writeField(out, SERIALIZED_NAME_FIELDS, value.fields, validationErrorFieldListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ValidationError value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ValidationError instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ValidationError given an JSON string
 	 *
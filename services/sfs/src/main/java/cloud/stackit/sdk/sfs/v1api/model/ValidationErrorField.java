@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1api.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1api.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -239,7 +240,7 @@ public class ValidationErrorField {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ValidationErrorField> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ValidationErrorField.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ValidationErrorField.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ValidationErrorField>() {
@@ -318,6 +319,53 @@ public class ValidationErrorField {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ValidationErrorField> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ValidationErrorField", SERIALIZED_NAME_FIELD, SERIALIZED_NAME_REASON);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected ValidationErrorField newInstance() {
+			return new ValidationErrorField();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ValidationErrorField instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_FIELD:
+					instance.field = readPrimitive(in, name, stringAdapter);
+					return requiredField(0, instance.field);
+				case SERIALIZED_NAME_REASON:
+					instance.reason = readPrimitive(in, name, stringAdapter);
+					return requiredField(1, instance.reason);
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ValidationErrorField value) throws IOException {
+			writeField(out, SERIALIZED_NAME_FIELD, value.field, stringAdapter);
+			writeField(out, SERIALIZED_NAME_REASON, value.reason, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ValidationErrorField value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ValidationErrorField instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ValidationErrorField given an JSON string
 	 *
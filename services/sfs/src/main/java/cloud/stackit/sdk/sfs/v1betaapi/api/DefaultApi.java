@@ -49,6 +49,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import okhttp3.OkHttpClient;
 
 // Package-private access to enforce service-specific API usage (DefaultApi => <ServiceName>Api)
@@ -337,6 +338,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create Resource Pool (asynchronously) Create a Resource Pool in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param createResourcePoolPayload (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<CreateResourcePoolResponse> createResourcePoolFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreateResourcePoolPayload createResourcePoolPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createResourcePoolValidateBeforeCall(
+							projectId, region, createResourcePoolPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<CreateResourcePoolResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createResourcePoolSnapshot
 	 *
@@ -576,6 +611,47 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create Resource Pool Snapshot (asynchronously) Creates a Snapshot of a Resource Pool in a
+	 * project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @param createResourcePoolSnapshotPayload (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<CreateResourcePoolSnapshotResponse> createResourcePoolSnapshotFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId,
+			@javax.annotation.Nonnull CreateResourcePoolSnapshotPayload createResourcePoolSnapshotPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createResourcePoolSnapshotValidateBeforeCall(
+							projectId,
+							region,
+							resourcePoolId,
+							createResourcePoolSnapshotPayload,
+							null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<CreateResourcePoolSnapshotResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createShare
 	 *
@@ -803,6 +879,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create Share (asynchronously) Creates a Share in a Resource Pool in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @param createSharePayload (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<CreateShareResponse> createShareFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId,
+			@javax.annotation.Nonnull CreateSharePayload createSharePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createShareValidateBeforeCall(
+							projectId, region, resourcePoolId, createSharePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<CreateShareResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for createShareExportPolicy
 	 *
@@ -1015,6 +1127,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Create Share Export Policy (asynchronously) Creates a ShareExportPolicy in a Resource Pool in
+	 * a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param createShareExportPolicyPayload (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<CreateShareExportPolicyResponse> createShareExportPolicyFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull CreateShareExportPolicyPayload createShareExportPolicyPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					createShareExportPolicyValidateBeforeCall(
+							projectId, region, createShareExportPolicyPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<CreateShareExportPolicyResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteResourcePool
 	 *
@@ -1225,6 +1372,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Resource Pool (asynchronously) Deletes a Resource Pool in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Object> deleteResourcePoolFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteResourcePoolValidateBeforeCall(projectId, region, resourcePoolId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Object>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteResourcePoolSnapshot
 	 *
@@ -1458,6 +1638,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Resource Pool Snapshot (asynchronously) Deletes a Snapshot from a Resource Pool in a
+	 * project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @param snapshotName (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Object> deleteResourcePoolSnapshotFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId,
+			@javax.annotation.Nonnull String snapshotName) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteResourcePoolSnapshotValidateBeforeCall(
+							projectId, region, resourcePoolId, snapshotName, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Object>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteShare
 	 *
@@ -1687,6 +1904,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Share (asynchronously) Deletes a Shares in a Resource Pool in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @param shareId (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Object> deleteShareFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId,
+			@javax.annotation.Nonnull String shareId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteShareValidateBeforeCall(projectId, region, resourcePoolId, shareId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Object>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for deleteShareExportPolicy
 	 *
@@ -1898,6 +2150,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Delete Share Export Policy (asynchronously) Deletes a ShareExportPolicies in a Resource Pool
+	 * in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param policyId (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<Object> deleteShareExportPolicyFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String policyId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					deleteShareExportPolicyValidateBeforeCall(projectId, region, policyId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<Object>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getResourcePool
 	 *
@@ -2108,6 +2394,39 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Resource Pool (asynchronously) Retrieves a Resource Pool in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetResourcePoolResponse> getResourcePoolFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getResourcePoolValidateBeforeCall(projectId, region, resourcePoolId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetResourcePoolResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getResourcePoolSnapshot
 	 *
@@ -2341,6 +2660,43 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Resource Pool Snapshot (asynchronously) Retrieves a Snapshot from a Resource Pool in a
+	 * project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @param snapshotName (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetResourcePoolSnapshotResponse> getResourcePoolSnapshotFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId,
+			@javax.annotation.Nonnull String snapshotName) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getResourcePoolSnapshotValidateBeforeCall(
+							projectId, region, resourcePoolId, snapshotName, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetResourcePoolSnapshotResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getShare
 	 *
@@ -2569,6 +2925,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Share (asynchronously) Retrieves a Shares in a Resource Pool in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @param shareId (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetShareResponse> getShareFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId,
+			@javax.annotation.Nonnull String shareId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getShareValidateBeforeCall(projectId, region, resourcePoolId, shareId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetShareResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for getShareExportPolicy
 	 *
@@ -2780,6 +3171,40 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Get Share Export Policy (asynchronously) Retrieves a ShareExportPolicies in a Resource Pool
+	 * in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param policyId (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<GetShareExportPolicyResponse> getShareExportPolicyFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String policyId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					getShareExportPolicyValidateBeforeCall(projectId, region, policyId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<GetShareExportPolicyResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listPerformanceClasses
 	 *
@@ -2929,6 +3354,32 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List Resource Performance Classes (asynchronously) Lists all performances classes available
+	 *
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListPerformanceClassesResponse> listPerformanceClassesFuture() {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listPerformanceClassesValidateBeforeCall(null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListPerformanceClassesResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listResourcePoolSnapshots
 	 *
@@ -3142,6 +3593,41 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List Resource Pool Snapshots (asynchronously) Lists the Snapshots of a Resource Pool in a
+	 * project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListResourcePoolSnapshotsResponse> listResourcePoolSnapshotsFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					listResourcePoolSnapshotsValidateBeforeCall(
+							projectId, region, resourcePoolId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListResourcePoolSnapshotsResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listResourcePools
 	 *
@@ -3331,6 +3817,35 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List Resource Pools (asynchronously) Lists Resource Pools in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListResourcePoolsResponse> listResourcePoolsFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listResourcePoolsValidateBeforeCall(projectId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListResourcePoolsResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listShareExportPolicies
 	 *
@@ -3522,6 +4037,36 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List Share Export Policies (asynchronously) Lists ShareExportPolicies in a Resource Pool in a
+	 * project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListShareExportPoliciesResponse> listShareExportPoliciesFuture(
+			@javax.annotation.Nonnull String projectId, @javax.annotation.Nonnull String region) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listShareExportPoliciesValidateBeforeCall(projectId, region, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListShareExportPoliciesResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listShares
 	 *
@@ -3732,6 +4277,38 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List Shares (asynchronously) Lists Shares in a Resource Pool in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListSharesResponse> listSharesFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listSharesValidateBeforeCall(projectId, region, resourcePoolId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListSharesResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for listSnapshotSchedules
 	 *
@@ -3900,6 +4477,34 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * List Snapshot Schedules (asynchronously) Lists snapshot schedules
+	 *
+	 * @param projectId (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<ListSnapshotSchedulesResponse> listSnapshotSchedulesFuture(
+			@javax.annotation.Nonnull String projectId) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall = listSnapshotSchedulesValidateBeforeCall(projectId, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<ListSnapshotSchedulesResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateResourcePool
 	 *
@@ -4129,6 +4734,42 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update Resource Pool (asynchronously) Updates a Resource Pool in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @param updateResourcePoolPayload (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<UpdateResourcePoolResponse> updateResourcePoolFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId,
+			@javax.annotation.Nonnull UpdateResourcePoolPayload updateResourcePoolPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateResourcePoolValidateBeforeCall(
+							projectId, region, resourcePoolId, updateResourcePoolPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<UpdateResourcePoolResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateShare
 	 *
@@ -4376,6 +5017,44 @@ class DefaultApi {
 		return localVarCall;
 	}
 
+	/**
+	 * Update Share (asynchronously) Updates a Shares in a Resource Pool in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param resourcePoolId (required)
+	 * @param shareId (required)
+	 * @param updateSharePayload (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<UpdateShareResponse> updateShareFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String resourcePoolId,
+			@javax.annotation.Nonnull String shareId,
+			@javax.annotation.Nonnull UpdateSharePayload updateSharePayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateShareValidateBeforeCall(
+							projectId, region, resourcePoolId, shareId, updateSharePayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<UpdateShareResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
+
 	/**
 	 * Build call for updateShareExportPolicy
 	 *
@@ -4605,4 +5284,41 @@ class DefaultApi {
 		localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
 		return localVarCall;
 	}
+
+	/**
+	 * Update Share Export Policy (asynchronously) Updates a ShareExportPolicies in a Resource Pool
+	 * in a project.
+	 *
+	 * @param projectId (required)
+	 * @param region (required)
+	 * @param policyId (required)
+	 * @param updateShareExportPolicyPayload (required)
+	 * @return CompletableFuture of the response body, completed exceptionally with an
+	 *     ApiException if the API call fails
+	 * @http.response.details
+	 *     <table border="1">
+	 * <caption>Response Details</caption>
+	 * <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+	 * <tr><td> 200 </td><td> OK </td><td>  -  </td></tr>
+	 * <tr><td> 400 </td><td> Some fields of the request have failed the validation procedure. </td><td>  -  </td></tr>
+	 * <tr><td> 401 </td><td> Please make sure the Authorization Header is set and uses correct credentials </td><td>  -  </td></tr>
+	 * <tr><td> 500 </td><td> Please retry again later or contact support if the issue persists </td><td>  -  </td></tr>
+	 * </table>
+	 */
+	public CompletableFuture<UpdateShareExportPolicyResponse> updateShareExportPolicyFuture(
+			@javax.annotation.Nonnull String projectId,
+			@javax.annotation.Nonnull String region,
+			@javax.annotation.Nonnull String policyId,
+			@javax.annotation.Nonnull UpdateShareExportPolicyPayload updateShareExportPolicyPayload) {
+		okhttp3.Call localVarCall;
+		try {
+			localVarCall =
+					updateShareExportPolicyValidateBeforeCall(
+							projectId, region, policyId, updateShareExportPolicyPayload, null);
+		} catch (ApiException e) {
+			return ApiClient.failedFuture(e);
+		}
+		Type localVarReturnType = new TypeToken<UpdateShareExportPolicyResponse>() {}.getType();
+		return localVarApiClient.executeFuture(localVarCall, localVarReturnType);
+	}
 }
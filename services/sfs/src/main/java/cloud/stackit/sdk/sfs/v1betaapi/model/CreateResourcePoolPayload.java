@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1betaapi.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1betaapi.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -460,7 +461,8 @@ public class CreateResourcePoolPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateResourcePoolPayload> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateResourcePoolPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateResourcePoolPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateResourcePoolPayload>() {
@@ -539,6 +541,97 @@ public class CreateResourcePoolPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateResourcePoolPayload> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<List<String>> stringListAdapter;
+		private final TypeAdapter<Map<String, String>> stringMapAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateResourcePoolPayload");
+			stringAdapter = gson.getAdapter(String.class);
+			stringListAdapter = getAdapter(List.class, String.class);
+			stringMapAdapter = getAdapter(Map.class, String.class, String.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+		}
+
+		@Override
+		protected CreateResourcePoolPayload newInstance() {
+			return new CreateResourcePoolPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateResourcePoolPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_AVAILABILITY_ZONE:
+					instance.availabilityZone = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IP_ACL:
+					instance.ipAcl = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, stringMapAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PERFORMANCE_CLASS:
+					instance.performanceClass = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SIZE_GIGABYTES:
+					instance.sizeGigabytes = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SNAPSHOT_SCHEDULE_NAME:
+					instance.snapshotScheduleName = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SNAPSHOTS_ARE_VISIBLE:
+					instance.snapshotsAreVisible = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateResourcePoolPayload value)
+				throws IOException {
+			writeField(
+					out, SERIALIZED_NAME_AVAILABILITY_ZONE, value.availabilityZone, stringAdapter);
+			writeField(out, SERIALIZED_NAME_IP_ACL, value.ipAcl, stringListAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, stringMapAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(
+					out, SERIALIZED_NAME_PERFORMANCE_CLASS, value.performanceClass, stringAdapter);
+			writeField(out, SERIALIZED_NAME_SIZE_GIGABYTES, value.sizeGigabytes, integerAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_SNAPSHOT_SCHEDULE_NAME,
+					value.snapshotScheduleName,
+					stringAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_SNAPSHOTS_ARE_VISIBLE,
+					value.snapshotsAreVisible,
+					booleanAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateResourcePoolPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateResourcePoolPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateResourcePoolPayload given an JSON string
 	 *
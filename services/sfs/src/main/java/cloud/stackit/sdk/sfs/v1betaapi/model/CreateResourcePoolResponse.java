@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1betaapi.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1betaapi.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -190,7 +191,8 @@ public class CreateResourcePoolResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateResourcePoolResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(CreateResourcePoolResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateResourcePoolResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateResourcePoolResponse>() {
@@ -269,6 +271,51 @@ public class CreateResourcePoolResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateResourcePoolResponse> {
+		private final TypeAdapter<ResourcePool> resourcePoolAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateResourcePoolResponse");
+			resourcePoolAdapter = gson.getAdapter(ResourcePool.class);
+		}
+
+		@Override
+		protected CreateResourcePoolResponse newInstance() {
+			return new CreateResourcePoolResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateResourcePoolResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_RESOURCE_POOL:
+					instance.resourcePool = readValue(in, resourcePoolAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateResourcePoolResponse value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_RESOURCE_POOL, value.resourcePool, resourcePoolAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(CreateResourcePoolResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateResourcePoolResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateResourcePoolResponse given an JSON string
 	 *
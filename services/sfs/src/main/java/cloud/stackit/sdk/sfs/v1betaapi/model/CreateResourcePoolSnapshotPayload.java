@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1betaapi.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1betaapi.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -247,8 +248,8 @@ public class CreateResourcePoolSnapshotPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateResourcePoolSnapshotPayload> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(CreateResourcePoolSnapshotPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateResourcePoolSnapshotPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateResourcePoolSnapshotPayload>() {
@@ -329,6 +330,57 @@ public class CreateResourcePoolSnapshotPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateResourcePoolSnapshotPayload> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateResourcePoolSnapshotPayload");
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected CreateResourcePoolSnapshotPayload newInstance() {
+			return new CreateResourcePoolSnapshotPayload();
+		}
+
+		@Override
+		protected int readField(
+				JsonReader in, String name, CreateResourcePoolSnapshotPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_COMMENT:
+					instance.comment = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateResourcePoolSnapshotPayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_COMMENT, value.comment, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				CreateResourcePoolSnapshotPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateResourcePoolSnapshotPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateResourcePoolSnapshotPayload given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1betaapi.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1betaapi.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -200,8 +201,8 @@ public class CreateResourcePoolSnapshotResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateResourcePoolSnapshotResponse> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(CreateResourcePoolSnapshotResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateResourcePoolSnapshotResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateResourcePoolSnapshotResponse>() {
@@ -282,6 +283,57 @@ public class CreateResourcePoolSnapshotResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateResourcePoolSnapshotResponse> {
+		private final TypeAdapter<ResourcePoolSnapshot> resourcePoolSnapshotAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateResourcePoolSnapshotResponse");
+			resourcePoolSnapshotAdapter = gson.getAdapter(ResourcePoolSnapshot.class);
+		}
+
+		@Override
+		protected CreateResourcePoolSnapshotResponse newInstance() {
+			return new CreateResourcePoolSnapshotResponse();
+		}
+
+		@Override
+		protected int readField(
+				JsonReader in, String name, CreateResourcePoolSnapshotResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_RESOURCE_POOL_SNAPSHOT:
+					instance.resourcePoolSnapshot = readValue(in, resourcePoolSnapshotAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateResourcePoolSnapshotResponse value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_RESOURCE_POOL_SNAPSHOT,
+					value.resourcePoolSnapshot,
+					resourcePoolSnapshotAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				CreateResourcePoolSnapshotResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateResourcePoolSnapshotResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateResourcePoolSnapshotResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1betaapi.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1betaapi.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -291,8 +292,8 @@ public class CreateShareExportPolicyPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateShareExportPolicyPayload> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(CreateShareExportPolicyPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateShareExportPolicyPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateShareExportPolicyPayload>() {
@@ -373,6 +374,71 @@ public class CreateShareExportPolicyPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateShareExportPolicyPayload> {
+		private final TypeAdapter<Map<String, String>> stringMapAdapter;
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<List<CreateShareExportPolicyRequestRule>>
+				createShareExportPolicyRequestRuleListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateShareExportPolicyPayload");
+			stringMapAdapter = getAdapter(Map.class, String.class, String.class);
+			stringAdapter = gson.getAdapter(String.class);
+			createShareExportPolicyRequestRuleListAdapter =
+					getAdapter(List.class, CreateShareExportPolicyRequestRule.class);
+		}
+
+		@Override
+		protected CreateShareExportPolicyPayload newInstance() {
+			return new CreateShareExportPolicyPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, CreateShareExportPolicyPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, stringMapAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_RULES:
+					instance.rules =
+							readArray(in, name, createShareExportPolicyRequestRuleListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateShareExportPolicyPayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, stringMapAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_RULES,
+					value.rules,
+					createShareExportPolicyRequestRuleListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				CreateShareExportPolicyPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateShareExportPolicyPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateShareExportPolicyPayload given an JSON string
 	 *
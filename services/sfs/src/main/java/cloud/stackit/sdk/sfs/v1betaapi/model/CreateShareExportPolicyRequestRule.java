@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1betaapi.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1betaapi.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -374,8 +375,8 @@ public class CreateShareExportPolicyRequestRule {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateShareExportPolicyRequestRule> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(CreateShareExportPolicyRequestRule.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateShareExportPolicyRequestRule.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateShareExportPolicyRequestRule>() {
@@ -456,6 +457,79 @@ public class CreateShareExportPolicyRequestRule {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateShareExportPolicyRequestRule> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<List<String>> stringListAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateShareExportPolicyRequestRule");
+			stringAdapter = gson.getAdapter(String.class);
+			stringListAdapter = getAdapter(List.class, String.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+		}
+
+		@Override
+		protected CreateShareExportPolicyRequestRule newInstance() {
+			return new CreateShareExportPolicyRequestRule();
+		}
+
+		@Override
+		protected int readField(
+				JsonReader in, String name, CreateShareExportPolicyRequestRule instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_DESCRIPTION:
+					instance.description = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IP_ACL:
+					instance.ipAcl = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ORDER:
+					instance.order = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_READ_ONLY:
+					instance.readOnly = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SET_UUID:
+					instance.setUuid = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SUPER_USER:
+					instance.superUser = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateShareExportPolicyRequestRule value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_DESCRIPTION, value.description, stringAdapter);
+			writeField(out, SERIALIZED_NAME_IP_ACL, value.ipAcl, stringListAdapter);
+			writeField(out, SERIALIZED_NAME_ORDER, value.order, integerAdapter);
+			writeField(out, SERIALIZED_NAME_READ_ONLY, value.readOnly, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_SET_UUID, value.setUuid, booleanAdapter);
+			writeField(out, SERIALIZED_NAME_SUPER_USER, value.superUser, booleanAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				CreateShareExportPolicyRequestRule value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateShareExportPolicyRequestRule instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateShareExportPolicyRequestRule given an JSON string
 	 *
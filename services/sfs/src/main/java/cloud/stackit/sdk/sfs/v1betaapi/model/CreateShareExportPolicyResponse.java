@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1betaapi.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1betaapi.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -198,8 +199,8 @@ public class CreateShareExportPolicyResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<CreateShareExportPolicyResponse> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(CreateShareExportPolicyResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(CreateShareExportPolicyResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<CreateShareExportPolicyResponse>() {
@@ -280,6 +281,57 @@ public class CreateShareExportPolicyResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<CreateShareExportPolicyResponse> {
+		private final TypeAdapter<ShareExportPolicy> shareExportPolicyAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "CreateShareExportPolicyResponse");
+			shareExportPolicyAdapter = gson.getAdapter(ShareExportPolicy.class);
+		}
+
+		@Override
+		protected CreateShareExportPolicyResponse newInstance() {
+			return new CreateShareExportPolicyResponse();
+		}
+
+		@Override
+		protected int readField(
+				JsonReader in, String name, CreateShareExportPolicyResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_SHARE_EXPORT_POLICY:
+					instance.shareExportPolicy = readValue(in, shareExportPolicyAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, CreateShareExportPolicyResponse value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_SHARE_EXPORT_POLICY,
+					value.shareExportPolicy,
+					shareExportPolicyAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				CreateShareExportPolicyResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				CreateShareExportPolicyResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of CreateShareExportPolicyResponse given an JSON string
 	 *
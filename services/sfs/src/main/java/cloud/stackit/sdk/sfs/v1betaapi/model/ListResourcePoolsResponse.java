@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1betaapi.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1betaapi.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -215,7 +216,8 @@ public class ListResourcePoolsResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ListResourcePoolsResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ListResourcePoolsResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(ListResourcePoolsResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ListResourcePoolsResponse>() {
@@ -294,6 +296,55 @@ public class ListResourcePoolsResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<ListResourcePoolsResponse> {
+		private final TypeAdapter<List<ResourcePool>> resourcePoolListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ListResourcePoolsResponse");
+			resourcePoolListAdapter = getAdapter(List.class, ResourcePool.class);
+		}
+
+		@Override
+		protected ListResourcePoolsResponse newInstance() {
+			return new ListResourcePoolsResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ListResourcePoolsResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_RESOURCE_POOLS:
+					instance.resourcePools = readArray(in, name, resourcePoolListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ListResourcePoolsResponse value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_RESOURCE_POOLS,
+					value.resourcePools,
+					resourcePoolListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ListResourcePoolsResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ListResourcePoolsResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ListResourcePoolsResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1betaapi.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1betaapi.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -225,8 +226,8 @@ public class ListShareExportPoliciesResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ListShareExportPoliciesResponse> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(ListShareExportPoliciesResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(ListShareExportPoliciesResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ListShareExportPoliciesResponse>() {
@@ -307,6 +308,58 @@ public class ListShareExportPoliciesResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<ListShareExportPoliciesResponse> {
+		private final TypeAdapter<List<ShareExportPolicy>> shareExportPolicyListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ListShareExportPoliciesResponse");
+			shareExportPolicyListAdapter = getAdapter(List.class, ShareExportPolicy.class);
+		}
+
+		@Override
+		protected ListShareExportPoliciesResponse newInstance() {
+			return new ListShareExportPoliciesResponse();
+		}
+
+		@Override
+		protected int readField(
+				JsonReader in, String name, ListShareExportPoliciesResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_SHARE_EXPORT_POLICIES:
+					instance.shareExportPolicies =
+							readArray(in, name, shareExportPolicyListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ListShareExportPoliciesResponse value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_SHARE_EXPORT_POLICIES,
+					value.shareExportPolicies,
+					shareExportPolicyListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				ListShareExportPoliciesResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ListShareExportPoliciesResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ListShareExportPoliciesResponse given an JSON string
 	 *
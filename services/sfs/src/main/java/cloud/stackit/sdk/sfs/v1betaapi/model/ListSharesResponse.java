@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1betaapi.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1betaapi.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -213,7 +214,7 @@ public class ListSharesResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ListSharesResponse> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ListSharesResponse.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ListSharesResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ListSharesResponse>() {
@@ -292,6 +293,49 @@ public class ListSharesResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ListSharesResponse> {
+		private final TypeAdapter<List<Share>> shareListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ListSharesResponse");
+			shareListAdapter = getAdapter(List.class, Share.class);
+		}
+
+		@Override
+		protected ListSharesResponse newInstance() {
+			return new ListSharesResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ListSharesResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_SHARES:
+					instance.shares = readArray(in, name, shareListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ListSharesResponse value) throws IOException {
+			writeField(out, SERIALIZED_NAME_SHARES, value.shares, shareListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ListSharesResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ListSharesResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ListSharesResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1betaapi.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1betaapi.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -224,8 +225,8 @@ public class ListSnapshotSchedulesResponse {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ListSnapshotSchedulesResponse> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(ListSnapshotSchedulesResponse.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(ListSnapshotSchedulesResponse.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ListSnapshotSchedulesResponse>() {
@@ -306,6 +307,55 @@ public class ListSnapshotSchedulesResponse {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<ListSnapshotSchedulesResponse> {
+		private final TypeAdapter<List<SnapshotSchedule>> snapshotScheduleListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ListSnapshotSchedulesResponse");
+			snapshotScheduleListAdapter = getAdapter(List.class, SnapshotSchedule.class);
+		}
+
+		@Override
+		protected ListSnapshotSchedulesResponse newInstance() {
+			return new ListSnapshotSchedulesResponse();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ListSnapshotSchedulesResponse instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_SNAPSHOT_SCHEDULES:
+					instance.snapshotSchedules = readArray(in, name, snapshotScheduleListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ListSnapshotSchedulesResponse value)
+				throws IOException {
+			writeField(
+					out,
+					SERIALIZED_NAME_SNAPSHOT_SCHEDULES,
+					value.snapshotSchedules,
+					snapshotScheduleListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ListSnapshotSchedulesResponse value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ListSnapshotSchedulesResponse instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ListSnapshotSchedulesResponse given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1betaapi.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1betaapi.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -241,7 +242,7 @@ public class PerformanceClass {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<PerformanceClass> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(PerformanceClass.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(PerformanceClass.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<PerformanceClass>() {
@@ -320,6 +321,59 @@ public class PerformanceClass {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<PerformanceClass> {
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "PerformanceClass");
+			integerAdapter = gson.getAdapter(Integer.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected PerformanceClass newInstance() {
+			return new PerformanceClass();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, PerformanceClass instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_IOPS:
+					instance.iops = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_THROUGHPUT:
+					instance.throughput = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, PerformanceClass value) throws IOException {
+			writeField(out, SERIALIZED_NAME_IOPS, value.iops, integerAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(out, SERIALIZED_NAME_THROUGHPUT, value.throughput, integerAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(PerformanceClass value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				PerformanceClass instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of PerformanceClass given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1betaapi.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1betaapi.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -670,7 +671,7 @@ public class ResourcePool {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<ResourcePool> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(ResourcePool.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(ResourcePool.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<ResourcePool>() {
@@ -748,6 +749,144 @@ public class ResourcePool {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<ResourcePool> {
+		private final TypeAdapter<String> stringAdapter;
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+		private final TypeAdapter<List<String>> stringListAdapter;
+		private final TypeAdapter<Map<String, String>> stringMapAdapter;
+		private final TypeAdapter<ResourcePoolPerformanceClass> resourcePoolPerformanceClassAdapter;
+		private final TypeAdapter<SnapshotSchedule> snapshotScheduleAdapter;
+		private final TypeAdapter<Boolean> booleanAdapter;
+		private final TypeAdapter<ResourcePoolSpace> resourcePoolSpaceAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "ResourcePool");
+			stringAdapter = gson.getAdapter(String.class);
+			integerAdapter = gson.getAdapter(Integer.class);
+			offsetDateTimeAdapter = gson.getAdapter(OffsetDateTime.class);
+			stringListAdapter = getAdapter(List.class, String.class);
+			stringMapAdapter = getAdapter(Map.class, String.class, String.class);
+			resourcePoolPerformanceClassAdapter =
+					gson.getAdapter(ResourcePoolPerformanceClass.class);
+			snapshotScheduleAdapter = gson.getAdapter(SnapshotSchedule.class);
+			booleanAdapter = gson.getAdapter(Boolean.class);
+			resourcePoolSpaceAdapter = gson.getAdapter(ResourcePoolSpace.class);
+		}
+
+		@Override
+		protected ResourcePool newInstance() {
+			return new ResourcePool();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, ResourcePool instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_AVAILABILITY_ZONE:
+					instance.availabilityZone = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_COUNT_SHARES:
+					instance.countShares = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_CREATED_AT:
+					instance.createdAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_ID:
+					instance.id = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_IP_ACL:
+					instance.ipAcl = readArray(in, name, stringListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, stringMapAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MOUNT_PATH:
+					instance.mountPath = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PERFORMANCE_CLASS:
+					instance.performanceClass = readValue(in, resourcePoolPerformanceClassAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_PERFORMANCE_CLASS_DOWNGRADABLE_AT:
+					instance.performanceClassDowngradableAt =
+							readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SIZE_REDUCIBLE_AT:
+					instance.sizeReducibleAt = readPrimitive(in, name, offsetDateTimeAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SNAPSHOT_SCHEDULE:
+					instance.snapshotSchedule = readValue(in, snapshotScheduleAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SNAPSHOTS_ARE_VISIBLE:
+					instance.snapshotsAreVisible = readPrimitive(in, name, booleanAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_SPACE:
+					instance.space = readValue(in, resourcePoolSpaceAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_STATE:
+					instance.state = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, ResourcePool value) throws IOException {
+			writeField(
+					out, SERIALIZED_NAME_AVAILABILITY_ZONE, value.availabilityZone, stringAdapter);
+			writeField(out, SERIALIZED_NAME_COUNT_SHARES, value.countShares, integerAdapter);
+			writeField(out, SERIALIZED_NAME_CREATED_AT, value.createdAt, offsetDateTimeAdapter);
+			writeField(out, SERIALIZED_NAME_ID, value.id, stringAdapter);
+			writeField(out, SERIALIZED_NAME_IP_ACL, value.ipAcl, stringListAdapter);
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, stringMapAdapter);
+			writeField(out, SERIALIZED_NAME_MOUNT_PATH, value.mountPath, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_PERFORMANCE_CLASS,
+					value.performanceClass,
+					resourcePoolPerformanceClassAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_PERFORMANCE_CLASS_DOWNGRADABLE_AT,
+					value.performanceClassDowngradableAt,
+					offsetDateTimeAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_SIZE_REDUCIBLE_AT,
+					value.sizeReducibleAt,
+					offsetDateTimeAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_SNAPSHOT_SCHEDULE,
+					value.snapshotSchedule,
+					snapshotScheduleAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_SNAPSHOTS_ARE_VISIBLE,
+					value.snapshotsAreVisible,
+					booleanAdapter);
+			writeField(out, SERIALIZED_NAME_SPACE, value.space, resourcePoolSpaceAdapter);
+			writeField(out, SERIALIZED_NAME_STATE, value.state, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(ResourcePool value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				ResourcePool instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of ResourcePool given an JSON string
 	 *
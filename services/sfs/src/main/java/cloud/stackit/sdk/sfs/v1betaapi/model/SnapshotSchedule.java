@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1betaapi.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1betaapi.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -224,7 +225,7 @@ public class SnapshotSchedule {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<SnapshotSchedule> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(SnapshotSchedule.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(SnapshotSchedule.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<SnapshotSchedule>() {
@@ -303,6 +304,53 @@ public class SnapshotSchedule {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<SnapshotSchedule> {
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "SnapshotSchedule");
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected SnapshotSchedule newInstance() {
+			return new SnapshotSchedule();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, SnapshotSchedule instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CRON:
+					instance.cron = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_NAME:
+					instance.name = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, SnapshotSchedule value) throws IOException {
+			writeField(out, SERIALIZED_NAME_CRON, value.cron, stringAdapter);
+			writeField(out, SERIALIZED_NAME_NAME, value.name, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(SnapshotSchedule value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				SnapshotSchedule instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of SnapshotSchedule given an JSON string
 	 *
@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1betaapi.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1betaapi.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -269,7 +270,7 @@ public class Status {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<Status> thisAdapter =
-					gson.getDelegateAdapter(this, TypeToken.get(Status.class));
+					JSON.getDelegateAdapter(gson, this, TypeToken.get(Status.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<Status>() {
@@ -347,6 +348,59 @@ public class Status {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter extends CompiledModelTypeAdapter<Status> {
+		private final TypeAdapter<Integer> integerAdapter;
+		private final TypeAdapter<List<GoogleProtobufAny>> googleProtobufAnyListAdapter;
+		private final TypeAdapter<String> stringAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "Status");
+			integerAdapter = gson.getAdapter(Integer.class);
+			googleProtobufAnyListAdapter = getAdapter(List.class, GoogleProtobufAny.class);
+			stringAdapter = gson.getAdapter(String.class);
+		}
+
+		@Override
+		protected Status newInstance() {
+			return new Status();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, Status instance) throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_CODE:
+					instance.code = readPrimitive(in, name, integerAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_DETAILS:
+					instance.details = readArray(in, name, googleProtobufAnyListAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_MESSAGE:
+					instance.message = readPrimitive(in, name, stringAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, Status value) throws IOException {
+			writeField(out, SERIALIZED_NAME_CODE, value.code, integerAdapter);
+			writeField(out, SERIALIZED_NAME_DETAILS, value.details, googleProtobufAnyListAdapter);
+			writeField(out, SERIALIZED_NAME_MESSAGE, value.message, stringAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(Status value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(Status instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of Status given an JSON string
 	 *
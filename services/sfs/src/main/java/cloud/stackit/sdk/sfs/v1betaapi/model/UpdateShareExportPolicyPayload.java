@@ -12,6 +12,7 @@
 
 package cloud.stackit.sdk.sfs.v1betaapi.model;
 
+import cloud.stackit.sdk.core.json.CompiledModelTypeAdapter;
 import cloud.stackit.sdk.sfs.v1betaapi.JSON;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -277,8 +278,8 @@ public class UpdateShareExportPolicyPayload {
 			}
 			final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
 			final TypeAdapter<UpdateShareExportPolicyPayload> thisAdapter =
-					gson.getDelegateAdapter(
-							this, TypeToken.get(UpdateShareExportPolicyPayload.class));
+					JSON.getDelegateAdapter(
+							gson, this, TypeToken.get(UpdateShareExportPolicyPayload.class));
 
 			return (TypeAdapter<T>)
 					new TypeAdapter<UpdateShareExportPolicyPayload>() {
@@ -359,6 +360,65 @@ public class UpdateShareExportPolicyPayload {
 		}
 	}
 
+	/** Compiled type adapter of this model, see {@link JSON#setCompiledTypeAdapters(boolean)}. */
+	public static class CompiledTypeAdapter
+			extends CompiledModelTypeAdapter<UpdateShareExportPolicyPayload> {
+		private final TypeAdapter<Map<String, String>> stringMapAdapter;
+		private final TypeAdapter<List<UpdateShareExportPolicyBodyRule>>
+				updateShareExportPolicyBodyRuleListAdapter;
+
+		public CompiledTypeAdapter(Gson gson) {
+			super(gson, "UpdateShareExportPolicyPayload");
+			stringMapAdapter = getAdapter(Map.class, String.class, String.class);
+			updateShareExportPolicyBodyRuleListAdapter =
+					getAdapter(List.class, UpdateShareExportPolicyBodyRule.class);
+		}
+
+		@Override
+		protected UpdateShareExportPolicyPayload newInstance() {
+			return new UpdateShareExportPolicyPayload();
+		}
+
+		@Override
+		protected int readField(JsonReader in, String name, UpdateShareExportPolicyPayload instance)
+				throws IOException {
+			switch (name) {
+				case SERIALIZED_NAME_LABELS:
+					instance.labels = readValue(in, stringMapAdapter);
+					return OPTIONAL_FIELD;
+				case SERIALIZED_NAME_RULES:
+					instance.rules =
+							readArray(in, name, updateShareExportPolicyBodyRuleListAdapter);
+					return OPTIONAL_FIELD;
+				default:
+					return UNKNOWN_FIELD;
+			}
+		}
+
+		@Override
+		protected void writeFields(JsonWriter out, UpdateShareExportPolicyPayload value)
+				throws IOException {
+			writeField(out, SERIALIZED_NAME_LABELS, value.labels, stringMapAdapter);
+			writeField(
+					out,
+					SERIALIZED_NAME_RULES,
+					value.rules,
+					updateShareExportPolicyBodyRuleListAdapter);
+		}
+
+		@Override
+		protected Map<String, Object> getAdditionalProperties(
+				UpdateShareExportPolicyPayload value) {
+			return value.additionalProperties;
+		}
+
+		@Override
+		protected void putAdditionalProperty(
+				UpdateShareExportPolicyPayload instance, String name, JsonElement value) {
+			instance.putAdditionalProperty(name, additionalPropertyValue(name, value));
+		}
+	}
+
 	/**
 	 * Create an instance of UpdateShareExportPolicyPayload given an JSON string
 	 *